@@ -27,6 +27,9 @@ import org.cp.elements.lang.annotation.Nullable;
 
 /**
  * Abstract Data Type (ADT) modeling the {@literal area code} of a {@link PhoneNumber}.
+ * <p>
+ * There are only {@literal 1000} possible {@link AreaCode AreaCodes}, so the {@literal of} and {@literal parse}
+ * factory methods return shared, interned instances rather than constructing a new {@link AreaCode} each time.
  *
  * @author John Blum
  * @see java.lang.Cloneable
@@ -42,6 +45,8 @@ public class AreaCode implements Cloneable, Comparable<AreaCode>, Renderable, Se
 
   protected static final int REQUIRED_AREA_CODE_LENGTH = 3;
 
+  private static final AreaCode[] CACHE = new AreaCode[1_000];
+
   /**
    * Factory method used to construct a new {@link AreaCode} copied from an existing, required {@link AreaCode}.
    *
@@ -57,27 +62,67 @@ public class AreaCode implements Cloneable, Comparable<AreaCode>, Renderable, Se
   }
 
   /**
-   * Factory method used to construct a new {@link AreaCode} initialized with the given {@link Integer number}.
+   * Factory method used to get the {@link AreaCode} for the given {@link Integer number}.
    *
    * @param number {@link Integer 3-digit number} for the {@link AreaCode}; must be {@literal 3-digits}.
-   * @return new {@link AreaCode} with the given {@link Integer number}.
+   * @return the interned {@link AreaCode} with the given {@link Integer number}.
    * @throws IllegalArgumentException if the given {@link Integer number} is not {@literal 3-digits}.
    */
   public static @NotNull AreaCode of(int number) {
-    return new AreaCode(String.valueOf(Math.abs(number)));
+
+    int resolvedNumber = Math.abs(number);
+
+    return resolvedNumber >= 100 && resolvedNumber <= 999 ? valueOf(resolvedNumber)
+      : new AreaCode(String.valueOf(resolvedNumber));
   }
 
   /**
-   * Factory method used to construct a new {@link AreaCode} from the given, required {@link String number}.
+   * Factory method used to get the {@link AreaCode} for the given, required {@link String number}.
    *
    * @param number {@link String} containing the {@literal 3-digit number} for the {@link AreaCode};
    * must not be {@literal null} or {@literal empty}; must be {@literal 3-digits}.
-   * @return a new {@link AreaCode} initialized with the given, required {@link String number}.
+   * @return the interned {@link AreaCode} for the given, required {@link String number}.
    * @throws IllegalArgumentException if the {@link String number} is {@literal null}, {@literal empty}
    * or is not {@literal 3-digits}.
    */
   public static @NotNull AreaCode of(@NotNull String number) {
-    return new AreaCode(number);
+
+    int digitCount = 0;
+    int value = 0;
+
+    for (int index = 0, length = number != null ? number.length() : 0; index < length; index++) {
+
+      int digit = Character.digit(number.charAt(index), 10);
+
+      if (digit > -1) {
+        value = value * 10 + digit;
+        digitCount++;
+      }
+    }
+
+    return digitCount == REQUIRED_AREA_CODE_LENGTH ? valueOf(value) : new AreaCode(number);
+  }
+
+  /**
+   * Returns the shared, interned {@link AreaCode} for the given {@link Integer number} between {@literal 0}
+   * and {@literal 999}, inclusive.
+   * <p>
+   * Concurrent callers may race to create the same {@link AreaCode}, which is harmless since
+   * {@link AreaCode AreaCodes} are immutable and the losing instance is simply equal to the winner.
+   *
+   * @param number {@link Integer number} of the {@link AreaCode}; must be between {@literal 0} and {@literal 999}.
+   * @return the shared, interned {@link AreaCode} for the given {@link Integer number}.
+   */
+  static @NotNull AreaCode valueOf(int number) {
+
+    AreaCode areaCode = CACHE[number];
+
+    if (areaCode == null) {
+      areaCode = new AreaCode(number);
+      CACHE[number] = areaCode;
+    }
+
+    return areaCode;
   }
 
   /**
@@ -94,7 +139,7 @@ public class AreaCode implements Cloneable, Comparable<AreaCode>, Renderable, Se
 
     Assert.isTrue(digits.length() == 10, "Phone Number [%s] must be 10-digits", phoneNumber);
 
-    return new AreaCode(digits.substring(0, REQUIRED_AREA_CODE_LENGTH));
+    return of(digits.substring(0, REQUIRED_AREA_CODE_LENGTH));
   }
 
   private final String number;
@@ -119,6 +164,12 @@ public class AreaCode implements Cloneable, Comparable<AreaCode>, Renderable, Se
     this.number = resolvedNumber;
   }
 
+  private AreaCode(int number) {
+    this.number = new String(new char[] {
+      (char) ('0' + number / 100), (char) ('0' + number / 10 % 10), (char) ('0' + number % 10)
+    });
+  }
+
   /**
    * Gets the {@link String number} of this {@link AreaCode}.
    *
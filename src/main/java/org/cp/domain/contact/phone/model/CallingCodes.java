@@ -0,0 +1,325 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.contact.phone.model;
+
+import java.util.Arrays;
+
+import org.cp.domain.geo.enums.Country;
+import org.cp.elements.lang.annotation.NotNull;
+
+/**
+ * Resolves {@literal ITU-T E.164} international calling codes and validates national number lengths.
+ * <p>
+ * The calling codes of all {@link Country Countries} are compiled, once, into a prefix trie over the leading
+ * {@literal 1 to 3} digits stored in primitive arrays, with {@literal 10} child slots per node. Calling codes are
+ * prefix-free, so the first node assigned a calling code along the path of leading digits is the calling code.
+ * <p>
+ * National significant number lengths are kept in tables indexed by calling code. Calling codes not listed
+ * are allowed any length between {@literal 5} digits and the {@literal 15-digit} maximum
+ * of an {@literal E.164} number.
+ *
+ * @author John Blum
+ * @see org.cp.domain.contact.phone.model.InternationalPhoneNumber
+ * @see org.cp.domain.geo.enums.Country#getCallingCode()
+ * @see <a href="https://www.itu.int/rec/T-REC-E.164">ITU-T E.164</a>
+ * @since 0.4.0
+ */
+final class CallingCodes {
+
+  static final int MAXIMUM_CALLING_CODE_LENGTH = 3;
+  static final int MAXIMUM_PHONE_NUMBER_LENGTH = 15;
+  static final int NORTH_AMERICAN_NUMBERING_PLAN = 1;
+
+  static final String DEFAULT_TRUNK_PREFIX = "0";
+  static final String NO_TRUNK_PREFIX = "";
+
+  static final long[] POWERS_OF_TEN = newPowersOfTen();
+
+  private static final int DEFAULT_MINIMUM_NATIONAL_NUMBER_LENGTH = 5;
+  private static final int KAZAKHSTAN_CALLING_CODE = 7;
+  private static final int VATICAN_CITY_CALLING_CODE = 39;
+  private static final int VATICAN_CITY_PREFIX = 6698;
+  private static final int VATICAN_CITY_PREFIX_LENGTH = 5;
+
+  private static final short[] TRIE_CHILDREN;
+  private static final short[] TRIE_CALLING_CODES;
+
+  private static final byte[] MINIMUM_NATIONAL_NUMBER_LENGTHS = new byte[1_000];
+  private static final byte[] MAXIMUM_NATIONAL_NUMBER_LENGTHS = new byte[1_000];
+
+  private static final String[] TRUNK_PREFIXES = new String[1_000];
+
+  private static final Country[] NORTH_AMERICAN_AREA_CODE_COUNTRIES = new Country[1_000];
+
+  static {
+
+    short[] children = new short[10];
+    short[] callingCodes = new short[1];
+
+    for (Country country : Country.values()) {
+
+      int callingCode = country.getCallingCode();
+
+      if (callingCode > 0) {
+
+        String digits = String.valueOf(callingCode);
+        int node = 0;
+
+        for (int index = 0; index < digits.length(); index++) {
+
+          int slot = node * 10 + digits.charAt(index) - '0';
+
+          if (children[slot] == 0) {
+            children = Arrays.copyOf(children, children.length + 10);
+            callingCodes = Arrays.copyOf(callingCodes, callingCodes.length + 1);
+            children[slot] = (short) (callingCodes.length - 1);
+          }
+
+          node = children[slot];
+        }
+
+        callingCodes[node] = (short) callingCode;
+      }
+    }
+
+    TRIE_CHILDREN = children;
+    TRIE_CALLING_CODES = callingCodes;
+
+    nationalNumberLengths(10, 10, 1, 7, 30, 52, 58, 90, 91, 98);
+    nationalNumberLengths(9, 9, 27, 31, 33, 34, 40, 41, 48, 56, 61, 93, 94);
+    nationalNumberLengths(8, 8, 45, 65, 373, 502, 503, 504, 505, 506, 974);
+    nationalNumberLengths(7, 7, 501, 592, 674, 680, 691, 692);
+    nationalNumberLengths(7, 8, 507);
+    nationalNumberLengths(6, 7, 597);
+    nationalNumberLengths(8, 10, 20, 57, 60, 63, 64);
+    nationalNumberLengths(10, 11, 54, 55);
+    nationalNumberLengths(9, 10, 81, 84);
+    nationalNumberLengths(8, 9, 32, 36, 51, 66);
+    nationalNumberLengths(9, 11, 86);
+    nationalNumberLengths(8, 11, 92);
+    nationalNumberLengths(8, 12, 62);
+    nationalNumberLengths(7, 10, 44, 46, 82);
+    nationalNumberLengths(6, 10, 95, 378);
+    nationalNumberLengths(6, 11, 39);
+    nationalNumberLengths(6, 13, 49);
+    nationalNumberLengths(6, 8, 53);
+    nationalNumberLengths(5, 8, 47, 686);
+    nationalNumberLengths(5, 7, 676, 677, 678, 685);
+    nationalNumberLengths(5, 6, 688);
+    nationalNumberLengths(4, 13, 43);
+    nationalNumberLengths(7, 9, 423);
+    nationalNumberLengths(8, 9, 377);
+    nationalNumberLengths(6, 9, 376);
+
+    Arrays.fill(TRUNK_PREFIXES, DEFAULT_TRUNK_PREFIX);
+
+    trunkPrefixes("1", NORTH_AMERICAN_NUMBERING_PLAN);
+    trunkPrefixes("8", 7, 370);
+    trunkPrefixes("80", 375);
+    // Italy, San Marino and Vatican City keep the leading 0 in the national significant number
+    trunkPrefixes(NO_TRUNK_PREFIX, 39, 378);
+
+    northAmericanAreaCodes(Country.CANADA, 204, 226, 236, 249, 250, 263, 289, 306, 343, 354, 365, 367, 368, 382, 403,
+      416, 418, 428, 431, 437, 438, 450, 468, 474, 506, 514, 519, 548, 579, 581, 584, 587, 604, 613, 639, 647, 672,
+      683, 705, 709, 742, 753, 778, 780, 782, 807, 819, 825, 867, 873, 879, 902, 905, 942);
+    northAmericanAreaCodes(Country.ANTIGUA_AND_BARBUDA, 268);
+    northAmericanAreaCodes(Country.BAHAMAS, 242);
+    northAmericanAreaCodes(Country.BARBADOS, 246);
+    northAmericanAreaCodes(Country.DOMINICA, 767);
+    northAmericanAreaCodes(Country.DOMINICAN_REPUBLIC, 809, 829, 849);
+    northAmericanAreaCodes(Country.GRENADA, 473);
+    northAmericanAreaCodes(Country.JAMAICA, 658, 876);
+    northAmericanAreaCodes(Country.SAINT_KITTS_AND_NEVIS, 869);
+    northAmericanAreaCodes(Country.SAINT_LUCIA, 758);
+    northAmericanAreaCodes(Country.SAINT_VINCENT_AND_THE_GRENADINES, 784);
+    northAmericanAreaCodes(Country.TRINIDAD_AND_TOBAGO, 868);
+  }
+
+  private static @NotNull long[] newPowersOfTen() {
+
+    long[] powersOfTen = new long[MAXIMUM_PHONE_NUMBER_LENGTH + 1];
+
+    powersOfTen[0] = 1L;
+
+    for (int index = 1; index < powersOfTen.length; index++) {
+      powersOfTen[index] = powersOfTen[index - 1] * 10L;
+    }
+
+    return powersOfTen;
+  }
+
+  private static void nationalNumberLengths(int minimumLength, int maximumLength, int... callingCodes) {
+
+    for (int callingCode : callingCodes) {
+      MINIMUM_NATIONAL_NUMBER_LENGTHS[callingCode] = (byte) minimumLength;
+      MAXIMUM_NATIONAL_NUMBER_LENGTHS[callingCode] = (byte) maximumLength;
+    }
+  }
+
+  private static void trunkPrefixes(@NotNull String trunkPrefix, int... callingCodes) {
+
+    for (int callingCode : callingCodes) {
+      TRUNK_PREFIXES[callingCode] = trunkPrefix;
+    }
+  }
+
+  private static void northAmericanAreaCodes(@NotNull Country country, int... areaCodes) {
+
+    for (int areaCode : areaCodes) {
+      NORTH_AMERICAN_AREA_CODE_COUNTRIES[areaCode] = country;
+    }
+  }
+
+  private CallingCodes() { }
+
+  /**
+   * Resolves the international calling code from the leading digits of the given {@literal E.164} digits.
+   *
+   * @param digits {@link Long long} value of the {@literal E.164} digits, including the calling code.
+   * @param length number of {@literal E.164} digits, between {@literal 1} and {@literal 15}.
+   * @return the international calling code, or {@literal -1} if the leading digits are not a calling code.
+   */
+  static int callingCodeOf(long digits, int length) {
+
+    short[] children = TRIE_CHILDREN;
+
+    int node = 0;
+
+    for (int index = 1; index <= MAXIMUM_CALLING_CODE_LENGTH && index <= length; index++) {
+
+      int digit = (int) (digits / POWERS_OF_TEN[length - index] % 10L);
+
+      node = children[node * 10 + digit];
+
+      if (node == 0) {
+        return -1;
+      }
+
+      int callingCode = TRIE_CALLING_CODES[node];
+
+      if (callingCode > 0) {
+        return callingCode;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Returns the number of digits in the given international calling code.
+   *
+   * @param callingCode {@literal 1 to 3-digit} international calling code.
+   * @return the number of digits in the given international calling code.
+   */
+  static int lengthOf(int callingCode) {
+    return callingCode < 10 ? 1 : callingCode < 100 ? 2 : 3;
+  }
+
+  /**
+   * Resolves the {@link Country} of a phone number with the given calling code and national number.
+   * <p>
+   * {@link Country Countries} sharing a calling code are distinguished by the leading digits of the national number,
+   * for example, the {@literal North American Numbering Plan} area code.
+   *
+   * @param callingCode international calling code.
+   * @param nationalNumber {@link Long long} value of the national significant number.
+   * @param nationalNumberLength number of digits in the national significant number, including leading zeros.
+   * @return the {@link Country} of the phone number.
+   * @throws IllegalArgumentException if no {@link Country} has the given calling code.
+   */
+  static @NotNull Country countryOf(int callingCode, long nationalNumber, int nationalNumberLength) {
+
+    if (callingCode == NORTH_AMERICAN_NUMBERING_PLAN && nationalNumberLength == 10) {
+
+      Country country = NORTH_AMERICAN_AREA_CODE_COUNTRIES[(int) (nationalNumber / POWERS_OF_TEN[7])];
+
+      if (country != null) {
+        return country;
+      }
+    }
+    else if (callingCode == KAZAKHSTAN_CALLING_CODE) {
+
+      long leadingDigit = nationalNumber / POWERS_OF_TEN[nationalNumberLength - 1];
+
+      if (leadingDigit == 6 || leadingDigit == 7) {
+        return Country.KAZAKHSTAN;
+      }
+    }
+    else if (callingCode == VATICAN_CITY_CALLING_CODE && nationalNumberLength >= VATICAN_CITY_PREFIX_LENGTH
+        && nationalNumber / POWERS_OF_TEN[nationalNumberLength - VATICAN_CITY_PREFIX_LENGTH] == VATICAN_CITY_PREFIX) {
+
+      return Country.VATICAN_CITY;
+    }
+
+    return Country.byCallingCode(callingCode);
+  }
+
+  /**
+   * Determines whether the given national significant number length is valid for the given calling code.
+   *
+   * @param callingCode international calling code.
+   * @param nationalNumberLength number of digits in the national significant number.
+   * @return a boolean value indicating whether the national significant number length is valid
+   * for the given calling code.
+   */
+  static boolean isValidNationalNumberLength(int callingCode, int nationalNumberLength) {
+
+    int minimumLength = MINIMUM_NATIONAL_NUMBER_LENGTHS[callingCode];
+
+    return minimumLength > 0
+      ? nationalNumberLength >= minimumLength && nationalNumberLength <= MAXIMUM_NATIONAL_NUMBER_LENGTHS[callingCode]
+      : nationalNumberLength >= DEFAULT_MINIMUM_NATIONAL_NUMBER_LENGTH
+        && nationalNumberLength <= MAXIMUM_PHONE_NUMBER_LENGTH - lengthOf(callingCode);
+  }
+
+  /**
+   * Returns the digits of the trunk prefix dialed before a national significant number in national format
+   * for the given calling code, {@literal 0} in most {@link Country Countries}.
+   *
+   * @param callingCode international calling code.
+   * @return the digits of the trunk prefix for the given calling code, or {@link #NO_TRUNK_PREFIX}
+   * if the national significant number is dialed without a trunk prefix.
+   */
+  static @NotNull String trunkPrefixOf(int callingCode) {
+    return TRUNK_PREFIXES[callingCode];
+  }
+
+  /**
+   * Returns the minimum length of a national significant number for the given calling code.
+   *
+   * @param callingCode international calling code.
+   * @return the minimum length of a national significant number for the given calling code.
+   */
+  static int minimumNationalNumberLength(int callingCode) {
+
+    int minimumLength = MINIMUM_NATIONAL_NUMBER_LENGTHS[callingCode];
+
+    return minimumLength > 0 ? minimumLength : DEFAULT_MINIMUM_NATIONAL_NUMBER_LENGTH;
+  }
+
+  /**
+   * Returns the maximum length of a national significant number for the given calling code.
+   *
+   * @param callingCode international calling code.
+   * @return the maximum length of a national significant number for the given calling code.
+   */
+  static int maximumNationalNumberLength(int callingCode) {
+
+    int maximumLength = MAXIMUM_NATIONAL_NUMBER_LENGTHS[callingCode];
+
+    return maximumLength > 0 ? maximumLength : MAXIMUM_PHONE_NUMBER_LENGTH - lengthOf(callingCode);
+  }
+}
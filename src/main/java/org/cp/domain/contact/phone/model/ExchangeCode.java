@@ -29,6 +29,9 @@ import org.cp.elements.lang.annotation.Nullable;
 
 /**
  * Abstract Data Type (ADT) modeling the {@literal exchange code} of a {@link PhoneNumber}.
+ * <p>
+ * There are only {@literal 1000} possible {@link ExchangeCode ExchangeCodes}, so the {@literal of} and {@literal parse}
+ * factory methods return shared, interned instances rather than constructing a new {@link ExchangeCode} each time.
  *
  * @author John Blum
  * @see java.lang.Cloneable
@@ -44,6 +47,8 @@ public class ExchangeCode implements Cloneable, Comparable<ExchangeCode>, Render
 
   protected static final int REQUIRED_EXCHANGE_CODE_LENGTH = 3;
 
+  private static final ExchangeCode[] CACHE = new ExchangeCode[1_000];
+
   /**
    * Factory method used to construct a new {@link ExchangeCode} copied from an existing, required {@link ExchangeCode}.
    *
@@ -59,27 +64,67 @@ public class ExchangeCode implements Cloneable, Comparable<ExchangeCode>, Render
   }
 
   /**
-   * Factory method used to construct a new {@link ExchangeCode} initialized with the given {@link Integer number}.
+   * Factory method used to get the {@link ExchangeCode} for the given {@link Integer number}.
    *
    * @param number {@link Integer 3-digit number} for the {@link ExchangeCode}; must be {@literal 3-digits}.
-   * @return a new {@link ExchangeCode} with the given {@link Integer number}.
+   * @return the interned {@link ExchangeCode} with the given {@link Integer number}.
    * @throws IllegalArgumentException if the {@link Integer number} is not {@literal 3-digits}.
    */
   public static @NotNull ExchangeCode of(int number) {
-    return new ExchangeCode(String.valueOf(Math.abs(number)));
+
+    int resolvedNumber = Math.abs(number);
+
+    return resolvedNumber >= 100 && resolvedNumber <= 999 ? valueOf(resolvedNumber)
+      : new ExchangeCode(String.valueOf(resolvedNumber));
   }
 
   /**
-   * Factory method used to construct a new {@link ExchangeCode} from the given, required {@link String number}.
+   * Factory method used to get the {@link ExchangeCode} for the given, required {@link String number}.
    *
    * @param number {@link String} containing the {@literal 3-digit number} for the {@link ExchangeCode};
    * must not be {@literal null} or {@literal empty}; must be {@literal 3-digits}.
-   * @return a new {@link ExchangeCode} initialized with the given, required {@link String number}.
+   * @return the interned {@link ExchangeCode} for the given, required {@link String number}.
    * @throws IllegalArgumentException if the {@link String number} is {@literal null}, {@literal empty}
    * or is not {@literal 3-digits}.
    */
   public static @NotNull ExchangeCode of(@NotNull String number) {
-    return new ExchangeCode(number);
+
+    int digitCount = 0;
+    int value = 0;
+
+    for (int index = 0, length = number != null ? number.length() : 0; index < length; index++) {
+
+      int digit = Character.digit(number.charAt(index), 10);
+
+      if (digit > -1) {
+        value = value * 10 + digit;
+        digitCount++;
+      }
+    }
+
+    return digitCount == REQUIRED_EXCHANGE_CODE_LENGTH ? valueOf(value) : new ExchangeCode(number);
+  }
+
+  /**
+   * Returns the shared, interned {@link ExchangeCode} for the given {@link Integer number} between {@literal 0}
+   * and {@literal 999}, inclusive.
+   * <p>
+   * Concurrent callers may race to create the same {@link ExchangeCode}, which is harmless since
+   * {@link ExchangeCode ExchangeCodes} are immutable and the losing instance is simply equal to the winner.
+   *
+   * @param number {@link Integer number} of the {@link ExchangeCode}; must be between {@literal 0} and {@literal 999}.
+   * @return the shared, interned {@link ExchangeCode} for the given {@link Integer number}.
+   */
+  static @NotNull ExchangeCode valueOf(int number) {
+
+    ExchangeCode exchangeCode = CACHE[number];
+
+    if (exchangeCode == null) {
+      exchangeCode = new ExchangeCode(number);
+      CACHE[number] = exchangeCode;
+    }
+
+    return exchangeCode;
   }
 
   /**
@@ -96,8 +141,8 @@ public class ExchangeCode implements Cloneable, Comparable<ExchangeCode>, Render
     String digits = StringUtils.getDigits(phoneNumber);
 
     return switch (digits.length()) {
-      case 10 -> new ExchangeCode(digits.substring(3, 3 + REQUIRED_EXCHANGE_CODE_LENGTH));
-      case 7 -> new ExchangeCode(digits.substring(0, REQUIRED_EXCHANGE_CODE_LENGTH));
+      case 10 -> of(digits.substring(3, 3 + REQUIRED_EXCHANGE_CODE_LENGTH));
+      case 7 -> of(digits.substring(0, REQUIRED_EXCHANGE_CODE_LENGTH));
       default -> throw newIllegalArgumentException("Phone Number [%s] must be 10-digits or 7-digits", phoneNumber);
     };
   }
@@ -124,6 +169,12 @@ public class ExchangeCode implements Cloneable, Comparable<ExchangeCode>, Render
     this.number = resolvedNumber;
   }
 
+  private ExchangeCode(int number) {
+    this.number = new String(new char[] {
+      (char) ('0' + number / 100), (char) ('0' + number / 10 % 10), (char) ('0' + number % 10)
+    });
+  }
+
   /**
    * Gets the {@link String number} of this {@link ExchangeCode}.
    *
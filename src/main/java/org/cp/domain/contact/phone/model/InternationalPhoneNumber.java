@@ -0,0 +1,482 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.contact.phone.model;
+
+import static org.cp.domain.contact.phone.model.CallingCodes.MAXIMUM_PHONE_NUMBER_LENGTH;
+import static org.cp.domain.contact.phone.model.CallingCodes.NORTH_AMERICAN_NUMBERING_PLAN;
+import static org.cp.domain.contact.phone.model.CallingCodes.POWERS_OF_TEN;
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalArgumentException;
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalStateException;
+
+import org.cp.domain.geo.enums.Country;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.Immutable;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+
+/**
+ * {@link Immutable} value type modeling an international phone number in {@literal ITU-T E.164} format,
+ * such as {@literal +44 20 7183 8750}, made up of a {@literal 1 to 3-digit} international calling code
+ * and a national significant number, up to {@literal 15 digits} in all.
+ * <p>
+ * The calling code is resolved from the leading digits by a prefix trie compiled from the calling codes
+ * of all {@link Country Countries}, and the length of the national significant number is validated against
+ * the lengths allowed for the calling code. The {@link Country} is resolved from the calling code and,
+ * for {@link Country Countries} sharing a calling code, from the leading digits of the national significant number.
+ * <p>
+ * The digits, the number of digits and the length of the calling code are packed into a single {@link Long long}.
+ * {@link #pack(CharSequence)} parses a phone number into a packed {@link Long long} without creating
+ * any {@link Object Objects}, so millions of phone numbers from mixed {@link Country Countries} can be parsed
+ * in bulk and stored as primitive {@link Long longs}.
+ *
+ * @author John Blum
+ * @see org.cp.domain.contact.phone.model.PhoneNumber
+ * @see org.cp.domain.geo.enums.Country#getCallingCode()
+ * @see org.cp.elements.lang.annotation.Immutable
+ * @see <a href="https://en.wikipedia.org/wiki/E.164">E.164 - Wikipedia</a>
+ * @since 0.4.0
+ */
+@Immutable
+public final class InternationalPhoneNumber implements Comparable<InternationalPhoneNumber> {
+
+  public static final long INVALID = -1L;
+
+  private static final int CALLING_CODE_LENGTH_SHIFT = 54;
+  private static final int LENGTH_SHIFT = 50;
+
+  private static final long CALLING_CODE_LENGTH_MASK = 0x3L;
+  private static final long DIGITS_MASK = (1L << LENGTH_SHIFT) - 1;
+  private static final long LENGTH_MASK = 0xFL;
+
+  private static final String INVALID_PHONE_NUMBER_MESSAGE = "Phone Number [%s] is not a valid E.164 phone number";
+
+  /**
+   * Factory method used to construct a new {@link InternationalPhoneNumber} from the given, required,
+   * {@literal North American Numbering Plan} {@link PhoneNumber}; any {@link Extension} is ignored.
+   *
+   * @param phoneNumber {@link PhoneNumber} to convert; must not be {@literal null}.
+   * @return a new {@link InternationalPhoneNumber} with calling code {@literal +1}.
+   * @throws IllegalArgumentException if the {@link PhoneNumber} is {@literal null}.
+   */
+  public static @NotNull InternationalPhoneNumber from(@NotNull PhoneNumber phoneNumber) {
+
+    Assert.notNull(phoneNumber, "PhoneNumber is required");
+
+    long nationalNumber = Long.parseLong(phoneNumber.getAreaCode().getNumber()
+      + phoneNumber.getExchangeCode().getNumber() + phoneNumber.getLineNumber().getNumber());
+
+    return of(pack(NORTH_AMERICAN_NUMBERING_PLAN * POWERS_OF_TEN[PhoneNumber.REQUIRED_PHONE_NUMBER_LENGTH]
+      + nationalNumber, PhoneNumber.REQUIRED_PHONE_NUMBER_LENGTH + 1));
+  }
+
+  /**
+   * Factory method used to construct a new {@link InternationalPhoneNumber} from the given
+   * {@link #pack(CharSequence) packed} {@link Long value}.
+   *
+   * @param value packed {@link Long value} of the {@link InternationalPhoneNumber}.
+   * @return a new {@link InternationalPhoneNumber}.
+   * @throws IllegalArgumentException if the {@link Long value} is not a valid, packed international phone number.
+   * @see #isValid(long)
+   */
+  public static @NotNull InternationalPhoneNumber of(long value) {
+
+    if (!isValid(value)) {
+      throw newIllegalArgumentException("Packed international phone number [%s] is not valid", value);
+    }
+
+    return new InternationalPhoneNumber(value);
+  }
+
+  /**
+   * Parses the given {@link CharSequence} in international format, beginning with {@literal +} or the
+   * {@literal 00} international call prefix, such as {@literal +1 (503) 555-1234}
+   * or {@literal 0044 20 7183 8750}, into an {@link InternationalPhoneNumber}.
+   *
+   * @param phoneNumber {@link CharSequence} containing the phone number to parse.
+   * @return a new {@link InternationalPhoneNumber}.
+   * @throws IllegalArgumentException if the {@link CharSequence} is not a valid {@literal E.164} phone number.
+   * @see #pack(CharSequence)
+   */
+  public static @NotNull InternationalPhoneNumber parse(@Nullable CharSequence phoneNumber) {
+
+    long value = pack(phoneNumber);
+
+    if (value == INVALID) {
+      throw newIllegalArgumentException(INVALID_PHONE_NUMBER_MESSAGE, phoneNumber);
+    }
+
+    return new InternationalPhoneNumber(value);
+  }
+
+  /**
+   * Parses the given {@link CharSequence} in either international format or the national format
+   * of the given, required {@link Country} into an {@link InternationalPhoneNumber}.
+   *
+   * @param phoneNumber {@link CharSequence} containing the phone number to parse.
+   * @param country {@link Country} of a phone number in national format; must not be {@literal null}.
+   * @return a new {@link InternationalPhoneNumber}.
+   * @throws IllegalArgumentException if the {@link Country} is {@literal null} or has no calling code,
+   * or the {@link CharSequence} is not a valid {@literal E.164} phone number.
+   * @see #pack(CharSequence, Country)
+   */
+  public static @NotNull InternationalPhoneNumber parse(@Nullable CharSequence phoneNumber,
+      @NotNull Country country) {
+
+    long value = pack(phoneNumber, country);
+
+    if (value == INVALID) {
+      throw newIllegalArgumentException(INVALID_PHONE_NUMBER_MESSAGE, phoneNumber);
+    }
+
+    return new InternationalPhoneNumber(value);
+  }
+
+  /**
+   * Determines whether the given {@link Long value} is a valid, packed international phone number.
+   *
+   * @param value {@link Long value} to evaluate.
+   * @return a boolean value indicating whether the given {@link Long value} is a valid, packed
+   * international phone number.
+   */
+  public static boolean isValid(long value) {
+
+    int length = (int) (value >>> LENGTH_SHIFT & LENGTH_MASK);
+
+    return value >= 0L && length > 0 && length <= MAXIMUM_PHONE_NUMBER_LENGTH
+      && pack(value & DIGITS_MASK, length) == value;
+  }
+
+  /**
+   * Parses the given {@link CharSequence} in international format, beginning with {@literal +} or the
+   * {@literal 00} international call prefix, into a packed {@link Long long} without creating any
+   * {@link Object Objects}.
+   * <p>
+   * Spaces, hyphens, periods, slashes and parentheses between the digits are ignored.
+   *
+   * @param phoneNumber {@link CharSequence} containing the phone number to parse.
+   * @return the packed {@link Long value} of the phone number, or {@link #INVALID} if the {@link CharSequence}
+   * is not a valid {@literal E.164} phone number.
+   * @see #of(long)
+   */
+  public static long pack(@Nullable CharSequence phoneNumber) {
+
+    int index = internationalPrefixLength(phoneNumber);
+
+    return index > -1 ? packDigits(phoneNumber, index, 0L, 0) : INVALID;
+  }
+
+  /**
+   * Parses the given {@link CharSequence} in either international format or the national format
+   * of the given, required {@link Country} into a packed {@link Long long} without creating any
+   * {@link Object Objects}.
+   * <p>
+   * In national format, the leading trunk prefix of the {@link Country} is removed. The trunk prefix is {@literal 0}
+   * in most {@link Country Countries}, {@literal 8} in {@link Country Countries} such as {@link Country#RUSSIA},
+   * {@link Country#KAZAKHSTAN} and {@link Country#LITHUANIA}, and {@literal 80} in {@link Country#BELARUS}.
+   * {@link Country Countries} such as {@link Country#ITALY} have no trunk prefix; the leading {@literal 0} is part of
+   * the national significant number. A leading {@literal 1} is removed only from an {@literal 11-digit
+   * North American Numbering Plan} phone number.
+   *
+   * @param phoneNumber {@link CharSequence} containing the phone number to parse.
+   * @param country {@link Country} of a phone number in national format; must not be {@literal null}.
+   * @return the packed {@link Long value} of the phone number, or {@link #INVALID} if the {@link CharSequence}
+   * is not a valid {@literal E.164} phone number.
+   * @throws IllegalArgumentException if the {@link Country} is {@literal null} or has no calling code.
+   */
+  public static long pack(@Nullable CharSequence phoneNumber, @NotNull Country country) {
+
+    Assert.notNull(country, "Country is required");
+
+    int callingCode = country.getCallingCode();
+
+    if (callingCode <= 0) {
+      throw newIllegalArgumentException("Country [%s] does not have a calling code", country);
+    }
+
+    int index = internationalPrefixLength(phoneNumber);
+
+    if (index > -1) {
+      return packDigits(phoneNumber, index, 0L, 0);
+    }
+    else if (phoneNumber == null) {
+      return INVALID;
+    }
+
+    String trunkPrefix = CallingCodes.trunkPrefixOf(callingCode);
+    int trunkPrefixLength = callingCode == NORTH_AMERICAN_NUMBERING_PLAN
+      ? PhoneNumber.REQUIRED_PHONE_NUMBER_LENGTH + 1
+      : 0;
+    int nationalNumberLength = 0;
+    int trunkPrefixEnd = -1;
+    int trunkPrefixMatched = 0;
+
+    // Count the digits and find the end of the leading trunk prefix, if any
+    for (int position = 0, length = phoneNumber.length(); position < length; position++) {
+
+      char character = phoneNumber.charAt(position);
+
+      if (character >= '0' && character <= '9') {
+
+        // The trunk prefix matches while every digit so far matches the digits of the trunk prefix
+        if (trunkPrefixMatched == nationalNumberLength && trunkPrefixMatched < trunkPrefix.length()
+            && character == trunkPrefix.charAt(trunkPrefixMatched)) {
+
+          trunkPrefixEnd = ++trunkPrefixMatched == trunkPrefix.length() ? position + 1 : trunkPrefixEnd;
+        }
+
+        nationalNumberLength++;
+      }
+      else if (!isSeparator(character)) {
+        return INVALID;
+      }
+    }
+
+    if (nationalNumberLength == 0) {
+      return INVALID;
+    }
+
+    boolean removeTrunkPrefix = trunkPrefixEnd > -1
+      && (trunkPrefixLength == 0 || nationalNumberLength == trunkPrefixLength);
+
+    return packDigits(phoneNumber, removeTrunkPrefix ? trunkPrefixEnd : 0, callingCode,
+      CallingCodes.lengthOf(callingCode));
+  }
+
+  private static int internationalPrefixLength(@Nullable CharSequence phoneNumber) {
+
+    int length = phoneNumber != null ? phoneNumber.length() : 0;
+    int index = 0;
+
+    while (index < length && Character.isWhitespace(phoneNumber.charAt(index))) {
+      index++;
+    }
+
+    if (index < length && phoneNumber.charAt(index) == '+') {
+      return index + 1;
+    }
+    else if (index + 1 < length && phoneNumber.charAt(index) == '0' && phoneNumber.charAt(index + 1) == '0') {
+      return index + 2;
+    }
+
+    return -1;
+  }
+
+  private static boolean isSeparator(char character) {
+
+    return character == ' ' || character == '-' || character == '.' || character == '/'
+      || character == '(' || character == ')' || Character.isWhitespace(character);
+  }
+
+  private static long packDigits(@NotNull CharSequence phoneNumber, int index, long digits, int length) {
+
+    for (int position = index, end = phoneNumber.length(); position < end; position++) {
+
+      char character = phoneNumber.charAt(position);
+
+      if (character >= '0' && character <= '9') {
+
+        if (++length > MAXIMUM_PHONE_NUMBER_LENGTH) {
+          return INVALID;
+        }
+
+        digits = digits * 10L + (character - '0');
+      }
+      else if (!isSeparator(character)) {
+        return INVALID;
+      }
+    }
+
+    return length > 0 ? pack(digits, length) : INVALID;
+  }
+
+  private static long pack(long digits, int length) {
+
+    int callingCode = CallingCodes.callingCodeOf(digits, length);
+
+    if (callingCode < 0) {
+      return INVALID;
+    }
+
+    int callingCodeLength = CallingCodes.lengthOf(callingCode);
+
+    return CallingCodes.isValidNationalNumberLength(callingCode, length - callingCodeLength)
+      ? (long) callingCodeLength << CALLING_CODE_LENGTH_SHIFT | (long) length << LENGTH_SHIFT | digits
+      : INVALID;
+  }
+
+  private final long value;
+
+  private InternationalPhoneNumber(long value) {
+    this.value = value;
+  }
+
+  /**
+   * Returns the {@literal 1 to 3-digit} international calling code of this phone number.
+   *
+   * @return the international calling code of this phone number.
+   * @see org.cp.domain.geo.enums.Country#getCallingCode()
+   */
+  public int getCallingCode() {
+    return (int) (digits() / POWERS_OF_TEN[getNationalNumberLength()]);
+  }
+
+  /**
+   * Returns the {@link Country} of this phone number, resolved from the calling code and,
+   * for {@link Country Countries} sharing a calling code, the leading digits of the national significant number.
+   *
+   * @return the {@link Country} of this phone number.
+   * @see org.cp.domain.geo.enums.Country
+   */
+  public @NotNull Country getCountry() {
+    return CallingCodes.countryOf(getCallingCode(), nationalNumber(), getNationalNumberLength());
+  }
+
+  /**
+   * Returns the national significant number of this phone number, including any leading zeros.
+   *
+   * @return the national significant number of this phone number.
+   */
+  public @NotNull String getNationalNumber() {
+
+    String nationalNumber = String.valueOf(nationalNumber());
+
+    return "0".repeat(getNationalNumberLength() - nationalNumber.length()).concat(nationalNumber);
+  }
+
+  /**
+   * Returns the number of digits in the national significant number of this phone number.
+   *
+   * @return the number of digits in the national significant number of this phone number.
+   */
+  public int getNationalNumberLength() {
+    return length() - (int) (this.value >>> CALLING_CODE_LENGTH_SHIFT & CALLING_CODE_LENGTH_MASK);
+  }
+
+  /**
+   * Determines whether this is a {@literal North American Numbering Plan (NANP)} phone number,
+   * with calling code {@literal +1}.
+   *
+   * @return a boolean value indicating whether this is a {@literal North American Numbering Plan} phone number.
+   * @see #toPhoneNumber()
+   */
+  public boolean isNorthAmericanNumberingPlan() {
+    return getCallingCode() == NORTH_AMERICAN_NUMBERING_PLAN;
+  }
+
+  private long digits() {
+    return this.value & DIGITS_MASK;
+  }
+
+  private int length() {
+    return (int) (this.value >>> LENGTH_SHIFT & LENGTH_MASK);
+  }
+
+  private long nationalNumber() {
+    return digits() % POWERS_OF_TEN[getNationalNumberLength()];
+  }
+
+  /**
+   * Returns the packed {@link Long value} of this phone number.
+   *
+   * @return the packed {@link Long value} of this phone number.
+   * @see #of(long)
+   */
+  public long longValue() {
+    return this.value;
+  }
+
+  /**
+   * Formats this phone number in {@literal E.164} format, for example, {@literal +442071838750}.
+   *
+   * @return this phone number in {@literal E.164} format.
+   * @see #toInternationalFormat()
+   */
+  public @NotNull String toE164() {
+    return "+" + digits();
+  }
+
+  /**
+   * Formats this phone number in international format, with the calling code separated from the national
+   * significant number, for example, {@literal +44 2071838750} or {@literal +1 503-555-1234}.
+   *
+   * @return this phone number in international format.
+   * @see #toE164()
+   */
+  public @NotNull String toInternationalFormat() {
+
+    String nationalNumber = getNationalNumber();
+
+    return isNorthAmericanNumberingPlan()
+      ? String.format("+1 %s-%s-%s", nationalNumber.substring(0, 3), nationalNumber.substring(3, 6),
+          nationalNumber.substring(6))
+      : String.format("+%d %s", getCallingCode(), nationalNumber);
+  }
+
+  /**
+   * Converts this {@literal North American Numbering Plan} phone number into a {@link PhoneNumber}
+   * in the resolved {@link Country}.
+   *
+   * @return a new {@link PhoneNumber} for this {@literal North American Numbering Plan} phone number.
+   * @throws IllegalStateException if this is not a {@literal North American Numbering Plan} phone number.
+   * @see #isNorthAmericanNumberingPlan()
+   */
+  public @NotNull PhoneNumber toPhoneNumber() {
+
+    if (!isNorthAmericanNumberingPlan()) {
+      throw newIllegalStateException("Phone Number [%s] is not a North American Numbering Plan phone number",
+        toE164());
+    }
+
+    long nationalNumber = nationalNumber();
+
+    return PhoneNumber.builder()
+      .inAreaCode(AreaCode.valueOf((int) (nationalNumber / POWERS_OF_TEN[7])))
+      .usingExchange(ExchangeCode.valueOf((int) (nationalNumber / POWERS_OF_TEN[4] % 1_000L)))
+      .withLineNumber(LineNumber.valueOf((int) (nationalNumber % POWERS_OF_TEN[4])))
+      .inCountry(getCountry())
+      .build();
+  }
+
+  @Override
+  public int compareTo(@NotNull InternationalPhoneNumber that) {
+
+    // Phone numbers are ordered digit by digit, as in a directory, rather than by numeric value
+    int result = Long.compare(this.digits() * POWERS_OF_TEN[MAXIMUM_PHONE_NUMBER_LENGTH - this.length()],
+      that.digits() * POWERS_OF_TEN[MAXIMUM_PHONE_NUMBER_LENGTH - that.length()]);
+
+    return result != 0 ? result : Integer.compare(this.length(), that.length());
+  }
+
+  @Override
+  public boolean equals(@Nullable Object obj) {
+
+    if (this == obj) {
+      return true;
+    }
+
+    return obj instanceof InternationalPhoneNumber that && this.value == that.value;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(this.value);
+  }
+
+  @Override
+  public String toString() {
+    return toE164();
+  }
+}
@@ -80,6 +80,18 @@ public class LineNumber implements Cloneable, Comparable<LineNumber>, Renderable
     return new LineNumber(number);
   }
 
+  /**
+   * Returns a new {@link LineNumber} for the given {@link Integer number} between {@literal 0}
+   * and {@literal 9999}, inclusive, without parsing a {@link String}.
+   *
+   * @param number {@link Integer number} of the {@link LineNumber}; must be between {@literal 0}
+   * and {@literal 9999}.
+   * @return a new {@link LineNumber} for the given {@link Integer number}.
+   */
+  static @NotNull LineNumber valueOf(int number) {
+    return new LineNumber(number);
+  }
+
   private final String number;
 
   /**
@@ -136,6 +148,13 @@ public class LineNumber implements Cloneable, Comparable<LineNumber>, Renderable
     this.number = resolvedNumber;
   }
 
+  private LineNumber(int number) {
+    this.number = new String(new char[] {
+      (char) ('0' + number / 1000), (char) ('0' + number / 100 % 10),
+      (char) ('0' + number / 10 % 10), (char) ('0' + number % 10)
+    });
+  }
+
   /**
    * Gets the {@link String number} of this {@link LineNumber}.
    *
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.contact.phone.model;
+
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalArgumentException;
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newUnsupportedOperationException;
+
+import java.util.Optional;
+
+import org.cp.domain.geo.enums.Country;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.ObjectUtils;
+import org.cp.elements.lang.annotation.Immutable;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+
+/**
+ * Compact, {@link Immutable} {@link PhoneNumber} value type encoding the {@link AreaCode}, {@link ExchangeCode},
+ * {@link LineNumber} and an optional {@link Extension} in a single {@link Long long}.
+ * <p>
+ * The {@link Long long} is laid out, from the most to the least significant bit, as 3 unused bits, the
+ * {@literal 10-bit} {@link AreaCode}, the {@literal 10-bit} {@link ExchangeCode}, the {@literal 14-bit}
+ * {@link LineNumber}, the {@literal 3-bit} length of the {@link Extension} and the {@literal 24-bit} value
+ * of the {@link Extension}. A packed {@link PhoneNumber} is therefore never negative, and packed values without
+ * an {@link Extension} sort in the same order as their {@link PhoneNumber PhoneNumbers}.
+ * <p>
+ * Each component is decoded from the {@link Long long} when requested; the {@link AreaCode} and {@link ExchangeCode}
+ * are the shared, interned instances. A {@link PackedPhoneNumber} has no {@link Country}, {@link PhoneNumber.Type}
+ * or {@literal identifier}, and is equal to any {@link PhoneNumber} having the same components and no {@link Country}.
+ * {@link PackedPhoneNumber PackedPhoneNumbers} can be stored as primitive {@link Long longs}
+ * in collections, such as the {@link org.cp.domain.contact.phone.support.PhoneNumberSet}.
+ *
+ * @author John Blum
+ * @see org.cp.domain.contact.phone.model.PhoneNumber
+ * @see org.cp.domain.contact.phone.support.PhoneNumberMap
+ * @see org.cp.domain.contact.phone.support.PhoneNumberSet
+ * @see org.cp.elements.lang.annotation.Immutable
+ * @since 0.4.0
+ */
+@Immutable
+public final class PackedPhoneNumber implements PhoneNumber {
+
+  public static final int MAXIMUM_EXTENSION_LENGTH = 7;
+
+  public static final long INVALID = PhoneNumberParser.INVALID;
+
+  private static final int EXTENSION_LENGTH_SHIFT = 24;
+  private static final int LINE_NUMBER_SHIFT = 27;
+  private static final int EXCHANGE_CODE_SHIFT = 41;
+  private static final int AREA_CODE_SHIFT = 51;
+
+  private static final long CODE_MASK = 0x3FFL;
+  private static final long EXTENSION_LENGTH_MASK = 0x7L;
+  private static final long EXTENSION_VALUE_MASK = 0xFFFFFFL;
+  private static final long LINE_NUMBER_MASK = 0x3FFFL;
+
+  private static final int[] POWERS_OF_TEN = { 1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000 };
+
+  /**
+   * Factory method used to construct a new {@link PackedPhoneNumber} from an existing, required {@link PhoneNumber}.
+   * <p>
+   * A {@link PackedPhoneNumber} is returned as is since it is {@link Immutable}.
+   *
+   * @param phoneNumber {@link PhoneNumber} to pack; must not be {@literal null}.
+   * @return a new {@link PackedPhoneNumber} from the given {@link PhoneNumber}.
+   * @throws IllegalArgumentException if the {@link PhoneNumber} is {@literal null}, or its {@link Extension}
+   * is longer than {@link #MAXIMUM_EXTENSION_LENGTH} digits.
+   * @see #pack(PhoneNumber)
+   */
+  public static @NotNull PackedPhoneNumber from(@NotNull PhoneNumber phoneNumber) {
+    return phoneNumber instanceof PackedPhoneNumber packedPhoneNumber ? packedPhoneNumber
+      : new PackedPhoneNumber(pack(phoneNumber));
+  }
+
+  /**
+   * Factory method used to construct a new {@link PackedPhoneNumber} from the given, packed {@link Long value}.
+   *
+   * @param value packed {@link Long value} of the {@link PhoneNumber}.
+   * @return a new {@link PackedPhoneNumber} from the given, packed {@link Long value}.
+   * @throws IllegalArgumentException if the packed {@link Long value} is not {@link #isValid(long) valid}.
+   * @see #isValid(long)
+   */
+  public static @NotNull PackedPhoneNumber of(long value) {
+    Assert.isTrue(isValid(value), "Packed phone number [%s] is not valid", value);
+    return new PackedPhoneNumber(value);
+  }
+
+  /**
+   * Factory method used to parse the given {@link CharSequence phone number} into a new {@link PackedPhoneNumber}.
+   *
+   * @param phoneNumber {@link CharSequence} containing the digits making up the {@link PhoneNumber}.
+   * @return a new {@link PackedPhoneNumber} parsed from the given {@link CharSequence phone number}.
+   * @throws IllegalArgumentException if the given {@link CharSequence phone number} is not valid.
+   * @see #pack(CharSequence)
+   */
+  public static @NotNull PackedPhoneNumber parse(@NotNull CharSequence phoneNumber) {
+
+    long value = pack(phoneNumber);
+
+    if (value == INVALID) {
+      throw newIllegalArgumentException("%s", PhoneNumberParser.invalidPhoneNumberMessage(phoneNumber));
+    }
+
+    return new PackedPhoneNumber(value);
+  }
+
+  /**
+   * Determines whether the given {@link Long value} is a valid, packed {@link PhoneNumber}.
+   *
+   * @param value {@link Long value} to evaluate.
+   * @return a boolean value indicating whether the given {@link Long value} is a valid, packed {@link PhoneNumber}.
+   */
+  public static boolean isValid(long value) {
+
+    if (value < 0L || value >>> AREA_CODE_SHIFT > 999L
+        || (value >>> EXCHANGE_CODE_SHIFT & CODE_MASK) > 999L
+        || (value >>> LINE_NUMBER_SHIFT & LINE_NUMBER_MASK) > 9_999L) {
+
+      return false;
+    }
+
+    int extensionLength = (int) (value >>> EXTENSION_LENGTH_SHIFT & EXTENSION_LENGTH_MASK);
+
+    return (value & EXTENSION_VALUE_MASK) < (extensionLength > 0 ? POWERS_OF_TEN[extensionLength] : 1);
+  }
+
+  /**
+   * Returns the {@literal 10} digits of the given {@link Long packed phone number} as a {@link Long long},
+   * for example, {@literal (503) 555-1234} as {@literal 5035551234}; any {@link Extension} is ignored.
+   *
+   * @param value packed {@link Long value} of the {@link PhoneNumber}.
+   * @return the {@literal 10} digits of the packed {@link PhoneNumber} as a {@link Long long}.
+   * @see #pack(int, int, int)
+   */
+  public static long toDigits(long value) {
+    return (value >>> AREA_CODE_SHIFT) * 10_000_000L + (value >>> EXCHANGE_CODE_SHIFT & CODE_MASK) * 10_000L
+      + (value >>> LINE_NUMBER_SHIFT & LINE_NUMBER_MASK);
+  }
+
+  /**
+   * Packs the given {@link Integer area code}, {@link Integer exchange code} and {@link Integer line number}
+   * into a {@link Long long}.
+   *
+   * @param areaCode {@link Integer area code} between {@literal 0} and {@literal 999}.
+   * @param exchangeCode {@link Integer exchange code} between {@literal 0} and {@literal 999}.
+   * @param lineNumber {@link Integer line number} between {@literal 0} and {@literal 9999}.
+   * @return the packed {@link Long value} of the {@link PhoneNumber}.
+   * @throws IllegalArgumentException if any of the given {@link Integer values} are out of range.
+   */
+  public static long pack(int areaCode, int exchangeCode, int lineNumber) {
+
+    if (areaCode < 0 || areaCode > 999) {
+      throw newIllegalArgumentException("AreaCode [%s] must be between 0 and 999", areaCode);
+    }
+
+    if (exchangeCode < 0 || exchangeCode > 999) {
+      throw newIllegalArgumentException("ExchangeCode [%s] must be between 0 and 999", exchangeCode);
+    }
+
+    if (lineNumber < 0 || lineNumber > 9_999) {
+      throw newIllegalArgumentException("LineNumber [%s] must be between 0 and 9999", lineNumber);
+    }
+
+    return packUnchecked(areaCode, exchangeCode, lineNumber);
+  }
+
+  /**
+   * Packs the given, required {@link PhoneNumber}, including its {@link Extension}, into a {@link Long long}.
+   *
+   * @param phoneNumber {@link PhoneNumber} to pack; must not be {@literal null}.
+   * @return the packed {@link Long value} of the given {@link PhoneNumber}.
+   * @throws IllegalArgumentException if the {@link PhoneNumber} is {@literal null}, or its {@link Extension}
+   * is longer than {@link #MAXIMUM_EXTENSION_LENGTH} digits.
+   */
+  public static long pack(@NotNull PhoneNumber phoneNumber) {
+
+    Assert.notNull(phoneNumber, "PhoneNumber is required");
+
+    if (phoneNumber instanceof PackedPhoneNumber packedPhoneNumber) {
+      return packedPhoneNumber.longValue();
+    }
+
+    long value = pack(toInt(phoneNumber.getAreaCode().getNumber()),
+      toInt(phoneNumber.getExchangeCode().getNumber()),
+      toInt(phoneNumber.getLineNumber().getNumber()));
+
+    return phoneNumber.getExtension()
+      .map(Extension::getNumber)
+      .map(extension -> value | packExtension(extension))
+      .orElse(value);
+  }
+
+  /**
+   * Packs the first {@literal 10} digits of the given {@link CharSequence phone number} into a {@link Long long}
+   * without creating any {@link Object Objects}; any {@link Extension} is ignored.
+   *
+   * @param phoneNumber {@link CharSequence} containing the digits making up the {@link PhoneNumber}.
+   * @return the packed {@link Long value} of the {@link PhoneNumber}, or {@link #INVALID}
+   * if the {@link CharSequence} contains fewer than {@literal 10} digits.
+   */
+  public static long pack(@Nullable CharSequence phoneNumber) {
+
+    long digits = PhoneNumberParser.decode(phoneNumber);
+
+    return digits != INVALID
+      ? packUnchecked((int) (digits / 10_000_000L), (int) (digits / 10_000L % 1_000L), (int) (digits % 10_000L))
+      : INVALID;
+  }
+
+  private static long packExtension(@NotNull String extension) {
+
+    int length = extension.length();
+
+    Assert.isTrue(length <= MAXIMUM_EXTENSION_LENGTH, "Extension [%s] must not be longer than %d digits",
+      extension, MAXIMUM_EXTENSION_LENGTH);
+
+    return (long) length << EXTENSION_LENGTH_SHIFT | toInt(extension);
+  }
+
+  private static long packUnchecked(int areaCode, int exchangeCode, int lineNumber) {
+    return (long) areaCode << AREA_CODE_SHIFT | (long) exchangeCode << EXCHANGE_CODE_SHIFT
+      | (long) lineNumber << LINE_NUMBER_SHIFT;
+  }
+
+  private static int toInt(@NotNull String digits) {
+
+    int value = 0;
+
+    for (int index = 0, length = digits.length(); index < length; index++) {
+      value = value * 10 + Character.digit(digits.charAt(index), 10);
+    }
+
+    return value;
+  }
+
+  private final long value;
+
+  private PackedPhoneNumber(long value) {
+    this.value = value;
+  }
+
+  @Override
+  public @NotNull AreaCode getAreaCode() {
+    return AreaCode.valueOf((int) (this.value >>> AREA_CODE_SHIFT));
+  }
+
+  @Override
+  public @NotNull ExchangeCode getExchangeCode() {
+    return ExchangeCode.valueOf((int) (this.value >>> EXCHANGE_CODE_SHIFT & CODE_MASK));
+  }
+
+  @Override
+  public Optional<Extension> getExtension() {
+
+    int length = (int) (this.value >>> EXTENSION_LENGTH_SHIFT & EXTENSION_LENGTH_MASK);
+
+    if (length == 0) {
+      return Optional.empty();
+    }
+
+    char[] digits = new char[length];
+    int extension = (int) (this.value & EXTENSION_VALUE_MASK);
+
+    for (int index = length - 1; index > -1; index--, extension /= 10) {
+      digits[index] = (char) ('0' + extension % 10);
+    }
+
+    return Optional.of(Extension.of(new String(digits)));
+  }
+
+  @Override
+  public @Nullable Long getId() {
+    return null;
+  }
+
+  @Override
+  public void setId(@Nullable Long id) {
+    throw newUnsupportedOperationException("Setting ID for a PhoneNumber of type [%s] is not supported",
+      getClass().getName());
+  }
+
+  @Override
+  public @NotNull LineNumber getLineNumber() {
+    return LineNumber.valueOf((int) (this.value >>> LINE_NUMBER_SHIFT & LINE_NUMBER_MASK));
+  }
+
+  @Override
+  public void setCountry(@Nullable Country country) {
+    throw newUnsupportedOperationException("Setting Country for a PhoneNumber of type [%s] is not supported",
+      getClass().getName());
+  }
+
+  /**
+   * Returns the packed {@link Long value} of this {@link PhoneNumber}.
+   *
+   * @return the packed {@link Long value} of this {@link PhoneNumber}.
+   */
+  public long longValue() {
+    return this.value;
+  }
+
+  @Override
+  @SuppressWarnings("all")
+  public Object clone() {
+    return new PackedPhoneNumber(this.value);
+  }
+
+  @Override
+  public int compareTo(@NotNull PhoneNumber that) {
+
+    if (that instanceof PackedPhoneNumber packedPhoneNumber) {
+
+      int result = Long.compare(this.value >>> LINE_NUMBER_SHIFT, packedPhoneNumber.value >>> LINE_NUMBER_SHIFT);
+
+      if (result != 0 || this.value == packedPhoneNumber.value) {
+        return result;
+      }
+    }
+
+    return PhoneNumber.super.compareTo(that);
+  }
+
+  @Override
+  public boolean equals(@Nullable Object obj) {
+
+    if (this == obj) {
+      return true;
+    }
+
+    if (obj instanceof PackedPhoneNumber that) {
+      return this.value == that.value;
+    }
+
+    if (!(obj instanceof PhoneNumber that)) {
+      return false;
+    }
+
+    return ObjectUtils.equals(this.getAreaCode(), that.getAreaCode())
+      && ObjectUtils.equals(this.getExchangeCode(), that.getExchangeCode())
+      && ObjectUtils.equals(this.getLineNumber(), that.getLineNumber())
+      && ObjectUtils.equalsIgnoreNull(this.getExtension().orElse(null), that.getExtension().orElse(null))
+      && ObjectUtils.equalsIgnoreNull(this.getCountry().orElse(null), that.getCountry().orElse(null));
+  }
+
+  /**
+   * Computes the hash code from the components of this {@link PhoneNumber} in the same way as
+   * the {@link AbstractPhoneNumber}, so that equal {@link PhoneNumber PhoneNumbers} of either type
+   * have the same hash code.
+   */
+  @Override
+  public int hashCode() {
+    return ObjectUtils.hashCodeOf(getAreaCode(), getExchangeCode(), getLineNumber(),
+      getExtension().orElse(null), getCountry().orElse(null));
+  }
+
+  @Override
+  public @NotNull String toString() {
+
+    return String.format(AbstractPhoneNumber.PHONE_NUMBER_TO_STRING, getClass().getName(),
+      getAreaCode(), getExchangeCode(), getLineNumber(),
+      getExtension().map(extension -> Extension.SYMBOL.concat(extension.getNumber())).orElse(null),
+      PhoneNumber.Type.UNKNOWN.getAbbreviation(), null);
+  }
+}
@@ -19,14 +19,19 @@ import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalArgumentEx
 import static org.cp.elements.lang.RuntimeExceptionsFactory.newUnsupportedOperationException;
 
 import java.io.Serializable;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import org.cp.domain.contact.phone.model.AbstractPhoneNumber.GenericPhoneNumber;
 import org.cp.domain.contact.phone.serialization.json.PhoneNumberJsonDeserializer;
+import org.cp.domain.core.enums.support.EnumLookupTable;
+import org.cp.domain.core.support.ParseResult;
 import org.cp.domain.core.serialization.json.JsonSerializable;
 import org.cp.domain.geo.enums.Country;
 import org.cp.domain.geo.support.CountryAware;
@@ -157,32 +162,88 @@ public interface PhoneNumber extends Cloneable, Comparable<PhoneNumber>, Country
    * @return a new {@link PhoneNumber} with {@link AreaCode}, {@link ExchangeCode} and {@link LineNumber}
    * contained in the given {@link String phone number}.
    * @throws IllegalArgumentException if the given {@link String phone number} is not valid.
-   * @see #of(AreaCode, ExchangeCode, LineNumber)
+   * @see #parse(CharSequence)
    */
   static @NotNull PhoneNumber parse(@NotNull String phoneNumber) {
+    return parse((CharSequence) phoneNumber);
+  }
 
-    String phoneNumberDigits = toRawPhoneNumber(phoneNumber);
+  /**
+   * Parses the given {@link CharSequence phone number} and constructs a new {@link PhoneNumber}.
+   * <p>
+   * The {@link PhoneNumber} is made up of the first {@literal 10} digits in the {@link CharSequence phone number};
+   * all other characters are ignored.
+   *
+   * @param phoneNumber {@link CharSequence} containing the digits making up the {@link PhoneNumber}.
+   * @return a new {@link PhoneNumber} with {@link AreaCode}, {@link ExchangeCode} and {@link LineNumber}
+   * contained in the given {@link CharSequence phone number}.
+   * @throws IllegalArgumentException if the given {@link CharSequence phone number} is not valid.
+   * @see #of(AreaCode, ExchangeCode, LineNumber)
+   * @see #parseAll(Iterable)
+   * @see #parseAll(Stream)
+   * @see #tryParse(CharSequence)
+   */
+  static @NotNull PhoneNumber parse(@NotNull CharSequence phoneNumber) {
 
-    assertValidPhoneNumber(phoneNumber, phoneNumberDigits);
+    return tryParse(phoneNumber).orElseThrow();
+  }
 
-    String areaCodeExchangeCodeLineNumber = toAreaCodeExchangeCodeLineNumber(phoneNumberDigits);
+  /**
+   * Parses all the given {@link CharSequence phone numbers} in bulk, reporting an error per record
+   * rather than throwing an {@link Exception} on the first {@link CharSequence phone number} that cannot be parsed.
+   *
+   * @param phoneNumbers {@link Iterable} of {@link CharSequence phone numbers} to parse; must not be {@literal null}.
+   * @return a {@link List} of {@link ParseResult ParseResults} in the same order as the given
+   * {@link CharSequence phone numbers}.
+   * @throws IllegalArgumentException if the {@link Iterable} is {@literal null}.
+   * @see #parseAll(Stream)
+   * @see #parse(CharSequence)
+   */
+  static @NotNull List<ParseResult<PhoneNumber>> parseAll(@NotNull Iterable<? extends CharSequence> phoneNumbers) {
 
-    return of(AreaCode.parse(areaCodeExchangeCodeLineNumber),
-      ExchangeCode.parse(areaCodeExchangeCodeLineNumber),
-      LineNumber.parse(areaCodeExchangeCodeLineNumber));
-  }
+    Assert.notNull(phoneNumbers, "Phone numbers to parse are required");
 
-  private static void assertValidPhoneNumber(String phoneNumber, String phoneNumberDigits) {
-    Assert.isTrue(phoneNumberDigits.length() >= REQUIRED_PHONE_NUMBER_LENGTH,
-      "Phone Number [%s] must be [%d] digits", phoneNumber, REQUIRED_PHONE_NUMBER_LENGTH);
+    List<ParseResult<PhoneNumber>> results = phoneNumbers instanceof Collection<?> collection
+      ? new ArrayList<>(collection.size())
+      : new ArrayList<>();
+
+    for (CharSequence phoneNumber : phoneNumbers) {
+      results.add(tryParse(phoneNumber));
+    }
+
+    return results;
   }
 
-  private static String toAreaCodeExchangeCodeLineNumber(String phoneNumberDigits) {
-    return phoneNumberDigits.substring(0, REQUIRED_PHONE_NUMBER_LENGTH);
+  /**
+   * Lazily parses all the given {@link CharSequence phone numbers} in bulk, reporting an error per record
+   * rather than throwing an {@link Exception} on the first {@link CharSequence phone number} that cannot be parsed.
+   * <p>
+   * The returned {@link Stream} may be {@link Stream#parallel() parallel} when parsing a large file.
+   *
+   * @param phoneNumbers {@link Stream} of {@link CharSequence phone numbers} to parse; must not be {@literal null}.
+   * @return a {@link Stream} of {@link ParseResult ParseResults} in the encounter order of the given
+   * {@link CharSequence phone numbers}.
+   * @throws IllegalArgumentException if the {@link Stream} is {@literal null}.
+   * @see #parseAll(Iterable)
+   * @see #parse(CharSequence)
+   */
+  static @NotNull Stream<ParseResult<PhoneNumber>> parseAll(@NotNull Stream<? extends CharSequence> phoneNumbers) {
+
+    Assert.notNull(phoneNumbers, "Stream of phone numbers to parse is required");
+
+    return phoneNumbers.map(PhoneNumber::tryParse);
   }
 
-  private static String toRawPhoneNumber(String phoneNumber) {
-    return StringUtils.getDigits(phoneNumber);
+  /**
+   * Parses the given {@link CharSequence} into a {@link PhoneNumber} without throwing an {@link Exception}
+   * if the {@link CharSequence} cannot be parsed.
+   *
+   * @param phoneNumber {@link CharSequence} containing the digits making up the {@link PhoneNumber}.
+   * @return a {@link ParseResult} containing either the parsed {@link PhoneNumber} or the parse error.
+   * @see #parse(CharSequence)
+   */
+  static @NotNull ParseResult<PhoneNumber> tryParse(@Nullable CharSequence phoneNumber) {
+    return PhoneNumberParser.parse(phoneNumber);
   }
 
   /**
@@ -637,6 +698,9 @@ public interface PhoneNumber extends Cloneable, Comparable<PhoneNumber>, Country
     VOIP("VOIP", "Voice-Over-IP"),
     UNKNOWN("??", "Unknown");
 
+    private static final EnumLookupTable<PhoneNumber.Type> ABBREVIATION_LOOKUP_TABLE =
+      EnumLookupTable.of(PhoneNumber.Type.class, PhoneNumber.Type::getAbbreviation);
+
     /**
      * Factory method used to search for and lookup a {@link PhoneNumber.Type} from the given
      * {@link String abbreviation}, ignoring case.
@@ -646,14 +710,32 @@ public interface PhoneNumber extends Cloneable, Comparable<PhoneNumber>, Country
      * @return a {@link PhoneNumber.Type} for the given {@link String abbreviation}.
      * @throws IllegalArgumentException if the {@link String abbreviation} does not map to a {@link PhoneNumber.Type}.
      * @see PhoneNumber.Type#getAbbreviation()
+     * @see #valueOfAbbreviation(CharSequence)
      */
     public static @NotNull PhoneNumber.Type from(@NotNull String abbreviation) {
 
-      return Arrays.stream(values())
-        .filter(type -> type.getAbbreviation().equalsIgnoreCase(abbreviation))
-        .findFirst()
-        .orElseThrow(() ->
-          newIllegalArgumentException("PhoneNumber.Type for abbreviation [%s] was not found", abbreviation));
+      PhoneNumber.Type type = ABBREVIATION_LOOKUP_TABLE.getIgnoreCase(abbreviation);
+
+      if (type == null) {
+        throw newIllegalArgumentException("PhoneNumber.Type for abbreviation [%s] was not found", abbreviation);
+      }
+
+      return type;
+    }
+
+    /**
+     * Factory method used to look up a {@link PhoneNumber.Type} from the given {@link CharSequence abbreviation},
+     * ignoring case, without throwing an {@link Exception} on a miss.
+     *
+     * @param abbreviation {@link CharSequence} containing the {@literal abbreviation} of the {@link PhoneNumber.Type}
+     * to look up.
+     * @return a {@link PhoneNumber.Type} for the given {@link CharSequence abbreviation}, or {@literal null}
+     * if the {@link CharSequence abbreviation} does not map to a {@link PhoneNumber.Type}.
+     * @see org.cp.domain.core.enums.support.EnumLookupTable
+     * @see PhoneNumber.Type#getAbbreviation()
+     */
+    public static @Nullable PhoneNumber.Type valueOfAbbreviation(@Nullable CharSequence abbreviation) {
+      return ABBREVIATION_LOOKUP_TABLE.get(abbreviation);
     }
 
     private final String abbreviation;
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.contact.phone.model;
+
+import org.cp.domain.core.support.ParseResult;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+
+/**
+ * Parser of a {@literal North American Numbering Plan (NANP)} {@link PhoneNumber}, such as
+ * {@literal (503) 555-1234} or {@literal 503.555.1234}.
+ * <p>
+ * The {@link CharSequence} is scanned once, skipping formatting characters and decoding the first {@literal 10} digits
+ * directly into a {@link Long long} value, which is then split into the {@link AreaCode}, {@link ExchangeCode}
+ * and {@link LineNumber}. Scanning stops after the {@literal 10th} digit, so any trailing digits, such as
+ * an {@link Extension}, are ignored. The {@link AreaCode} and {@link ExchangeCode} are the shared, interned instances.
+ * <p>
+ * A phone number in international format, such as {@literal +1 (503) 555-1234}, is accepted when the calling code
+ * is the {@literal North American Numbering Plan} calling code, {@literal +1}. Phone numbers with any other calling
+ * code are not valid and are reported with an error naming the calling code; such phone numbers are parsed
+ * with {@link InternationalPhoneNumber#parse(CharSequence)}.
+ * <p>
+ * No intermediate {@link String Strings} are created and no {@link Exception Exceptions} are thrown
+ * for control flow.
+ *
+ * @author John Blum
+ * @see org.cp.domain.contact.phone.model.InternationalPhoneNumber
+ * @see org.cp.domain.contact.phone.model.PhoneNumber#parse(CharSequence)
+ * @since 0.4.0
+ */
+final class PhoneNumberParser {
+
+  static final long INVALID = -1L;
+
+  private static final int EXCHANGE_CODE_DIVISOR = 10_000;
+  private static final int AREA_CODE_DIVISOR = 10_000_000;
+
+  private PhoneNumberParser() { }
+
+  /**
+   * Parses the given {@link CharSequence} into a {@link PhoneNumber}.
+   *
+   * @param phoneNumber {@link CharSequence} containing the digits of the {@link PhoneNumber}.
+   * @return a {@link ParseResult} containing either the parsed {@link PhoneNumber} or the parse error.
+   */
+  static @NotNull ParseResult<PhoneNumber> parse(@Nullable CharSequence phoneNumber) {
+
+    long digits = decode(phoneNumber);
+
+    if (digits == INVALID) {
+      return ParseResult.invalid(phoneNumber, invalidPhoneNumberMessage(phoneNumber));
+    }
+
+    int areaCode = (int) (digits / AREA_CODE_DIVISOR);
+    int exchangeCode = (int) (digits / EXCHANGE_CODE_DIVISOR % 1_000);
+    int lineNumber = (int) (digits % EXCHANGE_CODE_DIVISOR);
+
+    return ParseResult.valid(phoneNumber, PhoneNumber.of(AreaCode.valueOf(areaCode),
+      ExchangeCode.valueOf(exchangeCode), LineNumber.valueOf(lineNumber)));
+  }
+
+  /**
+   * Returns the error message for the given {@link CharSequence} that could not be
+   * {@link #decode(CharSequence) decoded}.
+   * <p>
+   * A phone number beginning with a calling code other than {@literal +1} is reported with its calling code.
+   *
+   * @param phoneNumber {@link CharSequence} that could not be decoded.
+   * @return the error message for the given {@link CharSequence}.
+   */
+  static @NotNull String invalidPhoneNumberMessage(@Nullable CharSequence phoneNumber) {
+
+    int length = phoneNumber != null ? phoneNumber.length() : 0;
+    int start = 0;
+
+    while (start < length && Character.isWhitespace(phoneNumber.charAt(start))) {
+      start++;
+    }
+
+    if (start < length && phoneNumber.charAt(start) == '+') {
+
+      long digits = 0L;
+      int digitCount = 0;
+
+      for (int index = start + 1; index < length && digitCount < CallingCodes.MAXIMUM_CALLING_CODE_LENGTH; index++) {
+
+        int digit = Character.digit(phoneNumber.charAt(index), 10);
+
+        if (digit > -1) {
+          digits = digits * 10 + digit;
+          digitCount++;
+        }
+      }
+
+      int callingCode = CallingCodes.callingCodeOf(digits, digitCount);
+
+      if (callingCode < 0) {
+        return String.format("Phone Number [%s] has an unknown calling code", phoneNumber);
+      }
+      else if (callingCode != CallingCodes.NORTH_AMERICAN_NUMBERING_PLAN) {
+        return String.format("Phone Number [%s] with calling code [+%d] is not a North American Numbering Plan"
+          + " phone number; use InternationalPhoneNumber", phoneNumber, callingCode);
+      }
+    }
+
+    return String.format("Phone Number [%s] must be [%d] digits",
+      phoneNumber, PhoneNumber.REQUIRED_PHONE_NUMBER_LENGTH);
+  }
+
+  /**
+   * Decodes the first {@literal 10} digits in the given {@link CharSequence} into a {@link Long long} value,
+   * for example, {@literal (503) 555-1234} is decoded as {@literal 5035551234}.
+   * <p>
+   * A leading {@literal +1} calling code, as in {@literal +1 503-555-1234}, is skipped.
+   *
+   * @param phoneNumber {@link CharSequence} containing the digits of the {@link PhoneNumber}.
+   * @return the {@link Long long} value of the first {@literal 10} digits in the given {@link CharSequence},
+   * or {@link #INVALID} if the {@link CharSequence} contains fewer than {@literal 10} digits
+   * or begins with a calling code other than {@literal +1}.
+   */
+  static long decode(@Nullable CharSequence phoneNumber) {
+
+    long digits = 0L;
+    int digitCount = 0;
+
+    int length = phoneNumber != null ? phoneNumber.length() : 0;
+    int start = 0;
+
+    while (start < length && Character.isWhitespace(phoneNumber.charAt(start))) {
+      start++;
+    }
+
+    if (start < length && phoneNumber.charAt(start) == '+') {
+
+      if (start + 1 < length && phoneNumber.charAt(start + 1) == '1') {
+        start += 2;
+      }
+      else {
+        return INVALID;
+      }
+    }
+
+    for (int index = start; index < length && digitCount < PhoneNumber.REQUIRED_PHONE_NUMBER_LENGTH; index++) {
+
+      int digit = Character.digit(phoneNumber.charAt(index), 10);
+
+      if (digit > -1) {
+        digits = digits * 10 + digit;
+        digitCount++;
+      }
+    }
+
+    return digitCount == PhoneNumber.REQUIRED_PHONE_NUMBER_LENGTH ? digits : INVALID;
+  }
+}
@@ -0,0 +1,678 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.contact.phone.model.usa.support;
+
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalArgumentException;
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalStateException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.cp.domain.contact.phone.model.AreaCode;
+import org.cp.domain.contact.phone.model.ExchangeCode;
+import org.cp.domain.contact.phone.model.PhoneNumber;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.Immutable;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.NullSafe;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * Repository of exchange-level reference data for every {@literal NPA-NXX}, that is, {@link AreaCode}
+ * and {@link ExchangeCode}, in the {@literal North American Numbering Plan (NANP)}, including the
+ * {@literal rate center}, {@literal carrier}, line {@link PhoneNumber.Type type} and {@link ZoneId time zone}.
+ * <p>
+ * The reference data is loaded from a CSV file into a dense {@code long[]} table with a slot for each of the
+ * {@literal 10^6} {@literal NPA-NXX} combinations, indexed by the {@literal 6-digit} {@link Integer} value
+ * ({@literal 503-555} is slot {@literal 503555}). Each slot packs indexes into pools of the distinct
+ * {@link String rate centers}, {@link String carriers} and {@link ZoneId time zones} along with
+ * the {@link PhoneNumber.Type}, so lookups are {@literal O(1)}, read a single array element
+ * and return shared instances without creating any {@link Object Objects}.
+ * <p>
+ * The CSV file contains 1 {@literal NPA-NXX} per line with the following columns:
+ * <pre>
+ * NPA,NXX,rate center,carrier,line type,time zone
+ * 503,555,PORTLAND,"Example Telephone Co., Inc.",LAND,America/Los_Angeles
+ * </pre>
+ * The line type is the {@link PhoneNumber.Type#getAbbreviation() abbreviation} or name of a {@link PhoneNumber.Type},
+ * or {@literal WIRELESS} or {@literal WIRELINE}. The time zone is an {@link ZoneId IANA time zone ID}.
+ * Any column but {@literal NPA} and {@literal NXX} may be blank. An optional header line is skipped.
+ * Fields containing commas may be enclosed in double quotes.
+ *
+ * @author John Blum
+ * @see java.time.ZoneId
+ * @see org.cp.domain.contact.phone.model.AreaCode
+ * @see org.cp.domain.contact.phone.model.ExchangeCode
+ * @see org.cp.domain.contact.phone.model.PhoneNumber.Type
+ * @see org.cp.domain.contact.phone.model.usa.support.StateAreaCodesRepository
+ * @since 0.4.0
+ */
+@ThreadSafe
+public class ExchangeCodeReferenceRepository {
+
+  public static final String DATA_LOCATION_PROPERTY = "cp.domain.contact.phone.usa.exchange-codes.location";
+
+  protected static final int COLUMN_COUNT = 6;
+  protected static final int MAXIMUM_CODE = 999;
+  protected static final int MINIMUM_CODE = 200;
+  protected static final int SLOT_COUNT = (MAXIMUM_CODE + 1) * (MAXIMUM_CODE + 1);
+
+  private static final int TYPE_BITS = 4;
+  private static final int TIME_ZONE_BITS = 8;
+  private static final int POOL_INDEX_BITS = 24;
+
+  private static final int TIME_ZONE_SHIFT = TYPE_BITS;
+  private static final int CARRIER_SHIFT = TIME_ZONE_SHIFT + TIME_ZONE_BITS;
+  private static final int RATE_CENTER_SHIFT = CARRIER_SHIFT + POOL_INDEX_BITS;
+
+  private static final long TYPE_MASK = (1L << TYPE_BITS) - 1;
+  private static final long TIME_ZONE_MASK = (1L << TIME_ZONE_BITS) - 1;
+  private static final long POOL_INDEX_MASK = (1L << POOL_INDEX_BITS) - 1;
+
+  private static final PhoneNumber.Type[] TYPES = PhoneNumber.Type.values();
+
+  private static final long[] EMPTY_TABLE = new long[0];
+
+  /**
+   * Gets a reference to the {@literal Singleton} instance of the {@link ExchangeCodeReferenceRepository}.
+   * <p>
+   * The reference data is loaded from the CSV file at the location configured with the {@link #DATA_LOCATION_PROPERTY}
+   * {@link System#getProperty(String) System property}. The repository is {@literal empty} when no location
+   * is configured.
+   *
+   * @return a reference to the {@literal Singleton} instance of the {@link ExchangeCodeReferenceRepository}.
+   */
+  public static @NotNull ExchangeCodeReferenceRepository getInstance() {
+    return ExchangeCodeReferenceRepositoryHolder.INSTANCE;
+  }
+
+  /**
+   * Factory method used to construct a new {@link ExchangeCodeReferenceRepository} from the reference data
+   * in the CSV file at the given, required {@link Path}.
+   *
+   * @param path {@link Path} to the CSV file; must not be {@literal null}.
+   * @return a new {@link ExchangeCodeReferenceRepository}.
+   * @throws IllegalArgumentException if the {@link Path} is {@literal null} or the CSV contains invalid
+   * or duplicate {@literal NPA-NXX} reference data.
+   * @throws IllegalStateException if the CSV file cannot be read.
+   * @see #load(Reader)
+   */
+  public static @NotNull ExchangeCodeReferenceRepository load(@NotNull Path path) {
+
+    Assert.notNull(path, "Path to the NPA-NXX reference data is required");
+
+    try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      return load(reader);
+    }
+    catch (IOException cause) {
+      throw newIllegalStateException(cause, "Failed to read NPA-NXX reference data [%s]", path);
+    }
+  }
+
+  /**
+   * Factory method used to construct a new {@link ExchangeCodeReferenceRepository} from the reference data
+   * in the CSV read from the given, required {@link Reader}.
+   *
+   * @param csv {@link Reader} used to read the CSV; must not be {@literal null}.
+   * @return a new {@link ExchangeCodeReferenceRepository}.
+   * @throws IllegalArgumentException if the {@link Reader} is {@literal null} or the CSV contains invalid
+   * or duplicate {@literal NPA-NXX} reference data.
+   * @throws IllegalStateException if the CSV cannot be read.
+   */
+  public static @NotNull ExchangeCodeReferenceRepository load(@NotNull Reader csv) {
+
+    Assert.notNull(csv, "Reader for the CSV is required");
+
+    BufferedReader reader = csv instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(csv);
+
+    Pool<String> rateCenters = new Pool<>();
+    Pool<String> carriers = new Pool<>();
+    Pool<ZoneId> timeZones = new Pool<>();
+
+    long[] table = new long[SLOT_COUNT];
+
+    int count = 0;
+    int lineNumber = 0;
+
+    try {
+      for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+
+        lineNumber++;
+
+        if (!line.isBlank() && !(lineNumber == 1 && isHeader(line))) {
+
+          List<String> fields = splitFields(line);
+
+          if (fields.size() != COLUMN_COUNT) {
+            throw newIllegalArgumentException("Line [%s] must contain [%s] fields; was [%s]",
+              lineNumber, COLUMN_COUNT, fields.size());
+          }
+
+          int slot = toSlot(fields.get(0), fields.get(1), lineNumber);
+
+          if (table[slot] != 0L) {
+            throw newIllegalArgumentException("NPA-NXX [%s-%s] on line [%s] is a duplicate",
+              fields.get(0), fields.get(1), lineNumber);
+          }
+
+          PhoneNumber.Type type = toType(fields.get(4), lineNumber);
+          ZoneId timeZone = toTimeZone(fields.get(5), lineNumber);
+
+          table[slot] = (long) rateCenters.indexOf(fields.get(2)) << RATE_CENTER_SHIFT
+            | (long) carriers.indexOf(fields.get(3)) << CARRIER_SHIFT
+            | (long) timeZones.indexOf(timeZone) << TIME_ZONE_SHIFT
+            | type.ordinal() + 1;
+
+          count++;
+        }
+      }
+    }
+    catch (IOException cause) {
+      throw newIllegalStateException(cause, "Failed to read NPA-NXX reference data");
+    }
+
+    Assert.isTrue(rateCenters.size() <= POOL_INDEX_MASK && carriers.size() <= POOL_INDEX_MASK
+      && timeZones.size() <= TIME_ZONE_MASK, "NPA-NXX reference data contains too many distinct values");
+
+    return new ExchangeCodeReferenceRepository(table, count, rateCenters.toArray(new String[0]),
+      carriers.toArray(new String[0]), timeZones.toArray(new ZoneId[0]));
+  }
+
+  private static @NotNull ExchangeCodeReferenceRepository loadDefault() {
+
+    String location = System.getProperty(DATA_LOCATION_PROPERTY);
+
+    return location != null && !location.isBlank()
+      ? load(Paths.get(location.trim()))
+      : new ExchangeCodeReferenceRepository(EMPTY_TABLE, 0, new String[0], new String[0], new ZoneId[0]);
+  }
+
+  private static boolean isHeader(@NotNull String line) {
+
+    String trimmedLine = line.trim();
+
+    if (trimmedLine.startsWith("\"")) {
+      trimmedLine = trimmedLine.substring(1);
+    }
+
+    return !trimmedLine.isEmpty() && !Character.isDigit(trimmedLine.charAt(0));
+  }
+
+  private static @NotNull List<String> splitFields(@NotNull String line) {
+
+    List<String> fields = new ArrayList<>(COLUMN_COUNT);
+    StringBuilder field = new StringBuilder();
+
+    boolean quoted = false;
+
+    for (int index = 0, length = line.length(); index < length; index++) {
+
+      char character = line.charAt(index);
+
+      if (character == '"') {
+        if (quoted && index + 1 < length && line.charAt(index + 1) == '"') {
+          field.append('"');
+          index++;
+        }
+        else {
+          quoted = !quoted;
+        }
+      }
+      else if (character == ',' && !quoted) {
+        fields.add(field.toString().trim());
+        field.setLength(0);
+      }
+      else {
+        field.append(character);
+      }
+    }
+
+    fields.add(field.toString().trim());
+
+    return fields;
+  }
+
+  private static int toCode(@NotNull String code) {
+
+    if (code.length() != 3) {
+      return -1;
+    }
+
+    int value = 0;
+
+    for (int index = 0; index < 3; index++) {
+
+      char digit = code.charAt(index);
+
+      if (digit < '0' || digit > '9') {
+        return -1;
+      }
+
+      value = value * 10 + (digit - '0');
+    }
+
+    return value;
+  }
+
+  private static int toSlot(int areaCode, int exchangeCode) {
+
+    return areaCode >= 0 && areaCode <= MAXIMUM_CODE && exchangeCode >= 0 && exchangeCode <= MAXIMUM_CODE
+      ? areaCode * (MAXIMUM_CODE + 1) + exchangeCode
+      : -1;
+  }
+
+  private static int toSlot(@NotNull String areaCode, @NotNull String exchangeCode, int lineNumber) {
+
+    int areaCodeValue = toCode(areaCode);
+    int exchangeCodeValue = toCode(exchangeCode);
+
+    int slot = toSlot(areaCodeValue, exchangeCodeValue);
+
+    if (slot < 0) {
+      throw newIllegalArgumentException("Line [%s] is not valid: NPA-NXX [%s-%s] must be two 3-digit numbers",
+        lineNumber, areaCode, exchangeCode);
+    }
+
+    // NANP NPAs and NXXs begin with the digits 2 through 9; AreaCode and ExchangeCode reject values below 100
+    if (areaCodeValue < MINIMUM_CODE || exchangeCodeValue < MINIMUM_CODE) {
+      throw newIllegalArgumentException("Line [%s] is not valid: NPA-NXX [%s-%s] must be between [%s] and [%s]",
+        lineNumber, areaCode, exchangeCode, MINIMUM_CODE, MAXIMUM_CODE);
+    }
+
+    return slot;
+  }
+
+  private static @NotNull PhoneNumber.Type toType(@NotNull String lineType, int lineNumber) {
+
+    if (lineType.isEmpty()) {
+      return PhoneNumber.Type.UNKNOWN;
+    }
+
+    PhoneNumber.Type type = PhoneNumber.Type.valueOfAbbreviation(lineType);
+
+    if (type != null) {
+      return type;
+    }
+
+    for (PhoneNumber.Type candidate : TYPES) {
+      if (candidate.name().equalsIgnoreCase(lineType)) {
+        return candidate;
+      }
+    }
+
+    if ("WIRELESS".equalsIgnoreCase(lineType)) {
+      return PhoneNumber.Type.CELL;
+    }
+    else if ("WIRELINE".equalsIgnoreCase(lineType)) {
+      return PhoneNumber.Type.LANDLINE;
+    }
+
+    throw newIllegalArgumentException("Line [%s] is not valid: line type [%s] is not a PhoneNumber.Type",
+      lineNumber, lineType);
+  }
+
+  private static @Nullable ZoneId toTimeZone(@NotNull String timeZone, int lineNumber) {
+
+    try {
+      return !timeZone.isEmpty() ? ZoneId.of(timeZone) : null;
+    }
+    catch (DateTimeException cause) {
+      throw newIllegalArgumentException(cause, "Line [%s] is not valid: time zone [%s] is not valid",
+        lineNumber, timeZone);
+    }
+  }
+
+  private final int count;
+
+  private final long[] table;
+
+  private final String[] carriers;
+  private final String[] rateCenters;
+
+  private final ZoneId[] timeZones;
+
+  /**
+   * Constructs a new {@link ExchangeCodeReferenceRepository} initialized with the packed {@literal NPA-NXX} table
+   * and pools of {@link String rate centers}, {@link String carriers} and {@link ZoneId time zones}.
+   *
+   * @param table dense, packed {@literal NPA-NXX} table; may be {@literal empty} if the repository is empty.
+   * @param count number of {@literal NPA-NXX} in the table.
+   * @param rateCenters pool of distinct {@link String rate centers}.
+   * @param carriers pool of distinct {@link String carriers}.
+   * @param timeZones pool of distinct {@link ZoneId time zones}.
+   */
+  protected ExchangeCodeReferenceRepository(@NotNull long[] table, int count, @NotNull String[] rateCenters,
+      @NotNull String[] carriers, @NotNull ZoneId[] timeZones) {
+
+    this.table = table;
+    this.count = count;
+    this.rateCenters = rateCenters;
+    this.carriers = carriers;
+    this.timeZones = timeZones;
+  }
+
+  /**
+   * Returns the number of {@literal NPA-NXX} in this repository.
+   *
+   * @return the number of {@literal NPA-NXX} in this repository.
+   */
+  public int count() {
+    return this.count;
+  }
+
+  /**
+   * Determines whether this repository contains reference data for the given {@literal NPA-NXX}.
+   *
+   * @param areaCode {@link Integer} value of the {@link AreaCode}, or {@literal NPA}.
+   * @param exchangeCode {@link Integer} value of the {@link ExchangeCode}, or {@literal NXX}.
+   * @return a boolean value indicating whether this repository contains reference data for the {@literal NPA-NXX}.
+   */
+  public boolean contains(int areaCode, int exchangeCode) {
+    return entryAt(toSlot(areaCode, exchangeCode)) != 0L;
+  }
+
+  /**
+   * Finds the reference data for the given {@link AreaCode} and {@link ExchangeCode}.
+   * <p>
+   * Unlike the {@literal getXxx(..)} methods, this method creates a new {@link ExchangeCodeReference}.
+   *
+   * @param areaCode {@link AreaCode} of the {@literal NPA-NXX}.
+   * @param exchangeCode {@link ExchangeCode} of the {@literal NPA-NXX}.
+   * @return an {@link Optional} {@link ExchangeCodeReference} for the given {@literal NPA-NXX}.
+   * @see ExchangeCodeReference
+   */
+  @NullSafe
+  public Optional<ExchangeCodeReference> findBy(@Nullable AreaCode areaCode, @Nullable ExchangeCode exchangeCode) {
+
+    int slot = toSlot(areaCode, exchangeCode);
+
+    return entryAt(slot) != 0L
+      ? Optional.of(new ExchangeCodeReference(slot / (MAXIMUM_CODE + 1), slot % (MAXIMUM_CODE + 1),
+          getRateCenter(slot), getCarrier(slot), getType(slot), getTimeZone(slot)))
+      : Optional.empty();
+  }
+
+  /**
+   * Gets the {@link String carrier} assigned the given {@literal NPA-NXX}.
+   *
+   * @param areaCode {@link Integer} value of the {@link AreaCode}, or {@literal NPA}.
+   * @param exchangeCode {@link Integer} value of the {@link ExchangeCode}, or {@literal NXX}.
+   * @return the shared {@link String carrier} assigned the {@literal NPA-NXX},
+   * or {@literal null} if the carrier is not known.
+   */
+  public @Nullable String getCarrier(int areaCode, int exchangeCode) {
+    return getCarrier(toSlot(areaCode, exchangeCode));
+  }
+
+  private @Nullable String getCarrier(int slot) {
+    return poolValue(this.carriers, entryAt(slot) >>> CARRIER_SHIFT & POOL_INDEX_MASK);
+  }
+
+  /**
+   * Gets the {@link String rate center} of the given {@literal NPA-NXX}.
+   *
+   * @param areaCode {@link Integer} value of the {@link AreaCode}, or {@literal NPA}.
+   * @param exchangeCode {@link Integer} value of the {@link ExchangeCode}, or {@literal NXX}.
+   * @return the shared {@link String rate center} of the {@literal NPA-NXX},
+   * or {@literal null} if the rate center is not known.
+   */
+  public @Nullable String getRateCenter(int areaCode, int exchangeCode) {
+    return getRateCenter(toSlot(areaCode, exchangeCode));
+  }
+
+  private @Nullable String getRateCenter(int slot) {
+    return poolValue(this.rateCenters, entryAt(slot) >>> RATE_CENTER_SHIFT & POOL_INDEX_MASK);
+  }
+
+  /**
+   * Gets the {@link ZoneId time zone} of the given {@literal NPA-NXX}.
+   *
+   * @param areaCode {@link Integer} value of the {@link AreaCode}, or {@literal NPA}.
+   * @param exchangeCode {@link Integer} value of the {@link ExchangeCode}, or {@literal NXX}.
+   * @return the shared {@link ZoneId time zone} of the {@literal NPA-NXX},
+   * or {@literal null} if the time zone is not known.
+   */
+  public @Nullable ZoneId getTimeZone(int areaCode, int exchangeCode) {
+    return getTimeZone(toSlot(areaCode, exchangeCode));
+  }
+
+  private @Nullable ZoneId getTimeZone(int slot) {
+    return poolValue(this.timeZones, entryAt(slot) >>> TIME_ZONE_SHIFT & TIME_ZONE_MASK);
+  }
+
+  /**
+   * Gets the line {@link PhoneNumber.Type} of the given {@literal NPA-NXX}.
+   *
+   * @param areaCode {@link Integer} value of the {@link AreaCode}, or {@literal NPA}.
+   * @param exchangeCode {@link Integer} value of the {@link ExchangeCode}, or {@literal NXX}.
+   * @return the line {@link PhoneNumber.Type} of the {@literal NPA-NXX}, or {@link PhoneNumber.Type#UNKNOWN}
+   * if the line type or the {@literal NPA-NXX} is not known.
+   */
+  public @NotNull PhoneNumber.Type getType(int areaCode, int exchangeCode) {
+    return getType(toSlot(areaCode, exchangeCode));
+  }
+
+  private @NotNull PhoneNumber.Type getType(int slot) {
+
+    int type = (int) (entryAt(slot) & TYPE_MASK);
+
+    return type > 0 ? TYPES[type - 1] : PhoneNumber.Type.UNKNOWN;
+  }
+
+  /**
+   * Infers the {@link PhoneNumber.Type} of the given {@link PhoneNumber} from the line type
+   * of its {@literal NPA-NXX}.
+   *
+   * @param phoneNumber {@link PhoneNumber} to evaluate.
+   * @return the line {@link PhoneNumber.Type} of the {@link PhoneNumber PhoneNumber's} {@literal NPA-NXX},
+   * or {@link PhoneNumber.Type#UNKNOWN} if the line type is not known or the {@link PhoneNumber} is {@literal null}.
+   * @see #getType(int, int)
+   */
+  @NullSafe
+  public @NotNull PhoneNumber.Type resolveType(@Nullable PhoneNumber phoneNumber) {
+
+    return phoneNumber != null
+      ? getType(toSlot(phoneNumber.getAreaCode(), phoneNumber.getExchangeCode()))
+      : PhoneNumber.Type.UNKNOWN;
+  }
+
+  /**
+   * Sets the {@link PhoneNumber.Type} of the given, required {@link PhoneNumber} to the
+   * {@link #resolveType(PhoneNumber) inferred} {@link PhoneNumber.Type} when the {@link PhoneNumber} does not
+   * already have a {@link PhoneNumber.Type} and the line type of its {@literal NPA-NXX} is known.
+   *
+   * @param <T> {@link Class concrete type} of {@link PhoneNumber}.
+   * @param phoneNumber {@link PhoneNumber} to evaluate; must not be {@literal null}.
+   * @return the given {@link PhoneNumber}.
+   * @throws IllegalArgumentException if the {@link PhoneNumber} is {@literal null}.
+   * @throws UnsupportedOperationException if the {@link PhoneNumber} does not support
+   * {@link PhoneNumber#setType(PhoneNumber.Type) setting} its {@link PhoneNumber.Type}.
+   * @see #resolveType(PhoneNumber)
+   */
+  public @NotNull <T extends PhoneNumber> T inferType(@NotNull T phoneNumber) {
+
+    Assert.notNull(phoneNumber, "PhoneNumber is required");
+
+    if (phoneNumber.getType().isEmpty()) {
+
+      PhoneNumber.Type type = resolveType(phoneNumber);
+
+      if (type != PhoneNumber.Type.UNKNOWN) {
+        phoneNumber.setType(type);
+      }
+    }
+
+    return phoneNumber;
+  }
+
+  private long entryAt(int slot) {
+    return slot > -1 && slot < this.table.length ? this.table[slot] : 0L;
+  }
+
+  private static @Nullable <T> T poolValue(@NotNull T[] pool, long index) {
+    return index > 0 ? pool[(int) index - 1] : null;
+  }
+
+  private static int toSlot(@Nullable AreaCode areaCode, @Nullable ExchangeCode exchangeCode) {
+
+    return areaCode != null && exchangeCode != null
+      ? toSlot(toCode(areaCode.getNumber()), toCode(exchangeCode.getNumber()))
+      : -1;
+  }
+
+  /**
+   * Pool of distinct values assigned {@literal 1-based} indexes in the order they are first added;
+   * {@literal 0} is the index of {@literal null} or blank values.
+   *
+   * @param <T> {@link Class type} of the pooled values.
+   */
+  private static final class Pool<T> {
+
+    private final List<T> values = new ArrayList<>();
+    private final Map<T, Integer> indexes = new HashMap<>();
+
+    int indexOf(@Nullable T value) {
+
+      if (value == null || (value instanceof String string && string.isEmpty())) {
+        return 0;
+      }
+
+      return this.indexes.computeIfAbsent(value, key -> {
+        this.values.add(key);
+        return this.values.size();
+      });
+    }
+
+    int size() {
+      return this.values.size();
+    }
+
+    T[] toArray(T[] array) {
+      return this.values.toArray(array);
+    }
+  }
+
+  /**
+   * Holder for the lazily loaded, {@literal Singleton} instance of the {@link ExchangeCodeReferenceRepository}.
+   */
+  private static final class ExchangeCodeReferenceRepositoryHolder {
+    private static final ExchangeCodeReferenceRepository INSTANCE = loadDefault();
+  }
+
+  /**
+   * Reference data for a single {@literal NPA-NXX}.
+   *
+   * @see org.cp.domain.contact.phone.model.AreaCode
+   * @see org.cp.domain.contact.phone.model.ExchangeCode
+   */
+  @Immutable
+  public static final class ExchangeCodeReference {
+
+    private final int areaCode;
+    private final int exchangeCode;
+
+    private final PhoneNumber.Type type;
+
+    private final String carrier;
+    private final String rateCenter;
+
+    private final ZoneId timeZone;
+
+    ExchangeCodeReference(int areaCode, int exchangeCode, @Nullable String rateCenter, @Nullable String carrier,
+        @NotNull PhoneNumber.Type type, @Nullable ZoneId timeZone) {
+
+      this.areaCode = areaCode;
+      this.exchangeCode = exchangeCode;
+      this.rateCenter = rateCenter;
+      this.carrier = carrier;
+      this.type = type;
+      this.timeZone = timeZone;
+    }
+
+    /**
+     * Returns the {@link AreaCode}, or {@literal NPA}.
+     *
+     * @return the {@link AreaCode}, or {@literal NPA}.
+     */
+    public @NotNull AreaCode getAreaCode() {
+      return AreaCode.of(this.areaCode);
+    }
+
+    /**
+     * Returns the {@link String carrier} assigned the {@literal NPA-NXX}.
+     *
+     * @return the {@link String carrier} assigned the {@literal NPA-NXX}, or {@literal null} if not known.
+     */
+    public @Nullable String getCarrier() {
+      return this.carrier;
+    }
+
+    /**
+     * Returns the {@link ExchangeCode}, or {@literal NXX}.
+     *
+     * @return the {@link ExchangeCode}, or {@literal NXX}.
+     */
+    public @NotNull ExchangeCode getExchangeCode() {
+      return ExchangeCode.of(this.exchangeCode);
+    }
+
+    /**
+     * Returns the {@link String rate center} of the {@literal NPA-NXX}.
+     *
+     * @return the {@link String rate center} of the {@literal NPA-NXX}, or {@literal null} if not known.
+     */
+    public @Nullable String getRateCenter() {
+      return this.rateCenter;
+    }
+
+    /**
+     * Returns the {@link ZoneId time zone} of the {@literal NPA-NXX}.
+     *
+     * @return the {@link ZoneId time zone} of the {@literal NPA-NXX}, or {@literal null} if not known.
+     */
+    public @Nullable ZoneId getTimeZone() {
+      return this.timeZone;
+    }
+
+    /**
+     * Returns the line {@link PhoneNumber.Type} of the {@literal NPA-NXX}.
+     *
+     * @return the line {@link PhoneNumber.Type} of the {@literal NPA-NXX}.
+     */
+    public @NotNull PhoneNumber.Type getType() {
+      return this.type;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%03d-%03d { rateCenter = %s, carrier = %s, type = %s, timeZone = %s }",
+        this.areaCode, this.exchangeCode, getRateCenter(), getCarrier(), getType(), getTimeZone());
+    }
+  }
+}
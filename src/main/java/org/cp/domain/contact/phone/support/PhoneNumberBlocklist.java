@@ -0,0 +1,867 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.contact.phone.support;
+
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalArgumentException;
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalStateException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.cp.domain.contact.phone.model.PackedPhoneNumber;
+import org.cp.domain.contact.phone.model.PhoneNumber;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+
+/**
+ * Immutable, compressed set of {@link PhoneNumber PhoneNumbers}, such as a {@literal do-not-call}
+ * or {@literal opt-out} list, used to screen {@link PhoneNumber PhoneNumbers} by their {@literal 10} digits.
+ * <p>
+ * Each {@link org.cp.domain.contact.phone.model.AreaCode} has its own {@literal roaring} bitmap over
+ * the {@literal 10^7} local numbers ({@link org.cp.domain.contact.phone.model.ExchangeCode}
+ * and {@link org.cp.domain.contact.phone.model.LineNumber}), split into chunks of {@literal 65536} numbers.
+ * A chunk holding at most {@literal 4096} numbers is stored as a sorted array of {@literal 16-bit} values,
+ * and otherwise as a {@literal 8 KB} bitmap, so sparse lists take about {@literal 2 bytes} per number
+ * and dense lists at most {@literal 1 bit} per number. Any
+ * {@link org.cp.domain.contact.phone.model.Extension} is ignored.
+ * <p>
+ * The whole {@link PhoneNumberBlocklist} is a single {@link ByteBuffer} in the same format as its file,
+ * so {@link #writeTo(Path) written} lists can be {@link #map(Path) memory-mapped} on restart without being rebuilt.
+ * The {@link ByteBuffer} is never modified once the {@link PhoneNumberBlocklist} is constructed, so
+ * {@link #contains(PhoneNumber)} can be called concurrently by any number of {@link Thread Threads} without locking.
+ *
+ * @author John Blum
+ * @see java.nio.ByteBuffer
+ * @see org.cp.domain.contact.phone.model.PackedPhoneNumber
+ * @see org.cp.domain.contact.phone.model.PhoneNumber
+ * @see <a href="https://roaringbitmap.org">Roaring Bitmaps</a>
+ * @since 0.4.0
+ */
+public final class PhoneNumberBlocklist {
+
+  static final int MAGIC = 0x43504E42;
+  static final int VERSION = 1;
+
+  private static final int AREA_CODES = 1_000;
+  private static final int LOCAL_NUMBERS = 10_000_000;
+  private static final int CHUNK_BITS = 16;
+  private static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+  private static final int CHUNKS_PER_AREA_CODE = ((LOCAL_NUMBERS - 1) >>> CHUNK_BITS) + 1;
+  private static final int MAXIMUM_ARRAY_CARDINALITY = 4_096;
+  private static final int BITMAP_LENGTH = 1 << (CHUNK_BITS - 6);
+
+  private static final int CARDINALITY_OFFSET = 8;
+  private static final int CONTAINER_COUNT_OFFSET = 16;
+  private static final int AREA_CODE_INDEX_OFFSET = 20;
+  private static final int DIRECTORY_OFFSET = AREA_CODE_INDEX_OFFSET + (AREA_CODES + 1) * Integer.BYTES;
+  private static final int DIRECTORY_ENTRY_LENGTH = 2 * Integer.BYTES;
+
+  private static final long PHONE_NUMBERS = (long) AREA_CODES * LOCAL_NUMBERS;
+
+  private static final PhoneNumberBlocklist EMPTY = encode(List.of());
+
+  /**
+   * Factory method used to construct a new {@link Builder} to add {@link PhoneNumber PhoneNumbers}
+   * to a {@link PhoneNumberBlocklist}.
+   *
+   * @return a new {@link Builder}.
+   * @see Builder
+   */
+  public static @NotNull Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns an empty {@link PhoneNumberBlocklist}.
+   *
+   * @return an empty {@link PhoneNumberBlocklist}.
+   */
+  public static @NotNull PhoneNumberBlocklist empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Bulk loads a {@link PhoneNumberBlocklist} from the given, required text file containing one
+   * {@link PhoneNumber} per line in any format accepted by {@link PhoneNumber#parse(CharSequence)}.
+   * <p>
+   * Blank lines and lines beginning with {@literal #} are ignored.
+   *
+   * @param path {@link Path} to the text file; must not be {@literal null}.
+   * @return a new {@link PhoneNumberBlocklist} containing the {@link PhoneNumber PhoneNumbers} in the file.
+   * @throws IllegalArgumentException if the {@link Path} is {@literal null}
+   * or a line in the file is not a valid {@link PhoneNumber}.
+   * @throws IllegalStateException if the file cannot be read.
+   * @see Builder#addAll(Path)
+   */
+  public static @NotNull PhoneNumberBlocklist load(@NotNull Path path) {
+    return builder().addAll(path).build();
+  }
+
+  /**
+   * Memory-maps the given, required file {@link #writeTo(Path) written} by a {@link PhoneNumberBlocklist}.
+   * <p>
+   * The file must not be modified while the returned {@link PhoneNumberBlocklist} is in use.
+   *
+   * @param path {@link Path} to the file; must not be {@literal null}.
+   * @return a {@link PhoneNumberBlocklist} backed by the memory-mapped file.
+   * @throws IllegalArgumentException if the {@link Path} is {@literal null}.
+   * @throws IllegalStateException if the file cannot be mapped or is not a {@link PhoneNumberBlocklist}.
+   * @see #writeTo(Path)
+   */
+  public static @NotNull PhoneNumberBlocklist map(@NotNull Path path) {
+
+    Assert.notNull(path, "Path is required");
+
+    try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+      long length = fileChannel.size();
+
+      if (length < DIRECTORY_OFFSET || length > Integer.MAX_VALUE) {
+        throw newIllegalStateException("File [%s] is not a PhoneNumberBlocklist", path);
+      }
+
+      ByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+
+      if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION
+          || DIRECTORY_OFFSET + (long) buffer.getInt(CONTAINER_COUNT_OFFSET) * DIRECTORY_ENTRY_LENGTH > length) {
+
+        throw newIllegalStateException("File [%s] is not a PhoneNumberBlocklist", path);
+      }
+
+      return new PhoneNumberBlocklist(buffer);
+    }
+    catch (IOException cause) {
+      throw newIllegalStateException(cause, "Failed to map PhoneNumberBlocklist [%s]", path);
+    }
+  }
+
+  private static int chunkKey(int areaCode, int chunk) {
+    return areaCode * CHUNKS_PER_AREA_CODE + chunk;
+  }
+
+  private static @NotNull PhoneNumberBlocklist encode(@NotNull List<Container> containers) {
+
+    long length = DIRECTORY_OFFSET + (long) containers.size() * DIRECTORY_ENTRY_LENGTH;
+    long cardinality = 0L;
+
+    for (Container container : containers) {
+      length += container.length();
+      cardinality += container.cardinality();
+    }
+
+    Assert.state(length <= Integer.MAX_VALUE, "PhoneNumberBlocklist size [%s] exceeds 2 GB", length);
+
+    ByteBuffer buffer = ByteBuffer.allocate((int) length);
+
+    buffer.putInt(0, MAGIC);
+    buffer.putInt(Integer.BYTES, VERSION);
+    buffer.putLong(CARDINALITY_OFFSET, cardinality);
+    buffer.putInt(CONTAINER_COUNT_OFFSET, containers.size());
+
+    int areaCode = 0;
+    int directoryEntry = DIRECTORY_OFFSET;
+    int offset = DIRECTORY_OFFSET + containers.size() * DIRECTORY_ENTRY_LENGTH;
+
+    for (int index = 0, size = containers.size(); index < size; index++) {
+
+      Container container = containers.get(index);
+
+      while (areaCode <= container.areaCode()) {
+        buffer.putInt(AREA_CODE_INDEX_OFFSET + areaCode++ * Integer.BYTES, index);
+      }
+
+      buffer.putInt(directoryEntry, container.chunk() << CHUNK_BITS | container.cardinality() - 1);
+      buffer.putInt(directoryEntry + Integer.BYTES, offset);
+      directoryEntry += DIRECTORY_ENTRY_LENGTH;
+      offset = container.writeTo(buffer, offset);
+    }
+
+    while (areaCode <= AREA_CODES) {
+      buffer.putInt(AREA_CODE_INDEX_OFFSET + areaCode++ * Integer.BYTES, containers.size());
+    }
+
+    return new PhoneNumberBlocklist(buffer.asReadOnlyBuffer());
+  }
+
+  private static long toDigits(@NotNull PhoneNumber phoneNumber) {
+
+    return phoneNumber instanceof PackedPhoneNumber packedPhoneNumber
+      ? PackedPhoneNumber.toDigits(packedPhoneNumber.longValue())
+      : toDigits(phoneNumber.getAreaCode().getNumber()) * LOCAL_NUMBERS
+        + toDigits(phoneNumber.getExchangeCode().getNumber()) * 10_000L
+        + toDigits(phoneNumber.getLineNumber().getNumber());
+  }
+
+  private static long toDigits(@NotNull String number) {
+
+    long value = 0L;
+
+    for (int index = 0, length = number.length(); index < length; index++) {
+      value = value * 10 + Character.digit(number.charAt(index), 10);
+    }
+
+    return value;
+  }
+
+  private final ByteBuffer buffer;
+
+  private PhoneNumberBlocklist(@NotNull ByteBuffer buffer) {
+    this.buffer = buffer;
+  }
+
+  /**
+   * Determines whether this {@link PhoneNumberBlocklist} is empty.
+   *
+   * @return a boolean value indicating whether this {@link PhoneNumberBlocklist} is empty.
+   * @see #cardinality()
+   */
+  public boolean isEmpty() {
+    return cardinality() == 0L;
+  }
+
+  /**
+   * Returns the number of {@link PhoneNumber PhoneNumbers} in this {@link PhoneNumberBlocklist}.
+   *
+   * @return the number of {@link PhoneNumber PhoneNumbers} in this {@link PhoneNumberBlocklist}.
+   */
+  public long cardinality() {
+    return this.buffer.getLong(CARDINALITY_OFFSET);
+  }
+
+  /**
+   * Determines whether this {@link PhoneNumberBlocklist} contains the given {@link PhoneNumber}.
+   *
+   * @param phoneNumber {@link PhoneNumber} to screen.
+   * @return a boolean value indicating whether this {@link PhoneNumberBlocklist} contains
+   * the given {@link PhoneNumber}; {@literal false} if the {@link PhoneNumber} is {@literal null}.
+   */
+  public boolean contains(@Nullable PhoneNumber phoneNumber) {
+    return phoneNumber != null && containsDigits(toDigits(phoneNumber));
+  }
+
+  /**
+   * Determines whether this {@link PhoneNumberBlocklist} contains the given
+   * {@link PackedPhoneNumber packed phone number}.
+   *
+   * @param phoneNumber {@link PackedPhoneNumber packed phone number} to screen.
+   * @return a boolean value indicating whether this {@link PhoneNumberBlocklist} contains
+   * the given {@link PackedPhoneNumber packed phone number}.
+   * @see org.cp.domain.contact.phone.model.PackedPhoneNumber#toDigits(long)
+   */
+  public boolean contains(long phoneNumber) {
+    return PackedPhoneNumber.isValid(phoneNumber) && containsDigits(PackedPhoneNumber.toDigits(phoneNumber));
+  }
+
+  /**
+   * Determines whether this {@link PhoneNumberBlocklist} contains the {@link PhoneNumber} with the given digits
+   * without creating a {@link PhoneNumber}.
+   *
+   * @param phoneNumber {@link CharSequence} containing the digits of the {@link PhoneNumber} to screen.
+   * @return a boolean value indicating whether this {@link PhoneNumberBlocklist} contains the {@link PhoneNumber};
+   * {@literal false} if the {@link CharSequence} is not a valid {@link PhoneNumber}.
+   * @see org.cp.domain.contact.phone.model.PackedPhoneNumber#pack(CharSequence)
+   */
+  public boolean contains(@Nullable CharSequence phoneNumber) {
+    return contains(PackedPhoneNumber.pack(phoneNumber));
+  }
+
+  private boolean containsDigits(long digits) {
+
+    if (digits < 0L || digits >= PHONE_NUMBERS) {
+      return false;
+    }
+
+    ByteBuffer buffer = this.buffer;
+
+    int areaCode = (int) (digits / LOCAL_NUMBERS);
+    int localNumber = (int) (digits % LOCAL_NUMBERS);
+    int chunk = localNumber >>> CHUNK_BITS;
+    int value = localNumber & CHUNK_MASK;
+
+    int low = buffer.getInt(AREA_CODE_INDEX_OFFSET + areaCode * Integer.BYTES);
+    int high = buffer.getInt(AREA_CODE_INDEX_OFFSET + (areaCode + 1) * Integer.BYTES) - 1;
+
+    while (low <= high) {
+
+      int middle = (low + high) >>> 1;
+      int directoryEntry = DIRECTORY_OFFSET + middle * DIRECTORY_ENTRY_LENGTH;
+      int entry = buffer.getInt(directoryEntry);
+      int middleChunk = entry >>> CHUNK_BITS;
+
+      if (middleChunk < chunk) {
+        low = middle + 1;
+      }
+      else if (middleChunk > chunk) {
+        high = middle - 1;
+      }
+      else {
+        return containsValue(buffer.getInt(directoryEntry + Integer.BYTES), (entry & CHUNK_MASK) + 1, value);
+      }
+    }
+
+    return false;
+  }
+
+  private boolean containsValue(int offset, int cardinality, int value) {
+
+    ByteBuffer buffer = this.buffer;
+
+    if (cardinality > MAXIMUM_ARRAY_CARDINALITY) {
+      return (buffer.getLong(offset + (value >>> 6) * Long.BYTES) & 1L << value) != 0L;
+    }
+
+    int low = 0;
+    int high = cardinality - 1;
+
+    while (low <= high) {
+
+      int middle = (low + high) >>> 1;
+      int middleValue = buffer.getChar(offset + middle * Character.BYTES);
+
+      if (middleValue < value) {
+        low = middle + 1;
+      }
+      else if (middleValue > value) {
+        high = middle - 1;
+      }
+      else {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns a new {@link PhoneNumberBlocklist} containing the {@link PhoneNumber PhoneNumbers}
+   * in both this and the given, required {@link PhoneNumberBlocklist}.
+   *
+   * @param that {@link PhoneNumberBlocklist} to intersect with this {@link PhoneNumberBlocklist};
+   * must not be {@literal null}.
+   * @return a new {@link PhoneNumberBlocklist} containing the {@link PhoneNumber PhoneNumbers} in both lists.
+   * @throws IllegalArgumentException if the given {@link PhoneNumberBlocklist} is {@literal null}.
+   * @see #union(PhoneNumberBlocklist)
+   */
+  public @NotNull PhoneNumberBlocklist intersection(@NotNull PhoneNumberBlocklist that) {
+
+    Assert.notNull(that, "PhoneNumberBlocklist to intersect is required");
+
+    List<Container> containers = new ArrayList<>();
+
+    int thisIndex = 0;
+    int thatIndex = 0;
+
+    while (thisIndex < this.containerCount() && thatIndex < that.containerCount()) {
+
+      int thisKey = this.chunkKeyAt(thisIndex);
+      int thatKey = that.chunkKeyAt(thatIndex);
+
+      if (thisKey < thatKey) {
+        thisIndex++;
+      }
+      else if (thisKey > thatKey) {
+        thatIndex++;
+      }
+      else {
+
+        Container container = this.containerAt(thisIndex++).and(that.containerAt(thatIndex++));
+
+        if (container != null) {
+          containers.add(container);
+        }
+      }
+    }
+
+    return encode(containers);
+  }
+
+  /**
+   * Returns a new {@link PhoneNumberBlocklist} containing the {@link PhoneNumber PhoneNumbers}
+   * in either this or the given, required {@link PhoneNumberBlocklist}.
+   *
+   * @param that {@link PhoneNumberBlocklist} to union with this {@link PhoneNumberBlocklist};
+   * must not be {@literal null}.
+   * @return a new {@link PhoneNumberBlocklist} containing the {@link PhoneNumber PhoneNumbers} in either list.
+   * @throws IllegalArgumentException if the given {@link PhoneNumberBlocklist} is {@literal null}.
+   * @see #intersection(PhoneNumberBlocklist)
+   */
+  public @NotNull PhoneNumberBlocklist union(@NotNull PhoneNumberBlocklist that) {
+
+    Assert.notNull(that, "PhoneNumberBlocklist to union is required");
+
+    List<Container> containers = new ArrayList<>();
+
+    int thisIndex = 0;
+    int thatIndex = 0;
+
+    while (thisIndex < this.containerCount() || thatIndex < that.containerCount()) {
+
+      int thisKey = thisIndex < this.containerCount() ? this.chunkKeyAt(thisIndex) : Integer.MAX_VALUE;
+      int thatKey = thatIndex < that.containerCount() ? that.chunkKeyAt(thatIndex) : Integer.MAX_VALUE;
+
+      if (thisKey < thatKey) {
+        containers.add(this.containerAt(thisIndex++));
+      }
+      else if (thisKey > thatKey) {
+        containers.add(that.containerAt(thatIndex++));
+      }
+      else {
+        containers.add(this.containerAt(thisIndex++).or(that.containerAt(thatIndex++)));
+      }
+    }
+
+    return encode(containers);
+  }
+
+  private int containerCount() {
+    return this.buffer.getInt(CONTAINER_COUNT_OFFSET);
+  }
+
+  private int areaCodeAt(int index) {
+
+    ByteBuffer buffer = this.buffer;
+
+    int low = 0;
+    int high = AREA_CODES - 1;
+
+    // Find the last AreaCode whose first container is at or before the given index
+    while (low < high) {
+
+      int middle = (low + high + 1) >>> 1;
+
+      if (buffer.getInt(AREA_CODE_INDEX_OFFSET + middle * Integer.BYTES) <= index) {
+        low = middle;
+      }
+      else {
+        high = middle - 1;
+      }
+    }
+
+    return low;
+  }
+
+  private int chunkKeyAt(int index) {
+    return chunkKey(areaCodeAt(index), this.buffer.getInt(DIRECTORY_OFFSET + index * DIRECTORY_ENTRY_LENGTH)
+      >>> CHUNK_BITS);
+  }
+
+  private @NotNull Container containerAt(int index) {
+
+    ByteBuffer buffer = this.buffer;
+
+    int directoryEntry = DIRECTORY_OFFSET + index * DIRECTORY_ENTRY_LENGTH;
+    int entry = buffer.getInt(directoryEntry);
+    int offset = buffer.getInt(directoryEntry + Integer.BYTES);
+    int cardinality = (entry & CHUNK_MASK) + 1;
+
+    if (cardinality > MAXIMUM_ARRAY_CARDINALITY) {
+
+      long[] bitmap = new long[BITMAP_LENGTH];
+
+      buffer.duplicate().position(offset).asLongBuffer().get(bitmap);
+
+      return Container.bitmap(areaCodeAt(index), entry >>> CHUNK_BITS, bitmap);
+    }
+
+    char[] values = new char[cardinality];
+
+    buffer.duplicate().position(offset).asCharBuffer().get(values);
+
+    return Container.array(areaCodeAt(index), entry >>> CHUNK_BITS, values);
+  }
+
+  /**
+   * Writes this {@link PhoneNumberBlocklist} to the given, required file, which can later be
+   * {@link #map(Path) memory-mapped}. An existing file is replaced.
+   *
+   * @param path {@link Path} to the file; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link Path} is {@literal null}.
+   * @throws IllegalStateException if the file cannot be written.
+   * @see #map(Path)
+   */
+  public void writeTo(@NotNull Path path) {
+
+    Assert.notNull(path, "Path is required");
+
+    try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+      ByteBuffer buffer = this.buffer.duplicate().clear();
+
+      while (buffer.hasRemaining()) {
+        fileChannel.write(buffer);
+      }
+    }
+    catch (IOException cause) {
+      throw newIllegalStateException(cause, "Failed to write PhoneNumberBlocklist [%s]", path);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s { cardinality = %d, containers = %d }", getClass().getSimpleName(), cardinality(),
+      containerCount());
+  }
+
+  /**
+   * Chunk of up to {@literal 65536} local numbers in an {@link org.cp.domain.contact.phone.model.AreaCode}
+   * stored as either a sorted array of values or a bitmap.
+   */
+  private record Container(int areaCode, int chunk, int cardinality, char[] values, long[] bitmap) {
+
+    static @NotNull Container array(int areaCode, int chunk, char[] values) {
+      return new Container(areaCode, chunk, values.length, values, null);
+    }
+
+    static @NotNull Container bitmap(int areaCode, int chunk, long[] bitmap) {
+
+      int cardinality = 0;
+
+      for (long word : bitmap) {
+        cardinality += Long.bitCount(word);
+      }
+
+      if (cardinality > MAXIMUM_ARRAY_CARDINALITY) {
+        return new Container(areaCode, chunk, cardinality, null, bitmap);
+      }
+
+      char[] values = new char[cardinality];
+      int index = 0;
+
+      for (int wordIndex = 0; wordIndex < bitmap.length; wordIndex++) {
+        for (long word = bitmap[wordIndex]; word != 0L; word &= word - 1) {
+          values[index++] = (char) (wordIndex << 6 | Long.numberOfTrailingZeros(word));
+        }
+      }
+
+      return array(areaCode, chunk, values);
+    }
+
+    boolean isBitmap() {
+      return bitmap() != null;
+    }
+
+    int length() {
+      return isBitmap() ? BITMAP_LENGTH * Long.BYTES : cardinality() * Character.BYTES;
+    }
+
+    boolean contains(int value) {
+      return isBitmap()
+        ? (bitmap()[value >>> 6] & 1L << value) != 0L
+        : Arrays.binarySearch(values(), (char) value) > -1;
+    }
+
+    @Nullable Container and(@NotNull Container that) {
+
+      if (this.isBitmap() && that.isBitmap()) {
+
+        long[] bitmap = new long[BITMAP_LENGTH];
+        boolean empty = true;
+
+        for (int index = 0; index < BITMAP_LENGTH; index++) {
+          bitmap[index] = this.bitmap()[index] & that.bitmap()[index];
+          empty &= bitmap[index] == 0L;
+        }
+
+        return empty ? null : bitmap(areaCode(), chunk(), bitmap);
+      }
+
+      Container array = this.isBitmap() ? that : this;
+      Container other = array == this ? that : this;
+
+      char[] values = new char[array.cardinality()];
+      int length = 0;
+
+      for (char value : array.values()) {
+        if (other.contains(value)) {
+          values[length++] = value;
+        }
+      }
+
+      return length > 0 ? array(areaCode(), chunk(), Arrays.copyOf(values, length)) : null;
+    }
+
+    @NotNull Container or(@NotNull Container that) {
+
+      if (!this.isBitmap() && !that.isBitmap()
+          && this.cardinality() + that.cardinality() <= MAXIMUM_ARRAY_CARDINALITY) {
+
+        char[] values = new char[this.cardinality() + that.cardinality()];
+        int length = 0;
+        int thisIndex = 0;
+        int thatIndex = 0;
+
+        while (thisIndex < this.cardinality() || thatIndex < that.cardinality()) {
+
+          int thisValue = thisIndex < this.cardinality() ? this.values()[thisIndex] : Integer.MAX_VALUE;
+          int thatValue = thatIndex < that.cardinality() ? that.values()[thatIndex] : Integer.MAX_VALUE;
+
+          if (thisValue <= thatValue) {
+            thisIndex++;
+          }
+
+          if (thatValue <= thisValue) {
+            thatIndex++;
+          }
+
+          values[length++] = (char) Math.min(thisValue, thatValue);
+        }
+
+        return array(areaCode(), chunk(), Arrays.copyOf(values, length));
+      }
+
+      long[] bitmap = this.toBitmap();
+
+      if (that.isBitmap()) {
+        for (int index = 0; index < BITMAP_LENGTH; index++) {
+          bitmap[index] |= that.bitmap()[index];
+        }
+      }
+      else {
+        for (char value : that.values()) {
+          bitmap[value >>> 6] |= 1L << value;
+        }
+      }
+
+      return bitmap(areaCode(), chunk(), bitmap);
+    }
+
+    long[] toBitmap() {
+
+      if (isBitmap()) {
+        return bitmap().clone();
+      }
+
+      long[] bitmap = new long[BITMAP_LENGTH];
+
+      for (char value : values()) {
+        bitmap[value >>> 6] |= 1L << value;
+      }
+
+      return bitmap;
+    }
+
+    int writeTo(@NotNull ByteBuffer buffer, int offset) {
+
+      if (isBitmap()) {
+        buffer.duplicate().position(offset).asLongBuffer().put(bitmap());
+      }
+      else {
+        buffer.duplicate().position(offset).asCharBuffer().put(values());
+      }
+
+      return offset + length();
+    }
+  }
+
+  /**
+   * Builder used to add {@link PhoneNumber PhoneNumbers} to a new {@link PhoneNumberBlocklist}.
+   * <p>
+   * Each chunk collects its values in an array until it reaches {@literal 4096} values, after which
+   * it switches to a bitmap, so building a list takes little more memory than the finished list.
+   * The {@link Builder} is not Thread-safe.
+   *
+   * @see org.cp.elements.lang.Builder
+   */
+  public static final class Builder implements org.cp.elements.lang.Builder<PhoneNumberBlocklist> {
+
+    private static final int INITIAL_ARRAY_LENGTH = 4;
+
+    private final char[][] arrays = new char[AREA_CODES * CHUNKS_PER_AREA_CODE][];
+    private final int[] arrayLengths = new int[AREA_CODES * CHUNKS_PER_AREA_CODE];
+    private final long[][] bitmaps = new long[AREA_CODES * CHUNKS_PER_AREA_CODE][];
+
+    private Builder() { }
+
+    /**
+     * Adds the given, required {@link PhoneNumber} to the {@link PhoneNumberBlocklist}.
+     *
+     * @param phoneNumber {@link PhoneNumber} to add; must not be {@literal null}.
+     * @return this {@link Builder}.
+     * @throws IllegalArgumentException if the {@link PhoneNumber} is {@literal null}.
+     */
+    public @NotNull Builder add(@NotNull PhoneNumber phoneNumber) {
+
+      Assert.notNull(phoneNumber, "PhoneNumber is required");
+
+      return addDigits(toDigits(phoneNumber));
+    }
+
+    /**
+     * Adds the given {@link PackedPhoneNumber packed phone number} to the {@link PhoneNumberBlocklist}.
+     *
+     * @param phoneNumber {@link PackedPhoneNumber packed phone number} to add.
+     * @return this {@link Builder}.
+     * @throws IllegalArgumentException if the {@link Long value} is not a valid
+     * {@link PackedPhoneNumber packed phone number}.
+     */
+    public @NotNull Builder add(long phoneNumber) {
+
+      PhoneNumberHashing.requireValid(phoneNumber);
+
+      return addDigits(PackedPhoneNumber.toDigits(phoneNumber));
+    }
+
+    /**
+     * Adds the {@link PhoneNumber} with the given digits to the {@link PhoneNumberBlocklist}.
+     *
+     * @param phoneNumber {@link CharSequence} containing the digits of the {@link PhoneNumber} to add.
+     * @return this {@link Builder}.
+     * @throws IllegalArgumentException if the {@link CharSequence} is not a valid {@link PhoneNumber}.
+     * @see PackedPhoneNumber#parse(CharSequence)
+     */
+    public @NotNull Builder add(@Nullable CharSequence phoneNumber) {
+      return addDigits(PackedPhoneNumber.toDigits(PackedPhoneNumber.parse(phoneNumber).longValue()));
+    }
+
+    /**
+     * Adds all the {@link PhoneNumber PhoneNumbers} in the given, required text file, one per line,
+     * to the {@link PhoneNumberBlocklist}. Blank lines and lines beginning with {@literal #} are ignored.
+     *
+     * @param path {@link Path} to the text file; must not be {@literal null}.
+     * @return this {@link Builder}.
+     * @throws IllegalArgumentException if the {@link Path} is {@literal null}
+     * or a line in the file is not a valid {@link PhoneNumber}.
+     * @throws IllegalStateException if the file cannot be read.
+     */
+    public @NotNull Builder addAll(@NotNull Path path) {
+
+      Assert.notNull(path, "Path is required");
+
+      try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+
+        int lineNumber = 0;
+
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+
+          lineNumber++;
+
+          String phoneNumber = line.strip();
+
+          if (!phoneNumber.isEmpty() && phoneNumber.charAt(0) != '#') {
+
+            long packedPhoneNumber = PackedPhoneNumber.pack(phoneNumber);
+
+            if (packedPhoneNumber == PackedPhoneNumber.INVALID) {
+              throw newIllegalArgumentException("Phone Number [%s] on line [%d] of file [%s] is not valid",
+                phoneNumber, lineNumber, path);
+            }
+
+            addDigits(PackedPhoneNumber.toDigits(packedPhoneNumber));
+          }
+        }
+
+        return this;
+      }
+      catch (IOException cause) {
+        throw newIllegalStateException(cause, "Failed to read phone numbers from file [%s]", path);
+      }
+    }
+
+    private @NotNull Builder addDigits(long digits) {
+
+      int localNumber = (int) (digits % LOCAL_NUMBERS);
+      int key = chunkKey((int) (digits / LOCAL_NUMBERS), localNumber >>> CHUNK_BITS);
+      char value = (char) (localNumber & CHUNK_MASK);
+
+      long[] bitmap = this.bitmaps[key];
+
+      if (bitmap != null) {
+        bitmap[value >>> 6] |= 1L << value;
+        return this;
+      }
+
+      char[] array = this.arrays[key];
+      int length = this.arrayLengths[key];
+
+      if (array == null) {
+        array = this.arrays[key] = new char[INITIAL_ARRAY_LENGTH];
+      }
+      else if (length == array.length) {
+
+        if (length >= MAXIMUM_ARRAY_CARDINALITY) {
+
+          bitmap = this.bitmaps[key] = new long[BITMAP_LENGTH];
+
+          for (char element : array) {
+            bitmap[element >>> 6] |= 1L << element;
+          }
+
+          bitmap[value >>> 6] |= 1L << value;
+          this.arrays[key] = null;
+          this.arrayLengths[key] = 0;
+
+          return this;
+        }
+
+        array = this.arrays[key] = Arrays.copyOf(array, Math.min(length * 2, MAXIMUM_ARRAY_CARDINALITY));
+      }
+
+      array[length] = value;
+      this.arrayLengths[key] = length + 1;
+
+      return this;
+    }
+
+    /**
+     * Builds a new, immutable {@link PhoneNumberBlocklist} containing the added {@link PhoneNumber PhoneNumbers}.
+     *
+     * @return a new {@link PhoneNumberBlocklist}.
+     */
+    @Override
+    public @NotNull PhoneNumberBlocklist build() {
+
+      List<Container> containers = new ArrayList<>();
+
+      for (int key = 0; key < this.arrays.length; key++) {
+
+        int areaCode = key / CHUNKS_PER_AREA_CODE;
+        int chunk = key % CHUNKS_PER_AREA_CODE;
+
+        if (this.bitmaps[key] != null) {
+          containers.add(Container.bitmap(areaCode, chunk, this.bitmaps[key].clone()));
+        }
+        else if (this.arrays[key] != null) {
+
+          char[] values = Arrays.copyOf(this.arrays[key], this.arrayLengths[key]);
+          int length = 0;
+
+          Arrays.sort(values);
+
+          for (int index = 0; index < values.length; index++) {
+            if (index == 0 || values[index] != values[index - 1]) {
+              values[length++] = values[index];
+            }
+          }
+
+          containers.add(Container.array(areaCode, chunk, Arrays.copyOf(values, length)));
+        }
+      }
+
+      return encode(containers);
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.contact.phone.support;
+
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalArgumentException;
+
+import org.cp.domain.contact.phone.model.PackedPhoneNumber;
+import org.cp.elements.lang.Assert;
+
+/**
+ * Hashing and sizing functions shared by the open-addressing hash tables of
+ * {@link PackedPhoneNumber packed phone numbers}.
+ * <p>
+ * Phone numbers are highly clustered, for example, consecutive {@literal line numbers} in the same
+ * {@literal exchange}, so the packed {@link Long long} is scrambled with the {@literal MurmurHash3} finalizer
+ * before being reduced to a slot with a power of 2 mask. Packed phone numbers are never negative,
+ * so {@link #EMPTY} marks an empty slot and no separate array of slot states is needed.
+ *
+ * @author John Blum
+ * @see org.cp.domain.contact.phone.model.PackedPhoneNumber
+ * @see org.cp.domain.contact.phone.support.PhoneNumberMap
+ * @see org.cp.domain.contact.phone.support.PhoneNumberSet
+ * @since 0.4.0
+ */
+final class PhoneNumberHashing {
+
+  static final int DEFAULT_EXPECTED_SIZE = 16;
+  static final int MAXIMUM_CAPACITY = 1 << 30;
+
+  static final long EMPTY = -1L;
+
+  private PhoneNumberHashing() { }
+
+  /**
+   * Computes the power of 2 capacity of a hash table holding the given number of phone numbers
+   * without exceeding a load factor of {@literal 0.75}.
+   *
+   * @param expectedSize number of phone numbers expected to be stored.
+   * @return the power of 2 capacity of the hash table.
+   * @throws IllegalArgumentException if the expected size is negative or too large.
+   */
+  static int capacityFor(int expectedSize) {
+
+    Assert.isTrue(expectedSize >= 0, "Expected size [%s] must be greater than or equal to 0", expectedSize);
+
+    long minimumCapacity = Math.max(expectedSize * 4L / 3L + 1L, 2L);
+    long capacity = Long.highestOneBit(minimumCapacity - 1L) << 1;
+
+    Assert.isTrue(capacity <= MAXIMUM_CAPACITY, "Expected size [%s] exceeds the maximum capacity", expectedSize);
+
+    return (int) capacity;
+  }
+
+  /**
+   * Returns the maximum number of phone numbers stored in a hash table of the given capacity before it grows.
+   *
+   * @param capacity power of 2 capacity of the hash table.
+   * @return the maximum number of phone numbers stored in the hash table before it grows.
+   */
+  static int resizeThresholdFor(int capacity) {
+    return capacity < MAXIMUM_CAPACITY ? capacity / 4 * 3 : MAXIMUM_CAPACITY - 1;
+  }
+
+  /**
+   * Returns the capacity of a hash table grown from the given capacity.
+   *
+   * @param capacity current power of 2 capacity of the hash table.
+   * @return the capacity of a hash table grown from the given capacity.
+   * @throws IllegalStateException if the hash table cannot grow.
+   */
+  static int grow(int capacity) {
+    Assert.state(capacity < MAXIMUM_CAPACITY, "Maximum capacity [%s] was exceeded", MAXIMUM_CAPACITY);
+    return capacity << 1;
+  }
+
+  /**
+   * Returns the home slot of the given {@link PackedPhoneNumber packed phone number}.
+   *
+   * @param phoneNumber {@link PackedPhoneNumber packed phone number}.
+   * @param mask capacity of the hash table minus 1.
+   * @return the home slot of the given {@link PackedPhoneNumber packed phone number}.
+   */
+  static int slotOf(long phoneNumber, int mask) {
+
+    long hash = phoneNumber;
+
+    hash ^= hash >>> 33;
+    hash *= 0xFF51AFD7ED558CCDL;
+    hash ^= hash >>> 33;
+    hash *= 0xC4CEB9FE1A85EC53L;
+    hash ^= hash >>> 33;
+
+    return (int) hash & mask;
+  }
+
+  /**
+   * Asserts the given {@link Long value} is a valid {@link PackedPhoneNumber packed phone number}.
+   *
+   * @param phoneNumber {@link Long value} to evaluate.
+   * @return the given {@link Long value}.
+   * @throws IllegalArgumentException if the given {@link Long value} is not
+   * a valid {@link PackedPhoneNumber packed phone number}.
+   * @see org.cp.domain.contact.phone.model.PackedPhoneNumber#isValid(long)
+   */
+  static long requireValid(long phoneNumber) {
+
+    if (!PackedPhoneNumber.isValid(phoneNumber)) {
+      throw newIllegalArgumentException("Packed phone number [%s] is not valid", phoneNumber);
+    }
+
+    return phoneNumber;
+  }
+}
@@ -0,0 +1,405 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.contact.phone.support;
+
+import static org.cp.domain.contact.phone.support.PhoneNumberHashing.EMPTY;
+
+import java.util.Arrays;
+
+import org.cp.domain.contact.phone.model.PackedPhoneNumber;
+import org.cp.domain.contact.phone.model.PhoneNumber;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+
+/**
+ * Map of {@link PhoneNumber PhoneNumbers}, stored as {@link PackedPhoneNumber packed} primitive {@link Long longs},
+ * to primitive {@link Long long} values, such as the {@link Long identifier} of a contact or a count of duplicates,
+ * in an open-addressing hash table with linear probing.
+ * <p>
+ * {@link PhoneNumberMap} is used to join large numbers of records on {@link PhoneNumber} without boxing
+ * or an {@link Object} per entry. The {@link PackedPhoneNumber packed phone numbers} and values are stored
+ * in parallel arrays, taking between {@literal 16} and {@literal 32 bytes} per entry depending on the load
+ * of the hash table.
+ * <p>
+ * This {@link PhoneNumberMap} is not Thread-safe.
+ *
+ * @author John Blum
+ * @see org.cp.domain.contact.phone.model.PackedPhoneNumber
+ * @see org.cp.domain.contact.phone.model.PhoneNumber
+ * @see org.cp.domain.contact.phone.support.PhoneNumberSet
+ * @since 0.4.0
+ */
+public final class PhoneNumberMap {
+
+  public static final long NO_VALUE = Long.MIN_VALUE;
+
+  private int mask;
+  private int resizeThreshold;
+  private int size;
+
+  private long[] phoneNumbers;
+  private long[] values;
+
+  /**
+   * Constructs a new, empty {@link PhoneNumberMap}.
+   */
+  public PhoneNumberMap() {
+    this(PhoneNumberHashing.DEFAULT_EXPECTED_SIZE);
+  }
+
+  /**
+   * Constructs a new, empty {@link PhoneNumberMap} sized to hold the given number of entries without growing.
+   *
+   * @param expectedSize number of entries expected to be stored.
+   * @throws IllegalArgumentException if the expected size is negative or too large.
+   */
+  public PhoneNumberMap(int expectedSize) {
+    allocate(PhoneNumberHashing.capacityFor(expectedSize));
+  }
+
+  private void allocate(int capacity) {
+
+    this.phoneNumbers = new long[capacity];
+    this.values = new long[capacity];
+    this.mask = capacity - 1;
+    this.resizeThreshold = PhoneNumberHashing.resizeThresholdFor(capacity);
+
+    Arrays.fill(this.phoneNumbers, EMPTY);
+  }
+
+  /**
+   * Determines whether this {@link PhoneNumberMap} is empty.
+   *
+   * @return a boolean value indicating whether this {@link PhoneNumberMap} is empty.
+   * @see #size()
+   */
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  /**
+   * Adds the given {@link Long delta} to the value mapped to the given {@link PackedPhoneNumber packed phone number},
+   * mapping the phone number to the {@link Long delta} if the phone number is not present.
+   * <p>
+   * Used to count occurrences of {@link PhoneNumber PhoneNumbers}, for example, when de-duplicating records.
+   *
+   * @param phoneNumber {@link PackedPhoneNumber packed phone number}.
+   * @param delta {@link Long value} to add.
+   * @return the new value mapped to the {@link PackedPhoneNumber packed phone number}.
+   * @throws IllegalArgumentException if the {@link Long value} is not a valid
+   * {@link PackedPhoneNumber packed phone number}.
+   */
+  public long addTo(long phoneNumber, long delta) {
+
+    int slot = insertionSlotOf(PhoneNumberHashing.requireValid(phoneNumber));
+
+    if (slot > -1) {
+      return this.values[slot] += delta;
+    }
+
+    insert(~slot, phoneNumber, delta);
+
+    return delta;
+  }
+
+  /**
+   * Removes all entries from this {@link PhoneNumberMap}.
+   */
+  public void clear() {
+    Arrays.fill(this.phoneNumbers, EMPTY);
+    this.size = 0;
+  }
+
+  /**
+   * Determines whether this {@link PhoneNumberMap} contains an entry for the given {@link PhoneNumber}.
+   *
+   * @param phoneNumber {@link PhoneNumber} to evaluate; must not be {@literal null}.
+   * @return a boolean value indicating whether this {@link PhoneNumberMap} contains an entry
+   * for the given {@link PhoneNumber}.
+   * @throws IllegalArgumentException if the {@link PhoneNumber} is {@literal null}.
+   * @see #containsKey(long)
+   */
+  public boolean containsKey(@NotNull PhoneNumber phoneNumber) {
+    return containsKey(PackedPhoneNumber.pack(phoneNumber));
+  }
+
+  /**
+   * Determines whether this {@link PhoneNumberMap} contains an entry for the given
+   * {@link PackedPhoneNumber packed phone number}.
+   *
+   * @param phoneNumber {@link PackedPhoneNumber packed phone number} to evaluate.
+   * @return a boolean value indicating whether this {@link PhoneNumberMap} contains an entry for the given
+   * {@link PackedPhoneNumber packed phone number}.
+   */
+  public boolean containsKey(long phoneNumber) {
+    return phoneNumber != EMPTY && insertionSlotOf(phoneNumber) > -1;
+  }
+
+  /**
+   * Performs the given, required {@link EntryConsumer action} for each entry in this {@link PhoneNumberMap},
+   * in no particular order.
+   *
+   * @param action {@link EntryConsumer} to perform for each entry; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link EntryConsumer action} is {@literal null}.
+   */
+  public void forEach(@NotNull EntryConsumer action) {
+
+    Assert.notNull(action, "Action is required");
+
+    long[] phoneNumbers = this.phoneNumbers;
+
+    for (int slot = 0; slot < phoneNumbers.length; slot++) {
+      if (phoneNumbers[slot] != EMPTY) {
+        action.accept(phoneNumbers[slot], this.values[slot]);
+      }
+    }
+  }
+
+  /**
+   * Gets the value mapped to the given {@link PhoneNumber}.
+   *
+   * @param phoneNumber {@link PhoneNumber} to look up; must not be {@literal null}.
+   * @return the value mapped to the given {@link PhoneNumber}, or {@link #NO_VALUE} if not present.
+   * @throws IllegalArgumentException if the {@link PhoneNumber} is {@literal null}.
+   * @see #get(long)
+   */
+  public long get(@NotNull PhoneNumber phoneNumber) {
+    return get(PackedPhoneNumber.pack(phoneNumber));
+  }
+
+  /**
+   * Gets the value mapped to the given {@link PackedPhoneNumber packed phone number}.
+   *
+   * @param phoneNumber {@link PackedPhoneNumber packed phone number} to look up.
+   * @return the value mapped to the given {@link PackedPhoneNumber packed phone number},
+   * or {@link #NO_VALUE} if not present.
+   * @see #getOrDefault(long, long)
+   */
+  public long get(long phoneNumber) {
+    return getOrDefault(phoneNumber, NO_VALUE);
+  }
+
+  /**
+   * Gets the value mapped to the given {@link PackedPhoneNumber packed phone number}, or the given
+   * {@link Long default value} if not present.
+   *
+   * @param phoneNumber {@link PackedPhoneNumber packed phone number} to look up.
+   * @param defaultValue {@link Long value} returned if the phone number is not present.
+   * @return the value mapped to the given {@link PackedPhoneNumber packed phone number},
+   * or the {@link Long default value} if not present.
+   */
+  public long getOrDefault(long phoneNumber, long defaultValue) {
+
+    int slot = phoneNumber != EMPTY ? insertionSlotOf(phoneNumber) : -1;
+
+    return slot > -1 ? this.values[slot] : defaultValue;
+  }
+
+  /**
+   * Maps the given, required {@link PhoneNumber} to the given {@link Long value}.
+   *
+   * @param phoneNumber {@link PhoneNumber} to map; must not be {@literal null}.
+   * @param value {@link Long value} to map to the {@link PhoneNumber}.
+   * @return the value previously mapped to the {@link PhoneNumber}, or {@link #NO_VALUE} if not present.
+   * @throws IllegalArgumentException if the {@link PhoneNumber} is {@literal null}.
+   * @see #put(long, long)
+   */
+  public long put(@NotNull PhoneNumber phoneNumber, long value) {
+    return put(PackedPhoneNumber.pack(phoneNumber), value);
+  }
+
+  /**
+   * Maps the given {@link PackedPhoneNumber packed phone number} to the given {@link Long value}.
+   *
+   * @param phoneNumber {@link PackedPhoneNumber packed phone number} to map.
+   * @param value {@link Long value} to map to the phone number.
+   * @return the value previously mapped to the phone number, or {@link #NO_VALUE} if not present.
+   * @throws IllegalArgumentException if the {@link Long value} is not a valid
+   * {@link PackedPhoneNumber packed phone number}.
+   */
+  public long put(long phoneNumber, long value) {
+
+    int slot = insertionSlotOf(PhoneNumberHashing.requireValid(phoneNumber));
+
+    if (slot > -1) {
+
+      long previousValue = this.values[slot];
+
+      this.values[slot] = value;
+
+      return previousValue;
+    }
+
+    insert(~slot, phoneNumber, value);
+
+    return NO_VALUE;
+  }
+
+  /**
+   * Maps the given {@link PackedPhoneNumber packed phone number} to the given {@link Long value}
+   * only if the phone number is not already present.
+   *
+   * @param phoneNumber {@link PackedPhoneNumber packed phone number} to map.
+   * @param value {@link Long value} to map to the phone number.
+   * @return the value already mapped to the phone number, or {@link #NO_VALUE} if the phone number was not present.
+   * @throws IllegalArgumentException if the {@link Long value} is not a valid
+   * {@link PackedPhoneNumber packed phone number}.
+   */
+  public long putIfAbsent(long phoneNumber, long value) {
+
+    int slot = insertionSlotOf(PhoneNumberHashing.requireValid(phoneNumber));
+
+    if (slot > -1) {
+      return this.values[slot];
+    }
+
+    insert(~slot, phoneNumber, value);
+
+    return NO_VALUE;
+  }
+
+  /**
+   * Removes the entry for the given {@link PackedPhoneNumber packed phone number} from this {@link PhoneNumberMap}.
+   *
+   * @param phoneNumber {@link PackedPhoneNumber packed phone number} to remove.
+   * @return the value mapped to the removed phone number, or {@link #NO_VALUE} if not present.
+   */
+  public long remove(long phoneNumber) {
+
+    int slot = phoneNumber != EMPTY ? insertionSlotOf(phoneNumber) : -1;
+
+    if (slot < 0) {
+      return NO_VALUE;
+    }
+
+    long[] phoneNumbers = this.phoneNumbers;
+    long[] values = this.values;
+    long removedValue = values[slot];
+    int mask = this.mask;
+    int vacant = slot;
+
+    for (int next = (vacant + 1) & mask; phoneNumbers[next] != EMPTY; next = (next + 1) & mask) {
+
+      int home = PhoneNumberHashing.slotOf(phoneNumbers[next], mask);
+
+      if (((next - home) & mask) >= ((next - vacant) & mask)) {
+        phoneNumbers[vacant] = phoneNumbers[next];
+        values[vacant] = values[next];
+        vacant = next;
+      }
+    }
+
+    phoneNumbers[vacant] = EMPTY;
+    this.size--;
+
+    return removedValue;
+  }
+
+  /**
+   * Returns the number of entries in this {@link PhoneNumberMap}.
+   *
+   * @return the number of entries in this {@link PhoneNumberMap}.
+   */
+  public int size() {
+    return this.size;
+  }
+
+  private void insert(int slot, long phoneNumber, long value) {
+
+    this.phoneNumbers[slot] = phoneNumber;
+    this.values[slot] = value;
+
+    if (++this.size > this.resizeThreshold) {
+      resize(PhoneNumberHashing.grow(this.phoneNumbers.length));
+    }
+  }
+
+  /**
+   * Returns the slot containing the given {@link PackedPhoneNumber packed phone number}, or the bitwise complement
+   * of the empty slot where the phone number would be inserted if not present.
+   */
+  private int insertionSlotOf(long phoneNumber) {
+
+    long[] phoneNumbers = this.phoneNumbers;
+    int mask = this.mask;
+
+    for (int slot = PhoneNumberHashing.slotOf(phoneNumber, mask); ; slot = (slot + 1) & mask) {
+
+      long current = phoneNumbers[slot];
+
+      if (current == phoneNumber) {
+        return slot;
+      }
+      else if (current == EMPTY) {
+        return ~slot;
+      }
+    }
+  }
+
+  private void resize(int capacity) {
+
+    long[] phoneNumbers = this.phoneNumbers;
+    long[] values = this.values;
+
+    allocate(capacity);
+
+    long[] resizedPhoneNumbers = this.phoneNumbers;
+    long[] resizedValues = this.values;
+    int mask = this.mask;
+
+    for (int index = 0; index < phoneNumbers.length; index++) {
+
+      long phoneNumber = phoneNumbers[index];
+
+      if (phoneNumber != EMPTY) {
+
+        int slot = PhoneNumberHashing.slotOf(phoneNumber, mask);
+
+        while (resizedPhoneNumbers[slot] != EMPTY) {
+          slot = (slot + 1) & mask;
+        }
+
+        resizedPhoneNumbers[slot] = phoneNumber;
+        resizedValues[slot] = values[index];
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s { size = %d, capacity = %d }", getClass().getSimpleName(), size(),
+      this.phoneNumbers.length);
+  }
+
+  /**
+   * {@link FunctionalInterface} used to perform an action for each entry in a {@link PhoneNumberMap}
+   * without boxing.
+   *
+   * @see #forEach(EntryConsumer)
+   */
+  @FunctionalInterface
+  public interface EntryConsumer {
+
+    /**
+     * Performs an action for the entry.
+     *
+     * @param phoneNumber {@link PackedPhoneNumber packed phone number} of the entry.
+     * @param value {@link Long value} of the entry.
+     */
+    void accept(long phoneNumber, long value);
+
+  }
+}
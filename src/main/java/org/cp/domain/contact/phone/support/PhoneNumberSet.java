@@ -0,0 +1,312 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.contact.phone.support;
+
+import static org.cp.domain.contact.phone.support.PhoneNumberHashing.EMPTY;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+import org.cp.domain.contact.phone.model.PackedPhoneNumber;
+import org.cp.domain.contact.phone.model.PhoneNumber;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+
+/**
+ * Set of {@link PhoneNumber PhoneNumbers} stored as {@link PackedPhoneNumber packed} primitive {@link Long longs}
+ * in an open-addressing hash table with linear probing, used to de-duplicate large numbers of
+ * {@link PhoneNumber PhoneNumbers} without boxing or an {@link Object} per entry.
+ * <p>
+ * Each {@link PhoneNumber} takes between {@literal 8} and {@literal 16 bytes}, depending on the load
+ * of the hash table, compared to well over {@literal 100 bytes} for a {@link java.util.HashSet}
+ * of {@link PhoneNumber PhoneNumbers}. Removal shifts entries back into the vacated slot rather than
+ * leaving tombstones behind.
+ * <p>
+ * This {@link PhoneNumberSet} is not Thread-safe.
+ *
+ * @author John Blum
+ * @see org.cp.domain.contact.phone.model.PackedPhoneNumber
+ * @see org.cp.domain.contact.phone.model.PhoneNumber
+ * @see org.cp.domain.contact.phone.support.PhoneNumberMap
+ * @since 0.4.0
+ */
+public final class PhoneNumberSet {
+
+  private int mask;
+  private int resizeThreshold;
+  private int size;
+
+  private long[] phoneNumbers;
+
+  /**
+   * Constructs a new, empty {@link PhoneNumberSet}.
+   */
+  public PhoneNumberSet() {
+    this(PhoneNumberHashing.DEFAULT_EXPECTED_SIZE);
+  }
+
+  /**
+   * Constructs a new, empty {@link PhoneNumberSet} sized to hold the given number of
+   * {@link PhoneNumber PhoneNumbers} without growing.
+   *
+   * @param expectedSize number of {@link PhoneNumber PhoneNumbers} expected to be stored.
+   * @throws IllegalArgumentException if the expected size is negative or too large.
+   */
+  public PhoneNumberSet(int expectedSize) {
+    allocate(PhoneNumberHashing.capacityFor(expectedSize));
+  }
+
+  private void allocate(int capacity) {
+
+    this.phoneNumbers = new long[capacity];
+    this.mask = capacity - 1;
+    this.resizeThreshold = PhoneNumberHashing.resizeThresholdFor(capacity);
+
+    Arrays.fill(this.phoneNumbers, EMPTY);
+  }
+
+  /**
+   * Determines whether this {@link PhoneNumberSet} is empty.
+   *
+   * @return a boolean value indicating whether this {@link PhoneNumberSet} is empty.
+   * @see #size()
+   */
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  /**
+   * Adds the given, required {@link PhoneNumber} to this {@link PhoneNumberSet}.
+   *
+   * @param phoneNumber {@link PhoneNumber} to add; must not be {@literal null}.
+   * @return a boolean value indicating whether the {@link PhoneNumber} was added,
+   * or {@literal false} if this {@link PhoneNumberSet} already contains the {@link PhoneNumber}.
+   * @throws IllegalArgumentException if the {@link PhoneNumber} is {@literal null}.
+   * @see org.cp.domain.contact.phone.model.PackedPhoneNumber#pack(PhoneNumber)
+   * @see #add(long)
+   */
+  public boolean add(@NotNull PhoneNumber phoneNumber) {
+    return add(PackedPhoneNumber.pack(phoneNumber));
+  }
+
+  /**
+   * Adds the given {@link PackedPhoneNumber packed phone number} to this {@link PhoneNumberSet}.
+   *
+   * @param phoneNumber {@link PackedPhoneNumber packed phone number} to add.
+   * @return a boolean value indicating whether the {@link PackedPhoneNumber packed phone number} was added,
+   * or {@literal false} if this {@link PhoneNumberSet} already contains the phone number.
+   * @throws IllegalArgumentException if the {@link Long value} is not a valid
+   * {@link PackedPhoneNumber packed phone number}.
+   */
+  public boolean add(long phoneNumber) {
+
+    PhoneNumberHashing.requireValid(phoneNumber);
+
+    long[] phoneNumbers = this.phoneNumbers;
+    int slot = PhoneNumberHashing.slotOf(phoneNumber, this.mask);
+
+    for (long current = phoneNumbers[slot]; current != EMPTY; current = phoneNumbers[slot]) {
+
+      if (current == phoneNumber) {
+        return false;
+      }
+
+      slot = (slot + 1) & this.mask;
+    }
+
+    phoneNumbers[slot] = phoneNumber;
+
+    if (++this.size > this.resizeThreshold) {
+      resize(PhoneNumberHashing.grow(phoneNumbers.length));
+    }
+
+    return true;
+  }
+
+  /**
+   * Removes all {@link PhoneNumber PhoneNumbers} from this {@link PhoneNumberSet}.
+   */
+  public void clear() {
+    Arrays.fill(this.phoneNumbers, EMPTY);
+    this.size = 0;
+  }
+
+  /**
+   * Determines whether this {@link PhoneNumberSet} contains the given {@link PhoneNumber}.
+   *
+   * @param phoneNumber {@link PhoneNumber} to evaluate; must not be {@literal null}.
+   * @return a boolean value indicating whether this {@link PhoneNumberSet} contains the given {@link PhoneNumber}.
+   * @throws IllegalArgumentException if the {@link PhoneNumber} is {@literal null}.
+   * @see #contains(long)
+   */
+  public boolean contains(@NotNull PhoneNumber phoneNumber) {
+    return contains(PackedPhoneNumber.pack(phoneNumber));
+  }
+
+  /**
+   * Determines whether this {@link PhoneNumberSet} contains the given
+   * {@link PackedPhoneNumber packed phone number}.
+   *
+   * @param phoneNumber {@link PackedPhoneNumber packed phone number} to evaluate.
+   * @return a boolean value indicating whether this {@link PhoneNumberSet} contains the given
+   * {@link PackedPhoneNumber packed phone number}.
+   */
+  public boolean contains(long phoneNumber) {
+    return phoneNumber != EMPTY && slotOf(phoneNumber) > -1;
+  }
+
+  /**
+   * Performs the given, required {@link LongConsumer action} for each
+   * {@link PackedPhoneNumber packed phone number} in this {@link PhoneNumberSet}, in no particular order.
+   *
+   * @param action {@link LongConsumer} to perform for each {@link PackedPhoneNumber packed phone number};
+   * must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link LongConsumer action} is {@literal null}.
+   */
+  public void forEach(@NotNull LongConsumer action) {
+
+    Assert.notNull(action, "Action is required");
+
+    for (long phoneNumber : this.phoneNumbers) {
+      if (phoneNumber != EMPTY) {
+        action.accept(phoneNumber);
+      }
+    }
+  }
+
+  /**
+   * Removes the given {@link PackedPhoneNumber packed phone number} from this {@link PhoneNumberSet}.
+   *
+   * @param phoneNumber {@link PackedPhoneNumber packed phone number} to remove.
+   * @return a boolean value indicating whether the {@link PackedPhoneNumber packed phone number} was removed.
+   */
+  public boolean remove(long phoneNumber) {
+
+    int slot = phoneNumber != EMPTY ? slotOf(phoneNumber) : -1;
+
+    if (slot < 0) {
+      return false;
+    }
+
+    long[] phoneNumbers = this.phoneNumbers;
+    int mask = this.mask;
+    int vacant = slot;
+
+    for (int next = (vacant + 1) & mask; phoneNumbers[next] != EMPTY; next = (next + 1) & mask) {
+
+      int home = PhoneNumberHashing.slotOf(phoneNumbers[next], mask);
+
+      if (((next - home) & mask) >= ((next - vacant) & mask)) {
+        phoneNumbers[vacant] = phoneNumbers[next];
+        vacant = next;
+      }
+    }
+
+    phoneNumbers[vacant] = EMPTY;
+    this.size--;
+
+    return true;
+  }
+
+  /**
+   * Returns the number of {@link PhoneNumber PhoneNumbers} in this {@link PhoneNumberSet}.
+   *
+   * @return the number of {@link PhoneNumber PhoneNumbers} in this {@link PhoneNumberSet}.
+   */
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Returns a {@link LongStream} of the {@link PackedPhoneNumber packed phone numbers}
+   * in this {@link PhoneNumberSet}, in no particular order.
+   *
+   * @return a {@link LongStream} of the {@link PackedPhoneNumber packed phone numbers}
+   * in this {@link PhoneNumberSet}.
+   * @see java.util.stream.LongStream
+   */
+  public @NotNull LongStream stream() {
+    return Arrays.stream(this.phoneNumbers).filter(phoneNumber -> phoneNumber != EMPTY);
+  }
+
+  /**
+   * Returns an array of the {@link PackedPhoneNumber packed phone numbers} in this {@link PhoneNumberSet},
+   * in no particular order.
+   *
+   * @return an array of the {@link PackedPhoneNumber packed phone numbers} in this {@link PhoneNumberSet}.
+   */
+  public @NotNull long[] toArray() {
+
+    long[] array = new long[this.size];
+    int index = 0;
+
+    for (long phoneNumber : this.phoneNumbers) {
+      if (phoneNumber != EMPTY) {
+        array[index++] = phoneNumber;
+      }
+    }
+
+    return array;
+  }
+
+  private void resize(int capacity) {
+
+    long[] phoneNumbers = this.phoneNumbers;
+
+    allocate(capacity);
+
+    long[] resizedPhoneNumbers = this.phoneNumbers;
+    int mask = this.mask;
+
+    for (long phoneNumber : phoneNumbers) {
+      if (phoneNumber != EMPTY) {
+
+        int slot = PhoneNumberHashing.slotOf(phoneNumber, mask);
+
+        while (resizedPhoneNumbers[slot] != EMPTY) {
+          slot = (slot + 1) & mask;
+        }
+
+        resizedPhoneNumbers[slot] = phoneNumber;
+      }
+    }
+  }
+
+  private int slotOf(long phoneNumber) {
+
+    long[] phoneNumbers = this.phoneNumbers;
+    int mask = this.mask;
+
+    for (int slot = PhoneNumberHashing.slotOf(phoneNumber, mask); ; slot = (slot + 1) & mask) {
+
+      long current = phoneNumbers[slot];
+
+      if (current == phoneNumber) {
+        return slot;
+      }
+      else if (current == EMPTY) {
+        return -1;
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s { size = %d, capacity = %d }", getClass().getSimpleName(), size(),
+      this.phoneNumbers.length);
+  }
+}
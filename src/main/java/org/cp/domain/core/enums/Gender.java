@@ -15,10 +15,7 @@
  */
 package org.cp.domain.core.enums;
 
-import java.util.Arrays;
-import java.util.function.Predicate;
-
-import org.cp.elements.function.FunctionUtils;
+import org.cp.domain.core.enums.support.EnumLookupTable;
 import org.cp.elements.lang.Nameable;
 import org.cp.elements.lang.annotation.NotNull;
 import org.cp.elements.lang.annotation.Nullable;
@@ -38,47 +35,63 @@ public enum Gender implements Nameable<String> {
   MALE("M", "Male"),
   NON_BINARY("N", "NonBinary");
 
+  private static final EnumLookupTable<Gender> ABBREVIATION_LOOKUP_TABLE =
+    EnumLookupTable.of(Gender.class, Gender::getAbbreviation);
+
+  private static final EnumLookupTable<Gender> NAME_LOOKUP_TABLE = EnumLookupTable.of(Gender.class, Gender::getName);
+
   /**
-   * Factory method used to find and match a {@link Gender} by {@link String abbreviation}.
+   * Factory method used to find and match a {@link Gender} by {@link String abbreviation}, ignoring case.
    *
    * @param abbreviation {@link String} containing the {@literal abbreviation} of the {@link Gender} to find.
    * @return the {@link Gender} with the given {@link String abbreviation}, or {@literal null}
    * if no {@link Gender} with the given {@link String abbreviation} exists.
-   * @see #valueOf(Predicate)
+   * @see #valueOfAbbreviation(CharSequence)
    * @see #getAbbreviation()
    */
   public static @Nullable Gender valueOfAbbreviation(@Nullable String abbreviation) {
-    return valueOf(gender -> gender.getAbbreviation().equalsIgnoreCase(abbreviation));
+    return ABBREVIATION_LOOKUP_TABLE.getIgnoreCase(abbreviation);
   }
 
   /**
-   * Factory method used to find and match a {@link Gender} by {@link String name}.
+   * Factory method used to find and match a {@link Gender} by {@link CharSequence abbreviation},
+   * ignoring case and leading and trailing whitespace.
+   *
+   * @param abbreviation {@link CharSequence} containing the {@literal abbreviation} of the {@link Gender} to find.
+   * @return the {@link Gender} with the given {@link CharSequence abbreviation}, or {@literal null}
+   * if no {@link Gender} with the given {@link CharSequence abbreviation} exists.
+   * @see org.cp.domain.core.enums.support.EnumLookupTable
+   * @see #getAbbreviation()
+   */
+  public static @Nullable Gender valueOfAbbreviation(@Nullable CharSequence abbreviation) {
+    return ABBREVIATION_LOOKUP_TABLE.get(abbreviation);
+  }
+
+  /**
+   * Factory method used to find and match a {@link Gender} by {@link String name}, ignoring case.
    *
    * @param name {@link String} containing the {@literal name} of the {@link Gender} to find.
    * @return the {@link Gender} with the given {@link String name}, or {@literal null}
    * if no {@link Gender} with the given {@link String name} exists.
-   * @see #valueOf(Predicate)
+   * @see #valueOfName(CharSequence)
    * @see #getName()
    */
   public static @Nullable Gender valueOfName(@Nullable String name) {
-    return valueOf(gender -> gender.getName().equalsIgnoreCase(name));
+    return NAME_LOOKUP_TABLE.getIgnoreCase(name);
   }
 
   /**
-   * Factory method used to find and match a {@link Gender} by the given, required {@link Predicate}.
+   * Factory method used to find and match a {@link Gender} by {@link CharSequence name},
+   * ignoring case and leading and trailing whitespace.
    *
-   * @param predicate {@link Predicate} used to fina and match a {@link Gender}; must not be {@literal null}.
-   * @return a {@link Gender} matching the given, required {@link Predicate} or {@literal null} if no {@link Gender}
-   * is a match for the given, required {@link Predicate}.
-   * @see Predicate
-   * @see #values()
+   * @param name {@link CharSequence} containing the {@literal name} of the {@link Gender} to find.
+   * @return the {@link Gender} with the given {@link CharSequence name}, or {@literal null}
+   * if no {@link Gender} with the given {@link CharSequence name} exists.
+   * @see org.cp.domain.core.enums.support.EnumLookupTable
+   * @see #getName()
    */
-  private static @Nullable Gender valueOf(@NotNull Predicate<Gender> predicate) {
-
-    return Arrays.stream(values())
-      .filter(FunctionUtils.nullSafePredicateMatchingNone(predicate))
-      .findFirst()
-      .orElse(null);
+  public static @Nullable Gender valueOfName(@Nullable CharSequence name) {
+    return NAME_LOOKUP_TABLE.get(name);
   }
 
   private final String abbreviation;
@@ -15,10 +15,7 @@
  */
 package org.cp.domain.core.enums;
 
-import java.util.Arrays;
-import java.util.function.Predicate;
-
-import org.cp.elements.function.FunctionUtils;
+import org.cp.domain.core.enums.support.EnumLookupTable;
 import org.cp.elements.lang.annotation.NotNull;
 import org.cp.elements.lang.annotation.Nullable;
 
@@ -39,48 +36,65 @@ public enum Race {
   NATIVE_HAWAIIAN("Hawaiian", "Native Hawaiian/Other Pacific Islander"),
   WHITE("White", "White");
 
+  private static final EnumLookupTable<Race> ABBREVIATION_LOOKUP_TABLE =
+    EnumLookupTable.of(Race.class, Race::getAbbreviation);
+
+  private static final EnumLookupTable<Race> NAME_LOOKUP_TABLE = EnumLookupTable.of(Race.class, Race::getName);
+
   /**
-   * Factory method used to find and match a {@link Race} by {@link String abbreviation}.
+   * Factory method used to find and match a {@link Race} by {@link String abbreviation}, ignoring case.
    *
    * @param abbreviation {@link String} containing the {@literal abbreviation} used to
    * find and match a {@link Race} enum.
    * @return a {@link Race} matching the given {@link String abbreviation} or {@literal null}
    * if no {@link Race} matches the given {@link String abbreviation}.
-   * @see #valueOf(Predicate)
+   * @see #valueOfAbbreviation(CharSequence)
    * @see #getAbbreviation()
    */
   public static @Nullable Race valueOfAbbreviation(@Nullable String abbreviation) {
-    return valueOf(race -> race.getAbbreviation().equalsIgnoreCase(abbreviation));
+    return ABBREVIATION_LOOKUP_TABLE.getIgnoreCase(abbreviation);
+  }
+
+  /**
+   * Factory method used to find and match a {@link Race} by {@link CharSequence abbreviation},
+   * ignoring case and leading and trailing whitespace.
+   *
+   * @param abbreviation {@link CharSequence} containing the {@literal abbreviation} used to
+   * find and match a {@link Race} enum.
+   * @return a {@link Race} matching the given {@link CharSequence abbreviation} or {@literal null}
+   * if no {@link Race} matches the given {@link CharSequence abbreviation}.
+   * @see org.cp.domain.core.enums.support.EnumLookupTable
+   * @see #getAbbreviation()
+   */
+  public static @Nullable Race valueOfAbbreviation(@Nullable CharSequence abbreviation) {
+    return ABBREVIATION_LOOKUP_TABLE.get(abbreviation);
   }
 
   /**
-   * Factory method used to find and match a {@link Race} by {@link String name}.
+   * Factory method used to find and match a {@link Race} by {@link String name}, ignoring case.
    *
    * @param name {@link String} containing the {@literal name} used to find and match a {@link Race} enum.
    * @return a {@link Race} matching the given {@link String name} or {@literal null}
    * if no {@link Race} matches the given {@link String name}.
-   * @see #valueOf(Predicate)
+   * @see #valueOfName(CharSequence)
    * @see #getName()
    */
   public static @Nullable Race valueOfName(@Nullable String name) {
-    return valueOf(race -> race.getName().equalsIgnoreCase(name));
+    return NAME_LOOKUP_TABLE.getIgnoreCase(name);
   }
 
   /**
-   * Factory method used to find and match a {@link Race} by the given, required {@link Predicate}.
+   * Factory method used to find and match a {@link Race} by {@link CharSequence name},
+   * ignoring case and leading and trailing whitespace.
    *
-   * @param predicate {@link Predicate} used to find and match a {@link Race} enumerated value.
-   * @return a {@link Race} matching the given, required {@link Predicate} or {@literal null}
-   * if no {@link Race} is a match for the given, required {@link Predicate}.
-   * @see Predicate
-   * @see #values()
+   * @param name {@link CharSequence} containing the {@literal name} used to find and match a {@link Race} enum.
+   * @return a {@link Race} matching the given {@link CharSequence name} or {@literal null}
+   * if no {@link Race} matches the given {@link CharSequence name}.
+   * @see org.cp.domain.core.enums.support.EnumLookupTable
+   * @see #getName()
    */
-  private static @Nullable Race valueOf(@NotNull Predicate<Race> predicate) {
-
-    return Arrays.stream(values())
-      .filter(FunctionUtils.nullSafePredicateMatchingNone(predicate))
-      .findFirst()
-      .orElse(null);
+  public static @Nullable Race valueOfName(@Nullable CharSequence name) {
+    return NAME_LOOKUP_TABLE.get(name);
   }
 
   private final String abbreviation;
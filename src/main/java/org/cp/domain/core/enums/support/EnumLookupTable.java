@@ -0,0 +1,295 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.core.enums.support;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.Immutable;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.NullSafe;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * Lookup table used to resolve the constants of an {@link Enum} by a {@link String key},
+ * such as an {@literal abbreviation} or {@literal name}, ignoring case and leading and trailing whitespace.
+ * <p>
+ * The table is built once per {@link Enum} and {@link String key}, and is backed by an open-addressing hash table.
+ * Lookups operate directly on the {@link CharSequence} (or a region of the {@link CharSequence}) without allocating
+ * and return {@literal null} on a miss rather than throwing an {@link Exception}.
+ *
+ * @author John Blum
+ * @param <E> {@link Class type} of {@link Enum} resolved by this lookup table.
+ * @see java.lang.CharSequence
+ * @see java.lang.Enum
+ * @see org.cp.elements.lang.annotation.Immutable
+ * @see org.cp.elements.lang.annotation.ThreadSafe
+ * @since 0.4.0
+ */
+@Immutable
+@ThreadSafe
+public class EnumLookupTable<E extends Enum<E>> {
+
+  /**
+   * Factory method used to construct a new {@link EnumLookupTable} for the given, required {@link Enum} type
+   * using the given, required {@link Function} to compute the {@link String key} of each {@link Enum} constant.
+   *
+   * @param <E> {@link Class type} of {@link Enum}.
+   * @param enumType {@link Class type} of {@link Enum}; must not be {@literal null}.
+   * @param keyFunction {@link Function} used to compute the {@link String key} of each {@link Enum} constant;
+   * must not be {@literal null}.
+   * @return a new {@link EnumLookupTable}.
+   * @throws IllegalArgumentException if the {@link Enum} type or the key {@link Function} are {@literal null}.
+   * @see #EnumLookupTable(Class, Function)
+   */
+  public static @NotNull <E extends Enum<E>> EnumLookupTable<E> of(@NotNull Class<E> enumType,
+      @NotNull Function<E, ? extends CharSequence> keyFunction) {
+
+    return new EnumLookupTable<>(enumType, keyFunction);
+  }
+
+  private final int mask;
+
+  private final Class<E> enumType;
+
+  private final Object[] values;
+
+  private final String[] keys;
+
+  /**
+   * Constructs a new {@link EnumLookupTable} for the given, required {@link Enum} type using the given,
+   * required {@link Function} to compute the {@link String key} of each {@link Enum} constant.
+   * <p>
+   * {@link Enum} constants with a {@literal null} or {@literal empty} key are not indexed. When more than one
+   * {@link Enum} constant has the same key, the first {@link Enum} constant in declaration order wins.
+   *
+   * @param enumType {@link Class type} of {@link Enum}; must not be {@literal null}.
+   * @param keyFunction {@link Function} used to compute the {@link String key} of each {@link Enum} constant;
+   * must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link Enum} type or the key {@link Function} are {@literal null}.
+   */
+  protected EnumLookupTable(@NotNull Class<E> enumType, @NotNull Function<E, ? extends CharSequence> keyFunction) {
+
+    Assert.notNull(enumType, "Enum type is required");
+    Assert.notNull(keyFunction, "Function used to compute the key of an Enum is required");
+
+    E[] enums = enumType.getEnumConstants();
+
+    int capacity = Integer.highestOneBit(Math.max(enums.length, 1) * 4);
+
+    this.enumType = enumType;
+    this.keys = new String[capacity];
+    this.values = new Object[capacity];
+    this.mask = capacity - 1;
+
+    for (E enumConstant : enums) {
+
+      CharSequence key = keyFunction.apply(enumConstant);
+
+      if (key != null) {
+        put(key.toString().trim(), enumConstant);
+      }
+    }
+  }
+
+  private void put(@NotNull String key, @NotNull E enumConstant) {
+
+    if (!key.isEmpty()) {
+
+      int index = hash(key, 0, key.length()) & this.mask;
+
+      while (this.keys[index] != null) {
+        if (regionMatches(this.keys[index], key, 0, key.length())) {
+          return;
+        }
+        index = (index + 1) & this.mask;
+      }
+
+      this.keys[index] = key;
+      this.values[index] = enumConstant;
+    }
+  }
+
+  /**
+   * Returns the {@link Class type} of {@link Enum} resolved by this lookup table.
+   *
+   * @return the {@link Class type} of {@link Enum} resolved by this lookup table.
+   */
+  public @NotNull Class<E> getEnumType() {
+    return this.enumType;
+  }
+
+  /**
+   * Determines whether an {@link Enum} constant with the given {@link CharSequence key} exists in this lookup table.
+   *
+   * @param key {@link CharSequence} containing the key of the {@link Enum} constant.
+   * @return a boolean value indicating whether an {@link Enum} constant with the given {@link CharSequence key} exists.
+   * @see #get(CharSequence)
+   */
+  @NullSafe
+  public boolean contains(@Nullable CharSequence key) {
+    return get(key) != null;
+  }
+
+  /**
+   * Finds the {@link Enum} constant with the given {@link CharSequence key}.
+   *
+   * @param key {@link CharSequence} containing the key of the {@link Enum} constant to find.
+   * @return an {@link Optional} {@link Enum} constant with the given {@link CharSequence key}.
+   * @see #get(CharSequence)
+   * @see java.util.Optional
+   */
+  @NullSafe
+  public Optional<E> find(@Nullable CharSequence key) {
+    return Optional.ofNullable(get(key));
+  }
+
+  /**
+   * Gets the {@link Enum} constant with the given {@link CharSequence key}.
+   *
+   * @param key {@link CharSequence} containing the key of the {@link Enum} constant to get.
+   * @return the {@link Enum} constant with the given {@link CharSequence key}, or {@literal null}
+   * if no {@link Enum} constant has the given {@link CharSequence key}.
+   * @see #get(CharSequence, int, int)
+   */
+  @NullSafe
+  public @Nullable E get(@Nullable CharSequence key) {
+    return key != null ? get(key, 0, key.length()) : null;
+  }
+
+  /**
+   * Gets the {@link Enum} constant with a key matching the region of the given {@link CharSequence}
+   * from the {@link Integer begin index}, inclusive, to the {@link Integer end index}, exclusive.
+   *
+   * @param text {@link CharSequence} containing the key of the {@link Enum} constant to get.
+   * @param beginIndex {@link Integer index} of the first character of the key, inclusive.
+   * @param endIndex {@link Integer index} of the last character of the key, exclusive.
+   * @return the {@link Enum} constant with the given key, or {@literal null}
+   * if no {@link Enum} constant has the given key.
+   * @throws IndexOutOfBoundsException if the region is not within the bounds of the {@link CharSequence}.
+   */
+  public @Nullable E get(@Nullable CharSequence text, int beginIndex, int endIndex) {
+
+    if (text == null) {
+      return null;
+    }
+
+    Objects.checkFromToIndex(beginIndex, endIndex, text.length());
+
+    while (beginIndex < endIndex && isWhitespace(text.charAt(beginIndex))) {
+      beginIndex++;
+    }
+
+    while (endIndex > beginIndex && isWhitespace(text.charAt(endIndex - 1))) {
+      endIndex--;
+    }
+
+    return lookup(text, beginIndex, endIndex);
+  }
+
+  /**
+   * Gets the {@link Enum} constant with a key equal to the given {@link String}, ignoring case,
+   * as determined by {@link String#equalsIgnoreCase(String)}.
+   * <p>
+   * Unlike {@link #get(CharSequence)}, leading and trailing whitespace in the given {@link String} is significant.
+   *
+   * @param key {@link String} containing the key of the {@link Enum} constant to get.
+   * @return the {@link Enum} constant with the given {@link String key}, or {@literal null}
+   * if no {@link Enum} constant has the given {@link String key}.
+   * @see #get(CharSequence)
+   */
+  @NullSafe
+  public @Nullable E getIgnoreCase(@Nullable String key) {
+    return key != null ? lookup(key, 0, key.length()) : null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private @Nullable E lookup(@NotNull CharSequence text, int beginIndex, int endIndex) {
+
+    if (beginIndex == endIndex) {
+      return null;
+    }
+
+    int index = hash(text, beginIndex, endIndex) & this.mask;
+
+    for (String key = this.keys[index]; key != null; key = this.keys[index]) {
+
+      if (regionMatches(key, text, beginIndex, endIndex)) {
+        return (E) this.values[index];
+      }
+
+      index = (index + 1) & this.mask;
+    }
+
+    return null;
+  }
+
+  /**
+   * Gets the {@link Enum} constant with the given {@link CharSequence key} or returns the given,
+   * default {@link Enum} constant if no {@link Enum} constant has the given {@link CharSequence key}.
+   *
+   * @param key {@link CharSequence} containing the key of the {@link Enum} constant to get.
+   * @param defaultValue {@link Enum} constant returned on a miss.
+   * @return the {@link Enum} constant with the given {@link CharSequence key} or the default {@link Enum} constant.
+   * @see #get(CharSequence)
+   */
+  @NullSafe
+  public @Nullable E getOrDefault(@Nullable CharSequence key, @Nullable E defaultValue) {
+
+    E enumConstant = get(key);
+
+    return enumConstant != null ? enumConstant : defaultValue;
+  }
+
+  private static char fold(char character) {
+    return Character.toLowerCase(Character.toUpperCase(character));
+  }
+
+  private static int hash(@NotNull CharSequence text, int beginIndex, int endIndex) {
+
+    int hash = 0;
+
+    for (int index = beginIndex; index < endIndex; index++) {
+      hash = 31 * hash + fold(text.charAt(index));
+    }
+
+    return hash ^ (hash >>> 16);
+  }
+
+  private static boolean isWhitespace(char character) {
+    return character <= ' ';
+  }
+
+  private static boolean regionMatches(@NotNull String key, @NotNull CharSequence text, int beginIndex, int endIndex) {
+
+    int length = key.length();
+
+    if (length != endIndex - beginIndex) {
+      return false;
+    }
+
+    for (int index = 0; index < length; index++) {
+      if (fold(key.charAt(index)) != fold(text.charAt(beginIndex + index))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.core.support;
+
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalArgumentException;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.Immutable;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+
+/**
+ * Result of parsing a single {@link CharSequence}, containing either the parsed {@link Object value}
+ * or a {@link String message} describing why the {@link CharSequence} could not be parsed.
+ * <p>
+ * Parsing in bulk returns a {@link ParseResult} per record rather than throwing an {@link Exception}
+ * on the first record that cannot be parsed. The {@link Throwable cause} of a parse error, if any,
+ * is only constructed when the error is {@link #orElseThrow() thrown}.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the parsed {@link Object value}.
+ * @see org.cp.elements.lang.annotation.Immutable
+ * @since 0.4.0
+ */
+@Immutable
+public final class ParseResult<T> {
+
+  /**
+   * Factory method used to construct a new {@link ParseResult} for the given {@link CharSequence input}
+   * that could not be parsed.
+   *
+   * @param <T> {@link Class type} of the parsed {@link Object value}.
+   * @param input {@link CharSequence} that could not be parsed.
+   * @param error {@link String message} describing why the {@link CharSequence input} could not be parsed;
+   * must not be {@literal null}.
+   * @return a new, invalid {@link ParseResult}.
+   * @throws IllegalArgumentException if the {@link String error} is {@literal null}.
+   * @see #invalid(CharSequence, String, Supplier)
+   */
+  public static @NotNull <T> ParseResult<T> invalid(@Nullable CharSequence input, @NotNull String error) {
+    return invalid(input, error, null);
+  }
+
+  /**
+   * Factory method used to construct a new {@link ParseResult} for the given {@link CharSequence input}
+   * that could not be parsed, with a {@link Supplier} of the {@link Throwable cause} of the parse error.
+   *
+   * @param <T> {@link Class type} of the parsed {@link Object value}.
+   * @param input {@link CharSequence} that could not be parsed.
+   * @param error {@link String message} describing why the {@link CharSequence input} could not be parsed;
+   * must not be {@literal null}.
+   * @param cause {@link Supplier} of the {@link Throwable cause} of the parse error; may be {@literal null}.
+   * @return a new, invalid {@link ParseResult}.
+   * @throws IllegalArgumentException if the {@link String error} is {@literal null}.
+   * @see #invalid(CharSequence, String)
+   */
+  public static @NotNull <T> ParseResult<T> invalid(@Nullable CharSequence input, @NotNull String error,
+      @Nullable Supplier<? extends Throwable> cause) {
+
+    Assert.notNull(error, "Error is required");
+
+    return new ParseResult<>(input, null, error, cause);
+  }
+
+  /**
+   * Factory method used to construct a new {@link ParseResult} for the given {@link CharSequence input}
+   * that was successfully parsed into the given {@link Object value}.
+   *
+   * @param <T> {@link Class type} of the parsed {@link Object value}.
+   * @param input {@link CharSequence} that was parsed.
+   * @param value {@link Object value} parsed from the {@link CharSequence input}; must not be {@literal null}.
+   * @return a new, valid {@link ParseResult}.
+   * @throws IllegalArgumentException if the {@link Object value} is {@literal null}.
+   */
+  public static @NotNull <T> ParseResult<T> valid(@Nullable CharSequence input, @NotNull T value) {
+
+    Assert.notNull(value, "Value is required");
+
+    return new ParseResult<>(input, value, null, null);
+  }
+
+  private final CharSequence input;
+
+  private final String error;
+
+  private final Supplier<? extends Throwable> cause;
+
+  private final T value;
+
+  private ParseResult(@Nullable CharSequence input, @Nullable T value, @Nullable String error,
+      @Nullable Supplier<? extends Throwable> cause) {
+
+    this.input = input;
+    this.value = value;
+    this.error = error;
+    this.cause = cause;
+  }
+
+  /**
+   * Gets the {@link String message} describing why the {@link #getInput() input} could not be parsed.
+   *
+   * @return an {@link Optional} {@link String message} describing the parse error, or {@link Optional#empty()}
+   * if the {@link #getInput() input} was successfully parsed.
+   */
+  public Optional<String> getError() {
+    return Optional.ofNullable(this.error);
+  }
+
+  /**
+   * Gets the {@link CharSequence} that was parsed.
+   *
+   * @return the {@link CharSequence} that was parsed; may be {@literal null}.
+   */
+  public @Nullable CharSequence getInput() {
+    return this.input;
+  }
+
+  /**
+   * Gets the {@link Object value} parsed from the {@link #getInput() input}.
+   *
+   * @return an {@link Optional} {@link Object value} parsed from the {@link #getInput() input},
+   * or {@link Optional#empty()} if the {@link #getInput() input} could not be parsed.
+   * @see #orElseThrow()
+   */
+  public Optional<T> getValue() {
+    return Optional.ofNullable(this.value);
+  }
+
+  /**
+   * Determines whether the {@link #getInput() input} could not be parsed.
+   *
+   * @return a boolean value indicating whether the {@link #getInput() input} could not be parsed.
+   * @see #isValid()
+   */
+  public boolean isInvalid() {
+    return !isValid();
+  }
+
+  /**
+   * Determines whether the {@link #getInput() input} was successfully parsed.
+   *
+   * @return a boolean value indicating whether the {@link #getInput() input} was successfully parsed.
+   * @see #isInvalid()
+   */
+  public boolean isValid() {
+    return this.value != null;
+  }
+
+  /**
+   * Gets the {@link Object value} parsed from the {@link #getInput() input}, or throws
+   * an {@link IllegalArgumentException} with the {@link #getError() error} if the {@link #getInput() input}
+   * could not be parsed.
+   *
+   * @return the {@link Object value} parsed from the {@link #getInput() input}.
+   * @throws IllegalArgumentException if the {@link #getInput() input} could not be parsed.
+   * @see #getValue()
+   */
+  public @NotNull T orElseThrow() {
+
+    if (isInvalid()) {
+      throw this.cause != null
+        ? newIllegalArgumentException(this.cause.get(), "%s", this.error)
+        : newIllegalArgumentException("%s", this.error);
+    }
+
+    return this.value;
+  }
+
+  @Override
+  public String toString() {
+    return isValid() ? String.valueOf(this.value) : this.error;
+  }
+}
@@ -17,7 +17,6 @@ package org.cp.domain.geo.enums;
 
 import java.util.Arrays;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.cp.elements.lang.StringUtils;
 
@@ -45,15 +44,12 @@ public enum Continent {
   /**
    * Returns all {@link Country Countries} located on this {@link Continent}.
    *
-   * @return a {@link Set} of {@link Country Countries} located on this {@link Continent}.
-   * @see org.cp.domain.geo.enums.Country
+   * @return an unmodifiable {@link Set} of {@link Country Countries} located on this {@link Continent}.
+   * @see org.cp.domain.geo.enums.Country#byContinent(Continent)
    * @see java.util.Set
    */
   public Set<Country> countries() {
-
-    return Arrays.stream(Country.values())
-      .filter(country -> country.isLocatedOnContinent(this))
-      .collect(Collectors.toSet());
+    return Country.byContinent(this);
   }
 
   /**
@@ -17,12 +17,14 @@ package org.cp.domain.geo.enums;
 
 import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalArgumentException;
 
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.Locale;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 import org.cp.elements.lang.annotation.NotNull;
 import org.cp.elements.lang.annotation.NullSafe;
@@ -30,6 +32,10 @@ import org.cp.elements.lang.annotation.Nullable;
 
 /**
  * {@link Enum Enumeration} of all the {@literal Countries} in the {@literal World}.
+ * <p>
+ * {@link Country Countries} are resolved by {@literal ISO} country code, by {@literal ITU-T E.164}
+ * international calling code and by {@link Continent} from indexes computed once when this {@link Enum}
+ * is initialized.
  *
  * @author John Blum
  * @see org.cp.domain.geo.enums.Continent
@@ -37,234 +43,331 @@ import org.cp.elements.lang.annotation.Nullable;
  * @see <a href="https://en.wikipedia.org/wiki/ISO_3166-1">ISO 3166-1 - Wikipedia</a>
  * @see <a href="https://www.countries-ofthe-world.com/all-countries.html">COUNTRIES-of-the-WORLD.COM</a>
  * @see <a href="https://countrycode.org/">countrycode.org</a>
+ * @see <a href="https://en.wikipedia.org/wiki/List_of_country_calling_codes">Country Calling Codes - Wikipedia</a>
  * @since 0.1.0
  */
 @SuppressWarnings("unused")
 public enum Country {
 
-  AFGHANISTAN("AF", "AFG", "004", Continent.ASIA),
-  ALBANIA("AL", "ALB", "248", Continent.EUROPE),
-  ALGERIA("DZ", "DZA", "012", Continent.AFRICA),
-  ANDORRA("AD", "AND", "020", Continent.EUROPE),
-  ANGOLA("AO", "AGO", "024", Continent.AFRICA),
-  ANTIGUA_AND_BARBUDA("AG", "ATG", "028", Continent.NORTH_AMERICA),
-  ARGENTINA("AR", "ARG", "032", Continent.SOUTH_AMERICA),
-  ARMENIA("AM", "ARM", "051", Continent.ASIA, Continent.EUROPE),
-  AUSTRALIA("AU", "AUS", "036", Continent.AUSTRALIA_AND_OCEANIA),
-  AUSTRIA("AT", "AUT", "040", Continent.EUROPE),
-  AZERBAIJAN("AZ", "AZE", "031", Continent.ASIA, Continent.EUROPE),
-  BAHAMAS("BS", "BHS", "044", Continent.NORTH_AMERICA),
-  BAHRAIN("BH", "BHR", "048", Continent.ASIA),
-  BANGLADESH("BD", "BGD", "050", Continent.ASIA),
-  BARBADOS("BB", "BRB", "052", Continent.NORTH_AMERICA),
-  BELARUS("BY", "BLR", "112", Continent.EUROPE),
-  BELGIUM("BE", "BEL", "056", Continent.EUROPE),
-  BELIZE("BZ", "BLZ", "084", Continent.NORTH_AMERICA),
-  BENIN("BJ", "BEN", "204", Continent.AFRICA),
-  BHUTAN("BT", "BTN", "064", Continent.ASIA),
-  BOLIVIA("BO", "BOL", "068", Continent.SOUTH_AMERICA),
-  BOSNIA_AND_HERZEGOVINA("BA", "BIH", "070", Continent.EUROPE),
-  BOTSWANA("BW", "BWA", "072", Continent.AFRICA),
-  BRAZIL("BR", "BRA", "076", Continent.SOUTH_AMERICA),
-  BRUNEI_DARUSSALAM("BN", "BRN", "096", Continent.ASIA),
-  BULGARIA("BG", "BGR", "100", Continent.EUROPE),
-  BURKINA_FASO("BF", "BFA", "854", Continent.AFRICA),
-  BURUNDI("BI", "BDI", "108", Continent.AFRICA),
-  CABO_VERDE("CV", "CPV", "132", Continent.AFRICA),
-  CAMBODIA("KH", "KHM", "116", Continent.ASIA),
-  CAMEROON("CM", "CMR", "120", Continent.AFRICA),
-  CANADA("CA", "CAN", "124", Continent.NORTH_AMERICA),
-  CENTRAL_AFRICAN_REPUBLIC("CF", "CAF", "140", Continent.AFRICA),
-  CHAD("TD", "TCD", "148", Continent.AFRICA),
-  CHILE("CL", "CHL", "152", Continent.SOUTH_AMERICA),
-  CHINA("CN", "CHN", "156", Continent.ASIA),
-  COLOMBIA("CO", "COL", "170", Continent.SOUTH_AMERICA),
-  COMOROS("KM", "COM", "174", Continent.AFRICA),
-  CONGO("CG", "COG", "178", Continent.AFRICA),
-  DEMOCRATIC_REPUBLIC_OF_THE_CONGO("CD", "COD", "180", Continent.AFRICA),
-  COSTA_RICA("CR", "CRI", "188", Continent.NORTH_AMERICA),
-  COTE_D_IVOIRE("CI", "CIV", "384", Continent.AFRICA),
-  CROATIA("HR", "HRV", "191", Continent.EUROPE),
-  CUBA("CU", "CUB", "192", Continent.NORTH_AMERICA),
-  CYPRUS("CY", "CYP", "196", Continent.ASIA, Continent.EUROPE),
-  CZECHIA("CZ", "CZE", "203", Continent.EUROPE),
-  DENMARK("DK", "DNK", "208", Continent.EUROPE),
-  DJIBOUTI("DJ", "DJI", "262", Continent.AFRICA),
-  DOMINICA("DM", "DMA", "212", Continent.NORTH_AMERICA),
-  DOMINICAN_REPUBLIC("DO", "DOM", "214", Continent.NORTH_AMERICA),
-  ECUADOR("EC", "ECU", "218", Continent.SOUTH_AMERICA),
-  EGYPT("EG", "EGY", "818", Continent.AFRICA),
-  EL_SALVADOR("SV", "SLV", "222", Continent.NORTH_AMERICA),
-  EQUATORIAL_GUINEA("GQ", "GNQ", "226", Continent.AFRICA),
-  ERITREA("ER", "ERI", "232", Continent.AFRICA),
-  ESTONIA("EE", "EST", "233", Continent.EUROPE),
-  ETHIOPIA("ET", "ETH", "231", Continent.AFRICA),
-  FIJI("FJ", "FJI", "242", Continent.AUSTRALIA_AND_OCEANIA),
-  FINLAND("FI", "FIN", "246", Continent.EUROPE),
-  FRANCE("FR", "FRA", "250", Continent.EUROPE),
-  GABON("GA", "GAB", "266", Continent.AFRICA),
-  GAMBIA("GM", "GMB", "270", Continent.AFRICA),
-  GEORGIA("GE", "GEO", "268", Continent.ASIA, Continent.EUROPE),
-  GERMANY("DE", "DEU", "276", Continent.EUROPE),
-  GHANA("GH", "GHA", "288", Continent.AFRICA),
-  GREECE("GR", "GRC", "300", Continent.EUROPE),
-  GRENADA("GD", "GRD", "308", Continent.NORTH_AMERICA),
-  GUATEMALA("GT", "GRM", "320", Continent.NORTH_AMERICA),
-  GUINEA("GN", "GIN", "324", Continent.AFRICA),
-  GUINEA_BISSAU("GW", "GNB", "624", Continent.AFRICA),
-  GUYANA("GY", "GUY", "328", Continent.SOUTH_AMERICA),
-  HAITI("HT", "HTI", "332", Continent.NORTH_AMERICA),
-  HONDURAS("HN", "HND", "340", Continent.NORTH_AMERICA),
-  HUNGARY("HU", "HUN", "348", Continent.EUROPE),
-  ICELAND("IS", "ISL", "352", Continent.EUROPE),
-  INDIA("IN", "IND", "356", Continent.ASIA),
-  INDONESIA("ID", "IDN", "360", Continent.ASIA),
-  IRAN("IR", "IRN", "364", Continent.ASIA),
-  IRAQ("IQ", "IRQ", "368", Continent.ASIA),
-  IRELAND("IE", "IRL", "372", Continent.EUROPE),
-  ISRAEL("IL", "ISR", "376", Continent.ASIA),
-  ITALY("IT", "ITA", "380", Continent.EUROPE),
-  JAMAICA("JM", "JAM", "388", Continent.NORTH_AMERICA),
-  JAPAN("JP", "JPN", "392", Continent.ASIA),
-  JORDAN("JO", "JOR", "400", Continent.ASIA),
-  KAZAKHSTAN("KZ", "KAZ", "398", Continent.ASIA, Continent.EUROPE),
-  KENYA("KE", "KEN", "404", Continent.AFRICA),
-  KIRIBATI("KI", "KIR", "296", Continent.AUSTRALIA_AND_OCEANIA),
-  DEMOCRATIC_PEOPLES_REPUBLIC_OF_KOREA("KP", "PRK", "408", Continent.ASIA),
-  REPUBLIC_OF_KOREA("KR", "KOR", "410", Continent.ASIA),
-  KOSOVO("XK", "UNK", "383", Continent.EUROPE),
-  KUWAIT("KW", "KWT", "414", Continent.ASIA),
-  KYRGYZSTAN("KG", "KGZ", "417", Continent.ASIA),
-  LAOS("LA", "LAO", "418", Continent.ASIA),
-  LATVIA("LV", "LVA", "428", Continent.EUROPE),
-  LEBANON("LB", "LBN", "422", Continent.ASIA),
-  LESOTHO("LS", "LSO", "426", Continent.AFRICA),
-  LIBERIA("LR", "LBR", "430", Continent.AFRICA),
-  LIBYA("LY", "LBY", "434", Continent.AFRICA),
-  LIECHTENSTEIN("LI", "LIE", "438", Continent.EUROPE),
-  LITHUANIA("LT", "LTU", "440", Continent.EUROPE),
-  LUXEMBOURG("LU", "LUX", "442", Continent.EUROPE),
-  MACEDONIA("MK", "MKD", "807", Continent.EUROPE),
-  MADAGASCAR("MG", "MDG", "450", Continent.AFRICA),
-  MALAWI("MW", "MWI", "454", Continent.AFRICA),
-  MALAYSIA("MY", "MYS", "458", Continent.ASIA),
-  MALDIVES("MV", "MDV", "462", Continent.ASIA),
-  MALI("ML", "MLI", "466", Continent.AFRICA),
-  MALTA("MT", "MLT", "470", Continent.EUROPE),
-  MARSHALL_ISLANDS("MH", "MHL", "584", Continent.AUSTRALIA_AND_OCEANIA),
-  MAURITANIA("MR", "MRT", "478", Continent.AFRICA),
-  MAURITIUS("MU", "MUS", "480", Continent.AFRICA),
-  MEXICO("MX", "MEX", "484", Continent.NORTH_AMERICA),
-  MICRONESIA("FM", "FSM", "583", Continent.AUSTRALIA_AND_OCEANIA),
-  MOLDOVA("MD", "MDA", "498", Continent.EUROPE),
-  MONACO("MC", "MCO", "492", Continent.EUROPE),
-  MONGOLIA("MN", "MNG", "496", Continent.ASIA),
-  MONTENEGRO("ME", "MNE", "499", Continent.EUROPE),
-  MOROCCO("MA", "MAR", "504", Continent.AFRICA),
-  MOZAMBIQUE("MZ", "MOZ", "508", Continent.AFRICA),
-  MYANMAR("MM", "MMR", "104", Continent.ASIA),
-  NAMIBIA("NA", "NAM", "516", Continent.AFRICA),
-  NAURU("NR", "NRU", "520", Continent.AUSTRALIA_AND_OCEANIA),
-  NEPAL("NP", "NPL", "524", Continent.ASIA),
-  NETHERLANDS("NL", "NLD", "528", Continent.EUROPE),
-  NEW_ZEALAND("NZ", "NZL", "554", Continent.AUSTRALIA_AND_OCEANIA),
-  NICARAGUA("NI", "NIC", "558", Continent.NORTH_AMERICA),
-  NIGER("NE", "NER", "562", Continent.AFRICA),
-  NIGERIA("NG", "NGA", "566", Continent.AFRICA),
-  NORWAY("NO", "NOR", "578", Continent.EUROPE),
-  OMAN("OM", "OMN", "512", Continent.ASIA),
-  PAKISTAN("PK", "PAK", "586", Continent.ASIA),
-  PALAU("PW", "PLW", "585", Continent.AUSTRALIA_AND_OCEANIA),
-  PALESTINE("PS", "PSE", "275", Continent.ASIA),
-  PANAMA("PA", "PAN", "591", Continent.NORTH_AMERICA),
-  PAPUA_NEW_GUINEA("PG", "PNG", "598", Continent.AUSTRALIA_AND_OCEANIA),
-  PARAGUAY("PY", "PRY", "600", Continent.SOUTH_AMERICA),
-  PERU("PE", "PER", "604", Continent.SOUTH_AMERICA),
-  PHILIPPINES("PH", "PHL", "608", Continent.ASIA),
-  POLAND("PL", "POL", "616", Continent.EUROPE),
-  PORTUGAL("PT", "PRT", "620", Continent.EUROPE),
-  QATAR("QA", "QAT", "634", Continent.ASIA),
-  ROMANIA("RO", "ROU", "642", Continent.EUROPE),
-  RUSSIA("RU", "RUS", "643", Continent.ASIA, Continent.EUROPE),
-  RWANDA("RW", "RWA", "646", Continent.AFRICA),
-  SAINT_KITTS_AND_NEVIS("KN", "KNA", "659", Continent.NORTH_AMERICA),
-  SAINT_LUCIA("LC", "LCA", "662", Continent.NORTH_AMERICA),
-  SAINT_VINCENT_AND_THE_GRENADINES("VC", "VCT", "670", Continent.NORTH_AMERICA),
-  SAMOA("WS", "WSM", "882", Continent.AUSTRALIA_AND_OCEANIA),
-  SAN_MARINO("SM", "SMR", "674", Continent.EUROPE),
-  SAO_TOME_AND_PRINCIPE("ST", "STP", "678", Continent.AFRICA),
-  SAUDI_ARABIA("SA", "SAU", "682", Continent.ASIA),
-  SENEGAL("SN", "SEN", "686", Continent.AFRICA),
-  SERBIA("RS", "SRB", "688", Continent.EUROPE),
-  SEYCHELLES("SC", "SYC", "690", Continent.AFRICA),
-  SIERRA_LEONE("SL", "SLE", "694", Continent.AFRICA),
-  SINGAPORE("SG", "SGP", "702", Continent.ASIA),
-  SLOVAKIA("SK", "SVK", "703", Continent.EUROPE),
-  SLOVENIA("SI", "SVN", "705", Continent.EUROPE),
-  SOLOMON_ISLANDS("SB", "SLB", "090", Continent.AUSTRALIA_AND_OCEANIA),
-  SOMALIA("SO", "SOM", "706", Continent.AFRICA),
-  SOUTH_AFRICA("ZA", "ZAF", "710", Continent.AFRICA),
-  SOUTH_SUDAN("SS", "SSD", "728", Continent.AFRICA),
-  SPAIN("ES", "ESP", "724", Continent.EUROPE),
-  SRI_LANKA("LK", "LKA", "144", Continent.ASIA),
-  SUDAN("SD", "SDN", "729", Continent.AFRICA),
-  SURINAME("SR", "SUR", "740", Continent.SOUTH_AMERICA),
-  SWAZILAND("SZ", "SWZ", "748", Continent.AFRICA),
-  SWEDEN("SE", "SWE", "752", Continent.EUROPE),
-  SWITZERLAND("CH", "CHE", "756", Continent.EUROPE),
-  SYRIA("SY", "SYR", "760", Continent.ASIA),
-  TAIWAN("TW", "TWN", "158", Continent.ASIA),
-  TAJIKISTAN("TJ", "TJK", "762", Continent.ASIA),
-  TANZANIA("TZ", "TZA", "834", Continent.AFRICA),
-  THAILAND("TH", "THA", "764", Continent.ASIA),
-  TIMOR_LESTE("TL", "TLS", "626", Continent.ASIA),
-  TOGO("TG", "TGO", "768", Continent.AFRICA),
-  TONGA("TO", "TON", "776", Continent.AUSTRALIA_AND_OCEANIA),
-  TRINIDAD_AND_TOBAGO("TT", "TTO", "780", Continent.NORTH_AMERICA),
-  TUNISIA("TN", "TUN", "788", Continent.AFRICA),
-  TURKEY("TR", "TUR", "792", Continent.ASIA, Continent.EUROPE),
-  TURKMENISTAN("TM", "TKM", "795", Continent.ASIA),
-  TUVALU("TV", "TUV", "798", Continent.AUSTRALIA_AND_OCEANIA),
-  UGANDA("UG", "UGA", "800", Continent.AFRICA),
-  UKRAINE("UA", "UKR", "804", Continent.EUROPE),
-  UNITED_ARAB_EMIRATES("AE", "ARE", "784", Continent.ASIA),
-  UNITED_KINGDOM("GB", "GBR", "826", Continent.EUROPE),
-  UNITED_STATES_OF_AMERICA("US", "USA", "840", Continent.NORTH_AMERICA),
-  URUGUAY("UY", "URY", "858", Continent.SOUTH_AMERICA),
-  UZBEKISTAN("UZ", "UZB", "860", Continent.ASIA),
-  VANUATU("VU", "VUT", "548", Continent.AUSTRALIA_AND_OCEANIA),
-  VATICAN_CITY("VA", "VAT", "336", Continent.EUROPE),
-  VENEZUELA("VE", "VEN", "862", Continent.SOUTH_AMERICA),
-  VIETNAM("VN", "VNM", "704", Continent.ASIA),
-  YEMEN("YE", "YEM", "887", Continent.ASIA),
-  ZAMBIA("ZM", "ZMB", "894", Continent.AFRICA),
-  ZIMBABWE("ZW", "ZWE", "716", Continent.AFRICA),
-  UNKNOWN("UK", "UKN", "999");
+  AFGHANISTAN("AF", "AFG", "004", 93, Continent.ASIA),
+  ALBANIA("AL", "ALB", "248", 355, Continent.EUROPE),
+  ALGERIA("DZ", "DZA", "012", 213, Continent.AFRICA),
+  ANDORRA("AD", "AND", "020", 376, Continent.EUROPE),
+  ANGOLA("AO", "AGO", "024", 244, Continent.AFRICA),
+  ANTIGUA_AND_BARBUDA("AG", "ATG", "028", 1, Continent.NORTH_AMERICA),
+  ARGENTINA("AR", "ARG", "032", 54, Continent.SOUTH_AMERICA),
+  ARMENIA("AM", "ARM", "051", 374, Continent.ASIA, Continent.EUROPE),
+  AUSTRALIA("AU", "AUS", "036", 61, Continent.AUSTRALIA_AND_OCEANIA),
+  AUSTRIA("AT", "AUT", "040", 43, Continent.EUROPE),
+  AZERBAIJAN("AZ", "AZE", "031", 994, Continent.ASIA, Continent.EUROPE),
+  BAHAMAS("BS", "BHS", "044", 1, Continent.NORTH_AMERICA),
+  BAHRAIN("BH", "BHR", "048", 973, Continent.ASIA),
+  BANGLADESH("BD", "BGD", "050", 880, Continent.ASIA),
+  BARBADOS("BB", "BRB", "052", 1, Continent.NORTH_AMERICA),
+  BELARUS("BY", "BLR", "112", 375, Continent.EUROPE),
+  BELGIUM("BE", "BEL", "056", 32, Continent.EUROPE),
+  BELIZE("BZ", "BLZ", "084", 501, Continent.NORTH_AMERICA),
+  BENIN("BJ", "BEN", "204", 229, Continent.AFRICA),
+  BHUTAN("BT", "BTN", "064", 975, Continent.ASIA),
+  BOLIVIA("BO", "BOL", "068", 591, Continent.SOUTH_AMERICA),
+  BOSNIA_AND_HERZEGOVINA("BA", "BIH", "070", 387, Continent.EUROPE),
+  BOTSWANA("BW", "BWA", "072", 267, Continent.AFRICA),
+  BRAZIL("BR", "BRA", "076", 55, Continent.SOUTH_AMERICA),
+  BRUNEI_DARUSSALAM("BN", "BRN", "096", 673, Continent.ASIA),
+  BULGARIA("BG", "BGR", "100", 359, Continent.EUROPE),
+  BURKINA_FASO("BF", "BFA", "854", 226, Continent.AFRICA),
+  BURUNDI("BI", "BDI", "108", 257, Continent.AFRICA),
+  CABO_VERDE("CV", "CPV", "132", 238, Continent.AFRICA),
+  CAMBODIA("KH", "KHM", "116", 855, Continent.ASIA),
+  CAMEROON("CM", "CMR", "120", 237, Continent.AFRICA),
+  CANADA("CA", "CAN", "124", 1, Continent.NORTH_AMERICA),
+  CENTRAL_AFRICAN_REPUBLIC("CF", "CAF", "140", 236, Continent.AFRICA),
+  CHAD("TD", "TCD", "148", 235, Continent.AFRICA),
+  CHILE("CL", "CHL", "152", 56, Continent.SOUTH_AMERICA),
+  CHINA("CN", "CHN", "156", 86, Continent.ASIA),
+  COLOMBIA("CO", "COL", "170", 57, Continent.SOUTH_AMERICA),
+  COMOROS("KM", "COM", "174", 269, Continent.AFRICA),
+  CONGO("CG", "COG", "178", 242, Continent.AFRICA),
+  DEMOCRATIC_REPUBLIC_OF_THE_CONGO("CD", "COD", "180", 243, Continent.AFRICA),
+  COSTA_RICA("CR", "CRI", "188", 506, Continent.NORTH_AMERICA),
+  COTE_D_IVOIRE("CI", "CIV", "384", 225, Continent.AFRICA),
+  CROATIA("HR", "HRV", "191", 385, Continent.EUROPE),
+  CUBA("CU", "CUB", "192", 53, Continent.NORTH_AMERICA),
+  CYPRUS("CY", "CYP", "196", 357, Continent.ASIA, Continent.EUROPE),
+  CZECHIA("CZ", "CZE", "203", 420, Continent.EUROPE),
+  DENMARK("DK", "DNK", "208", 45, Continent.EUROPE),
+  DJIBOUTI("DJ", "DJI", "262", 253, Continent.AFRICA),
+  DOMINICA("DM", "DMA", "212", 1, Continent.NORTH_AMERICA),
+  DOMINICAN_REPUBLIC("DO", "DOM", "214", 1, Continent.NORTH_AMERICA),
+  ECUADOR("EC", "ECU", "218", 593, Continent.SOUTH_AMERICA),
+  EGYPT("EG", "EGY", "818", 20, Continent.AFRICA),
+  EL_SALVADOR("SV", "SLV", "222", 503, Continent.NORTH_AMERICA),
+  EQUATORIAL_GUINEA("GQ", "GNQ", "226", 240, Continent.AFRICA),
+  ERITREA("ER", "ERI", "232", 291, Continent.AFRICA),
+  ESTONIA("EE", "EST", "233", 372, Continent.EUROPE),
+  ETHIOPIA("ET", "ETH", "231", 251, Continent.AFRICA),
+  FIJI("FJ", "FJI", "242", 679, Continent.AUSTRALIA_AND_OCEANIA),
+  FINLAND("FI", "FIN", "246", 358, Continent.EUROPE),
+  FRANCE("FR", "FRA", "250", 33, Continent.EUROPE),
+  GABON("GA", "GAB", "266", 241, Continent.AFRICA),
+  GAMBIA("GM", "GMB", "270", 220, Continent.AFRICA),
+  GEORGIA("GE", "GEO", "268", 995, Continent.ASIA, Continent.EUROPE),
+  GERMANY("DE", "DEU", "276", 49, Continent.EUROPE),
+  GHANA("GH", "GHA", "288", 233, Continent.AFRICA),
+  GREECE("GR", "GRC", "300", 30, Continent.EUROPE),
+  GRENADA("GD", "GRD", "308", 1, Continent.NORTH_AMERICA),
+  GUATEMALA("GT", "GRM", "320", 502, Continent.NORTH_AMERICA),
+  GUINEA("GN", "GIN", "324", 224, Continent.AFRICA),
+  GUINEA_BISSAU("GW", "GNB", "624", 245, Continent.AFRICA),
+  GUYANA("GY", "GUY", "328", 592, Continent.SOUTH_AMERICA),
+  HAITI("HT", "HTI", "332", 509, Continent.NORTH_AMERICA),
+  HONDURAS("HN", "HND", "340", 504, Continent.NORTH_AMERICA),
+  HUNGARY("HU", "HUN", "348", 36, Continent.EUROPE),
+  ICELAND("IS", "ISL", "352", 354, Continent.EUROPE),
+  INDIA("IN", "IND", "356", 91, Continent.ASIA),
+  INDONESIA("ID", "IDN", "360", 62, Continent.ASIA),
+  IRAN("IR", "IRN", "364", 98, Continent.ASIA),
+  IRAQ("IQ", "IRQ", "368", 964, Continent.ASIA),
+  IRELAND("IE", "IRL", "372", 353, Continent.EUROPE),
+  ISRAEL("IL", "ISR", "376", 972, Continent.ASIA),
+  ITALY("IT", "ITA", "380", 39, Continent.EUROPE),
+  JAMAICA("JM", "JAM", "388", 1, Continent.NORTH_AMERICA),
+  JAPAN("JP", "JPN", "392", 81, Continent.ASIA),
+  JORDAN("JO", "JOR", "400", 962, Continent.ASIA),
+  KAZAKHSTAN("KZ", "KAZ", "398", 7, Continent.ASIA, Continent.EUROPE),
+  KENYA("KE", "KEN", "404", 254, Continent.AFRICA),
+  KIRIBATI("KI", "KIR", "296", 686, Continent.AUSTRALIA_AND_OCEANIA),
+  DEMOCRATIC_PEOPLES_REPUBLIC_OF_KOREA("KP", "PRK", "408", 850, Continent.ASIA),
+  REPUBLIC_OF_KOREA("KR", "KOR", "410", 82, Continent.ASIA),
+  KOSOVO("XK", "UNK", "383", 383, Continent.EUROPE),
+  KUWAIT("KW", "KWT", "414", 965, Continent.ASIA),
+  KYRGYZSTAN("KG", "KGZ", "417", 996, Continent.ASIA),
+  LAOS("LA", "LAO", "418", 856, Continent.ASIA),
+  LATVIA("LV", "LVA", "428", 371, Continent.EUROPE),
+  LEBANON("LB", "LBN", "422", 961, Continent.ASIA),
+  LESOTHO("LS", "LSO", "426", 266, Continent.AFRICA),
+  LIBERIA("LR", "LBR", "430", 231, Continent.AFRICA),
+  LIBYA("LY", "LBY", "434", 218, Continent.AFRICA),
+  LIECHTENSTEIN("LI", "LIE", "438", 423, Continent.EUROPE),
+  LITHUANIA("LT", "LTU", "440", 370, Continent.EUROPE),
+  LUXEMBOURG("LU", "LUX", "442", 352, Continent.EUROPE),
+  MACEDONIA("MK", "MKD", "807", 389, Continent.EUROPE),
+  MADAGASCAR("MG", "MDG", "450", 261, Continent.AFRICA),
+  MALAWI("MW", "MWI", "454", 265, Continent.AFRICA),
+  MALAYSIA("MY", "MYS", "458", 60, Continent.ASIA),
+  MALDIVES("MV", "MDV", "462", 960, Continent.ASIA),
+  MALI("ML", "MLI", "466", 223, Continent.AFRICA),
+  MALTA("MT", "MLT", "470", 356, Continent.EUROPE),
+  MARSHALL_ISLANDS("MH", "MHL", "584", 692, Continent.AUSTRALIA_AND_OCEANIA),
+  MAURITANIA("MR", "MRT", "478", 222, Continent.AFRICA),
+  MAURITIUS("MU", "MUS", "480", 230, Continent.AFRICA),
+  MEXICO("MX", "MEX", "484", 52, Continent.NORTH_AMERICA),
+  MICRONESIA("FM", "FSM", "583", 691, Continent.AUSTRALIA_AND_OCEANIA),
+  MOLDOVA("MD", "MDA", "498", 373, Continent.EUROPE),
+  MONACO("MC", "MCO", "492", 377, Continent.EUROPE),
+  MONGOLIA("MN", "MNG", "496", 976, Continent.ASIA),
+  MONTENEGRO("ME", "MNE", "499", 382, Continent.EUROPE),
+  MOROCCO("MA", "MAR", "504", 212, Continent.AFRICA),
+  MOZAMBIQUE("MZ", "MOZ", "508", 258, Continent.AFRICA),
+  MYANMAR("MM", "MMR", "104", 95, Continent.ASIA),
+  NAMIBIA("NA", "NAM", "516", 264, Continent.AFRICA),
+  NAURU("NR", "NRU", "520", 674, Continent.AUSTRALIA_AND_OCEANIA),
+  NEPAL("NP", "NPL", "524", 977, Continent.ASIA),
+  NETHERLANDS("NL", "NLD", "528", 31, Continent.EUROPE),
+  NEW_ZEALAND("NZ", "NZL", "554", 64, Continent.AUSTRALIA_AND_OCEANIA),
+  NICARAGUA("NI", "NIC", "558", 505, Continent.NORTH_AMERICA),
+  NIGER("NE", "NER", "562", 227, Continent.AFRICA),
+  NIGERIA("NG", "NGA", "566", 234, Continent.AFRICA),
+  NORWAY("NO", "NOR", "578", 47, Continent.EUROPE),
+  OMAN("OM", "OMN", "512", 968, Continent.ASIA),
+  PAKISTAN("PK", "PAK", "586", 92, Continent.ASIA),
+  PALAU("PW", "PLW", "585", 680, Continent.AUSTRALIA_AND_OCEANIA),
+  PALESTINE("PS", "PSE", "275", 970, Continent.ASIA),
+  PANAMA("PA", "PAN", "591", 507, Continent.NORTH_AMERICA),
+  PAPUA_NEW_GUINEA("PG", "PNG", "598", 675, Continent.AUSTRALIA_AND_OCEANIA),
+  PARAGUAY("PY", "PRY", "600", 595, Continent.SOUTH_AMERICA),
+  PERU("PE", "PER", "604", 51, Continent.SOUTH_AMERICA),
+  PHILIPPINES("PH", "PHL", "608", 63, Continent.ASIA),
+  POLAND("PL", "POL", "616", 48, Continent.EUROPE),
+  PORTUGAL("PT", "PRT", "620", 351, Continent.EUROPE),
+  QATAR("QA", "QAT", "634", 974, Continent.ASIA),
+  ROMANIA("RO", "ROU", "642", 40, Continent.EUROPE),
+  RUSSIA("RU", "RUS", "643", 7, Continent.ASIA, Continent.EUROPE),
+  RWANDA("RW", "RWA", "646", 250, Continent.AFRICA),
+  SAINT_KITTS_AND_NEVIS("KN", "KNA", "659", 1, Continent.NORTH_AMERICA),
+  SAINT_LUCIA("LC", "LCA", "662", 1, Continent.NORTH_AMERICA),
+  SAINT_VINCENT_AND_THE_GRENADINES("VC", "VCT", "670", 1, Continent.NORTH_AMERICA),
+  SAMOA("WS", "WSM", "882", 685, Continent.AUSTRALIA_AND_OCEANIA),
+  SAN_MARINO("SM", "SMR", "674", 378, Continent.EUROPE),
+  SAO_TOME_AND_PRINCIPE("ST", "STP", "678", 239, Continent.AFRICA),
+  SAUDI_ARABIA("SA", "SAU", "682", 966, Continent.ASIA),
+  SENEGAL("SN", "SEN", "686", 221, Continent.AFRICA),
+  SERBIA("RS", "SRB", "688", 381, Continent.EUROPE),
+  SEYCHELLES("SC", "SYC", "690", 248, Continent.AFRICA),
+  SIERRA_LEONE("SL", "SLE", "694", 232, Continent.AFRICA),
+  SINGAPORE("SG", "SGP", "702", 65, Continent.ASIA),
+  SLOVAKIA("SK", "SVK", "703", 421, Continent.EUROPE),
+  SLOVENIA("SI", "SVN", "705", 386, Continent.EUROPE),
+  SOLOMON_ISLANDS("SB", "SLB", "090", 677, Continent.AUSTRALIA_AND_OCEANIA),
+  SOMALIA("SO", "SOM", "706", 252, Continent.AFRICA),
+  SOUTH_AFRICA("ZA", "ZAF", "710", 27, Continent.AFRICA),
+  SOUTH_SUDAN("SS", "SSD", "728", 211, Continent.AFRICA),
+  SPAIN("ES", "ESP", "724", 34, Continent.EUROPE),
+  SRI_LANKA("LK", "LKA", "144", 94, Continent.ASIA),
+  SUDAN("SD", "SDN", "729", 249, Continent.AFRICA),
+  SURINAME("SR", "SUR", "740", 597, Continent.SOUTH_AMERICA),
+  SWAZILAND("SZ", "SWZ", "748", 268, Continent.AFRICA),
+  SWEDEN("SE", "SWE", "752", 46, Continent.EUROPE),
+  SWITZERLAND("CH", "CHE", "756", 41, Continent.EUROPE),
+  SYRIA("SY", "SYR", "760", 963, Continent.ASIA),
+  TAIWAN("TW", "TWN", "158", 886, Continent.ASIA),
+  TAJIKISTAN("TJ", "TJK", "762", 992, Continent.ASIA),
+  TANZANIA("TZ", "TZA", "834", 255, Continent.AFRICA),
+  THAILAND("TH", "THA", "764", 66, Continent.ASIA),
+  TIMOR_LESTE("TL", "TLS", "626", 670, Continent.ASIA),
+  TOGO("TG", "TGO", "768", 228, Continent.AFRICA),
+  TONGA("TO", "TON", "776", 676, Continent.AUSTRALIA_AND_OCEANIA),
+  TRINIDAD_AND_TOBAGO("TT", "TTO", "780", 1, Continent.NORTH_AMERICA),
+  TUNISIA("TN", "TUN", "788", 216, Continent.AFRICA),
+  TURKEY("TR", "TUR", "792", 90, Continent.ASIA, Continent.EUROPE),
+  TURKMENISTAN("TM", "TKM", "795", 993, Continent.ASIA),
+  TUVALU("TV", "TUV", "798", 688, Continent.AUSTRALIA_AND_OCEANIA),
+  UGANDA("UG", "UGA", "800", 256, Continent.AFRICA),
+  UKRAINE("UA", "UKR", "804", 380, Continent.EUROPE),
+  UNITED_ARAB_EMIRATES("AE", "ARE", "784", 971, Continent.ASIA),
+  UNITED_KINGDOM("GB", "GBR", "826", 44, Continent.EUROPE),
+  UNITED_STATES_OF_AMERICA("US", "USA", "840", 1, Continent.NORTH_AMERICA),
+  URUGUAY("UY", "URY", "858", 598, Continent.SOUTH_AMERICA),
+  UZBEKISTAN("UZ", "UZB", "860", 998, Continent.ASIA),
+  VANUATU("VU", "VUT", "548", 678, Continent.AUSTRALIA_AND_OCEANIA),
+  VATICAN_CITY("VA", "VAT", "336", 39, Continent.EUROPE),
+  VENEZUELA("VE", "VEN", "862", 58, Continent.SOUTH_AMERICA),
+  VIETNAM("VN", "VNM", "704", 84, Continent.ASIA),
+  YEMEN("YE", "YEM", "887", 967, Continent.ASIA),
+  ZAMBIA("ZM", "ZMB", "894", 260, Continent.AFRICA),
+  ZIMBABWE("ZW", "ZWE", "716", 263, Continent.AFRICA),
+  UNKNOWN("UK", "UKN", "999", 0);
+
+  private static final Map<String, Country> ISO_TWO_INDEX = newIsoCodeIndex(Country::getIsoTwo);
+  private static final Map<String, Country> ISO_THREE_INDEX = newIsoCodeIndex(Country::getIsoThree);
+  private static final Map<String, Country> ISO_THREE_DIGIT_NUMERIC_COUNTRY_CODE_INDEX =
+    newIsoCodeIndex(Country::getIsoThreeDigitNumericCountryCode);
+
+  private static final Map<Continent, Set<Country>> CONTINENT_INDEX = newContinentIndex();
+
+  private static final Country[] CALLING_CODE_INDEX = newCallingCodeIndex();
+
+  private static volatile LocalCountry localCountry;
+
+  private static @NotNull Map<String, Country> newIsoCodeIndex(@NotNull Function<Country, String> isoCodeFunction) {
+
+    Map<String, Country> isoCodeIndex = new HashMap<>();
+
+    for (Country country : values()) {
+
+      String isoCode = isoCodeFunction.apply(country);
+
+      if (isoCode != null) {
+        isoCodeIndex.putIfAbsent(isoCode.toUpperCase(Locale.ROOT), country);
+      }
+    }
+
+    return Collections.unmodifiableMap(isoCodeIndex);
+  }
+
+  // Countries sharing a calling code are indexed by the Country with the most subscribers
+  private static @NotNull Country[] newCallingCodeIndex() {
+
+    Country[] callingCodeIndex = new Country[1_000];
+
+    for (Country country : values()) {
+
+      int callingCode = country.getCallingCode();
+
+      if (callingCode > 0 && callingCodeIndex[callingCode] == null) {
+        callingCodeIndex[callingCode] = country;
+      }
+    }
+
+    callingCodeIndex[UNITED_STATES_OF_AMERICA.getCallingCode()] = UNITED_STATES_OF_AMERICA;
+    callingCodeIndex[RUSSIA.getCallingCode()] = RUSSIA;
+    callingCodeIndex[ITALY.getCallingCode()] = ITALY;
+
+    return callingCodeIndex;
+  }
+
+  private static @NotNull Map<Continent, Set<Country>> newContinentIndex() {
+
+    Map<Continent, Set<Country>> continentIndex = new EnumMap<>(Continent.class);
+
+    for (Continent continent : Continent.values()) {
+
+      Set<Country> countries = EnumSet.noneOf(Country.class);
+
+      for (Country country : values()) {
+        if (country.isLocatedOnContinent(continent)) {
+          countries.add(country);
+        }
+      }
+
+      continentIndex.put(continent, Collections.unmodifiableSet(countries));
+    }
+
+    return Collections.unmodifiableMap(continentIndex);
+  }
 
   /**
    * Returns a {@link Set} of all the {@link Country Countries} in the {@literal World}
    * located on the given {@link Continent}.
    *
    * @param continent {@link Continent} containing the {@link Country Countries} to return.
-   * @return all {@link Country Countries} in the {@literal World} located on the given {@link Continent}.
+   * @return an unmodifiable {@link Set} of all {@link Country Countries} in the {@literal World}
+   * located on the given {@link Continent}.
    * @see org.cp.domain.geo.enums.Continent
    * @see org.cp.domain.geo.enums.Country
    * @see #isLocatedOnContinent(Continent)
-   * @see #values()
    */
   @NullSafe
   public static Set<Country> byContinent(@Nullable Continent continent) {
+    return continent != null ? CONTINENT_INDEX.get(continent) : Collections.emptySet();
+  }
+
+  @NullSafe
+  private static @Nullable Country byIsoCode(@NotNull Map<String, Country> isoCodeIndex, @Nullable String isoCode) {
 
-    return Arrays.stream(values())
-      .filter(country -> country.isLocatedOnContinent(continent))
-      .collect(Collectors.toSet());
+    if (isoCode == null) {
+      return null;
+    }
+
+    Country country = isoCodeIndex.get(isoCode);
+
+    // ISO country codes are indexed in upper case; only allocate an upper case String on a miss
+    return country != null ? country : isoCodeIndex.get(isoCode.toUpperCase(Locale.ROOT));
   }
 
-  private static Optional<Country> byQueryPredicate(@NotNull Predicate<Country> countryPredicate) {
+  /**
+   * Factory method used to find a {@link Country} based on the {@literal ITU-T E.164} international calling code.
+   * <p>
+   * When more than one {@link Country} shares a calling code, such as the {@literal North American Numbering Plan}
+   * countries sharing {@literal +1}, the {@link Country} with the most subscribers is returned, for example,
+   * the {@link Country#UNITED_STATES_OF_AMERICA}.
+   *
+   * @param callingCode {@literal 1 to 3-digit} international calling code.
+   * @return the {@link Country} for the given international calling code.
+   * @throws IllegalArgumentException if no {@link Country} is found.
+   * @see org.cp.domain.geo.enums.Country#getCallingCode()
+   */
+  public static @NotNull Country byCallingCode(int callingCode) {
+
+    Country country = callingCode > 0 && callingCode < CALLING_CODE_INDEX.length
+      ? CALLING_CODE_INDEX[callingCode]
+      : null;
+
+    if (country == null) {
+      throw newIllegalArgumentException("Country for calling code [%s] was not found", callingCode);
+    }
 
-    return Arrays.stream(values())
-      .filter(countryPredicate)
-      .findFirst();
+    return country;
   }
 
   /**
@@ -274,13 +377,16 @@ public enum Country {
    * @return a {@link Country} for the given {@literal ISO 3 alphanumeric country code}.
    * @throws IllegalArgumentException if no {@link Country} is found.
    * @see org.cp.domain.geo.enums.Country#getIsoThree()
-   * @see #byQueryPredicate(Predicate)
    */
   public static @NotNull Country byIsoThree(@NotNull String isoThreeCountryCode) {
 
-    return byQueryPredicate(country -> country.getIsoThree().equalsIgnoreCase(isoThreeCountryCode))
-      .orElseThrow(() -> newIllegalArgumentException("Country for ISO 3166-3 [%s] was not found",
-        isoThreeCountryCode));
+    Country country = byIsoCode(ISO_THREE_INDEX, isoThreeCountryCode);
+
+    if (country == null) {
+      throw newIllegalArgumentException("Country for ISO 3166-3 [%s] was not found", isoThreeCountryCode);
+    }
+
+    return country;
   }
 
   /**
@@ -290,14 +396,17 @@ public enum Country {
    * @return a {@link Country} for the given {@literal ISO 3-digit numeric code}.
    * @throws IllegalArgumentException if no {@link Country} is found.
    * @see org.cp.domain.geo.enums.Country#getIsoThreeDigitNumericCountryCode()
-   * @see #byQueryPredicate(Predicate)
    */
   public static @NotNull Country byIsoThreeDigitNumericCountryCode(@NotNull String isoThreeDigitNumericCountryCode) {
 
-    return byQueryPredicate(country -> country.getIsoThreeDigitNumericCountryCode()
-      .equalsIgnoreCase(isoThreeDigitNumericCountryCode))
-      .orElseThrow(() -> newIllegalArgumentException("Country for ISO 3-digit numeric country code [%s] was not found",
-        isoThreeDigitNumericCountryCode));
+    Country country = byIsoCode(ISO_THREE_DIGIT_NUMERIC_COUNTRY_CODE_INDEX, isoThreeDigitNumericCountryCode);
+
+    if (country == null) {
+      throw newIllegalArgumentException("Country for ISO 3-digit numeric country code [%s] was not found",
+        isoThreeDigitNumericCountryCode);
+    }
+
+    return country;
   }
 
   /**
@@ -307,17 +416,23 @@ public enum Country {
    * @return a {@link Country} for the given {@literal ISO 2 alphanumeric country code}.
    * @throws IllegalArgumentException if no {@link Country} is found.
    * @see org.cp.domain.geo.enums.Country#getIsoTwo()
-   * @see #byQueryPredicate(Predicate)
    */
   public static @NotNull Country byIsoTwo(String isoTwoCountryCode) {
 
-    return byQueryPredicate(country -> country.getIsoTwo().equalsIgnoreCase(isoTwoCountryCode))
-      .orElseThrow(() -> newIllegalArgumentException("Country for ISO 3166-2 [%s] was not found",
-        isoTwoCountryCode));
+    Country country = byIsoCode(ISO_TWO_INDEX, isoTwoCountryCode);
+
+    if (country == null) {
+      throw newIllegalArgumentException("Country for ISO 3166-2 [%s] was not found", isoTwoCountryCode);
+    }
+
+    return country;
   }
 
   /**
    * Return the local {@link Country} determined from the current {@link Locale}.
+   * <p>
+   * The local {@link Country} is cached and only resolved again when the {@link Locale#getDefault() default Locale}
+   * changes.
    *
    * @return the {@link Country} in this {@link Locale}.
    * @see org.cp.domain.geo.enums.Country#getIsoThree()
@@ -328,11 +443,18 @@ public enum Country {
 
     Locale defaultLocale = Locale.getDefault();
 
-    String isoThreeLetterCode = defaultLocale.getISO3Country();
+    LocalCountry resolvedLocalCountry = localCountry;
+
+    if (resolvedLocalCountry == null || !resolvedLocalCountry.isFor(defaultLocale)) {
+      resolvedLocalCountry = new LocalCountry(defaultLocale, byIsoThree(defaultLocale.getISO3Country()));
+      localCountry = resolvedLocalCountry;
+    }
 
-    return byIsoThree(isoThreeLetterCode);
+    return resolvedLocalCountry.country();
   }
 
+  private final int callingCode;
+
   private final Set<Continent> continents;
 
   private final String isoTwo;
@@ -343,31 +465,47 @@ public enum Country {
    * Constructs a new {@link Country} located on the given {@link Continent Continents}.
    *
    * @param continents array of {@link Continent Continents} in which this {@link Country} is located.
-   * @see #Country(String, String, String, Continent...)
+   * @see #Country(String, String, String, int, Continent...)
    * @see org.cp.domain.geo.enums.Continent
    */
   Country(Continent... continents) {
-    this(null, null, null, continents);
+    this(null, null, null, 0, continents);
   }
 
   /**
    * Constructs a new {@link Country} on the given {@link Continent Continents}
-   * with the {@literal ISO} country codes.
+   * with the {@literal ISO} country codes and {@literal ITU-T E.164} international calling code.
    *
    * @param isoTwo {@link String} containing the {@literal ISO 2 alphanumeric country code}.
    * @param isoThree {@link String} containing the {@literal ISO 3 alphanumeric country code}.
    * @param isoThreeDigitNumericCountryCode {@link String} containing the {@literal ISO 3-digit numeric country code}.
+   * @param callingCode {@literal 1 to 3-digit} international calling code; {@literal 0} if none.
    * @param continents array of {@link Continent Continents} in which this {@link Country} is located.
    * @see org.cp.domain.geo.enums.Continent
    */
-  Country(String isoTwo, String isoThree, String isoThreeDigitNumericCountryCode, Continent... continents) {
+  Country(String isoTwo, String isoThree, String isoThreeDigitNumericCountryCode, int callingCode,
+      Continent... continents) {
 
+    this.callingCode = callingCode;
     this.isoTwo = isoTwo;
     this.isoThree = isoThree;
     this.isoThreeDigitNumericCountryCode = isoThreeDigitNumericCountryCode;
     this.continents = Set.of(continents);
   }
 
+  /**
+   * Returns the {@literal ITU-T E.164} international calling code for this {@link Country},
+   * for example, {@literal 1} for the {@link Country#UNITED_STATES_OF_AMERICA} or {@literal 44}
+   * for the {@link Country#UNITED_KINGDOM}.
+   *
+   * @return the {@literal 1 to 3-digit} international calling code for this {@link Country},
+   * or {@literal 0} if this {@link Country} has no calling code.
+   * @see #byCallingCode(int)
+   */
+  public int getCallingCode() {
+    return this.callingCode;
+  }
+
   /**
    * Returns a {@link Set} of {@link Continent Continents} in the {@literal World}
    * in which this {@link Country} is located.
@@ -523,4 +661,17 @@ public enum Country {
   public boolean isUnitedStatesOfAmerica() {
     return isCountry(Country.UNITED_STATES_OF_AMERICA);
   }
+
+  /**
+   * Cached {@link Country} resolved for a {@link Locale}.
+   *
+   * @param locale {@link Locale} from which the {@link Country} was resolved.
+   * @param country {@link Country} resolved from the {@link Locale}.
+   */
+  private record LocalCountry(Locale locale, Country country) {
+
+    boolean isFor(@NotNull Locale locale) {
+      return this.locale == locale || this.locale.equals(locale);
+    }
+  }
 }
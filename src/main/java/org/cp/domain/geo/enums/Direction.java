@@ -17,12 +17,12 @@ package org.cp.domain.geo.enums;
 
 import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalArgumentException;
 
-import java.util.Arrays;
-
+import org.cp.domain.core.enums.support.EnumLookupTable;
 import org.cp.domain.geo.model.Distance;
 import org.cp.elements.lang.Nameable;
 import org.cp.elements.lang.StringUtils;
 import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
 
 /**
  * {@link Enum Enumeration} of {@literal directions}.
@@ -44,20 +44,29 @@ public enum Direction implements Nameable<String> {
   EAST("E"),
   WEST("W");
 
+  private static final EnumLookupTable<Direction> ABBREVIATION_LOOKUP_TABLE =
+    EnumLookupTable.of(Direction.class, Direction::getAbbreviation);
+
+  private static final EnumLookupTable<Direction> NAME_LOOKUP_TABLE = EnumLookupTable.of(Direction.class, Enum::name);
+
   /**
    * Factory method used to query a {@link Direction} by {@link String abbreviation}.
    *
    * @param abbreviation {@link String} containing the {@literal abbreviation} of the {@link Direction}.
    * @return a {@link Direction} matching the given {@link String abbreviation}.
    * @throws IllegalArgumentException if the {@link String abbreviation} does not match a {@link Direction}.
+   * @see #valueOfAbbreviation(CharSequence)
    * @see #getAbbreviation()
    */
   public static @NotNull Direction fromAbbreviation(@NotNull String abbreviation) {
 
-    return Arrays.stream(values())
-      .filter(direction -> direction.getAbbreviation().equalsIgnoreCase(abbreviation))
-      .findFirst()
-      .orElseThrow(() -> newIllegalArgumentException("Direction abbreviation [%s] is not valid", abbreviation));
+    Direction direction = ABBREVIATION_LOOKUP_TABLE.getIgnoreCase(abbreviation);
+
+    if (direction == null) {
+      throw newIllegalArgumentException("Direction abbreviation [%s] is not valid", abbreviation);
+    }
+
+    return direction;
   }
 
   /**
@@ -66,14 +75,68 @@ public enum Direction implements Nameable<String> {
    * @param name {@link String} containing a {@literal name} used to look up the {@link Direction}.
    * @return a {@link Direction} for the given {@link String name}.
    * @throws IllegalArgumentException if the given {@link String name} does not match a {@link Direction}.
+   * @see #valueOfName(CharSequence)
    * @see #name()
    */
   public static @NotNull Direction fromName(@NotNull String name) {
 
-    return Arrays.stream(values())
-      .filter(direction -> direction.name().equalsIgnoreCase(name))
-      .findFirst()
-      .orElseThrow(() -> newIllegalArgumentException("Direction name [%s] is not valid", name));
+    Direction direction = NAME_LOOKUP_TABLE.getIgnoreCase(name);
+
+    if (direction == null) {
+      throw newIllegalArgumentException("Direction name [%s] is not valid", name);
+    }
+
+    return direction;
+  }
+
+  /**
+   * Factory method used to look up a {@link Direction} by {@link CharSequence abbreviation}
+   * without throwing an {@link Exception} on a miss.
+   *
+   * @param abbreviation {@link CharSequence} containing the {@literal abbreviation} of the {@link Direction}.
+   * @return a {@link Direction} matching the given {@link CharSequence abbreviation}, or {@literal null}
+   * if the {@link CharSequence abbreviation} does not match a {@link Direction}.
+   * @see org.cp.domain.core.enums.support.EnumLookupTable
+   * @see #getAbbreviation()
+   */
+  public static @Nullable Direction valueOfAbbreviation(@Nullable CharSequence abbreviation) {
+    return ABBREVIATION_LOOKUP_TABLE.get(abbreviation);
+  }
+
+  /**
+   * Factory method used to look up a {@link Direction} by {@link CharSequence name}
+   * without throwing an {@link Exception} on a miss.
+   *
+   * @param name {@link CharSequence} containing the {@literal name} of the {@link Direction}.
+   * @return a {@link Direction} matching the given {@link CharSequence name}, or {@literal null}
+   * if the {@link CharSequence name} does not match a {@link Direction}.
+   * @see org.cp.domain.core.enums.support.EnumLookupTable
+   * @see #name()
+   */
+  public static @Nullable Direction valueOfName(@Nullable CharSequence name) {
+    return NAME_LOOKUP_TABLE.get(name);
+  }
+
+  /**
+   * Factory method used to look up a {@link Direction} by {@literal abbreviation}, or by {@literal name}
+   * when the {@literal abbreviation} does not match, from the region of the given {@link CharSequence}
+   * without allocating a {@link String} or throwing an {@link Exception} on a miss.
+   *
+   * @param text {@link CharSequence} containing the {@literal abbreviation} or {@literal name}
+   * of the {@link Direction}.
+   * @param beginIndex {@link Integer index} of the first character, inclusive.
+   * @param endIndex {@link Integer index} of the last character, exclusive.
+   * @return a {@link Direction} matching the region of the given {@link CharSequence}, or {@literal null}
+   * if the region does not match a {@link Direction}.
+   * @throws IndexOutOfBoundsException if the region is not within the bounds of the {@link CharSequence}.
+   * @see org.cp.domain.core.enums.support.EnumLookupTable#get(CharSequence, int, int)
+   */
+  public static @Nullable Direction valueOfAbbreviationOrName(@Nullable CharSequence text,
+      int beginIndex, int endIndex) {
+
+    Direction direction = ABBREVIATION_LOOKUP_TABLE.get(text, beginIndex, endIndex);
+
+    return direction != null ? direction : NAME_LOOKUP_TABLE.get(text, beginIndex, endIndex);
   }
 
   private final String abbreviation;
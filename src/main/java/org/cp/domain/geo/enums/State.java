@@ -16,7 +16,7 @@
 
 package org.cp.domain.geo.enums;
 
-import java.util.Arrays;
+import org.cp.domain.core.enums.support.EnumLookupTable;
 
 /**
  * The {@link State} enum is an {@link Enum enumeration} of all 50 of the United States of America.
@@ -80,38 +80,82 @@ public enum State {
   WISCONSIN("WI", "Wisconsin"),
   WYOMING("WY", "Wyoming");
 
+  private static final EnumLookupTable<State> ABBREVIATION_LOOKUP_TABLE =
+    EnumLookupTable.of(State.class, State::getAbbreviation);
+
+  private static final EnumLookupTable<State> NAME_LOOKUP_TABLE = EnumLookupTable.of(State.class, State::getName);
+
   /**
-   * Factory method used to find or lookup a {@link State} by {@link String abbreviation}.
+   * Factory method used to find or lookup a {@link State} by {@link String abbreviation}, ignoring case.
    *
    * @param abbreviation {@link String} containing the abbreviation of the {@link State} to find.
    * @return the {@link State} with the given {@link String abbreviation} or {@literal null}
    * if no {@link State} with the given {@link String abbreviation} could be found.
+   * @see #valueOfAbbreviation(CharSequence)
    * @see #getAbbreviation()
-   * @see #values()
    */
   public static State valueOfAbbreviation(String abbreviation) {
+    return ABBREVIATION_LOOKUP_TABLE.getIgnoreCase(abbreviation);
+  }
 
-    return Arrays.stream(values())
-      .filter(state -> state.getAbbreviation().equalsIgnoreCase(abbreviation))
-      .findFirst()
-      .orElse(null);
+  /**
+   * Factory method used to find or lookup a {@link State} by {@link CharSequence abbreviation},
+   * ignoring case and leading and trailing whitespace.
+   *
+   * @param abbreviation {@link CharSequence} containing the abbreviation of the {@link State} to find.
+   * @return the {@link State} with the given {@link CharSequence abbreviation} or {@literal null}
+   * if no {@link State} with the given {@link CharSequence abbreviation} could be found.
+   * @see org.cp.domain.core.enums.support.EnumLookupTable
+   * @see #getAbbreviation()
+   */
+  public static State valueOfAbbreviation(CharSequence abbreviation) {
+    return ABBREVIATION_LOOKUP_TABLE.get(abbreviation);
   }
 
   /**
-   * Factory method used to find or lookup a {@link State} by {@link String name}.
+   * Factory method used to find or lookup a {@link State} by {@link String name}, ignoring case.
    *
    * @param name {@link String} containing the name of the {@link State} to find.
    * @return the {@link State} with the given {@link String name} or {@literal null}
    * if no {@link State} with the given {@link String name} could be found.
+   * @see #valueOfName(CharSequence)
    * @see #getName()
-   * @see #values()
    */
   public static State valueOfName(String name) {
+    return NAME_LOOKUP_TABLE.getIgnoreCase(name);
+  }
+
+  /**
+   * Factory method used to find or lookup a {@link State} by {@link CharSequence name},
+   * ignoring case and leading and trailing whitespace.
+   *
+   * @param name {@link CharSequence} containing the name of the {@link State} to find.
+   * @return the {@link State} with the given {@link CharSequence name} or {@literal null}
+   * if no {@link State} with the given {@link CharSequence name} could be found.
+   * @see org.cp.domain.core.enums.support.EnumLookupTable
+   * @see #getName()
+   */
+  public static State valueOfName(CharSequence name) {
+    return NAME_LOOKUP_TABLE.get(name);
+  }
+
+  /**
+   * Factory method used to find or lookup a {@link State} by abbreviation, or by name when the abbreviation
+   * does not match, from the region of the given {@link CharSequence} without allocating a {@link String}.
+   *
+   * @param text {@link CharSequence} containing the abbreviation or name of the {@link State} to find.
+   * @param beginIndex {@link Integer index} of the first character, inclusive.
+   * @param endIndex {@link Integer index} of the last character, exclusive.
+   * @return the {@link State} matching the region of the given {@link CharSequence} or {@literal null}
+   * if no {@link State} matches the region.
+   * @throws IndexOutOfBoundsException if the region is not within the bounds of the {@link CharSequence}.
+   * @see org.cp.domain.core.enums.support.EnumLookupTable#get(CharSequence, int, int)
+   */
+  public static State valueOfAbbreviationOrName(CharSequence text, int beginIndex, int endIndex) {
+
+    State state = ABBREVIATION_LOOKUP_TABLE.get(text, beginIndex, endIndex);
 
-    return Arrays.stream(values())
-      .filter(state -> state.getName().equalsIgnoreCase(name))
-      .findFirst()
-      .orElse(null);
+    return state != null ? state : NAME_LOOKUP_TABLE.get(text, beginIndex, endIndex);
   }
 
   private final String abbreviation;
@@ -19,13 +19,13 @@ import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalArgumentEx
 import static org.cp.elements.lang.RuntimeExceptionsFactory.newUnsupportedOperationException;
 
 import java.io.Serializable;
-import java.util.Arrays;
 import java.util.Locale;
 import java.util.Optional;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
+import org.cp.domain.core.enums.support.EnumLookupTable;
 import org.cp.domain.core.serialization.json.JsonSerializable;
 import org.cp.domain.geo.enums.Country;
 import org.cp.domain.geo.serialization.json.AddressJsonDeserializer;
@@ -723,6 +723,9 @@ public interface Address extends Cloneable, Comparable<Address>, Identifiable<Lo
     WORK("WA", "Work"),
     UNKNOWN("??", "Unknown");
 
+    private static final EnumLookupTable<Address.Type> ABBREVIATION_LOOKUP_TABLE =
+      EnumLookupTable.of(Address.Type.class, Address.Type::getAbbreviation);
+
     /**
      * Factory method used to search for an appropriate {@link Address.Type} based on its {@link String abbreviation}.
      * <p>
@@ -733,15 +736,34 @@ public interface Address extends Cloneable, Comparable<Address>, Identifiable<Lo
      * @return the {@link Address.Type} for the given {@link String abbreviation}.
      * @throws IllegalArgumentException if no {@link Address.Type} could be found
      * for the given {@link String abbreviation}.
-     * @see #values()
+     * @see #valueOfAbbreviation(CharSequence)
      */
     public static @NotNull Address.Type from(@Nullable String abbreviation) {
 
-      return Arrays.stream(values())
-        .filter(type -> type.getAbbreviation().equalsIgnoreCase(StringUtils.trim(abbreviation)))
-        .findFirst()
-        .orElseThrow(() -> newIllegalArgumentException("Address.Type for abbreviation [%s] was not found",
-          abbreviation));
+      Address.Type type = valueOfAbbreviation(abbreviation);
+
+      if (type == null) {
+        throw newIllegalArgumentException("Address.Type for abbreviation [%s] was not found", abbreviation);
+      }
+
+      return type;
+    }
+
+    /**
+     * Factory method used to look up an {@link Address.Type} based on its {@link CharSequence abbreviation}
+     * without throwing an {@link Exception} on a miss.
+     * <p>
+     * This method performs a case-insensitive, ignoring whitespace search.
+     *
+     * @param abbreviation {@link CharSequence} containing the {@literal abbreviation} used to identify
+     * the desired {@link Address.Type}.
+     * @return the {@link Address.Type} for the given {@link CharSequence abbreviation}, or {@literal null}
+     * if no {@link Address.Type} could be found for the given {@link CharSequence abbreviation}.
+     * @see org.cp.domain.core.enums.support.EnumLookupTable
+     * @see #getAbbreviation()
+     */
+    public static @Nullable Address.Type valueOfAbbreviation(@Nullable CharSequence abbreviation) {
+      return ABBREVIATION_LOOKUP_TABLE.get(abbreviation);
     }
 
     private final String abbreviation;
@@ -15,18 +15,27 @@
  */
 package org.cp.domain.geo.model;
 
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalStateException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Enumeration;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Properties;
+import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.cp.domain.geo.annotation.CountryQualifier;
 import org.cp.domain.geo.enums.Country;
 import org.cp.domain.geo.util.GeoUtils;
+import org.cp.elements.lang.Assert;
 import org.cp.elements.lang.annotation.NotNull;
 import org.cp.elements.lang.annotation.Nullable;
-import org.cp.elements.service.ServiceUnavailableException;
-import org.cp.elements.service.loader.ServiceLoaderSupport;
 
 /**
  * Factory for {@link Address Addresses}.
@@ -42,11 +51,6 @@ import org.cp.elements.service.loader.ServiceLoaderSupport;
 @SuppressWarnings("unused")
 public abstract class AddressFactory<T extends Address> {
 
-  private static final AddressFactory.Loader ADDRESS_FACTORY_LOADER = new AddressFactory.Loader() { };
-
-  @SuppressWarnings("rawtypes")
-  private static final Map<Country, AddressFactory> cache = new ConcurrentHashMap<>();
-
   /**
    * Factory method used to request an {@link AddressFactory} for creating {@link Address Addresses}
    * located in the {@link Country#localCountry() local Country} based on {@link Locale}.
@@ -70,31 +74,13 @@ public abstract class AddressFactory<T extends Address> {
    * defaults to {@link Country#localCountry()}.
    * @return a new {@link AddressFactory} used to created {@link Address Addresses}
    * located in the given {@link Country}.
+   * @see org.cp.domain.geo.model.AddressFactory.Registry
    * @see org.cp.domain.geo.enums.Country
    * @see org.cp.domain.geo.model.Address
    */
   @SuppressWarnings("unchecked")
   public static @NotNull <T extends Address> AddressFactory<T> getInstance(@NotNull Country country) {
-
-    try {
-      return cache.computeIfAbsent(GeoUtils.resolveToUnknownCountry(country), requestedCountry ->
-        ADDRESS_FACTORY_LOADER.getServiceInstance(addressFactoryPredicate(requestedCountry)));
-    }
-    catch (ServiceUnavailableException ignore) {
-      return cache.computeIfAbsent(Country.UNKNOWN, key -> new DefaultAddressFactory());
-    }
-  }
-
-  @SuppressWarnings("rawtypes")
-  private static @NotNull Predicate<AddressFactory> addressFactoryPredicate(@Nullable Country country) {
-
-    return addressFactory -> {
-
-      Class<?> addressFactoryType = addressFactory.getClass();
-
-      return addressFactoryType.isAnnotationPresent(CountryQualifier.class)
-        && addressFactoryType.getAnnotation(CountryQualifier.class).value().equals(GeoUtils.resolveCountry(country));
-    };
+    return Registry.getInstance().getAddressFactory(GeoUtils.resolveToUnknownCountry(country));
   }
 
   /**
@@ -172,7 +158,7 @@ public abstract class AddressFactory<T extends Address> {
     return (BUILDER) new FactoryAddressBuilder().in(country);
   }
 
-  private static class DefaultAddressFactory extends AddressFactory<FactoryAddress> { }
+  static class DefaultAddressFactory extends AddressFactory<FactoryAddress> { }
 
   /**
    * {@link AbstractAddress} implementation created by this factory.
@@ -205,17 +191,197 @@ public abstract class AddressFactory<T extends Address> {
   }
 
   /**
-   * Elements {@link ServiceLoaderSupport} used to load {@link Locale} (context) specific
-   * {@link AddressFactory} instances.
+   * Registry of {@link CountryQualifier Country qualified} {@link AddressFactory AddressFactories}
+   * built once from the {@link AddressFactory} providers on the classpath.
+   * <p>
+   * {@link AddressFactory} providers are indexed by {@link Country} without being instantiated. A provider is
+   * instantiated on the first request for an {@link AddressFactory} in its {@link Country}, and the instance is
+   * cached thereafter. A request for a {@link Country} without a qualified provider is cached as a miss resolving
+   * to the default {@link AddressFactory}, so the classpath is never rescanned.
+   * <p>
+   * When one or more {@link #INDEX_RESOURCE_NAME index resources} are present on the classpath, the providers
+   * declared in the index are used in place of the {@link ServiceLoader} providers. An index resource is
+   * a {@link Properties} file mapping the {@link Country#name() name} of a {@link Country} to the fully-qualified
+   * {@link Class#getName() class name} of the {@link AddressFactory} for that {@link Country},
+   * and is typically generated at build time.
    *
-   * @see org.cp.elements.service.loader.ServiceLoaderSupport
+   * @see java.util.ServiceLoader
+   * @see org.cp.domain.geo.annotation.CountryQualifier
+   * @see org.cp.domain.geo.enums.Country
    */
   @SuppressWarnings("rawtypes")
-  interface Loader extends ServiceLoaderSupport<AddressFactory> {
+  static class Registry {
 
-    @Override
-    default Class<AddressFactory> getType() {
-      return AddressFactory.class;
+    static final String INDEX_RESOURCE_NAME = "META-INF/org.cp.domain.geo.model.AddressFactory.index";
+
+    private static final AddressFactory DEFAULT_ADDRESS_FACTORY = new DefaultAddressFactory();
+
+    private static final Registry INSTANCE = load(resolveClassLoader());
+
+    /**
+     * Gets the single {@link Registry} of {@link AddressFactory AddressFactories} built from the providers
+     * on the classpath of the {@link Thread#getContextClassLoader() current Thread's context ClassLoader}.
+     *
+     * @return the single {@link Registry} of {@link AddressFactory AddressFactories}.
+     * @see #load(ClassLoader)
+     */
+    static @NotNull Registry getInstance() {
+      return INSTANCE;
+    }
+
+    /**
+     * Builds a new {@link Registry} from the {@link AddressFactory} providers visible to the given,
+     * required {@link ClassLoader}.
+     *
+     * @param classLoader {@link ClassLoader} used to find the {@link AddressFactory} providers;
+     * must not be {@literal null}.
+     * @return a new {@link Registry}.
+     * @throws IllegalArgumentException if the {@link ClassLoader} is {@literal null}.
+     * @throws IllegalStateException if an index resource cannot be read.
+     * @see #INDEX_RESOURCE_NAME
+     * @see java.util.ServiceLoader
+     */
+    static @NotNull Registry load(@NotNull ClassLoader classLoader) {
+
+      Assert.notNull(classLoader, "ClassLoader is required");
+
+      Properties index = loadIndex(classLoader);
+
+      return new Registry(index.isEmpty() ? fromServiceLoader(classLoader) : fromIndex(index, classLoader));
+    }
+
+    private static @NotNull ClassLoader resolveClassLoader() {
+
+      ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+      return classLoader != null ? classLoader : AddressFactory.class.getClassLoader();
+    }
+
+    private static @NotNull Properties loadIndex(@NotNull ClassLoader classLoader) {
+
+      Properties index = new Properties();
+
+      try {
+        Enumeration<URL> indexResources = classLoader.getResources(INDEX_RESOURCE_NAME);
+
+        for (URL indexResource : Collections.list(indexResources)) {
+
+          Properties resourceIndex = new Properties();
+
+          try (InputStream in = indexResource.openStream()) {
+            resourceIndex.load(in);
+          }
+
+          resourceIndex.forEach(index::putIfAbsent);
+        }
+      }
+      catch (IOException cause) {
+        throw newIllegalStateException(cause, "Failed to read AddressFactory index [%s]", INDEX_RESOURCE_NAME);
+      }
+
+      return index;
+    }
+
+    static @NotNull Map<Country, Supplier<AddressFactory>> fromIndex(@NotNull Properties index,
+        @NotNull ClassLoader classLoader) {
+
+      Map<Country, Supplier<AddressFactory>> providers = new EnumMap<>(Country.class);
+
+      for (String countryName : index.stringPropertyNames()) {
+
+        Country country = Country.valueOf(countryName.trim());
+        String addressFactoryTypeName = index.getProperty(countryName).trim();
+
+        providers.putIfAbsent(country, () -> newAddressFactory(addressFactoryTypeName, classLoader));
+      }
+
+      return providers;
+    }
+
+    private static @NotNull Map<Country, Supplier<AddressFactory>> fromServiceLoader(@NotNull ClassLoader classLoader) {
+
+      Map<Country, Supplier<AddressFactory>> providers = new EnumMap<>(Country.class);
+
+      ServiceLoader.load(AddressFactory.class, classLoader).stream().forEach(provider -> {
+
+        CountryQualifier countryQualifier = provider.type().getAnnotation(CountryQualifier.class);
+
+        if (countryQualifier != null) {
+          providers.putIfAbsent(countryQualifier.value(), provider);
+        }
+      });
+
+      return providers;
+    }
+
+    private static @NotNull AddressFactory newAddressFactory(@NotNull String addressFactoryTypeName,
+        @NotNull ClassLoader classLoader) {
+
+      try {
+        Class<?> addressFactoryType = Class.forName(addressFactoryTypeName, true, classLoader);
+
+        return addressFactoryType.asSubclass(AddressFactory.class).getDeclaredConstructor().newInstance();
+      }
+      catch (ReflectiveOperationException | ClassCastException cause) {
+        throw newIllegalStateException(cause, "Failed to construct AddressFactory [%s]", addressFactoryTypeName);
+      }
+    }
+
+    private final Map<Country, AddressFactory> addressFactories = new ConcurrentHashMap<>();
+
+    private final Map<Country, Supplier<AddressFactory>> providers;
+
+    /**
+     * Constructs a new {@link Registry} initialized with the given, required {@link Map} of
+     * {@link Country} to {@link Supplier providers} of {@link AddressFactory AddressFactories}.
+     *
+     * @param providers {@link Map} of {@link Country} to {@link Supplier providers}
+     * of {@link AddressFactory AddressFactories}; must not be {@literal null}.
+     * @throws IllegalArgumentException if the {@link Map} of providers is {@literal null}.
+     */
+    Registry(@NotNull Map<Country, Supplier<AddressFactory>> providers) {
+
+      Assert.notNull(providers, "Map of AddressFactory providers is required");
+
+      this.providers = providers.isEmpty()
+        ? Collections.emptyMap()
+        : Collections.unmodifiableMap(new EnumMap<>(providers));
+    }
+
+    /**
+     * Gets the {@link AddressFactory} for the given {@link Country}.
+     * <p>
+     * Returns the default {@link AddressFactory} if no {@link AddressFactory} is qualified
+     * by the given {@link Country}.
+     *
+     * @param <T> {@link Class Type} of {@link Address} created by the {@link AddressFactory}.
+     * @param country {@link Country} of the requested {@link AddressFactory}; must not be {@literal null}.
+     * @return the {@link AddressFactory} for the given {@link Country}.
+     * @throws IllegalArgumentException if the {@link Country} is {@literal null}.
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull <T extends Address> AddressFactory<T> getAddressFactory(@NotNull Country country) {
+
+      Assert.notNull(country, "Country is required");
+
+      return this.addressFactories.computeIfAbsent(country, this::newAddressFactory);
+    }
+
+    /**
+     * Determines whether an {@link AddressFactory} is qualified by the given {@link Country}.
+     *
+     * @param country {@link Country} to evaluate.
+     * @return a boolean value indicating whether an {@link AddressFactory} is qualified by the given {@link Country}.
+     */
+    boolean isRegistered(@Nullable Country country) {
+      return country != null && this.providers.containsKey(country);
+    }
+
+    private @NotNull AddressFactory newAddressFactory(@NotNull Country country) {
+
+      Supplier<AddressFactory> provider = this.providers.get(country);
+
+      return provider != null ? provider.get() : DEFAULT_ADDRESS_FACTORY;
     }
   }
 }
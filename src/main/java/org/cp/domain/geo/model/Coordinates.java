@@ -85,6 +85,25 @@ public class Coordinates implements Serializable {
     return at(point.getY(), point.getX());
   }
 
+  /**
+   * Factory method used to construct a new {@link Coordinates} copied from the given {@link Coordinates},
+   * including a copy of any {@link Elevation}.
+   *
+   * @param coordinates {@link Coordinates} to copy; must not be {@literal null}.
+   * @return a new set of {@link Coordinates} copied from the given {@link Coordinates}.
+   * @throws IllegalArgumentException if the given {@link Coordinates} are {@literal null}.
+   * @see #at(double, double)
+   */
+  public static @NotNull Coordinates copyOf(@NotNull Coordinates coordinates) {
+
+    Assert.notNull(coordinates, "Coordinates to copy are required");
+
+    return at(coordinates.getLatitude(), coordinates.getLongitude())
+      .at(coordinates.getElevation()
+        .map(elevation -> Elevation.at(elevation.getAltitude()).in(elevation.getLengthUnit()))
+        .orElse(null));
+  }
+
   /**
    * North-South position on the Earth's surface.
    * <p>
@@ -188,6 +207,53 @@ public class Coordinates implements Serializable {
     return new Point(Double.valueOf(getLongitude()).intValue(), Double.valueOf(getLatitude()).intValue());
   }
 
+  /**
+   * Computes the great-circle {@link Distance} from these {@link Coordinates} to the given {@link Coordinates}
+   * locally, using the {@link GeodesicDistance#getDefault() default} {@link GeodesicDistance} formula.
+   *
+   * @param destination {@link Coordinates} of the {@literal destination}; must not be {@literal null}.
+   * @return the {@link Distance} from these {@link Coordinates} to the given {@link Coordinates}.
+   * @throws IllegalArgumentException if the {@link Coordinates destination} is {@literal null}.
+   * @see org.cp.domain.geo.model.GeodesicDistance#getDefault()
+   * @see #distanceTo(Coordinates, GeodesicDistance)
+   */
+  public @NotNull Distance distanceTo(@NotNull Coordinates destination) {
+    return distanceTo(destination, GeodesicDistance.getDefault());
+  }
+
+  /**
+   * Computes the {@link Distance} from these {@link Coordinates} to the given {@link Coordinates} locally,
+   * using the given {@link GeodesicDistance} formula, such as {@link GeodesicDistance#VINCENTY}.
+   *
+   * @param destination {@link Coordinates} of the {@literal destination}; must not be {@literal null}.
+   * @param formula {@link GeodesicDistance} formula used to compute the {@link Distance};
+   * must not be {@literal null}.
+   * @return the {@link Distance} from these {@link Coordinates} to the given {@link Coordinates}.
+   * @throws IllegalArgumentException if the {@link Coordinates destination} or {@link GeodesicDistance formula}
+   * is {@literal null}.
+   * @see org.cp.domain.geo.model.GeodesicDistance
+   * @see org.cp.domain.geo.model.Distance
+   */
+  public @NotNull Distance distanceTo(@NotNull Coordinates destination, @NotNull GeodesicDistance formula) {
+
+    Assert.notNull(formula, "GeodesicDistance formula is required");
+
+    return formula.between(this, destination);
+  }
+
+  /**
+   * Encodes these {@link Coordinates} as a {@link Geohash} of the given {@link Integer precision}.
+   *
+   * @param precision {@link Integer number of characters} in the {@link Geohash},
+   * between {@literal 1} and {@literal 12}.
+   * @return the {@link Geohash} of the cell containing these {@link Coordinates}.
+   * @throws IllegalArgumentException if the {@link Integer precision} is not valid.
+   * @see org.cp.domain.geo.model.Geohash#of(Coordinates, int)
+   */
+  public @NotNull Geohash toGeohash(int precision) {
+    return Geohash.of(this, precision);
+  }
+
   /**
    * Sets the {@link Double elevation} or {@literal altitude} at these {@link Coordinates}
    * using the {@link LengthUnit#getDefault() default unit of measeurement}.
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.model;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+
+/**
+ * Enumeration of formulas used to compute the {@link Distance} between 2 geographic {@link Coordinates} locally,
+ * without a call to a {@link org.cp.domain.geo.service.spi.GeocodingService}.
+ * <p>
+ * In addition to computing the {@link Distance} between 2 {@link Coordinates}, each formula provides a batch API
+ * computing {@link Distance distances} in {@link org.cp.elements.enums.LengthUnit#METER meters} from primitive
+ * {@literal double} arrays of {@literal latitudes} and {@literal longitudes}, in degrees, into a primitive
+ * {@literal double} array of results. The batch API allocates no objects and is structured as tight loops over
+ * the arrays for the JIT compiler.
+ *
+ * @author John Blum
+ * @see org.cp.domain.geo.model.Coordinates
+ * @see org.cp.domain.geo.model.Distance
+ * @since 0.4.0
+ */
+public enum GeodesicDistance {
+
+  /**
+   * Great-circle distance on a sphere with the {@link #EARTH_MEAN_RADIUS_IN_METERS mean radius of the Earth}.
+   * <p>
+   * Fast, with an error of up to {@literal 0.5%} compared to the ellipsoidal {@link #VINCENTY} formula.
+   */
+  HAVERSINE {
+
+    @Override
+    public double inMeters(double originLatitude, double originLongitude,
+        double destinationLatitude, double destinationLongitude) {
+
+      double originLatitudeRadians = Math.toRadians(originLatitude);
+      double destinationLatitudeRadians = Math.toRadians(destinationLatitude);
+
+      return haversineInMeters(originLatitudeRadians, Math.cos(originLatitudeRadians),
+        Math.toRadians(originLongitude), destinationLatitudeRadians, Math.toRadians(destinationLongitude));
+    }
+
+    @Override
+    public void inMeters(double originLatitude, double originLongitude, @NotNull double[] destinationLatitudes,
+        @NotNull double[] destinationLongitudes, @NotNull double[] distances) {
+
+      int length = assertArrays(destinationLatitudes, destinationLongitudes, distances);
+
+      double originLatitudeRadians = Math.toRadians(originLatitude);
+      double originLongitudeRadians = Math.toRadians(originLongitude);
+      double cosineOriginLatitude = Math.cos(originLatitudeRadians);
+
+      for (int index = 0; index < length; index++) {
+        distances[index] = haversineInMeters(originLatitudeRadians, cosineOriginLatitude, originLongitudeRadians,
+          Math.toRadians(destinationLatitudes[index]), Math.toRadians(destinationLongitudes[index]));
+      }
+    }
+  },
+
+  /**
+   * Geodesic distance on the {@literal WGS-84} ellipsoid computed with {@literal Vincenty's} inverse formula.
+   * <p>
+   * Accurate to within millimeters, but slower than the {@link #HAVERSINE} formula. For nearly antipodal points,
+   * where {@literal Vincenty's} formula fails to converge, the {@link #HAVERSINE} distance is returned.
+   */
+  VINCENTY {
+
+    @Override
+    public double inMeters(double originLatitude, double originLongitude,
+        double destinationLatitude, double destinationLongitude) {
+
+      double longitudeDelta = Math.toRadians(destinationLongitude - originLongitude);
+      double reducedOriginLatitude = Math.atan((1.0d - WGS84_FLATTENING) * Math.tan(Math.toRadians(originLatitude)));
+      double reducedDestinationLatitude =
+        Math.atan((1.0d - WGS84_FLATTENING) * Math.tan(Math.toRadians(destinationLatitude)));
+
+      double sineU1 = Math.sin(reducedOriginLatitude);
+      double cosineU1 = Math.cos(reducedOriginLatitude);
+      double sineU2 = Math.sin(reducedDestinationLatitude);
+      double cosineU2 = Math.cos(reducedDestinationLatitude);
+
+      double lambda = longitudeDelta;
+
+      for (int iteration = 0; iteration < VINCENTY_MAXIMUM_ITERATIONS; iteration++) {
+
+        double sineLambda = Math.sin(lambda);
+        double cosineLambda = Math.cos(lambda);
+
+        double sineSigma = Math.sqrt(square(cosineU2 * sineLambda)
+          + square(cosineU1 * sineU2 - sineU1 * cosineU2 * cosineLambda));
+
+        if (sineSigma == 0.0d) {
+          return 0.0d;
+        }
+
+        double cosineSigma = sineU1 * sineU2 + cosineU1 * cosineU2 * cosineLambda;
+        double sigma = Math.atan2(sineSigma, cosineSigma);
+        double sineAlpha = cosineU1 * cosineU2 * sineLambda / sineSigma;
+        double cosineSquaredAlpha = 1.0d - sineAlpha * sineAlpha;
+
+        // Both points are on the equator when cos²α is 0.
+        double cosine2SigmaM = cosineSquaredAlpha != 0.0d
+          ? cosineSigma - 2.0d * sineU1 * sineU2 / cosineSquaredAlpha
+          : 0.0d;
+
+        double c = WGS84_FLATTENING / 16.0d * cosineSquaredAlpha
+          * (4.0d + WGS84_FLATTENING * (4.0d - 3.0d * cosineSquaredAlpha));
+
+        double previousLambda = lambda;
+
+        lambda = longitudeDelta + (1.0d - c) * WGS84_FLATTENING * sineAlpha
+          * (sigma + c * sineSigma * (cosine2SigmaM + c * cosineSigma * (-1.0d + 2.0d * square(cosine2SigmaM))));
+
+        if (Math.abs(lambda - previousLambda) < VINCENTY_CONVERGENCE_THRESHOLD) {
+
+          double uSquared = cosineSquaredAlpha * (square(WGS84_SEMI_MAJOR_AXIS_IN_METERS)
+            - square(WGS84_SEMI_MINOR_AXIS_IN_METERS)) / square(WGS84_SEMI_MINOR_AXIS_IN_METERS);
+
+          double a = 1.0d + uSquared / 16384.0d
+            * (4096.0d + uSquared * (-768.0d + uSquared * (320.0d - 175.0d * uSquared)));
+
+          double b = uSquared / 1024.0d * (256.0d + uSquared * (-128.0d + uSquared * (74.0d - 47.0d * uSquared)));
+
+          double sigmaDelta = b * sineSigma * (cosine2SigmaM + b / 4.0d
+            * (cosineSigma * (-1.0d + 2.0d * square(cosine2SigmaM))
+            - b / 6.0d * cosine2SigmaM * (-3.0d + 4.0d * sineSigma * sineSigma)
+            * (-3.0d + 4.0d * square(cosine2SigmaM))));
+
+          return WGS84_SEMI_MINOR_AXIS_IN_METERS * a * (sigma - sigmaDelta);
+        }
+      }
+
+      return HAVERSINE.inMeters(originLatitude, originLongitude, destinationLatitude, destinationLongitude);
+    }
+  };
+
+  public static final double EARTH_MEAN_RADIUS_IN_METERS = 6_371_008.8d;
+
+  static final double WGS84_FLATTENING = 1.0d / 298.257223563d;
+  static final double WGS84_SEMI_MAJOR_AXIS_IN_METERS = 6_378_137.0d;
+  static final double WGS84_SEMI_MINOR_AXIS_IN_METERS = (1.0d - WGS84_FLATTENING) * WGS84_SEMI_MAJOR_AXIS_IN_METERS;
+
+  private static final double VINCENTY_CONVERGENCE_THRESHOLD = 1.0e-12d;
+
+  private static final int VINCENTY_MAXIMUM_ITERATIONS = 200;
+
+  /**
+   * Gets the default {@link GeodesicDistance} formula, which is {@link #HAVERSINE}.
+   *
+   * @return the default {@link GeodesicDistance} formula.
+   */
+  public static @NotNull GeodesicDistance getDefault() {
+    return HAVERSINE;
+  }
+
+  private static int assertArrays(double[] latitudes, double[] longitudes, double[] distances) {
+
+    Assert.notNull(latitudes, "Latitudes are required");
+    Assert.notNull(longitudes, "Longitudes are required");
+    Assert.notNull(distances, "Array of distances is required");
+    Assert.isTrue(latitudes.length == longitudes.length,
+      "The number of latitudes [%s] must equal the number of longitudes [%s]", latitudes.length, longitudes.length);
+    Assert.isTrue(distances.length >= latitudes.length,
+      "The length of the distances array [%s] must be at least [%s]", distances.length, latitudes.length);
+
+    return latitudes.length;
+  }
+
+  private static double haversineInMeters(double originLatitude, double cosineOriginLatitude, double originLongitude,
+      double destinationLatitude, double destinationLongitude) {
+
+    double sineHalfLatitudeDelta = Math.sin((destinationLatitude - originLatitude) / 2.0d);
+    double sineHalfLongitudeDelta = Math.sin((destinationLongitude - originLongitude) / 2.0d);
+
+    double haversine = sineHalfLatitudeDelta * sineHalfLatitudeDelta
+      + cosineOriginLatitude * Math.cos(destinationLatitude) * sineHalfLongitudeDelta * sineHalfLongitudeDelta;
+
+    return 2.0d * EARTH_MEAN_RADIUS_IN_METERS * Math.asin(Math.sqrt(Math.min(1.0d, haversine)));
+  }
+
+  private static double square(double value) {
+    return value * value;
+  }
+
+  /**
+   * Computes the {@link Distance} between the given {@link Coordinates}.
+   *
+   * @param origin {@link Coordinates} of the {@literal origin}; must not be {@literal null}.
+   * @param destination {@link Coordinates} of the {@literal destination}; must not be {@literal null}.
+   * @return the {@link Distance} between the given {@link Coordinates}
+   * in {@link org.cp.elements.enums.LengthUnit#METER meters}.
+   * @throws IllegalArgumentException if either {@link Coordinates} are {@literal null}.
+   * @see #inMeters(double, double, double, double)
+   */
+  public @NotNull Distance between(@NotNull Coordinates origin, @NotNull Coordinates destination) {
+
+    Assert.notNull(origin, "Origin Coordinates are required");
+    Assert.notNull(destination, "Destination Coordinates are required");
+
+    return Distance.inMeters(inMeters(origin.getLatitude(), origin.getLongitude(),
+      destination.getLatitude(), destination.getLongitude()));
+  }
+
+  /**
+   * Computes the distance in {@link org.cp.elements.enums.LengthUnit#METER meters} between the given
+   * {@literal latitudes} and {@literal longitudes} in degrees.
+   *
+   * @param originLatitude {@link Double latitude} of the {@literal origin}.
+   * @param originLongitude {@link Double longitude} of the {@literal origin}.
+   * @param destinationLatitude {@link Double latitude} of the {@literal destination}.
+   * @param destinationLongitude {@link Double longitude} of the {@literal destination}.
+   * @return the distance in {@link org.cp.elements.enums.LengthUnit#METER meters}.
+   */
+  public abstract double inMeters(double originLatitude, double originLongitude,
+    double destinationLatitude, double destinationLongitude);
+
+  /**
+   * Computes the distances in {@link org.cp.elements.enums.LengthUnit#METER meters} from a single {@literal origin}
+   * to each {@literal destination} in the given arrays, storing the result for the {@literal destination}
+   * at index {@literal i} in {@literal distances[i]}.
+   *
+   * @param originLatitude {@link Double latitude} of the {@literal origin}.
+   * @param originLongitude {@link Double longitude} of the {@literal origin}.
+   * @param destinationLatitudes array of {@literal destination} {@link Double latitudes}; must not be {@literal null}.
+   * @param destinationLongitudes array of {@literal destination} {@link Double longitudes};
+   * must not be {@literal null}.
+   * @param distances array in which to store the computed distances; must not be {@literal null}.
+   * @throws IllegalArgumentException if any array is {@literal null}, the {@literal latitude} and {@literal longitude}
+   * arrays differ in length or the {@literal distances} array is too short.
+   */
+  public void inMeters(double originLatitude, double originLongitude, @NotNull double[] destinationLatitudes,
+      @NotNull double[] destinationLongitudes, @NotNull double[] distances) {
+
+    int length = assertArrays(destinationLatitudes, destinationLongitudes, distances);
+
+    for (int index = 0; index < length; index++) {
+      distances[index] = inMeters(originLatitude, originLongitude,
+        destinationLatitudes[index], destinationLongitudes[index]);
+    }
+  }
+
+  /**
+   * Computes the pairwise distances in {@link org.cp.elements.enums.LengthUnit#METER meters} between
+   * the {@literal origin} and {@literal destination} at the same index in the given arrays, storing the result
+   * for index {@literal i} in {@literal distances[i]}.
+   *
+   * @param originLatitudes array of {@literal origin} {@link Double latitudes}; must not be {@literal null}.
+   * @param originLongitudes array of {@literal origin} {@link Double longitudes}; must not be {@literal null}.
+   * @param destinationLatitudes array of {@literal destination} {@link Double latitudes}; must not be {@literal null}.
+   * @param destinationLongitudes array of {@literal destination} {@link Double longitudes};
+   * must not be {@literal null}.
+   * @param distances array in which to store the computed distances; must not be {@literal null}.
+   * @throws IllegalArgumentException if any array is {@literal null}, the arrays of {@literal latitudes}
+   * and {@literal longitudes} differ in length or the {@literal distances} array is too short.
+   */
+  public void inMeters(@NotNull double[] originLatitudes, @NotNull double[] originLongitudes,
+      @NotNull double[] destinationLatitudes, @NotNull double[] destinationLongitudes, @NotNull double[] distances) {
+
+    int length = assertArrays(destinationLatitudes, destinationLongitudes, distances);
+
+    assertArrays(originLatitudes, originLongitudes, distances);
+
+    Assert.isTrue(originLatitudes.length == length,
+      "The number of origins [%s] must equal the number of destinations [%s]", originLatitudes.length, length);
+
+    for (int index = 0; index < length; index++) {
+      distances[index] = inMeters(originLatitudes[index], originLongitudes[index],
+        destinationLatitudes[index], destinationLongitudes[index]);
+    }
+  }
+}
@@ -0,0 +1,576 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.cp.domain.geo.enums.Direction;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.Immutable;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * Abstract Data Type (ADT) modeling a {@literal geohash}, a hierarchical spatial cell identified by
+ * the interleaved bits of a {@literal longitude} and {@literal latitude}.
+ * <p>
+ * A {@link Geohash} is represented both as a {@literal base-32} {@link String}, such as {@literal c20fbm},
+ * and as a {@literal long} {@link #getValue() value} containing the {@literal 5} bits per character
+ * of the {@link #getPrecision() precision}, right-aligned. All {@link Geohash geohashes} sharing a prefix
+ * are in the same cell, and the {@link #getValue() values} of all {@link Geohash geohashes} inside a cell
+ * form a contiguous range at any greater precision, making {@link Geohash geohashes} suitable as partition keys
+ * and for prefix, or range, scans.
+ * <p>
+ * In addition to the {@link Geohash} object, this class provides static functions operating on the primitive
+ * {@literal long} {@link #getValue() value} that allocate no objects, for use on hot paths.
+ *
+ * @author John Blum
+ * @see java.lang.Comparable
+ * @see java.io.Serializable
+ * @see org.cp.domain.geo.model.Coordinates
+ * @since 0.4.0
+ */
+@Immutable
+@ThreadSafe
+public final class Geohash implements Comparable<Geohash>, Serializable {
+
+  public static final int MAXIMUM_PRECISION = 12;
+  public static final int MINIMUM_PRECISION = 1;
+
+  /**
+   * {@literal long} {@link #getValue() value} returned by {@link #neighbor(long, int, int, int)}
+   * when there is no neighboring cell beyond a pole.
+   */
+  public static final long NO_NEIGHBOR = -1L;
+
+  private static final char[] BASE_32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+  private static final int BITS_PER_CHARACTER = 5;
+  private static final int BITS_PER_COORDINATE = 30;
+  private static final int MAXIMUM_BITS = MAXIMUM_PRECISION * BITS_PER_CHARACTER;
+
+  private static final long COORDINATE_CELLS = 1L << BITS_PER_COORDINATE;
+
+  private static final int[] BASE_32_INDEX = new int[128];
+
+  static {
+    Arrays.fill(BASE_32_INDEX, -1);
+
+    for (int index = 0; index < BASE_32.length; index++) {
+      BASE_32_INDEX[BASE_32[index]] = index;
+      BASE_32_INDEX[Character.toUpperCase(BASE_32[index])] = index;
+    }
+  }
+
+  /**
+   * Factory method used to construct a new {@link Geohash} of the given {@link Integer precision}
+   * for the given {@link Coordinates}.
+   *
+   * @param coordinates {@link Coordinates} to encode; must not be {@literal null}.
+   * @param precision {@link Integer number of characters} in the {@link Geohash},
+   * between {@literal 1} and {@literal 12}.
+   * @return a new {@link Geohash} for the given {@link Coordinates}.
+   * @throws IllegalArgumentException if the {@link Coordinates} are {@literal null}
+   * or the {@link Integer precision} is not valid.
+   * @see #encode(double, double, int)
+   */
+  public static @NotNull Geohash of(@NotNull Coordinates coordinates, int precision) {
+
+    Assert.notNull(coordinates, "Coordinates are required");
+
+    return new Geohash(encode(coordinates.getLatitude(), coordinates.getLongitude(), precision), precision);
+  }
+
+  /**
+   * Factory method used to construct a new {@link Geohash} from the given {@literal long} {@link #getValue() value}
+   * and {@link Integer precision}.
+   *
+   * @param value {@literal long} {@link #getValue() value} of the {@link Geohash}.
+   * @param precision {@link Integer number of characters} in the {@link Geohash},
+   * between {@literal 1} and {@literal 12}.
+   * @return a new {@link Geohash}.
+   * @throws IllegalArgumentException if the {@link Integer precision} is not valid or the {@literal long value}
+   * does not fit in the {@link Integer precision}.
+   */
+  public static @NotNull Geohash of(long value, int precision) {
+
+    assertPrecision(precision);
+    Assert.isTrue(value >= 0L && value >>> (precision * BITS_PER_CHARACTER) == 0L,
+      "Geohash value [%s] is not valid for precision [%s]", value, precision);
+
+    return new Geohash(value, precision);
+  }
+
+  /**
+   * Parses the given {@literal base-32} {@link CharSequence} into a {@link Geohash}.
+   *
+   * @param geohash {@link CharSequence} containing the {@literal base-32} {@link Geohash}.
+   * @return a new {@link Geohash} parsed from the given {@link CharSequence}.
+   * @throws IllegalArgumentException if the {@link CharSequence} is not a valid {@link Geohash}.
+   * @see #parseValue(CharSequence)
+   */
+  public static @NotNull Geohash parse(@NotNull CharSequence geohash) {
+    return new Geohash(parseValue(geohash), geohash.length());
+  }
+
+  /**
+   * Encodes the given {@literal latitude} and {@literal longitude} as the {@literal long} {@link #getValue() value}
+   * of a {@link Geohash} with the given {@link Integer precision}.
+   *
+   * @param latitude {@link Double latitude} in degrees.
+   * @param longitude {@link Double longitude} in degrees.
+   * @param precision {@link Integer number of characters} in the {@link Geohash},
+   * between {@literal 1} and {@literal 12}.
+   * @return the {@literal long} {@link #getValue() value} of the {@link Geohash}.
+   * @throws IllegalArgumentException if the {@link Integer precision} is not valid.
+   */
+  public static long encode(double latitude, double longitude, int precision) {
+
+    assertPrecision(precision);
+
+    long interleaved = spread(quantize(longitude, 180.0d)) << 1 | spread(quantize(latitude, 90.0d));
+
+    return interleaved >>> (MAXIMUM_BITS - precision * BITS_PER_CHARACTER);
+  }
+
+  /**
+   * Decodes the {@literal latitude} at the center of the cell of the given {@link Geohash}.
+   *
+   * @param value {@literal long} {@link #getValue() value} of the {@link Geohash}.
+   * @param precision {@link Integer precision} of the {@link Geohash}.
+   * @return the {@literal latitude} at the center of the cell in degrees.
+   * @see #decodeLongitude(long, int)
+   */
+  public static double decodeLatitude(long value, int precision) {
+    return minimumLatitude(value, precision) + latitudeHeight(precision) / 2.0d;
+  }
+
+  /**
+   * Decodes the {@literal longitude} at the center of the cell of the given {@link Geohash}.
+   *
+   * @param value {@literal long} {@link #getValue() value} of the {@link Geohash}.
+   * @param precision {@link Integer precision} of the {@link Geohash}.
+   * @return the {@literal longitude} at the center of the cell in degrees.
+   * @see #decodeLatitude(long, int)
+   */
+  public static double decodeLongitude(long value, int precision) {
+    return minimumLongitude(value, precision) + longitudeWidth(precision) / 2.0d;
+  }
+
+  /**
+   * Computes the height of a {@link Geohash} cell of the given {@link Integer precision} in degrees of latitude.
+   *
+   * @param precision {@link Integer precision} of the {@link Geohash}.
+   * @return the height of the cell in degrees of latitude.
+   */
+  public static double latitudeHeight(int precision) {
+    return 180.0d / (1L << latitudeBits(precision));
+  }
+
+  /**
+   * Computes the width of a {@link Geohash} cell of the given {@link Integer precision} in degrees of longitude.
+   *
+   * @param precision {@link Integer precision} of the {@link Geohash}.
+   * @return the width of the cell in degrees of longitude.
+   */
+  public static double longitudeWidth(int precision) {
+    return 360.0d / (1L << longitudeBits(precision));
+  }
+
+  /**
+   * Computes the southern {@literal latitude} of the cell of the given {@link Geohash}.
+   *
+   * @param value {@literal long} {@link #getValue() value} of the {@link Geohash}.
+   * @param precision {@link Integer precision} of the {@link Geohash}.
+   * @return the southern {@literal latitude} of the cell in degrees.
+   */
+  public static double minimumLatitude(long value, int precision) {
+    return -90.0d + latitudeIndex(value, precision) * latitudeHeight(precision);
+  }
+
+  /**
+   * Computes the western {@literal longitude} of the cell of the given {@link Geohash}.
+   *
+   * @param value {@literal long} {@link #getValue() value} of the {@link Geohash}.
+   * @param precision {@link Integer precision} of the {@link Geohash}.
+   * @return the western {@literal longitude} of the cell in degrees.
+   */
+  public static double minimumLongitude(long value, int precision) {
+    return -180.0d + longitudeIndex(value, precision) * longitudeWidth(precision);
+  }
+
+  /**
+   * Computes the {@literal long} {@link #getValue() value} of the neighboring {@link Geohash} offset by the given
+   * number of cells north and east of the given {@link Geohash}.
+   * <p>
+   * Cells wrap around the {@literal antimeridian}. There are no cells beyond the poles.
+   *
+   * @param value {@literal long} {@link #getValue() value} of the {@link Geohash}.
+   * @param precision {@link Integer precision} of the {@link Geohash}.
+   * @param north {@link Integer number of cells} to the north; negative for south.
+   * @param east {@link Integer number of cells} to the east; negative for west.
+   * @return the {@literal long} {@link #getValue() value} of the neighboring {@link Geohash}
+   * or {@link #NO_NEIGHBOR} if the neighboring cell is beyond a pole.
+   */
+  public static long neighbor(long value, int precision, int north, int east) {
+
+    int latitudeBits = latitudeBits(precision);
+    int longitudeBits = longitudeBits(precision);
+
+    long latitudeIndex = latitudeIndex(value, precision) + north;
+    long longitudeIndex = (longitudeIndex(value, precision) + east) & ((1L << longitudeBits) - 1L);
+
+    if (latitudeIndex < 0L || latitudeIndex >= 1L << latitudeBits) {
+      return NO_NEIGHBOR;
+    }
+
+    long interleaved = spread(longitudeIndex << (BITS_PER_COORDINATE - longitudeBits)) << 1
+      | spread(latitudeIndex << (BITS_PER_COORDINATE - latitudeBits));
+
+    return interleaved >>> (MAXIMUM_BITS - precision * BITS_PER_CHARACTER);
+  }
+
+  /**
+   * Parses the given {@literal base-32} {@link CharSequence} into the {@literal long} {@link #getValue() value}
+   * of a {@link Geohash}, whose {@link #getPrecision() precision} is the length of the {@link CharSequence}.
+   *
+   * @param geohash {@link CharSequence} containing the {@literal base-32} {@link Geohash}.
+   * @return the {@literal long} {@link #getValue() value} of the {@link Geohash}.
+   * @throws IllegalArgumentException if the {@link CharSequence} is not a valid {@link Geohash}.
+   */
+  public static long parseValue(@Nullable CharSequence geohash) {
+
+    int length = geohash != null ? geohash.length() : 0;
+
+    Assert.isTrue(length >= MINIMUM_PRECISION && length <= MAXIMUM_PRECISION,
+      "Geohash [%s] must be between %s and %s characters", geohash, MINIMUM_PRECISION, MAXIMUM_PRECISION);
+
+    long value = 0L;
+
+    for (int index = 0; index < length; index++) {
+
+      char character = geohash.charAt(index);
+      int digit = character < BASE_32_INDEX.length ? BASE_32_INDEX[character] : -1;
+
+      Assert.isTrue(digit >= 0, "Geohash [%s] contains an invalid character [%s]", geohash, character);
+
+      value = value << BITS_PER_CHARACTER | digit;
+    }
+
+    return value;
+  }
+
+  /**
+   * Computes the first {@literal long} {@link #getValue() value}, inclusive, of the range of {@link Geohash geohashes}
+   * of the {@link Integer target precision} inside the cell of the given {@link Geohash}.
+   *
+   * @param value {@literal long} {@link #getValue() value} of the {@link Geohash}.
+   * @param precision {@link Integer precision} of the {@link Geohash}.
+   * @param targetPrecision {@link Integer precision} of the range; must be greater than or equal to
+   * the {@link Integer precision} of the {@link Geohash}.
+   * @return the first {@literal long} {@link #getValue() value} in the range, inclusive.
+   * @see #prefixRangeEnd(long, int, int)
+   */
+  public static long prefixRangeBegin(long value, int precision, int targetPrecision) {
+    return value << prefixShift(precision, targetPrecision);
+  }
+
+  /**
+   * Computes the last {@literal long} {@link #getValue() value}, exclusive, of the range of {@link Geohash geohashes}
+   * of the {@link Integer target precision} inside the cell of the given {@link Geohash}.
+   *
+   * @param value {@literal long} {@link #getValue() value} of the {@link Geohash}.
+   * @param precision {@link Integer precision} of the {@link Geohash}.
+   * @param targetPrecision {@link Integer precision} of the range; must be greater than or equal to
+   * the {@link Integer precision} of the {@link Geohash}.
+   * @return the last {@literal long} {@link #getValue() value} in the range, exclusive.
+   * @see #prefixRangeBegin(long, int, int)
+   */
+  public static long prefixRangeEnd(long value, int precision, int targetPrecision) {
+    return (value + 1L) << prefixShift(precision, targetPrecision);
+  }
+
+  /**
+   * Appends the {@literal base-32} representation of the given {@link Geohash} to the given {@link StringBuilder}.
+   *
+   * @param value {@literal long} {@link #getValue() value} of the {@link Geohash}.
+   * @param precision {@link Integer precision} of the {@link Geohash}.
+   * @param target {@link StringBuilder} to append to; must not be {@literal null}.
+   * @return the given {@link StringBuilder}.
+   */
+  public static @NotNull StringBuilder appendTo(long value, int precision, @NotNull StringBuilder target) {
+
+    for (int index = precision - 1; index >= 0; index--) {
+      target.append(BASE_32[(int) (value >>> (index * BITS_PER_CHARACTER)) & 0x1F]);
+    }
+
+    return target;
+  }
+
+  private static void assertPrecision(int precision) {
+    Assert.isTrue(precision >= MINIMUM_PRECISION && precision <= MAXIMUM_PRECISION,
+      "Precision [%s] must be between %s and %s", precision, MINIMUM_PRECISION, MAXIMUM_PRECISION);
+  }
+
+  // Compacts the even bits of the given value into the lower 32 bits.
+  private static long compact(long value) {
+
+    value &= 0x5555555555555555L;
+    value = (value | value >>> 1) & 0x3333333333333333L;
+    value = (value | value >>> 2) & 0x0F0F0F0F0F0F0F0FL;
+    value = (value | value >>> 4) & 0x00FF00FF00FF00FFL;
+    value = (value | value >>> 8) & 0x0000FFFF0000FFFFL;
+    value = (value | value >>> 16) & 0x00000000FFFFFFFFL;
+
+    return value;
+  }
+
+  private static int latitudeBits(int precision) {
+    return precision * BITS_PER_CHARACTER / 2;
+  }
+
+  private static long latitudeIndex(long value, int precision) {
+
+    long interleaved = value << (MAXIMUM_BITS - precision * BITS_PER_CHARACTER);
+
+    return compact(interleaved) >>> (BITS_PER_COORDINATE - latitudeBits(precision));
+  }
+
+  private static int longitudeBits(int precision) {
+    return precision * BITS_PER_CHARACTER - latitudeBits(precision);
+  }
+
+  private static long longitudeIndex(long value, int precision) {
+
+    long interleaved = value << (MAXIMUM_BITS - precision * BITS_PER_CHARACTER);
+
+    return compact(interleaved >>> 1) >>> (BITS_PER_COORDINATE - longitudeBits(precision));
+  }
+
+  private static int prefixShift(int precision, int targetPrecision) {
+
+    Assert.isTrue(targetPrecision >= precision && targetPrecision <= MAXIMUM_PRECISION,
+      "Target precision [%s] must be between %s and %s", targetPrecision, precision, MAXIMUM_PRECISION);
+
+    return (targetPrecision - precision) * BITS_PER_CHARACTER;
+  }
+
+  private static long quantize(double degrees, double range) {
+
+    long cell = (long) Math.floor((degrees + range) / (2.0d * range) * COORDINATE_CELLS);
+
+    return Math.max(0L, Math.min(COORDINATE_CELLS - 1L, cell));
+  }
+
+  // Spreads the lower 32 bits of the given value into the even bits.
+  private static long spread(long value) {
+
+    value &= 0x00000000FFFFFFFFL;
+    value = (value | value << 16) & 0x0000FFFF0000FFFFL;
+    value = (value | value << 8) & 0x00FF00FF00FF00FFL;
+    value = (value | value << 4) & 0x0F0F0F0F0F0F0F0FL;
+    value = (value | value << 2) & 0x3333333333333333L;
+    value = (value | value << 1) & 0x5555555555555555L;
+
+    return value;
+  }
+
+  private final int precision;
+
+  private final long value;
+
+  private Geohash(long value, int precision) {
+    this.value = value;
+    this.precision = precision;
+  }
+
+  /**
+   * Gets the {@link Coordinates} at the center of the cell of this {@link Geohash}.
+   *
+   * @return the {@link Coordinates} at the center of the cell of this {@link Geohash}.
+   * @see org.cp.domain.geo.model.Coordinates
+   */
+  public @NotNull Coordinates getCenter() {
+    return Coordinates.at(decodeLatitude(getValue(), getPrecision()), decodeLongitude(getValue(), getPrecision()));
+  }
+
+  /**
+   * Gets the {@link Coordinates} of the {@literal north-east} corner of the cell of this {@link Geohash}.
+   *
+   * @return the {@link Coordinates} of the {@literal north-east} corner of the cell of this {@link Geohash}.
+   * @see #getSouthWest()
+   */
+  public @NotNull Coordinates getNorthEast() {
+
+    return Coordinates.at(minimumLatitude(getValue(), getPrecision()) + latitudeHeight(getPrecision()),
+      minimumLongitude(getValue(), getPrecision()) + longitudeWidth(getPrecision()));
+  }
+
+  /**
+   * Gets the {@link Coordinates} of the {@literal south-west} corner of the cell of this {@link Geohash}.
+   *
+   * @return the {@link Coordinates} of the {@literal south-west} corner of the cell of this {@link Geohash}.
+   * @see #getNorthEast()
+   */
+  public @NotNull Coordinates getSouthWest() {
+    return Coordinates.at(minimumLatitude(getValue(), getPrecision()), minimumLongitude(getValue(), getPrecision()));
+  }
+
+  /**
+   * Gets the {@link Integer number of characters} in this {@link Geohash}.
+   *
+   * @return the {@link Integer number of characters} in this {@link Geohash}.
+   */
+  public int getPrecision() {
+    return this.precision;
+  }
+
+  /**
+   * Gets the {@literal long} value of this {@link Geohash} containing {@literal 5} bits per character, right-aligned.
+   *
+   * @return the {@literal long} value of this {@link Geohash}.
+   */
+  public long getValue() {
+    return this.value;
+  }
+
+  /**
+   * Determines whether the cell of this {@link Geohash} contains the given {@link Coordinates}.
+   *
+   * @param coordinates {@link Coordinates} to evaluate.
+   * @return a boolean value indicating whether the cell of this {@link Geohash} contains
+   * the given {@link Coordinates}.
+   */
+  public boolean contains(@Nullable Coordinates coordinates) {
+
+    return coordinates != null
+      && encode(coordinates.getLatitude(), coordinates.getLongitude(), getPrecision()) == getValue();
+  }
+
+  /**
+   * Determines whether this {@link Geohash} is a prefix of, or contains, the given {@link Geohash}.
+   *
+   * @param geohash {@link Geohash} to evaluate.
+   * @return a boolean value indicating whether this {@link Geohash} is a prefix of the given {@link Geohash}.
+   */
+  public boolean isPrefixOf(@Nullable Geohash geohash) {
+
+    return geohash != null
+      && geohash.getPrecision() >= getPrecision()
+      && geohash.getValue() >>> prefixShift(getPrecision(), geohash.getPrecision()) == getValue();
+  }
+
+  /**
+   * Gets the neighboring {@link Geohash} of the same {@link #getPrecision() precision}
+   * in the given {@link Direction}.
+   *
+   * @param direction {@link Direction} of the neighbor; must not be {@literal null}.
+   * @return the neighboring {@link Geohash} in the given {@link Direction},
+   * or {@link Optional#empty()} if the neighboring cell is beyond a pole.
+   * @throws IllegalArgumentException if the {@link Direction} is {@literal null}.
+   * @see org.cp.domain.geo.enums.Direction
+   * @see #getNeighbors()
+   */
+  public @NotNull Optional<Geohash> getNeighbor(@NotNull Direction direction) {
+
+    Assert.notNull(direction, "Direction is required");
+
+    int north = direction.isNorthbound() ? 1 : direction.isSouthbound() ? -1 : 0;
+    int east = direction.isEastbound() ? 1 : direction.isWestbound() ? -1 : 0;
+
+    long neighbor = neighbor(getValue(), getPrecision(), north, east);
+
+    return neighbor != NO_NEIGHBOR ? Optional.of(new Geohash(neighbor, getPrecision())) : Optional.empty();
+  }
+
+  /**
+   * Gets all the neighboring {@link Geohash geohashes} of the same {@link #getPrecision() precision}
+   * surrounding this {@link Geohash}, in the order of {@link Direction#values()}.
+   * <p>
+   * Cells near the poles have fewer than {@literal 8} neighbors.
+   *
+   * @return a {@link List} of the neighboring {@link Geohash geohashes}.
+   * @see #getNeighbor(Direction)
+   */
+  public @NotNull List<Geohash> getNeighbors() {
+
+    List<Geohash> neighbors = new ArrayList<>(Direction.values().length);
+
+    for (Direction direction : Direction.values()) {
+      getNeighbor(direction).ifPresent(neighbors::add);
+    }
+
+    return neighbors;
+  }
+
+  /**
+   * Gets the {@link Geohash} of the enclosing cell one character shorter than this {@link Geohash}.
+   *
+   * @return the {@link Geohash} of the enclosing cell, or {@link Optional#empty()}
+   * if this {@link Geohash} has the {@link #MINIMUM_PRECISION}.
+   */
+  public @NotNull Optional<Geohash> getParent() {
+
+    return getPrecision() > MINIMUM_PRECISION
+      ? Optional.of(new Geohash(getValue() >>> BITS_PER_CHARACTER, getPrecision() - 1))
+      : Optional.empty();
+  }
+
+  @Override
+  public int compareTo(@NotNull Geohash that) {
+
+    // Orders cells along the Z-order curve, enclosing cells before enclosed cells, as the base-32 Strings sort.
+    int result = Long.compare(prefixRangeBegin(this.getValue(), this.getPrecision(), MAXIMUM_PRECISION),
+      prefixRangeBegin(that.getValue(), that.getPrecision(), MAXIMUM_PRECISION));
+
+    return result != 0 ? result : Integer.compare(this.getPrecision(), that.getPrecision());
+  }
+
+  @Override
+  public boolean equals(@Nullable Object obj) {
+
+    if (this == obj) {
+      return true;
+    }
+
+    if (!(obj instanceof Geohash that)) {
+      return false;
+    }
+
+    return this.getValue() == that.getValue()
+      && this.getPrecision() == that.getPrecision();
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(getValue()) * 31 + getPrecision();
+  }
+
+  /**
+   * Returns the {@literal base-32} representation of this {@link Geohash}, such as {@literal c20fbm}.
+   *
+   * @return the {@literal base-32} representation of this {@link Geohash}.
+   */
+  @Override
+  public @NotNull String toString() {
+    return appendTo(getValue(), getPrecision(), new StringBuilder(getPrecision())).toString();
+  }
+}
@@ -18,9 +18,14 @@ package org.cp.domain.geo.model;
 import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalArgumentException;
 
 import java.io.Serializable;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.cp.domain.core.enums.support.EnumLookupTable;
+import org.cp.domain.core.support.ParseResult;
 import org.cp.domain.geo.enums.Country;
 import org.cp.domain.geo.enums.Direction;
 import org.cp.elements.lang.Assert;
@@ -50,6 +55,8 @@ public class Street implements Cloneable, Comparable<Street>, Nameable<String>,
 
   protected static final String STREET_TO_STRING = "%1$d %2$s%3$s%4$s";
 
+  private static final long INVALID_STREET_NUMBER = Long.MIN_VALUE;
+
   /**
    * Factory method used to construct a new {@link Street} copied from an existing, required {@link Street}.
    *
@@ -90,80 +97,212 @@ public class Street implements Cloneable, Comparable<Street>, Nameable<String>,
   /**
    * Factory method used to parse the given {@link String} and construct a new {@link Street}.
    *
-   * @param street {@link String array} containing the components of a {@link Street}, such a street number, name,
+   * @param street {@link String} containing the components of a {@link Street}, such a street number, name,
    * optional directional and an optional street type.
    * @return a new {@link Street} constructed from the parse street components of the given {@link String}.
    * @throws IllegalArgumentException if the given {@link String} does not minimally contain a valid street number
    * and name.
+   * @see #parse(CharSequence)
    */
   public static @NotNull Street parse(@NotNull String street) {
+    return parse((CharSequence) street);
+  }
 
-    String[] streetComponents = assertStreet(street);
+  /**
+   * Factory method used to parse the given {@link CharSequence} and construct a new {@link Street}.
+   * <p>
+   * The {@link CharSequence} is tokenized on whitespace in a single pass and must minimally contain a street number
+   * followed by a name, optionally preceded by a {@link Direction} and followed by a {@link Street.Type},
+   * such as {@literal 100 SW Main St}.
+   *
+   * @param street {@link CharSequence} containing the components of a {@link Street}, such a street number, name,
+   * optional directional and an optional street type.
+   * @return a new {@link Street} constructed from the parse street components of the given {@link CharSequence}.
+   * @throws IllegalArgumentException if the given {@link CharSequence} does not minimally contain a valid
+   * street number and name.
+   * @see #parseAll(Iterable)
+   * @see #parseAll(Stream)
+   */
+  public static @NotNull Street parse(@NotNull CharSequence street) {
 
-    int number = toStreetNumber(streetComponents);
+    return tryParse(street).orElseThrow();
+  }
 
-    Optional<Direction> direction = toStreetDirection(streetComponents);
+  /**
+   * Parses all the given {@link CharSequence streets} in bulk, reporting an error per record
+   * rather than throwing an {@link Exception} on the first {@link CharSequence street} that cannot be parsed.
+   *
+   * @param streets {@link Iterable} of {@link CharSequence streets} to parse; must not be {@literal null}.
+   * @return a {@link List} of {@link ParseResult ParseResults} in the same order as the given
+   * {@link CharSequence streets}.
+   * @throws IllegalArgumentException if the {@link Iterable} is {@literal null}.
+   * @see #parseAll(Stream)
+   * @see #parse(CharSequence)
+   */
+  public static @NotNull List<ParseResult<Street>> parseAll(@NotNull Iterable<? extends CharSequence> streets) {
 
-    String name = direction.isPresent() ? streetComponents[2] : streetComponents[1];
+    Assert.notNull(streets, "Streets to parse are required");
 
-    Optional<Street.Type> streetType =
-      direction.isPresent() && streetComponents.length > 3 ? toStreetType(streetComponents[3])
-        : streetComponents.length > 2 ? toStreetType(streetComponents[2])
-        : Optional.empty();
+    List<ParseResult<Street>> results = streets instanceof Collection<?> collection
+      ? new ArrayList<>(collection.size())
+      : new ArrayList<>();
 
-    Street resolvedStreet = of(number, name);
+    for (CharSequence street : streets) {
+      results.add(tryParse(street));
+    }
+
+    return results;
+  }
+
+  /**
+   * Lazily parses all the given {@link CharSequence streets} in bulk, reporting an error per record
+   * rather than throwing an {@link Exception} on the first {@link CharSequence street} that cannot be parsed.
+   *
+   * @param streets {@link Stream} of {@link CharSequence streets} to parse; must not be {@literal null}.
+   * @return a {@link Stream} of {@link ParseResult ParseResults} in the encounter order of the given
+   * {@link CharSequence streets}.
+   * @throws IllegalArgumentException if the {@link Stream} is {@literal null}.
+   * @see #parseAll(Iterable)
+   * @see #parse(CharSequence)
+   */
+  public static @NotNull Stream<ParseResult<Street>> parseAll(@NotNull Stream<? extends CharSequence> streets) {
 
-    direction.ifPresent(resolvedStreet::withDirection);
-    streetType.ifPresent(resolvedStreet::as);
+    Assert.notNull(streets, "Stream of streets to parse is required");
 
-    return resolvedStreet;
+    return streets.map(Street::tryParse);
   }
 
-  private static String[] assertStreet(String street) {
+  /**
+   * Parses the given {@link CharSequence} into a {@link Street} without throwing an {@link Exception}
+   * if the {@link CharSequence} cannot be parsed.
+   *
+   * @param street {@link CharSequence} containing the components of a {@link Street}.
+   * @return a {@link ParseResult} containing either the parsed {@link Street} or the parse error.
+   * @see #parse(CharSequence)
+   */
+  public static @NotNull ParseResult<Street> tryParse(@Nullable CharSequence street) {
 
-    Assert.hasText(street, "Street [%s] to parse is required", street);
+    int length = street != null ? street.length() : 0;
+    int numberBegin = skipWhitespace(street, 0, length);
 
-    String[] streetComponents = street.trim().split("\\s+");
+    if (numberBegin == length) {
+      return ParseResult.invalid(street, String.format("Street [%s] to parse is required", street));
+    }
 
-    Assert.isTrue(streetComponents.length > 1,
-      "Street [%s] must minimally consist of a number and name", street);
+    int numberEnd = skipToken(street, numberBegin, length);
+    int nameBegin = skipWhitespace(street, numberEnd, length);
 
-    return streetComponents;
-  }
+    if (nameBegin == length) {
+      return ParseResult.invalid(street,
+        String.format("Street [%s] must minimally consist of a number and name", street));
+    }
+
+    long number = toStreetNumber(street, numberBegin, numberEnd);
+
+    if (number == INVALID_STREET_NUMBER) {
+      return ParseResult.invalid(street,
+        String.format("Street %s must begin with a street number", normalize(street, numberBegin, length)),
+        () -> new NumberFormatException(String.format("For input string: \"%s\"",
+          street.subSequence(numberBegin, numberEnd))));
+    }
 
-  private static Optional<Direction> toStreetDirection(String[] streetComponents) {
+    int nameEnd = skipToken(street, nameBegin, length);
+    int typeBegin = skipWhitespace(street, nameEnd, length);
 
-    String direction = streetComponents[1];
+    Direction direction = typeBegin < length
+      ? Direction.valueOfAbbreviationOrName(street, nameBegin, nameEnd)
+      : null;
 
-    try {
-      return Optional.of(Direction.fromAbbreviation(direction));
+    if (direction != null) {
+      nameBegin = typeBegin;
+      nameEnd = skipToken(street, nameBegin, length);
+      typeBegin = skipWhitespace(street, nameEnd, length);
     }
-    catch (Throwable ignore) {
-      return ObjectUtils.doSafely(args ->
-        Optional.of(Direction.fromName(direction)), Optional.empty());
+
+    Street.Type streetType = typeBegin < length
+      ? Street.Type.valueOfAbbreviationOrName(street, typeBegin, trimPeriod(street, typeBegin,
+          skipToken(street, typeBegin, length)))
+      : null;
+
+    Street resolvedStreet = of((int) number, street.subSequence(nameBegin, nameEnd).toString())
+      .withDirection(direction)
+      .as(streetType);
+
+    return ParseResult.valid(street, resolvedStreet);
+  }
+
+  private static boolean isWhitespace(char character) {
+    return Character.isWhitespace(character);
+  }
+
+  private static @NotNull String normalize(@NotNull CharSequence street, int beginIndex, int endIndex) {
+
+    StringBuilder normalizedStreet = new StringBuilder(endIndex - beginIndex + 2).append('[');
+
+    for (int index = beginIndex; index < endIndex; index = skipWhitespace(street, index, endIndex)) {
+
+      int tokenEnd = skipToken(street, index, endIndex);
+
+      if (normalizedStreet.length() > 1) {
+        normalizedStreet.append(' ');
+      }
+
+      normalizedStreet.append(street, index, tokenEnd);
+      index = tokenEnd;
     }
+
+    return normalizedStreet.append(']').toString();
   }
 
-  private static int toStreetNumber(String[] streetComponents) {
+  private static int skipToken(@NotNull CharSequence street, int index, int endIndex) {
 
-    try {
-      return Integer.parseInt(streetComponents[0]);
+    while (index < endIndex && !isWhitespace(street.charAt(index))) {
+      index++;
     }
-    catch (NumberFormatException cause) {
-      throw newIllegalArgumentException(cause, "Street %s must begin with a street number",
-        Arrays.toString(streetComponents).replaceAll(StringUtils.COMMA_DELIMITER, StringUtils.EMPTY_STRING));
+
+    return index;
+  }
+
+  private static int skipWhitespace(@Nullable CharSequence street, int index, int endIndex) {
+
+    while (index < endIndex && isWhitespace(street.charAt(index))) {
+      index++;
     }
+
+    return index;
+  }
+
+  // Abbreviated street types may be written with a period, such as "St.".
+  private static int trimPeriod(@NotNull CharSequence street, int beginIndex, int endIndex) {
+    return endIndex - beginIndex > 1 && street.charAt(endIndex - 1) == '.' ? endIndex - 1 : endIndex;
   }
 
-  private static Optional<Street.Type> toStreetType(String streetType) {
+  // Equivalent to Integer.parseInt(..) on the token without throwing a NumberFormatException for non-numeric tokens.
+  private static long toStreetNumber(@NotNull CharSequence street, int beginIndex, int endIndex) {
+
+    boolean negative = street.charAt(beginIndex) == '-';
+    int index = negative || street.charAt(beginIndex) == '+' ? beginIndex + 1 : beginIndex;
 
-    try {
-      return Optional.of(Street.Type.fromAbbreviation(streetType));
+    if (index == endIndex || endIndex - index > 10) {
+      return INVALID_STREET_NUMBER;
     }
-    catch (Throwable ignore) {
-      return ObjectUtils.doSafely(args ->
-        Optional.of(Street.Type.fromName(streetType)), Optional.empty());
+
+    long number = 0L;
+
+    for (; index < endIndex; index++) {
+
+      int digit = street.charAt(index) - '0';
+
+      if (digit < 0 || digit > 9) {
+        return INVALID_STREET_NUMBER;
+      }
+
+      number = number * 10L + digit;
     }
+
+    number = negative ? -number : number;
+
+    return number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE ? number : INVALID_STREET_NUMBER;
   }
 
   private Direction direction;
@@ -532,6 +671,12 @@ public class Street implements Cloneable, Comparable<Street>, Nameable<String>,
     VIADUCT("VIA", "Viaduct"),
     WAY("WY", "Way");
 
+    private static final EnumLookupTable<Street.Type> ABBREVIATION_LOOKUP_TABLE =
+      EnumLookupTable.of(Street.Type.class, Street.Type::getAbbreviation);
+
+    private static final EnumLookupTable<Street.Type> NAME_LOOKUP_TABLE =
+      EnumLookupTable.of(Street.Type.class, Street.Type::getName);
+
     /**
      * Factory method used to search for a {@link Street.Type} given an {@link String abbreviation}.
      *
@@ -540,17 +685,19 @@ public class Street implements Cloneable, Comparable<Street>, Nameable<String>,
      * @return a {@link Street.Type} for the given {@link String abbreviation}.
      * @throws IllegalArgumentException if a {@link Street.Type} for the given {@link String abbreviation}
      * could not be found.
+     * @see #valueOfAbbreviation(CharSequence)
      * @see #fromName(String)
      * @see #getAbbreviation()
-     * @see #values()
      */
     public static @NotNull Street.Type fromAbbreviation(@Nullable String abbreviation) {
 
-      return Arrays.stream(values())
-        .filter(streetType -> streetType.getAbbreviation().equalsIgnoreCase(StringUtils.trim(abbreviation)))
-        .findFirst()
-        .orElseThrow(() -> newIllegalArgumentException("Street.Type for abbreviation [%s] was not found",
-          abbreviation));
+      Street.Type streetType = valueOfAbbreviation(abbreviation);
+
+      if (streetType == null) {
+        throw newIllegalArgumentException("Street.Type for abbreviation [%s] was not found", abbreviation);
+      }
+
+      return streetType;
     }
 
     /**
@@ -561,16 +708,71 @@ public class Street implements Cloneable, Comparable<Street>, Nameable<String>,
      * @return a {@link Street.Type} for the given {@link String name}.
      * @throws IllegalArgumentException if a {@link Street.Type} for the given {@link String name}
      * could not be found.
+     * @see #valueOfName(CharSequence)
      * @see #fromAbbreviation(String)
      * @see #getName()
-     * @see #values()
      */
     public static @NotNull Street.Type fromName(@Nullable String name) {
 
-      return Arrays.stream(values())
-        .filter(streetType -> streetType.getName().equalsIgnoreCase(StringUtils.trim(name)))
-        .findFirst()
-        .orElseThrow(() -> newIllegalArgumentException("Street.Type for name [%s] was not found", name));
+      Street.Type streetType = valueOfName(name);
+
+      if (streetType == null) {
+        throw newIllegalArgumentException("Street.Type for name [%s] was not found", name);
+      }
+
+      return streetType;
+    }
+
+    /**
+     * Factory method used to look up a {@link Street.Type} given an {@link CharSequence abbreviation}
+     * without throwing an {@link Exception} on a miss.
+     *
+     * @param abbreviation {@link CharSequence} containing an {@literal abbreviation} for the desired
+     * {@link Street.Type}, such as {@literal HWY} for {@literal highway}.
+     * @return a {@link Street.Type} for the given {@link CharSequence abbreviation}, or {@literal null}
+     * if a {@link Street.Type} for the given {@link CharSequence abbreviation} could not be found.
+     * @see org.cp.domain.core.enums.support.EnumLookupTable
+     * @see #getAbbreviation()
+     */
+    public static @Nullable Street.Type valueOfAbbreviation(@Nullable CharSequence abbreviation) {
+      return ABBREVIATION_LOOKUP_TABLE.get(abbreviation);
+    }
+
+    /**
+     * Factory method used to look up a {@link Street.Type} given a {@link CharSequence name}
+     * without throwing an {@link Exception} on a miss.
+     *
+     * @param name {@link CharSequence} containing a {@literal name} of the desired {@link Street.Type},
+     * such as {@literal highway}.
+     * @return a {@link Street.Type} for the given {@link CharSequence name}, or {@literal null}
+     * if a {@link Street.Type} for the given {@link CharSequence name} could not be found.
+     * @see org.cp.domain.core.enums.support.EnumLookupTable
+     * @see #getName()
+     */
+    public static @Nullable Street.Type valueOfName(@Nullable CharSequence name) {
+      return NAME_LOOKUP_TABLE.get(name);
+    }
+
+    /**
+     * Factory method used to look up a {@link Street.Type} by {@literal abbreviation}, or by {@literal name}
+     * when the {@literal abbreviation} does not match, from the region of the given {@link CharSequence}
+     * without allocating a {@link String} or throwing an {@link Exception} on a miss.
+     *
+     * @param text {@link CharSequence} containing the {@literal abbreviation} or {@literal name}
+     * of the {@link Street.Type}.
+     * @param beginIndex {@link Integer index} of the first character, inclusive.
+     * @param endIndex {@link Integer index} of the last character, exclusive.
+     * @return a {@link Street.Type} matching the region of the given {@link CharSequence}, or {@literal null}
+     * if the region does not match a {@link Street.Type}.
+     * @throws IndexOutOfBoundsException if the region is not within the bounds of the {@link CharSequence}.
+     * @see org.cp.domain.core.enums.support.EnumLookupTable#get(CharSequence, int, int)
+     */
+    public static @Nullable Street.Type valueOfAbbreviationOrName(@Nullable CharSequence text,
+        int beginIndex, int endIndex) {
+
+      Street.Type streetType = ABBREVIATION_LOOKUP_TABLE.get(text, beginIndex, endIndex);
+
+      return streetType != null ? streetType : NAME_LOOKUP_TABLE.get(text, beginIndex, endIndex);
     }
 
     private final String abbreviation;
@@ -18,9 +18,9 @@ package org.cp.domain.geo.model;
 import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalArgumentException;
 
 import java.io.Serializable;
-import java.util.Arrays;
 import java.util.Optional;
 
+import org.cp.domain.core.enums.support.EnumLookupTable;
 import org.cp.elements.lang.Assert;
 import org.cp.elements.lang.ObjectUtils;
 import org.cp.elements.lang.StringUtils;
@@ -356,6 +356,12 @@ public class Unit implements Cloneable, Comparable<Unit>, Serializable {
     UNIT("UNT", "Unit"),
     UNKNOWN("UKN", "Unknown");
 
+    private static final EnumLookupTable<Unit.Type> ABBREVIATION_LOOKUP_TABLE =
+      EnumLookupTable.of(Unit.Type.class, Unit.Type::getAbbreviation);
+
+    private static final EnumLookupTable<Unit.Type> DESCRIPTION_LOOKUP_TABLE =
+      EnumLookupTable.of(Unit.Type.class, Unit.Type::getDescription);
+
     /**
      * Factory method used to search for a {@link Unit.Type} given an {@link String abbreviation}.
      *
@@ -364,16 +370,19 @@ public class Unit implements Cloneable, Comparable<Unit>, Serializable {
      * @return the {@link Unit.Type} for the given {@link String abbreviation}.
      * @throws IllegalArgumentException if a {@link Unit.Type} for the given {@link String abbreviation}
      * could not be found.
+     * @see #valueOfAbbreviation(CharSequence)
      * @see #fromDescription(String)
      * @see #getAbbreviation()
-     * @see #values()
      */
     public static @NotNull Unit.Type fromAbbreviation(@Nullable String abbreviation) {
 
-      return Arrays.stream(values())
-        .filter(type -> type.getAbbreviation().equalsIgnoreCase(StringUtils.trim(abbreviation)))
-        .findFirst()
-        .orElseThrow(() -> newIllegalArgumentException("Unit.Type for abbreviation [%s] was not found", abbreviation));
+      Unit.Type type = valueOfAbbreviation(abbreviation);
+
+      if (type == null) {
+        throw newIllegalArgumentException("Unit.Type for abbreviation [%s] was not found", abbreviation);
+      }
+
+      return type;
     }
 
     /**
@@ -384,13 +393,68 @@ public class Unit implements Cloneable, Comparable<Unit>, Serializable {
      * @return the {@link Unit} {@link Type} for the given {@link String name}.
      * @throws IllegalArgumentException if no {@link Unit} {@link Type} for the given {@link String name}
      * could be found.
+     * @see #valueOfDescription(CharSequence)
      */
     public static @NotNull Unit.Type fromDescription(@Nullable String description) {
 
-      return Arrays.stream(values())
-        .filter(type -> type.getDescription().equalsIgnoreCase(StringUtils.trim(description)))
-        .findFirst()
-        .orElseThrow(() -> newIllegalArgumentException("Unit.Type for description [%s] was not found", description));
+      Unit.Type type = valueOfDescription(description);
+
+      if (type == null) {
+        throw newIllegalArgumentException("Unit.Type for description [%s] was not found", description);
+      }
+
+      return type;
+    }
+
+    /**
+     * Factory method used to look up a {@link Unit.Type} given an {@link CharSequence abbreviation}
+     * without throwing an {@link Exception} on a miss.
+     *
+     * @param abbreviation {@link CharSequence} containing the {@literal abbreviation} of the desired
+     * {@link Unit.Type}, such as {@literal RM} for {@literal room}.
+     * @return the {@link Unit.Type} for the given {@link CharSequence abbreviation}, or {@literal null}
+     * if a {@link Unit.Type} for the given {@link CharSequence abbreviation} could not be found.
+     * @see org.cp.domain.core.enums.support.EnumLookupTable
+     * @see #getAbbreviation()
+     */
+    public static @Nullable Unit.Type valueOfAbbreviation(@Nullable CharSequence abbreviation) {
+      return ABBREVIATION_LOOKUP_TABLE.get(abbreviation);
+    }
+
+    /**
+     * Factory method used to look up a {@link Unit.Type} given a {@link CharSequence description}
+     * without throwing an {@link Exception} on a miss.
+     *
+     * @param description {@link CharSequence} containing the description of the desired {@link Unit.Type}.
+     * @return the {@link Unit.Type} for the given {@link CharSequence description}, or {@literal null}
+     * if a {@link Unit.Type} for the given {@link CharSequence description} could not be found.
+     * @see org.cp.domain.core.enums.support.EnumLookupTable
+     * @see #getDescription()
+     */
+    public static @Nullable Unit.Type valueOfDescription(@Nullable CharSequence description) {
+      return DESCRIPTION_LOOKUP_TABLE.get(description);
+    }
+
+    /**
+     * Factory method used to look up a {@link Unit.Type} by {@literal abbreviation}, or by {@literal description}
+     * when the {@literal abbreviation} does not match, from the region of the given {@link CharSequence}
+     * without allocating a {@link String} or throwing an {@link Exception} on a miss.
+     *
+     * @param text {@link CharSequence} containing the {@literal abbreviation} or {@literal description}
+     * of the {@link Unit.Type}.
+     * @param beginIndex {@link Integer index} of the first character, inclusive.
+     * @param endIndex {@link Integer index} of the last character, exclusive.
+     * @return the {@link Unit.Type} matching the region of the given {@link CharSequence}, or {@literal null}
+     * if the region does not match a {@link Unit.Type}.
+     * @throws IndexOutOfBoundsException if the region is not within the bounds of the {@link CharSequence}.
+     * @see org.cp.domain.core.enums.support.EnumLookupTable#get(CharSequence, int, int)
+     */
+    public static @Nullable Unit.Type valueOfAbbreviationOrDescription(@Nullable CharSequence text,
+        int beginIndex, int endIndex) {
+
+      Unit.Type type = ABBREVIATION_LOOKUP_TABLE.get(text, beginIndex, endIndex);
+
+      return type != null ? type : DESCRIPTION_LOOKUP_TABLE.get(text, beginIndex, endIndex);
     }
 
     private final String abbreviation;
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.model.support;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import org.cp.domain.geo.enums.Country;
+import org.cp.domain.geo.model.Address;
+import org.cp.elements.lang.ObjectUtils;
+import org.cp.elements.lang.StringUtils;
+import org.cp.elements.lang.annotation.Immutable;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+import org.cp.elements.util.ComparatorResultBuilder;
+
+/**
+ * Canonical, hashable key of a standardized {@link Address}.
+ * <p>
+ * 2 {@link Address Addresses} written differently, such as {@literal 100 Main Street} and {@literal 100 MAIN ST},
+ * have equal {@link AddressKey AddressKeys} after standardization. {@link AddressKey AddressKeys} can therefore be
+ * used to deduplicate {@link Address Addresses} with a single hash-based pass, such as grouping into
+ * a {@link java.util.Map} or a hash join.
+ *
+ * @author John Blum
+ * @see java.io.Serializable
+ * @see java.lang.Comparable
+ * @see org.cp.domain.geo.model.Address
+ * @see org.cp.domain.geo.model.support.AddressStandardizer
+ * @since 0.4.0
+ */
+@Immutable
+@ThreadSafe
+public final class AddressKey implements Comparable<AddressKey>, Serializable {
+
+  private static final String ADDRESS_KEY_TO_STRING = "%1$d %2$s%3$s, %4$s %5$s, %6$s";
+
+  private final int hashCode;
+  private final int streetNumber;
+
+  private final Country country;
+
+  private final String city;
+  private final String postalCode;
+  private final String street;
+  private final String unit;
+
+  /**
+   * Constructs a new {@link AddressKey} initialized with the given, standardized {@link Address} components.
+   *
+   * @param streetNumber {@link Integer} containing the {@literal building number} on the street.
+   * @param street {@link String} containing the standardized street without the number, such as {@literal N MAIN ST}.
+   * @param unit {@link String} containing the standardized unit, such as {@literal APT 4}; may be {@literal empty}.
+   * @param city {@link String} containing the standardized {@literal city} name.
+   * @param postalCode {@link String} containing the standardized {@literal postal code}, such as the {@literal ZIP5}.
+   * @param country {@link Country} of the {@link Address}.
+   * @throws IllegalArgumentException if any {@link String} component or the {@link Country} is {@literal null}.
+   */
+  AddressKey(int streetNumber, @NotNull String street, @NotNull String unit, @NotNull String city,
+      @NotNull String postalCode, @NotNull Country country) {
+
+    this.streetNumber = streetNumber;
+    this.street = ObjectUtils.requireObject(street, "Street is required");
+    this.unit = ObjectUtils.requireObject(unit, "Unit is required");
+    this.city = ObjectUtils.requireObject(city, "City is required");
+    this.postalCode = ObjectUtils.requireObject(postalCode, "Postal code is required");
+    this.country = ObjectUtils.requireObject(country, "Country is required");
+    this.hashCode = Objects.hash(streetNumber, street, unit, city, postalCode, country);
+  }
+
+  /**
+   * Gets the standardized {@literal city} name.
+   *
+   * @return the standardized {@literal city} name.
+   */
+  public @NotNull String getCity() {
+    return this.city;
+  }
+
+  /**
+   * Gets the {@link Country} of the {@link Address}.
+   *
+   * @return the {@link Country} of the {@link Address}.
+   * @see org.cp.domain.geo.enums.Country
+   */
+  public @NotNull Country getCountry() {
+    return this.country;
+  }
+
+  /**
+   * Gets the standardized {@literal postal code}, such as the {@literal 5-digit ZIP code}
+   * in the {@link Country#UNITED_STATES_OF_AMERICA United States}.
+   *
+   * @return the standardized {@literal postal code}.
+   */
+  public @NotNull String getPostalCode() {
+    return this.postalCode;
+  }
+
+  /**
+   * Gets the standardized street, without the {@link #getStreetNumber() street number}.
+   *
+   * @return the standardized street, such as {@literal N MAIN ST}.
+   * @see #getStreetNumber()
+   */
+  public @NotNull String getStreet() {
+    return this.street;
+  }
+
+  /**
+   * Gets the {@literal building number} on the street.
+   *
+   * @return the {@literal building number} on the street.
+   * @see #getStreet()
+   */
+  public int getStreetNumber() {
+    return this.streetNumber;
+  }
+
+  /**
+   * Gets the standardized unit, such as {@literal APT 4}.
+   *
+   * @return the standardized unit, or an {@link String#isEmpty() empty} {@link String}
+   * if the {@link Address} has no unit.
+   */
+  public @NotNull String getUnit() {
+    return this.unit;
+  }
+
+  @Override
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  public int compareTo(@NotNull AddressKey that) {
+
+    return ComparatorResultBuilder.<Comparable>create()
+      .doCompare(this.getCountry(), that.getCountry())
+      .doCompare(this.getPostalCode(), that.getPostalCode())
+      .doCompare(this.getCity(), that.getCity())
+      .doCompare(this.getStreet(), that.getStreet())
+      .doCompare(this.getStreetNumber(), that.getStreetNumber())
+      .doCompare(this.getUnit(), that.getUnit())
+      .build();
+  }
+
+  @Override
+  public boolean equals(@Nullable Object obj) {
+
+    if (this == obj) {
+      return true;
+    }
+
+    if (!(obj instanceof AddressKey that)) {
+      return false;
+    }
+
+    return this.hashCode == that.hashCode
+      && this.streetNumber == that.streetNumber
+      && ObjectUtils.equals(this.getPostalCode(), that.getPostalCode())
+      && ObjectUtils.equals(this.getStreet(), that.getStreet())
+      && ObjectUtils.equals(this.getUnit(), that.getUnit())
+      && ObjectUtils.equals(this.getCity(), that.getCity())
+      && ObjectUtils.equals(this.getCountry(), that.getCountry());
+  }
+
+  @Override
+  public int hashCode() {
+    return this.hashCode;
+  }
+
+  /**
+   * Returns the canonical, single-line form of this {@link AddressKey},
+   * such as {@literal 100 N MAIN ST APT 4, PORTLAND 97205, USA}.
+   *
+   * @return the canonical, single-line form of this {@link AddressKey}.
+   */
+  @Override
+  public @NotNull String toString() {
+
+    return String.format(ADDRESS_KEY_TO_STRING, getStreetNumber(), getStreet(),
+      getUnit().isEmpty() ? StringUtils.EMPTY_STRING : StringUtils.SINGLE_SPACE.concat(getUnit()),
+      getCity(), getPostalCode(), getCountry().getIsoThree());
+  }
+}
@@ -0,0 +1,378 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.model.support;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.cp.domain.geo.enums.Country;
+import org.cp.domain.geo.enums.Direction;
+import org.cp.domain.geo.model.Address;
+import org.cp.domain.geo.model.City;
+import org.cp.domain.geo.model.PostalCode;
+import org.cp.domain.geo.model.Street;
+import org.cp.domain.geo.model.Unit;
+import org.cp.domain.geo.model.usa.ZIP;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.StringUtils;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * Standardizes {@link Address Addresses} into canonical {@link AddressKey AddressKeys}.
+ * <p>
+ * Standardization:
+ * <ul>
+ *   <li>upper cases all text, removes periods and collapses whitespace, commas and {@literal #} into single spaces</li>
+ *   <li>abbreviates the {@link Street.Type street suffix} and {@link Direction directionals} using
+ *   {@link Street.Type#getAbbreviation()} and {@link Direction#getAbbreviation()}, including a suffix
+ *   or directional written out as part of the {@link Street#getName() street name}</li>
+ *   <li>abbreviates the {@link Unit.Type unit designator} using {@link Unit.Type#getAbbreviation()}</li>
+ *   <li>truncates a {@link ZIP} code to the {@literal 5-digit ZIP code}, restoring dropped leading zeros</li>
+ * </ul>
+ * <p>
+ * Standardized streets and cities are memoized in a bounded, least recently used cache since the same streets
+ * and cities repeat across many {@link Address Addresses}.
+ *
+ * @author John Blum
+ * @see org.cp.domain.geo.model.Address
+ * @see org.cp.domain.geo.model.support.AddressKey
+ * @see org.cp.elements.lang.annotation.ThreadSafe
+ * @since 0.4.0
+ */
+@ThreadSafe
+public class AddressStandardizer {
+
+  public static final int DEFAULT_CACHE_SIZE = 65_536;
+
+  private static final int CACHE_SEGMENTS = 16;
+  private static final int ZIP_CODE_LENGTH = 5;
+
+  private static final AddressStandardizer ADDRESS_STANDARDIZER = new AddressStandardizer();
+
+  /**
+   * Gets a reference to the shared instance of the {@link AddressStandardizer}
+   * with a cache of {@link #DEFAULT_CACHE_SIZE} entries.
+   *
+   * @return a reference to the shared instance of the {@link AddressStandardizer}.
+   */
+  public static @NotNull AddressStandardizer getInstance() {
+    return ADDRESS_STANDARDIZER;
+  }
+
+  private final Memo<String, String> cities;
+
+  private final Memo<StreetKey, String> streets;
+
+  /**
+   * Constructs a new {@link AddressStandardizer} with a cache of {@link #DEFAULT_CACHE_SIZE} entries.
+   *
+   * @see #AddressStandardizer(int)
+   */
+  public AddressStandardizer() {
+    this(DEFAULT_CACHE_SIZE);
+  }
+
+  /**
+   * Constructs a new {@link AddressStandardizer} caching up to the given number of standardized streets and cities.
+   *
+   * @param cacheSize {@link Integer maximum number} of standardized streets and cities each to cache;
+   * {@literal 0} disables caching.
+   * @throws IllegalArgumentException if the {@link Integer cache size} is less than {@literal 0}.
+   */
+  public AddressStandardizer(int cacheSize) {
+
+    Assert.isTrue(cacheSize >= 0, "Cache size [%s] must be greater than or equal to 0", cacheSize);
+
+    this.cities = new Memo<>(cacheSize);
+    this.streets = new Memo<>(cacheSize);
+  }
+
+  /**
+   * Standardizes the given, required {@link Address} into a canonical {@link AddressKey}.
+   *
+   * @param address {@link Address} to standardize; must not be {@literal null}.
+   * @return the canonical {@link AddressKey} for the given {@link Address}.
+   * @throws IllegalArgumentException if the {@link Address} is {@literal null}.
+   * @see org.cp.domain.geo.model.support.AddressKey
+   */
+  public @NotNull AddressKey standardize(@NotNull Address address) {
+
+    Assert.notNull(address, "Address to standardize is required");
+
+    Country country = address.getCountry();
+
+    return new AddressKey(address.getStreet().getNumber(), standardizeStreet(address.getStreet()),
+      address.getUnit().map(this::standardizeUnit).orElse(StringUtils.EMPTY_STRING),
+      standardizeCity(address.getCity()), standardizePostalCode(address.getPostalCode(), country), country);
+  }
+
+  /**
+   * Standardizes the {@link City#getName() name} of the given, required {@link City}.
+   *
+   * @param city {@link City} to standardize; must not be {@literal null}.
+   * @return the standardized {@link City#getName() name}, such as {@literal SALT LAKE CITY}.
+   * @throws IllegalArgumentException if the {@link City} is {@literal null}.
+   */
+  public @NotNull String standardizeCity(@NotNull City city) {
+
+    Assert.notNull(city, "City to standardize is required");
+
+    return this.cities.computeIfAbsent(city.getName(), AddressStandardizer::normalize);
+  }
+
+  /**
+   * Standardizes the given, required {@link PostalCode} of an {@link Address} in the given {@link Country}.
+   * <p>
+   * A {@link ZIP} code, or any {@link PostalCode} in the {@link Country#UNITED_STATES_OF_AMERICA United States},
+   * is standardized to the {@literal 5-digit ZIP code}.
+   *
+   * @param postalCode {@link PostalCode} to standardize; must not be {@literal null}.
+   * @param country {@link Country} of the {@link Address}.
+   * @return the standardized {@link PostalCode}, such as {@literal 02108}.
+   * @throws IllegalArgumentException if the {@link PostalCode} is {@literal null}.
+   */
+  public @NotNull String standardizePostalCode(@NotNull PostalCode postalCode, @Nullable Country country) {
+
+    Assert.notNull(postalCode, "PostalCode to standardize is required");
+
+    String number = postalCode.getNumber();
+
+    return postalCode instanceof ZIP || Country.UNITED_STATES_OF_AMERICA.equals(country)
+      ? toZipCode(number)
+      : normalize(number).replace(StringUtils.SINGLE_SPACE, StringUtils.EMPTY_STRING);
+  }
+
+  /**
+   * Standardizes the given, required {@link Street} without the {@link Street#getNumber() street number}.
+   *
+   * @param street {@link Street} to standardize; must not be {@literal null}.
+   * @return the standardized {@link Street}, such as {@literal N MAIN ST}.
+   * @throws IllegalArgumentException if the {@link Street} is {@literal null}.
+   */
+  public @NotNull String standardizeStreet(@NotNull Street street) {
+
+    Assert.notNull(street, "Street to standardize is required");
+
+    StreetKey streetKey = new StreetKey(street.getName(), street.getDirection().orElse(null),
+      street.getType().filter(type -> type != Street.Type.UNKNOWN).orElse(null));
+
+    return this.streets.computeIfAbsent(streetKey, AddressStandardizer::toStreet);
+  }
+
+  /**
+   * Standardizes the given, required {@link Unit}.
+   * <p>
+   * A {@link Unit} without a {@link Unit.Type} is standardized to only its {@link Unit#getNumber() number},
+   * unless the {@link Unit#getNumber() number} begins with a {@link Unit.Type unit designator}.
+   *
+   * @param unit {@link Unit} to standardize; must not be {@literal null}.
+   * @return the standardized {@link Unit}, such as {@literal APT 4}.
+   * @throws IllegalArgumentException if the {@link Unit} is {@literal null}.
+   */
+  public @NotNull String standardizeUnit(@NotNull Unit unit) {
+
+    Assert.notNull(unit, "Unit to standardize is required");
+
+    String number = normalize(unit.getNumber());
+    Unit.Type unitType = unit.getType().filter(type -> type != Unit.Type.UNKNOWN).orElse(null);
+
+    int space = number.indexOf(' ');
+
+    if (unitType == null && space > 0) {
+      unitType = Unit.Type.valueOfAbbreviationOrDescription(number, 0, space);
+      number = unitType != null && unitType != Unit.Type.UNKNOWN ? number.substring(space + 1) : number;
+    }
+
+    return unitType != null && unitType != Unit.Type.UNKNOWN
+      ? unitType.getAbbreviation().concat(StringUtils.SINGLE_SPACE).concat(number)
+      : number;
+  }
+
+  /**
+   * Upper cases the given {@link CharSequence}, removing periods and collapsing whitespace, commas and {@literal #}
+   * into single spaces.
+   *
+   * @param text {@link CharSequence} to normalize.
+   * @return the normalized {@link String}.
+   */
+  static @NotNull String normalize(@Nullable CharSequence text) {
+
+    if (text == null) {
+      return StringUtils.EMPTY_STRING;
+    }
+
+    StringBuilder normalizedText = new StringBuilder(text.length());
+
+    boolean space = false;
+
+    for (int index = 0, length = text.length(); index < length; index++) {
+
+      char character = text.charAt(index);
+
+      if (character == ',' || character == '#' || Character.isWhitespace(character)) {
+        space = true;
+      }
+      else if (character != '.') {
+        if (space && !normalizedText.isEmpty()) {
+          normalizedText.append(' ');
+        }
+
+        normalizedText.append(Character.toUpperCase(character));
+        space = false;
+      }
+    }
+
+    return normalizedText.toString();
+  }
+
+  private static @NotNull String toStreet(@NotNull StreetKey streetKey) {
+
+    String name = normalize(streetKey.name());
+
+    Direction direction = streetKey.direction();
+    Direction postDirection = null;
+    Street.Type streetType = streetKey.type();
+
+    int begin = 0;
+    int end = name.length();
+    int firstSpace = name.indexOf(' ');
+
+    if (direction == null && firstSpace > 0) {
+      direction = Direction.valueOfAbbreviationOrName(name, 0, firstSpace);
+      begin = direction != null ? firstSpace + 1 : begin;
+    }
+
+    int lastSpace = name.lastIndexOf(' ');
+
+    if (lastSpace >= begin) {
+
+      Street.Type nameType = Street.Type.valueOfAbbreviationOrName(name, lastSpace + 1, end);
+
+      if (nameType != null && nameType != Street.Type.UNKNOWN && (streetType == null || streetType == nameType)) {
+        streetType = nameType;
+        end = lastSpace;
+      }
+      else {
+        postDirection = Direction.valueOfAbbreviationOrName(name, lastSpace + 1, end);
+        end = postDirection != null ? lastSpace : end;
+      }
+    }
+
+    StringBuilder street = new StringBuilder(name.length() + 8);
+
+    if (direction != null) {
+      street.append(direction.getAbbreviation()).append(' ');
+    }
+
+    street.append(name, begin, end);
+
+    if (postDirection != null) {
+      street.append(' ').append(postDirection.getAbbreviation());
+    }
+
+    if (streetType != null) {
+      street.append(' ').append(streetType.getAbbreviation());
+    }
+
+    return street.toString();
+  }
+
+  private static @NotNull String toZipCode(@NotNull String number) {
+
+    StringBuilder zipCode = new StringBuilder(ZIP_CODE_LENGTH);
+
+    for (int index = 0, length = number.length(); index < length && zipCode.length() < ZIP_CODE_LENGTH; index++) {
+
+      char character = number.charAt(index);
+
+      if (Character.isDigit(character)) {
+        zipCode.append(character);
+      }
+      else if (!zipCode.isEmpty()) {
+        break;
+      }
+    }
+
+    while (!zipCode.isEmpty() && zipCode.length() < ZIP_CODE_LENGTH) {
+      zipCode.insert(0, '0');
+    }
+
+    return zipCode.toString();
+  }
+
+  private record StreetKey(String name, Direction direction, Street.Type type) { }
+
+  /**
+   * Bounded, least recently used cache split into segments to reduce lock contention.
+   *
+   * @param <K> {@link Class type} of the key.
+   * @param <V> {@link Class type} of the value.
+   */
+  static final class Memo<K, V> {
+
+    private final Map<K, V>[] segments;
+
+    @SuppressWarnings("unchecked")
+    Memo(int capacity) {
+
+      int segmentCount = capacity > 0 ? CACHE_SEGMENTS : 0;
+      int segmentCapacity = segmentCount > 0 ? Math.max(1, (capacity + segmentCount - 1) / segmentCount) : 0;
+
+      this.segments = new Map[segmentCount];
+
+      for (int index = 0; index < segmentCount; index++) {
+        this.segments[index] = new LinkedHashMap<>(16, 0.75f, true) {
+
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > segmentCapacity;
+          }
+        };
+      }
+    }
+
+    V computeIfAbsent(@NotNull K key, @NotNull Function<K, V> function) {
+
+      if (this.segments.length == 0) {
+        return function.apply(key);
+      }
+
+      int hash = key.hashCode();
+
+      Map<K, V> segment = this.segments[(hash ^ (hash >>> 16)) & (this.segments.length - 1)];
+
+      synchronized (segment) {
+        return segment.computeIfAbsent(key, function);
+      }
+    }
+
+    int size() {
+
+      int size = 0;
+
+      for (Map<K, V> segment : this.segments) {
+        synchronized (segment) {
+          size += segment.size();
+        }
+      }
+
+      return size;
+    }
+  }
+}
@@ -17,6 +17,12 @@ package org.cp.domain.geo.model.usa;
 
 import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalStateException;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.cp.domain.core.support.ParseResult;
 import org.cp.domain.geo.enums.Country;
 import org.cp.domain.geo.enums.State;
 import org.cp.domain.geo.model.AbstractAddress;
@@ -25,6 +31,7 @@ import org.cp.domain.geo.model.City;
 import org.cp.domain.geo.model.PostalCode;
 import org.cp.domain.geo.model.Street;
 import org.cp.domain.geo.model.usa.support.StateZipCodesRepository;
+import org.cp.domain.geo.model.usa.support.UnitedStatesCityCatalog;
 import org.cp.elements.lang.Assert;
 import org.cp.elements.lang.ObjectUtils;
 import org.cp.elements.lang.annotation.Alias;
@@ -67,8 +74,91 @@ public class UnitedStatesAddress extends AbstractAddress {
     return new UnitedStatesAddress.Builder();
   }
 
+  /**
+   * Factory method used to parse the given {@link CharSequence} containing a {@literal physical, postal address}
+   * written on a single line into a new {@link UnitedStatesAddress}.
+   * <p>
+   * For example: {@literal 100 Main St Apt 4, Portland, OR 97205-1234}. The {@link State} may be given
+   * by abbreviation or name, or omitted, in which case the {@link State} is resolved from the {@link ZIP} code.
+   *
+   * @param address {@link CharSequence} containing the {@link UnitedStatesAddress} to parse;
+   * must not be {@literal null} or {@literal empty}.
+   * @return a new {@link UnitedStatesAddress} parsed from the given {@link CharSequence}.
+   * @throws IllegalArgumentException if the given {@link CharSequence} does not contain a valid {@link Street},
+   * {@link City} and {@link ZIP} code, or the {@link State} could not be determined.
+   * @see #parseAll(Iterable)
+   * @see #parseAll(Stream)
+   * @see #tryParse(CharSequence)
+   */
+  public static @NotNull UnitedStatesAddress parse(@NotNull CharSequence address) {
+
+    return tryParse(address).orElseThrow();
+  }
+
+  /**
+   * Parses all the given {@link CharSequence addresses} in bulk, reporting an error per record
+   * rather than throwing an {@link Exception} on the first {@link CharSequence address} that cannot be parsed.
+   *
+   * @param addresses {@link Iterable} of {@link CharSequence addresses} to parse; must not be {@literal null}.
+   * @return a {@link List} of {@link ParseResult ParseResults} in the same order as the given
+   * {@link CharSequence addresses}.
+   * @throws IllegalArgumentException if the {@link Iterable} is {@literal null}.
+   * @see #parseAll(Stream)
+   * @see #parse(CharSequence)
+   */
+  public static @NotNull List<ParseResult<UnitedStatesAddress>> parseAll(
+      @NotNull Iterable<? extends CharSequence> addresses) {
+
+    Assert.notNull(addresses, "Addresses to parse are required");
+
+    List<ParseResult<UnitedStatesAddress>> results = addresses instanceof Collection<?> collection
+      ? new ArrayList<>(collection.size())
+      : new ArrayList<>();
+
+    for (CharSequence address : addresses) {
+      results.add(tryParse(address));
+    }
+
+    return results;
+  }
+
+  /**
+   * Lazily parses all the given {@link CharSequence addresses} in bulk, reporting an error per record
+   * rather than throwing an {@link Exception} on the first {@link CharSequence address} that cannot be parsed.
+   * <p>
+   * The returned {@link Stream} may be {@link Stream#parallel() parallel} when parsing a large file.
+   *
+   * @param addresses {@link Stream} of {@link CharSequence addresses} to parse; must not be {@literal null}.
+   * @return a {@link Stream} of {@link ParseResult ParseResults} in the encounter order of the given
+   * {@link CharSequence addresses}.
+   * @throws IllegalArgumentException if the {@link Stream} is {@literal null}.
+   * @see #parseAll(Iterable)
+   * @see #parse(CharSequence)
+   */
+  public static @NotNull Stream<ParseResult<UnitedStatesAddress>> parseAll(
+      @NotNull Stream<? extends CharSequence> addresses) {
+
+    Assert.notNull(addresses, "Stream of addresses to parse is required");
+
+    return addresses.map(UnitedStatesAddress::tryParse);
+  }
+
+  /**
+   * Parses the given {@link CharSequence} into a {@link UnitedStatesAddress} without throwing an {@link Exception}
+   * if the {@link CharSequence} cannot be parsed.
+   *
+   * @param address {@link CharSequence} containing the {@link UnitedStatesAddress} to parse.
+   * @return a {@link ParseResult} containing either the parsed {@link UnitedStatesAddress} or the parse error.
+   * @see #parse(CharSequence)
+   */
+  public static @NotNull ParseResult<UnitedStatesAddress> tryParse(@Nullable CharSequence address) {
+    return UnitedStatesAddressParser.parse(address);
+  }
+
   private final State state;
 
+  private transient volatile UnitedStatesCity city;
+
   /**
    * Constructs a new {@link UnitedStatesAddress} initialized with the given, required {@link Street}, {@link City},
    * {@link State} and {@link ZIP} code uniquely identifying a {@literal physical, postal address}
@@ -95,15 +185,27 @@ public class UnitedStatesAddress extends AbstractAddress {
 
   /**
    * Returns the {@link City} of this {@link UnitedStatesAddress} as a {@link UnitedStatesCity}.
+   * <p>
+   * The returned {@link UnitedStatesCity} is the canonical, immutable instance shared by all
+   * {@link UnitedStatesAddress UnitedStatesAddresses} in the same {@link City} and {@link State}.
    *
    * @return the {@link City} of this {@link UnitedStatesAddress} as a {@link UnitedStatesCity}.
+   * @see org.cp.domain.geo.model.usa.support.UnitedStatesCityCatalog
    * @see org.cp.domain.geo.model.usa.UnitedStatesCity
    * @see org.cp.domain.geo.model.City
    * @see #getCity()
    */
   @Override
   public @NotNull UnitedStatesCity getCity() {
-    return UnitedStatesCity.from(super.getCity()).in(getState());
+
+    UnitedStatesCity city = this.city;
+
+    if (city == null) {
+      city = UnitedStatesCityCatalog.getInstance().intern(super.getCity(), getState());
+      this.city = city;
+    }
+
+    return city;
   }
 
   /**
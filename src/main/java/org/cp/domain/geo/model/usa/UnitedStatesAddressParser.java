@@ -0,0 +1,394 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.model.usa;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+import org.cp.domain.core.support.ParseResult;
+import org.cp.domain.geo.enums.Direction;
+import org.cp.domain.geo.enums.State;
+import org.cp.domain.geo.model.Street;
+import org.cp.domain.geo.model.Unit;
+import org.cp.domain.geo.model.usa.support.StateZipCodesRepository;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+
+/**
+ * Parser of a {@link UnitedStatesAddress} written on a single line, such as
+ * {@literal 100 Main St Apt 4, Portland, OR 97205-1234}.
+ * <p>
+ * The line is first split into tokens on whitespace and commas in a single pass, recording only the token offsets.
+ * The {@link ZIP} code is then taken from the last token, and the {@link State} from the 1 to 3 tokens before it,
+ * by abbreviation or name. If the {@link State} is missing, then it is resolved from the {@link ZIP} code
+ * with the {@link StateZipCodesRepository}. Finally, a state machine walks the remaining tokens left to right
+ * to separate the {@link Street}, an optional {@link Unit} and the {@link org.cp.domain.geo.model.City}.
+ * <p>
+ * The {@link Street} ends at a comma, a {@link Unit.Type unit designator} (or {@literal #}),
+ * or after a {@link Street.Type}. The {@link org.cp.domain.geo.model.City} is the remaining tokens.
+ * <p>
+ * No regular expressions are used and no {@link Exception Exceptions} are thrown for control flow.
+ *
+ * @author John Blum
+ * @see org.cp.domain.geo.model.usa.UnitedStatesAddress#parse(CharSequence)
+ * @see org.cp.domain.geo.model.usa.support.StateZipCodesRepository
+ * @since 0.4.0
+ */
+final class UnitedStatesAddressParser {
+
+  private static final char UNIT_NUMBER_SIGN = '#';
+
+  private static final int MAXIMUM_STATE_NAME_TOKENS = 3;
+  private static final int STANDARD_ZIP_CODE_LENGTH = 5;
+  private static final int EXTENDED_ZIP_CODE_LENGTH = 10;
+
+  private UnitedStatesAddressParser() { }
+
+  private enum ParseState {
+    STREET, STREET_SUFFIX, UNIT_NUMBER, UNIT_END, CITY
+  }
+
+  /**
+   * Parses the given {@link CharSequence} into a {@link UnitedStatesAddress}.
+   *
+   * @param address {@link CharSequence} containing the {@link UnitedStatesAddress} written on a single line.
+   * @return a {@link ParseResult} containing either the parsed {@link UnitedStatesAddress} or the parse error.
+   */
+  static @NotNull ParseResult<UnitedStatesAddress> parse(@Nullable CharSequence address) {
+
+    Tokens tokens = Tokens.tokenize(address);
+
+    if (tokens.count() == 0) {
+      return ParseResult.invalid(address, String.format("Address [%s] to parse is required", address));
+    }
+
+    int zipIndex = tokens.count() - 1;
+
+    ZIP zip = toZip(address, tokens.begin(zipIndex), tokens.end(zipIndex));
+
+    if (zip == null) {
+      return ParseResult.invalid(address, String.format("Address [%s] must end with a ZIP code", address));
+    }
+
+    int stateIndex = zipIndex;
+
+    State state = null;
+
+    for (int length = Math.min(MAXIMUM_STATE_NAME_TOKENS, zipIndex - 1); length > 0 && state == null; length--) {
+      if (!tokens.isSeparated(zipIndex - length + 1, zipIndex - 1)) {
+        state = State.valueOfAbbreviationOrName(address, tokens.begin(zipIndex - length),
+          tokens.end(zipIndex - 1));
+        stateIndex = state != null ? zipIndex - length : zipIndex;
+      }
+    }
+
+    if (state == null) {
+      state = StateZipCodesRepository.getInstance().findStateBy(zip.getCodeValue()).orElse(null);
+    }
+
+    if (state == null) {
+      return ParseResult.invalid(address,
+        String.format("Address [%s] must contain a State or a ZIP code assigned to a State", address));
+    }
+
+    ParseState parseState = ParseState.STREET;
+
+    int streetEnd = stateIndex;
+    int unitIndex = -1;
+    int cityIndex = -1;
+    int nameTokens = 0;
+
+    for (int index = 1; index < stateIndex; index++) {
+
+      boolean separated = tokens.isSeparated(index);
+
+      switch (parseState) {
+        case STREET, STREET_SUFFIX -> {
+          if (nameTokens > 0 && isUnit(address, tokens, index, stateIndex)) {
+            streetEnd = index;
+            unitIndex = index;
+            parseState = ParseState.UNIT_NUMBER;
+          }
+          else if (separated) {
+            streetEnd = index;
+            cityIndex = index;
+            parseState = ParseState.CITY;
+          }
+          else if (parseState == ParseState.STREET_SUFFIX) {
+            if (isDirection(address, tokens, index)) {
+              streetEnd = index + 1;
+            }
+            else {
+              cityIndex = index;
+              parseState = ParseState.CITY;
+            }
+          }
+          else if (nameTokens > 0 && isStreetType(address, tokens, index)) {
+            streetEnd = index + 1;
+            parseState = ParseState.STREET_SUFFIX;
+          }
+          else if (index > 1 || !isDirection(address, tokens, index)) {
+            nameTokens++;
+          }
+        }
+        case UNIT_NUMBER -> parseState = ParseState.UNIT_END;
+        case UNIT_END -> {
+          cityIndex = index;
+          parseState = ParseState.CITY;
+        }
+        case CITY -> {
+          if (separated) {
+            return ParseResult.invalid(address,
+              String.format("Address [%s] must contain only a street, unit, city, state and ZIP code", address));
+          }
+        }
+      }
+    }
+
+    if (cityIndex < 0) {
+      return ParseResult.invalid(address, String.format("Address [%s] must contain a city", address));
+    }
+
+    ParseResult<Street> street =
+      Street.tryParse(CharBuffer.wrap(address, tokens.begin(0), tokens.end(streetEnd - 1)));
+
+    if (street.isInvalid()) {
+      return ParseResult.invalid(address, street.getError().orElseThrow());
+    }
+
+    UnitedStatesCity city = UnitedStatesCity.of(tokens.join(address, cityIndex, stateIndex), state);
+
+    UnitedStatesAddress unitedStatesAddress =
+      new UnitedStatesAddress(street.orElseThrow(), city, state, zip);
+
+    if (unitIndex > -1) {
+      unitedStatesAddress.setUnit(toUnit(address, tokens, unitIndex));
+    }
+
+    return ParseResult.valid(address, unitedStatesAddress);
+  }
+
+  private static boolean isDirection(@NotNull CharSequence address, @NotNull Tokens tokens, int index) {
+    return Direction.valueOfAbbreviationOrName(address, tokens.begin(index), tokens.trimmedEnd(address, index)) != null;
+  }
+
+  private static boolean isStreetType(@NotNull CharSequence address, @NotNull Tokens tokens, int index) {
+
+    Street.Type streetType =
+      Street.Type.valueOfAbbreviationOrName(address, tokens.begin(index), tokens.trimmedEnd(address, index));
+
+    return streetType != null && streetType != Street.Type.UNKNOWN;
+  }
+
+  // A unit designator must be followed by the unit number, before the next comma and the State.
+  private static boolean isUnit(@NotNull CharSequence address, @NotNull Tokens tokens, int index, int stateIndex) {
+    return index + 1 < stateIndex && !tokens.isSeparated(index + 1) && toUnitType(address, tokens, index) != null;
+  }
+
+  private static @NotNull Unit toUnit(@NotNull CharSequence address, @NotNull Tokens tokens, int index) {
+
+    Unit.Type unitType = toUnitType(address, tokens, index);
+    String number = address.subSequence(tokens.begin(index + 1), tokens.end(index + 1)).toString();
+
+    return Unit.of(number).as(unitType != Unit.Type.UNKNOWN ? unitType : null);
+  }
+
+  // Returns Unit.Type.UNKNOWN for the '#' designator, which has no Unit.Type.
+  private static @Nullable Unit.Type toUnitType(@NotNull CharSequence address, @NotNull Tokens tokens, int index) {
+
+    int begin = tokens.begin(index);
+    int end = tokens.trimmedEnd(address, index);
+
+    if (end - begin == 1 && address.charAt(begin) == UNIT_NUMBER_SIGN) {
+      return Unit.Type.UNKNOWN;
+    }
+
+    Unit.Type unitType = Unit.Type.valueOfAbbreviationOrDescription(address, begin, end);
+
+    return unitType != Unit.Type.UNKNOWN ? unitType : null;
+  }
+
+  private static int toNumber(@NotNull CharSequence text, int beginIndex, int endIndex) {
+
+    int number = 0;
+
+    for (int index = beginIndex; index < endIndex; index++) {
+
+      int digit = text.charAt(index) - '0';
+
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+
+      number = number * 10 + digit;
+    }
+
+    return number;
+  }
+
+  private static @Nullable ZIP toZip(@NotNull CharSequence text, int beginIndex, int endIndex) {
+
+    int length = endIndex - beginIndex;
+
+    if (length != STANDARD_ZIP_CODE_LENGTH && length != EXTENDED_ZIP_CODE_LENGTH) {
+      return null;
+    }
+
+    int zipCode = toNumber(text, beginIndex, beginIndex + STANDARD_ZIP_CODE_LENGTH);
+
+    if (zipCode < 0) {
+      return null;
+    }
+
+    if (length == STANDARD_ZIP_CODE_LENGTH) {
+      return ZIP.ofDigits(zipCode);
+    }
+
+    int fourDigitExtension = text.charAt(beginIndex + STANDARD_ZIP_CODE_LENGTH) == '-'
+      ? toNumber(text, beginIndex + STANDARD_ZIP_CODE_LENGTH + 1, endIndex)
+      : -1;
+
+    return fourDigitExtension > -1 ? ZIP.ofDigits(zipCode, fourDigitExtension) : null;
+  }
+
+  /**
+   * Offsets of the tokens in a line, along with whether each token is separated from the previous token by a comma.
+   */
+  static final class Tokens {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    static @NotNull Tokens tokenize(@Nullable CharSequence text) {
+
+      Tokens tokens = new Tokens();
+
+      if (text != null) {
+
+        boolean separated = false;
+
+        int tokenBegin = -1;
+
+        for (int index = 0, length = text.length(); index < length; index++) {
+
+          char character = text.charAt(index);
+
+          if (character == ',' || Character.isWhitespace(character)) {
+            if (tokenBegin > -1) {
+              tokens.add(tokenBegin, index, separated);
+              tokenBegin = -1;
+              separated = false;
+            }
+
+            separated |= character == ',';
+          }
+          else if (character == UNIT_NUMBER_SIGN && tokenBegin < 0) {
+            tokens.add(index, index + 1, separated);
+            separated = false;
+          }
+          else if (tokenBegin < 0) {
+            tokenBegin = index;
+          }
+        }
+
+        if (tokenBegin > -1) {
+          tokens.add(tokenBegin, text.length(), separated);
+        }
+      }
+
+      return tokens;
+    }
+
+    // Token i is at offsets[2 * i] (begin, inclusive) and offsets[2 * i + 1] (end, exclusive).
+    private int[] offsets = new int[INITIAL_CAPACITY * 2];
+
+    private boolean[] separated = new boolean[INITIAL_CAPACITY];
+
+    private int count;
+
+    private void add(int beginIndex, int endIndex, boolean separated) {
+
+      if (this.count == this.separated.length) {
+        this.offsets = Arrays.copyOf(this.offsets, this.offsets.length * 2);
+        this.separated = Arrays.copyOf(this.separated, this.separated.length * 2);
+      }
+
+      this.offsets[2 * this.count] = beginIndex;
+      this.offsets[2 * this.count + 1] = endIndex;
+      this.separated[this.count++] = separated;
+    }
+
+    int begin(int index) {
+      return this.offsets[2 * index];
+    }
+
+    int count() {
+      return this.count;
+    }
+
+    int end(int index) {
+      return this.offsets[2 * index + 1];
+    }
+
+    boolean isSeparated(int index) {
+      return this.separated[index];
+    }
+
+    // Determines whether any token in the range, inclusive, is preceded by a comma.
+    boolean isSeparated(int fromIndex, int toIndex) {
+
+      for (int index = fromIndex; index <= toIndex; index++) {
+        if (this.separated[index]) {
+          return true;
+        }
+      }
+
+      return false;
+    }
+
+    // Joins the tokens in the range [fromIndex, toIndex) with single spaces, reusing the text if already normalized.
+    @NotNull String join(@NotNull CharSequence text, int fromIndex, int toIndex) {
+
+      int beginIndex = begin(fromIndex);
+      int endIndex = end(toIndex - 1);
+      int length = toIndex - fromIndex - 1;
+
+      for (int index = fromIndex; index < toIndex; index++) {
+        length += end(index) - begin(index);
+      }
+
+      if (length == endIndex - beginIndex) {
+        return text.subSequence(beginIndex, endIndex).toString();
+      }
+
+      StringBuilder joined = new StringBuilder(length);
+
+      for (int index = fromIndex; index < toIndex; index++) {
+        joined.append(joined.isEmpty() ? "" : " ").append(text, begin(index), end(index));
+      }
+
+      return joined.toString();
+    }
+
+    // Excludes a trailing period from abbreviations, such as "Apt." or "St.".
+    int trimmedEnd(@NotNull CharSequence text, int index) {
+
+      int beginIndex = begin(index);
+      int endIndex = end(index);
+
+      return endIndex - beginIndex > 1 && text.charAt(endIndex - 1) == '.' ? endIndex - 1 : endIndex;
+    }
+  }
+}
@@ -20,6 +20,7 @@ import java.util.Optional;
 import org.cp.domain.geo.enums.Country;
 import org.cp.domain.geo.enums.State;
 import org.cp.domain.geo.model.City;
+import org.cp.domain.geo.model.usa.support.UnitedStatesCityCatalog;
 import org.cp.elements.lang.Assert;
 import org.cp.elements.lang.ObjectUtils;
 import org.cp.elements.lang.annotation.NotNull;
@@ -52,6 +53,22 @@ public class UnitedStatesCity extends City {
     return new UnitedStatesCity(name);
   }
 
+  /**
+   * Factory method used to get the canonical, immutable {@link UnitedStatesCity} with the given,
+   * required {@link String name} located in the given, required {@link State}.
+   *
+   * @param name {@link String} containing the {@literal name} of the {@link City};
+   * must not be {@literal null} or {@literal empty}.
+   * @param state {@link State} in which the {@link City} is located; must not be {@literal null}.
+   * @return the canonical {@link UnitedStatesCity} with the given {@link String name} in the given {@link State}.
+   * @throws IllegalArgumentException if the given {@link String name} is {@literal null} or {@literal empty},
+   * or the given {@link State} is {@literal null}.
+   * @see org.cp.domain.geo.model.usa.support.UnitedStatesCityCatalog#intern(String, State)
+   */
+  public static @NotNull UnitedStatesCity of(@NotNull String name, @NotNull State state) {
+    return UnitedStatesCityCatalog.getInstance().intern(name, state);
+  }
+
   /**
    * Factory method used to construct a new {@link UnitedStatesCity} copied from the existing, required {@link City}.
    *
@@ -18,6 +18,7 @@ package org.cp.domain.geo.model.usa;
 import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalArgumentException;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Predicate;
 
 import org.cp.domain.geo.enums.Country;
@@ -34,6 +35,10 @@ import org.cp.elements.lang.annotation.Nullable;
  * Abstract Data Type (ADT) and {@link PostalCode} implementation modeling the {@literal Zone Improvement Plan (ZIP)}
  * system of {@literal postal codes} used by the {@link Country#UNITED_STATES_OF_AMERICA United States}
  * Postal Service since 1963 to assist in the sorting and routing of mail.
+ * <p>
+ * A {@link ZIP} code is also encoded as a single, {@link #getPackedValue() packed int value}, which orders
+ * the same as the {@link #getNumber() number} and is used to compare and test {@link ZIP} codes for equality
+ * without any {@link String} processing.
  *
  * @author John Blum
  * @see org.cp.domain.geo.enums.Country
@@ -49,9 +54,15 @@ public class ZIP extends PostalCode {
   protected static final int STANDARD_POSTAL_CODE_LENGTH = 5;
   protected static final int EXTENSION_POSTAL_CODE_LENGTH = 9;
 
+  protected static final int MAXIMUM_ZIP_CODE = 99_999;
+  protected static final int MAXIMUM_FOUR_DIGIT_EXTENSION = 9_999;
+  protected static final int PACKED_VALUE_RADIX = 10_001;
+
   protected static final String ZIP_TO_STRING = "%1$s%2$s";
   protected static final String ZIP_CODE_EXTENSION = "-%s";
 
+  private static final int NOT_PACKED = -1;
+
   /**
    * Factory method used to construct a new {@link ZIP} copied from the exiting, required {@link PostalCode}.
    *
@@ -80,9 +91,101 @@ public class ZIP extends PostalCode {
     return new ZIP(code);
   }
 
+  /**
+   * Factory method used to get the shared {@link ZIP} for the given {@link Integer 5-digit numeric value}
+   * of a {@link ZIP} code.
+   * <p>
+   * For example, {@literal 97205} or {@literal 2108} (for ZIP code {@literal 02108}).
+   * <p>
+   * The returned {@link ZIP} is a cached, immutable {@literal flyweight}; calling {@link #plusFour(String)}
+   * on the shared {@link ZIP} returns a new {@link ZIP} with the {@literal four-digit extension}.
+   *
+   * @param zipCode {@link Integer 5-digit numeric value} of the {@link ZIP} code.
+   * @return the shared {@link ZIP} for the given {@link Integer ZIP code}.
+   * @throws IllegalArgumentException if the {@link Integer ZIP code} is not a valid {@literal 5-digit} number.
+   * @see #ofDigits(int, int)
+   */
+  public static @NotNull ZIP ofDigits(int zipCode) {
+
+    assertZipCode(zipCode);
+
+    AtomicReferenceArray<ZIP> cache = ZipCodeCache.ZIP_CODES;
+
+    ZIP zip = cache.get(zipCode);
+
+    if (zip == null) {
+      ZIP newZip = new SharedZIP(zipCode);
+      zip = cache.compareAndExchange(zipCode, null, newZip);
+      zip = zip != null ? zip : newZip;
+    }
+
+    return zip;
+  }
+
+  /**
+   * Factory method used to construct a new {@link ZIP} for the given {@link Integer 5-digit numeric value}
+   * of a {@link ZIP} code and {@link Integer 4-digit numeric value} of the {@literal four-digit extension}.
+   *
+   * @param zipCode {@link Integer 5-digit numeric value} of the {@link ZIP} code.
+   * @param fourDigitExtension {@link Integer 4-digit numeric value} of the {@literal four-digit extension}.
+   * @return a new {@link ZIP} for the given {@link Integer ZIP code} and {@literal four-digit extension}.
+   * @throws IllegalArgumentException if the {@link Integer ZIP code} is not a valid {@literal 5-digit} number,
+   * or the {@literal four-digit extension} is not a valid {@literal 4-digit} number.
+   * @see #ofDigits(int)
+   */
+  public static @NotNull ZIP ofDigits(int zipCode, int fourDigitExtension) {
+
+    assertZipCode(zipCode);
+
+    Assert.isTrue(fourDigitExtension >= 0 && fourDigitExtension <= MAXIMUM_FOUR_DIGIT_EXTENSION,
+      "ZIP code four-digit extension [%s] must be a 4-digit number", fourDigitExtension);
+
+    return new ZIP(toDigits(zipCode, STANDARD_POSTAL_CODE_LENGTH))
+      .plusFour(toDigits(fourDigitExtension, EXTENSION_POSTAL_CODE_LENGTH - STANDARD_POSTAL_CODE_LENGTH));
+  }
+
+  /**
+   * Factory method used to construct a new {@link ZIP} decoded from the given {@link #getPackedValue() packed value}.
+   *
+   * @param packedValue {@link Integer packed value} of the {@link ZIP} code.
+   * @return a {@link ZIP} decoded from the given {@link Integer packed value}.
+   * @throws IllegalArgumentException if the {@link Integer packed value} is not valid.
+   * @see #getPackedValue()
+   */
+  public static @NotNull ZIP fromPackedValue(int packedValue) {
+
+    Assert.isTrue(packedValue >= 0 && packedValue < (MAXIMUM_ZIP_CODE + 1) * PACKED_VALUE_RADIX,
+      "Packed ZIP code value [%s] is not valid", packedValue);
+
+    int zipCode = packedValue / PACKED_VALUE_RADIX;
+    int fourDigitExtension = packedValue % PACKED_VALUE_RADIX;
+
+    return fourDigitExtension == 0 ? ofDigits(zipCode) : ofDigits(zipCode, fourDigitExtension - 1);
+  }
+
+  private static void assertZipCode(int zipCode) {
+    Assert.isTrue(zipCode >= 0 && zipCode <= MAXIMUM_ZIP_CODE, "ZIP code [%s] must be a 5-digit number", zipCode);
+  }
+
+  private static @NotNull String toDigits(int value, int length) {
+
+    char[] digits = new char[length];
+
+    for (int index = length - 1; index >= 0; index--, value /= 10) {
+      digits[index] = (char) ('0' + value % 10);
+    }
+
+    return new String(digits);
+  }
+
   private final String code;
 
   private String fourDigitExtension;
+  private String number;
+
+  private int packedValue;
+
+  private final int zipCode;
 
   /**
    * Constructs a new {@link ZIP} initialized with the given, required {@link String postal code}.
@@ -102,7 +205,13 @@ public class ZIP extends PostalCode {
       .orElseThrow(() -> newIllegalArgumentException("5 or 9 digit postal code is required; but was [%s]", code));
 
     this.code = postalCode.substring(0, STANDARD_POSTAL_CODE_LENGTH);
-    this.fourDigitExtension = postalCode.substring(STANDARD_POSTAL_CODE_LENGTH);
+    this.zipCode = Integer.parseInt(this.code);
+
+    setFourDigitExtension(postalCode.substring(STANDARD_POSTAL_CODE_LENGTH));
+  }
+
+  private ZIP(int zipCode) {
+    this(toDigits(zipCode, STANDARD_POSTAL_CODE_LENGTH));
   }
 
   @NullSafe
@@ -125,6 +234,16 @@ public class ZIP extends PostalCode {
     return this.code;
   }
 
+  /**
+   * Returns the {@link Integer 5-digit numeric value} of this {@link ZIP} code.
+   *
+   * @return the {@link Integer 5-digit numeric value} of this {@link ZIP} code.
+   * @see #getCode()
+   */
+  public int getCodeValue() {
+    return this.zipCode;
+  }
+
   /**
    * Returns the {@link Country#UNITED_STATES_OF_AMERICA}.
    *
@@ -160,8 +279,24 @@ public class ZIP extends PostalCode {
    */
   @Override
   public @NotNull String getNumber() {
-    String number = codePlusFourDigitExtension();
-    return StringUtils.truncate(StringUtils.getDigits(number), EXTENSION_POSTAL_CODE_LENGTH);
+    return this.number;
+  }
+
+  /**
+   * Returns the {@link Integer packed value} of this {@link ZIP} code.
+   * <p>
+   * The {@literal 5-digit} {@link ZIP} code and the optional {@literal four-digit extension} are packed as
+   * {@literal zipCode * 10001 + (fourDigitExtension + 1)}, or {@literal zipCode * 10001} when this {@link ZIP}
+   * has no {@literal four-digit extension}. Packed values order the same as the {@link #getNumber() number}.
+   * <p>
+   * Returns {@literal -1} if the {@literal four-digit extension} of this {@link ZIP} does not contain
+   * at least 4 digits.
+   *
+   * @return the {@link Integer packed value} of this {@link ZIP} code.
+   * @see #fromPackedValue(int)
+   */
+  public int getPackedValue() {
+    return this.packedValue;
   }
 
   /**
@@ -176,10 +311,6 @@ public class ZIP extends PostalCode {
     return StateZipCodesRepository.getInstance().findBy(this);
   }
 
-  private @NotNull String codePlusFourDigitExtension() {
-    return getCode() + resolveFourDigitExtension();
-  }
-
   /**
    * Builder method used to set the {@link ZIP} code {@link String four-digit postal extension}.
    *
@@ -188,12 +319,90 @@ public class ZIP extends PostalCode {
    * @return this {@link ZIP}.
    */
   public @NotNull ZIP plusFour(@Nullable String fourDigitExtension) {
-    this.fourDigitExtension = fourDigitExtension;
+    setFourDigitExtension(fourDigitExtension);
     return this;
   }
 
-  private @NotNull String resolveFourDigitExtension() {
-    return getFourDigitExtension().orElse(StringUtils.EMPTY_STRING);
+  private void setFourDigitExtension(@Nullable String fourDigitExtension) {
+
+    String fourDigits = fourDigitExtension != null
+      ? StringUtils.getDigits(fourDigitExtension)
+      : StringUtils.EMPTY_STRING;
+
+    int fourDigitsLength = StringUtils.length(fourDigits);
+
+    this.fourDigitExtension = fourDigitExtension;
+
+    if (fourDigitsLength == 0) {
+      this.packedValue = this.zipCode * PACKED_VALUE_RADIX;
+      this.number = getCode();
+    }
+    else if (fourDigitsLength >= 4) {
+      fourDigits = fourDigits.substring(0, 4);
+      this.packedValue = this.zipCode * PACKED_VALUE_RADIX + Integer.parseInt(fourDigits) + 1;
+      this.number = getCode().concat(fourDigits);
+    }
+    else {
+      this.packedValue = NOT_PACKED;
+      this.number = getCode().concat(fourDigits);
+    }
+  }
+
+  private boolean isPacked() {
+    return this.packedValue != NOT_PACKED;
+  }
+
+  /**
+   * Compares this {@link ZIP} to the given, required {@link PostalCode} to determine the relative order in a sort.
+   * <p>
+   * {@link ZIP} codes are compared by {@link #getPackedValue() packed value}.
+   *
+   * @param postalCode {@link PostalCode} being compared to this {@link ZIP}; must not be {@literal null}.
+   * @return a {@link Integer value} indicating the order of this {@link ZIP} relative to the given {@link PostalCode}.
+   * @see org.cp.domain.geo.model.PostalCode#compareTo(PostalCode)
+   */
+  @Override
+  public int compareTo(@NotNull PostalCode postalCode) {
+
+    return postalCode instanceof ZIP that && this.isPacked() && that.isPacked()
+      ? Integer.compare(this.getPackedValue(), that.getPackedValue())
+      : super.compareTo(postalCode);
+  }
+
+  /**
+   * Determines whether this {@link ZIP} is equal to the given {@link Object}.
+   * <p>
+   * {@link ZIP} codes are equal when their {@link #getPackedValue() packed values} are equal, which is
+   * the same as when their {@link #getNumber() numbers} are equal since all {@link ZIP} codes are assigned to
+   * the {@link Country#UNITED_STATES_OF_AMERICA United States}.
+   *
+   * @param obj {@link Object} evaluated for equality with this {@link ZIP}.
+   * @return a boolean value indicating whether this {@link ZIP} equals the given {@link Object}.
+   * @see org.cp.domain.geo.model.PostalCode#equals(Object)
+   */
+  @Override
+  public boolean equals(@Nullable Object obj) {
+
+    if (this == obj) {
+      return true;
+    }
+
+    return obj instanceof ZIP that && this.isPacked() && that.isPacked()
+      ? this.getPackedValue() == that.getPackedValue()
+      : super.equals(obj);
+  }
+
+  /**
+   * Computes the {@link Integer hash code} of this {@link ZIP} from the {@link #getNumber() number}
+   * and {@link #getCountry() Country}, like {@link PostalCode#hashCode()}, since a {@link ZIP} can be equal to
+   * a {@link PostalCode}.
+   *
+   * @return the computed {@link Integer hash code} of this {@link ZIP}.
+   * @see org.cp.domain.geo.model.PostalCode#hashCode()
+   */
+  @Override
+  public int hashCode() {
+    return super.hashCode();
   }
 
   /**
@@ -213,4 +422,26 @@ public class ZIP extends PostalCode {
 
     return String.format(ZIP_TO_STRING, getCode(), fourDigitExtension);
   }
+
+  /**
+   * Shared, immutable {@link ZIP} returned by {@link ZIP#ofDigits(int)}.
+   */
+  private static final class SharedZIP extends ZIP {
+
+    private SharedZIP(int zipCode) {
+      super(zipCode);
+    }
+
+    @Override
+    public @NotNull ZIP plusFour(@Nullable String fourDigitExtension) {
+      return StringUtils.hasText(fourDigitExtension) ? new ZIP(getCode()).plusFour(fourDigitExtension) : this;
+    }
+  }
+
+  /**
+   * Lazily initialized cache of shared {@link ZIP} codes indexed by {@link Integer 5-digit numeric value}.
+   */
+  private static final class ZipCodeCache {
+    private static final AtomicReferenceArray<ZIP> ZIP_CODES = new AtomicReferenceArray<>(MAXIMUM_ZIP_CODE + 1);
+  }
 }
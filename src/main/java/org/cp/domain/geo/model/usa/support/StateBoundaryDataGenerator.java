@@ -0,0 +1,321 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.model.usa.support;
+
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalArgumentException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.cp.domain.geo.enums.State;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+
+/**
+ * Generator of the simplified {@link State} boundaries read by the {@link StateBoundaryResolver}
+ * from a {@literal KML} file, such as the {@literal U.S. Census Bureau} cartographic boundary file of the states
+ * ({@literal cb_<year>_us_state_20m.kml}).
+ * <p>
+ * Each {@literal Placemark} is a {@link State} identified by its {@literal STUSPS} field, or by its name,
+ * and each {@literal LinearRing} of the {@literal Placemark}, whether an outer or inner boundary, is written as
+ * a ring of the {@link State}. {@literal Placemarks} that are not a {@link State} are skipped. Rings are simplified
+ * with the {@literal Douglas-Peucker} algorithm; rings simplified to fewer than {@literal 3} vertices are dropped.
+ * <p>
+ * Run with {@literal mvn -Pstate-boundaries -Dstate-boundaries.kml=/path/to/states.kml process-classes}
+ * to generate the {@link StateBoundaryResolver#DATA_RESOURCE_NAME data file} into the build output,
+ * or run the {@link #main(String[])} method with the paths to the KML file and the text file.
+ *
+ * @author John Blum
+ * @see org.cp.domain.geo.model.usa.support.StateBoundaryResolver
+ * @since 0.4.0
+ */
+public class StateBoundaryDataGenerator {
+
+  public static final double DEFAULT_TOLERANCE = 0.01d;
+
+  public static void main(String[] args) throws IOException {
+
+    Assert.isTrue(args.length == 2 || args.length == 3,
+      "Usage: StateBoundaryDataGenerator <kml file> <text file> [tolerance in degrees]");
+
+    Path kmlFile = Paths.get(args[0]);
+    Path dataFile = Paths.get(args[1]);
+
+    double tolerance = args.length == 3 ? Double.parseDouble(args[2]) : DEFAULT_TOLERANCE;
+
+    Path parent = dataFile.toAbsolutePath().getParent();
+
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+
+    try (Reader reader = Files.newBufferedReader(kmlFile, StandardCharsets.UTF_8);
+         Writer writer = Files.newBufferedWriter(dataFile, StandardCharsets.UTF_8)) {
+
+      int count = generate(reader, writer, tolerance);
+
+      System.out.printf("Generated [%d] state boundary rings in [%s]%n", count, dataFile);
+    }
+  }
+
+  /**
+   * Generates the simplified {@link State} boundaries from the KML read from the given, required {@link Reader}
+   * and writes the boundaries to the given, required {@link Writer}.
+   *
+   * @param kml {@link Reader} used to read the KML; must not be {@literal null}.
+   * @param out {@link Writer} to which the boundaries are written; must not be {@literal null}.
+   * @param tolerance {@link Double maximum distance}, in degrees, between a ring and its simplified ring;
+   * must not be negative.
+   * @return the number of rings written.
+   * @throws IllegalArgumentException if the {@link Reader} or {@link Writer} are {@literal null},
+   * the tolerance is negative, or the KML is not valid.
+   * @throws IOException if the boundaries cannot be written.
+   */
+  public static int generate(@NotNull Reader kml, @NotNull Writer out, double tolerance) throws IOException {
+
+    Assert.notNull(kml, "Reader for the KML is required");
+    Assert.notNull(out, "Writer for the state boundaries is required");
+    Assert.isTrue(tolerance >= 0.0d, "Tolerance [%s] must not be negative", tolerance);
+
+    XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+
+    xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+    out.write(String.format("# State boundaries simplified with a tolerance of [%s] degrees%n", tolerance));
+
+    int count = 0;
+
+    try {
+      XMLStreamReader xml = xmlInputFactory.createXMLStreamReader(kml);
+
+      List<double[][]> rings = new ArrayList<>();
+
+      String abbreviation = null;
+      String name = null;
+
+      boolean inLinearRing = false;
+      boolean inPlacemark = false;
+
+      while (xml.hasNext()) {
+
+        int event = xml.next();
+
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          switch (xml.getLocalName()) {
+            case "Placemark" -> {
+              inPlacemark = true;
+              abbreviation = null;
+              name = null;
+              rings.clear();
+            }
+            case "LinearRing" -> inLinearRing = true;
+            case "name" -> {
+              if (inPlacemark && name == null) {
+                name = xml.getElementText().trim();
+              }
+            }
+            case "SimpleData" -> {
+              if (inPlacemark && "STUSPS".equalsIgnoreCase(xml.getAttributeValue(null, "name"))) {
+                abbreviation = xml.getElementText().trim();
+              }
+            }
+            case "coordinates" -> {
+              if (inPlacemark && inLinearRing) {
+                rings.add(simplify(parseRing(xml.getElementText(), xml.getLocation().getLineNumber()), tolerance));
+              }
+            }
+            default -> { }
+          }
+        }
+        else if (event == XMLStreamConstants.END_ELEMENT) {
+          switch (xml.getLocalName()) {
+            case "LinearRing" -> inLinearRing = false;
+            case "Placemark" -> {
+              inPlacemark = false;
+              count += write(out, resolveState(abbreviation, name), rings);
+            }
+            default -> { }
+          }
+        }
+      }
+    }
+    catch (XMLStreamException cause) {
+      throw newIllegalArgumentException(cause, "KML is not valid");
+    }
+
+    out.flush();
+
+    return count;
+  }
+
+  private static @NotNull double[][] parseRing(@NotNull String coordinates, int lineNumber) {
+
+    String[] tuples = coordinates.trim().split("\\s+");
+
+    List<double[]> vertices = new ArrayList<>(tuples.length);
+
+    for (String tuple : tuples) {
+
+      String[] values = tuple.split(",");
+
+      try {
+        Assert.isTrue(values.length == 2 || values.length == 3, "Coordinates [%s] are not valid", tuple);
+
+        double longitude = Double.parseDouble(values[0]);
+        double latitude = Double.parseDouble(values[1]);
+
+        Assert.isTrue(Math.abs(latitude) <= 90.0d && Math.abs(longitude) <= 180.0d,
+          "Coordinates [%s] are not valid", tuple);
+
+        vertices.add(new double[] { latitude, longitude });
+      }
+      catch (IllegalArgumentException cause) {
+        throw newIllegalArgumentException(cause, "Line [%s] contains invalid coordinates [%s]", lineNumber, tuple);
+      }
+    }
+
+    int size = vertices.size();
+
+    // KML rings repeat the first vertex as the last vertex; rings of the StateBoundaryResolver are closed implicitly
+    if (size > 1 && vertices.get(0)[0] == vertices.get(size - 1)[0]
+        && vertices.get(0)[1] == vertices.get(size - 1)[1]) {
+
+      vertices.remove(size - 1);
+    }
+
+    return vertices.toArray(double[][]::new);
+  }
+
+  /**
+   * Simplifies the ring with the {@literal Douglas-Peucker} algorithm, keeping the first and last vertices.
+   */
+  static @NotNull double[][] simplify(@NotNull double[][] ring, double tolerance) {
+
+    if (ring.length < 3) {
+      return ring;
+    }
+
+    boolean[] kept = new boolean[ring.length];
+
+    kept[0] = true;
+    kept[ring.length - 1] = true;
+
+    Deque<int[]> spans = new ArrayDeque<>();
+
+    spans.push(new int[] { 0, ring.length - 1 });
+
+    while (!spans.isEmpty()) {
+
+      int[] span = spans.pop();
+
+      double maximumDistance = -1.0d;
+      int farthest = -1;
+
+      for (int index = span[0] + 1; index < span[1]; index++) {
+
+        double distance = distance(ring[index], ring[span[0]], ring[span[1]]);
+
+        if (distance > maximumDistance) {
+          maximumDistance = distance;
+          farthest = index;
+        }
+      }
+
+      if (farthest > 0 && maximumDistance > tolerance) {
+        kept[farthest] = true;
+        spans.push(new int[] { span[0], farthest });
+        spans.push(new int[] { farthest, span[1] });
+      }
+    }
+
+    List<double[]> simplifiedRing = new ArrayList<>();
+
+    for (int index = 0; index < ring.length; index++) {
+      if (kept[index]) {
+        simplifiedRing.add(ring[index]);
+      }
+    }
+
+    return simplifiedRing.toArray(double[][]::new);
+  }
+
+  /**
+   * Returns the planar distance, in degrees, from the vertex to the segment between the given vertices.
+   */
+  private static double distance(@NotNull double[] vertex, @NotNull double[] one, @NotNull double[] two) {
+
+    double segmentLatitude = two[0] - one[0];
+    double segmentLongitude = two[1] - one[1];
+
+    double lengthSquared = segmentLatitude * segmentLatitude + segmentLongitude * segmentLongitude;
+
+    double position = lengthSquared > 0.0d
+      ? Math.max(0.0d, Math.min(1.0d, ((vertex[0] - one[0]) * segmentLatitude
+        + (vertex[1] - one[1]) * segmentLongitude) / lengthSquared))
+      : 0.0d;
+
+    return Math.hypot(vertex[0] - (one[0] + position * segmentLatitude),
+      vertex[1] - (one[1] + position * segmentLongitude));
+  }
+
+  private static @Nullable State resolveState(@Nullable String abbreviation, @Nullable String name) {
+
+    State state = abbreviation != null ? State.valueOfAbbreviation(abbreviation) : null;
+
+    return state != null ? state : name != null ? State.valueOfName(name) : null;
+  }
+
+  private static int write(@NotNull Writer out, @Nullable State state, @NotNull List<double[][]> rings)
+      throws IOException {
+
+    int count = 0;
+
+    if (state != null) {
+      for (double[][] ring : rings) {
+        if (ring.length >= 3) {
+
+          StringBuilder line = new StringBuilder(state.getAbbreviation());
+
+          for (double[] vertex : ring) {
+            line.append(String.format(Locale.ROOT, " %.5f,%.5f", vertex[0], vertex[1]));
+          }
+
+          out.write(line.append(System.lineSeparator()).toString());
+          count++;
+        }
+      }
+    }
+
+    return count;
+  }
+}
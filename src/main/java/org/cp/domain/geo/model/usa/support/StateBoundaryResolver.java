@@ -0,0 +1,613 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.model.usa.support;
+
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalArgumentException;
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalStateException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.cp.domain.geo.enums.State;
+import org.cp.domain.geo.model.Coordinates;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * Resolves the {@link State} containing a location given by {@link Coordinates} from {@link State} boundary polygons.
+ * <p>
+ * The boundaries are simplified polygons read from a text file, one ring per line, in the form
+ * {@literal state latitude,longitude latitude,longitude ...}, for example:
+ * {@literal CO 41.0,-109.05 41.0,-102.05 37.0,-102.05 37.0,-109.05}. Rings are closed implicitly.
+ * A {@link State} may have many rings; a location is within a {@link State} when it is inside an odd number of
+ * the {@link State State's} rings, so holes and islands are rings of the same {@link State}.
+ * Blank lines and lines beginning with {@literal #} are ignored.
+ * <p>
+ * The {@link #DATA_RESOURCE_NAME} classpath resource is generated from a {@literal KML} boundary file,
+ * such as the {@literal U.S. Census Bureau} cartographic boundary file of the states, by
+ * the {@link StateBoundaryDataGenerator} with {@literal mvn -Pstate-boundaries
+ * -Dstate-boundaries.kml=/path/to/states.kml process-classes}.
+ * <p>
+ * The rings are indexed with a grid of {@literal 0.25 degree} cells. Cells not crossed by any ring edge lie entirely
+ * within a single {@link State}, or outside all {@link State States}, and are answered without a point-in-polygon
+ * test. Cells crossed by ring edges record whether their center is inside each ring along with the ring edges
+ * intersecting the cell, so a location is resolved by counting the crossings of those few edges with the line from
+ * the center of the cell to the location rather than testing every edge of the ring.
+ *
+ * @author John Blum
+ * @see org.cp.domain.geo.enums.State
+ * @see org.cp.domain.geo.model.Coordinates
+ * @see org.cp.domain.geo.model.usa.support.StateBoundaryDataGenerator
+ * @since 0.4.0
+ */
+@ThreadSafe
+public class StateBoundaryResolver {
+
+  public static final String DATA_LOCATION_PROPERTY = "cp.domain.geo.usa.state-boundaries.location";
+  public static final String DATA_RESOURCE_NAME = "state-boundaries.txt";
+
+  protected static final double CELL_SIZE = 0.25d;
+
+  protected static final int PARALLEL_THRESHOLD = 1_024;
+
+  private static final int[] NO_EDGES = new int[0];
+
+  /**
+   * Gets a reference to the {@literal Singleton} instance of the {@link StateBoundaryResolver}.
+   * <p>
+   * The boundaries are loaded from the file at the location configured with the {@link #DATA_LOCATION_PROPERTY}
+   * {@link System#getProperty(String) System property}, or from the {@link #DATA_RESOURCE_NAME} classpath resource
+   * next to this class. No {@link State} is resolved when no boundaries are available.
+   *
+   * @return a reference to the {@literal Singleton} instance of the {@link StateBoundaryResolver}.
+   */
+  public static @NotNull StateBoundaryResolver getInstance() {
+    return StateBoundaryResolverHolder.INSTANCE;
+  }
+
+  /**
+   * Factory method used to construct a new {@link StateBoundaryResolver} from the boundaries in the file
+   * at the given, required {@link Path}.
+   *
+   * @param path {@link Path} to the file containing the boundaries; must not be {@literal null}.
+   * @return a new {@link StateBoundaryResolver}.
+   * @throws IllegalArgumentException if the {@link Path} is {@literal null} or a line is not valid.
+   * @throws IllegalStateException if the file cannot be read.
+   * @see #load(Reader)
+   */
+  public static @NotNull StateBoundaryResolver load(@NotNull Path path) {
+
+    Assert.notNull(path, "Path to the state boundaries is required");
+
+    try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      return load(reader);
+    }
+    catch (IOException cause) {
+      throw newIllegalStateException(cause, "Failed to read state boundaries [%s]", path);
+    }
+  }
+
+  /**
+   * Factory method used to construct a new {@link StateBoundaryResolver} from the boundaries read from
+   * the given, required {@link Reader}.
+   *
+   * @param reader {@link Reader} used to read the boundaries; must not be {@literal null}.
+   * @return a new {@link StateBoundaryResolver}.
+   * @throws IllegalArgumentException if the {@link Reader} is {@literal null} or a line is not valid.
+   * @throws IllegalStateException if the boundaries cannot be read.
+   */
+  public static @NotNull StateBoundaryResolver load(@NotNull Reader reader) {
+
+    Assert.notNull(reader, "Reader is required");
+
+    List<Ring> rings = new ArrayList<>();
+
+    try {
+      BufferedReader bufferedReader = reader instanceof BufferedReader it ? it : new BufferedReader(reader);
+
+      int lineNumber = 0;
+
+      for (String line = bufferedReader.readLine(); line != null; line = bufferedReader.readLine()) {
+
+        lineNumber++;
+        line = line.trim();
+
+        if (!line.isEmpty() && !line.startsWith("#")) {
+          rings.add(parseRing(lineNumber, line));
+        }
+      }
+    }
+    catch (IOException cause) {
+      throw newIllegalStateException(cause, "Failed to read state boundaries");
+    }
+
+    return new StateBoundaryResolver(rings);
+  }
+
+  private static @NotNull StateBoundaryResolver loadDefault() {
+
+    String location = System.getProperty(DATA_LOCATION_PROPERTY);
+
+    if (location != null && !location.isBlank()) {
+      return load(Paths.get(location.trim()));
+    }
+
+    URL resource = StateBoundaryResolver.class.getResource(DATA_RESOURCE_NAME);
+
+    if (resource == null) {
+      return new StateBoundaryResolver(Collections.emptyList());
+    }
+
+    try (Reader reader = new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8)) {
+      return load(reader);
+    }
+    catch (IOException cause) {
+      throw newIllegalStateException(cause, "Failed to load state boundaries [%s]", resource);
+    }
+  }
+
+  private static @NotNull Ring parseRing(int lineNumber, @NotNull String line) {
+
+    String[] tokens = line.split("\\s+");
+
+    if (tokens.length < 4) {
+      throw newIllegalArgumentException("Line [%s] must contain a state and at least 3 vertices", lineNumber);
+    }
+
+    State state = State.valueOfAbbreviation(tokens[0]);
+
+    if (state == null) {
+      throw newIllegalArgumentException("Line [%s] contains an invalid state [%s]", lineNumber, tokens[0]);
+    }
+
+    int vertexCount = tokens.length - 1;
+
+    double[] latitudes = new double[vertexCount];
+    double[] longitudes = new double[vertexCount];
+
+    for (int index = 0; index < vertexCount; index++) {
+
+      String vertex = tokens[index + 1];
+      int comma = vertex.indexOf(',');
+
+      try {
+        latitudes[index] = Double.parseDouble(vertex.substring(0, Math.max(comma, 0)));
+        longitudes[index] = Double.parseDouble(vertex.substring(comma + 1));
+      }
+      catch (NumberFormatException cause) {
+        throw newIllegalArgumentException(cause, "Line [%s] contains an invalid vertex [%s]", lineNumber, vertex);
+      }
+
+      if (Math.abs(latitudes[index]) > 90.0d || Math.abs(longitudes[index]) > 180.0d) {
+        throw newIllegalArgumentException("Line [%s] contains an invalid vertex [%s]", lineNumber, vertex);
+      }
+    }
+
+    return new Ring(state, latitudes, longitudes);
+  }
+
+  private final BoundaryCell[] boundaryCells;
+
+  private final double minimumLatitude;
+  private final double minimumLongitude;
+
+  private final int columns;
+  private final int rows;
+
+  private final Ring[] rings;
+
+  private final State[] cellStates;
+
+  /**
+   * Constructs a new {@link StateBoundaryResolver} indexing the given {@link Ring rings}.
+   *
+   * @param rings {@link List} of {@link Ring rings} to index.
+   */
+  StateBoundaryResolver(@NotNull List<Ring> rings) {
+
+    this.rings = rings.stream()
+      .sorted((one, two) -> one.state().compareTo(two.state()))
+      .toArray(Ring[]::new);
+
+    double minimumLatitude = 0.0d;
+    double maximumLatitude = 0.0d;
+    double minimumLongitude = 0.0d;
+    double maximumLongitude = 0.0d;
+
+    for (int index = 0; index < this.rings.length; index++) {
+
+      Ring ring = this.rings[index];
+
+      minimumLatitude = index > 0 ? Math.min(minimumLatitude, ring.minimumLatitude()) : ring.minimumLatitude();
+      maximumLatitude = index > 0 ? Math.max(maximumLatitude, ring.maximumLatitude()) : ring.maximumLatitude();
+      minimumLongitude = index > 0 ? Math.min(minimumLongitude, ring.minimumLongitude()) : ring.minimumLongitude();
+      maximumLongitude = index > 0 ? Math.max(maximumLongitude, ring.maximumLongitude()) : ring.maximumLongitude();
+    }
+
+    this.minimumLatitude = minimumLatitude;
+    this.minimumLongitude = minimumLongitude;
+    this.rows = this.rings.length > 0 ? (int) ((maximumLatitude - minimumLatitude) / CELL_SIZE) + 1 : 0;
+    this.columns = this.rings.length > 0 ? (int) ((maximumLongitude - minimumLongitude) / CELL_SIZE) + 1 : 0;
+
+    int cellCount = Math.multiplyExact(this.rows, this.columns);
+
+    this.boundaryCells = new BoundaryCell[cellCount];
+    this.cellStates = new State[cellCount];
+
+    indexRings(cellCount);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void indexRings(int cellCount) {
+
+    List<RingEdges>[] cellRingEdges = new List[cellCount];
+
+    for (int ringIndex = 0; ringIndex < this.rings.length; ringIndex++) {
+
+      Ring ring = this.rings[ringIndex];
+
+      int firstRow = toRow(ring.minimumLatitude());
+      int firstColumn = toColumn(ring.minimumLongitude());
+      int width = toColumn(ring.maximumLongitude()) - firstColumn + 1;
+      int height = toRow(ring.maximumLatitude()) - firstRow + 1;
+
+      int[][] edges = indexEdges(ring, firstRow, firstColumn, width, height);
+
+      for (int index = 0; index < edges.length; index++) {
+
+        int cell = (firstRow + index / width) * this.columns + firstColumn + index % width;
+
+        if (cellRingEdges[cell] == null) {
+          cellRingEdges[cell] = new ArrayList<>(2);
+        }
+
+        cellRingEdges[cell].add(new RingEdges(ring, edges[index]));
+      }
+    }
+
+    for (int cell = 0; cell < cellCount; cell++) {
+
+      List<RingEdges> ringEdges = cellRingEdges[cell] != null ? cellRingEdges[cell] : Collections.emptyList();
+
+      double latitude = this.minimumLatitude + (cell / this.columns + 0.5d) * CELL_SIZE;
+      double longitude = this.minimumLongitude + (cell % this.columns + 0.5d) * CELL_SIZE;
+
+      if (ringEdges.stream().allMatch(it -> it.edges().length == 0)) {
+        this.cellStates[cell] = BoundaryCell.of(ringEdges, latitude, longitude).locate(latitude, longitude);
+      }
+      else {
+        this.boundaryCells[cell] = BoundaryCell.of(ringEdges, latitude, longitude);
+      }
+    }
+  }
+
+  /**
+   * Returns the indexes of the edges of the {@link Ring} intersecting each cell within the bounding box of the ring,
+   * conservatively using the bounding box of each edge.
+   */
+  private @NotNull int[][] indexEdges(@NotNull Ring ring, int firstRow, int firstColumn, int width, int height) {
+
+    int[] edgeCounts = new int[width * height];
+    int[][] edges = new int[edgeCounts.length][];
+
+    for (int pass = 0; pass < 2; pass++) {
+      for (int edge = 0; edge < ring.latitudes().length; edge++) {
+
+        int previous = edge > 0 ? edge - 1 : ring.latitudes().length - 1;
+
+        int lastRow = toRow(Math.max(ring.latitudes()[edge], ring.latitudes()[previous])) - firstRow;
+        int lastColumn = toColumn(Math.max(ring.longitudes()[edge], ring.longitudes()[previous])) - firstColumn;
+
+        for (int row = toRow(Math.min(ring.latitudes()[edge], ring.latitudes()[previous])) - firstRow;
+             row <= lastRow; row++) {
+
+          for (int column = toColumn(Math.min(ring.longitudes()[edge], ring.longitudes()[previous])) - firstColumn;
+               column <= lastColumn; column++) {
+
+            int index = row * width + column;
+
+            if (pass == 0) {
+              edgeCounts[index]++;
+            }
+            else {
+              edges[index][edges[index].length - edgeCounts[index]--] = edge;
+            }
+          }
+        }
+      }
+
+      if (pass == 0) {
+        for (int index = 0; index < edges.length; index++) {
+          edges[index] = edgeCounts[index] > 0 ? new int[edgeCounts[index]] : NO_EDGES;
+        }
+      }
+    }
+
+    return edges;
+  }
+
+  private int toColumn(double longitude) {
+    return Math.min((int) ((longitude - this.minimumLongitude) / CELL_SIZE), this.columns - 1);
+  }
+
+  private int toRow(double latitude) {
+    return Math.min((int) ((latitude - this.minimumLatitude) / CELL_SIZE), this.rows - 1);
+  }
+
+  /**
+   * Returns the {@link Set} of {@link State States} having a boundary.
+   *
+   * @return the {@link Set} of {@link State States} having a boundary.
+   */
+  public @NotNull Set<State> getStates() {
+
+    Set<State> states = EnumSet.noneOf(State.class);
+
+    for (Ring ring : this.rings) {
+      states.add(ring.state());
+    }
+
+    return states;
+  }
+
+  /**
+   * Resolves the {@link State} containing the given, required {@link Coordinates}.
+   *
+   * @param coordinates {@link Coordinates} of the location; must not be {@literal null}.
+   * @return the {@link State} containing the given {@link Coordinates}, or {@literal null}
+   * if the {@link Coordinates} are not within any {@link State}.
+   * @throws IllegalArgumentException if the {@link Coordinates} are {@literal null}.
+   * @see #resolveState(double, double)
+   */
+  public @Nullable State resolveState(@NotNull Coordinates coordinates) {
+    Assert.notNull(coordinates, "Coordinates are required");
+    return resolveState(coordinates.getLatitude(), coordinates.getLongitude());
+  }
+
+  /**
+   * Resolves the {@link State} containing the location at the given latitude and longitude.
+   *
+   * @param latitude {@link Double latitude} of the location.
+   * @param longitude {@link Double longitude} of the location.
+   * @return the {@link State} containing the location, or {@literal null} if the location is not within
+   * any {@link State}.
+   */
+  public @Nullable State resolveState(double latitude, double longitude) {
+
+    double row = (latitude - this.minimumLatitude) / CELL_SIZE;
+    double column = (longitude - this.minimumLongitude) / CELL_SIZE;
+
+    if (!(row >= 0.0d && row < this.rows && column >= 0.0d && column < this.columns)) {
+      return null;
+    }
+
+    int cell = (int) row * this.columns + (int) column;
+
+    BoundaryCell boundaryCell = this.boundaryCells[cell];
+
+    return boundaryCell != null ? boundaryCell.locate(latitude, longitude) : this.cellStates[cell];
+  }
+
+  /**
+   * Resolves the {@link State States} containing the given {@link Coordinates}, in parallel for large arrays.
+   *
+   * @param coordinates array of {@link Coordinates}; must not be {@literal null}.
+   * @return an array of {@link State States} in the same order as the given {@link Coordinates}, containing
+   * {@literal null} for {@link Coordinates} that are {@literal null} or not within any {@link State}.
+   * @throws IllegalArgumentException if the array of {@link Coordinates} is {@literal null}.
+   * @see #resolveState(Coordinates)
+   */
+  public @NotNull State[] resolveStates(@NotNull Coordinates... coordinates) {
+
+    Assert.notNull(coordinates, "Coordinates are required");
+
+    State[] states = new State[coordinates.length];
+
+    IntStream indexes = IntStream.range(0, coordinates.length);
+
+    if (coordinates.length >= PARALLEL_THRESHOLD) {
+      indexes = indexes.parallel();
+    }
+
+    indexes.forEach(index -> {
+      Coordinates location = coordinates[index];
+      states[index] = location != null ? resolveState(location.getLatitude(), location.getLongitude()) : null;
+    });
+
+    return states;
+  }
+
+  /**
+   * Cell crossed by the boundary of at least one {@link Ring}.
+   * <p>
+   * Whether the center of the cell is inside each {@link Ring} is computed once. A location in the cell is inside
+   * a {@link Ring} if the center is inside the {@link Ring} and the line from the center to the location crosses
+   * an even number of the {@link Ring Ring's} edges, or if the center is outside the {@link Ring} and the line
+   * crosses an odd number of edges. Only the edges intersecting the cell can cross the line.
+   */
+  record BoundaryCell(double centerLatitude, double centerLongitude, @NotNull Ring[] rings,
+      @NotNull boolean[] centerInside, @NotNull int[][] edges) {
+
+    static @NotNull BoundaryCell of(@NotNull List<RingEdges> ringEdges, double latitude, double longitude) {
+
+      List<RingEdges> candidates = new ArrayList<>(ringEdges.size());
+      List<Boolean> centerInside = new ArrayList<>(ringEdges.size());
+
+      for (RingEdges candidate : ringEdges) {
+
+        boolean inside = candidate.ring().contains(latitude, longitude);
+
+        if (inside || candidate.edges().length > 0) {
+          candidates.add(candidate);
+          centerInside.add(inside);
+        }
+      }
+
+      boolean[] centerInsideArray = new boolean[candidates.size()];
+
+      for (int index = 0; index < centerInsideArray.length; index++) {
+        centerInsideArray[index] = centerInside.get(index);
+      }
+
+      return new BoundaryCell(latitude, longitude, candidates.stream().map(RingEdges::ring).toArray(Ring[]::new),
+        centerInsideArray, candidates.stream().map(RingEdges::edges).toArray(int[][]::new));
+    }
+
+    @Nullable State locate(double latitude, double longitude) {
+
+      State state = null;
+      boolean inside = false;
+
+      for (int index = 0; index < this.rings.length; index++) {
+
+        Ring ring = this.rings[index];
+
+        if (ring.state() != state) {
+
+          if (inside) {
+            return state;
+          }
+
+          state = ring.state();
+        }
+
+        if (this.centerInside[index] != ring.crossesOddTimes(this.edges[index],
+            this.centerLatitude, this.centerLongitude, latitude, longitude)) {
+
+          inside = !inside;
+        }
+      }
+
+      return inside ? state : null;
+    }
+  }
+
+  /**
+   * Closed ring of a {@link State} boundary polygon along with its bounding box.
+   */
+  record Ring(@NotNull State state, @NotNull double[] latitudes, @NotNull double[] longitudes,
+      double minimumLatitude, double maximumLatitude, double minimumLongitude, double maximumLongitude) {
+
+    Ring(@NotNull State state, @NotNull double[] latitudes, @NotNull double[] longitudes) {
+      this(state, latitudes, longitudes, Arrays.stream(latitudes).min().orElse(0.0d),
+        Arrays.stream(latitudes).max().orElse(0.0d), Arrays.stream(longitudes).min().orElse(0.0d),
+        Arrays.stream(longitudes).max().orElse(0.0d));
+    }
+
+    /**
+     * Determines whether the location is inside this ring using the {@literal crossing number} test.
+     */
+    boolean contains(double latitude, double longitude) {
+
+      if (latitude < this.minimumLatitude || latitude > this.maximumLatitude
+          || longitude < this.minimumLongitude || longitude > this.maximumLongitude) {
+
+        return false;
+      }
+
+      boolean inside = false;
+
+      for (int index = 0, previous = this.latitudes.length - 1; index < this.latitudes.length; previous = index++) {
+
+        double latitudeOne = this.latitudes[index];
+        double latitudeTwo = this.latitudes[previous];
+
+        if ((latitudeOne > latitude) != (latitudeTwo > latitude)) {
+
+          double longitudeOne = this.longitudes[index];
+          double crossing = longitudeOne + (latitude - latitudeOne)
+            * (this.longitudes[previous] - longitudeOne) / (latitudeTwo - latitudeOne);
+
+          if (longitude < crossing) {
+            inside = !inside;
+          }
+        }
+      }
+
+      return inside;
+    }
+
+    /**
+     * Determines whether the line between the given locations crosses the given edges an odd number of times.
+     * Vertices lying on the line are treated as being on its right side so that a line passing through
+     * a vertex crosses exactly one of the two edges sharing the vertex.
+     */
+    boolean crossesOddTimes(@NotNull int[] edges, double fromLatitude, double fromLongitude,
+        double toLatitude, double toLongitude) {
+
+      boolean odd = false;
+
+      double lineLatitude = toLatitude - fromLatitude;
+      double lineLongitude = toLongitude - fromLongitude;
+
+      for (int edge : edges) {
+
+        int previous = edge > 0 ? edge - 1 : this.latitudes.length - 1;
+
+        double latitudeOne = this.latitudes[edge];
+        double longitudeOne = this.longitudes[edge];
+        double latitudeTwo = this.latitudes[previous];
+        double longitudeTwo = this.longitudes[previous];
+
+        boolean oneLeft = lineLongitude * (latitudeOne - fromLatitude)
+          - lineLatitude * (longitudeOne - fromLongitude) > 0.0d;
+
+        boolean twoLeft = lineLongitude * (latitudeTwo - fromLatitude)
+          - lineLatitude * (longitudeTwo - fromLongitude) > 0.0d;
+
+        if (oneLeft != twoLeft) {
+
+          double edgeLatitude = latitudeTwo - latitudeOne;
+          double edgeLongitude = longitudeTwo - longitudeOne;
+
+          boolean fromLeft = edgeLongitude * (fromLatitude - latitudeOne)
+            - edgeLatitude * (fromLongitude - longitudeOne) > 0.0d;
+
+          boolean toLeft = edgeLongitude * (toLatitude - latitudeOne)
+            - edgeLatitude * (toLongitude - longitudeOne) > 0.0d;
+
+          if (fromLeft != toLeft) {
+            odd = !odd;
+          }
+        }
+      }
+
+      return odd;
+    }
+  }
+
+  record RingEdges(@NotNull Ring ring, @NotNull int[] edges) { }
+
+  private static final class StateBoundaryResolverHolder {
+    private static final StateBoundaryResolver INSTANCE = loadDefault();
+  }
+}
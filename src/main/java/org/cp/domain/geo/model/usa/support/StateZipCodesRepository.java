@@ -17,9 +17,12 @@ package org.cp.domain.geo.model.usa.support;
 
 import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalArgumentException;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.cp.domain.geo.enums.Country;
@@ -35,6 +38,10 @@ import org.cp.elements.util.MapBuilder;
 
 /**
  * Repository of {@link State} to {@link ZIP} codes declared in the {@link Country#UNITED_STATES_OF_AMERICA}.
+ * <p>
+ * {@link State States} are resolved from a precomputed, {@literal 1000-slot} index keyed by the first 3 digits
+ * of the {@link ZIP} code. The {@link ZipCodeRegion} scan is only used for {@link PostalCode PostalCodes}
+ * that do not begin with 3 digits.
  *
  * @author John Blum
  * @see java.util.concurrent.ConcurrentMap
@@ -46,10 +53,15 @@ import org.cp.elements.util.MapBuilder;
  */
 public class StateZipCodesRepository {
 
+  protected static final int ZIP_CODE_PREFIX_LENGTH = 3;
+  protected static final int ZIP_CODE_PREFIX_INDEX_SIZE = 1000;
+
   private static final StateZipCodesRepository STATE_ZIP_CODES_REPOSITORY = new StateZipCodesRepository();
 
   private static final Map<State, ZipCodeRegion> repository;
 
+  private static final State[] zipCodePrefixIndex = new State[ZIP_CODE_PREFIX_INDEX_SIZE];
+
   static {
     repository = MapBuilder.<State, ZipCodeRegion>newConcurrentMap()
       .put(State.ALABAMA, ZipCodeRegion.of("35", "36"))
@@ -102,6 +114,12 @@ public class StateZipCodesRepository {
       .put(State.WISCONSIN, ZipCodeRegion.of("53", "54"))
       .put(State.WYOMING, ZipCodeRegion.of("820", "831"))
       .build();
+
+    repository.forEach((state, zipCodeRegion) -> {
+      for (int prefix = zipCodeRegion.getPrefixStart(); prefix <= zipCodeRegion.getPrefixEnd(); prefix++) {
+        zipCodePrefixIndex[prefix] = state;
+      }
+    });
   }
 
   /**
@@ -129,6 +147,9 @@ public class StateZipCodesRepository {
 
   /**
    * Query method used to find a {@link State} given a required {@link PostalCode}.
+   * <p>
+   * The {@link State} is resolved from the {@literal ZIP code prefix index} without allocation when the
+   * {@link PostalCode} begins with 3 digits. Otherwise, the {@link ZipCodeRegion ZIP code regions} are scanned.
    *
    * @param postalCode {@link PostalCode} used to find the corresponding {@link State};
    * must not be {@literal null}.
@@ -137,17 +158,136 @@ public class StateZipCodesRepository {
    * or a {@link State} could not be found for the given {@link PostalCode}.
    * @see org.cp.domain.geo.model.PostalCode
    * @see org.cp.domain.geo.enums.State
-   * @see #getRepository()
+   * @see #findByRegion(PostalCode)
    */
   public @NotNull State findBy(@NotNull PostalCode postalCode) {
 
     Assert.notNull(postalCode, "PostalCode used to find a State is required");
 
+    State state = findByPrefix(postalCode);
+
+    if (state == null) {
+      throw newIllegalArgumentException("State for ZIP code [%s] not found", postalCode);
+    }
+
+    return state;
+  }
+
+  /**
+   * Query method used to find a {@link State} given the {@link Integer 5-digit numeric value} of a {@link ZIP} code.
+   * <p>
+   * For example, {@literal 97205} or {@literal 2108} (for ZIP code {@literal 02108}).
+   *
+   * @param zipCode {@link Integer 5-digit numeric value} of the {@link ZIP} code.
+   * @return a {@link State} for the given {@link Integer ZIP code}.
+   * @throws IllegalArgumentException if the {@link Integer ZIP code} is not a valid {@literal 5-digit} number,
+   * or a {@link State} could not be found for the given {@link Integer ZIP code}.
+   * @see org.cp.domain.geo.enums.State
+   */
+  public @NotNull State findBy(int zipCode) {
+
+    Assert.isTrue(zipCode >= 0 && zipCode <= 99_999, "ZIP code [%s] must be a 5-digit number", zipCode);
+
+    return findStateBy(zipCode)
+      .orElseThrow(() -> newIllegalArgumentException("State for ZIP code [%s] not found", zipCode));
+  }
+
+  /**
+   * Query method used to find a {@link State} given the {@link Integer 5-digit numeric value} of a {@link ZIP} code
+   * without throwing an {@link Exception} on a miss.
+   *
+   * @param zipCode {@link Integer 5-digit numeric value} of the {@link ZIP} code.
+   * @return an {@link Optional} {@link State} for the given {@link Integer ZIP code}, or {@link Optional#empty()}
+   * if the {@link Integer ZIP code} is not a {@literal 5-digit} number or is not assigned to a {@link State}.
+   * @see org.cp.domain.geo.enums.State
+   * @see #findBy(int)
+   */
+  public Optional<State> findStateBy(int zipCode) {
+
+    return zipCode >= 0 && zipCode <= 99_999
+      ? Optional.ofNullable(zipCodePrefixIndex[zipCode / 100])
+      : Optional.empty();
+  }
+
+  /**
+   * Query method used to find the {@link State States} for all the given, required {@link PostalCode PostalCodes}.
+   * <p>
+   * The returned {@link List} is in the same order as the given {@link PostalCode PostalCodes}
+   * and contains {@literal null} in place of any {@link PostalCode} not assigned to a {@link State},
+   * rather than failing the entire batch.
+   *
+   * @param postalCodes {@link Iterable} collection of {@link PostalCode PostalCodes} used to find
+   * the corresponding {@link State States}; must not be {@literal null}.
+   * @return a {@link List} of {@link State States} for the given {@link PostalCode PostalCodes}.
+   * @throws IllegalArgumentException if the {@link Iterable} of {@link PostalCode PostalCodes} is {@literal null}.
+   * @see org.cp.domain.geo.model.PostalCode
+   * @see org.cp.domain.geo.enums.State
+   * @see java.lang.Iterable
+   * @see java.util.List
+   */
+  public @NotNull List<State> findAll(@NotNull Iterable<PostalCode> postalCodes) {
+
+    Assert.notNull(postalCodes, "PostalCodes used to find States are required");
+
+    List<State> states = new ArrayList<>();
+
+    for (PostalCode postalCode : postalCodes) {
+      states.add(postalCode != null ? findByPrefix(postalCode) : null);
+    }
+
+    return states;
+  }
+
+  /**
+   * Query method used to find a {@link State} given a required {@link PostalCode} by scanning
+   * all {@link ZipCodeRegion ZIP code regions}.
+   *
+   * @param postalCode {@link PostalCode} used to find the corresponding {@link State}.
+   * @return the {@link State} for the given {@link PostalCode} or {@literal null} if the {@link PostalCode}
+   * is not in any {@link ZipCodeRegion}.
+   * @see org.cp.domain.geo.model.PostalCode
+   * @see org.cp.domain.geo.enums.State
+   * @see #getRepository()
+   */
+  protected @Nullable State findByRegion(@NotNull PostalCode postalCode) {
+
     return getRepository().entrySet().stream()
       .filter(entry -> entry.getValue().isInRegion(postalCode))
       .map(Map.Entry::getKey)
       .findFirst()
-      .orElseThrow(() -> newIllegalArgumentException("State for ZIP code [%s] not found", postalCode));
+      .orElse(null);
+  }
+
+  private @Nullable State findByPrefix(@NotNull PostalCode postalCode) {
+
+    // ZIP.getCode() returns the stored 5-digit code without the four-digit extension
+    String number = postalCode instanceof ZIP zip ? zip.getCode() : postalCode.getNumber();
+    int prefix = toZipCodePrefix(number);
+
+    return prefix > -1 ? zipCodePrefixIndex[prefix] : findByRegion(postalCode);
+  }
+
+  @NullSafe
+  private static int toZipCodePrefix(@Nullable String number) {
+
+    if (number == null || number.length() < ZIP_CODE_PREFIX_LENGTH) {
+      return -1;
+    }
+
+    int prefix = 0;
+
+    for (int index = 0; index < ZIP_CODE_PREFIX_LENGTH; index++) {
+
+      char digit = number.charAt(index);
+
+      if (digit < '0' || digit > '9') {
+        return -1;
+      }
+
+      prefix = prefix * 10 + (digit - '0');
+    }
+
+    return prefix;
   }
 
   /**
@@ -251,6 +391,32 @@ public class StateZipCodesRepository {
       return postalCode -> Objects.nonNull(postalCode) && StringUtils.hasText(postalCode.getNumber());
     }
 
+    /**
+     * Returns the first {@link Integer 3-digit ZIP code prefix} in this {@link ZipCodeRegion}.
+     *
+     * @return the first {@link Integer 3-digit ZIP code prefix} in this {@link ZipCodeRegion}.
+     * @see #getZipCodeStart()
+     */
+    protected int getPrefixStart() {
+      return Integer.parseInt(StringUtils.padRight(getZipCodeStart(), '0', ZIP_CODE_PREFIX_LENGTH)
+        .substring(0, ZIP_CODE_PREFIX_LENGTH));
+    }
+
+    /**
+     * Returns the last {@link Integer 3-digit ZIP code prefix} in this {@link ZipCodeRegion}.
+     *
+     * @return the last {@link Integer 3-digit ZIP code prefix} in this {@link ZipCodeRegion}.
+     * @see #getAdjustedZipCodeEnd()
+     * @see #getZipCodeStart()
+     */
+    protected int getPrefixEnd() {
+
+      String zipCodeEnd = isRange() ? getAdjustedZipCodeEnd()
+        : StringUtils.padRight(getZipCodeStart(), '9', ZIP_CODE_PREFIX_LENGTH);
+
+      return Integer.parseInt(zipCodeEnd.substring(0, ZIP_CODE_PREFIX_LENGTH));
+    }
+
     protected @NotNull String getAdjustedZipCodeEnd() {
       return StringUtils.padRight(getZipCodeEnd(), '9', 9);
     }
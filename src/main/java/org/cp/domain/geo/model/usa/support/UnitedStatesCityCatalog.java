@@ -0,0 +1,392 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.model.usa.support;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.cp.domain.geo.enums.State;
+import org.cp.domain.geo.model.City;
+import org.cp.domain.geo.model.usa.ImmutableUnitedStatesCity;
+import org.cp.domain.geo.model.usa.UnitedStatesCity;
+import org.cp.domain.geo.model.usa.cities.AlbanyNewYork;
+import org.cp.domain.geo.model.usa.cities.AnnapolisMaryland;
+import org.cp.domain.geo.model.usa.cities.AtlantaGeorgia;
+import org.cp.domain.geo.model.usa.cities.AugustaMaine;
+import org.cp.domain.geo.model.usa.cities.AustinTexas;
+import org.cp.domain.geo.model.usa.cities.BatonRougeLouisiana;
+import org.cp.domain.geo.model.usa.cities.BismarckNorthDakota;
+import org.cp.domain.geo.model.usa.cities.BoiseIdaho;
+import org.cp.domain.geo.model.usa.cities.BostonMassachusetts;
+import org.cp.domain.geo.model.usa.cities.CarsonCityNevada;
+import org.cp.domain.geo.model.usa.cities.CharlestonWestVirginia;
+import org.cp.domain.geo.model.usa.cities.CheyenneWyoming;
+import org.cp.domain.geo.model.usa.cities.ChicagoIllinois;
+import org.cp.domain.geo.model.usa.cities.ColumbiaSouthCarolina;
+import org.cp.domain.geo.model.usa.cities.ColumbusOhio;
+import org.cp.domain.geo.model.usa.cities.ConcordNewHampshire;
+import org.cp.domain.geo.model.usa.cities.CubaCityWisconsin;
+import org.cp.domain.geo.model.usa.cities.DenverColorado;
+import org.cp.domain.geo.model.usa.cities.DesMoinesIowa;
+import org.cp.domain.geo.model.usa.cities.DoverDelaware;
+import org.cp.domain.geo.model.usa.cities.DubuqueIowa;
+import org.cp.domain.geo.model.usa.cities.FrankfortKentucky;
+import org.cp.domain.geo.model.usa.cities.HarrisburgPennsylvania;
+import org.cp.domain.geo.model.usa.cities.HartfordConnecticut;
+import org.cp.domain.geo.model.usa.cities.HelenaMontana;
+import org.cp.domain.geo.model.usa.cities.HonoluluHawaii;
+import org.cp.domain.geo.model.usa.cities.IndianapolisIndiana;
+import org.cp.domain.geo.model.usa.cities.JacksonMississippi;
+import org.cp.domain.geo.model.usa.cities.JeffersonCityMissouri;
+import org.cp.domain.geo.model.usa.cities.JuneauAlaska;
+import org.cp.domain.geo.model.usa.cities.LansingMichigan;
+import org.cp.domain.geo.model.usa.cities.LasVegasNevada;
+import org.cp.domain.geo.model.usa.cities.LincolnNebraska;
+import org.cp.domain.geo.model.usa.cities.LittleRockArkansas;
+import org.cp.domain.geo.model.usa.cities.LosAngelesCalifornia;
+import org.cp.domain.geo.model.usa.cities.MadisonWisconsin;
+import org.cp.domain.geo.model.usa.cities.MiamiFlorida;
+import org.cp.domain.geo.model.usa.cities.MissoulaMontana;
+import org.cp.domain.geo.model.usa.cities.MontgomeryAlabama;
+import org.cp.domain.geo.model.usa.cities.MontpelierVermont;
+import org.cp.domain.geo.model.usa.cities.NashvilleTennessee;
+import org.cp.domain.geo.model.usa.cities.NewYorkNewYork;
+import org.cp.domain.geo.model.usa.cities.OklahomaCityOklahoma;
+import org.cp.domain.geo.model.usa.cities.OlympiaWashington;
+import org.cp.domain.geo.model.usa.cities.PhoenixArizona;
+import org.cp.domain.geo.model.usa.cities.PierreSouthDakota;
+import org.cp.domain.geo.model.usa.cities.PortlandMaine;
+import org.cp.domain.geo.model.usa.cities.PortlandOregon;
+import org.cp.domain.geo.model.usa.cities.ProvidenceRhodeIsland;
+import org.cp.domain.geo.model.usa.cities.RaleighNorthCarolina;
+import org.cp.domain.geo.model.usa.cities.RichmondVirginia;
+import org.cp.domain.geo.model.usa.cities.SacramentoCalifornia;
+import org.cp.domain.geo.model.usa.cities.SaintPaulMinnesota;
+import org.cp.domain.geo.model.usa.cities.SalemOregon;
+import org.cp.domain.geo.model.usa.cities.SaltLakeCityUtah;
+import org.cp.domain.geo.model.usa.cities.SanDiegoCalifornia;
+import org.cp.domain.geo.model.usa.cities.SanFranciscoCalifornia;
+import org.cp.domain.geo.model.usa.cities.SantaFeNewMexico;
+import org.cp.domain.geo.model.usa.cities.SeattleWashington;
+import org.cp.domain.geo.model.usa.cities.SpringfieldIllinois;
+import org.cp.domain.geo.model.usa.cities.TallahasseeFlorida;
+import org.cp.domain.geo.model.usa.cities.TopekaKansas;
+import org.cp.domain.geo.model.usa.cities.TrentonNewJersey;
+import org.cp.domain.geo.model.usa.cities.WashingtonDC;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.StringUtils;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * Catalog of canonical, {@link ImmutableUnitedStatesCity immutable} {@link UnitedStatesCity} instances
+ * keyed by {@link String name} and {@link State}.
+ * <p>
+ * The catalog is seeded with the {@link ImmutableUnitedStatesCity} singletons declared in
+ * the {@literal org.cp.domain.geo.model.usa.cities} package, which are always returned for their name
+ * and {@link State}. All other cities are interned on demand and held by {@link WeakReference weak references},
+ * so a city that is no longer referenced can be garbage collected and the catalog remains bounded.
+ *
+ * @author John Blum
+ * @see org.cp.domain.geo.enums.State
+ * @see org.cp.domain.geo.model.usa.ImmutableUnitedStatesCity
+ * @see org.cp.domain.geo.model.usa.UnitedStatesCity
+ * @since 0.4.0
+ */
+@ThreadSafe
+public class UnitedStatesCityCatalog {
+
+  private static final List<ImmutableUnitedStatesCity> SEEDED_CITIES = List.of(
+    AlbanyNewYork.INSTANCE,
+    AnnapolisMaryland.INSTANCE,
+    AtlantaGeorgia.INSTANCE,
+    AugustaMaine.INSTANCE,
+    AustinTexas.INSTANCE,
+    BatonRougeLouisiana.INSTANCE,
+    BismarckNorthDakota.INSTANCE,
+    BoiseIdaho.INSTANCE,
+    BostonMassachusetts.INSTANCE,
+    CarsonCityNevada.INSTANCE,
+    CharlestonWestVirginia.INSTANCE,
+    CheyenneWyoming.INSTANCE,
+    ChicagoIllinois.INSTANCE,
+    ColumbiaSouthCarolina.INSTANCE,
+    ColumbusOhio.INSTANCE,
+    ConcordNewHampshire.INSTANCE,
+    CubaCityWisconsin.INSTANCE,
+    DenverColorado.INSTANCE,
+    DesMoinesIowa.INSTANCE,
+    DoverDelaware.INSTANCE,
+    DubuqueIowa.INSTANCE,
+    FrankfortKentucky.INSTANCE,
+    HarrisburgPennsylvania.INSTANCE,
+    HartfordConnecticut.INSTANCE,
+    HelenaMontana.INSTANCE,
+    HonoluluHawaii.INSTANCE,
+    IndianapolisIndiana.INSTANCE,
+    JacksonMississippi.INSTANCE,
+    JeffersonCityMissouri.INSTANCE,
+    JuneauAlaska.INSTANCE,
+    LansingMichigan.INSTANCE,
+    LasVegasNevada.INSTANCE,
+    LincolnNebraska.INSTANCE,
+    LittleRockArkansas.INSTANCE,
+    LosAngelesCalifornia.INSTANCE,
+    MadisonWisconsin.INSTANCE,
+    MiamiFlorida.INSTANCE,
+    MissoulaMontana.INSTANCE,
+    MontgomeryAlabama.INSTANCE,
+    MontpelierVermont.INSTANCE,
+    NashvilleTennessee.INSTANCE,
+    NewYorkNewYork.INSTANCE,
+    OklahomaCityOklahoma.INSTANCE,
+    OlympiaWashington.INSTANCE,
+    PhoenixArizona.INSTANCE,
+    PierreSouthDakota.INSTANCE,
+    PortlandMaine.INSTANCE,
+    PortlandOregon.INSTANCE,
+    ProvidenceRhodeIsland.INSTANCE,
+    RaleighNorthCarolina.INSTANCE,
+    RichmondVirginia.INSTANCE,
+    SacramentoCalifornia.INSTANCE,
+    SaintPaulMinnesota.INSTANCE,
+    SalemOregon.INSTANCE,
+    SaltLakeCityUtah.INSTANCE,
+    SanDiegoCalifornia.INSTANCE,
+    SanFranciscoCalifornia.INSTANCE,
+    SantaFeNewMexico.INSTANCE,
+    SeattleWashington.INSTANCE,
+    SpringfieldIllinois.INSTANCE,
+    TallahasseeFlorida.INSTANCE,
+    TopekaKansas.INSTANCE,
+    TrentonNewJersey.INSTANCE,
+    WashingtonDC.INSTANCE
+  );
+
+  private static final UnitedStatesCityCatalog INSTANCE = new UnitedStatesCityCatalog();
+
+  /**
+   * Gets a reference to the {@literal Singleton} instance of the {@link UnitedStatesCityCatalog}.
+   *
+   * @return a reference to the {@literal Singleton} instance of the {@link UnitedStatesCityCatalog}.
+   */
+  public static @NotNull UnitedStatesCityCatalog getInstance() {
+    return INSTANCE;
+  }
+
+  private final Map<State, Map<String, UnitedStatesCity>> seededCities;
+
+  private final Map<State, ConcurrentMap<String, CityReference>> internedCities;
+
+  private final ReferenceQueue<UnitedStatesCity> referenceQueue = new ReferenceQueue<>();
+
+  /**
+   * Constructs a new {@link UnitedStatesCityCatalog} seeded with the {@link ImmutableUnitedStatesCity} singletons
+   * declared in the {@literal org.cp.domain.geo.model.usa.cities} package.
+   */
+  protected UnitedStatesCityCatalog() {
+
+    Map<State, Map<String, UnitedStatesCity>> seededCities = new EnumMap<>(State.class);
+    Map<State, ConcurrentMap<String, CityReference>> internedCities = new EnumMap<>(State.class);
+
+    for (ImmutableUnitedStatesCity city : SEEDED_CITIES) {
+      seededCities.computeIfAbsent(city.getState(), state -> new HashMap<>()).putIfAbsent(city.getName(), city);
+    }
+
+    for (State state : State.values()) {
+      seededCities.computeIfPresent(state, (key, cities) -> Collections.unmodifiableMap(cities));
+      internedCities.put(state, new ConcurrentHashMap<>());
+    }
+
+    this.seededCities = Collections.unmodifiableMap(seededCities);
+    this.internedCities = Collections.unmodifiableMap(internedCities);
+  }
+
+  /**
+   * Returns the canonical {@link UnitedStatesCity} with the {@link City#getName() name} of the given,
+   * required {@link City} located in the given, required {@link State}.
+   * <p>
+   * The given {@link City} is returned as is if it is already the canonical instance.
+   *
+   * @param city {@link City} to intern; must not be {@literal null}.
+   * @param state {@link State} in which the {@link City} is located; must not be {@literal null}.
+   * @return the canonical {@link UnitedStatesCity} for the given {@link City} and {@link State}.
+   * @throws IllegalArgumentException if the {@link City} or {@link State} are {@literal null}.
+   * @see #intern(String, State)
+   */
+  public @NotNull UnitedStatesCity intern(@NotNull City city, @NotNull State state) {
+
+    Assert.notNull(city, "City is required");
+
+    if (city instanceof ImmutableUnitedStatesCity immutableCity && state == immutableCity.getState()
+        && immutableCity == find(immutableCity.getName(), state)) {
+
+      return immutableCity;
+    }
+
+    return intern(city.getName(), state);
+  }
+
+  /**
+   * Returns the canonical {@link UnitedStatesCity} with the given, required {@link String name}
+   * located in the given, required {@link State}.
+   * <p>
+   * Returns the seeded {@link ImmutableUnitedStatesCity} singleton when one exists; otherwise a new,
+   * {@link ImmutableUnitedStatesCity immutable} {@link UnitedStatesCity} is interned and returned.
+   *
+   * @param name {@link String} containing the {@literal name} of the city;
+   * must not be {@literal null} or {@literal empty}.
+   * @param state {@link State} in which the city is located; must not be {@literal null}.
+   * @return the canonical {@link UnitedStatesCity} for the given {@link String name} and {@link State}.
+   * @throws IllegalArgumentException if the {@link String name} is {@literal null} or {@literal empty},
+   * or the {@link State} is {@literal null}.
+   */
+  public @NotNull UnitedStatesCity intern(@NotNull String name, @NotNull State state) {
+
+    Assert.hasText(name, "Name [%s] is required", name);
+    Assert.notNull(state, "State is required");
+
+    UnitedStatesCity city = find(name, state);
+
+    if (city == null) {
+
+      ConcurrentMap<String, CityReference> cities = this.internedCities.get(state);
+
+      expungeStaleCityReferences();
+
+      do {
+        CityReference existingReference = cities.get(name);
+
+        city = dereference(existingReference);
+
+        if (city == null) {
+
+          UnitedStatesCity newCity = new CanonicalUnitedStatesCity(name, state);
+          CityReference newReference = new CityReference(newCity, this.referenceQueue);
+
+          boolean interned = existingReference != null
+            ? cities.replace(name, existingReference, newReference)
+            : cities.putIfAbsent(name, newReference) == null;
+
+          if (interned) {
+            city = newCity;
+          }
+        }
+      }
+      while (city == null);
+    }
+
+    return city;
+  }
+
+  /**
+   * Finds the canonical {@link UnitedStatesCity} with the given {@link String name} located in
+   * the given {@link State} without interning a new {@link UnitedStatesCity}.
+   *
+   * @param name {@link String} containing the {@literal name} of the city.
+   * @param state {@link State} in which the city is located.
+   * @return the canonical {@link UnitedStatesCity} or {@literal null} if the city has not been interned.
+   */
+  public @Nullable UnitedStatesCity find(@Nullable String name, @Nullable State state) {
+
+    if (StringUtils.hasText(name) && state != null) {
+
+      Map<String, UnitedStatesCity> seededCities = this.seededCities.get(state);
+      UnitedStatesCity city = seededCities != null ? seededCities.get(name) : null;
+
+      return city != null ? city : dereference(this.internedCities.get(state).get(name));
+    }
+
+    return null;
+  }
+
+  /**
+   * Determines whether the given {@link City} is a seeded {@link ImmutableUnitedStatesCity} singleton.
+   *
+   * @param city {@link City} to evaluate.
+   * @return a boolean value indicating whether the given {@link City} is a seeded
+   * {@link ImmutableUnitedStatesCity} singleton.
+   */
+  public boolean isSeeded(@Nullable City city) {
+
+    if (city instanceof ImmutableUnitedStatesCity immutableCity) {
+
+      Map<String, UnitedStatesCity> seededCities = this.seededCities.get(immutableCity.getState());
+
+      return seededCities != null && seededCities.get(immutableCity.getName()) == immutableCity;
+    }
+
+    return false;
+  }
+
+  private @Nullable UnitedStatesCity dereference(@Nullable Reference<UnitedStatesCity> reference) {
+    return reference != null ? reference.get() : null;
+  }
+
+  private void expungeStaleCityReferences() {
+
+    for (Reference<? extends UnitedStatesCity> reference = this.referenceQueue.poll(); reference != null;
+        reference = this.referenceQueue.poll()) {
+
+      CityReference cityReference = (CityReference) reference;
+
+      this.internedCities.get(cityReference.state).remove(cityReference.name, cityReference);
+    }
+  }
+
+  /**
+   * {@link ImmutableUnitedStatesCity} interned by the {@link UnitedStatesCityCatalog}.
+   */
+  static final class CanonicalUnitedStatesCity extends ImmutableUnitedStatesCity {
+
+    private final State state;
+
+    CanonicalUnitedStatesCity(@NotNull String name, @NotNull State state) {
+      super(name);
+      this.state = state;
+    }
+
+    @Override
+    public @NotNull State getState() {
+      return this.state;
+    }
+  }
+
+  /**
+   * {@link WeakReference} to an interned {@link UnitedStatesCity} retaining the key used to remove
+   * the {@link WeakReference} from the {@link UnitedStatesCityCatalog} once the city is garbage collected.
+   */
+  private static final class CityReference extends WeakReference<UnitedStatesCity> {
+
+    private final State state;
+    private final String name;
+
+    private CityReference(@NotNull UnitedStatesCity city, @NotNull ReferenceQueue<UnitedStatesCity> referenceQueue) {
+      super(city, referenceQueue);
+      this.state = city.getState();
+      this.name = city.getName();
+    }
+  }
+}
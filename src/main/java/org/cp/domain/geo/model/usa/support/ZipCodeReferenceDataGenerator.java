@@ -0,0 +1,266 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.model.usa.support;
+
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalArgumentException;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.cp.domain.geo.enums.State;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+
+/**
+ * Generator of the binary {@literal ZIP code reference data} read by the {@link ZipCodeReferenceRepository}
+ * from a CSV file.
+ * <p>
+ * The CSV file contains 1 {@literal 5-digit} ZIP code per line with the following columns:
+ * <pre>
+ * zip,state,city,county_fips,latitude,longitude
+ * 97205,OR,Portland,41051,45.5189,-122.6889
+ * </pre>
+ * An optional header line is skipped. Fields containing commas may be enclosed in double quotes.
+ * <p>
+ * Run with {@literal mvn -Pzip-codes -Dzip-codes.csv=/path/to/zip-codes.csv process-classes}
+ * to generate the {@link ZipCodeReferenceRepository#DATA_RESOURCE_NAME data file} into the build output,
+ * or run the {@link #main(String[])} method with the paths to the CSV file and the binary file.
+ *
+ * @author John Blum
+ * @see org.cp.domain.geo.model.usa.support.ZipCodeReferenceRepository
+ * @since 0.4.0
+ */
+public class ZipCodeReferenceDataGenerator {
+
+  private static final int COLUMN_COUNT = 6;
+
+  public static void main(String[] args) throws IOException {
+
+    Assert.isTrue(args.length == 2, "Usage: ZipCodeReferenceDataGenerator <csv file> <binary file>");
+
+    Path csvFile = Paths.get(args[0]);
+    Path dataFile = Paths.get(args[1]);
+
+    Path parent = dataFile.toAbsolutePath().getParent();
+
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+
+    try (Reader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8);
+         OutputStream out = Files.newOutputStream(dataFile)) {
+
+      int count = generate(reader, out);
+
+      System.out.printf("Generated [%d] ZIP codes in [%s]%n", count, dataFile);
+    }
+  }
+
+  /**
+   * Generates the binary {@literal ZIP code reference data} from the CSV read from the given, required {@link Reader}
+   * and writes the binary data to the given, required {@link OutputStream}.
+   *
+   * @param csv {@link Reader} used to read the CSV; must not be {@literal null}.
+   * @param out {@link OutputStream} to which the binary data is written; must not be {@literal null}.
+   * @return the number of ZIP codes written.
+   * @throws IllegalArgumentException if the {@link Reader} or {@link OutputStream} are {@literal null},
+   * or the CSV contains invalid or duplicate ZIP codes.
+   * @throws IOException if the CSV cannot be read or the binary data cannot be written.
+   */
+  public static int generate(@NotNull Reader csv, @NotNull OutputStream out) throws IOException {
+
+    Assert.notNull(csv, "Reader for the CSV is required");
+    Assert.notNull(out, "OutputStream for the binary data is required");
+
+    List<Row> rows = readRows(csv);
+
+    rows.sort(Comparator.comparingInt(Row::zipCode));
+
+    for (int index = 1; index < rows.size(); index++) {
+      if (rows.get(index).zipCode() == rows.get(index - 1).zipCode()) {
+        throw newIllegalArgumentException("ZIP code [%s] is duplicated", rows.get(index).zipCode());
+      }
+    }
+
+    ByteArrayOutputStream stringPool = new ByteArrayOutputStream();
+    Map<String, Integer> cityNameOffsets = new HashMap<>();
+
+    DataOutputStream data = new DataOutputStream(out);
+
+    data.writeInt(ZipCodeReferenceRepository.MAGIC);
+    data.writeInt(ZipCodeReferenceRepository.VERSION);
+    data.writeInt(rows.size());
+
+    List<byte[]> cityNames = new ArrayList<>(rows.size());
+
+    for (Row row : rows) {
+      cityNames.add(row.cityName().getBytes(StandardCharsets.UTF_8));
+    }
+
+    int[] offsets = new int[rows.size()];
+
+    for (int index = 0; index < rows.size(); index++) {
+
+      byte[] cityName = cityNames.get(index);
+
+      offsets[index] = cityNameOffsets.computeIfAbsent(rows.get(index).cityName(), key -> {
+        int offset = stringPool.size();
+        stringPool.writeBytes(cityName);
+        return offset;
+      });
+    }
+
+    data.writeInt(stringPool.size());
+
+    for (int index = 0; index < rows.size(); index++) {
+
+      Row row = rows.get(index);
+      String stateAbbreviation = row.state().getAbbreviation();
+
+      data.writeInt(row.zipCode());
+      data.writeInt(offsets[index]);
+      data.writeShort(cityNames.get(index).length);
+      data.writeByte(stateAbbreviation.charAt(0));
+      data.writeByte(stateAbbreviation.charAt(1));
+      data.writeInt(row.countyFips());
+      data.writeInt(toMicrodegrees(row.latitude()));
+      data.writeInt(toMicrodegrees(row.longitude()));
+    }
+
+    stringPool.writeTo(data);
+    data.flush();
+
+    return rows.size();
+  }
+
+  private static @NotNull List<Row> readRows(@NotNull Reader csv) throws IOException {
+
+    BufferedReader reader = csv instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(csv);
+
+    List<Row> rows = new ArrayList<>();
+
+    int lineNumber = 0;
+
+    for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+
+      lineNumber++;
+
+      if (!line.isBlank() && !(lineNumber == 1 && isHeader(line))) {
+        rows.add(parseRow(line, lineNumber));
+      }
+    }
+
+    return rows;
+  }
+
+  private static boolean isHeader(@NotNull String line) {
+
+    String trimmedLine = line.trim();
+
+    if (trimmedLine.startsWith("\"")) {
+      trimmedLine = trimmedLine.substring(1);
+    }
+
+    return !trimmedLine.isEmpty() && !Character.isDigit(trimmedLine.charAt(0));
+  }
+
+  private static @NotNull Row parseRow(@NotNull String line, int lineNumber) {
+
+    List<String> fields = splitFields(line);
+
+    if (fields.size() != COLUMN_COUNT) {
+      throw newIllegalArgumentException("Line [%s] must contain [%s] fields; was [%s]",
+        lineNumber, COLUMN_COUNT, fields.size());
+    }
+
+    try {
+      int zipCode = Integer.parseInt(fields.get(0));
+      State state = State.valueOfAbbreviation(fields.get(1));
+      String cityName = fields.get(2);
+      int countyFips = Integer.parseInt(fields.get(3));
+      double latitude = Double.parseDouble(fields.get(4));
+      double longitude = Double.parseDouble(fields.get(5));
+
+      Assert.isTrue(fields.get(0).length() == 5 && zipCode >= 0, "ZIP code [%s] must be a 5-digit number",
+        fields.get(0));
+      Assert.notNull(state, "State [%s] is not valid", fields.get(1));
+      Assert.hasText(cityName, "City is required");
+      Assert.isTrue(cityName.getBytes(StandardCharsets.UTF_8).length <= 0xFFFF, "City [%s] is too long", cityName);
+      Assert.isTrue(countyFips >= 0 && countyFips <= 99_999, "County FIPS code [%s] must be a 5-digit number",
+        fields.get(3));
+      Assert.isTrue(Math.abs(latitude) <= 90.0d, "Latitude [%s] must be between -90 and 90", latitude);
+      Assert.isTrue(Math.abs(longitude) <= 180.0d, "Longitude [%s] must be between -180 and 180", longitude);
+
+      return new Row(zipCode, state, cityName, countyFips, latitude, longitude);
+    }
+    catch (IllegalArgumentException cause) {
+      throw newIllegalArgumentException(cause, "Line [%s] is not valid: %s", lineNumber, cause.getMessage());
+    }
+  }
+
+  private static @NotNull List<String> splitFields(@NotNull String line) {
+
+    List<String> fields = new ArrayList<>(COLUMN_COUNT);
+    StringBuilder field = new StringBuilder();
+
+    boolean quoted = false;
+
+    for (int index = 0, length = line.length(); index < length; index++) {
+
+      char character = line.charAt(index);
+
+      if (character == '"') {
+        if (quoted && index + 1 < length && line.charAt(index + 1) == '"') {
+          field.append('"');
+          index++;
+        }
+        else {
+          quoted = !quoted;
+        }
+      }
+      else if (character == ',' && !quoted) {
+        fields.add(field.toString().trim());
+        field.setLength(0);
+      }
+      else {
+        field.append(character);
+      }
+    }
+
+    fields.add(field.toString().trim());
+
+    return fields;
+  }
+
+  private static int toMicrodegrees(double degrees) {
+    return (int) Math.round(degrees * ZipCodeReferenceRepository.MICRODEGREES);
+  }
+
+  private record Row(int zipCode, State state, String cityName, int countyFips, double latitude, double longitude) { }
+}
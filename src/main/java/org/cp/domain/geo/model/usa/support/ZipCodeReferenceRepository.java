@@ -0,0 +1,576 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.model.usa.support;
+
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalStateException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.cp.domain.geo.enums.Country;
+import org.cp.domain.geo.enums.State;
+import org.cp.domain.geo.model.Coordinates;
+import org.cp.domain.geo.model.PostalCode;
+import org.cp.domain.geo.model.usa.UnitedStatesCity;
+import org.cp.domain.geo.model.usa.ZIP;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.ObjectUtils;
+import org.cp.elements.lang.annotation.Immutable;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.NullSafe;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * Repository of reference data for every {@literal 5-digit} {@link ZIP} code in
+ * the {@link Country#UNITED_STATES_OF_AMERICA}, including the {@link State}, primary {@link UnitedStatesCity city},
+ * {@literal county FIPS code} and centroid {@link Coordinates}.
+ * <p>
+ * The reference data is read directly from a compact, binary file that is memory-mapped, or from a direct
+ * {@link ByteBuffer} when the data is not available as a file, so that the data is kept off the JVM heap.
+ * The file is produced from a CSV file by the {@link ZipCodeReferenceDataGenerator}.
+ * <p>
+ * The binary file consists of a {@literal header}, {@literal records} sorted by {@link ZIP} code
+ * and a {@literal string pool} of city names:
+ * <pre>
+ * header: int magic, int version, int record count, int string pool size
+ * record: int ZIP code, int city name offset, short city name length, byte[2] state abbreviation,
+ *         int county FIPS code, int latitude (microdegrees), int longitude (microdegrees)
+ * string pool: UTF-8 encoded city names
+ * </pre>
+ *
+ * @author John Blum
+ * @see java.nio.ByteBuffer
+ * @see org.cp.domain.geo.enums.State
+ * @see org.cp.domain.geo.model.Coordinates
+ * @see org.cp.domain.geo.model.usa.ZIP
+ * @see org.cp.domain.geo.model.usa.support.StateZipCodesRepository
+ * @see org.cp.domain.geo.model.usa.support.ZipCodeReferenceDataGenerator
+ * @since 0.4.0
+ */
+@ThreadSafe
+public class ZipCodeReferenceRepository {
+
+  public static final String DATA_LOCATION_PROPERTY = "cp.domain.geo.usa.zip-codes.location";
+  public static final String DATA_RESOURCE_NAME = "zip-codes.dat";
+
+  protected static final int MAGIC = 0x5A495035;
+  protected static final int VERSION = 1;
+  protected static final int HEADER_SIZE = 16;
+  protected static final int RECORD_SIZE = 24;
+
+  protected static final int CITY_NAME_OFFSET = 4;
+  protected static final int CITY_NAME_LENGTH_OFFSET = 8;
+  protected static final int STATE_OFFSET = 10;
+  protected static final int COUNTY_FIPS_OFFSET = 12;
+  protected static final int LATITUDE_OFFSET = 16;
+  protected static final int LONGITUDE_OFFSET = 20;
+
+  protected static final int MAXIMUM_ZIP_CODE = 99_999;
+
+  protected static final double MICRODEGREES = 1_000_000.0d;
+
+  /**
+   * Gets a reference to the {@literal Singleton} instance of the {@link ZipCodeReferenceRepository}.
+   * <p>
+   * The reference data is loaded from the file at the location configured with the {@link #DATA_LOCATION_PROPERTY}
+   * {@link System#getProperty(String) System property}, or from the {@link #DATA_RESOURCE_NAME} classpath resource
+   * next to this class. The repository is {@literal empty} when no reference data is available.
+   *
+   * @return a reference to the {@literal Singleton} instance of the {@link ZipCodeReferenceRepository}.
+   */
+  public static @NotNull ZipCodeReferenceRepository getInstance() {
+    return ZipCodeReferenceRepositoryHolder.INSTANCE;
+  }
+
+  /**
+   * Factory method used to construct a new {@link ZipCodeReferenceRepository} from the given, required
+   * {@link ByteBuffer} containing the binary reference data.
+   *
+   * @param buffer {@link ByteBuffer} containing the binary reference data; must not be {@literal null}.
+   * @return a new {@link ZipCodeReferenceRepository}.
+   * @throws IllegalArgumentException if the {@link ByteBuffer} is {@literal null}
+   * or does not contain valid reference data.
+   * @see java.nio.ByteBuffer
+   */
+  public static @NotNull ZipCodeReferenceRepository from(@NotNull ByteBuffer buffer) {
+    return new ZipCodeReferenceRepository(buffer);
+  }
+
+  /**
+   * Factory method used to construct a new {@link ZipCodeReferenceRepository} from the binary reference data
+   * read from the given, required {@link InputStream} into a direct {@link ByteBuffer}.
+   *
+   * @param in {@link InputStream} containing the binary reference data; must not be {@literal null}.
+   * @return a new {@link ZipCodeReferenceRepository}.
+   * @throws IllegalArgumentException if the {@link InputStream} is {@literal null}
+   * or does not contain valid reference data.
+   * @throws IllegalStateException if the reference data cannot be read.
+   * @see java.io.InputStream
+   */
+  public static @NotNull ZipCodeReferenceRepository load(@NotNull InputStream in) {
+
+    Assert.notNull(in, "InputStream is required");
+
+    try {
+      byte[] data = in.readAllBytes();
+
+      return from(ByteBuffer.allocateDirect(data.length).put(data).flip());
+    }
+    catch (IOException cause) {
+      throw newIllegalStateException(cause, "Failed to read ZIP code reference data");
+    }
+  }
+
+  /**
+   * Factory method used to construct a new {@link ZipCodeReferenceRepository} by memory-mapping the binary
+   * reference data in the file at the given, required {@link Path}.
+   *
+   * @param path {@link Path} to the file containing the binary reference data; must not be {@literal null}.
+   * @return a new {@link ZipCodeReferenceRepository}.
+   * @throws IllegalArgumentException if the {@link Path} is {@literal null}
+   * or the file does not contain valid reference data.
+   * @throws IllegalStateException if the file cannot be memory-mapped.
+   * @see java.nio.channels.FileChannel#map(FileChannel.MapMode, long, long)
+   * @see java.nio.file.Path
+   */
+  public static @NotNull ZipCodeReferenceRepository open(@NotNull Path path) {
+
+    Assert.notNull(path, "Path to the ZIP code reference data is required");
+
+    try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return from(fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size()));
+    }
+    catch (IOException cause) {
+      throw newIllegalStateException(cause, "Failed to map ZIP code reference data [%s]", path);
+    }
+  }
+
+  private static @NotNull ZipCodeReferenceRepository loadDefault() {
+
+    String location = System.getProperty(DATA_LOCATION_PROPERTY);
+
+    if (location != null && !location.isBlank()) {
+      return open(Paths.get(location.trim()));
+    }
+
+    URL resource = ZipCodeReferenceRepository.class.getResource(DATA_RESOURCE_NAME);
+
+    if (resource == null) {
+      return from(ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).putInt(0).putInt(0).flip());
+    }
+
+    try {
+      if ("file".equals(resource.getProtocol())) {
+        return open(Paths.get(resource.toURI()));
+      }
+
+      try (InputStream in = resource.openStream()) {
+        return load(in);
+      }
+    }
+    catch (IOException | URISyntaxException cause) {
+      throw newIllegalStateException(cause, "Failed to load ZIP code reference data [%s]", resource);
+    }
+  }
+
+  private final ByteBuffer buffer;
+
+  private final int recordCount;
+  private final int stringPoolPosition;
+
+  /**
+   * Constructs a new {@link ZipCodeReferenceRepository} initialized with the given, required {@link ByteBuffer}
+   * containing the binary reference data.
+   *
+   * @param buffer {@link ByteBuffer} containing the binary reference data; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link ByteBuffer} is {@literal null}
+   * or does not contain valid reference data.
+   */
+  protected ZipCodeReferenceRepository(@NotNull ByteBuffer buffer) {
+
+    Assert.notNull(buffer, "ByteBuffer containing the ZIP code reference data is required");
+
+    ByteBuffer data = buffer.slice().order(ByteOrder.BIG_ENDIAN).asReadOnlyBuffer();
+
+    Assert.isTrue(data.capacity() >= HEADER_SIZE && data.getInt(0) == MAGIC,
+      "ByteBuffer does not contain ZIP code reference data");
+
+    Assert.isTrue(data.getInt(4) == VERSION, "ZIP code reference data version [%s] is not supported",
+      data.getInt(4));
+
+    int recordCount = data.getInt(8);
+    int stringPoolSize = data.getInt(12);
+    long expectedSize = HEADER_SIZE + (long) recordCount * RECORD_SIZE + stringPoolSize;
+
+    Assert.isTrue(recordCount >= 0 && stringPoolSize >= 0 && data.capacity() >= expectedSize,
+      "ZIP code reference data is truncated; expected [%s] bytes but was [%s]", expectedSize, data.capacity());
+
+    this.buffer = data;
+    this.recordCount = recordCount;
+    this.stringPoolPosition = HEADER_SIZE + recordCount * RECORD_SIZE;
+  }
+
+  /**
+   * Returns the number of {@link ZIP} codes in this repository.
+   *
+   * @return the number of {@link ZIP} codes in this repository.
+   */
+  public int count() {
+    return this.recordCount;
+  }
+
+  /**
+   * Determines whether this repository contains reference data for the given {@literal 5-digit} {@link ZIP} code.
+   *
+   * @param zipCode {@link Integer} value of the {@literal 5-digit} {@link ZIP} code.
+   * @return a boolean value indicating whether this repository contains reference data
+   * for the given {@link ZIP} code.
+   */
+  public boolean contains(int zipCode) {
+    return indexOf(zipCode) > -1;
+  }
+
+  /**
+   * Finds the reference data for the given {@literal 5-digit} {@link ZIP} code.
+   *
+   * @param zipCode {@link Integer} value of the {@literal 5-digit} {@link ZIP} code.
+   * @return an {@link Optional} {@link ZipCodeReference} for the given {@link ZIP} code.
+   * @see ZipCodeReference
+   */
+  public Optional<ZipCodeReference> findBy(int zipCode) {
+
+    int index = indexOf(zipCode);
+
+    return index > -1 ? Optional.of(newZipCodeReference(index)) : Optional.empty();
+  }
+
+  /**
+   * Finds the reference data for the given {@link PostalCode}.
+   * <p>
+   * Only the first {@literal 5 digits} of the {@link PostalCode} are used; any {@literal ZIP+4} extension is ignored.
+   *
+   * @param postalCode {@link PostalCode} to evaluate.
+   * @return an {@link Optional} {@link ZipCodeReference} for the given {@link PostalCode}.
+   * @see org.cp.domain.geo.model.PostalCode
+   * @see #findBy(int)
+   */
+  @NullSafe
+  public Optional<ZipCodeReference> findBy(@Nullable PostalCode postalCode) {
+
+    int zipCode = postalCode != null ? toZipCode(postalCode.getNumber()) : -1;
+
+    return zipCode > -1 ? findBy(zipCode) : Optional.empty();
+  }
+
+  /**
+   * Finds all the reference data in this repository, in {@link ZIP} code order.
+   *
+   * @return a {@link List} of {@link ZipCodeReference} for all {@link ZIP} codes in this repository.
+   * @see #findAllBy(State)
+   */
+  public List<ZipCodeReference> findAll() {
+
+    List<ZipCodeReference> zipCodeReferences = new ArrayList<>(this.recordCount);
+
+    for (int index = 0; index < this.recordCount; index++) {
+      zipCodeReferences.add(newZipCodeReference(index));
+    }
+
+    return Collections.unmodifiableList(zipCodeReferences);
+  }
+
+  /**
+   * Finds all the reference data for {@link ZIP} codes in the given {@link State}, in {@link ZIP} code order.
+   *
+   * @param state {@link State} of the {@link ZIP} codes.
+   * @return a {@link List} of {@link ZipCodeReference} for all {@link ZIP} codes in the given {@link State}.
+   * @see org.cp.domain.geo.enums.State
+   */
+  @NullSafe
+  public List<ZipCodeReference> findAllBy(@Nullable State state) {
+
+    if (state == null) {
+      return Collections.emptyList();
+    }
+
+    String abbreviation = state.getAbbreviation();
+    char first = abbreviation.charAt(0);
+    char second = abbreviation.charAt(1);
+
+    List<ZipCodeReference> zipCodeReferences = new ArrayList<>();
+
+    for (int index = 0; index < this.recordCount; index++) {
+
+      int position = positionOf(index) + STATE_OFFSET;
+
+      if (this.buffer.get(position) == first && this.buffer.get(position + 1) == second) {
+        zipCodeReferences.add(newZipCodeReference(index));
+      }
+    }
+
+    return Collections.unmodifiableList(zipCodeReferences);
+  }
+
+  /**
+   * Finds the {@link State} for the given {@literal 5-digit} {@link ZIP} code without
+   * reading the remaining reference data.
+   *
+   * @param zipCode {@link Integer} value of the {@literal 5-digit} {@link ZIP} code.
+   * @return an {@link Optional} {@link State} for the given {@link ZIP} code.
+   * @see org.cp.domain.geo.enums.State
+   */
+  public Optional<State> findStateBy(int zipCode) {
+
+    int index = indexOf(zipCode);
+
+    return index > -1 ? Optional.ofNullable(readState(positionOf(index))) : Optional.empty();
+  }
+
+  private int indexOf(int zipCode) {
+
+    if (zipCode < 0 || zipCode > MAXIMUM_ZIP_CODE) {
+      return -1;
+    }
+
+    int low = 0;
+    int high = this.recordCount - 1;
+
+    while (low <= high) {
+
+      int middle = (low + high) >>> 1;
+      int middleZipCode = this.buffer.getInt(positionOf(middle));
+
+      if (middleZipCode < zipCode) {
+        low = middle + 1;
+      }
+      else if (middleZipCode > zipCode) {
+        high = middle - 1;
+      }
+      else {
+        return middle;
+      }
+    }
+
+    return -1;
+  }
+
+  private int positionOf(int index) {
+    return HEADER_SIZE + index * RECORD_SIZE;
+  }
+
+  private @NotNull ZipCodeReference newZipCodeReference(int index) {
+
+    int position = positionOf(index);
+
+    return new ZipCodeReference(this.buffer.getInt(position), readState(position), readCityName(position),
+      this.buffer.getInt(position + COUNTY_FIPS_OFFSET),
+      this.buffer.getInt(position + LATITUDE_OFFSET) / MICRODEGREES,
+      this.buffer.getInt(position + LONGITUDE_OFFSET) / MICRODEGREES);
+  }
+
+  private @NotNull String readCityName(int position) {
+
+    int offset = this.buffer.getInt(position + CITY_NAME_OFFSET);
+    int length = Short.toUnsignedInt(this.buffer.getShort(position + CITY_NAME_LENGTH_OFFSET));
+
+    byte[] cityName = new byte[length];
+
+    this.buffer.get(this.stringPoolPosition + offset, cityName);
+
+    return new String(cityName, StandardCharsets.UTF_8);
+  }
+
+  private @Nullable State readState(int position) {
+
+    char first = (char) this.buffer.get(position + STATE_OFFSET);
+    char second = (char) this.buffer.get(position + STATE_OFFSET + 1);
+
+    return State.valueOfAbbreviation(String.valueOf(new char[] { first, second }));
+  }
+
+  private static int toZipCode(@Nullable String postalCode) {
+
+    if (postalCode == null || postalCode.length() < 5) {
+      return -1;
+    }
+
+    int zipCode = 0;
+
+    for (int index = 0; index < 5; index++) {
+
+      char digit = postalCode.charAt(index);
+
+      if (digit < '0' || digit > '9') {
+        return -1;
+      }
+
+      zipCode = zipCode * 10 + (digit - '0');
+    }
+
+    return zipCode;
+  }
+
+  /**
+   * Holder for the lazily loaded, {@literal Singleton} instance of the {@link ZipCodeReferenceRepository}.
+   */
+  private static final class ZipCodeReferenceRepositoryHolder {
+    private static final ZipCodeReferenceRepository INSTANCE = loadDefault();
+  }
+
+  /**
+   * Reference data for a single {@literal 5-digit} {@link ZIP} code.
+   *
+   * @see org.cp.domain.geo.model.usa.ZIP
+   */
+  @Immutable
+  public static final class ZipCodeReference {
+
+    private final int zipCode;
+    private final int countyFips;
+
+    private final double latitude;
+    private final double longitude;
+
+    private final State state;
+
+    private final String cityName;
+
+    ZipCodeReference(int zipCode, @Nullable State state, @NotNull String cityName, int countyFips,
+        double latitude, double longitude) {
+
+      this.zipCode = zipCode;
+      this.state = state;
+      this.cityName = cityName;
+      this.countyFips = countyFips;
+      this.latitude = latitude;
+      this.longitude = longitude;
+    }
+
+    /**
+     * Returns the {@link Integer} value of the {@literal 5-digit} {@link ZIP} code.
+     *
+     * @return the {@link Integer} value of the {@literal 5-digit} {@link ZIP} code.
+     * @see #getZip()
+     */
+    public int getZipCode() {
+      return this.zipCode;
+    }
+
+    /**
+     * Returns the shared, {@literal 5-digit} {@link ZIP} code.
+     *
+     * @return the shared, {@literal 5-digit} {@link ZIP} code.
+     * @see org.cp.domain.geo.model.usa.ZIP#ofDigits(int)
+     */
+    public @NotNull ZIP getZip() {
+      return ZIP.ofDigits(getZipCode());
+    }
+
+    /**
+     * Returns the {@link State} in which the {@link ZIP} code is located.
+     *
+     * @return the {@link State} in which the {@link ZIP} code is located.
+     * @see org.cp.domain.geo.enums.State
+     */
+    public @Nullable State getState() {
+      return this.state;
+    }
+
+    /**
+     * Returns the {@link String name} of the primary city of the {@link ZIP} code.
+     *
+     * @return the {@link String name} of the primary city of the {@link ZIP} code.
+     * @see #getCity()
+     */
+    public @NotNull String getCityName() {
+      return this.cityName;
+    }
+
+    /**
+     * Returns a new {@link UnitedStatesCity} for the primary city of the {@link ZIP} code.
+     *
+     * @return a new {@link UnitedStatesCity} for the primary city of the {@link ZIP} code.
+     * @see org.cp.domain.geo.model.usa.UnitedStatesCity
+     */
+    public @NotNull UnitedStatesCity getCity() {
+
+      UnitedStatesCity city = UnitedStatesCity.newUnitedStatesCity(getCityName());
+
+      return getState() != null ? city.in(getState()) : city;
+    }
+
+    /**
+     * Returns the {@literal 5-digit} {@literal FIPS code} of the county in which the {@link ZIP} code is located.
+     *
+     * @return the {@literal 5-digit} {@literal FIPS code} of the county in which the {@link ZIP} code is located.
+     */
+    public @NotNull String getCountyFips() {
+      return String.format("%05d", this.countyFips);
+    }
+
+    /**
+     * Returns the {@link Coordinates} of the centroid of the {@link ZIP} code.
+     *
+     * @return the {@link Coordinates} of the centroid of the {@link ZIP} code.
+     * @see org.cp.domain.geo.model.Coordinates
+     */
+    public @NotNull Coordinates getCoordinates() {
+      return Coordinates.at(this.latitude, this.longitude);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+
+      if (this == obj) {
+        return true;
+      }
+
+      return obj instanceof ZipCodeReference that
+        && this.zipCode == that.zipCode
+        && this.countyFips == that.countyFips
+        && Double.compare(this.latitude, that.latitude) == 0
+        && Double.compare(this.longitude, that.longitude) == 0
+        && ObjectUtils.equals(this.state, that.state)
+        && ObjectUtils.equals(this.cityName, that.cityName);
+    }
+
+    @Override
+    public int hashCode() {
+      return ObjectUtils.hashCodeOf(this.zipCode, this.state, this.cityName, this.countyFips,
+        this.latitude, this.longitude);
+    }
+
+    @Override
+    public @NotNull String toString() {
+      return String.format("{ zip = %05d, state = %s, city = %s, countyFips = %s, coordinates = [%s, %s] }",
+        getZipCode(), getState(), getCityName(), getCountyFips(), this.latitude, this.longitude);
+    }
+  }
+}
@@ -0,0 +1,457 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.service.provider;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.cp.domain.geo.model.Address;
+import org.cp.domain.geo.model.Coordinates;
+import org.cp.domain.geo.model.Distance;
+import org.cp.domain.geo.model.Elevation;
+import org.cp.domain.geo.model.support.AddressKey;
+import org.cp.domain.geo.model.support.AddressStandardizer;
+import org.cp.domain.geo.service.spi.GeocodingService;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.ObjectUtils;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * {@link GeocodingService} decorator caching the results of another {@link GeocodingService}.
+ * <p>
+ * Each geocoding operation has its own bounded, {@literal least recently used (LRU)} cache in which entries expire
+ * after a {@link Duration time-to-live}. {@link Address Addresses} are cached by their canonical {@link AddressKey}
+ * and {@link Coordinates} by a grid key quantized to {@literal 5 decimal places} (roughly {@literal 1 meter}).
+ * Concurrent requests for the same key are coalesced into a single call to the {@link #getDelegate() delegate}.
+ * <p>
+ * Results are cached whether or not they are {@literal null}. Cached {@link Address Addresses},
+ * {@link Coordinates} and {@link Elevation Elevations} are copied before being returned since they are mutable.
+ * <p>
+ * Callers of {@link GeocodingService#getLoader()} get caching {@link GeocodingService GeocodingServices}
+ * once {@link #enable()} has been called.
+ *
+ * @author John Blum
+ * @see org.cp.domain.geo.model.support.AddressStandardizer
+ * @see org.cp.domain.geo.service.spi.GeocodingService
+ * @since 0.4.0
+ */
+@ThreadSafe
+public class CachingGeocodingService implements GeocodingService {
+
+  public static final int DEFAULT_MAXIMUM_SIZE = 65_536;
+
+  public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofHours(1);
+
+  protected static final double COORDINATES_SCALE = 100_000.0d;
+
+  private static final int CACHE_SEGMENTS = 16;
+
+  /**
+   * Decorates the {@link GeocodingService GeocodingServices} returned by {@link GeocodingService#getLoader()}
+   * with a {@link CachingGeocodingService} using the default cache configuration.
+   * <p>
+   * The decorated {@link GeocodingService} is shared by all callers requesting the same
+   * {@link GeocodingService} from the {@link GeocodingService.Loader}.
+   *
+   * @return the caching {@link GeocodingService.Loader}.
+   * @see #disable()
+   */
+  public static @NotNull GeocodingService.Loader enable() {
+
+    GeocodingService.Loader loader = GeocodingService.getLoader();
+
+    return GEOCODING_SERVICE_LOADER_REFERENCE.updateAndGet(it -> it instanceof CachingLoader ? it
+      : new CachingLoader(it != null ? it : loader));
+  }
+
+  /**
+   * Restores the {@link GeocodingService.Loader} that was in use before caching was {@link #enable() enabled}.
+   *
+   * @return the restored {@link GeocodingService.Loader}.
+   * @see #enable()
+   */
+  public static @NotNull GeocodingService.Loader disable() {
+
+    return GEOCODING_SERVICE_LOADER_REFERENCE.updateAndGet(it -> it instanceof CachingLoader cachingLoader
+      ? cachingLoader.getLoader()
+      : it);
+  }
+
+  private final AddressStandardizer addressStandardizer;
+
+  private final Cache<AddressKey, Coordinates> geocodeCache;
+  private final Cache<DistanceKey, Distance> distanceCache;
+  private final Cache<Long, Address> reverseGeocodeCache;
+  private final Cache<Long, Elevation> elevationCache;
+
+  private final GeocodingService delegate;
+
+  private final LongAdder evictionCount = new LongAdder();
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+
+  /**
+   * Constructs a new {@link CachingGeocodingService} decorating the given, required {@link GeocodingService}
+   * with the {@link #DEFAULT_MAXIMUM_SIZE} and {@link #DEFAULT_TIME_TO_LIVE}.
+   *
+   * @param delegate {@link GeocodingService} to decorate; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link GeocodingService} is {@literal null}.
+   * @see #CachingGeocodingService(GeocodingService, int, Duration)
+   */
+  public CachingGeocodingService(@NotNull GeocodingService delegate) {
+    this(delegate, DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+  }
+
+  /**
+   * Constructs a new {@link CachingGeocodingService} decorating the given, required {@link GeocodingService}.
+   *
+   * @param delegate {@link GeocodingService} to decorate; must not be {@literal null}.
+   * @param maximumSize {@link Integer maximum number} of entries cached per geocoding operation;
+   * must be greater than {@literal 0}.
+   * @param timeToLive {@link Duration} after which a cached entry expires; must be positive.
+   * @throws IllegalArgumentException if the {@link GeocodingService} is {@literal null}, the maximum size
+   * is less than {@literal 1} or the {@link Duration time-to-live} is {@literal null} or not positive.
+   */
+  public CachingGeocodingService(@NotNull GeocodingService delegate, int maximumSize, @NotNull Duration timeToLive) {
+    this(delegate, maximumSize, timeToLive, System::nanoTime);
+  }
+
+  CachingGeocodingService(@NotNull GeocodingService delegate, int maximumSize, @NotNull Duration timeToLive,
+      @NotNull LongSupplier clock) {
+
+    Assert.isTrue(maximumSize > 0, "Maximum size [%s] must be greater than 0", maximumSize);
+    Assert.isTrue(timeToLive != null && !timeToLive.isNegative() && !timeToLive.isZero(),
+      "Time-to-live [%s] must be positive", timeToLive);
+
+    this.delegate = ObjectUtils.requireObject(delegate, "GeocodingService to decorate is required");
+    this.addressStandardizer = AddressStandardizer.getInstance();
+
+    long timeToLiveInNanoseconds = timeToLive.toNanos();
+
+    this.geocodeCache = new Cache<>(maximumSize, timeToLiveInNanoseconds, clock);
+    this.distanceCache = new Cache<>(maximumSize, timeToLiveInNanoseconds, clock);
+    this.reverseGeocodeCache = new Cache<>(maximumSize, timeToLiveInNanoseconds, clock);
+    this.elevationCache = new Cache<>(maximumSize, timeToLiveInNanoseconds, clock);
+  }
+
+  /**
+   * Gets the decorated {@link GeocodingService}.
+   *
+   * @return the decorated {@link GeocodingService}.
+   */
+  public @NotNull GeocodingService getDelegate() {
+    return this.delegate;
+  }
+
+  /**
+   * Returns the number of cache entries evicted, either because a cache was full or the entry expired.
+   *
+   * @return the number of cache entries evicted.
+   */
+  public long getEvictionCount() {
+    return this.evictionCount.sum();
+  }
+
+  /**
+   * Returns the number of requests answered without calling the {@link #getDelegate() delegate}, including
+   * requests coalesced with a concurrent, identical request.
+   *
+   * @return the number of requests answered without calling the {@link #getDelegate() delegate}.
+   */
+  public long getHitCount() {
+    return this.hitCount.sum();
+  }
+
+  /**
+   * Returns the number of requests that called the {@link #getDelegate() delegate}.
+   *
+   * @return the number of requests that called the {@link #getDelegate() delegate}.
+   */
+  public long getMissCount() {
+    return this.missCount.sum();
+  }
+
+  /**
+   * Returns the number of entries currently cached across all geocoding operations, including expired entries
+   * that have not yet been evicted.
+   *
+   * @return the number of entries currently cached.
+   */
+  public int getSize() {
+    return this.geocodeCache.size() + this.distanceCache.size() + this.reverseGeocodeCache.size()
+      + this.elevationCache.size();
+  }
+
+  @Override
+  public Distance distanceBetween(Coordinates origin, Coordinates destination) {
+
+    return origin != null && destination != null
+      ? this.distanceCache.get(new DistanceKey(toGridKey(origin), toGridKey(destination)),
+          key -> getDelegate().distanceBetween(origin, destination))
+      : getDelegate().distanceBetween(origin, destination);
+  }
+
+  @Override
+  public Elevation elevationAt(Coordinates target) {
+
+    if (target == null) {
+      return getDelegate().elevationAt(null);
+    }
+
+    Elevation elevation = this.elevationCache.get(toGridKey(target), key -> getDelegate().elevationAt(target));
+
+    return elevation != null ? Elevation.at(elevation.getAltitude()).in(elevation.getLengthUnit()) : null;
+  }
+
+  @Override
+  public Coordinates geocode(Address address) {
+
+    if (address == null) {
+      return getDelegate().geocode(null);
+    }
+
+    Coordinates coordinates =
+      this.geocodeCache.get(this.addressStandardizer.standardize(address), key -> getDelegate().geocode(address));
+
+    return coordinates != null ? Coordinates.copyOf(coordinates) : null;
+  }
+
+  @Override
+  public Address reverseGeocode(Coordinates coordinates) {
+
+    if (coordinates == null) {
+      return getDelegate().reverseGeocode(null);
+    }
+
+    Address address =
+      this.reverseGeocodeCache.get(toGridKey(coordinates), key -> getDelegate().reverseGeocode(coordinates));
+
+    return address != null ? Address.from(address) : null;
+  }
+
+  /**
+   * Quantizes the given, required {@link Coordinates} to a {@link Long grid key} at {@literal 5 decimal places}.
+   *
+   * @param coordinates {@link Coordinates} to quantize; must not be {@literal null}.
+   * @return the {@link Long grid key} for the given {@link Coordinates}.
+   */
+  protected long toGridKey(@NotNull Coordinates coordinates) {
+
+    long latitude = Math.round(coordinates.getLatitude() * COORDINATES_SCALE);
+    long longitude = Math.round(coordinates.getLongitude() * COORDINATES_SCALE);
+
+    return latitude << 32 | (longitude & 0xFFFFFFFFL);
+  }
+
+  private record DistanceKey(long origin, long destination) { }
+
+  /**
+   * Bounded, segmented {@literal LRU} cache with {@literal time-to-live} expiration and request coalescing.
+   *
+   * @param <K> {@link Class type} of the cache key.
+   * @param <V> {@link Class type} of the cached value.
+   */
+  final class Cache<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongSupplier clock;
+
+    private final long timeToLive;
+
+    private final Map<K, CacheEntry<V>>[] segments;
+
+    @SuppressWarnings("unchecked")
+    Cache(int maximumSize, long timeToLive, @NotNull LongSupplier clock) {
+
+      int segmentCount = Math.min(CACHE_SEGMENTS, Integer.highestOneBit(maximumSize));
+      int segmentCapacity = (maximumSize + segmentCount - 1) / segmentCount;
+
+      this.clock = clock;
+      this.timeToLive = timeToLive;
+      this.segments = new Map[segmentCount];
+
+      for (int index = 0; index < segmentCount; index++) {
+        this.segments[index] = new LinkedHashMap<>(16, 0.75f, true) {
+
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+
+            boolean evict = size() > segmentCapacity;
+
+            if (evict) {
+              evictionCount.increment();
+            }
+
+            return evict;
+          }
+        };
+      }
+    }
+
+    V get(@NotNull K key, @NotNull Function<K, V> function) {
+
+      Map<K, CacheEntry<V>> segment = segmentFor(key);
+
+      CacheEntry<V> entry = lookup(segment, key);
+
+      if (entry != null) {
+        hitCount.increment();
+        return entry.value;
+      }
+
+      CompletableFuture<V> future = new CompletableFuture<>();
+      CompletableFuture<V> inFlightFuture = this.inFlight.putIfAbsent(key, future);
+
+      if (inFlightFuture != null) {
+        hitCount.increment();
+        return join(inFlightFuture);
+      }
+
+      try {
+        entry = lookup(segment, key);
+
+        if (entry != null) {
+          hitCount.increment();
+          future.complete(entry.value);
+          return entry.value;
+        }
+
+        missCount.increment();
+
+        V value = function.apply(key);
+
+        synchronized (segment) {
+          segment.put(key, new CacheEntry<>(value, this.clock.getAsLong() + this.timeToLive));
+        }
+
+        future.complete(value);
+
+        return value;
+      }
+      catch (Throwable cause) {
+        // Fail coalesced callers for any Throwable; otherwise, they would wait on the Future forever
+        future.completeExceptionally(cause);
+        throw cause;
+      }
+      finally {
+        this.inFlight.remove(key, future);
+      }
+    }
+
+    private @Nullable CacheEntry<V> lookup(@NotNull Map<K, CacheEntry<V>> segment, @NotNull K key) {
+
+      synchronized (segment) {
+
+        CacheEntry<V> entry = segment.get(key);
+
+        if (entry != null && this.clock.getAsLong() - entry.expiresAt >= 0L) {
+          segment.remove(key);
+          evictionCount.increment();
+          entry = null;
+        }
+
+        return entry;
+      }
+    }
+
+    private @NotNull Map<K, CacheEntry<V>> segmentFor(@NotNull K key) {
+
+      int hash = key.hashCode();
+
+      return this.segments[(hash ^ (hash >>> 16)) & (this.segments.length - 1)];
+    }
+
+    private V join(@NotNull CompletableFuture<V> future) {
+
+      try {
+        return future.join();
+      }
+      catch (CompletionException cause) {
+        if (cause.getCause() instanceof Error error) {
+          throw error;
+        }
+
+        throw cause.getCause() instanceof RuntimeException runtimeException ? runtimeException : cause;
+      }
+    }
+
+    int size() {
+
+      int size = 0;
+
+      for (Map<K, CacheEntry<V>> segment : this.segments) {
+        synchronized (segment) {
+          size += segment.size();
+        }
+      }
+
+      return size;
+    }
+  }
+
+  private record CacheEntry<V>(V value, long expiresAt) { }
+
+  /**
+   * {@link GeocodingService.Loader} decorating the loaded {@link GeocodingService GeocodingServices}
+   * with a shared {@link CachingGeocodingService}.
+   */
+  static final class CachingLoader implements GeocodingService.Loader {
+
+    private static final String DEFAULT_SERVICE_NAME = "";
+
+    private final GeocodingService.Loader loader;
+
+    private final ConcurrentMap<String, GeocodingService> services = new ConcurrentHashMap<>();
+
+    CachingLoader(@NotNull GeocodingService.Loader loader) {
+      this.loader = ObjectUtils.requireObject(loader, "GeocodingService.Loader is required");
+    }
+
+    @NotNull GeocodingService.Loader getLoader() {
+      return this.loader;
+    }
+
+    @Override
+    public GeocodingService getServiceInstance() {
+      return this.services.computeIfAbsent(DEFAULT_SERVICE_NAME, name -> decorate(getLoader().getServiceInstance()));
+    }
+
+    @Override
+    public GeocodingService getServiceInstance(String name) {
+
+      return name != null
+        ? this.services.computeIfAbsent(name, it -> decorate(getLoader().getServiceInstance(it)))
+        : getServiceInstance();
+    }
+
+    private @Nullable GeocodingService decorate(@Nullable GeocodingService geocodingService) {
+
+      return geocodingService == null || geocodingService instanceof CachingGeocodingService ? geocodingService
+        : new CachingGeocodingService(geocodingService);
+    }
+  }
+}
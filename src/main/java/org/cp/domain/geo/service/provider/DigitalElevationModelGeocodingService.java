@@ -0,0 +1,363 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.service.provider;
+
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalStateException;
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newUnsupportedOperationException;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.cp.domain.geo.model.Address;
+import org.cp.domain.geo.model.Coordinates;
+import org.cp.domain.geo.model.Distance;
+import org.cp.domain.geo.model.Elevation;
+import org.cp.domain.geo.model.GeodesicDistance;
+import org.cp.domain.geo.service.spi.GeocodingService;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.ObjectUtils;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.Qualifier;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * {@link GeocodingService} implementation answering {@link #elevationAt(Coordinates)} from a local
+ * {@literal digital elevation model (DEM)} rather than calling a remote service.
+ * <p>
+ * The elevation model is a directory of {@literal SRTM} {@literal .hgt} tiles. Each tile covers 1 degree of latitude
+ * by 1 degree of longitude and is named after its south-west corner, for example {@literal N45W123.hgt}.
+ * A tile is a square grid of big-endian, signed 16-bit elevations in meters. Rows run from north to south and
+ * columns from west to east. Both the {@literal 3 arc-second} (1201 x 1201) and {@literal 1 arc-second}
+ * (3601 x 3601) resolutions are supported. The value {@literal -32768} marks a void.
+ * <p>
+ * Tiles are memory-mapped on first use and kept in a bounded, {@literal least recently used (LRU)} cache.
+ * Elevations are interpolated bilinearly from the 4 surrounding samples, ignoring voids. Many {@link Coordinates}
+ * can be looked up at once with {@link #elevationsAt(double[], double[])}.
+ * <p>
+ * {@link #distanceBetween(Coordinates, Coordinates)} is computed locally with {@link GeodesicDistance}.
+ * Geocoding and reverse geocoding throw an {@link UnsupportedOperationException}.
+ * <p>
+ * This provider is not registered with the {@link java.util.ServiceLoader} by default. Applications may register it
+ * in {@literal META-INF/services/org.cp.domain.geo.service.spi.GeocodingService} and look it up by the
+ * {@literal dem} {@link Qualifier}, or construct it directly.
+ *
+ * @author John Blum
+ * @see java.nio.MappedByteBuffer
+ * @see org.cp.domain.geo.model.Elevation
+ * @see org.cp.domain.geo.service.spi.GeocodingService
+ * @since 0.4.0
+ */
+@ThreadSafe
+@Qualifier(name = "dem")
+public class DigitalElevationModelGeocodingService implements GeocodingService {
+
+  public static final int DEFAULT_MAXIMUM_TILES = 16;
+
+  public static final String TILE_FILE_EXTENSION = ".hgt";
+
+  protected static final short VOID = Short.MIN_VALUE;
+
+  /**
+   * Returns the name of the tile file whose south-west corner is at the given latitude and longitude,
+   * for example {@literal N45W123.hgt}.
+   *
+   * @param latitude {@link Integer latitude} of the south-west corner of the tile.
+   * @param longitude {@link Integer longitude} of the south-west corner of the tile.
+   * @return the name of the tile file.
+   */
+  public static @NotNull String toTileName(int latitude, int longitude) {
+
+    return String.format("%s%02d%s%03d%s", latitude < 0 ? "S" : "N", Math.abs(latitude),
+      longitude < 0 ? "W" : "E", Math.abs(longitude), TILE_FILE_EXTENSION);
+  }
+
+  private final int maximumTiles;
+
+  private final Lock lock = new ReentrantLock();
+
+  private final Map<Integer, Tile> tiles;
+
+  private final Path directory;
+
+  private volatile Tile lastTile;
+
+  /**
+   * Constructs a new {@link DigitalElevationModelGeocodingService} reading tiles from the given, required directory
+   * and caching up to {@link #DEFAULT_MAXIMUM_TILES} tiles.
+   *
+   * @param directory {@link Path} to the directory containing the tiles; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link Path directory} is {@literal null}.
+   * @see #DigitalElevationModelGeocodingService(Path, int)
+   */
+  public DigitalElevationModelGeocodingService(@NotNull Path directory) {
+    this(directory, DEFAULT_MAXIMUM_TILES);
+  }
+
+  /**
+   * Constructs a new {@link DigitalElevationModelGeocodingService} reading tiles from the given, required directory.
+   *
+   * @param directory {@link Path} to the directory containing the tiles; must not be {@literal null}.
+   * @param maximumTiles {@link Integer maximum number} of tiles kept mapped; must be greater than {@literal 0}.
+   * @throws IllegalArgumentException if the {@link Path directory} is {@literal null}
+   * or the maximum number of tiles is less than {@literal 1}.
+   */
+  public DigitalElevationModelGeocodingService(@NotNull Path directory, int maximumTiles) {
+
+    Assert.isTrue(maximumTiles > 0, "Maximum tiles [%s] must be greater than 0", maximumTiles);
+
+    this.directory = ObjectUtils.requireObject(directory, "Directory containing the elevation tiles is required");
+    this.maximumTiles = maximumTiles;
+    this.tiles = new LinkedHashMap<>(maximumTiles * 2, 0.75f, true) {
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Integer, Tile> eldest) {
+        return size() > DigitalElevationModelGeocodingService.this.maximumTiles;
+      }
+    };
+  }
+
+  /**
+   * Gets the {@link Path directory} containing the elevation tiles.
+   *
+   * @return the {@link Path directory} containing the elevation tiles.
+   */
+  public @NotNull Path getDirectory() {
+    return this.directory;
+  }
+
+  /**
+   * Returns the {@link Integer maximum number} of tiles kept mapped.
+   *
+   * @return the {@link Integer maximum number} of tiles kept mapped.
+   */
+  public int getMaximumTiles() {
+    return this.maximumTiles;
+  }
+
+  /**
+   * Returns the {@link Integer number} of tiles currently cached, including tiles that were not found.
+   *
+   * @return the {@link Integer number} of tiles currently cached.
+   */
+  public int getTileCount() {
+
+    this.lock.lock();
+
+    try {
+      return this.tiles.size();
+    }
+    finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public @NotNull Distance distanceBetween(@NotNull Coordinates origin, @NotNull Coordinates destination) {
+    return GeodesicDistance.getDefault().between(origin, destination);
+  }
+
+  /**
+   * Determines the {@link Elevation} in {@literal meters} at the given, required {@link Coordinates}.
+   *
+   * @param target {@link Coordinates} at which to determine the {@link Elevation}; must not be {@literal null}.
+   * @return the {@link Elevation} in {@literal meters} at the given {@link Coordinates}, or {@literal null}
+   * if the elevation model has no data at the given {@link Coordinates}.
+   * @throws IllegalArgumentException if the {@link Coordinates} are {@literal null}.
+   * @throws IllegalStateException if a tile cannot be read.
+   * @see #elevationsAt(double[], double[])
+   */
+  @Override
+  public @Nullable Elevation elevationAt(@NotNull Coordinates target) {
+
+    Assert.notNull(target, "Coordinates are required");
+
+    double elevation = elevationInMeters(target.getLatitude(), target.getLongitude());
+
+    return Double.isNaN(elevation) ? null : Elevation.at(elevation).inMeters();
+  }
+
+  /**
+   * Determines the elevations in {@literal meters} at the given latitudes and longitudes.
+   * <p>
+   * The latitude and longitude at the same index form a single location. Consecutive locations in the same tile
+   * are looked up without consulting the tile cache.
+   *
+   * @param latitudes array of {@link Double latitudes}; must not be {@literal null}.
+   * @param longitudes array of {@link Double longitudes}; must not be {@literal null}
+   * and must have the same length as the latitudes.
+   * @return an array of elevations in {@literal meters}, in the same order as the given locations, containing
+   * {@link Double#NaN} where the elevation model has no data.
+   * @throws IllegalArgumentException if the latitudes or longitudes are {@literal null}
+   * or do not have the same length.
+   * @throws IllegalStateException if a tile cannot be read.
+   * @see #elevationAt(Coordinates)
+   */
+  public @NotNull double[] elevationsAt(@NotNull double[] latitudes, @NotNull double[] longitudes) {
+
+    Assert.notNull(latitudes, "Latitudes are required");
+    Assert.notNull(longitudes, "Longitudes are required");
+    Assert.isTrue(latitudes.length == longitudes.length,
+      "Latitudes [%s] and longitudes [%s] must have the same length", latitudes.length, longitudes.length);
+
+    double[] elevations = new double[latitudes.length];
+
+    for (int index = 0; index < elevations.length; index++) {
+      elevations[index] = elevationInMeters(latitudes[index], longitudes[index]);
+    }
+
+    return elevations;
+  }
+
+  @Override
+  public Coordinates geocode(Address address) {
+    throw newUnsupportedOperationException("Geocoding is not supported by [%s]", getClass().getName());
+  }
+
+  @Override
+  public Address reverseGeocode(Coordinates coordinates) {
+    throw newUnsupportedOperationException("Reverse geocoding is not supported by [%s]", getClass().getName());
+  }
+
+  /**
+   * Determines the elevation in {@literal meters} at the given latitude and longitude.
+   *
+   * @param latitude {@link Double latitude} of the location.
+   * @param longitude {@link Double longitude} of the location.
+   * @return the elevation in {@literal meters}, or {@link Double#NaN} if the elevation model has no data
+   * at the given location.
+   */
+  protected double elevationInMeters(double latitude, double longitude) {
+
+    if (!(latitude >= -90.0d && latitude <= 90.0d && longitude >= -180.0d && longitude <= 180.0d)) {
+      return Double.NaN;
+    }
+
+    int tileLatitude = (int) Math.floor(latitude);
+    int tileLongitude = (int) Math.floor(longitude);
+
+    return resolveTile(tileLatitude, tileLongitude)
+      .elevationAt(latitude - tileLatitude, longitude - tileLongitude);
+  }
+
+  private @NotNull Tile resolveTile(int latitude, int longitude) {
+
+    int key = (latitude + 90) * 361 + longitude + 180;
+
+    Tile tile = this.lastTile;
+
+    if (tile == null || tile.key() != key) {
+
+      this.lock.lock();
+
+      try {
+        tile = this.tiles.get(key);
+
+        if (tile == null) {
+          tile = loadTile(key, getDirectory().resolve(toTileName(latitude, longitude)));
+          this.tiles.put(key, tile);
+        }
+      }
+      finally {
+        this.lock.unlock();
+      }
+
+      this.lastTile = tile;
+    }
+
+    return tile;
+  }
+
+  private @NotNull Tile loadTile(int key, @NotNull Path path) {
+
+    if (!Files.isRegularFile(path)) {
+      return new Tile(key, null, 0);
+    }
+
+    try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+      long length = fileChannel.size();
+      int size = (int) Math.round(Math.sqrt(length / 2.0d));
+
+      if (size < 2 || 2L * size * size != length) {
+        throw newIllegalStateException("Elevation tile [%s] has an invalid length [%s]", path, length);
+      }
+
+      ShortBuffer samples = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, length)
+        .order(ByteOrder.BIG_ENDIAN)
+        .asShortBuffer();
+
+      return new Tile(key, samples, size);
+    }
+    catch (IOException cause) {
+      throw newIllegalStateException(cause, "Failed to map elevation tile [%s]", path);
+    }
+  }
+
+  /**
+   * Memory-mapped elevation tile; the samples are {@literal null} if the tile was not found.
+   */
+  record Tile(int key, @Nullable ShortBuffer samples, int size) {
+
+    double elevationAt(double latitudeOffset, double longitudeOffset) {
+
+      if (this.samples == null) {
+        return Double.NaN;
+      }
+
+      int last = this.size - 1;
+
+      double row = (1.0d - latitudeOffset) * last;
+      double column = longitudeOffset * last;
+
+      int row0 = Math.min(Math.max((int) row, 0), last - 1);
+      int column0 = Math.min(Math.max((int) column, 0), last - 1);
+
+      double rowFraction = row - row0;
+      double columnFraction = column - column0;
+
+      int index = row0 * this.size + column0;
+
+      double elevation = 0.0d;
+      double weight = 0.0d;
+
+      for (int corner = 0; corner < 4; corner++) {
+
+        short sample = this.samples.get(index + (corner >> 1) * this.size + (corner & 1));
+
+        if (sample != VOID) {
+
+          double cornerWeight = ((corner >> 1) == 0 ? 1.0d - rowFraction : rowFraction)
+            * ((corner & 1) == 0 ? 1.0d - columnFraction : columnFraction);
+
+          elevation += cornerWeight * sample;
+          weight += cornerWeight;
+        }
+      }
+
+      return weight > 0.0d ? elevation / weight : Double.NaN;
+    }
+  }
+}
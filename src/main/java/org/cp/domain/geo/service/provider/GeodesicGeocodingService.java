@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.service.provider;
+
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newUnsupportedOperationException;
+
+import org.cp.domain.geo.model.Address;
+import org.cp.domain.geo.model.Coordinates;
+import org.cp.domain.geo.model.Distance;
+import org.cp.domain.geo.model.Elevation;
+import org.cp.domain.geo.model.GeodesicDistance;
+import org.cp.domain.geo.service.spi.GeocodingService;
+import org.cp.elements.lang.ObjectUtils;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Qualifier;
+
+/**
+ * {@link GeocodingService} implementation computing the {@link Distance} between {@link Coordinates} locally
+ * with a {@link GeodesicDistance} formula rather than calling a remote service.
+ * <p>
+ * Only {@link #distanceBetween(Coordinates, Coordinates)} is supported. All other geocoding operations throw
+ * an {@link UnsupportedOperationException}.
+ * <p>
+ * This provider is not registered with the {@link java.util.ServiceLoader} by default. Applications may register it
+ * in {@literal META-INF/services/org.cp.domain.geo.service.spi.GeocodingService} and look it up by the
+ * {@literal geodesic} {@link Qualifier}, or construct it directly.
+ *
+ * @author John Blum
+ * @see org.cp.domain.geo.service.spi.GeocodingService
+ * @see org.cp.domain.geo.model.GeodesicDistance
+ * @see org.cp.elements.lang.annotation.Qualifier
+ * @since 0.4.0
+ */
+@Qualifier(name = "geodesic")
+public class GeodesicGeocodingService implements GeocodingService {
+
+  private final GeodesicDistance formula;
+
+  /**
+   * Constructs a new {@link GeodesicGeocodingService} using the {@link GeodesicDistance#getDefault() default}
+   * {@link GeodesicDistance} formula.
+   *
+   * @see org.cp.domain.geo.model.GeodesicDistance#getDefault()
+   */
+  public GeodesicGeocodingService() {
+    this(GeodesicDistance.getDefault());
+  }
+
+  /**
+   * Constructs a new {@link GeodesicGeocodingService} using the given, required {@link GeodesicDistance} formula.
+   *
+   * @param formula {@link GeodesicDistance} formula used to compute {@link Distance distances};
+   * must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link GeodesicDistance formula} is {@literal null}.
+   * @see org.cp.domain.geo.model.GeodesicDistance
+   */
+  public GeodesicGeocodingService(@NotNull GeodesicDistance formula) {
+    this.formula = ObjectUtils.requireObject(formula, "GeodesicDistance formula is required");
+  }
+
+  /**
+   * Gets the {@link GeodesicDistance} formula used to compute {@link Distance distances}.
+   *
+   * @return the {@link GeodesicDistance} formula used to compute {@link Distance distances}.
+   * @see org.cp.domain.geo.model.GeodesicDistance
+   */
+  public @NotNull GeodesicDistance getFormula() {
+    return this.formula;
+  }
+
+  @Override
+  public @NotNull Distance distanceBetween(@NotNull Coordinates origin, @NotNull Coordinates destination) {
+    return getFormula().between(origin, destination);
+  }
+
+  @Override
+  public Elevation elevationAt(Coordinates target) {
+    throw newUnsupportedOperationException("Elevation is not supported by [%s]", getClass().getName());
+  }
+
+  @Override
+  public Coordinates geocode(Address address) {
+    throw newUnsupportedOperationException("Geocoding is not supported by [%s]", getClass().getName());
+  }
+
+  @Override
+  public Address reverseGeocode(Coordinates coordinates) {
+    throw newUnsupportedOperationException("Reverse geocoding is not supported by [%s]", getClass().getName());
+  }
+}
@@ -0,0 +1,418 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.service.provider;
+
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalArgumentException;
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalStateException;
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newUnsupportedOperationException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.cp.domain.core.support.ParseResult;
+import org.cp.domain.geo.enums.Country;
+import org.cp.domain.geo.model.Address;
+import org.cp.domain.geo.model.Coordinates;
+import org.cp.domain.geo.model.Distance;
+import org.cp.domain.geo.model.Elevation;
+import org.cp.domain.geo.model.GeodesicDistance;
+import org.cp.domain.geo.model.Locatable;
+import org.cp.domain.geo.model.support.AddressKey;
+import org.cp.domain.geo.model.support.AddressStandardizer;
+import org.cp.domain.geo.model.usa.UnitedStatesAddress;
+import org.cp.domain.geo.model.usa.support.ZipCodeReferenceRepository;
+import org.cp.domain.geo.model.usa.support.ZipCodeReferenceRepository.ZipCodeReference;
+import org.cp.domain.geo.service.spi.GeocodingService;
+import org.cp.domain.geo.support.SpatialIndex;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.ObjectUtils;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.NullSafe;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.Qualifier;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * {@link GeocodingService} implementation answering {@link #geocode(Address)} and {@link #reverseGeocode(Coordinates)}
+ * from local reference data without calling a remote service.
+ * <p>
+ * {@link Address Addresses} are reverse geocoded to the nearest {@link Address reference address} found in
+ * a {@link SpatialIndex}, within a {@link #getMaximumDistance() maximum distance}. {@link Address Addresses} are
+ * geocoded by matching the {@link AddressKey standardized address} against the {@link Address reference addresses},
+ * falling back to the centroid of the {@literal ZIP code} from the {@link ZipCodeReferenceRepository}.
+ * The nearest {@literal ZIP code} centroid to any {@link Coordinates} can be found with
+ * {@link #findNearestZipCode(Coordinates)}.
+ * <p>
+ * The reference addresses are read from a text file, one {@link Address} per line, in the form
+ * {@literal latitude,longitude,address}, for example: {@literal 45.5189,-122.6789,100 Main St, Portland, OR 97205}.
+ * Blank lines and lines beginning with {@literal #} are ignored.
+ * <p>
+ * This provider is not registered with the {@link java.util.ServiceLoader} by default. Applications may register it
+ * in {@literal META-INF/services/org.cp.domain.geo.service.spi.GeocodingService} and look it up by the
+ * {@literal offline} {@link Qualifier}, or construct it directly. When loaded by the {@link java.util.ServiceLoader},
+ * the reference addresses are read from the file at the location configured with the {@link #DATA_LOCATION_PROPERTY}
+ * {@link System#getProperty(String) System property} and the {@literal ZIP code} centroids come from
+ * the {@link ZipCodeReferenceRepository#getInstance() default} {@link ZipCodeReferenceRepository}.
+ *
+ * @author John Blum
+ * @see org.cp.domain.geo.model.support.AddressStandardizer
+ * @see org.cp.domain.geo.model.usa.support.ZipCodeReferenceRepository
+ * @see org.cp.domain.geo.service.spi.GeocodingService
+ * @see org.cp.domain.geo.support.SpatialIndex
+ * @see org.cp.elements.lang.annotation.Qualifier
+ * @since 0.4.0
+ */
+@ThreadSafe
+@Qualifier(name = "offline")
+public class OfflineGeocodingService implements GeocodingService {
+
+  public static final String DATA_LOCATION_PROPERTY = "cp.domain.geo.geocoding.offline.location";
+
+  protected static final char COMMENT = '#';
+  protected static final char DELIMITER = ',';
+
+  protected static final Distance DEFAULT_MAXIMUM_DISTANCE = Distance.inMeters(1_000.0d);
+
+  /**
+   * Loads the reference {@link UnitedStatesAddress addresses} from the file at the given, required {@link Path}.
+   *
+   * @param path {@link Path} to the file containing the reference addresses; must not be {@literal null}.
+   * @return a {@link List} of reference {@link UnitedStatesAddress addresses} in the order they appear in the file.
+   * @throws IllegalArgumentException if the {@link Path} is {@literal null} or a line in the file
+   * does not contain a valid {@link Coordinates located} {@link UnitedStatesAddress}.
+   * @throws IllegalStateException if the file cannot be read.
+   * @see #loadAddresses(Reader)
+   */
+  public static @NotNull List<UnitedStatesAddress> loadAddresses(@NotNull Path path) {
+
+    Assert.notNull(path, "Path to the address reference data is required");
+
+    try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      return loadAddresses(reader);
+    }
+    catch (IOException cause) {
+      throw newIllegalStateException(cause, "Failed to read address reference data [%s]", path);
+    }
+  }
+
+  /**
+   * Loads the reference {@link UnitedStatesAddress addresses} from the given, required {@link Reader}.
+   *
+   * @param reader {@link Reader} containing the reference addresses; must not be {@literal null}.
+   * @return a {@link List} of reference {@link UnitedStatesAddress addresses} in the order they were read.
+   * @throws IllegalArgumentException if the {@link Reader} is {@literal null} or a line
+   * does not contain a valid {@link Coordinates located} {@link UnitedStatesAddress}.
+   * @throws IOException if the reference addresses cannot be read.
+   * @see java.io.Reader
+   */
+  public static @NotNull List<UnitedStatesAddress> loadAddresses(@NotNull Reader reader) throws IOException {
+
+    Assert.notNull(reader, "Reader is required");
+
+    BufferedReader bufferedReader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+
+    List<UnitedStatesAddress> addresses = new ArrayList<>();
+
+    int lineNumber = 0;
+
+    for (String line = bufferedReader.readLine(); line != null; line = bufferedReader.readLine()) {
+
+      lineNumber++;
+
+      String trimmedLine = line.trim();
+
+      if (!trimmedLine.isEmpty() && trimmedLine.charAt(0) != COMMENT) {
+        addresses.add(parseAddress(trimmedLine, lineNumber));
+      }
+    }
+
+    return addresses;
+  }
+
+  private static @NotNull UnitedStatesAddress parseAddress(@NotNull String line, int lineNumber) {
+
+    int latitudeEnd = line.indexOf(DELIMITER);
+    int longitudeEnd = latitudeEnd > -1 ? line.indexOf(DELIMITER, latitudeEnd + 1) : -1;
+
+    if (longitudeEnd < 0) {
+      throw newIllegalArgumentException("Line [%s] must contain latitude, longitude and address", lineNumber);
+    }
+
+    Coordinates coordinates;
+
+    try {
+      coordinates = Coordinates.at(Double.parseDouble(line.substring(0, latitudeEnd).trim()),
+        Double.parseDouble(line.substring(latitudeEnd + 1, longitudeEnd).trim()));
+    }
+    catch (NumberFormatException cause) {
+      throw newIllegalArgumentException(cause, "Line [%s] contains invalid coordinates", lineNumber);
+    }
+
+    ParseResult<UnitedStatesAddress> result = UnitedStatesAddress.tryParse(line.substring(longitudeEnd + 1));
+
+    UnitedStatesAddress address = result.getValue()
+      .orElseThrow(() -> newIllegalArgumentException("Line [%s] contains an invalid address: %s",
+        lineNumber, result.getError().orElse(null)));
+
+    address.setCoordinates(coordinates);
+
+    return address;
+  }
+
+  private static @NotNull List<UnitedStatesAddress> loadDefaultAddresses() {
+
+    String location = System.getProperty(DATA_LOCATION_PROPERTY);
+
+    return location != null && !location.isBlank()
+      ? loadAddresses(Paths.get(location.trim()))
+      : Collections.emptyList();
+  }
+
+  private final AddressStandardizer addressStandardizer;
+
+  private final Distance maximumDistance;
+
+  private final Map<AddressKey, Coordinates> coordinatesByAddressKey;
+
+  private final SpatialIndex<Address> addressIndex;
+
+  private final SpatialIndex<ZipCodeCentroid> zipCodeIndex;
+
+  private final ZipCodeReferenceRepository zipCodes;
+
+  /**
+   * Constructs a new {@link OfflineGeocodingService} initialized with the reference addresses read from the file
+   * at the location configured with the {@link #DATA_LOCATION_PROPERTY} {@link System#getProperty(String) property}
+   * and the {@link ZipCodeReferenceRepository#getInstance() default} {@link ZipCodeReferenceRepository}.
+   * <p>
+   * This constructor is used by the {@link java.util.ServiceLoader} when this provider is registered.
+   *
+   * @throws IllegalArgumentException if the reference addresses are not valid.
+   * @throws IllegalStateException if the reference addresses cannot be read.
+   * @see org.cp.domain.geo.model.usa.support.ZipCodeReferenceRepository#getInstance()
+   * @see #DATA_LOCATION_PROPERTY
+   */
+  public OfflineGeocodingService() {
+    this(loadDefaultAddresses(), ZipCodeReferenceRepository.getInstance());
+  }
+
+  /**
+   * Constructs a new {@link OfflineGeocodingService} initialized with the given, required reference
+   * {@link Address addresses} and {@link ZipCodeReferenceRepository}, reverse geocoding within
+   * the default {@link Distance maximum distance} of {@literal 1 kilometer}.
+   *
+   * @param addresses {@link Iterable} of {@link Coordinates located} reference {@link Address addresses};
+   * must not be {@literal null}.
+   * @param zipCodes {@link ZipCodeReferenceRepository} containing the {@literal ZIP code} centroids;
+   * must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link Iterable} of {@link Address addresses}
+   * or the {@link ZipCodeReferenceRepository} is {@literal null}.
+   * @see #OfflineGeocodingService(Iterable, ZipCodeReferenceRepository, Distance)
+   */
+  public OfflineGeocodingService(@NotNull Iterable<? extends Address> addresses,
+      @NotNull ZipCodeReferenceRepository zipCodes) {
+
+    this(addresses, zipCodes, DEFAULT_MAXIMUM_DISTANCE);
+  }
+
+  /**
+   * Constructs a new {@link OfflineGeocodingService} initialized with the given, required reference
+   * {@link Address addresses}, {@link ZipCodeReferenceRepository} and {@link Distance maximum distance}.
+   * <p>
+   * {@link Address Addresses} that have not been {@link Address#isLocated() located} are not indexed.
+   *
+   * @param addresses {@link Iterable} of {@link Coordinates located} reference {@link Address addresses};
+   * must not be {@literal null}.
+   * @param zipCodes {@link ZipCodeReferenceRepository} containing the {@literal ZIP code} centroids;
+   * must not be {@literal null}.
+   * @param maximumDistance {@link Distance} from the {@link Coordinates} within which
+   * to {@link #reverseGeocode(Coordinates) reverse geocode} an {@link Address}; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link Iterable} of {@link Address addresses},
+   * the {@link ZipCodeReferenceRepository} or the {@link Distance maximum distance} is {@literal null}.
+   */
+  public OfflineGeocodingService(@NotNull Iterable<? extends Address> addresses,
+      @NotNull ZipCodeReferenceRepository zipCodes, @NotNull Distance maximumDistance) {
+
+    Assert.notNull(addresses, "Reference addresses are required");
+
+    this.zipCodes = ObjectUtils.requireObject(zipCodes, "ZipCodeReferenceRepository is required");
+    this.maximumDistance = ObjectUtils.requireObject(maximumDistance, "Maximum distance is required");
+    this.addressStandardizer = new AddressStandardizer();
+
+    List<Address> indexedAddresses = new ArrayList<>();
+    Map<AddressKey, Coordinates> coordinatesByAddressKey = new HashMap<>();
+
+    for (Address address : addresses) {
+      address.getCoordinates().ifPresent(coordinates -> {
+        indexedAddresses.add(address);
+        coordinatesByAddressKey.putIfAbsent(this.addressStandardizer.standardize(address), coordinates);
+      });
+    }
+
+    List<ZipCodeCentroid> zipCodeCentroids = new ArrayList<>(zipCodes.count());
+
+    for (ZipCodeReference zipCode : zipCodes.findAll()) {
+      zipCodeCentroids.add(new ZipCodeCentroid(zipCode));
+    }
+
+    this.addressIndex = SpatialIndex.of(indexedAddresses);
+    this.coordinatesByAddressKey = coordinatesByAddressKey;
+    this.zipCodeIndex = SpatialIndex.of(zipCodeCentroids);
+  }
+
+  /**
+   * Gets the {@link Distance} from the {@link Coordinates} within which
+   * to {@link #reverseGeocode(Coordinates) reverse geocode} an {@link Address}.
+   *
+   * @return the {@link Distance} from the {@link Coordinates} within which
+   * to {@link #reverseGeocode(Coordinates) reverse geocode} an {@link Address}.
+   * @see org.cp.domain.geo.model.Distance
+   */
+  public @NotNull Distance getMaximumDistance() {
+    return this.maximumDistance;
+  }
+
+  /**
+   * Gets the {@link ZipCodeReferenceRepository} used to resolve {@literal ZIP code} centroids.
+   *
+   * @return the {@link ZipCodeReferenceRepository} used to resolve {@literal ZIP code} centroids.
+   * @see org.cp.domain.geo.model.usa.support.ZipCodeReferenceRepository
+   */
+  protected @NotNull ZipCodeReferenceRepository getZipCodes() {
+    return this.zipCodes;
+  }
+
+  /**
+   * Returns the number of reference {@link Address addresses} indexed by this {@link GeocodingService}.
+   *
+   * @return the number of reference {@link Address addresses} indexed by this {@link GeocodingService}.
+   */
+  public int getReferenceAddressCount() {
+    return this.addressIndex.size();
+  }
+
+  @Override
+  public @NotNull Distance distanceBetween(@NotNull Coordinates origin, @NotNull Coordinates destination) {
+    return GeodesicDistance.getDefault().between(origin, destination);
+  }
+
+  @Override
+  public Elevation elevationAt(Coordinates target) {
+    throw newUnsupportedOperationException("Elevation is not supported by [%s]", getClass().getName());
+  }
+
+  /**
+   * Computes the geographic {@link Coordinates} of the given, required {@link Address}.
+   * <p>
+   * Returns the {@link Coordinates} of the matching reference {@link Address}, or the centroid of
+   * the {@link Address Address's} {@literal ZIP code} when no reference {@link Address} matches.
+   *
+   * @param address {@link Address} to geocode; must not be {@literal null}.
+   * @return the geographic {@link Coordinates} of the given {@link Address}, or {@literal null}
+   * if the {@link Address} cannot be geocoded from the reference data.
+   * @throws IllegalArgumentException if the {@link Address} is {@literal null}.
+   * @see org.cp.domain.geo.model.support.AddressStandardizer#standardize(Address)
+   */
+  @Override
+  public @Nullable Coordinates geocode(@NotNull Address address) {
+
+    Assert.notNull(address, "Address to geocode is required");
+
+    Coordinates coordinates = this.coordinatesByAddressKey.get(this.addressStandardizer.standardize(address));
+
+    if (coordinates == null && Country.UNITED_STATES_OF_AMERICA.equals(address.getCountry())) {
+      coordinates = getZipCodes().findBy(address.getPostalCode())
+        .map(ZipCodeReference::getCoordinates)
+        .orElse(null);
+    }
+
+    // Copy the Coordinates of the reference data since Coordinates are mutable
+    return coordinates != null ? Coordinates.copyOf(coordinates) : null;
+  }
+
+  /**
+   * Computes the {@link Address} nearest to the given, required {@link Coordinates}.
+   * <p>
+   * Returns a copy of the reference {@link Address} so that callers cannot modify the reference data.
+   *
+   * @param coordinates {@link Coordinates} to reverse geocode; must not be {@literal null}.
+   * @return a copy of the reference {@link Address} nearest to the given {@link Coordinates}, or {@literal null}
+   * if no reference {@link Address} is within the {@link #getMaximumDistance() maximum distance}.
+   * @throws IllegalArgumentException if the {@link Coordinates} are {@literal null}.
+   * @see #getMaximumDistance()
+   */
+  @Override
+  public @Nullable Address reverseGeocode(@NotNull Coordinates coordinates) {
+
+    Assert.notNull(coordinates, "Coordinates to reverse geocode are required");
+
+    List<SpatialIndex.Match<Address>> matches = this.addressIndex.findNearest(coordinates, 1, getMaximumDistance());
+
+    return matches.isEmpty() ? null : Address.from(matches.get(0).getElement());
+  }
+
+  /**
+   * Finds the {@literal ZIP code} with the centroid nearest to the given {@link Coordinates}.
+   *
+   * @param coordinates {@link Coordinates} at the center of the search.
+   * @return an {@link Optional} {@link ZipCodeReference} with the centroid nearest to the given {@link Coordinates},
+   * or {@link Optional#empty()} if the {@link Coordinates} are {@literal null} or no {@literal ZIP codes}
+   * are available.
+   * @see org.cp.domain.geo.model.usa.support.ZipCodeReferenceRepository.ZipCodeReference
+   */
+  @NullSafe
+  public Optional<ZipCodeReference> findNearestZipCode(@Nullable Coordinates coordinates) {
+
+    return coordinates != null
+      ? this.zipCodeIndex.findNearest(coordinates).map(match -> match.getElement().getZipCode())
+      : Optional.empty();
+  }
+
+  /**
+   * {@link Locatable} adapter for the centroid of a {@link ZipCodeReference} indexed in a {@link SpatialIndex}.
+   */
+  private static final class ZipCodeCentroid implements Locatable<ZipCodeCentroid> {
+
+    private final Coordinates coordinates;
+
+    private final ZipCodeReference zipCode;
+
+    private ZipCodeCentroid(@NotNull ZipCodeReference zipCode) {
+      this.zipCode = zipCode;
+      this.coordinates = zipCode.getCoordinates();
+    }
+
+    @Override
+    public Optional<Coordinates> getCoordinates() {
+      return Optional.of(this.coordinates);
+    }
+
+    @NotNull ZipCodeReference getZipCode() {
+      return this.zipCode;
+    }
+  }
+}
@@ -0,0 +1,719 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.service.provider;
+
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalArgumentException;
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalStateException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import org.cp.domain.geo.model.Address;
+import org.cp.domain.geo.model.Coordinates;
+import org.cp.domain.geo.model.Distance;
+import org.cp.domain.geo.model.Elevation;
+import org.cp.domain.geo.service.spi.GeocodingService;
+import org.cp.domain.geo.service.support.CircuitBreaker;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.ObjectUtils;
+import org.cp.elements.lang.annotation.Dsl;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * Composite {@link GeocodingService} routing each request to the best of several {@link GeocodingService providers}.
+ * <p>
+ * Providers are ranked by their observed latency, smoothed with an {@literal exponentially weighted moving average},
+ * divided by their observed success rate. Providers that have not been called yet are ranked first.
+ * A request is sent to the highest ranked provider. If no response arrives within the provider's
+ * {@literal 95th percentile} latency, a single {@literal hedged} request is sent to the next ranked provider
+ * and the first successful response wins. The losing request is interrupted and the time it took so far is
+ * recorded as the provider's latency. When a request fails, or a provider answers {@literal null},
+ * the request is sent to the next ranked provider. A {@literal null} answer lowers the provider's rank,
+ * but does not count against its circuit. {@literal null} is returned only if no provider answered.
+ * <p>
+ * Requests are sent on the {@link Executor} configured with {@link Builder#withExecutor(Executor)}. By default,
+ * requests are sent on a shared, cached pool of {@literal daemon} {@link Thread Threads}.
+ * <p>
+ * Each provider is guarded by a {@link CircuitBreaker}. Providers with an open circuit are skipped.
+ * <p>
+ * All {@link GeocodingService GeocodingServices} registered with the {@link ServiceLoader}
+ * are routed by a {@link RoutingGeocodingService} constructed with {@link #ofRegisteredProviders()}.
+ *
+ * @author John Blum
+ * @see org.cp.domain.geo.service.spi.GeocodingService
+ * @see org.cp.domain.geo.service.support.CircuitBreaker
+ * @since 0.4.0
+ */
+@ThreadSafe
+public class RoutingGeocodingService implements GeocodingService {
+
+  public static final Duration DEFAULT_HEDGE_DELAY = Duration.ofMillis(500);
+
+  protected static final double HEDGE_PERCENTILE = 0.95d;
+  protected static final double SMOOTHING_FACTOR = 0.2d;
+
+  protected static final int LATENCY_SAMPLE_SIZE = 256;
+  protected static final int MINIMUM_LATENCY_SAMPLES = 20;
+
+  private static final int PERCENTILE_REFRESH_INTERVAL = 16;
+
+  private static volatile Executor defaultExecutor;
+
+  /**
+   * Returns the {@link Executor} used by {@link RoutingGeocodingService RoutingGeocodingServices}
+   * that were not configured with an {@link Executor}, creating it on first use.
+   * <p>
+   * The {@link Executor} is a cached pool of {@literal daemon} {@link Thread Threads}, which is never shut down.
+   *
+   * @return the default {@link Executor}.
+   */
+  protected static @NotNull Executor getDefaultExecutor() {
+
+    Executor executor = defaultExecutor;
+
+    if (executor == null) {
+      synchronized (RoutingGeocodingService.class) {
+        executor = defaultExecutor;
+        if (executor == null) {
+          executor = Executors.newCachedThreadPool(newThreadFactory());
+          defaultExecutor = executor;
+        }
+      }
+    }
+
+    return executor;
+  }
+
+  private static @NotNull ThreadFactory newThreadFactory() {
+
+    AtomicInteger threadCount = new AtomicInteger();
+
+    return runnable -> {
+      Thread thread = new Thread(runnable, "routing-geocoding-service-request-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * Factory method used to construct a new {@link RoutingGeocodingService} routing requests to
+   * the given {@link GeocodingService GeocodingServices} using the default configuration.
+   *
+   * @param geocodingServices array of {@link GeocodingService GeocodingServices} to route requests to;
+   * must not be {@literal null} or {@literal empty}.
+   * @return a new {@link RoutingGeocodingService}.
+   * @throws IllegalArgumentException if no {@link GeocodingService GeocodingServices} are given.
+   * @see #builder(Iterable)
+   */
+  public static @NotNull RoutingGeocodingService of(@NotNull GeocodingService... geocodingServices) {
+    return builder(Arrays.asList(ObjectUtils.requireObject(geocodingServices,
+      "GeocodingServices are required"))).build();
+  }
+
+  /**
+   * Factory method used to construct a new {@link RoutingGeocodingService} routing requests to all
+   * {@link GeocodingService GeocodingServices} registered with the {@link ServiceLoader}
+   * using the default configuration.
+   *
+   * @return a new {@link RoutingGeocodingService}.
+   * @throws IllegalArgumentException if no {@link GeocodingService GeocodingServices} are registered.
+   * @see java.util.ServiceLoader
+   */
+  public static @NotNull RoutingGeocodingService ofRegisteredProviders() {
+
+    List<GeocodingService> geocodingServices = ServiceLoader.load(GeocodingService.class).stream()
+      .filter(provider -> !RoutingGeocodingService.class.isAssignableFrom(provider.type()))
+      .map(ServiceLoader.Provider::get)
+      .toList();
+
+    return builder(geocodingServices).build();
+  }
+
+  /**
+   * Factory method used to construct a new {@link Builder} used to configure a {@link RoutingGeocodingService}
+   * routing requests to the given {@link GeocodingService GeocodingServices}.
+   *
+   * @param geocodingServices {@link Iterable} of {@link GeocodingService GeocodingServices} to route requests to;
+   * must not be {@literal null} or {@literal empty}.
+   * @return a new {@link Builder}.
+   * @throws IllegalArgumentException if no {@link GeocodingService GeocodingServices} are given
+   * or any {@link GeocodingService} is {@literal null}.
+   */
+  public static @NotNull Builder builder(@NotNull Iterable<? extends GeocodingService> geocodingServices) {
+    return new Builder(geocodingServices);
+  }
+
+  private final Executor executor;
+
+  private final long defaultHedgeDelay;
+
+  private final List<Backend> backends;
+
+  /**
+   * Constructs a new {@link RoutingGeocodingService} from the given, required {@link Builder}.
+   *
+   * @param builder {@link Builder} containing the configuration.
+   */
+  protected RoutingGeocodingService(@NotNull Builder builder) {
+
+    this.defaultHedgeDelay = builder.defaultHedgeDelay.toNanos();
+    this.executor = builder.executor != null ? builder.executor : getDefaultExecutor();
+    this.backends = builder.geocodingServices.stream()
+      .map(geocodingService -> new Backend(geocodingService,
+        CircuitBreaker.of(builder.failureThreshold, builder.openDuration)))
+      .toList();
+  }
+
+  /**
+   * Gets the {@link CircuitBreaker} guarding the given {@link GeocodingService}.
+   *
+   * @param geocodingService {@link GeocodingService} routed by this {@link RoutingGeocodingService}.
+   * @return the {@link CircuitBreaker} guarding the given {@link GeocodingService}.
+   * @throws IllegalArgumentException if the {@link GeocodingService} is not routed by
+   * this {@link RoutingGeocodingService}.
+   * @see org.cp.domain.geo.service.support.CircuitBreaker
+   */
+  public @NotNull CircuitBreaker getCircuitBreaker(@NotNull GeocodingService geocodingService) {
+
+    return this.backends.stream()
+      .filter(backend -> backend.getGeocodingService() == geocodingService)
+      .findFirst()
+      .map(Backend::getCircuitBreaker)
+      .orElseThrow(() -> newIllegalArgumentException("GeocodingService [%s] is not routed", geocodingService));
+  }
+
+  /**
+   * Gets the {@link Executor} on which requests are sent to the {@link GeocodingService GeocodingServices}.
+   *
+   * @return the {@link Executor} on which requests are sent.
+   * @see java.util.concurrent.Executor
+   */
+  public @NotNull Executor getExecutor() {
+    return this.executor;
+  }
+
+  /**
+   * Gets the {@link GeocodingService GeocodingServices} routed by this {@link RoutingGeocodingService}
+   * in their current rank order.
+   *
+   * @return the {@link GeocodingService GeocodingServices} in their current rank order.
+   */
+  public @NotNull List<GeocodingService> getGeocodingServices() {
+    return rank().stream().map(Backend::getGeocodingService).toList();
+  }
+
+  @Override
+  public Distance distanceBetween(Coordinates origin, Coordinates destination) {
+    return route(geocodingService -> geocodingService.distanceBetween(origin, destination));
+  }
+
+  @Override
+  public Elevation elevationAt(Coordinates target) {
+    return route(geocodingService -> geocodingService.elevationAt(target));
+  }
+
+  @Override
+  public Coordinates geocode(Address address) {
+    return route(geocodingService -> geocodingService.geocode(address));
+  }
+
+  @Override
+  public Address reverseGeocode(Coordinates coordinates) {
+    return route(geocodingService -> geocodingService.reverseGeocode(coordinates));
+  }
+
+  private @NotNull List<Backend> rank() {
+
+    return this.backends.stream()
+      .map(backend -> new Ranking(backend, backend.getScore()))
+      .sorted(Comparator.comparingDouble(Ranking::score))
+      .map(Ranking::backend)
+      .toList();
+  }
+
+  /**
+   * Routes a request to the {@link GeocodingService GeocodingServices}, hedging and failing over as necessary.
+   *
+   * @param <T> {@link Class type} of the result.
+   * @param request {@link Function} applying the request to a {@link GeocodingService}.
+   * @return the first {@literal non-null} result, or {@literal null} if no {@link GeocodingService}
+   * had an answer.
+   * @throws IllegalStateException if all {@link GeocodingService GeocodingServices} are unavailable.
+   * @throws RuntimeException if all attempts failed.
+   */
+  protected <T> T route(@NotNull Function<GeocodingService, T> request) {
+
+    Iterator<Backend> candidates = rank().iterator();
+    BlockingQueue<Attempt<T>> completions = new LinkedBlockingQueue<>();
+    List<Attempt<T>> running = new ArrayList<>(2);
+    RuntimeException failure = null;
+
+    boolean missed = false;
+
+    Attempt<T> attempt = start(candidates, request, completions);
+
+    if (attempt == null) {
+      throw newIllegalStateException("No GeocodingService is available");
+    }
+
+    running.add(attempt);
+
+    boolean hedged = false;
+    long hedgeAt = System.nanoTime() + attempt.getBackend().getHedgeDelay(this.defaultHedgeDelay);
+
+    try {
+      while (!running.isEmpty()) {
+
+        Attempt<T> completed = hedged
+          ? completions.take()
+          : completions.poll(hedgeAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+
+        if (completed == null) {
+          hedged = true;
+          attempt = start(candidates, request, completions);
+
+          if (attempt != null) {
+            running.add(attempt);
+          }
+        }
+        else {
+          running.remove(completed);
+
+          try {
+            T result = completed.getResult();
+
+            if (result != null) {
+              return result;
+            }
+
+            missed = true;
+          }
+          catch (RuntimeException cause) {
+
+            if (failure == null) {
+              failure = cause;
+            }
+            else {
+              failure.addSuppressed(cause);
+            }
+          }
+
+          if (running.isEmpty()) {
+            attempt = start(candidates, request, completions);
+
+            if (attempt != null) {
+              running.add(attempt);
+              hedgeAt = System.nanoTime() + attempt.getBackend().getHedgeDelay(this.defaultHedgeDelay);
+            }
+          }
+        }
+      }
+
+      if (missed) {
+        return null;
+      }
+
+      throw failure;
+    }
+    catch (InterruptedException cause) {
+      Thread.currentThread().interrupt();
+      throw newIllegalStateException(cause, "Interrupted while routing request");
+    }
+    finally {
+      running.forEach(Attempt::abandon);
+    }
+  }
+
+  private @Nullable <T> Attempt<T> start(@NotNull Iterator<Backend> candidates,
+      @NotNull Function<GeocodingService, T> request, @NotNull BlockingQueue<Attempt<T>> completions) {
+
+    while (candidates.hasNext()) {
+
+      Backend backend = candidates.next();
+
+      if (backend.getCircuitBreaker().tryAcquire()) {
+        return new Attempt<>(backend, request, completions).start(this.executor);
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Builder used to construct and configure a {@link RoutingGeocodingService}.
+   */
+  public static class Builder {
+
+    private Duration defaultHedgeDelay = DEFAULT_HEDGE_DELAY;
+    private Duration openDuration = CircuitBreaker.DEFAULT_OPEN_DURATION;
+
+    private Executor executor;
+
+    private int failureThreshold = CircuitBreaker.DEFAULT_FAILURE_THRESHOLD;
+
+    private final List<GeocodingService> geocodingServices = new ArrayList<>();
+
+    protected Builder(@NotNull Iterable<? extends GeocodingService> geocodingServices) {
+
+      ObjectUtils.requireObject(geocodingServices, "GeocodingServices are required")
+        .forEach(geocodingService -> this.geocodingServices.add(ObjectUtils.requireObject(geocodingService,
+          "GeocodingService is required")));
+
+      Assert.isFalse(this.geocodingServices.isEmpty(), "At least one GeocodingService is required");
+    }
+
+    /**
+     * Sets the {@link Duration} after which a request is hedged until enough latencies have been observed
+     * to determine the {@literal 95th percentile} latency of a {@link GeocodingService}.
+     *
+     * @param defaultHedgeDelay {@link Duration} after which a request is hedged; must be positive.
+     * @return this {@link Builder}.
+     * @throws IllegalArgumentException if the {@link Duration hedge delay} is {@literal null} or not positive.
+     */
+    @Dsl
+    public @NotNull Builder withDefaultHedgeDelay(@NotNull Duration defaultHedgeDelay) {
+      Assert.isTrue(defaultHedgeDelay != null && !defaultHedgeDelay.isNegative() && !defaultHedgeDelay.isZero(),
+        "Hedge delay [%s] must be positive", defaultHedgeDelay);
+      this.defaultHedgeDelay = defaultHedgeDelay;
+      return this;
+    }
+
+    /**
+     * Sets the {@link Executor} on which requests are sent to the {@link GeocodingService GeocodingServices}.
+     * <p>
+     * The {@link Executor} must be able to run at least {@literal 2} requests concurrently in order to hedge.
+     * Requests rejected by the {@link Executor} fail over to the next ranked {@link GeocodingService}.
+     * The {@link Executor} is not shut down by the {@link RoutingGeocodingService}.
+     *
+     * @param executor {@link Executor} on which requests are sent; {@literal null} to use the default.
+     * @return this {@link Builder}.
+     * @see java.util.concurrent.Executor
+     */
+    @Dsl
+    public @NotNull Builder withExecutor(@Nullable Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Sets the {@link Integer number} of consecutive failures that opens the circuit of a {@link GeocodingService}.
+     *
+     * @param failureThreshold {@link Integer number} of consecutive failures that opens the circuit;
+     * must be greater than {@literal 0}.
+     * @return this {@link Builder}.
+     * @throws IllegalArgumentException if the failure threshold is less than {@literal 1}.
+     */
+    @Dsl
+    public @NotNull Builder withFailureThreshold(int failureThreshold) {
+      Assert.isTrue(failureThreshold > 0, "Failure threshold [%s] must be greater than 0", failureThreshold);
+      this.failureThreshold = failureThreshold;
+      return this;
+    }
+
+    /**
+     * Sets the {@link Duration} the circuit of a failing {@link GeocodingService} stays open.
+     *
+     * @param openDuration {@link Duration} the circuit stays open; must be positive.
+     * @return this {@link Builder}.
+     * @throws IllegalArgumentException if the {@link Duration open duration} is {@literal null} or not positive.
+     */
+    @Dsl
+    public @NotNull Builder withOpenDuration(@NotNull Duration openDuration) {
+      Assert.isTrue(openDuration != null && !openDuration.isNegative() && !openDuration.isZero(),
+        "Open duration [%s] must be positive", openDuration);
+      this.openDuration = openDuration;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link RoutingGeocodingService} from this {@link Builder Builder's} configuration.
+     *
+     * @return a new {@link RoutingGeocodingService}.
+     */
+    @Dsl
+    public @NotNull RoutingGeocodingService build() {
+      return new RoutingGeocodingService(this);
+    }
+  }
+
+  private record Ranking(Backend backend, double score) { }
+
+  /**
+   * {@link GeocodingService} routed by this {@link RoutingGeocodingService} along with its {@link CircuitBreaker}
+   * and observed latency and error rate.
+   */
+  static final class Backend {
+
+    private final CircuitBreaker circuitBreaker;
+
+    private double averageLatency;
+    private double errorRate;
+
+    private final GeocodingService geocodingService;
+
+    private int refreshCountdown;
+    private int sampleCount;
+    private int sampleIndex;
+
+    private final long[] latencies = new long[LATENCY_SAMPLE_SIZE];
+
+    private long percentileLatency;
+
+    private boolean observed;
+
+    Backend(@NotNull GeocodingService geocodingService, @NotNull CircuitBreaker circuitBreaker) {
+      this.geocodingService = geocodingService;
+      this.circuitBreaker = circuitBreaker;
+    }
+
+    @NotNull CircuitBreaker getCircuitBreaker() {
+      return this.circuitBreaker;
+    }
+
+    @NotNull GeocodingService getGeocodingService() {
+      return this.geocodingService;
+    }
+
+    /**
+     * Returns the {@literal 95th percentile} latency in nanoseconds, or the given default if not enough latencies
+     * have been observed.
+     */
+    synchronized long getHedgeDelay(long defaultHedgeDelay) {
+
+      if (this.sampleCount < MINIMUM_LATENCY_SAMPLES) {
+        return defaultHedgeDelay;
+      }
+
+      if (this.refreshCountdown <= 0) {
+
+        long[] samples = Arrays.copyOf(this.latencies, this.sampleCount);
+
+        Arrays.sort(samples);
+
+        this.percentileLatency = samples[(int) Math.ceil(HEDGE_PERCENTILE * samples.length) - 1];
+        this.refreshCountdown = PERCENTILE_REFRESH_INTERVAL;
+      }
+
+      return Math.max(this.percentileLatency, 1L);
+    }
+
+    /**
+     * Returns the expected latency of a successful call in nanoseconds; lower is better.
+     */
+    synchronized double getScore() {
+      return this.observed ? (this.averageLatency + 1.0d) / Math.max(1.0d - this.errorRate, 0.01d) : 0.0d;
+    }
+
+    <T> T call(@NotNull Function<GeocodingService, T> request, @NotNull BooleanSupplier abandoned) {
+
+      long startTime = System.nanoTime();
+
+      boolean completed = false;
+
+      try {
+        T result = request.apply(getGeocodingService());
+        long latency = System.nanoTime() - startTime;
+
+        // A null answer is a miss; it ranks the GeocodingService lower, but the GeocodingService is available
+        if (result != null) {
+          recordSuccess(latency);
+        }
+        else {
+          recordFailure(latency);
+        }
+
+        getCircuitBreaker().onSuccess();
+        completed = true;
+
+        return result;
+      }
+      finally {
+        // Report any Throwable, including Errors, so that the trial call of a half-open circuit is always settled
+        if (!completed) {
+          if (abandoned.getAsBoolean()) {
+            getCircuitBreaker().release();
+          }
+          else {
+            recordFailure(System.nanoTime() - startTime);
+            getCircuitBreaker().onFailure();
+          }
+        }
+      }
+    }
+
+    synchronized void recordFailure(long latency) {
+      this.averageLatency = this.observed ? smooth(this.averageLatency, latency) : latency;
+      this.errorRate = this.observed ? smooth(this.errorRate, 1.0d) : 1.0d;
+      this.observed = true;
+    }
+
+    /**
+     * Records the latency of an abandoned call, which is a lower bound of the latency of the call.
+     * <p>
+     * The latency is not sampled for the hedge delay since the truncated latency would lower the percentile.
+     */
+    synchronized void recordLatency(long latency) {
+      this.averageLatency = this.observed ? smooth(this.averageLatency, latency) : latency;
+      this.observed = true;
+    }
+
+    synchronized void recordSuccess(long latency) {
+      this.averageLatency = this.observed ? smooth(this.averageLatency, latency) : latency;
+      this.errorRate = this.observed ? smooth(this.errorRate, 0.0d) : 0.0d;
+      this.observed = true;
+      recordSample(latency);
+    }
+
+    private void recordSample(long latency) {
+      this.latencies[this.sampleIndex] = latency;
+      this.sampleIndex = (this.sampleIndex + 1) % LATENCY_SAMPLE_SIZE;
+      this.sampleCount = Math.min(this.sampleCount + 1, LATENCY_SAMPLE_SIZE);
+      this.refreshCountdown--;
+    }
+
+    private static double smooth(double average, double value) {
+      return average + SMOOTHING_FACTOR * (value - average);
+    }
+  }
+
+  /**
+   * Request sent to a single {@link Backend} on the configured {@link Executor}.
+   * <p>
+   * The {@link CircuitBreaker} of the {@link Backend} is settled exactly once: by the {@link Backend#call call},
+   * or by {@link #abandon()} or {@link #start(Executor)} if the {@link Backend} was never called.
+   *
+   * @param <T> {@link Class type} of the result.
+   */
+  static final class Attempt<T> {
+
+    private final AtomicBoolean called = new AtomicBoolean(false);
+
+    private final Backend backend;
+
+    private final Task task;
+
+    private volatile boolean abandoned;
+
+    private long startTime;
+
+    Attempt(@NotNull Backend backend, @NotNull Function<GeocodingService, T> request,
+        @NotNull BlockingQueue<Attempt<T>> completions) {
+
+      this.backend = backend;
+      this.task = new Task(() -> {
+
+        if (!this.called.compareAndSet(false, true)) {
+          throw new CancellationException("Request was abandoned before the GeocodingService was called");
+        }
+
+        return backend.call(request, () -> this.abandoned);
+      }, completions);
+    }
+
+    @NotNull Backend getBackend() {
+      return this.backend;
+    }
+
+    T getResult() {
+
+      try {
+        return this.task.get();
+      }
+      catch (ExecutionException cause) {
+        throw cause.getCause() instanceof RuntimeException runtimeException ? runtimeException
+          : newIllegalStateException(cause.getCause(), "Failed to route request");
+      }
+      catch (InterruptedException cause) {
+        Thread.currentThread().interrupt();
+        throw newIllegalStateException(cause, "Interrupted while routing request");
+      }
+    }
+
+    void abandon() {
+
+      this.abandoned = true;
+
+      if (this.task.cancel(true)) {
+        getBackend().recordLatency(System.nanoTime() - this.startTime);
+      }
+
+      // A running call settles the CircuitBreaker when it returns; a call that never started must be settled here
+      if (this.called.compareAndSet(false, true)) {
+        getBackend().getCircuitBreaker().release();
+      }
+    }
+
+    @NotNull Attempt<T> start(@NotNull Executor executor) {
+
+      this.startTime = System.nanoTime();
+
+      try {
+        executor.execute(this.task);
+      }
+      catch (RejectedExecutionException cause) {
+
+        if (this.called.compareAndSet(false, true)) {
+          getBackend().getCircuitBreaker().release();
+        }
+
+        this.task.reject(cause);
+      }
+
+      return this;
+    }
+
+    private final class Task extends FutureTask<T> {
+
+      private final BlockingQueue<Attempt<T>> completions;
+
+      private Task(@NotNull Callable<T> callable, @NotNull BlockingQueue<Attempt<T>> completions) {
+        super(callable);
+        this.completions = completions;
+      }
+
+      @Override
+      protected void done() {
+        this.completions.add(Attempt.this);
+      }
+
+      void reject(@NotNull RejectedExecutionException cause) {
+        setException(cause);
+      }
+    }
+  }
+}
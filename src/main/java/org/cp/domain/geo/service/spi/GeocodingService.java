@@ -15,12 +15,16 @@
  */
 package org.cp.domain.geo.service.spi;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.cp.domain.geo.model.Address;
 import org.cp.domain.geo.model.Coordinates;
 import org.cp.domain.geo.model.Distance;
 import org.cp.domain.geo.model.Elevation;
+import org.cp.domain.geo.service.support.BatchGeocoder;
 import org.cp.elements.lang.annotation.NotNull;
 import org.cp.elements.service.annotation.Service;
 import org.cp.elements.service.loader.ServiceLoaderSupport;
@@ -34,6 +38,7 @@ import org.cp.elements.service.loader.ServiceLoaderSupport;
  * @see org.cp.domain.geo.model.Address
  * @see org.cp.domain.geo.model.Distance
  * @see org.cp.domain.geo.model.Coordinates
+ * @see org.cp.domain.geo.service.support.BatchGeocoder
  * @see org.cp.elements.service.annotation.Service
  * @see org.cp.elements.service.loader.ServiceLoaderSupport
  * @since 0.1.0
@@ -91,6 +96,26 @@ public interface GeocodingService {
    */
   Coordinates geocode(Address address);
 
+  /**
+   * Asynchronously computes the geographic {@link Coordinates} of each of the given {@link Address Addresses}.
+   * <p>
+   * Uses a {@link BatchGeocoder} with the default configuration. Use a {@link BatchGeocoder} directly
+   * to limit concurrency, rate or timeouts for a provider's quota.
+   *
+   * @param addresses {@link Collection} of {@link Address Addresses} to geocode; must not be {@literal null}.
+   * @return a {@link CompletableFuture} completing with a {@link BatchGeocoder.Result} for each of
+   * the given {@link Address Addresses}, in the same order.
+   * @throws IllegalArgumentException if the {@link Collection} is {@literal null}.
+   * @see org.cp.domain.geo.service.support.BatchGeocoder#geocodeAll(Collection)
+   * @see #geocode(Address)
+   * @since 0.4.0
+   */
+  default CompletableFuture<List<BatchGeocoder.Result<Address, Coordinates>>> geocodeAll(
+      @NotNull Collection<? extends Address> addresses) {
+
+    return BatchGeocoder.of(this).geocodeAll(addresses);
+  }
+
   /**
    * Computes an {@link Address} from the given geographic {@link Coordinates}.
    *
@@ -101,6 +126,26 @@ public interface GeocodingService {
    */
   Address reverseGeocode(Coordinates coordinates);
 
+  /**
+   * Asynchronously computes an {@link Address} from each of the given geographic {@link Coordinates}.
+   * <p>
+   * Uses a {@link BatchGeocoder} with the default configuration. Use a {@link BatchGeocoder} directly
+   * to limit concurrency, rate or timeouts for a provider's quota.
+   *
+   * @param coordinates {@link Collection} of {@link Coordinates} to reverse geocode; must not be {@literal null}.
+   * @return a {@link CompletableFuture} completing with a {@link BatchGeocoder.Result} for each of
+   * the given {@link Coordinates}, in the same order.
+   * @throws IllegalArgumentException if the {@link Collection} is {@literal null}.
+   * @see org.cp.domain.geo.service.support.BatchGeocoder#reverseGeocodeAll(Collection)
+   * @see #reverseGeocode(Coordinates)
+   * @since 0.4.0
+   */
+  default CompletableFuture<List<BatchGeocoder.Result<Coordinates, Address>>> reverseGeocodeAll(
+      @NotNull Collection<? extends Coordinates> coordinates) {
+
+    return BatchGeocoder.of(this).reverseGeocodeAll(coordinates);
+  }
+
   /**
    * Elements {@link ServiceLoaderSupport} implementation used to locate and load {@link GeocodingService} provider
    * implementations, such as {@literal Google Maps}.
@@ -0,0 +1,703 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.service.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.cp.domain.geo.model.Address;
+import org.cp.domain.geo.model.Coordinates;
+import org.cp.domain.geo.model.Elevation;
+import org.cp.domain.geo.service.spi.GeocodingService;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.ObjectUtils;
+import org.cp.elements.lang.annotation.Dsl;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * Geocodes batches of {@link Address Addresses} and {@link Coordinates} asynchronously using a {@link GeocodingService}.
+ * <p>
+ * Items in a batch are processed on the {@link Builder#withExecutor(Executor) configured} {@link Executor} or,
+ * by default, on a thread pool created for each batch with one thread per concurrent call. Threads created by
+ * the {@link BatchGeocoder} come from the {@link Builder#withThreadFactory(ThreadFactory) configured}
+ * {@link ThreadFactory}, which, on Java 21 or later, may create {@literal virtual threads}.
+ * <p>
+ * The number of concurrent calls to the {@link GeocodingService} is limited by
+ * the {@link Builder#withMaximumConcurrency(int) maximum concurrency}, and the rate of calls can be limited with
+ * a {@link RateLimiter}. Calls that do not complete within the {@link Builder#withTimeout(Duration) timeout}
+ * are interrupted.
+ * <p>
+ * A batch always completes with a {@link Result} for every item, in the same order as the items, even when
+ * individual calls fail or time out.
+ *
+ * @author John Blum
+ * @see org.cp.domain.geo.service.spi.GeocodingService
+ * @see org.cp.domain.geo.service.support.RateLimiter
+ * @since 0.4.0
+ */
+@ThreadSafe
+public class BatchGeocoder {
+
+  public static final int DEFAULT_MAXIMUM_CONCURRENCY = 64;
+
+  public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+  protected static final ThreadFactory DEFAULT_THREAD_FACTORY = newThreadFactory();
+
+  /**
+   * Factory method used to construct a new {@link BatchGeocoder} for the given, required {@link GeocodingService}
+   * using the {@link #DEFAULT_MAXIMUM_CONCURRENCY} and {@link #DEFAULT_TIMEOUT} without a {@link RateLimiter}.
+   *
+   * @param geocodingService {@link GeocodingService} used to geocode each item; must not be {@literal null}.
+   * @return a new {@link BatchGeocoder}.
+   * @throws IllegalArgumentException if the {@link GeocodingService} is {@literal null}.
+   * @see #builder(GeocodingService)
+   */
+  public static @NotNull BatchGeocoder of(@NotNull GeocodingService geocodingService) {
+    return builder(geocodingService).build();
+  }
+
+  /**
+   * Factory method used to construct a new {@link Builder} for a {@link BatchGeocoder} using the given,
+   * required {@link GeocodingService}.
+   *
+   * @param geocodingService {@link GeocodingService} used to geocode each item; must not be {@literal null}.
+   * @return a new {@link Builder}.
+   * @throws IllegalArgumentException if the {@link GeocodingService} is {@literal null}.
+   * @see BatchGeocoder.Builder
+   */
+  public static @NotNull Builder builder(@NotNull GeocodingService geocodingService) {
+    return new Builder(geocodingService);
+  }
+
+  private static @NotNull ThreadFactory newThreadFactory() {
+
+    AtomicInteger threadCount = new AtomicInteger();
+
+    return runnable -> {
+
+      Thread thread = new Thread(runnable, "batch-geocoder-" + threadCount.incrementAndGet());
+
+      thread.setDaemon(true);
+
+      return thread;
+    };
+  }
+
+  private final Duration timeout;
+
+  private final Executor executor;
+
+  private final GeocodingService geocodingService;
+
+  private final int maximumConcurrency;
+
+  private final RateLimiter rateLimiter;
+
+  private final ThreadFactory threadFactory;
+
+  private BatchGeocoder(@NotNull Builder builder) {
+
+    this.executor = builder.executor;
+    this.geocodingService = builder.geocodingService;
+    this.maximumConcurrency = builder.maximumConcurrency;
+    this.rateLimiter = builder.rateLimiter;
+    this.threadFactory = builder.threadFactory;
+    this.timeout = builder.timeout;
+  }
+
+  /**
+   * Gets the {@link Executor} used to call the {@link GeocodingService}.
+   *
+   * @return an {@link Optional} {@link Executor}; {@link Optional#empty()} if a thread pool is created
+   * for each batch.
+   */
+  public Optional<Executor> getExecutor() {
+    return Optional.ofNullable(this.executor);
+  }
+
+  /**
+   * Gets the {@link GeocodingService} used to geocode each item.
+   *
+   * @return the {@link GeocodingService} used to geocode each item.
+   */
+  public @NotNull GeocodingService getGeocodingService() {
+    return this.geocodingService;
+  }
+
+  /**
+   * Returns the {@link Integer maximum number} of concurrent calls to the {@link GeocodingService}.
+   *
+   * @return the {@link Integer maximum number} of concurrent calls to the {@link GeocodingService}.
+   */
+  public int getMaximumConcurrency() {
+    return this.maximumConcurrency;
+  }
+
+  /**
+   * Gets the {@link RateLimiter} limiting the rate of calls to the {@link GeocodingService}.
+   *
+   * @return an {@link Optional} {@link RateLimiter}.
+   */
+  public Optional<RateLimiter> getRateLimiter() {
+    return Optional.ofNullable(this.rateLimiter);
+  }
+
+  /**
+   * Gets the {@link ThreadFactory} used to create the threads processing a batch.
+   *
+   * @return the {@link ThreadFactory} used to create the threads processing a batch.
+   */
+  public @NotNull ThreadFactory getThreadFactory() {
+    return this.threadFactory;
+  }
+
+  /**
+   * Gets the {@link Duration} after which a call to the {@link GeocodingService} is interrupted.
+   *
+   * @return an {@link Optional} {@link Duration} after which a call is interrupted;
+   * {@link Optional#empty()} if calls do not time out.
+   */
+  public Optional<Duration> getTimeout() {
+    return Optional.ofNullable(this.timeout);
+  }
+
+  /**
+   * Computes the {@link Elevation} at each of the given {@link Coordinates}.
+   *
+   * @param coordinates {@link Collection} of {@link Coordinates}; must not be {@literal null}.
+   * @return a {@link CompletableFuture} completing with a {@link Result} for each of the given {@link Coordinates},
+   * in the same order.
+   * @throws IllegalArgumentException if the {@link Collection} is {@literal null}.
+   * @see GeocodingService#elevationAt(Coordinates)
+   */
+  public @NotNull CompletableFuture<List<Result<Coordinates, Elevation>>> elevationAtAll(
+      @NotNull Collection<? extends Coordinates> coordinates) {
+
+    return executeAll(coordinates, getGeocodingService()::elevationAt);
+  }
+
+  /**
+   * Geocodes each of the given {@link Address Addresses}.
+   *
+   * @param addresses {@link Collection} of {@link Address Addresses}; must not be {@literal null}.
+   * @return a {@link CompletableFuture} completing with a {@link Result} for each of the given
+   * {@link Address Addresses}, in the same order.
+   * @throws IllegalArgumentException if the {@link Collection} is {@literal null}.
+   * @see GeocodingService#geocode(Address)
+   */
+  public @NotNull CompletableFuture<List<Result<Address, Coordinates>>> geocodeAll(
+      @NotNull Collection<? extends Address> addresses) {
+
+    return executeAll(addresses, getGeocodingService()::geocode);
+  }
+
+  /**
+   * Reverse geocodes each of the given {@link Coordinates}.
+   *
+   * @param coordinates {@link Collection} of {@link Coordinates}; must not be {@literal null}.
+   * @return a {@link CompletableFuture} completing with a {@link Result} for each of the given {@link Coordinates},
+   * in the same order.
+   * @throws IllegalArgumentException if the {@link Collection} is {@literal null}.
+   * @see GeocodingService#reverseGeocode(Coordinates)
+   */
+  public @NotNull CompletableFuture<List<Result<Coordinates, Address>>> reverseGeocodeAll(
+      @NotNull Collection<? extends Coordinates> coordinates) {
+
+    return executeAll(coordinates, getGeocodingService()::reverseGeocode);
+  }
+
+  private @NotNull <I, O> CompletableFuture<List<Result<I, O>>> executeAll(@NotNull Collection<? extends I> inputs,
+      @NotNull Function<I, O> function) {
+
+    Assert.notNull(inputs, "Collection of inputs is required");
+
+    Batch<I, O> batch = new Batch<>(new ArrayList<>(inputs), function);
+
+    CompletableFuture<List<Result<I, O>>> future = new CompletableFuture<>();
+
+    Thread dispatcher = getThreadFactory().newThread(() -> {
+
+      try {
+        batch.execute();
+      }
+      catch (InterruptedException cause) {
+        future.completeExceptionally(cause);
+        Thread.currentThread().interrupt();
+      }
+      catch (RuntimeException cause) {
+        future.completeExceptionally(cause);
+      }
+
+      future.complete(batch.getResults());
+    });
+
+    future.whenComplete((result, cause) -> {
+      if (cause instanceof CancellationException) {
+        dispatcher.interrupt();
+      }
+    });
+
+    dispatcher.start();
+
+    return future;
+  }
+
+  /**
+   * Batch of inputs dispatched to the {@link Executor} as {@link Call Calls}, limited by
+   * the {@link #getMaximumConcurrency() maximum concurrency} and the {@link RateLimiter}.
+   *
+   * @param <I> {@link Class type} of the input.
+   * @param <O> {@link Class type} of the output.
+   */
+  private final class Batch<I, O> {
+
+    private final CountDownLatch completed;
+
+    private final Call<I, O>[] calls;
+
+    private final Function<I, O> function;
+
+    private final List<I> inputs;
+
+    private final Result<I, O>[] results;
+
+    private final Semaphore permits;
+
+    @SuppressWarnings("unchecked")
+    private Batch(@NotNull List<I> inputs, @NotNull Function<I, O> function) {
+
+      this.calls = new Call[inputs.size()];
+      this.completed = new CountDownLatch(inputs.size());
+      this.function = function;
+      this.inputs = inputs;
+      this.permits = new Semaphore(getMaximumConcurrency());
+      this.results = new Result[inputs.size()];
+    }
+
+    @NotNull List<Result<I, O>> getResults() {
+      return Collections.unmodifiableList(Arrays.asList(this.results));
+    }
+
+    void execute() throws InterruptedException {
+
+      ExecutorService threadPool = executor == null
+        ? Executors.newFixedThreadPool(getMaximumConcurrency(), getThreadFactory())
+        : null;
+
+      ScheduledExecutorService timer = timeout != null
+        ? Executors.newSingleThreadScheduledExecutor(getThreadFactory())
+        : null;
+
+      try {
+        dispatch(threadPool != null ? threadPool : executor, timer);
+        this.completed.await();
+      }
+      catch (InterruptedException cause) {
+
+        for (Call<I, O> call : this.calls) {
+          if (call != null) {
+            call.cancel(true);
+          }
+        }
+
+        throw cause;
+      }
+      finally {
+        if (timer != null) {
+          timer.shutdownNow();
+        }
+        if (threadPool != null) {
+          close(threadPool);
+        }
+      }
+    }
+
+    private void dispatch(@NotNull Executor executor, @Nullable ScheduledExecutorService timer)
+        throws InterruptedException {
+
+      for (int index = 0; index < this.calls.length; index++) {
+
+        this.permits.acquire();
+
+        if (rateLimiter != null) {
+          rateLimiter.acquire();
+        }
+
+        Call<I, O> call = new Call<>(this, index, timer);
+
+        this.calls[index] = call;
+
+        try {
+          executor.execute(call);
+        }
+        catch (RejectedExecutionException cause) {
+          call.reject(cause);
+        }
+      }
+    }
+
+    private void close(@NotNull ExecutorService threadPool) {
+
+      threadPool.shutdown();
+
+      try {
+        // Calls that timed out and ignore interrupts are given one more timeout to finish; the threads are daemons
+        if (!threadPool.awaitTermination(timeout != null ? timeout.toNanos() : Long.MAX_VALUE,
+            TimeUnit.NANOSECONDS)) {
+
+          threadPool.shutdownNow();
+        }
+      }
+      catch (InterruptedException cause) {
+        threadPool.shutdownNow();
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    private void complete(int index, @NotNull Result<I, O> result) {
+      this.results[index] = result;
+      this.completed.countDown();
+    }
+  }
+
+  /**
+   * {@link FutureTask} calling the {@link GeocodingService} for a single input in a {@link Batch},
+   * which is interrupted if it does not complete within the {@link #getTimeout() timeout}.
+   * <p>
+   * The {@link Call} holds its {@link Batch} permit until it stops running, even after it has timed out,
+   * so that calls ignoring the interrupt still count towards the {@link #getMaximumConcurrency() maximum concurrency}.
+   *
+   * @param <I> {@link Class type} of the input.
+   * @param <O> {@link Class type} of the output.
+   */
+  private final class Call<I, O> extends FutureTask<O> {
+
+    private final Batch<I, O> batch;
+
+    private final I input;
+
+    private final int index;
+
+    private final AtomicBoolean permitReleased = new AtomicBoolean(false);
+
+    private final ScheduledExecutorService timer;
+
+    private volatile boolean started;
+    private volatile boolean timedOut;
+
+    private volatile ScheduledFuture<?> timeoutFuture;
+
+    private Call(@NotNull Batch<I, O> batch, int index, @Nullable ScheduledExecutorService timer) {
+
+      super(() -> batch.function.apply(batch.inputs.get(index)));
+
+      this.batch = batch;
+      this.index = index;
+      this.input = batch.inputs.get(index);
+      this.timer = timer;
+    }
+
+    @Override
+    public void run() {
+
+      this.started = true;
+
+      try {
+        if (this.timer != null) {
+          try {
+            this.timeoutFuture = this.timer.schedule(this::timeOut, timeout.toNanos(), TimeUnit.NANOSECONDS);
+          }
+          catch (RejectedExecutionException ignore) {
+            // The Batch was cancelled
+          }
+        }
+
+        super.run();
+      }
+      finally {
+        releasePermit();
+      }
+    }
+
+    @Override
+    protected void done() {
+
+      ScheduledFuture<?> timeoutFuture = this.timeoutFuture;
+
+      if (timeoutFuture != null) {
+        timeoutFuture.cancel(false);
+      }
+
+      this.batch.complete(this.index, toResult());
+
+      // A Call that was rejected, or cancelled before it ran, will not release its permit in run()
+      if (!this.started) {
+        releasePermit();
+      }
+    }
+
+    private void releasePermit() {
+
+      if (this.permitReleased.compareAndSet(false, true)) {
+        this.batch.permits.release();
+      }
+    }
+
+    void reject(@NotNull RejectedExecutionException cause) {
+      setException(cause);
+    }
+
+    private void timeOut() {
+      this.timedOut = true;
+      cancel(true);
+    }
+
+    private @NotNull Result<I, O> toResult() {
+
+      try {
+        return Result.success(this.input, get());
+      }
+      catch (CancellationException cause) {
+        return Result.failure(this.input, this.timedOut
+          ? new TimeoutException(String.format("Call timed out after [%s]", timeout))
+          : cause);
+      }
+      catch (ExecutionException cause) {
+        return Result.failure(this.input, cause.getCause() != null ? cause.getCause() : cause);
+      }
+      catch (InterruptedException cause) {
+        Thread.currentThread().interrupt();
+        return Result.failure(this.input, cause);
+      }
+    }
+  }
+
+  /**
+   * Builder used to construct and configure a {@link BatchGeocoder}.
+   */
+  public static class Builder {
+
+    private Duration timeout = DEFAULT_TIMEOUT;
+
+    private Executor executor;
+
+    private final GeocodingService geocodingService;
+
+    private int maximumConcurrency = DEFAULT_MAXIMUM_CONCURRENCY;
+
+    private RateLimiter rateLimiter;
+
+    private ThreadFactory threadFactory = DEFAULT_THREAD_FACTORY;
+
+    protected Builder(@NotNull GeocodingService geocodingService) {
+      this.geocodingService = ObjectUtils.requireObject(geocodingService, "GeocodingService is required");
+    }
+
+    /**
+     * Sets the {@link Executor} used to call the {@link GeocodingService}.
+     * <p>
+     * The {@link Executor} is not shut down by the {@link BatchGeocoder}. By default, a thread pool with
+     * one thread per concurrent call is created for, and shut down after, each batch.
+     *
+     * @param executor {@link Executor} used to call the {@link GeocodingService}; may be {@literal null}.
+     * @return this {@link Builder}.
+     * @see java.util.concurrent.Executor
+     */
+    @Dsl
+    public @NotNull Builder withExecutor(@Nullable Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Sets the {@link Integer maximum number} of concurrent calls to the {@link GeocodingService}.
+     *
+     * @param maximumConcurrency {@link Integer maximum number} of concurrent calls; must be greater than {@literal 0}.
+     * @return this {@link Builder}.
+     * @throws IllegalArgumentException if the maximum concurrency is less than {@literal 1}.
+     */
+    @Dsl
+    public @NotNull Builder withMaximumConcurrency(int maximumConcurrency) {
+      Assert.isTrue(maximumConcurrency > 0, "Maximum concurrency [%s] must be greater than 0", maximumConcurrency);
+      this.maximumConcurrency = maximumConcurrency;
+      return this;
+    }
+
+    /**
+     * Sets the {@link RateLimiter} limiting the rate of calls to the {@link GeocodingService}.
+     *
+     * @param rateLimiter {@link RateLimiter} limiting the rate of calls; may be {@literal null}.
+     * @return this {@link Builder}.
+     * @see org.cp.domain.geo.service.support.RateLimiter
+     */
+    @Dsl
+    public @NotNull Builder withRateLimiter(@Nullable RateLimiter rateLimiter) {
+      this.rateLimiter = rateLimiter;
+      return this;
+    }
+
+    /**
+     * Sets the {@link ThreadFactory} used to create the threads processing a batch, including the threads
+     * of the default thread pool. By default, {@literal daemon} platform threads are created.
+     *
+     * @param threadFactory {@link ThreadFactory} used to create threads; must not be {@literal null}.
+     * @return this {@link Builder}.
+     * @throws IllegalArgumentException if the {@link ThreadFactory} is {@literal null}.
+     * @see java.util.concurrent.ThreadFactory
+     */
+    @Dsl
+    public @NotNull Builder withThreadFactory(@NotNull ThreadFactory threadFactory) {
+      this.threadFactory = ObjectUtils.requireObject(threadFactory, "ThreadFactory is required");
+      return this;
+    }
+
+    /**
+     * Sets the {@link Duration} after which a call to the {@link GeocodingService} is interrupted.
+     *
+     * @param timeout {@link Duration} after which a call is interrupted; {@literal null} if calls do not time out.
+     * @return this {@link Builder}.
+     * @throws IllegalArgumentException if the {@link Duration timeout} is not positive.
+     */
+    @Dsl
+    public @NotNull Builder withTimeout(@Nullable Duration timeout) {
+      Assert.isTrue(timeout == null || (!timeout.isNegative() && !timeout.isZero()),
+        "Timeout [%s] must be positive", timeout);
+      this.timeout = timeout;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link BatchGeocoder} from this {@link Builder Builder's} configuration.
+     *
+     * @return a new {@link BatchGeocoder}.
+     */
+    @Dsl
+    public @NotNull BatchGeocoder build() {
+      return new BatchGeocoder(this);
+    }
+  }
+
+  /**
+   * Result of geocoding a single item in a batch, containing either the output or the failure.
+   *
+   * @param <I> {@link Class type} of the input.
+   * @param <O> {@link Class type} of the output.
+   */
+  public static final class Result<I, O> {
+
+    static @NotNull <I, O> Result<I, O> failure(@Nullable I input, @NotNull Throwable cause) {
+      return new Result<>(input, null, cause);
+    }
+
+    static @NotNull <I, O> Result<I, O> success(@Nullable I input, @Nullable O output) {
+      return new Result<>(input, output, null);
+    }
+
+    private final I input;
+
+    private final O output;
+
+    private final Throwable cause;
+
+    private Result(@Nullable I input, @Nullable O output, @Nullable Throwable cause) {
+      this.input = input;
+      this.output = output;
+      this.cause = cause;
+    }
+
+    /**
+     * Gets the {@link Throwable cause} of the failure.
+     *
+     * @return an {@link Optional} {@link Throwable cause} of the failure, or {@link Optional#empty()}
+     * if the call was successful.
+     */
+    public Optional<Throwable> getCause() {
+      return Optional.ofNullable(this.cause);
+    }
+
+    /**
+     * Gets the input that was geocoded.
+     *
+     * @return the input that was geocoded; may be {@literal null}.
+     */
+    public @Nullable I getInput() {
+      return this.input;
+    }
+
+    /**
+     * Gets the output of the geocoding call.
+     *
+     * @return an {@link Optional} output of the geocoding call, or {@link Optional#empty()} if the call failed
+     * or returned {@literal null}.
+     */
+    public Optional<O> getOutput() {
+      return Optional.ofNullable(this.output);
+    }
+
+    /**
+     * Determines whether the geocoding call failed.
+     *
+     * @return a boolean value indicating whether the geocoding call failed.
+     * @see #isSuccessful()
+     */
+    public boolean isFailure() {
+      return this.cause != null;
+    }
+
+    /**
+     * Determines whether the geocoding call was successful.
+     *
+     * @return a boolean value indicating whether the geocoding call was successful.
+     * @see #isFailure()
+     */
+    public boolean isSuccessful() {
+      return !isFailure();
+    }
+
+    @Override
+    public @NotNull String toString() {
+      return isSuccessful()
+        ? String.format("%s -> %s", this.input, this.output)
+        : String.format("%s -> %s", this.input, this.cause);
+    }
+  }
+}
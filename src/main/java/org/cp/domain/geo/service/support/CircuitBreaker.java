@@ -0,0 +1,231 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.service.support;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * {@literal Circuit breaker} that stops calls to a failing geocoding provider.
+ * <p>
+ * The circuit {@link State#OPEN opens} after a number of consecutive failures and rejects calls until
+ * the {@link #getOpenDuration() open duration} has elapsed. It then lets a single trial call through while
+ * {@link State#HALF_OPEN half-open}. The circuit {@link State#CLOSED closes} if the trial call succeeds
+ * and opens again if it fails.
+ *
+ * @author John Blum
+ * @see org.cp.domain.geo.service.provider.RoutingGeocodingService
+ * @since 0.4.0
+ */
+@ThreadSafe
+public final class CircuitBreaker {
+
+  public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+
+  public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+  /**
+   * Factory method used to construct a new {@link CircuitBreaker} using the {@link #DEFAULT_FAILURE_THRESHOLD}
+   * and {@link #DEFAULT_OPEN_DURATION}.
+   *
+   * @return a new {@link CircuitBreaker}.
+   * @see #of(int, Duration)
+   */
+  public static @NotNull CircuitBreaker newCircuitBreaker() {
+    return of(DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_DURATION);
+  }
+
+  /**
+   * Factory method used to construct a new {@link CircuitBreaker} opening after the given number of consecutive
+   * failures for the given {@link Duration}.
+   *
+   * @param failureThreshold {@link Integer number} of consecutive failures that opens the circuit;
+   * must be greater than {@literal 0}.
+   * @param openDuration {@link Duration} the circuit stays open before allowing a trial call; must be positive.
+   * @return a new {@link CircuitBreaker}.
+   * @throws IllegalArgumentException if the failure threshold is less than {@literal 1}
+   * or the {@link Duration open duration} is {@literal null} or not positive.
+   */
+  public static @NotNull CircuitBreaker of(int failureThreshold, @NotNull Duration openDuration) {
+    return new CircuitBreaker(failureThreshold, openDuration, System::nanoTime);
+  }
+
+  private final Duration openDuration;
+
+  private final int failureThreshold;
+
+  private int consecutiveFailures;
+
+  private final Lock lock = new ReentrantLock();
+
+  private long openedAt;
+
+  private final LongSupplier clock;
+
+  private State state = State.CLOSED;
+
+  CircuitBreaker(int failureThreshold, @NotNull Duration openDuration, @NotNull LongSupplier clock) {
+
+    Assert.isTrue(failureThreshold > 0, "Failure threshold [%s] must be greater than 0", failureThreshold);
+    Assert.isTrue(openDuration != null && !openDuration.isNegative() && !openDuration.isZero(),
+      "Open duration [%s] must be positive", openDuration);
+
+    this.failureThreshold = failureThreshold;
+    this.openDuration = openDuration;
+    this.clock = clock;
+  }
+
+  /**
+   * Returns the {@link Integer number} of consecutive failures that opens the circuit.
+   *
+   * @return the {@link Integer number} of consecutive failures that opens the circuit.
+   */
+  public int getFailureThreshold() {
+    return this.failureThreshold;
+  }
+
+  /**
+   * Gets the {@link Duration} the circuit stays open before allowing a trial call.
+   *
+   * @return the {@link Duration} the circuit stays open before allowing a trial call.
+   */
+  public @NotNull Duration getOpenDuration() {
+    return this.openDuration;
+  }
+
+  /**
+   * Gets the current {@link State} of the circuit.
+   *
+   * @return the current {@link State} of the circuit.
+   * @see CircuitBreaker.State
+   */
+  public @NotNull State getState() {
+
+    this.lock.lock();
+
+    try {
+      return this.state;
+    }
+    finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Determines whether a call is allowed, moving an {@link State#OPEN open} circuit whose
+   * {@link #getOpenDuration() open duration} has elapsed to {@link State#HALF_OPEN half-open}.
+   * <p>
+   * The caller must report the outcome of an allowed call with {@link #onSuccess()} or {@link #onFailure()}.
+   *
+   * @return a boolean value indicating whether a call is allowed.
+   */
+  public boolean tryAcquire() {
+
+    this.lock.lock();
+
+    try {
+      return switch (this.state) {
+        case CLOSED -> true;
+        case HALF_OPEN -> false;
+        case OPEN -> {
+          if (this.clock.getAsLong() - this.openedAt >= this.openDuration.toNanos()) {
+            this.state = State.HALF_OPEN;
+            yield true;
+          }
+          yield false;
+        }
+      };
+    }
+    finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Records a failed call, opening the circuit if the {@link #getFailureThreshold() failure threshold} is reached
+   * or the trial call of a {@link State#HALF_OPEN half-open} circuit failed.
+   */
+  public void onFailure() {
+
+    this.lock.lock();
+
+    try {
+      this.consecutiveFailures++;
+
+      if (this.state == State.HALF_OPEN || this.consecutiveFailures >= this.failureThreshold) {
+        this.state = State.OPEN;
+        this.openedAt = this.clock.getAsLong();
+      }
+    }
+    finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Records a successful call, closing the circuit.
+   */
+  public void onSuccess() {
+
+    this.lock.lock();
+
+    try {
+      this.consecutiveFailures = 0;
+      this.state = State.CLOSED;
+    }
+    finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Releases a call allowed by {@link #tryAcquire()} that was abandoned before its outcome was known,
+   * allowing another trial call if the circuit is {@link State#HALF_OPEN half-open}.
+   */
+  public void release() {
+
+    this.lock.lock();
+
+    try {
+      if (this.state == State.HALF_OPEN) {
+        this.state = State.OPEN;
+        this.openedAt = this.clock.getAsLong() - this.openDuration.toNanos();
+      }
+    }
+    finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public @NotNull String toString() {
+    return String.format("%s{ state = %s, failureThreshold = %s, openDuration = %s }", getClass().getSimpleName(),
+      getState(), getFailureThreshold(), getOpenDuration());
+  }
+
+  /**
+   * {@link Enum Enumeration} of {@link CircuitBreaker} states.
+   */
+  public enum State {
+    CLOSED, HALF_OPEN, OPEN
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.service.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * {@literal Token bucket} rate limiter used to keep calls to a geocoding provider within the provider's quota.
+ * <p>
+ * The bucket holds up to {@link #getBurst() burst} permits and is refilled at a steady
+ * {@link #getPermitsPerSecond() rate}. The bucket starts full. The bucket is tracked as a single
+ * {@literal theoretical arrival time}, as in the {@literal Generic Cell Rate Algorithm (GCRA)}.
+ * Callers waiting for a permit sleep without holding a lock, which makes this rate limiter suitable
+ * for use on {@literal virtual threads}.
+ *
+ * @author John Blum
+ * @see org.cp.domain.geo.service.support.BatchGeocoder
+ * @since 0.4.0
+ */
+@ThreadSafe
+public final class RateLimiter {
+
+  private static final double NANOSECONDS_PER_SECOND = 1_000_000_000.0d;
+
+  /**
+   * Factory method used to construct a new {@link RateLimiter} allowing the given number of permits per second
+   * with a burst of {@literal 1} permit.
+   *
+   * @param permitsPerSecond {@link Double number} of permits issued per second; must be greater than {@literal 0}.
+   * @return a new {@link RateLimiter}.
+   * @throws IllegalArgumentException if the permits per second are not greater than {@literal 0}.
+   * @see #of(double, int)
+   */
+  public static @NotNull RateLimiter of(double permitsPerSecond) {
+    return of(permitsPerSecond, 1);
+  }
+
+  /**
+   * Factory method used to construct a new {@link RateLimiter} allowing the given number of permits per second
+   * and the given burst.
+   *
+   * @param permitsPerSecond {@link Double number} of permits issued per second; must be greater than {@literal 0}.
+   * @param burst {@link Integer maximum number} of permits that can be stored and issued at once;
+   * must be greater than {@literal 0}.
+   * @return a new {@link RateLimiter}.
+   * @throws IllegalArgumentException if the permits per second or the burst are not greater than {@literal 0}.
+   */
+  public static @NotNull RateLimiter of(double permitsPerSecond, int burst) {
+    return new RateLimiter(permitsPerSecond, burst, System::nanoTime);
+  }
+
+  private final double permitsPerSecond;
+
+  private final int burst;
+
+  private final long interval;
+  private final long tolerance;
+
+  private long theoreticalArrivalTime;
+
+  private final Lock lock = new ReentrantLock();
+
+  private final LongSupplier clock;
+
+  RateLimiter(double permitsPerSecond, int burst, @NotNull LongSupplier clock) {
+
+    Assert.isTrue(permitsPerSecond > 0.0d && Double.isFinite(permitsPerSecond),
+      "Permits per second [%s] must be greater than 0", permitsPerSecond);
+    Assert.isTrue(burst > 0, "Burst [%s] must be greater than 0", burst);
+
+    this.permitsPerSecond = permitsPerSecond;
+    this.burst = burst;
+    this.interval = Math.max(1L, Math.round(NANOSECONDS_PER_SECOND / permitsPerSecond));
+    this.tolerance = (burst - 1) * this.interval;
+    this.clock = clock;
+    this.theoreticalArrivalTime = clock.getAsLong();
+  }
+
+  /**
+   * Returns the {@link Integer maximum number} of permits that can be stored and issued at once.
+   *
+   * @return the {@link Integer maximum number} of permits that can be stored and issued at once.
+   */
+  public int getBurst() {
+    return this.burst;
+  }
+
+  /**
+   * Returns the {@link Double number} of permits issued per second.
+   *
+   * @return the {@link Double number} of permits issued per second.
+   */
+  public double getPermitsPerSecond() {
+    return this.permitsPerSecond;
+  }
+
+  /**
+   * Acquires a permit, waiting until one is available.
+   *
+   * @throws InterruptedException if the current {@link Thread} is interrupted while waiting.
+   * @see #tryAcquire()
+   */
+  public void acquire() throws InterruptedException {
+
+    long waitTime = reserve();
+
+    if (waitTime > 0L) {
+      TimeUnit.NANOSECONDS.sleep(waitTime);
+    }
+  }
+
+  /**
+   * Acquires a permit only if one is available immediately.
+   *
+   * @return a boolean value indicating whether a permit was acquired.
+   * @see #acquire()
+   */
+  public boolean tryAcquire() {
+
+    this.lock.lock();
+
+    try {
+      long now = this.clock.getAsLong();
+      long arrivalTime = Math.max(this.theoreticalArrivalTime, now);
+
+      if (arrivalTime - this.tolerance <= now) {
+        this.theoreticalArrivalTime = arrivalTime + this.interval;
+        return true;
+      }
+
+      return false;
+    }
+    finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Reserves the next permit and returns the number of nanoseconds the caller must wait before using it.
+   *
+   * @return the number of nanoseconds the caller must wait before using the reserved permit.
+   */
+  long reserve() {
+
+    this.lock.lock();
+
+    try {
+      long now = this.clock.getAsLong();
+      long arrivalTime = Math.max(this.theoreticalArrivalTime, now);
+
+      this.theoreticalArrivalTime = arrivalTime + this.interval;
+
+      return Math.max(arrivalTime - this.tolerance - now, 0L);
+    }
+    finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public @NotNull String toString() {
+    return String.format("%s{ permitsPerSecond = %s, burst = %s }", getClass().getSimpleName(),
+      getPermitsPerSecond(), getBurst());
+  }
+}
@@ -0,0 +1,782 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.cp.domain.geo.model.Coordinates;
+import org.cp.domain.geo.model.Distance;
+import org.cp.domain.geo.model.GeodesicDistance;
+import org.cp.domain.geo.model.Locatable;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.Immutable;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * Immutable, in-memory spatial index of {@link Locatable} objects supporting {@literal k-nearest neighbor},
+ * {@literal radius} and {@literal bounding box} queries.
+ * <p>
+ * The {@link SpatialIndex} is a static R-tree bulk loaded with the {@literal Sort-Tile-Recursive (STR)} algorithm.
+ * The {@literal latitude} and {@literal longitude} of each {@link Locatable object} along with the bounding boxes
+ * of the tree nodes are stored in primitive {@literal double} arrays rather than as {@link Coordinates} objects.
+ * <p>
+ * Nearest neighbor and radius queries traverse the tree best-first, ordered by the great-circle distance
+ * from the origin to the bounding box of each node, and therefore account for the curvature of the Earth
+ * and the {@literal antimeridian}. {@link Distance Distances} are computed with the
+ * {@link GeodesicDistance#HAVERSINE} formula.
+ * <p>
+ * The {@link SpatialIndex} is not modified after it is built and is therefore safe to query from multiple
+ * {@link Thread Threads} concurrently.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of {@link Locatable} objects in this {@link SpatialIndex}.
+ * @see org.cp.domain.geo.model.Coordinates
+ * @see org.cp.domain.geo.model.Distance
+ * @see org.cp.domain.geo.model.Locatable
+ * @see org.cp.domain.geo.model.GeodesicDistance
+ * @since 0.4.0
+ */
+@Immutable
+@ThreadSafe
+public final class SpatialIndex<T extends Locatable<?>> {
+
+  public static final int DEFAULT_NODE_SIZE = 16;
+
+  static final double EARTH_MEAN_RADIUS_IN_METERS = GeodesicDistance.EARTH_MEAN_RADIUS_IN_METERS;
+
+  /**
+   * Factory method used to bulk load a new {@link SpatialIndex} from the given {@link Iterable}
+   * of {@link Locatable} objects using the {@link #DEFAULT_NODE_SIZE}.
+   * <p>
+   * {@link Locatable} objects that have not been {@link Locatable#isLocated() located} are not indexed.
+   *
+   * @param <T> {@link Class type} of {@link Locatable} objects to index.
+   * @param elements {@link Iterable} of {@link Locatable} objects to index; must not be {@literal null}.
+   * @return a new {@link SpatialIndex} of the given {@link Locatable} objects.
+   * @throws IllegalArgumentException if the {@link Iterable} is {@literal null}.
+   * @see #of(Iterable, int)
+   */
+  public static @NotNull <T extends Locatable<?>> SpatialIndex<T> of(@NotNull Iterable<T> elements) {
+    return of(elements, DEFAULT_NODE_SIZE);
+  }
+
+  /**
+   * Factory method used to bulk load a new {@link SpatialIndex} from the given {@link Iterable}
+   * of {@link Locatable} objects with the given maximum number of entries per tree node.
+   * <p>
+   * {@link Locatable} objects that have not been {@link Locatable#isLocated() located} are not indexed.
+   *
+   * @param <T> {@link Class type} of {@link Locatable} objects to index.
+   * @param elements {@link Iterable} of {@link Locatable} objects to index; must not be {@literal null}.
+   * @param nodeSize {@link Integer maximum number} of entries per tree node; must be greater than {@literal 1}.
+   * @return a new {@link SpatialIndex} of the given {@link Locatable} objects.
+   * @throws IllegalArgumentException if the {@link Iterable} is {@literal null}
+   * or the {@link Integer node size} is less than {@literal 2}.
+   */
+  public static @NotNull <T extends Locatable<?>> SpatialIndex<T> of(@NotNull Iterable<T> elements, int nodeSize) {
+
+    Assert.notNull(elements, "Elements to index are required");
+    Assert.isTrue(nodeSize > 1, "Node size [%s] must be greater than 1", nodeSize);
+
+    List<T> locatedElements = new ArrayList<>();
+    DoubleArray latitudes = new DoubleArray();
+    DoubleArray longitudes = new DoubleArray();
+
+    for (T element : elements) {
+
+      Coordinates coordinates = element != null ? element.getCoordinates().orElse(null) : null;
+
+      if (coordinates != null) {
+        locatedElements.add(element);
+        latitudes.add(coordinates.getLatitude());
+        longitudes.add(coordinates.getLongitude());
+      }
+    }
+
+    return new SpatialIndex<>(locatedElements, latitudes.toArray(), longitudes.toArray(), nodeSize);
+  }
+
+  private final int leafCount;
+  private final int nodeSize;
+
+  private final int[] nodeChildBegin;
+  private final int[] nodeChildEnd;
+
+  private final double[] latitudes;
+  private final double[] longitudes;
+  private final double[] nodeMaxLatitudes;
+  private final double[] nodeMaxLongitudes;
+  private final double[] nodeMinLatitudes;
+  private final double[] nodeMinLongitudes;
+
+  private final Object[] elements;
+
+  private SpatialIndex(@NotNull List<T> elements, @NotNull double[] latitudes, @NotNull double[] longitudes,
+      int nodeSize) {
+
+    int size = elements.size();
+    int[] order = sortTileRecursive(latitudes, longitudes, identity(size), size, nodeSize);
+
+    this.nodeSize = nodeSize;
+    this.elements = new Object[size];
+    this.latitudes = new double[size];
+    this.longitudes = new double[size];
+
+    for (int index = 0; index < size; index++) {
+      this.elements[index] = elements.get(order[index]);
+      this.latitudes[index] = latitudes[order[index]];
+      this.longitudes[index] = longitudes[order[index]];
+    }
+
+    int nodeCount = 0;
+
+    for (int levelSize = size; levelSize > 1 || nodeCount == 0 && size > 0; ) {
+      levelSize = ceilDivide(levelSize, nodeSize);
+      nodeCount += levelSize;
+    }
+
+    this.leafCount = ceilDivide(size, nodeSize);
+    this.nodeChildBegin = new int[nodeCount];
+    this.nodeChildEnd = new int[nodeCount];
+    this.nodeMaxLatitudes = new double[nodeCount];
+    this.nodeMaxLongitudes = new double[nodeCount];
+    this.nodeMinLatitudes = new double[nodeCount];
+    this.nodeMinLongitudes = new double[nodeCount];
+
+    if (size > 0) {
+      build(size);
+    }
+  }
+
+  // Builds the tree bottom-up; the nodes of each level are ordered with STR before the parent level is built.
+  private void build(int size) {
+
+    for (int node = 0, child = 0; child < size; node++, child += this.nodeSize) {
+      this.nodeChildBegin[node] = child;
+      this.nodeChildEnd[node] = Math.min(child + this.nodeSize, size);
+      computeBounds(node, this.latitudes, this.longitudes, this.latitudes, this.longitudes);
+    }
+
+    for (int levelBegin = 0, levelEnd = this.leafCount; levelEnd - levelBegin > 1; ) {
+
+      int levelSize = levelEnd - levelBegin;
+
+      sortLevel(levelBegin, levelSize);
+
+      int parent = levelEnd;
+
+      for (int child = levelBegin; child < levelEnd; parent++, child += this.nodeSize) {
+        this.nodeChildBegin[parent] = child;
+        this.nodeChildEnd[parent] = Math.min(child + this.nodeSize, levelEnd);
+        computeBounds(parent, this.nodeMinLatitudes, this.nodeMinLongitudes, this.nodeMaxLatitudes,
+          this.nodeMaxLongitudes);
+      }
+
+      levelBegin = levelEnd;
+      levelEnd = parent;
+    }
+  }
+
+  private void computeBounds(int node, double[] minLatitudes, double[] minLongitudes, double[] maxLatitudes,
+      double[] maxLongitudes) {
+
+    double minLatitude = Double.POSITIVE_INFINITY;
+    double minLongitude = Double.POSITIVE_INFINITY;
+    double maxLatitude = Double.NEGATIVE_INFINITY;
+    double maxLongitude = Double.NEGATIVE_INFINITY;
+
+    for (int child = this.nodeChildBegin[node], end = this.nodeChildEnd[node]; child < end; child++) {
+      minLatitude = Math.min(minLatitude, minLatitudes[child]);
+      minLongitude = Math.min(minLongitude, minLongitudes[child]);
+      maxLatitude = Math.max(maxLatitude, maxLatitudes[child]);
+      maxLongitude = Math.max(maxLongitude, maxLongitudes[child]);
+    }
+
+    this.nodeMinLatitudes[node] = minLatitude;
+    this.nodeMinLongitudes[node] = minLongitude;
+    this.nodeMaxLatitudes[node] = maxLatitude;
+    this.nodeMaxLongitudes[node] = maxLongitude;
+  }
+
+  // Reorders the nodes of a level by the STR order of the centers of their bounding boxes.
+  private void sortLevel(int levelBegin, int levelSize) {
+
+    double[] centerLatitudes = new double[levelSize];
+    double[] centerLongitudes = new double[levelSize];
+
+    for (int index = 0; index < levelSize; index++) {
+      int node = levelBegin + index;
+      centerLatitudes[index] = (this.nodeMinLatitudes[node] + this.nodeMaxLatitudes[node]) / 2.0d;
+      centerLongitudes[index] = (this.nodeMinLongitudes[node] + this.nodeMaxLongitudes[node]) / 2.0d;
+    }
+
+    int[] order = sortTileRecursive(centerLatitudes, centerLongitudes, identity(levelSize), levelSize, this.nodeSize);
+
+    permute(this.nodeChildBegin, levelBegin, order);
+    permute(this.nodeChildEnd, levelBegin, order);
+    permute(this.nodeMinLatitudes, levelBegin, order);
+    permute(this.nodeMinLongitudes, levelBegin, order);
+    permute(this.nodeMaxLatitudes, levelBegin, order);
+    permute(this.nodeMaxLongitudes, levelBegin, order);
+  }
+
+  /**
+   * Determines whether this {@link SpatialIndex} contains no {@link Locatable} objects.
+   *
+   * @return a boolean value indicating whether this {@link SpatialIndex} contains no {@link Locatable} objects.
+   * @see #size()
+   */
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Returns the number of {@link Locatable} objects in this {@link SpatialIndex}.
+   *
+   * @return the number of {@link Locatable} objects in this {@link SpatialIndex}.
+   * @see #isEmpty()
+   */
+  public int size() {
+    return this.elements.length;
+  }
+
+  /**
+   * Finds all {@link Locatable} objects inside the bounding box with the given {@literal south-west}
+   * and {@literal north-east} corners.
+   * <p>
+   * If the {@literal west} {@literal longitude} is greater than the {@literal east} {@literal longitude},
+   * then the bounding box crosses the {@literal antimeridian}.
+   *
+   * @param southWest {@link Coordinates} of the {@literal south-west} corner of the bounding box;
+   * must not be {@literal null}.
+   * @param northEast {@link Coordinates} of the {@literal north-east} corner of the bounding box;
+   * must not be {@literal null}.
+   * @return a {@link List} of {@link Locatable} objects inside the bounding box in no particular order.
+   * @throws IllegalArgumentException if either {@link Coordinates} are {@literal null}.
+   * @see #findWithin(double, double, double, double)
+   */
+  public @NotNull List<T> findWithin(@NotNull Coordinates southWest, @NotNull Coordinates northEast) {
+
+    Assert.notNull(southWest, "South-west Coordinates are required");
+    Assert.notNull(northEast, "North-east Coordinates are required");
+
+    return findWithin(southWest.getLatitude(), southWest.getLongitude(),
+      northEast.getLatitude(), northEast.getLongitude());
+  }
+
+  /**
+   * Finds all {@link Locatable} objects inside the given bounding box.
+   * <p>
+   * If the {@literal west} {@literal longitude} is greater than the {@literal east} {@literal longitude},
+   * then the bounding box crosses the {@literal antimeridian}.
+   *
+   * @param south {@link Double minimum latitude} of the bounding box.
+   * @param west {@link Double western longitude} of the bounding box.
+   * @param north {@link Double maximum latitude} of the bounding box.
+   * @param east {@link Double eastern longitude} of the bounding box.
+   * @return a {@link List} of {@link Locatable} objects inside the bounding box in no particular order.
+   * @see #findWithin(Coordinates, Coordinates)
+   */
+  @SuppressWarnings("unchecked")
+  public @NotNull List<T> findWithin(double south, double west, double north, double east) {
+
+    if (isEmpty() || south > north) {
+      return Collections.emptyList();
+    }
+
+    boolean antimeridian = west > east;
+
+    List<T> results = new ArrayList<>();
+
+    IntArray stack = new IntArray();
+
+    stack.add(rootNode());
+
+    while (!stack.isEmpty()) {
+
+      int node = stack.pop();
+
+      for (int child = this.nodeChildBegin[node], end = this.nodeChildEnd[node]; child < end; child++) {
+        if (node < this.leafCount) {
+          if (isWithin(this.latitudes[child], this.longitudes[child], this.latitudes[child], this.longitudes[child],
+              south, west, north, east, antimeridian)) {
+            results.add((T) this.elements[child]);
+          }
+        }
+        else if (isWithin(this.nodeMinLatitudes[child], this.nodeMinLongitudes[child], this.nodeMaxLatitudes[child],
+            this.nodeMaxLongitudes[child], south, west, north, east, antimeridian)) {
+          stack.add(child);
+        }
+      }
+    }
+
+    return results;
+  }
+
+  /**
+   * Finds all {@link Locatable} objects within the given {@link Distance radius}
+   * of the given {@link Coordinates origin}.
+   *
+   * @param origin {@link Coordinates} at the center of the search; must not be {@literal null}.
+   * @param radius {@link Distance} from the {@link Coordinates origin}; must not be {@literal null}.
+   * @return a {@link List} of {@link Match Matches} ordered by {@link Distance}, nearest first.
+   * @throws IllegalArgumentException if the {@link Coordinates origin} or {@link Distance radius} is {@literal null}.
+   * @see #findNearest(Coordinates, int, Distance)
+   */
+  public @NotNull List<Match<T>> findWithin(@NotNull Coordinates origin, @NotNull Distance radius) {
+    return findNearest(origin, Integer.MAX_VALUE, radius);
+  }
+
+  /**
+   * Finds the {@link Locatable} object nearest to the given {@link Coordinates origin}.
+   *
+   * @param origin {@link Coordinates} at the center of the search; must not be {@literal null}.
+   * @return an {@link Optional} {@link Match} for the nearest {@link Locatable} object,
+   * or {@link Optional#empty()} if this {@link SpatialIndex} is {@link #isEmpty() empty}.
+   * @throws IllegalArgumentException if the {@link Coordinates origin} is {@literal null}.
+   * @see #findNearest(Coordinates, int)
+   */
+  public @NotNull Optional<Match<T>> findNearest(@NotNull Coordinates origin) {
+    return findNearest(origin, 1).stream().findFirst();
+  }
+
+  /**
+   * Finds the {@literal k} {@link Locatable} objects nearest to the given {@link Coordinates origin}.
+   *
+   * @param origin {@link Coordinates} at the center of the search; must not be {@literal null}.
+   * @param count {@link Integer maximum number} of {@link Locatable} objects to find;
+   * must be greater than {@literal 0}.
+   * @return a {@link List} of {@link Match Matches} ordered by {@link Distance}, nearest first.
+   * @throws IllegalArgumentException if the {@link Coordinates origin} is {@literal null}
+   * or the {@link Integer count} is less than {@literal 1}.
+   * @see #findNearest(Coordinates, int, Distance)
+   */
+  public @NotNull List<Match<T>> findNearest(@NotNull Coordinates origin, int count) {
+    return findNearest(origin, count, null);
+  }
+
+  /**
+   * Finds the {@literal k} {@link Locatable} objects nearest to the given {@link Coordinates origin}
+   * within an optional {@link Distance maximum distance}.
+   *
+   * @param origin {@link Coordinates} at the center of the search; must not be {@literal null}.
+   * @param count {@link Integer maximum number} of {@link Locatable} objects to find;
+   * must be greater than {@literal 0}.
+   * @param maximumDistance optional {@link Distance} from the {@link Coordinates origin} limiting the search.
+   * @return a {@link List} of {@link Match Matches} ordered by {@link Distance}, nearest first.
+   * @throws IllegalArgumentException if the {@link Coordinates origin} is {@literal null}
+   * or the {@link Integer count} is less than {@literal 1}.
+   */
+  @SuppressWarnings("unchecked")
+  public @NotNull List<Match<T>> findNearest(@NotNull Coordinates origin, int count,
+      @Nullable Distance maximumDistance) {
+
+    Assert.notNull(origin, "Origin Coordinates are required");
+    Assert.isTrue(count > 0, "Count [%s] must be greater than 0", count);
+
+    double maximumHaversine = maximumDistance != null
+      ? toHaversine(maximumDistance.toMeters().getMeasurement())
+      : Double.POSITIVE_INFINITY;
+
+    if (isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    double latitude = origin.getLatitude();
+    double longitude = origin.getLongitude();
+    double cosineLatitude = Math.cos(Math.toRadians(latitude));
+
+    List<Match<T>> results = new ArrayList<>(Math.min(count, 64));
+
+    // Nodes are queued with their index, and elements with the complement (~) of their index.
+    PriorityQueue queue = new PriorityQueue();
+
+    int node = rootNode();
+
+    while (true) {
+
+      for (int child = this.nodeChildBegin[node], end = this.nodeChildEnd[node]; child < end; child++) {
+
+        double haversine = node < this.leafCount
+          ? haversine(latitude, cosineLatitude, longitude, this.latitudes[child], this.longitudes[child])
+          : boxHaversine(latitude, cosineLatitude, longitude, child);
+
+        if (haversine <= maximumHaversine) {
+          queue.push(node < this.leafCount ? ~child : child, haversine);
+        }
+      }
+
+      // Elements at the head of the queue are nearer than all remaining elements and nodes.
+      while (!queue.isEmpty() && queue.peekId() < 0) {
+
+        double haversine = queue.peekKey();
+        int element = ~queue.pop();
+
+        results.add(new Match<>((T) this.elements[element], toMeters(haversine)));
+
+        if (results.size() == count) {
+          return results;
+        }
+      }
+
+      if (queue.isEmpty()) {
+        return results;
+      }
+
+      node = queue.pop();
+    }
+  }
+
+  // Lower bound of the haversine of the distance from the origin to any point in the bounding box of the node.
+  private double boxHaversine(double latitude, double cosineLatitude, double longitude, int node) {
+
+    double minLatitude = this.nodeMinLatitudes[node];
+    double maxLatitude = this.nodeMaxLatitudes[node];
+
+    if (longitude >= this.nodeMinLongitudes[node] && longitude <= this.nodeMaxLongitudes[node]) {
+      return latitude < minLatitude ? haversine(latitude - minLatitude)
+        : latitude > maxLatitude ? haversine(latitude - maxLatitude)
+        : 0.0d;
+    }
+
+    double haversineLongitude = Math.min(haversine(this.nodeMinLongitudes[node] - longitude),
+      haversine(this.nodeMaxLongitudes[node] - longitude));
+
+    // Latitude at which the great circle through the origin is nearest to the meridian at the box edge.
+    double cosineLongitude = 1.0d - 2.0d * haversineLongitude;
+    double extremumLatitude = cosineLongitude <= 0.0d ? (latitude > 0.0d ? 90.0d : -90.0d)
+      : Math.toDegrees(Math.atan(Math.tan(Math.toRadians(latitude)) / cosineLongitude));
+
+    if (extremumLatitude > minLatitude && extremumLatitude < maxLatitude) {
+      return haversine(latitude, cosineLatitude, haversineLongitude, extremumLatitude);
+    }
+
+    return Math.min(haversine(latitude, cosineLatitude, haversineLongitude, minLatitude),
+      haversine(latitude, cosineLatitude, haversineLongitude, maxLatitude));
+  }
+
+  private int rootNode() {
+    return this.nodeChildBegin.length - 1;
+  }
+
+  private static int ceilDivide(int dividend, int divisor) {
+    return (dividend + divisor - 1) / divisor;
+  }
+
+  private static double haversine(double degrees) {
+
+    double sine = Math.sin(Math.toRadians(degrees) / 2.0d);
+
+    return sine * sine;
+  }
+
+  private static double haversine(double latitude, double cosineLatitude, double longitude,
+      double otherLatitude, double otherLongitude) {
+
+    return haversine(latitude, cosineLatitude, haversine(otherLongitude - longitude), otherLatitude);
+  }
+
+  private static double haversine(double latitude, double cosineLatitude, double haversineLongitude,
+      double otherLatitude) {
+
+    return haversine(latitude - otherLatitude)
+      + cosineLatitude * Math.cos(Math.toRadians(otherLatitude)) * haversineLongitude;
+  }
+
+  private static int[] identity(int size) {
+
+    int[] identity = new int[size];
+
+    Arrays.setAll(identity, index -> index);
+
+    return identity;
+  }
+
+  private static boolean isWithin(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+      double south, double west, double north, double east, boolean antimeridian) {
+
+    return maxLatitude >= south && minLatitude <= north
+      && (antimeridian
+        ? maxLongitude >= west || minLongitude <= east
+        : maxLongitude >= west && minLongitude <= east);
+  }
+
+  private static void permute(int[] array, int offset, int[] order) {
+
+    int[] copy = Arrays.copyOfRange(array, offset, offset + order.length);
+
+    for (int index = 0; index < order.length; index++) {
+      array[offset + index] = copy[order[index]];
+    }
+  }
+
+  private static void permute(double[] array, int offset, int[] order) {
+
+    double[] copy = Arrays.copyOfRange(array, offset, offset + order.length);
+
+    for (int index = 0; index < order.length; index++) {
+      array[offset + index] = copy[order[index]];
+    }
+  }
+
+  // Sorts the entries into vertical slices by longitude, then each slice by latitude.
+  private static int[] sortTileRecursive(double[] latitudes, double[] longitudes, int[] order, int size,
+      int nodeSize) {
+
+    int nodeCount = ceilDivide(size, nodeSize);
+    int sliceCount = (int) Math.ceil(Math.sqrt(nodeCount));
+    int sliceSize = nodeSize * ceilDivide(nodeCount, Math.max(sliceCount, 1));
+
+    sort(order, longitudes, 0, size - 1);
+
+    for (int sliceBegin = 0; sliceBegin < size; sliceBegin += sliceSize) {
+      sort(order, latitudes, sliceBegin, Math.min(sliceBegin + sliceSize, size) - 1);
+    }
+
+    return order;
+  }
+
+  // Quicksort of the indexes by their keys, without boxing.
+  private static void sort(int[] indexes, double[] keys, int low, int high) {
+
+    while (high - low > 16) {
+
+      double pivot = keys[indexes[(low + high) >>> 1]];
+
+      int left = low;
+      int right = high;
+
+      while (left <= right) {
+
+        while (keys[indexes[left]] < pivot) {
+          left++;
+        }
+
+        while (keys[indexes[right]] > pivot) {
+          right--;
+        }
+
+        if (left <= right) {
+          swap(indexes, left++, right--);
+        }
+      }
+
+      // Recurse into the smaller partition to bound the depth of the stack.
+      if (right - low < high - left) {
+        sort(indexes, keys, low, right);
+        low = left;
+      }
+      else {
+        sort(indexes, keys, left, high);
+        high = right;
+      }
+    }
+
+    for (int index = low + 1; index <= high; index++) {
+      for (int previous = index; previous > low && keys[indexes[previous - 1]] > keys[indexes[previous]]; previous--) {
+        swap(indexes, previous, previous - 1);
+      }
+    }
+  }
+
+  private static void swap(int[] array, int index, int otherIndex) {
+
+    int value = array[index];
+
+    array[index] = array[otherIndex];
+    array[otherIndex] = value;
+  }
+
+  private static double toHaversine(double meters) {
+
+    double angle = meters / EARTH_MEAN_RADIUS_IN_METERS;
+
+    return angle >= Math.PI ? Double.POSITIVE_INFINITY : haversine(Math.toDegrees(angle));
+  }
+
+  private static double toMeters(double haversine) {
+    return 2.0d * EARTH_MEAN_RADIUS_IN_METERS * Math.asin(Math.sqrt(Math.min(1.0d, haversine)));
+  }
+
+  /**
+   * {@link Match} of a {@link Locatable} object and its {@link Distance} from the origin of a query.
+   *
+   * @param <T> {@link Class type} of the {@link Locatable} object.
+   * @see org.cp.domain.geo.model.Distance
+   * @see org.cp.domain.geo.model.Locatable
+   */
+  public static final class Match<T extends Locatable<?>> {
+
+    private final double distanceInMeters;
+
+    private final T element;
+
+    private Match(@NotNull T element, double distanceInMeters) {
+      this.element = element;
+      this.distanceInMeters = distanceInMeters;
+    }
+
+    /**
+     * Gets the great-circle {@link Distance} from the origin of the query to the {@link #getElement() element}.
+     *
+     * @return the great-circle {@link Distance} in {@link org.cp.elements.enums.LengthUnit#METER meters}.
+     * @see org.cp.domain.geo.model.Distance
+     */
+    public @NotNull Distance getDistance() {
+      return Distance.inMeters(this.distanceInMeters);
+    }
+
+    /**
+     * Gets the matching {@link Locatable} object.
+     *
+     * @return the matching {@link Locatable} object.
+     */
+    public @NotNull T getElement() {
+      return this.element;
+    }
+
+    @Override
+    public @NotNull String toString() {
+      return String.format("%s @ %s", getElement(), getDistance());
+    }
+  }
+
+  private static final class DoubleArray {
+
+    private double[] values = new double[64];
+    private int size;
+
+    void add(double value) {
+
+      if (this.size == this.values.length) {
+        this.values = Arrays.copyOf(this.values, this.size * 2);
+      }
+
+      this.values[this.size++] = value;
+    }
+
+    double[] toArray() {
+      return Arrays.copyOf(this.values, this.size);
+    }
+  }
+
+  private static final class IntArray {
+
+    private int[] values = new int[64];
+    private int size;
+
+    void add(int value) {
+
+      if (this.size == this.values.length) {
+        this.values = Arrays.copyOf(this.values, this.size * 2);
+      }
+
+      this.values[this.size++] = value;
+    }
+
+    boolean isEmpty() {
+      return this.size == 0;
+    }
+
+    int pop() {
+      return this.values[--this.size];
+    }
+  }
+
+  // Binary min-heap of int ids keyed by double priorities, without boxing.
+  private static final class PriorityQueue {
+
+    private double[] keys = new double[64];
+    private int[] ids = new int[64];
+    private int size;
+
+    boolean isEmpty() {
+      return this.size == 0;
+    }
+
+    int peekId() {
+      return this.ids[0];
+    }
+
+    double peekKey() {
+      return this.keys[0];
+    }
+
+    int pop() {
+
+      int id = this.ids[0];
+
+      this.size--;
+
+      if (this.size > 0) {
+
+        double key = this.keys[this.size];
+        int lastId = this.ids[this.size];
+        int index = 0;
+
+        for (int child = 1; child < this.size; child = 2 * index + 1) {
+
+          child += child + 1 < this.size && this.keys[child + 1] < this.keys[child] ? 1 : 0;
+
+          if (this.keys[child] >= key) {
+            break;
+          }
+
+          this.keys[index] = this.keys[child];
+          this.ids[index] = this.ids[child];
+          index = child;
+        }
+
+        this.keys[index] = key;
+        this.ids[index] = lastId;
+      }
+
+      return id;
+    }
+
+    void push(int id, double key) {
+
+      if (this.size == this.keys.length) {
+        this.keys = Arrays.copyOf(this.keys, this.size * 2);
+        this.ids = Arrays.copyOf(this.ids, this.size * 2);
+      }
+
+      int index = this.size++;
+
+      while (index > 0) {
+
+        int parent = (index - 1) >>> 1;
+
+        if (this.keys[parent] <= key) {
+          break;
+        }
+
+        this.keys[index] = this.keys[parent];
+        this.ids[index] = this.ids[parent];
+        index = parent;
+      }
+
+      this.keys[index] = key;
+      this.ids[index] = id;
+    }
+  }
+}
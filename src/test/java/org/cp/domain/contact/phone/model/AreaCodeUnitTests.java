@@ -99,6 +99,29 @@ public class AreaCodeUnitTests {
     assertAreaCode(AreaCode.of("987"), "987");
   }
 
+  @Test
+  void ofReturnsInternedAreaCode() {
+
+    AreaCode areaCode = AreaCode.of(503);
+
+    assertThat(AreaCode.of(-503)).isSameAs(areaCode);
+    assertThat(AreaCode.of("503")).isSameAs(areaCode);
+    assertThat(AreaCode.of("(503)")).isSameAs(areaCode);
+    assertThat(AreaCode.parse("503-555-1234")).isSameAs(areaCode);
+    assertThat(AreaCode.of("012")).isSameAs(AreaCode.valueOf(12));
+    assertAreaCode(AreaCode.valueOf(12), "012");
+  }
+
+  @Test
+  void ofInvalidIntegerNumber() {
+
+    Arrays.asList(12, 1234).forEach(number ->
+      assertThatIllegalArgumentException()
+        .isThrownBy(() -> AreaCode.of(number))
+        .withMessage("AreaCode [%s] must be a %d-digit number", number, AreaCode.REQUIRED_AREA_CODE_LENGTH)
+        .withNoCause());
+  }
+
   @Test
   public void parseTenDigitPhoneNumber() {
     assertAreaCode(AreaCode.parse("5035551234"), "503");
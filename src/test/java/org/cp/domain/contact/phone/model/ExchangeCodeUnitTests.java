@@ -87,6 +87,18 @@ public class ExchangeCodeUnitTests {
     assertExchangeCode(ExchangeCode.of("555"), "555");
   }
 
+  @Test
+  void ofReturnsInternedExchangeCode() {
+
+    ExchangeCode exchangeCode = ExchangeCode.of(555);
+
+    assertThat(ExchangeCode.of("555")).isSameAs(exchangeCode);
+    assertThat(ExchangeCode.parse("(503) 555-1234")).isSameAs(exchangeCode);
+    assertThat(ExchangeCode.parse("555-1234")).isSameAs(exchangeCode);
+    assertThat(ExchangeCode.of("007")).isSameAs(ExchangeCode.valueOf(7));
+    assertExchangeCode(ExchangeCode.valueOf(7), "007");
+  }
+
   @Test
   public void parseTenDigitPhoneNumber() {
     assertExchangeCode(ExchangeCode.parse("5035551234"), "555");
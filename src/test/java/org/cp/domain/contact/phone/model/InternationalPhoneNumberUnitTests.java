@@ -0,0 +1,256 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.contact.phone.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.domain.geo.enums.Country;
+
+/**
+ * Unit Tests for {@link InternationalPhoneNumber}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.contact.phone.model.InternationalPhoneNumber
+ * @since 0.4.0
+ */
+public class InternationalPhoneNumberUnitTests {
+
+  private static void assertInternationalPhoneNumber(InternationalPhoneNumber phoneNumber, int callingCode,
+      String nationalNumber, Country country) {
+
+    assertThat(phoneNumber).isNotNull();
+    assertThat(phoneNumber.getCallingCode()).isEqualTo(callingCode);
+    assertThat(phoneNumber.getNationalNumber()).isEqualTo(nationalNumber);
+    assertThat(phoneNumber.getNationalNumberLength()).isEqualTo(nationalNumber.length());
+    assertThat(phoneNumber.getCountry()).isEqualTo(country);
+    assertThat(phoneNumber.toE164()).isEqualTo("+" + callingCode + nationalNumber);
+  }
+
+  @Test
+  void parseInternationalFormat() {
+
+    assertInternationalPhoneNumber(InternationalPhoneNumber.parse("+44 20 7183 8750"),
+      44, "2071838750", Country.UNITED_KINGDOM);
+
+    assertInternationalPhoneNumber(InternationalPhoneNumber.parse("0049 (30) 123456"),
+      49, "30123456", Country.GERMANY);
+
+    assertInternationalPhoneNumber(InternationalPhoneNumber.parse("  +353 1 234 5678"),
+      353, "12345678", Country.IRELAND);
+
+    assertInternationalPhoneNumber(InternationalPhoneNumber.parse("+61.2.1234.5678"),
+      61, "212345678", Country.AUSTRALIA);
+  }
+
+  @Test
+  void parseNorthAmericanNumberingPlanResolvesCountryByAreaCode() {
+
+    assertInternationalPhoneNumber(InternationalPhoneNumber.parse("+1 (503) 555-1234"),
+      1, "5035551234", Country.UNITED_STATES_OF_AMERICA);
+
+    assertInternationalPhoneNumber(InternationalPhoneNumber.parse("+1 416 555 1234"),
+      1, "4165551234", Country.CANADA);
+
+    assertInternationalPhoneNumber(InternationalPhoneNumber.parse("+1-876-555-1234"),
+      1, "8765551234", Country.JAMAICA);
+  }
+
+  @Test
+  void parseSharedCallingCodeResolvesCountryByNationalNumber() {
+
+    assertInternationalPhoneNumber(InternationalPhoneNumber.parse("+7 495 123 4567"),
+      7, "4951234567", Country.RUSSIA);
+
+    assertInternationalPhoneNumber(InternationalPhoneNumber.parse("+7 727 123 4567"),
+      7, "7271234567", Country.KAZAKHSTAN);
+
+    assertInternationalPhoneNumber(InternationalPhoneNumber.parse("+39 06 1234 5678"),
+      39, "0612345678", Country.ITALY);
+
+    assertInternationalPhoneNumber(InternationalPhoneNumber.parse("+39 06 698 12345"),
+      39, "0669812345", Country.VATICAN_CITY);
+  }
+
+  @Test
+  void parseNationalFormat() {
+
+    assertThat(InternationalPhoneNumber.parse("(503) 555-1234", Country.UNITED_STATES_OF_AMERICA).toE164())
+      .isEqualTo("+15035551234");
+
+    assertThat(InternationalPhoneNumber.parse("1 503 555 1234", Country.UNITED_STATES_OF_AMERICA).toE164())
+      .isEqualTo("+15035551234");
+
+    assertThat(InternationalPhoneNumber.parse("020 7183 8750", Country.UNITED_KINGDOM).toE164())
+      .isEqualTo("+442071838750");
+
+    assertThat(InternationalPhoneNumber.parse("06 1234 5678", Country.ITALY).toE164())
+      .isEqualTo("+390612345678");
+
+    assertThat(InternationalPhoneNumber.parse("+33 1 23 45 67 89", Country.UNITED_KINGDOM).getCountry())
+      .isEqualTo(Country.FRANCE);
+  }
+
+  @Test
+  void parseNationalFormatRemovesTrunkPrefixOfCountry() {
+
+    assertInternationalPhoneNumber(InternationalPhoneNumber.parse("8 912 345 6789", Country.RUSSIA),
+      7, "9123456789", Country.RUSSIA);
+
+    assertInternationalPhoneNumber(InternationalPhoneNumber.parse("8 (727) 123-45-67", Country.KAZAKHSTAN),
+      7, "7271234567", Country.KAZAKHSTAN);
+
+    assertInternationalPhoneNumber(InternationalPhoneNumber.parse("8 017 123 45 67", Country.BELARUS),
+      375, "171234567", Country.BELARUS);
+
+    assertInternationalPhoneNumber(InternationalPhoneNumber.parse("8 5 212 3456", Country.LITHUANIA),
+      370, "52123456", Country.LITHUANIA);
+
+    assertThat(InternationalPhoneNumber.pack("0 912 345 6789", Country.RUSSIA))
+      .isEqualTo(InternationalPhoneNumber.INVALID);
+  }
+
+  @Test
+  void parseNationalFormatWithCountryHavingNoCallingCodeThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> InternationalPhoneNumber.parse("020 7183 8750", Country.UNKNOWN))
+      .withMessage("Country [UNKNOWN] does not have a calling code")
+      .withNoCause();
+  }
+
+  @Test
+  void parseInvalidPhoneNumberThrowsIllegalArgumentException() {
+
+    List<String> invalidPhoneNumbers = Arrays.asList("503-555-1234", "+44 20", "+999 123456", "+1 503 555 12345",
+      "+44 20x71838750", "+1234567890123456", "+", "  ", "", null);
+
+    invalidPhoneNumbers.forEach(invalidPhoneNumber -> {
+
+      assertThat(InternationalPhoneNumber.pack(invalidPhoneNumber)).isEqualTo(InternationalPhoneNumber.INVALID);
+
+      assertThatIllegalArgumentException()
+        .isThrownBy(() -> InternationalPhoneNumber.parse(invalidPhoneNumber))
+        .withMessage("Phone Number [%s] is not a valid E.164 phone number", invalidPhoneNumber)
+        .withNoCause();
+    });
+  }
+
+  @Test
+  void packIsConsistentWithParse() {
+
+    long value = InternationalPhoneNumber.pack("+44 20 7183 8750");
+
+    assertThat(InternationalPhoneNumber.isValid(value)).isTrue();
+    assertThat(InternationalPhoneNumber.of(value)).isEqualTo(InternationalPhoneNumber.parse("+442071838750"));
+    assertThat(InternationalPhoneNumber.of(value).longValue()).isEqualTo(value);
+    assertThat(InternationalPhoneNumber.pack("abc 0207", Country.UNITED_KINGDOM))
+      .isEqualTo(InternationalPhoneNumber.INVALID);
+  }
+
+  @Test
+  void ofInvalidPackedValueThrowsIllegalArgumentException() {
+
+    assertThat(InternationalPhoneNumber.isValid(0L)).isFalse();
+    assertThat(InternationalPhoneNumber.isValid(Long.MAX_VALUE)).isFalse();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> InternationalPhoneNumber.of(InternationalPhoneNumber.INVALID))
+      .withMessage("Packed international phone number [-1] is not valid")
+      .withNoCause();
+  }
+
+  @Test
+  void fromPhoneNumber() {
+
+    InternationalPhoneNumber phoneNumber = InternationalPhoneNumber.from(PhoneNumber.parse("503-555-1234"));
+
+    assertInternationalPhoneNumber(phoneNumber, 1, "5035551234", Country.UNITED_STATES_OF_AMERICA);
+    assertThat(phoneNumber.isNorthAmericanNumberingPlan()).isTrue();
+  }
+
+  @Test
+  void fromNullPhoneNumberThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> InternationalPhoneNumber.from(null))
+      .withMessage("PhoneNumber is required")
+      .withNoCause();
+  }
+
+  @Test
+  void toInternationalFormat() {
+
+    assertThat(InternationalPhoneNumber.parse("+15035551234").toInternationalFormat()).isEqualTo("+1 503-555-1234");
+    assertThat(InternationalPhoneNumber.parse("+442071838750").toInternationalFormat()).isEqualTo("+44 2071838750");
+    assertThat(InternationalPhoneNumber.parse("+390612345678").toInternationalFormat()).isEqualTo("+39 0612345678");
+  }
+
+  @Test
+  void toPhoneNumber() {
+
+    PhoneNumber phoneNumber = InternationalPhoneNumber.parse("+1 416 555 1234").toPhoneNumber();
+
+    assertThat(phoneNumber.getAreaCode()).isEqualTo(AreaCode.of(416));
+    assertThat(phoneNumber.getExchangeCode()).isEqualTo(ExchangeCode.of(555));
+    assertThat(phoneNumber.getLineNumber()).isEqualTo(LineNumber.of(1234));
+    assertThat(phoneNumber.getCountry()).contains(Country.CANADA);
+  }
+
+  @Test
+  void toPhoneNumberForNonNorthAmericanPhoneNumberThrowsIllegalStateException() {
+
+    InternationalPhoneNumber phoneNumber = InternationalPhoneNumber.parse("+44 20 7183 8750");
+
+    assertThat(phoneNumber.isNorthAmericanNumberingPlan()).isFalse();
+
+    assertThatIllegalStateException()
+      .isThrownBy(phoneNumber::toPhoneNumber)
+      .withMessage("Phone Number [+442071838750] is not a North American Numbering Plan phone number")
+      .withNoCause();
+  }
+
+  @Test
+  void compareToOrdersByDigits() {
+
+    InternationalPhoneNumber unitedKingdom = InternationalPhoneNumber.parse("+44 20 7183 8750");
+    InternationalPhoneNumber unitedStates = InternationalPhoneNumber.parse("+1 503 555 1234");
+    InternationalPhoneNumber shorter = InternationalPhoneNumber.parse("+44 20 7183 875");
+
+    assertThat(unitedStates).isLessThan(unitedKingdom);
+    assertThat(shorter).isLessThan(unitedKingdom);
+    assertThat(unitedKingdom).isEqualByComparingTo(InternationalPhoneNumber.parse("0044 20 7183 8750"));
+  }
+
+  @Test
+  void equalsHashCodeAndToStringAreCorrect() {
+
+    InternationalPhoneNumber phoneNumber = InternationalPhoneNumber.parse("+44 20 7183 8750");
+
+    assertThat(phoneNumber).isEqualTo(InternationalPhoneNumber.parse("0044 (20) 7183-8750"));
+    assertThat(phoneNumber).hasSameHashCodeAs(InternationalPhoneNumber.parse("0044 (20) 7183-8750"));
+    assertThat(phoneNumber).isNotEqualTo(InternationalPhoneNumber.parse("+44 20 7183 8751"));
+    assertThat(phoneNumber).isNotEqualTo("+442071838750");
+    assertThat(phoneNumber).hasToString("+442071838750");
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.contact.phone.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.cp.elements.lang.ThrowableAssertions.assertThatUnsupportedOperationException;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.domain.geo.enums.Country;
+import org.cp.elements.lang.ThrowableOperation;
+
+/**
+ * Unit Tests for {@link PackedPhoneNumber}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.contact.phone.model.PackedPhoneNumber
+ * @since 0.4.0
+ */
+public class PackedPhoneNumberUnitTests {
+
+  private static PhoneNumber newPhoneNumber(String extension) {
+
+    return PhoneNumber.builder()
+      .inAreaCode(AreaCode.of(503))
+      .usingExchange(ExchangeCode.of(555))
+      .withLineNumber(LineNumber.of(1234))
+      .withExtension(extension != null ? Extension.of(extension) : null)
+      .build();
+  }
+
+  @Test
+  void fromPhoneNumber() {
+
+    PhoneNumber phoneNumber = newPhoneNumber("0042");
+
+    PackedPhoneNumber packedPhoneNumber = PackedPhoneNumber.from(phoneNumber);
+
+    assertThat(packedPhoneNumber).isNotNull();
+    assertThat(packedPhoneNumber.getAreaCode()).isSameAs(AreaCode.of(503));
+    assertThat(packedPhoneNumber.getExchangeCode()).isSameAs(ExchangeCode.of(555));
+    assertThat(packedPhoneNumber.getLineNumber()).isEqualTo(LineNumber.of(1234));
+    assertThat(packedPhoneNumber.getExtension()).contains(Extension.of("0042"));
+    assertThat(packedPhoneNumber.getCountry()).isEmpty();
+    assertThat(packedPhoneNumber.getId()).isNull();
+    assertThat(packedPhoneNumber.getType()).isEmpty();
+    assertThat(packedPhoneNumber).isEqualTo(phoneNumber);
+    assertThat(phoneNumber).isEqualTo(packedPhoneNumber);
+    assertThat(PackedPhoneNumber.from(packedPhoneNumber)).isSameAs(packedPhoneNumber);
+  }
+
+  @Test
+  void fromPhoneNumberWithLongExtensionThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> PackedPhoneNumber.from(newPhoneNumber("12345678")))
+      .withMessage("Extension [12345678] must not be longer than 7 digits")
+      .withNoCause();
+  }
+
+  @Test
+  void ofPackedValue() {
+
+    long value = PackedPhoneNumber.pack(newPhoneNumber("7"));
+
+    assertThat(PackedPhoneNumber.of(value).longValue()).isEqualTo(value);
+    assertThat(PackedPhoneNumber.of(value).getExtension()).contains(Extension.of("7"));
+  }
+
+  @Test
+  void ofInvalidPackedValueThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> PackedPhoneNumber.of(-1L))
+      .withMessage("Packed phone number [-1] is not valid")
+      .withNoCause();
+  }
+
+  @Test
+  void isValid() {
+
+    long value = PackedPhoneNumber.pack(999, 999, 9_999);
+
+    assertThat(PackedPhoneNumber.isValid(0L)).isTrue();
+    assertThat(PackedPhoneNumber.isValid(value)).isTrue();
+    assertThat(PackedPhoneNumber.isValid(value | 1L << 24)).isTrue();
+    assertThat(PackedPhoneNumber.isValid(value | 1L << 24 | 10L)).isFalse();
+    assertThat(PackedPhoneNumber.isValid(value | 1L)).isFalse();
+    assertThat(PackedPhoneNumber.isValid(PackedPhoneNumber.INVALID)).isFalse();
+    assertThat(PackedPhoneNumber.isValid(Long.MAX_VALUE)).isFalse();
+  }
+
+  @Test
+  void toDigits() {
+
+    assertThat(PackedPhoneNumber.toDigits(PackedPhoneNumber.pack(newPhoneNumber("42")))).isEqualTo(5_035_551_234L);
+    assertThat(PackedPhoneNumber.toDigits(PackedPhoneNumber.pack(12, 3, 4))).isEqualTo(120_030_004L);
+    assertThat(PackedPhoneNumber.toDigits(0L)).isZero();
+  }
+
+  @Test
+  void packIsOrdered() {
+
+    assertThat(PackedPhoneNumber.pack(503, 555, 1234)).isLessThan(PackedPhoneNumber.pack(503, 555, 1235));
+    assertThat(PackedPhoneNumber.pack(503, 555, 9999)).isLessThan(PackedPhoneNumber.pack(503, 556, 0));
+    assertThat(PackedPhoneNumber.pack(503, 999, 9999)).isLessThan(PackedPhoneNumber.pack(971, 0, 0));
+  }
+
+  @Test
+  void packWithIllegalArgumentsThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> PackedPhoneNumber.pack(1000, 555, 1234))
+      .withMessage("AreaCode [1000] must be between 0 and 999")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> PackedPhoneNumber.pack(503, -1, 1234))
+      .withMessage("ExchangeCode [-1] must be between 0 and 999")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> PackedPhoneNumber.pack(503, 555, 10_000))
+      .withMessage("LineNumber [10000] must be between 0 and 9999")
+      .withNoCause();
+  }
+
+  @Test
+  void packCharSequence() {
+
+    assertThat(PackedPhoneNumber.pack("(503) 555-1234 x42")).isEqualTo(PackedPhoneNumber.pack(503, 555, 1234));
+    assertThat(PackedPhoneNumber.pack("555-1234")).isEqualTo(PackedPhoneNumber.INVALID);
+    assertThat(PackedPhoneNumber.pack((CharSequence) null)).isEqualTo(PackedPhoneNumber.INVALID);
+  }
+
+  @Test
+  void parse() {
+
+    PackedPhoneNumber phoneNumber = PackedPhoneNumber.parse("503.555.1234");
+
+    assertThat(phoneNumber).isEqualTo(PhoneNumber.parse("503-555-1234"));
+    assertThat(phoneNumber.getExtension()).isEmpty();
+  }
+
+  @Test
+  void parseInvalidPhoneNumberThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> PackedPhoneNumber.parse("555-1234"))
+      .withMessage("Phone Number [555-1234] must be [10] digits")
+      .withNoCause();
+  }
+
+  @Test
+  void compareToIsConsistentWithPhoneNumber() {
+
+    PackedPhoneNumber one = PackedPhoneNumber.parse("503-555-1234");
+    PackedPhoneNumber two = PackedPhoneNumber.parse("503-555-4321");
+    PackedPhoneNumber oneWithExtension = PackedPhoneNumber.from(newPhoneNumber("42"));
+
+    assertThat(one).isEqualByComparingTo(PackedPhoneNumber.parse("(503) 555-1234"));
+    assertThat(one).isLessThan(two);
+    assertThat(two).isGreaterThan(one);
+    assertThat(Integer.signum(oneWithExtension.compareTo(one)))
+      .isEqualTo(Integer.signum(newPhoneNumber("42").compareTo(PhoneNumber.parse("503-555-1234"))));
+  }
+
+  @Test
+  void equalsAndHashCodeAreCorrect() {
+
+    PackedPhoneNumber phoneNumber = PackedPhoneNumber.parse("503-555-1234");
+
+    assertThat(phoneNumber).isEqualTo(PackedPhoneNumber.parse("503-555-1234"));
+    assertThat(phoneNumber).hasSameHashCodeAs(PackedPhoneNumber.parse("503-555-1234"));
+    assertThat(phoneNumber).isNotEqualTo(PackedPhoneNumber.parse("503-555-4321"));
+    assertThat(phoneNumber).isNotEqualTo(PackedPhoneNumber.from(newPhoneNumber("42")));
+    assertThat(phoneNumber).isNotEqualTo("503-555-1234");
+    assertThat(phoneNumber.clone()).isEqualTo(phoneNumber);
+  }
+
+  @Test
+  void equalsAndHashCodeAreConsistentWithOtherPhoneNumbers() {
+
+    PhoneNumber phoneNumber = newPhoneNumber("42");
+    PackedPhoneNumber packedPhoneNumber = PackedPhoneNumber.from(phoneNumber);
+
+    assertThat(packedPhoneNumber).isEqualTo(phoneNumber);
+    assertThat(phoneNumber).isEqualTo(packedPhoneNumber);
+    assertThat(packedPhoneNumber).hasSameHashCodeAs(phoneNumber);
+    assertThat(new HashSet<>(List.of(phoneNumber, packedPhoneNumber))).hasSize(1);
+    assertThat(new HashSet<>(List.of(phoneNumber))).contains(packedPhoneNumber);
+
+    phoneNumber.setCountry(Country.UNITED_STATES_OF_AMERICA);
+
+    assertThat(packedPhoneNumber).isNotEqualTo(phoneNumber);
+    assertThat(phoneNumber).isNotEqualTo(packedPhoneNumber);
+  }
+
+  @Test
+  void isImmutable() {
+
+    PackedPhoneNumber phoneNumber = PackedPhoneNumber.parse("503-555-1234");
+
+    assertThatUnsupportedOperationException()
+      .isThrownBy(ThrowableOperation.fromRunnable(() -> phoneNumber.setCountry(Country.UNITED_STATES_OF_AMERICA)))
+      .havingMessage("Setting Country for a PhoneNumber of type [%s] is not supported",
+        PackedPhoneNumber.class.getName())
+      .withNoCause();
+
+    assertThatUnsupportedOperationException()
+      .isThrownBy(ThrowableOperation.fromRunnable(() -> phoneNumber.setId(1L)))
+      .havingMessage("Setting ID for a PhoneNumber of type [%s] is not supported", PackedPhoneNumber.class.getName())
+      .withNoCause();
+
+    assertThatUnsupportedOperationException()
+      .isThrownBy(ThrowableOperation.fromRunnable(() -> phoneNumber.setExtension(Extension.of(42))))
+      .havingMessage("Setting Extension for a PhoneNumber of type [%s] is not supported",
+        PackedPhoneNumber.class.getName())
+      .withNoCause();
+  }
+}
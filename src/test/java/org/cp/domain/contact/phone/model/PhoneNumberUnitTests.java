@@ -36,6 +36,7 @@ import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
+import org.cp.domain.core.support.ParseResult;
 import org.cp.domain.geo.enums.Country;
 import org.cp.elements.lang.ThrowableOperation;
 import org.cp.elements.lang.Visitor;
@@ -193,6 +194,29 @@ public class PhoneNumberUnitTests extends BasePhoneNumberUnitTests {
     assertPhoneNumber(phoneNumber, AreaCode.of(971), ExchangeCode.of(555), LineNumber.of(1234));
   }
 
+  @Test
+  void parseValidPhoneNumberWithNorthAmericanCallingCode() {
+
+    PhoneNumber phoneNumber = PhoneNumber.parse(" +1 (503) 555-1234");
+
+    assertPhoneNumber(phoneNumber, AreaCode.of(503), ExchangeCode.of(555), LineNumber.of(1234));
+  }
+
+  @Test
+  void parseInternationalPhoneNumberThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> PhoneNumber.parse("+44 20 7183 8750"))
+      .withMessage("Phone Number [+44 20 7183 8750] with calling code [+44] is not a North American Numbering Plan"
+        + " phone number; use InternationalPhoneNumber")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> PhoneNumber.parse("+999 123 456 7890"))
+      .withMessage("Phone Number [+999 123 456 7890] has an unknown calling code")
+      .withNoCause();
+  }
+
   @Test
   void parseInvalidPhoneNumberThrowsIllegalArgumentException() {
 
@@ -204,6 +228,87 @@ public class PhoneNumberUnitTests extends BasePhoneNumberUnitTests {
         .withNoCause());
   }
 
+  @Test
+  void parseValidPhoneNumberWithLeadingZeros() {
+
+    PhoneNumber phoneNumber = PhoneNumber.parse(new StringBuilder("012.034.0056"));
+
+    assertPhoneNumber(phoneNumber, AreaCode.of("012"), ExchangeCode.of("034"), LineNumber.of("0056"));
+  }
+
+  @Test
+  void parseReturnsInternedAreaCodeAndExchangeCode() {
+
+    PhoneNumber one = PhoneNumber.parse("503-555-1234");
+    PhoneNumber two = PhoneNumber.parse("(503) 555-4321");
+
+    assertThat(one.getAreaCode()).isSameAs(two.getAreaCode()).isSameAs(AreaCode.of(503));
+    assertThat(one.getExchangeCode()).isSameAs(two.getExchangeCode()).isSameAs(ExchangeCode.of(555));
+    assertThat(one.getLineNumber()).isNotEqualTo(two.getLineNumber());
+  }
+
+  @Test
+  void tryParseValidPhoneNumber() {
+
+    ParseResult<PhoneNumber> result = PhoneNumber.tryParse("971-555-1234");
+
+    assertThat(result).isNotNull();
+    assertThat(result.isValid()).isTrue();
+    assertThat(result.isInvalid()).isFalse();
+    assertThat(result.getInput()).isEqualTo("971-555-1234");
+    assertThat(result.getError()).isEmpty();
+    assertThat(result.getValue().map(PhoneNumber::getAreaCode)).contains(AreaCode.of(971));
+  }
+
+  @Test
+  void tryParseInvalidPhoneNumber() {
+
+    ParseResult<PhoneNumber> result = PhoneNumber.tryParse("555-1234");
+
+    assertThat(result).isNotNull();
+    assertThat(result.isValid()).isFalse();
+    assertThat(result.isInvalid()).isTrue();
+    assertThat(result.getInput()).isEqualTo("555-1234");
+    assertThat(result.getValue()).isEmpty();
+    assertThat(result.getError()).contains("Phone Number [555-1234] must be [10] digits");
+  }
+
+  @Test
+  void parseAllReportsErrorsPerRecord() {
+
+    List<ParseResult<PhoneNumber>> results =
+      PhoneNumber.parseAll(Arrays.asList("503-555-1234", "555-1234", null, "(971) 555-4321"));
+
+    assertThat(results).hasSize(4);
+    assertThat(results).extracting(ParseResult::isValid).containsExactly(true, false, false, true);
+    assertThat(results.get(1).getError()).contains("Phone Number [555-1234] must be [10] digits");
+    assertThat(results.get(2).getError()).contains("Phone Number [null] must be [10] digits");
+    assertThat(results.get(3).getValue().map(PhoneNumber::getLineNumber)).contains(LineNumber.of(4321));
+  }
+
+  @Test
+  void parseAllStreamReportsErrorsPerRecord() {
+
+    List<ParseResult<PhoneNumber>> results = PhoneNumber.parseAll(Stream.of("5035551234", "503555", "9715551234"))
+      .toList();
+
+    assertThat(results).extracting(ParseResult::isValid).containsExactly(true, false, true);
+  }
+
+  @Test
+  void parseAllWithNullThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> PhoneNumber.parseAll((Iterable<CharSequence>) null))
+      .withMessage("Phone numbers to parse are required")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> PhoneNumber.parseAll((Stream<CharSequence>) null))
+      .withMessage("Stream of phone numbers to parse is required")
+      .withNoCause();
+  }
+
   @Test
   void asTypeCallsSetType() {
 
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.contact.phone.model.usa.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.cp.domain.contact.phone.model.AreaCode;
+import org.cp.domain.contact.phone.model.ExchangeCode;
+import org.cp.domain.contact.phone.model.PhoneNumber;
+import org.cp.domain.contact.phone.model.usa.support.ExchangeCodeReferenceRepository.ExchangeCodeReference;
+
+/**
+ * Unit Tests for {@link ExchangeCodeReferenceRepository}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.contact.phone.model.usa.support.ExchangeCodeReferenceRepository
+ * @since 0.4.0
+ */
+public class ExchangeCodeReferenceRepositoryUnitTests {
+
+  private static final String CSV = """
+    NPA,NXX,Rate Center,Carrier,Line Type,Time Zone
+    503,555,PORTLAND,"Example Telephone Co., Inc.",LAND,America/Los_Angeles
+    971,555,PORTLAND,Example Wireless,WIRELESS,America/Los_Angeles
+
+    212,555,NEW YORK,Example Voice,voip,America/New_York
+    907,555,,,,
+    """;
+
+  private static ExchangeCodeReferenceRepository load(String csv) {
+    return ExchangeCodeReferenceRepository.load(new StringReader(csv));
+  }
+
+  @Test
+  void loadFromCsv() {
+
+    ExchangeCodeReferenceRepository repository = load(CSV);
+
+    assertThat(repository.count()).isEqualTo(4);
+    assertThat(repository.contains(503, 555)).isTrue();
+    assertThat(repository.contains(907, 555)).isTrue();
+    assertThat(repository.contains(503, 556)).isFalse();
+    assertThat(repository.contains(1_000, 555)).isFalse();
+  }
+
+  @Test
+  void getReferenceData() {
+
+    ExchangeCodeReferenceRepository repository = load(CSV);
+
+    assertThat(repository.getRateCenter(503, 555)).isEqualTo("PORTLAND");
+    assertThat(repository.getRateCenter(971, 555)).isSameAs(repository.getRateCenter(503, 555));
+    assertThat(repository.getCarrier(503, 555)).isEqualTo("Example Telephone Co., Inc.");
+    assertThat(repository.getType(503, 555)).isEqualTo(PhoneNumber.Type.LANDLINE);
+    assertThat(repository.getType(971, 555)).isEqualTo(PhoneNumber.Type.CELL);
+    assertThat(repository.getType(212, 555)).isEqualTo(PhoneNumber.Type.VOIP);
+    assertThat(repository.getTimeZone(212, 555)).isEqualTo(ZoneId.of("America/New_York"));
+  }
+
+  @Test
+  void getReferenceDataForUnknownValues() {
+
+    ExchangeCodeReferenceRepository repository = load(CSV);
+
+    assertThat(repository.getRateCenter(907, 555)).isNull();
+    assertThat(repository.getCarrier(907, 555)).isNull();
+    assertThat(repository.getType(907, 555)).isEqualTo(PhoneNumber.Type.UNKNOWN);
+    assertThat(repository.getTimeZone(907, 555)).isNull();
+    assertThat(repository.getRateCenter(503, 556)).isNull();
+    assertThat(repository.getType(-1, 555)).isEqualTo(PhoneNumber.Type.UNKNOWN);
+  }
+
+  @Test
+  void findByAreaCodeAndExchangeCode() {
+
+    ExchangeCodeReference reference = load(CSV).findBy(AreaCode.of(503), ExchangeCode.of(555)).orElse(null);
+
+    assertThat(reference).isNotNull();
+    assertThat(reference.getAreaCode()).isEqualTo(AreaCode.of(503));
+    assertThat(reference.getExchangeCode()).isEqualTo(ExchangeCode.of(555));
+    assertThat(reference.getRateCenter()).isEqualTo("PORTLAND");
+    assertThat(reference.getCarrier()).isEqualTo("Example Telephone Co., Inc.");
+    assertThat(reference.getType()).isEqualTo(PhoneNumber.Type.LANDLINE);
+    assertThat(reference.getTimeZone()).isEqualTo(ZoneId.of("America/Los_Angeles"));
+  }
+
+  @Test
+  void findByUnknownOrNullCodesReturnsEmpty() {
+
+    ExchangeCodeReferenceRepository repository = load(CSV);
+
+    assertThat(repository.findBy(AreaCode.of(503), ExchangeCode.of(556))).isEmpty();
+    assertThat(repository.findBy(null, ExchangeCode.of(555))).isEmpty();
+    assertThat(repository.findBy(AreaCode.of(503), null)).isEmpty();
+  }
+
+  @Test
+  void resolveAndInferType() {
+
+    ExchangeCodeReferenceRepository repository = load(CSV);
+
+    PhoneNumber cellPhoneNumber = PhoneNumber.parse("971-555-1234");
+    PhoneNumber unknownPhoneNumber = PhoneNumber.parse("907-555-1234");
+    PhoneNumber typedPhoneNumber = PhoneNumber.parse("212-555-1234").asType(PhoneNumber.Type.LANDLINE);
+
+    assertThat(repository.resolveType(cellPhoneNumber)).isEqualTo(PhoneNumber.Type.CELL);
+    assertThat(repository.resolveType(null)).isEqualTo(PhoneNumber.Type.UNKNOWN);
+    assertThat(repository.inferType(cellPhoneNumber)).isSameAs(cellPhoneNumber);
+    assertThat(cellPhoneNumber.getType()).contains(PhoneNumber.Type.CELL);
+    assertThat(repository.inferType(unknownPhoneNumber).getType()).isEmpty();
+    assertThat(repository.inferType(typedPhoneNumber).getType()).contains(PhoneNumber.Type.LANDLINE);
+  }
+
+  @Test
+  void loadFromFile(@TempDir Path directory) throws IOException {
+
+    Path file = Files.writeString(directory.resolve("npa-nxx.csv"), CSV);
+
+    assertThat(ExchangeCodeReferenceRepository.load(file).count()).isEqualTo(4);
+  }
+
+  @Test
+  void loadWithWrongNumberOfFieldsThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> load("503,555,PORTLAND\n"))
+      .withMessage("Line [1] must contain [6] fields; was [3]")
+      .withNoCause();
+  }
+
+  @Test
+  void loadWithDuplicateNpaNxxThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> load("503,555,PORTLAND,,LAND,\n503,555,SALEM,,LAND,\n"))
+      .withMessage("NPA-NXX [503-555] on line [2] is a duplicate")
+      .withNoCause();
+  }
+
+  @Test
+  void loadWithInvalidNpaNxxThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> load("50,555,PORTLAND,,LAND,\n"))
+      .withMessage("Line [1] is not valid: NPA-NXX [50-555] must be two 3-digit numbers")
+      .withNoCause();
+  }
+
+  @Test
+  void loadWithNpaNxxOutOfRangeThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> load("012,555,PORTLAND,,LAND,\n"))
+      .withMessage("Line [1] is not valid: NPA-NXX [012-555] must be between [200] and [999]")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> load("503,155,PORTLAND,,LAND,\n"))
+      .withMessage("Line [1] is not valid: NPA-NXX [503-155] must be between [200] and [999]")
+      .withNoCause();
+  }
+
+  @Test
+  void loadWithInvalidLineTypeThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> load("503,555,PORTLAND,,FAX,\n"))
+      .withMessage("Line [1] is not valid: line type [FAX] is not a PhoneNumber.Type")
+      .withNoCause();
+  }
+
+  @Test
+  void loadWithInvalidTimeZoneThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> load("503,555,PORTLAND,,LAND,Pacific/Nowhere\n"))
+      .withMessage("Line [1] is not valid: time zone [Pacific/Nowhere] is not valid")
+      .withCauseInstanceOf(DateTimeException.class);
+  }
+
+  @Test
+  void defaultInstanceIsEmptyWithoutConfiguredLocation() {
+
+    if (System.getProperty(ExchangeCodeReferenceRepository.DATA_LOCATION_PROPERTY) == null) {
+
+      ExchangeCodeReferenceRepository repository = ExchangeCodeReferenceRepository.getInstance();
+
+      assertThat(repository.count()).isZero();
+      assertThat(repository.contains(503, 555)).isFalse();
+      assertThat(repository.getType(999, 999)).isEqualTo(PhoneNumber.Type.UNKNOWN);
+      assertThat(repository.findBy(AreaCode.of(503), ExchangeCode.of(555))).isEmpty();
+    }
+
+    assertThat(ExchangeCodeReferenceRepository.getInstance()).isSameAs(ExchangeCodeReferenceRepository.getInstance());
+  }
+}
@@ -17,6 +17,7 @@ package org.cp.domain.contact.phone.model.usa.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.cp.elements.lang.ThrowableAssertions.assertThatUnsupportedOperationException;
 
 import java.util.HashSet;
 import java.util.Map;
@@ -80,6 +81,57 @@ public class StateAreaCodesRepositoryUnitTests {
       .withNoCause();
   }
 
+  @Test
+  public void findStateByNullAreaCode() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> StateAreaCodesRepository.getInstance().findStateBy(null))
+      .withMessage("No State for AreaCode [null] could be found")
+      .withNoCause();
+  }
+
+  @Test
+  public void findStateByNumericAreaCodeIsCorrect() {
+
+    StateAreaCodesRepository repository = StateAreaCodesRepository.getInstance();
+
+    for (Map.Entry<State, Set<AreaCode>> mapEntry : repository) {
+      for (AreaCode areaCode : mapEntry.getValue()) {
+        assertThat(repository.findStateBy(Integer.parseInt(areaCode.getNumber()))).isEqualTo(mapEntry.getKey());
+      }
+    }
+
+    assertThat(repository.findStateBy(503)).isEqualTo(State.OREGON);
+    assertThat(repository.findStateBy(907)).isEqualTo(State.ALASKA);
+  }
+
+  @Test
+  public void findStateByNonExistingNumericAreaCode() {
+
+    for (int areaCode : new int[] { -503, 0, 10, 199, 999, 1000 }) {
+      assertThatIllegalArgumentException()
+        .isThrownBy(() -> StateAreaCodesRepository.getInstance().findStateBy(areaCode))
+        .withMessage("No State for AreaCode [%s] could be found", areaCode)
+        .withNoCause();
+    }
+  }
+
+  @Test
+  public void stateAreaCodeMappingIsImmutable() {
+
+    Map<State, Set<AreaCode>> stateAreaCodeMapping = StateAreaCodesRepository.getInstance().getStateAreaCodeMapping();
+
+    assertThat(stateAreaCodeMapping).isSameAs(StateAreaCodesRepository.getInstance().getStateAreaCodeMapping());
+
+    assertThatUnsupportedOperationException()
+      .isThrownBy(args -> stateAreaCodeMapping.put(State.OREGON, Set.of(AreaCode.of(503))))
+      .withNoCause();
+
+    assertThatUnsupportedOperationException()
+      .isThrownBy(args -> stateAreaCodeMapping.get(State.OREGON).add(AreaCode.of(999)))
+      .withNoCause();
+  }
+
   @Test
   public void noDuplicateAreaCodesExist() {
 
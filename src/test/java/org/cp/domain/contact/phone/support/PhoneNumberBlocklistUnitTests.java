@@ -0,0 +1,244 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.contact.phone.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.cp.domain.contact.phone.model.PackedPhoneNumber;
+import org.cp.domain.contact.phone.model.PhoneNumber;
+
+/**
+ * Unit Tests for {@link PhoneNumberBlocklist}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.contact.phone.support.PhoneNumberBlocklist
+ * @since 0.4.0
+ */
+public class PhoneNumberBlocklistUnitTests {
+
+  private static long randomPhoneNumber(Random random) {
+
+    // Half the phone numbers are crowded into a few exchanges so that some chunks are stored as bitmaps
+    return random.nextBoolean()
+      ? PackedPhoneNumber.pack(503, random.nextInt(20), random.nextInt(10_000))
+      : PackedPhoneNumber.pack(random.nextInt(1_000), random.nextInt(1_000), random.nextInt(10_000));
+  }
+
+  @Test
+  void emptyBlocklist() {
+
+    PhoneNumberBlocklist blocklist = PhoneNumberBlocklist.empty();
+
+    assertThat(blocklist.isEmpty()).isTrue();
+    assertThat(blocklist.cardinality()).isZero();
+    assertThat(blocklist.contains("503-555-1234")).isFalse();
+    assertThat(PhoneNumberBlocklist.builder().build().isEmpty()).isTrue();
+  }
+
+  @Test
+  void buildAndContains() {
+
+    PhoneNumberBlocklist blocklist = PhoneNumberBlocklist.builder()
+      .add(PhoneNumber.parse("503-555-1234"))
+      .add(PackedPhoneNumber.pack(971, 555, 1234))
+      .add("(503) 555-1234 x42")
+      .add("999-999-9999")
+      .build();
+
+    assertThat(blocklist.cardinality()).isEqualTo(3L);
+    assertThat(blocklist.contains(PhoneNumber.parse("(503) 555-1234"))).isTrue();
+    assertThat(blocklist.contains(PackedPhoneNumber.parse("503.555.1234"))).isTrue();
+    assertThat(blocklist.contains(PackedPhoneNumber.pack(971, 555, 1234))).isTrue();
+    assertThat(blocklist.contains("9999999999")).isTrue();
+    assertThat(blocklist.contains("503-555-1235")).isFalse();
+    assertThat(blocklist.contains("555-1234")).isFalse();
+    assertThat(blocklist.contains((PhoneNumber) null)).isFalse();
+    assertThat(blocklist.contains(PackedPhoneNumber.INVALID)).isFalse();
+  }
+
+  @Test
+  void addInvalidPhoneNumberThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> PhoneNumberBlocklist.builder().add("555-1234"))
+      .withMessage("Phone Number [555-1234] must be [10] digits")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> PhoneNumberBlocklist.builder().add("+44 20 7183 8750"))
+      .withMessage("Phone Number [+44 20 7183 8750] with calling code [+44] is not a North American Numbering Plan"
+        + " phone number; use InternationalPhoneNumber")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> PhoneNumberBlocklist.builder().add(PackedPhoneNumber.INVALID))
+      .withMessage("Packed phone number [-1] is not valid")
+      .withNoCause();
+  }
+
+  @Test
+  void containsMatchesHashSet() {
+
+    Random random = new Random(1963L);
+    Set<Long> expected = new HashSet<>();
+    PhoneNumberBlocklist.Builder builder = PhoneNumberBlocklist.builder();
+
+    for (int count = 0; count < 100_000; count++) {
+
+      long phoneNumber = randomPhoneNumber(random);
+
+      expected.add(PackedPhoneNumber.toDigits(phoneNumber));
+      builder.add(phoneNumber);
+    }
+
+    PhoneNumberBlocklist blocklist = builder.build();
+
+    assertThat(blocklist.cardinality()).isEqualTo(expected.size());
+
+    for (int count = 0; count < 100_000; count++) {
+
+      long phoneNumber = randomPhoneNumber(random);
+
+      assertThat(blocklist.contains(phoneNumber)).isEqualTo(expected.contains(PackedPhoneNumber.toDigits(phoneNumber)));
+    }
+  }
+
+  @Test
+  void unionAndIntersection() {
+
+    Random random = new Random(1963L);
+    Set<Long> one = new HashSet<>();
+    Set<Long> two = new HashSet<>();
+    PhoneNumberBlocklist.Builder oneBuilder = PhoneNumberBlocklist.builder();
+    PhoneNumberBlocklist.Builder twoBuilder = PhoneNumberBlocklist.builder();
+
+    for (int count = 0; count < 100_000; count++) {
+
+      long phoneNumber = randomPhoneNumber(random);
+
+      if (random.nextBoolean()) {
+        one.add(PackedPhoneNumber.toDigits(phoneNumber));
+        oneBuilder.add(phoneNumber);
+      }
+      else {
+        two.add(PackedPhoneNumber.toDigits(phoneNumber));
+        twoBuilder.add(phoneNumber);
+      }
+    }
+
+    PhoneNumberBlocklist oneBlocklist = oneBuilder.build();
+    PhoneNumberBlocklist twoBlocklist = twoBuilder.build();
+    PhoneNumberBlocklist union = oneBlocklist.union(twoBlocklist);
+    PhoneNumberBlocklist intersection = oneBlocklist.intersection(twoBlocklist);
+
+    Set<Long> expectedUnion = new HashSet<>(one);
+    Set<Long> expectedIntersection = new HashSet<>(one);
+
+    expectedUnion.addAll(two);
+    expectedIntersection.retainAll(two);
+
+    assertThat(union.cardinality()).isEqualTo(expectedUnion.size());
+    assertThat(intersection.cardinality()).isEqualTo(expectedIntersection.size());
+    assertThat(oneBlocklist.intersection(union).cardinality()).isEqualTo(one.size());
+    assertThat(oneBlocklist.union(PhoneNumberBlocklist.empty()).cardinality()).isEqualTo(one.size());
+    assertThat(oneBlocklist.intersection(PhoneNumberBlocklist.empty()).isEmpty()).isTrue();
+
+    for (int count = 0; count < 100_000; count++) {
+
+      long phoneNumber = randomPhoneNumber(random);
+      long digits = PackedPhoneNumber.toDigits(phoneNumber);
+
+      assertThat(union.contains(phoneNumber)).isEqualTo(expectedUnion.contains(digits));
+      assertThat(intersection.contains(phoneNumber)).isEqualTo(expectedIntersection.contains(digits));
+    }
+  }
+
+  @Test
+  void loadFromTextFile(@TempDir Path directory) throws IOException {
+
+    Path file = Files.writeString(directory.resolve("do-not-call.txt"),
+      "# Do Not Call\n503-555-1234\n\n  (971) 555-4321 x42\n5035551234\n");
+
+    PhoneNumberBlocklist blocklist = PhoneNumberBlocklist.load(file);
+
+    assertThat(blocklist.cardinality()).isEqualTo(2L);
+    assertThat(blocklist.contains("503-555-1234")).isTrue();
+    assertThat(blocklist.contains("971-555-4321")).isTrue();
+  }
+
+  @Test
+  void loadFromTextFileWithInvalidPhoneNumberThrowsIllegalArgumentException(@TempDir Path directory)
+      throws IOException {
+
+    Path file = Files.writeString(directory.resolve("do-not-call.txt"), "503-555-1234\n555-1234\n");
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> PhoneNumberBlocklist.load(file))
+      .withMessage("Phone Number [555-1234] on line [2] of file [%s] is not valid", file)
+      .withNoCause();
+  }
+
+  @Test
+  void writeToAndMap(@TempDir Path directory) {
+
+    Random random = new Random(1963L);
+    PhoneNumberBlocklist.Builder builder = PhoneNumberBlocklist.builder();
+
+    for (int count = 0; count < 10_000; count++) {
+      builder.add(randomPhoneNumber(random));
+    }
+
+    PhoneNumberBlocklist blocklist = builder.build();
+    Path file = directory.resolve("do-not-call.bin");
+
+    blocklist.writeTo(file);
+
+    PhoneNumberBlocklist mappedBlocklist = PhoneNumberBlocklist.map(file);
+
+    assertThat(mappedBlocklist.cardinality()).isEqualTo(blocklist.cardinality());
+
+    for (int count = 0; count < 10_000; count++) {
+
+      long phoneNumber = randomPhoneNumber(random);
+
+      assertThat(mappedBlocklist.contains(phoneNumber)).isEqualTo(blocklist.contains(phoneNumber));
+    }
+  }
+
+  @Test
+  void mapInvalidFileThrowsIllegalStateException(@TempDir Path directory) throws IOException {
+
+    Path file = Files.writeString(directory.resolve("do-not-call.txt"), "503-555-1234\n");
+
+    assertThatIllegalStateException()
+      .isThrownBy(() -> PhoneNumberBlocklist.map(file))
+      .withMessage("File [%s] is not a PhoneNumberBlocklist", file)
+      .withNoCause();
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.contact.phone.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.domain.contact.phone.model.PackedPhoneNumber;
+import org.cp.domain.contact.phone.model.PhoneNumber;
+
+/**
+ * Unit Tests for {@link PhoneNumberMap}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.contact.phone.support.PhoneNumberMap
+ * @since 0.4.0
+ */
+public class PhoneNumberMapUnitTests {
+
+  @Test
+  void newPhoneNumberMapIsEmpty() {
+
+    PhoneNumberMap phoneNumbers = new PhoneNumberMap();
+
+    assertThat(phoneNumbers.isEmpty()).isTrue();
+    assertThat(phoneNumbers.size()).isZero();
+    assertThat(phoneNumbers.get(PackedPhoneNumber.pack(503, 555, 1234))).isEqualTo(PhoneNumberMap.NO_VALUE);
+  }
+
+  @Test
+  void putGetAndRemove() {
+
+    PhoneNumberMap phoneNumbers = new PhoneNumberMap(0);
+    PhoneNumber phoneNumber = PhoneNumber.parse("503-555-1234");
+    long packedPhoneNumber = PackedPhoneNumber.pack(phoneNumber);
+
+    assertThat(phoneNumbers.put(phoneNumber, 1L)).isEqualTo(PhoneNumberMap.NO_VALUE);
+    assertThat(phoneNumbers.put(packedPhoneNumber, 2L)).isEqualTo(1L);
+    assertThat(phoneNumbers.putIfAbsent(packedPhoneNumber, 3L)).isEqualTo(2L);
+    assertThat(phoneNumbers.putIfAbsent(PackedPhoneNumber.pack(971, 555, 1234), 4L))
+      .isEqualTo(PhoneNumberMap.NO_VALUE);
+    assertThat(phoneNumbers.size()).isEqualTo(2);
+    assertThat(phoneNumbers.get(phoneNumber)).isEqualTo(2L);
+    assertThat(phoneNumbers.containsKey(phoneNumber)).isTrue();
+    assertThat(phoneNumbers.getOrDefault(PackedPhoneNumber.pack(503, 555, 4321), -1L)).isEqualTo(-1L);
+    assertThat(phoneNumbers.remove(packedPhoneNumber)).isEqualTo(2L);
+    assertThat(phoneNumbers.remove(packedPhoneNumber)).isEqualTo(PhoneNumberMap.NO_VALUE);
+    assertThat(phoneNumbers.containsKey(phoneNumber)).isFalse();
+    assertThat(phoneNumbers.get(PackedPhoneNumber.pack(971, 555, 1234))).isEqualTo(4L);
+
+    phoneNumbers.clear();
+
+    assertThat(phoneNumbers.isEmpty()).isTrue();
+  }
+
+  @Test
+  void addToCountsDuplicates() {
+
+    PhoneNumberMap counts = new PhoneNumberMap();
+
+    for (String phoneNumber : new String[] { "503-555-1234", "(503) 555-1234", "971-555-1234", "5035551234" }) {
+      counts.addTo(PackedPhoneNumber.pack(phoneNumber), 1L);
+    }
+
+    assertThat(counts.size()).isEqualTo(2);
+    assertThat(counts.get(PackedPhoneNumber.pack(503, 555, 1234))).isEqualTo(3L);
+    assertThat(counts.get(PackedPhoneNumber.pack(971, 555, 1234))).isEqualTo(1L);
+  }
+
+  @Test
+  void putInvalidPackedPhoneNumberThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new PhoneNumberMap().put(PackedPhoneNumber.INVALID, 1L))
+      .withMessage("Packed phone number [-1] is not valid")
+      .withNoCause();
+  }
+
+  @Test
+  void behavesLikeHashMap() {
+
+    PhoneNumberMap phoneNumbers = new PhoneNumberMap();
+    Map<Long, Long> expected = new HashMap<>();
+    Random random = new Random(1963L);
+
+    for (int count = 0; count < 100_000; count++) {
+
+      long phoneNumber = PackedPhoneNumber.pack(503, random.nextInt(2), random.nextInt(10_000));
+      long value = count;
+
+      switch (random.nextInt(3)) {
+        case 0 -> assertThat(phoneNumbers.remove(phoneNumber))
+          .isEqualTo(expected.getOrDefault(phoneNumber, PhoneNumberMap.NO_VALUE).longValue())
+          .satisfies(ignore -> expected.remove(phoneNumber));
+        case 1 -> assertThat(phoneNumbers.get(phoneNumber))
+          .isEqualTo(expected.getOrDefault(phoneNumber, PhoneNumberMap.NO_VALUE).longValue());
+        default -> assertThat(phoneNumbers.put(phoneNumber, value))
+          .isEqualTo(expected.getOrDefault(phoneNumber, PhoneNumberMap.NO_VALUE).longValue())
+          .satisfies(ignore -> expected.put(phoneNumber, value));
+      }
+    }
+
+    assertThat(phoneNumbers.size()).isEqualTo(expected.size());
+
+    Map<Long, Long> actual = new HashMap<>();
+
+    phoneNumbers.forEach(actual::put);
+
+    assertThat(actual).isEqualTo(expected);
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.contact.phone.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.domain.contact.phone.model.PackedPhoneNumber;
+import org.cp.domain.contact.phone.model.PhoneNumber;
+
+/**
+ * Unit Tests for {@link PhoneNumberSet}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.contact.phone.support.PhoneNumberSet
+ * @since 0.4.0
+ */
+public class PhoneNumberSetUnitTests {
+
+  @Test
+  void newPhoneNumberSetIsEmpty() {
+
+    PhoneNumberSet phoneNumbers = new PhoneNumberSet();
+
+    assertThat(phoneNumbers.isEmpty()).isTrue();
+    assertThat(phoneNumbers.size()).isZero();
+    assertThat(phoneNumbers.toArray()).isEmpty();
+    assertThat(phoneNumbers.contains(PackedPhoneNumber.pack(503, 555, 1234))).isFalse();
+  }
+
+  @Test
+  void constructWithNegativeExpectedSizeThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new PhoneNumberSet(-1))
+      .withMessage("Expected size [-1] must be greater than or equal to 0")
+      .withNoCause();
+  }
+
+  @Test
+  void addContainsAndRemove() {
+
+    PhoneNumberSet phoneNumbers = new PhoneNumberSet(0);
+    PhoneNumber phoneNumber = PhoneNumber.parse("503-555-1234");
+
+    assertThat(phoneNumbers.add(phoneNumber)).isTrue();
+    assertThat(phoneNumbers.add(PackedPhoneNumber.parse("(503) 555-1234"))).isFalse();
+    assertThat(phoneNumbers.add(PackedPhoneNumber.pack("971-555-1234"))).isTrue();
+    assertThat(phoneNumbers.size()).isEqualTo(2);
+    assertThat(phoneNumbers.contains(phoneNumber)).isTrue();
+    assertThat(phoneNumbers.contains(PackedPhoneNumber.pack(971, 555, 1234))).isTrue();
+    assertThat(phoneNumbers.contains(PackedPhoneNumber.INVALID)).isFalse();
+    assertThat(phoneNumbers.remove(PackedPhoneNumber.pack(503, 555, 1234))).isTrue();
+    assertThat(phoneNumbers.remove(PackedPhoneNumber.pack(503, 555, 1234))).isFalse();
+    assertThat(phoneNumbers.contains(phoneNumber)).isFalse();
+    assertThat(phoneNumbers.toArray()).containsExactly(PackedPhoneNumber.pack(971, 555, 1234));
+
+    phoneNumbers.clear();
+
+    assertThat(phoneNumbers.isEmpty()).isTrue();
+  }
+
+  @Test
+  void addInvalidPackedPhoneNumberThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new PhoneNumberSet().add(PackedPhoneNumber.INVALID))
+      .withMessage("Packed phone number [-1] is not valid")
+      .withNoCause();
+  }
+
+  @Test
+  void behavesLikeHashSet() {
+
+    PhoneNumberSet phoneNumbers = new PhoneNumberSet();
+    Set<Long> expected = new HashSet<>();
+    Random random = new Random(1963L);
+
+    for (int count = 0; count < 100_000; count++) {
+
+      long phoneNumber = PackedPhoneNumber.pack(503, random.nextInt(2), random.nextInt(10_000));
+
+      switch (random.nextInt(3)) {
+        case 0 -> assertThat(phoneNumbers.remove(phoneNumber)).isEqualTo(expected.remove(phoneNumber));
+        case 1 -> assertThat(phoneNumbers.contains(phoneNumber)).isEqualTo(expected.contains(phoneNumber));
+        default -> assertThat(phoneNumbers.add(phoneNumber)).isEqualTo(expected.add(phoneNumber));
+      }
+    }
+
+    assertThat(phoneNumbers.size()).isEqualTo(expected.size());
+    assertThat(phoneNumbers.stream().boxed()).containsExactlyInAnyOrderElementsOf(expected);
+
+    Set<Long> actual = new HashSet<>();
+
+    phoneNumbers.forEach(actual::add);
+
+    assertThat(actual).isEqualTo(expected);
+  }
+}
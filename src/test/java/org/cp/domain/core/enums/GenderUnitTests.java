@@ -95,6 +95,14 @@ public class GenderUnitTests {
     assertThat(Gender.valueOfName("Women")).isNull();
   }
 
+  @Test
+  public void valueOfNameWithWhitespace() {
+
+    assertThat(Gender.valueOfName(" Female ")).isNull();
+    assertThat(Gender.valueOfName((CharSequence) " Female ")).isEqualTo(Gender.FEMALE);
+    assertThat(Gender.valueOfName(new StringBuilder("female"))).isEqualTo(Gender.FEMALE);
+  }
+
   @Test
   public void valueOfNullNameIsNullSafeReturnsNull() {
     assertThat(Gender.valueOfName(null)).isNull();
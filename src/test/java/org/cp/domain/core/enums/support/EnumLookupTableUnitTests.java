@@ -0,0 +1,163 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.core.enums.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.domain.geo.enums.State;
+import org.cp.domain.geo.model.Street;
+
+/**
+ * Unit Tests for {@link EnumLookupTable}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.core.enums.support.EnumLookupTable
+ * @since 0.4.0
+ */
+class EnumLookupTableUnitTests {
+
+  @Test
+  void getResolvesAllEnumConstants() {
+
+    EnumLookupTable<State> lookupTable = EnumLookupTable.of(State.class, State::getAbbreviation);
+
+    assertThat(lookupTable.getEnumType()).isEqualTo(State.class);
+
+    Arrays.stream(State.values()).forEach(state -> {
+      assertThat(lookupTable.get(state.getAbbreviation())).isEqualTo(state);
+      assertThat(lookupTable.get(state.getAbbreviation().toLowerCase())).isEqualTo(state);
+    });
+  }
+
+  @Test
+  void getIsCaseInsensitiveAndIgnoresLeadingAndTrailingWhitespace() {
+
+    EnumLookupTable<Street.Type> lookupTable = EnumLookupTable.of(Street.Type.class, Street.Type::getName);
+
+    assertThat(lookupTable.get("Boulevard")).isEqualTo(Street.Type.BOULEVARD);
+    assertThat(lookupTable.get("BOULEVARD")).isEqualTo(Street.Type.BOULEVARD);
+    assertThat(lookupTable.get("  bouLeVard ")).isEqualTo(Street.Type.BOULEVARD);
+    assertThat(lookupTable.get(new StringBuilder("highway"))).isEqualTo(Street.Type.HIGHWAY);
+  }
+
+  @Test
+  void getIgnoreCaseDoesNotIgnoreWhitespace() {
+
+    EnumLookupTable<Street.Type> lookupTable = EnumLookupTable.of(Street.Type.class, Street.Type::getName);
+
+    assertThat(lookupTable.getIgnoreCase("Boulevard")).isEqualTo(Street.Type.BOULEVARD);
+    assertThat(lookupTable.getIgnoreCase("bouLeVard")).isEqualTo(Street.Type.BOULEVARD);
+    assertThat(lookupTable.getIgnoreCase("  Boulevard ")).isNull();
+    assertThat(lookupTable.getIgnoreCase("")).isNull();
+    assertThat(lookupTable.getIgnoreCase(null)).isNull();
+  }
+
+  @Test
+  void getWithRegion() {
+
+    EnumLookupTable<Street.Type> lookupTable = EnumLookupTable.of(Street.Type.class, Street.Type::getAbbreviation);
+
+    String street = "100 Main St NW";
+
+    assertThat(lookupTable.get(street, 9, 11)).isEqualTo(Street.Type.STREET);
+    assertThat(lookupTable.get(street, 8, 12)).isEqualTo(Street.Type.STREET);
+    assertThat(lookupTable.get(street, 4, 8)).isNull();
+    assertThat(lookupTable.get(street, 3, 3)).isNull();
+  }
+
+  @Test
+  void getWithInvalidRegionThrowsIndexOutOfBoundsException() {
+
+    EnumLookupTable<State> lookupTable = EnumLookupTable.of(State.class, State::getAbbreviation);
+
+    assertThatExceptionOfType(IndexOutOfBoundsException.class)
+      .isThrownBy(() -> lookupTable.get("OR", 1, 3));
+  }
+
+  @Test
+  void getReturnsNullOnMiss() {
+
+    EnumLookupTable<State> lookupTable = EnumLookupTable.of(State.class, State::getAbbreviation);
+
+    Arrays.asList("XX", "O", "ORE", "  ", "", null).forEach(key -> {
+      assertThat(lookupTable.get(key)).isNull();
+      assertThat(lookupTable.find(key)).isNotPresent();
+      assertThat(lookupTable.contains(key)).isFalse();
+    });
+  }
+
+  @Test
+  void findAndContains() {
+
+    EnumLookupTable<State> lookupTable = EnumLookupTable.of(State.class, State::getName);
+
+    assertThat(lookupTable.find("oregon")).contains(State.OREGON);
+    assertThat(lookupTable.contains("New York")).isTrue();
+  }
+
+  @Test
+  void getOrDefault() {
+
+    EnumLookupTable<Street.Type> lookupTable = EnumLookupTable.of(Street.Type.class, Street.Type::getAbbreviation);
+
+    assertThat(lookupTable.getOrDefault("AVE", Street.Type.UNKNOWN)).isEqualTo(Street.Type.AVENUE);
+    assertThat(lookupTable.getOrDefault("AVENIDA", Street.Type.UNKNOWN)).isEqualTo(Street.Type.UNKNOWN);
+  }
+
+  @Test
+  void firstEnumConstantWithDuplicateKeyWins() {
+
+    EnumLookupTable<State> lookupTable = EnumLookupTable.of(State.class, state -> state.name().substring(0, 1));
+
+    assertThat(lookupTable.get("a")).isEqualTo(State.ALABAMA);
+    assertThat(lookupTable.get("W")).isEqualTo(State.WASHINGTON);
+  }
+
+  @Test
+  void enumConstantsWithNullOrEmptyKeysAreNotIndexed() {
+
+    EnumLookupTable<State> lookupTable = EnumLookupTable.of(State.class,
+      state -> State.OREGON.equals(state) ? "OR" : State.TEXAS.equals(state) ? "  " : null);
+
+    assertThat(lookupTable.get("OR")).isEqualTo(State.OREGON);
+    assertThat(lookupTable.get("TX")).isNull();
+  }
+
+  @Test
+  void constructWithNullEnumType() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> EnumLookupTable.<State>of(null, State::getName))
+      .withMessage("Enum type is required")
+      .withNoCause();
+  }
+
+  @Test
+  void constructWithNullKeyFunction() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> EnumLookupTable.of(State.class, null))
+      .withMessage("Function used to compute the key of an Enum is required")
+      .withNoCause();
+  }
+}
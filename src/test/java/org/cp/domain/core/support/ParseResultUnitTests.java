@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.core.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests for {@link ParseResult}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.core.support.ParseResult
+ * @since 0.4.0
+ */
+public class ParseResultUnitTests {
+
+  @Test
+  void validParseResult() {
+
+    ParseResult<Integer> result = ParseResult.valid("42", 42);
+
+    assertThat(result.isValid()).isTrue();
+    assertThat(result.isInvalid()).isFalse();
+    assertThat(result.getInput()).isEqualTo("42");
+    assertThat(result.getValue()).contains(42);
+    assertThat(result.getError()).isNotPresent();
+    assertThat(result.orElseThrow()).isEqualTo(42);
+    assertThat(result).hasToString("42");
+  }
+
+  @Test
+  void invalidParseResult() {
+
+    ParseResult<Integer> result = ParseResult.invalid("4x", "Value [4x] is 100% invalid");
+
+    assertThat(result.isValid()).isFalse();
+    assertThat(result.isInvalid()).isTrue();
+    assertThat(result.getInput()).isEqualTo("4x");
+    assertThat(result.getValue()).isNotPresent();
+    assertThat(result.getError()).contains("Value [4x] is 100% invalid");
+    assertThat(result).hasToString("Value [4x] is 100% invalid");
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(result::orElseThrow)
+      .withMessage("Value [4x] is 100% invalid")
+      .withNoCause();
+  }
+
+  @Test
+  void invalidParseResultConstructsCauseOnlyWhenThrown() {
+
+    AtomicInteger causes = new AtomicInteger();
+
+    ParseResult<Integer> result = ParseResult.invalid("4x", "Value [4x] is invalid", () -> {
+      causes.incrementAndGet();
+      return new NumberFormatException("For input string: \"4x\"");
+    });
+
+    assertThat(result.getError()).contains("Value [4x] is invalid");
+    assertThat(causes).hasValue(0);
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(result::orElseThrow)
+      .withMessage("Value [4x] is invalid")
+      .withCauseInstanceOf(NumberFormatException.class);
+
+    assertThat(causes).hasValue(1);
+  }
+
+  @Test
+  void parseResultWithIllegalArgumentsThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> ParseResult.invalid("4x", null))
+      .withMessage("Error is required")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> ParseResult.valid("4x", null))
+      .withMessage("Value is required")
+      .withNoCause();
+  }
+}
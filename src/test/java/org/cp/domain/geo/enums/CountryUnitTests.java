@@ -17,9 +17,11 @@ package org.cp.domain.geo.enums;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.cp.elements.lang.ThrowableAssertions.assertThatUnsupportedOperationException;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -608,6 +610,110 @@ class CountryUnitTests {
       .withNoCause();
   }
 
+  @Test
+  void byCallingCodeIsCorrect() {
+
+    assertThat(Country.byCallingCode(1)).isEqualTo(Country.UNITED_STATES_OF_AMERICA);
+    assertThat(Country.byCallingCode(7)).isEqualTo(Country.RUSSIA);
+    assertThat(Country.byCallingCode(39)).isEqualTo(Country.ITALY);
+    assertThat(Country.byCallingCode(44)).isEqualTo(Country.UNITED_KINGDOM);
+    assertThat(Country.byCallingCode(353)).isEqualTo(Country.IRELAND);
+
+    Arrays.stream(Country.values())
+      .filter(country -> country.getCallingCode() > 0)
+      .forEach(country -> assertThat(Country.byCallingCode(country.getCallingCode()).getCallingCode())
+        .isEqualTo(country.getCallingCode()));
+  }
+
+  @Test
+  void byInvalidCallingCodeThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> Country.byCallingCode(999))
+      .withMessage("Country for calling code [999] was not found")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> Country.byCallingCode(0))
+      .withMessage("Country for calling code [0] was not found")
+      .withNoCause();
+  }
+
+  @Test
+  void getCallingCode() {
+
+    assertThat(Country.CANADA.getCallingCode()).isOne();
+    assertThat(Country.KAZAKHSTAN.getCallingCode()).isEqualTo(7);
+    assertThat(Country.VATICAN_CITY.getCallingCode()).isEqualTo(39);
+    assertThat(Country.GERMANY.getCallingCode()).isEqualTo(49);
+    assertThat(Country.UNKNOWN.getCallingCode()).isZero();
+  }
+
+  @Test
+  void byIsoCodesIsCaseInsensitive() {
+
+    assertThat(Country.byIsoTwo("us")).isEqualTo(Country.UNITED_STATES_OF_AMERICA);
+    assertThat(Country.byIsoTwo("Ca")).isEqualTo(Country.CANADA);
+    assertThat(Country.byIsoThree("usa")).isEqualTo(Country.UNITED_STATES_OF_AMERICA);
+    assertThat(Country.byIsoThree("mEx")).isEqualTo(Country.MEXICO);
+  }
+
+  @Test
+  void byNullIsoCodesThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> Country.byIsoTwo(null))
+      .withMessage("Country for ISO 3166-2 [null] was not found")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> Country.byIsoThree(null))
+      .withMessage("Country for ISO 3166-3 [null] was not found")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> Country.byIsoThreeDigitNumericCountryCode(null))
+      .withMessage("Country for ISO 3-digit numeric country code [null] was not found")
+      .withNoCause();
+  }
+
+  @Test
+  void byContinentIsImmutable() {
+
+    Set<Country> countries = Country.byContinent(Continent.NORTH_AMERICA);
+
+    assertThat(countries).contains(Country.CANADA, Country.MEXICO, Country.UNITED_STATES_OF_AMERICA);
+    assertThat(countries).isSameAs(Country.byContinent(Continent.NORTH_AMERICA));
+
+    assertThatUnsupportedOperationException()
+      .isThrownBy(args -> countries.add(Country.JAPAN))
+      .withNoCause();
+  }
+
+  @Test
+  void localCountryIsResolvedFromDefaultLocale() {
+
+    Locale defaultLocale = Locale.getDefault();
+
+    try {
+      Locale.setDefault(Locale.US);
+
+      assertThat(Country.localCountry()).isEqualTo(Country.UNITED_STATES_OF_AMERICA);
+      assertThat(Country.localCountry()).isEqualTo(Country.UNITED_STATES_OF_AMERICA);
+
+      Locale.setDefault(Locale.CANADA);
+
+      assertThat(Country.localCountry()).isEqualTo(Country.CANADA);
+
+      Locale.setDefault(Locale.JAPAN);
+
+      assertThat(Country.localCountry()).isEqualTo(Country.JAPAN);
+    }
+    finally {
+      Locale.setDefault(defaultLocale);
+    }
+  }
+
   @Test
   void byNullContinentIsNullSafe() {
 
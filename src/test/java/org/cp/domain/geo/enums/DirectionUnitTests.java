@@ -46,13 +46,52 @@ public class DirectionUnitTests {
   @Test
   public void fromIllegalAbbreviationThrowsIllegalArgumentException() {
 
-    Arrays.asList("NS", "WE", "  ", "", null).forEach(illegalAbbreviation ->
+    Arrays.asList("NS", "WE", " N ", "  ", "", null).forEach(illegalAbbreviation ->
       assertThatIllegalArgumentException()
         .isThrownBy(() -> Direction.fromAbbreviation(illegalAbbreviation))
         .withMessage("Direction abbreviation [%s] is not valid", illegalAbbreviation)
         .withNoCause());
   }
 
+  @Test
+  void valueOfAbbreviationReturnsDirection() {
+
+    Arrays.stream(Direction.values()).forEach(direction ->
+      assertThat(Direction.valueOfAbbreviation(direction.getAbbreviation().toLowerCase())).isEqualTo(direction));
+  }
+
+  @Test
+  void valueOfIllegalAbbreviationReturnsNull() {
+
+    Arrays.asList("NS", "WE", "  ", "", null).forEach(illegalAbbreviation ->
+      assertThat(Direction.valueOfAbbreviation(illegalAbbreviation)).isNull());
+  }
+
+  @Test
+  void valueOfNameReturnsDirection() {
+
+    Arrays.stream(Direction.values()).forEach(direction ->
+      assertThat(Direction.valueOfName(direction.getName())).isEqualTo(direction));
+  }
+
+  @Test
+  void valueOfIllegalNameReturnsNull() {
+
+    Arrays.asList("northsouth", "westnorth", "  ", "", null).forEach(illegalName ->
+      assertThat(Direction.valueOfName(illegalName)).isNull());
+  }
+
+  @Test
+  void valueOfAbbreviationOrNameFromRegionReturnsDirection() {
+
+    String street = "100 sw Main, 200 North Elm";
+
+    assertThat(Direction.valueOfAbbreviationOrName(street, 4, 6)).isEqualTo(Direction.SOUTHWEST);
+    assertThat(Direction.valueOfAbbreviationOrName(street, 17, 22)).isEqualTo(Direction.NORTH);
+    assertThat(Direction.valueOfAbbreviationOrName(street, 7, 11)).isNull();
+    assertThat(Direction.valueOfAbbreviationOrName(null, 0, 0)).isNull();
+  }
+
   @Test
   void fromNameReturnsDirection() {
 
@@ -65,6 +65,14 @@ public class StateTests {
     assertThat(State.valueOfAbbreviation("or")).isEqualTo(State.OREGON);
   }
 
+  @Test
+  public void valueOfAbbreviationWithWhitespace() {
+
+    assertThat(State.valueOfAbbreviation(" OR ")).isNull();
+    assertThat(State.valueOfAbbreviation((CharSequence) " OR ")).isEqualTo(State.OREGON);
+    assertThat(State.valueOfAbbreviation(new StringBuilder("or"))).isEqualTo(State.OREGON);
+  }
+
   @Test
   public void valueOfNullAbbreviationReturnsNull() {
     assertThat(State.valueOfAbbreviation(null)).isNull();
@@ -99,6 +107,17 @@ public class StateTests {
     assertNull(State.valueOfName("Wash"));
   }
 
+  @Test
+  public void valueOfAbbreviationOrNameFromRegionReturnsState() {
+
+    String address = "Portland, OR; Charleston, West Virginia";
+
+    assertThat(State.valueOfAbbreviationOrName(address, 10, 12)).isEqualTo(State.OREGON);
+    assertThat(State.valueOfAbbreviationOrName(address, 26, 39)).isEqualTo(State.WEST_VIRGINIA);
+    assertThat(State.valueOfAbbreviationOrName(address, 0, 8)).isNull();
+    assertThat(State.valueOfAbbreviationOrName(null, 0, 0)).isNull();
+  }
+
   @Test
   public void toStringReturnsName() {
 
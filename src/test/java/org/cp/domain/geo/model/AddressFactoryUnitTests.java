@@ -16,19 +16,24 @@
 package org.cp.domain.geo.model;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.util.Properties;
+
 import org.junit.jupiter.api.Test;
 
 import org.cp.domain.geo.annotation.CountryQualifier;
 import org.cp.domain.geo.enums.Country;
 import org.cp.domain.geo.model.AddressFactory.FactoryAddress;
 import org.cp.domain.geo.model.AddressFactory.FactoryAddressBuilder;
+import org.cp.domain.geo.model.generic.GenericAddressFactory;
 import org.cp.domain.geo.model.usa.UnitedStatesAddress;
+import org.cp.domain.geo.model.usa.UnitedStatesAddressFactory;
 import org.cp.elements.lang.annotation.Qualifier;
 
 /**
@@ -43,6 +48,82 @@ import org.cp.elements.lang.annotation.Qualifier;
  */
 public class AddressFactoryUnitTests extends BaseAddressUnitTests {
 
+  @Test
+  void getInstanceIsCached() {
+
+    assertThat(AddressFactory.getInstance(Country.VATICAN_CITY))
+      .isInstanceOf(TestAddressFactory.class)
+      .isSameAs(AddressFactory.getInstance(Country.VATICAN_CITY));
+
+    assertThat(AddressFactory.getInstance(Country.UNITED_STATES_OF_AMERICA))
+      .isInstanceOf(UnitedStatesAddressFactory.class)
+      .isSameAs(AddressFactory.getInstance(Country.UNITED_STATES_OF_AMERICA));
+  }
+
+  @Test
+  void getInstanceForCountryWithoutQualifiedAddressFactoryReturnsDefaultAddressFactory() {
+
+    AddressFactory<?> addressFactory = AddressFactory.getInstance(Country.FRANCE);
+
+    assertThat(addressFactory).isInstanceOf(AddressFactory.DefaultAddressFactory.class);
+    assertThat(AddressFactory.getInstance(Country.FRANCE)).isSameAs(addressFactory);
+    assertThat(AddressFactory.getInstance(Country.EGYPT)).isSameAs(addressFactory);
+  }
+
+  @Test
+  void getInstanceForUnknownCountryReturnsGenericAddressFactory() {
+
+    AddressFactory.getInstance(Country.ITALY);
+
+    assertThat(AddressFactory.getInstance(Country.UNKNOWN)).isInstanceOf(GenericAddressFactory.class);
+    assertThat(AddressFactory.getInstance(null)).isSameAs(AddressFactory.getInstance(Country.UNKNOWN));
+  }
+
+  @Test
+  void registryIndexesCountryQualifiedServiceProviders() {
+
+    AddressFactory.Registry registry = AddressFactory.Registry.load(getClass().getClassLoader());
+
+    assertThat(registry.isRegistered(Country.UNITED_STATES_OF_AMERICA)).isTrue();
+    assertThat(registry.isRegistered(Country.UNKNOWN)).isTrue();
+    assertThat(registry.isRegistered(Country.VATICAN_CITY)).isTrue();
+    assertThat(registry.isRegistered(Country.FRANCE)).isFalse();
+    assertThat(registry.isRegistered(null)).isFalse();
+  }
+
+  @Test
+  void registryFromIndex() {
+
+    Properties index = new Properties();
+
+    index.setProperty(Country.VATICAN_CITY.name(), TestAddressFactory.class.getName());
+
+    AddressFactory.Registry registry =
+      new AddressFactory.Registry(AddressFactory.Registry.fromIndex(index, getClass().getClassLoader()));
+
+    assertThat(registry.isRegistered(Country.VATICAN_CITY)).isTrue();
+    assertThat(registry.isRegistered(Country.UNITED_STATES_OF_AMERICA)).isFalse();
+    assertThat(registry.<TestAddress>getAddressFactory(Country.VATICAN_CITY)).isInstanceOf(TestAddressFactory.class);
+    assertThat(registry.getAddressFactory(Country.UNITED_STATES_OF_AMERICA))
+      .isInstanceOf(AddressFactory.DefaultAddressFactory.class);
+  }
+
+  @Test
+  void registryFromIndexWithNonExistingAddressFactory() {
+
+    Properties index = new Properties();
+
+    index.setProperty(Country.VATICAN_CITY.name(), "example.NonExistingAddressFactory");
+
+    AddressFactory.Registry registry =
+      new AddressFactory.Registry(AddressFactory.Registry.fromIndex(index, getClass().getClassLoader()));
+
+    assertThatIllegalStateException()
+      .isThrownBy(() -> registry.getAddressFactory(Country.VATICAN_CITY))
+      .withMessage("Failed to construct AddressFactory [example.NonExistingAddressFactory]")
+      .withCauseInstanceOf(ClassNotFoundException.class);
+  }
+
   @Test
   void newAddressInVaticanCity() {
 
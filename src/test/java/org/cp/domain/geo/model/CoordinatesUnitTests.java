@@ -17,6 +17,7 @@ package org.cp.domain.geo.model;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -103,6 +104,32 @@ public class CoordinatesUnitTests {
       .withNoCause();
   }
 
+  @Test
+  public void copyOfCoordinates() {
+
+    Coordinates coordinates = Coordinates.at(1.0d, 2.0d).at(Elevation.at(100.0d).inMeters());
+    Coordinates copy = Coordinates.copyOf(coordinates);
+
+    assertThat(copy).isNotSameAs(coordinates);
+    assertThat(copy).isEqualTo(coordinates);
+    assertThat(copy.getElevation().orElse(null)).isNotSameAs(coordinates.getElevation().orElse(null));
+    assertThat(copy.getElevation().map(Elevation::getAltitude)).contains(100.0d);
+    assertThat(copy.getElevation().map(Elevation::getLengthUnit)).contains(LengthUnit.METER);
+
+    copy.getElevation().ifPresent(Elevation::inFeet);
+
+    assertThat(coordinates.getElevation().map(Elevation::getLengthUnit)).contains(LengthUnit.METER);
+  }
+
+  @Test
+  public void copyOfNullCoordinates() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> Coordinates.copyOf(null))
+      .withMessage("Coordinates to copy are required")
+      .withNoCause();
+  }
+
   @Test
   public void altitudeIsAnAliasForElevation() {
 
@@ -254,6 +281,49 @@ public class CoordinatesUnitTests {
       .isEqualTo("[latitude: 1.0, longitude: 2.0, altitude: 3.0 meters]");
   }
 
+  @Test
+  void distanceToUsesHaversineByDefault() {
+
+    Coordinates newYork = Coordinates.at(40.6413d, -73.7781d);
+    Coordinates losAngeles = Coordinates.at(33.9416d, -118.4085d);
+
+    Distance distance = newYork.distanceTo(losAngeles);
+
+    assertThat(distance.isInMeters()).isTrue();
+    assertThat(distance.getMeasurement()).isCloseTo(3_974_341.69d, within(0.01d));
+    assertThat(losAngeles.distanceTo(newYork).getMeasurement()).isCloseTo(distance.getMeasurement(), within(0.001d));
+    assertThat(newYork.distanceTo(newYork).getMeasurement()).isZero();
+  }
+
+  @Test
+  void distanceToWithVincenty() {
+
+    Coordinates newYork = Coordinates.at(40.6413d, -73.7781d);
+    Coordinates losAngeles = Coordinates.at(33.9416d, -118.4085d);
+
+    assertThat(newYork.distanceTo(losAngeles, GeodesicDistance.VINCENTY).getMeasurement())
+      .isCloseTo(3_983_079.75d, within(0.01d));
+  }
+
+  @Test
+  void distanceToWithNullFormulaThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> Coordinates.NULL_ISLAND.distanceTo(Coordinates.NULL_ISLAND, null))
+      .withMessage("GeodesicDistance formula is required")
+      .withNoCause();
+  }
+
+  @Test
+  void toGeohash() {
+
+    Geohash geohash = Coordinates.at(42.6d, -5.6d).toGeohash(5);
+
+    assertThat(geohash).isNotNull();
+    assertThat(geohash.getPrecision()).isEqualTo(5);
+    assertThat(geohash).hasToString("ezs42");
+  }
+
   @Test
   public void serializationIsCorrect() throws IOException, ClassNotFoundException {
 
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Unit Tests for {@link GeodesicDistance}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.geo.model.GeodesicDistance
+ * @since 0.4.0
+ */
+public class GeodesicDistanceUnitTests {
+
+  @Test
+  void defaultIsHaversine() {
+    assertThat(GeodesicDistance.getDefault()).isEqualTo(GeodesicDistance.HAVERSINE);
+  }
+
+  @Test
+  void haversineOfQuarterEquator() {
+
+    assertThat(GeodesicDistance.HAVERSINE.inMeters(0.0d, 0.0d, 0.0d, 90.0d))
+      .isCloseTo(Math.PI / 2.0d * GeodesicDistance.EARTH_MEAN_RADIUS_IN_METERS, within(0.000001d));
+  }
+
+  @Test
+  void haversineAcrossTheAntimeridian() {
+
+    assertThat(GeodesicDistance.HAVERSINE.inMeters(0.0d, 179.5d, 0.0d, -179.5d))
+      .isCloseTo(GeodesicDistance.HAVERSINE.inMeters(0.0d, 0.0d, 0.0d, 1.0d), within(0.000001d));
+  }
+
+  @Test
+  void vincentyMatchesGeodeticReference() {
+
+    // Flinders Peak to Buninyong, from Vincenty's 1975 paper.
+    double distance = GeodesicDistance.VINCENTY.inMeters(-37.95103341666667d, 144.42486788888889d,
+      -37.65282113888889d, 143.92649552777778d);
+
+    assertThat(distance).isCloseTo(54_972.271d, within(0.001d));
+  }
+
+  @Test
+  void vincentyOfQuarterEquator() {
+
+    assertThat(GeodesicDistance.VINCENTY.inMeters(0.0d, 0.0d, 0.0d, 90.0d))
+      .isCloseTo(Math.PI / 2.0d * GeodesicDistance.WGS84_SEMI_MAJOR_AXIS_IN_METERS, within(0.001d));
+  }
+
+  @Test
+  void vincentyOfSamePointIsZero() {
+    assertThat(GeodesicDistance.VINCENTY.inMeters(45.0d, -122.0d, 45.0d, -122.0d)).isZero();
+  }
+
+  @Test
+  void vincentyOfNearlyAntipodalPointsFallsBackToHaversine() {
+
+    assertThat(GeodesicDistance.VINCENTY.inMeters(0.0d, 0.0d, 0.5d, 179.7d))
+      .isEqualTo(GeodesicDistance.HAVERSINE.inMeters(0.0d, 0.0d, 0.5d, 179.7d));
+  }
+
+  @Test
+  void betweenCoordinates() {
+
+    Distance distance = GeodesicDistance.HAVERSINE.between(Coordinates.at(0.0d, 0.0d), Coordinates.at(0.0d, 90.0d));
+
+    assertThat(distance.isInMeters()).isTrue();
+    assertThat(distance.getMeasurement()).isCloseTo(10_007_557.22d, within(0.01d));
+  }
+
+  @Test
+  void betweenNullCoordinatesThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> GeodesicDistance.VINCENTY.between(null, Coordinates.NULL_ISLAND))
+      .withMessage("Origin Coordinates are required")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> GeodesicDistance.VINCENTY.between(Coordinates.NULL_ISLAND, null))
+      .withMessage("Destination Coordinates are required")
+      .withNoCause();
+  }
+
+  @Test
+  void batchFromOriginMatchesScalar() {
+
+    Random random = new Random(1963L);
+
+    double[] latitudes = new double[1_000];
+    double[] longitudes = new double[latitudes.length];
+
+    for (int index = 0; index < latitudes.length; index++) {
+      latitudes[index] = random.nextDouble() * 180.0d - 90.0d;
+      longitudes[index] = random.nextDouble() * 360.0d - 180.0d;
+    }
+
+    for (GeodesicDistance formula : GeodesicDistance.values()) {
+
+      double[] distances = new double[latitudes.length];
+
+      formula.inMeters(45.5152d, -122.6784d, latitudes, longitudes, distances);
+
+      for (int index = 0; index < latitudes.length; index++) {
+        assertThat(distances[index])
+          .isEqualTo(formula.inMeters(45.5152d, -122.6784d, latitudes[index], longitudes[index]));
+      }
+    }
+  }
+
+  @Test
+  void batchPairwiseMatchesScalar() {
+
+    double[] originLatitudes = { 45.5152d, 0.0d, -33.8688d };
+    double[] originLongitudes = { -122.6784d, 0.0d, 151.2093d };
+    double[] destinationLatitudes = { 47.6062d, 0.0d, 51.5074d };
+    double[] destinationLongitudes = { -122.3321d, 90.0d, -0.1278d };
+    double[] distances = new double[3];
+
+    GeodesicDistance.HAVERSINE.inMeters(originLatitudes, originLongitudes,
+      destinationLatitudes, destinationLongitudes, distances);
+
+    for (int index = 0; index < distances.length; index++) {
+      assertThat(distances[index]).isEqualTo(GeodesicDistance.HAVERSINE.inMeters(originLatitudes[index],
+        originLongitudes[index], destinationLatitudes[index], destinationLongitudes[index]));
+    }
+  }
+
+  @Test
+  void batchWithMismatchedArraysThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> GeodesicDistance.HAVERSINE.inMeters(0.0d, 0.0d, new double[2], new double[3],
+        new double[3]))
+      .withMessage("The number of latitudes [2] must equal the number of longitudes [3]")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> GeodesicDistance.VINCENTY.inMeters(0.0d, 0.0d, new double[2], new double[2],
+        new double[1]))
+      .withMessage("The length of the distances array [1] must be at least [2]")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> GeodesicDistance.HAVERSINE.inMeters(new double[1], new double[1], new double[2],
+        new double[2], new double[2]))
+      .withMessage("The number of origins [1] must equal the number of destinations [2]")
+      .withNoCause();
+  }
+}
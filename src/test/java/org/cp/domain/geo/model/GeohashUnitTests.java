@@ -0,0 +1,210 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.domain.geo.enums.Direction;
+
+/**
+ * Unit Tests for {@link Geohash}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.geo.model.Geohash
+ * @since 0.4.0
+ */
+public class GeohashUnitTests {
+
+  @Test
+  void encodeCoordinates() {
+
+    assertThat(Coordinates.at(57.64911d, 10.40744d).toGeohash(11)).hasToString("u4pruydqqvj");
+    assertThat(Coordinates.at(42.6d, -5.6d).toGeohash(5)).hasToString("ezs42");
+    assertThat(Coordinates.at(90.0d, 180.0d).toGeohash(12)).hasToString("zzzzzzzzzzzz");
+    assertThat(Coordinates.at(-90.0d, -180.0d).toGeohash(12)).hasToString("000000000000");
+  }
+
+  @Test
+  void encodeValueMatchesString() {
+
+    Geohash geohash = Coordinates.at(42.6d, -5.6d).toGeohash(5);
+
+    assertThat(geohash.getPrecision()).isEqualTo(5);
+    assertThat(geohash.getValue()).isEqualTo(Geohash.encode(42.6d, -5.6d, 5));
+    assertThat(geohash.getValue()).isEqualTo(Geohash.parseValue("ezs42"));
+  }
+
+  @Test
+  void encodeWithIllegalPrecisionThrowsIllegalArgumentException() {
+
+    Stream.of(0, 13).forEach(precision -> assertThatIllegalArgumentException()
+      .isThrownBy(() -> Geohash.encode(0.0d, 0.0d, precision))
+      .withMessage("Precision [%s] must be between 1 and 12", precision)
+      .withNoCause());
+  }
+
+  @Test
+  void parseIsCaseInsensitive() {
+    assertThat(Geohash.parse("EZS42")).isEqualTo(Geohash.parse("ezs42"));
+  }
+
+  @Test
+  void parseIllegalGeohashThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> Geohash.parse("ezs4a"))
+      .withMessage("Geohash [ezs4a] contains an invalid character [a]")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> Geohash.parse(""))
+      .withMessage("Geohash [] must be between 1 and 12 characters")
+      .withNoCause();
+  }
+
+  @Test
+  void ofValueOutOfRangeThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> Geohash.of(32L, 1))
+      .withMessage("Geohash value [32] is not valid for precision [1]")
+      .withNoCause();
+  }
+
+  @Test
+  void decodeCell() {
+
+    Geohash geohash = Geohash.parse("ezs42");
+
+    assertThat(geohash.getSouthWest()).isEqualTo(Coordinates.at(42.5830078125d, -5.625d));
+    assertThat(geohash.getNorthEast()).isEqualTo(Coordinates.at(42.626953125d, -5.5810546875d));
+    assertThat(geohash.getCenter()).isEqualTo(Coordinates.at(42.60498046875d, -5.60302734375d));
+    assertThat(geohash.contains(Coordinates.at(42.6d, -5.6d))).isTrue();
+    assertThat(geohash.contains(Coordinates.at(42.7d, -5.6d))).isFalse();
+    assertThat(geohash.contains(null)).isFalse();
+  }
+
+  @Test
+  void encodeDecodeRoundTrip() {
+
+    Random random = new Random(1963L);
+
+    for (int count = 0; count < 10_000; count++) {
+
+      double latitude = random.nextDouble() * 180.0d - 90.0d;
+      double longitude = random.nextDouble() * 360.0d - 180.0d;
+      int precision = 1 + random.nextInt(Geohash.MAXIMUM_PRECISION);
+
+      long value = Geohash.encode(latitude, longitude, precision);
+
+      assertThat(Geohash.parseValue(Geohash.of(value, precision).toString())).isEqualTo(value);
+      assertThat(Geohash.decodeLatitude(value, precision))
+        .isCloseTo(latitude, within(Geohash.latitudeHeight(precision) / 2.0d));
+      assertThat(Geohash.decodeLongitude(value, precision))
+        .isCloseTo(longitude, within(Geohash.longitudeWidth(precision) / 2.0d));
+    }
+  }
+
+  @Test
+  void neighbors() {
+
+    Geohash geohash = Geohash.parse("dqcjq");
+
+    assertThat(geohash.getNeighbor(Direction.NORTH)).contains(Geohash.parse("dqcjw"));
+    assertThat(geohash.getNeighbor(Direction.NORTHEAST)).contains(Geohash.parse("dqcjx"));
+    assertThat(geohash.getNeighbor(Direction.EAST)).contains(Geohash.parse("dqcjr"));
+    assertThat(geohash.getNeighbor(Direction.SOUTHEAST)).contains(Geohash.parse("dqcjp"));
+    assertThat(geohash.getNeighbor(Direction.SOUTH)).contains(Geohash.parse("dqcjn"));
+    assertThat(geohash.getNeighbor(Direction.SOUTHWEST)).contains(Geohash.parse("dqcjj"));
+    assertThat(geohash.getNeighbor(Direction.WEST)).contains(Geohash.parse("dqcjm"));
+    assertThat(geohash.getNeighbor(Direction.NORTHWEST)).contains(Geohash.parse("dqcjt"));
+    assertThat(geohash.getNeighbors()).hasSize(8);
+  }
+
+  @Test
+  void neighborsWrapAroundTheAntimeridianButNotThePoles() {
+
+    assertThat(Geohash.parse("9").getNeighbor(Direction.WEST)).contains(Geohash.parse("8"));
+    assertThat(Geohash.parse("8").getNeighbor(Direction.WEST)).contains(Geohash.parse("x"));
+    assertThat(Geohash.parse("z").getNeighbor(Direction.NORTH)).isNotPresent();
+    assertThat(Geohash.neighbor(Geohash.parseValue("z"), 1, 1, 0)).isEqualTo(Geohash.NO_NEIGHBOR);
+    assertThat(Geohash.parse("b").getNeighbors()).hasSize(5);
+  }
+
+  @Test
+  void parentAndPrefix() {
+
+    Geohash geohash = Geohash.parse("ezs42");
+
+    assertThat(geohash.getParent()).contains(Geohash.parse("ezs4"));
+    assertThat(Geohash.parse("e").getParent()).isNotPresent();
+    assertThat(geohash.isPrefixOf(Geohash.parse("ezs42gx"))).isTrue();
+    assertThat(geohash.isPrefixOf(geohash)).isTrue();
+    assertThat(geohash.isPrefixOf(Geohash.parse("ezs43"))).isFalse();
+    assertThat(geohash.isPrefixOf(Geohash.parse("ezs4"))).isFalse();
+  }
+
+  @Test
+  void prefixRange() {
+
+    long value = Geohash.parseValue("ezs42");
+
+    assertThat(Geohash.prefixRangeBegin(value, 5, 7)).isEqualTo(Geohash.parseValue("ezs4200"));
+    assertThat(Geohash.prefixRangeEnd(value, 5, 7)).isEqualTo(Geohash.parseValue("ezs4300"));
+    assertThat(Geohash.parseValue("ezs42zz")).isBetween(Geohash.prefixRangeBegin(value, 5, 7),
+      Geohash.prefixRangeEnd(value, 5, 7) - 1L);
+  }
+
+  @Test
+  void prefixRangeWithLowerTargetPrecisionThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> Geohash.prefixRangeBegin(Geohash.parseValue("ezs42"), 5, 4))
+      .withMessage("Target precision [4] must be between 5 and 12")
+      .withNoCause();
+  }
+
+  @Test
+  void compareToOrdersLikeStrings() {
+
+    List<Geohash> geohashes = new ArrayList<>();
+
+    Stream.of("d", "c2b", "c20", "c", "c1z", "c2").map(Geohash::parse).forEach(geohashes::add);
+
+    Collections.sort(geohashes);
+
+    assertThat(geohashes).extracting(Geohash::toString).containsExactly("c", "c1z", "c2", "c20", "c2b", "d");
+  }
+
+  @Test
+  void equalsAndHashCode() {
+
+    assertThat(Geohash.parse("ezs42")).isEqualTo(Geohash.parse("ezs42"));
+    assertThat(Geohash.parse("ezs42")).hasSameHashCodeAs(Geohash.parse("ezs42"));
+    assertThat(Geohash.of(0L, 1)).isNotEqualTo(Geohash.of(0L, 2));
+  }
+}
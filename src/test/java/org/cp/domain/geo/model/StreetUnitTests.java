@@ -20,10 +20,12 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
+import org.cp.domain.core.support.ParseResult;
 import org.cp.domain.geo.enums.Direction;
 import org.cp.elements.io.IOUtils;
 import org.cp.elements.lang.ThrowableAssertions;
@@ -175,6 +177,14 @@ public class StreetUnitTests {
     assertStreet(street, 101, "5th", Street.Type.AVENUE, Direction.SOUTH);
   }
 
+  @Test
+  void parseStreetWithAbbreviatedTypeEndingInPeriod() {
+
+    Street street = Street.parse("100 Main St.");
+
+    assertStreet(street, 100, "Main", Street.Type.STREET, null);
+  }
+
   @Test
   void parseStreetWithIllegalStreetsThrowsIllegalArgumentException() {
 
@@ -205,6 +215,77 @@ public class StreetUnitTests {
         .withNoCause());
   }
 
+  @Test
+  void parseStreetWithDirectionalNameIsCorrect() {
+
+    Street street = Street.parse("100 North");
+
+    assertStreet(street, 100, "North");
+  }
+
+  @Test
+  void parseStreetWithExtraComponentsIgnoresExtraComponents() {
+
+    Street street = Street.parse("12 N Main St Suite 100");
+
+    assertStreet(street, 12, "Main", Street.Type.STREET, Direction.NORTH);
+  }
+
+  @Test
+  void parseStreetFromStringBuilder() {
+
+    Street street = Street.parse(new StringBuilder("\t500 West Broadway\n"));
+
+    assertStreet(street, 500, "Broadway", null, Direction.WEST);
+  }
+
+  @Test
+  void parseStreetWithNumberOutOfRangeThrowsIllegalArgumentException() {
+
+    ThrowableAssertions.assertThatIllegalArgumentException()
+      .isThrownBy(args -> Street.parse("99999999999  Main St"))
+      .havingMessage("Street [99999999999 Main St] must begin with a street number")
+      .causedBy(NumberFormatException.class)
+      .withNoCause();
+  }
+
+  @Test
+  void parseAllFromIterableReportsErrorsPerRecord() {
+
+    List<ParseResult<Street>> results = Street.parseAll(Arrays.asList("100 Main St", "Main St", null, "200 E Elm"));
+
+    assertThat(results).hasSize(4);
+    assertThat(results).extracting(ParseResult::isValid).containsExactly(true, false, false, true);
+    assertThat(results.get(0).getValue().map(Street::getName)).contains("Main");
+    assertThat(results.get(1).getInput()).isEqualTo("Main St");
+    assertThat(results.get(1).getValue()).isNotPresent();
+    assertThat(results.get(1).getError()).contains("Street [Main St] must begin with a street number");
+    assertThat(results.get(2).getError()).contains("Street [null] to parse is required");
+    assertThat(results.get(3).getValue().flatMap(Street::getDirection)).contains(Direction.EAST);
+    assertThat(results.get(3).getError()).isNotPresent();
+  }
+
+  @Test
+  void parseAllFromStreamReportsErrorsPerRecord() {
+
+    List<ParseResult<Street>> results = Street.parseAll(Stream.of("1248 One Way", "1248", "  "))
+      .toList();
+
+    assertThat(results).extracting(ParseResult::isInvalid).containsExactly(false, true, true);
+    assertThat(results.get(0).getValue().flatMap(Street::getType)).contains(Street.Type.WAY);
+    assertThat(results.get(1).getError()).contains("Street [1248] must minimally consist of a number and name");
+    assertThat(results.get(2).getError()).contains("Street [  ] to parse is required");
+  }
+
+  @Test
+  void parseAllWithNullIterableThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> Street.parseAll((Iterable<String>) null))
+      .withMessage("Streets to parse are required")
+      .withNoCause();
+  }
+
   @Test
   void asAvenueSetsStreetTypeToAvenueReturnsStreet() {
 
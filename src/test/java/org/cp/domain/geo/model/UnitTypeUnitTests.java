@@ -51,6 +51,17 @@ public class UnitTypeUnitTests {
       assertThat(unitType.getDescription()).isEqualTo(StringUtils.capitalize(unitType.name().toLowerCase())));
   }
 
+  @Test
+  public void valueOfAbbreviationOrDescriptionFromRegion() {
+
+    String address = "100 Main St Apt 4 Suite 200";
+
+    assertThat(Unit.Type.valueOfAbbreviationOrDescription(address, 12, 15)).isEqualTo(Unit.Type.APARTMENT);
+    assertThat(Unit.Type.valueOfAbbreviationOrDescription(address, 18, 23)).isEqualTo(Unit.Type.SUITE);
+    assertThat(Unit.Type.valueOfAbbreviationOrDescription(address, 4, 8)).isNull();
+    assertThat(Unit.Type.valueOfAbbreviationOrDescription(null, 0, 0)).isNull();
+  }
+
   @Test
   public void fromAbbreviation() {
 
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.model.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.domain.geo.enums.Country;
+import org.cp.domain.geo.enums.Direction;
+import org.cp.domain.geo.model.City;
+import org.cp.domain.geo.model.PostalCode;
+import org.cp.domain.geo.model.Street;
+import org.cp.domain.geo.model.Unit;
+import org.cp.domain.geo.model.generic.GenericAddress;
+import org.cp.domain.geo.model.usa.UnitedStatesAddress;
+
+/**
+ * Unit Tests for {@link AddressStandardizer} and {@link AddressKey}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.geo.model.support.AddressKey
+ * @see org.cp.domain.geo.model.support.AddressStandardizer
+ * @since 0.4.0
+ */
+public class AddressStandardizerUnitTests {
+
+  private final AddressStandardizer standardizer = new AddressStandardizer(64);
+
+  @Test
+  void getInstanceIsSingleton() {
+
+    assertThat(AddressStandardizer.getInstance()).isNotNull();
+    assertThat(AddressStandardizer.getInstance()).isSameAs(AddressStandardizer.getInstance());
+  }
+
+  @Test
+  void constructWithNegativeCacheSizeThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new AddressStandardizer(-1))
+      .withMessage("Cache size [-1] must be greater than or equal to 0")
+      .withNoCause();
+  }
+
+  @Test
+  void standardizeEquivalentAddressesReturnsEqualAddressKeys() {
+
+    AddressKey one = this.standardizer.standardize(UnitedStatesAddress.parse("100 Main Street, Portland, OR 97205"));
+    AddressKey two = this.standardizer.standardize(UnitedStatesAddress.parse("100 MAIN ST., portland, or 97205-1234"));
+
+    assertThat(one).isEqualTo(two);
+    assertThat(one).hasSameHashCodeAs(two);
+    assertThat(one).isEqualByComparingTo(two);
+    assertThat(one.getStreetNumber()).isEqualTo(100);
+    assertThat(one.getStreet()).isEqualTo("MAIN ST");
+    assertThat(one.getUnit()).isEmpty();
+    assertThat(one.getCity()).isEqualTo("PORTLAND");
+    assertThat(one.getPostalCode()).isEqualTo("97205");
+    assertThat(one.getCountry()).isEqualTo(Country.UNITED_STATES_OF_AMERICA);
+    assertThat(one).hasToString("100 MAIN ST, PORTLAND 97205, USA");
+  }
+
+  @Test
+  void standardizeDifferentAddressesReturnsDifferentAddressKeys() {
+
+    AddressKey main = this.standardizer.standardize(UnitedStatesAddress.parse("100 Main St, Portland, OR 97205"));
+    AddressKey northMain = this.standardizer.standardize(UnitedStatesAddress.parse("100 N Main St, Portland, OR 97205"));
+    AddressKey apartment =
+      this.standardizer.standardize(UnitedStatesAddress.parse("100 Main St Apt 4, Portland, OR 97205"));
+
+    assertThat(main).isNotEqualTo(northMain);
+    assertThat(main).isNotEqualTo(apartment);
+    assertThat(northMain.getStreet()).isEqualTo("N MAIN ST");
+    assertThat(apartment).hasToString("100 MAIN ST APT 4, PORTLAND 97205, USA");
+  }
+
+  @Test
+  void standardizeDeduplicatesAddressesInOnePass() {
+
+    Set<AddressKey> addressKeys = new HashSet<>();
+
+    Stream.of("100 Main Street, Portland, OR 97205", "100 Main St, Portland, OR 97205",
+        "100  MAIN  ST ,  PORTLAND , OR 97205", "200 Main St, Portland, OR 97205")
+      .map(UnitedStatesAddress::parse)
+      .map(this.standardizer::standardize)
+      .forEach(addressKeys::add);
+
+    assertThat(addressKeys).hasSize(2);
+  }
+
+  @Test
+  void standardizeGenericAddress() {
+
+    GenericAddress address = GenericAddress.newGenericAddressBuilder(Country.UNITED_KINGDOM)
+      .on(Street.of(10, "Downing Street"))
+      .in(City.of("london"))
+      .in(PostalCode.of("sw1a 2aa"))
+      .build();
+
+    AddressKey addressKey = this.standardizer.standardize(address);
+
+    assertThat(addressKey.getStreet()).isEqualTo("DOWNING ST");
+    assertThat(addressKey.getPostalCode()).isEqualTo("SW1A2AA");
+    assertThat(addressKey).hasToString("10 DOWNING ST, LONDON SW1A2AA, GBR");
+  }
+
+  @Test
+  void standardizeNullAddressThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> this.standardizer.standardize(null))
+      .withMessage("Address to standardize is required")
+      .withNoCause();
+  }
+
+  @Test
+  void standardizeCity() {
+
+    assertThat(this.standardizer.standardizeCity(City.of(" Salt  Lake   City "))).isEqualTo("SALT LAKE CITY");
+    assertThat(this.standardizer.standardizeCity(City.of("St. Louis"))).isEqualTo("ST LOUIS");
+  }
+
+  @Test
+  void standardizePostalCode() {
+
+    Country usa = Country.UNITED_STATES_OF_AMERICA;
+
+    assertThat(this.standardizer.standardizePostalCode(PostalCode.of("2108"), usa)).isEqualTo("02108");
+    assertThat(this.standardizer.standardizePostalCode(PostalCode.of("97205-1234"), usa)).isEqualTo("97205");
+    assertThat(this.standardizer.standardizePostalCode(PostalCode.of("k1a 0b1"), Country.CANADA))
+      .isEqualTo("K1A0B1");
+  }
+
+  @Test
+  void standardizeStreet() {
+
+    assertThat(this.standardizer.standardizeStreet(Street.of(100, "North Main Street"))).isEqualTo("N MAIN ST");
+    assertThat(this.standardizer.standardizeStreet(Street.of(100, "Main").withDirection(Direction.NORTH).asStreet()))
+      .isEqualTo("N MAIN ST");
+    assertThat(this.standardizer.standardizeStreet(Street.of(1600, "Pennsylvania Northwest")))
+      .isEqualTo("PENNSYLVANIA NW");
+    assertThat(this.standardizer.standardizeStreet(Street.of(1, "Infinite Loop"))).isEqualTo("INFINITE LP");
+    assertThat(this.standardizer.standardizeStreet(Street.of(1, "Broadway"))).isEqualTo("BROADWAY");
+  }
+
+  @Test
+  void standardizeStreetIsMemoized() {
+
+    AddressStandardizer standardizer = new AddressStandardizer(16);
+
+    String one = standardizer.standardizeStreet(Street.of(100, "Main").asStreet());
+    String two = standardizer.standardizeStreet(Street.of(200, "Main").asStreet());
+
+    assertThat(one).isEqualTo("MAIN ST");
+    assertThat(two).isSameAs(one);
+  }
+
+  @Test
+  void standardizeUnit() {
+
+    assertThat(this.standardizer.standardizeUnit(Unit.apartment("4b"))).isEqualTo("APT 4B");
+    assertThat(this.standardizer.standardizeUnit(Unit.of("Suite 200"))).isEqualTo("STE 200");
+    assertThat(this.standardizer.standardizeUnit(Unit.of("#12"))).isEqualTo("12");
+  }
+
+  @Test
+  void memoEvictsLeastRecentlyUsedEntries() {
+
+    AddressStandardizer.Memo<Integer, String> memo = new AddressStandardizer.Memo<>(16);
+
+    for (int key = 0; key < 1024; key++) {
+      memo.computeIfAbsent(key, String::valueOf);
+    }
+
+    assertThat(memo.size()).isLessThanOrEqualTo(16);
+  }
+
+  @Test
+  void memoWithZeroCapacityDoesNotCache() {
+
+    AddressStandardizer.Memo<Integer, String> memo = new AddressStandardizer.Memo<>(0);
+
+    assertThat(memo.computeIfAbsent(1, String::valueOf)).isEqualTo("1");
+    assertThat(memo.size()).isZero();
+  }
+
+  @Test
+  void normalize() {
+
+    assertThat(AddressStandardizer.normalize("  st.  louis,, mo ")).isEqualTo("ST LOUIS MO");
+    assertThat(AddressStandardizer.normalize(null)).isEmpty();
+  }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.model.usa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.domain.core.support.ParseResult;
+import org.cp.domain.geo.enums.Direction;
+import org.cp.domain.geo.enums.State;
+import org.cp.domain.geo.model.Street;
+import org.cp.domain.geo.model.Unit;
+
+/**
+ * Unit Tests for {@link UnitedStatesAddressParser} and {@link UnitedStatesAddress#parse(CharSequence)}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.geo.model.usa.UnitedStatesAddress
+ * @see org.cp.domain.geo.model.usa.UnitedStatesAddressParser
+ * @since 0.4.0
+ */
+public class UnitedStatesAddressParserUnitTests {
+
+  private void assertAddress(UnitedStatesAddress address, int streetNumber, String streetName,
+      Street.Type streetType, String city, State state, String zip) {
+
+    assertThat(address).isNotNull();
+    assertThat(address.getStreet().getNumber()).isEqualTo(streetNumber);
+    assertThat(address.getStreet().getName()).isEqualTo(streetName);
+    assertThat(address.getStreet().getType().orElse(null)).isEqualTo(streetType);
+    assertThat(address.getCity().getName()).isEqualTo(city);
+    assertThat(address.getState()).isEqualTo(state);
+    assertThat(address.getZip()).isEqualTo(ZIP.of(zip));
+  }
+
+  @Test
+  void parseAddressWithUnitAndZipPlusFour() {
+
+    UnitedStatesAddress address = UnitedStatesAddress.parse("100 Main St Apt 4, Portland, OR 97205-1234");
+
+    assertAddress(address, 100, "Main", Street.Type.STREET, "Portland", State.OREGON, "97205-1234");
+    assertThat(address.getUnit()).contains(Unit.apartment("4"));
+  }
+
+  @Test
+  void parseAddressWithUnitSeparatedByComma() {
+
+    UnitedStatesAddress address = UnitedStatesAddress.parse("100 Main St, Ste. 200, Portland, OR 97205");
+
+    assertAddress(address, 100, "Main", Street.Type.STREET, "Portland", State.OREGON, "97205");
+    assertThat(address.getUnit()).contains(Unit.suite("200"));
+  }
+
+  @Test
+  void parseAddressWithNumberSignUnitAndNoCommas() {
+
+    UnitedStatesAddress address = UnitedStatesAddress.parse("767 SW Airline Rd #12 Portland OR 97205");
+
+    assertAddress(address, 767, "Airline", Street.Type.ROAD, "Portland", State.OREGON, "97205");
+    assertThat(address.getStreet().getDirection()).contains(Direction.SOUTHWEST);
+    assertThat(address.getUnit().map(Unit::getNumber)).contains("12");
+    assertThat(address.getUnit().flatMap(Unit::getType)).isNotPresent();
+  }
+
+  @Test
+  void parseAddressWithoutUnit() {
+
+    UnitedStatesAddress address = UnitedStatesAddress.parse("1600 Pennsylvania Ave NW, Washington, DC 20500");
+
+    assertAddress(address, 1600, "Pennsylvania", Street.Type.AVENUE, "Washington", State.DISTRICT_OF_COLUMBIA,
+      "20500");
+    assertThat(address.getUnit()).isNotPresent();
+  }
+
+  @Test
+  void parseAddressWithStateName() {
+
+    assertAddress(UnitedStatesAddress.parse("100 Court St, Charleston, West Virginia 25301"),
+      100, "Court", Street.Type.STREET, "Charleston", State.WEST_VIRGINIA, "25301");
+
+    assertAddress(UnitedStatesAddress.parse("350 5th Ave, New York, New York 10118"),
+      350, "5th", Street.Type.AVENUE, "New York", State.NEW_YORK, "10118");
+  }
+
+  @Test
+  void parseAddressWithoutStateResolvesStateFromZipCode() {
+
+    assertAddress(UnitedStatesAddress.parse("1 Infinite Loop, Cupertino 95014"),
+      1, "Infinite", Street.Type.LOOP, "Cupertino", State.CALIFORNIA, "95014");
+
+    assertAddress(UnitedStatesAddress.parse("100 Main St Portland 97205"),
+      100, "Main", Street.Type.STREET, "Portland", State.OREGON, "97205");
+  }
+
+  @Test
+  void parseAddressNormalizesCitySpacing() {
+
+    UnitedStatesAddress address = UnitedStatesAddress.parse("  200 N Elm St ,  Salt  Lake   City , UT   84101 ");
+
+    assertAddress(address, 200, "Elm", Street.Type.STREET, "Salt Lake City", State.UTAH, "84101");
+    assertThat(address.getStreet().getDirection()).contains(Direction.NORTH);
+  }
+
+  @Test
+  void parseAddressReturnsCanonicalCity() {
+
+    UnitedStatesAddress one = UnitedStatesAddress.parse("100 Main St, Portland, OR 97205");
+    UnitedStatesAddress two = UnitedStatesAddress.parse("200 Elm St, Portland, OR 97201");
+
+    assertThat(one.getCity()).isSameAs(two.getCity());
+  }
+
+  @Test
+  void parseIllegalAddressThrowsIllegalArgumentException() {
+
+    Arrays.asList("  ", "", null).forEach(address ->
+      assertThatIllegalArgumentException()
+        .isThrownBy(() -> UnitedStatesAddress.parse(address))
+        .withMessage("Address [%s] to parse is required", address)
+        .withNoCause());
+  }
+
+  @Test
+  void parseAddressWithoutZipCodeThrowsIllegalArgumentException() {
+
+    Arrays.asList("100 Main St, Portland, OR", "100 Main St, Portland, OR 9720", "100 Main St, Portland, OR 97205+1234")
+      .forEach(address -> assertThatIllegalArgumentException()
+        .isThrownBy(() -> UnitedStatesAddress.parse(address))
+        .withMessage("Address [%s] must end with a ZIP code", address)
+        .withNoCause());
+  }
+
+  @Test
+  void parseAddressWithoutCityThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> UnitedStatesAddress.parse("100 Main Portland OR 97205"))
+      .withMessage("Address [100 Main Portland OR 97205] must contain a city")
+      .withNoCause();
+  }
+
+  @Test
+  void parseAddressWithInvalidStreetThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> UnitedStatesAddress.parse("Main St, Portland, OR 97205"))
+      .withMessage("Street [Main St] must begin with a street number")
+      .withNoCause();
+  }
+
+  @Test
+  void parseAddressWithTooManyComponentsThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> UnitedStatesAddress.parse("100 Main St, Bldg 2, Portland, OR 97205"))
+      .withMessage("Address [100 Main St, Bldg 2, Portland, OR 97205] must contain only a street, unit, city,"
+        + " state and ZIP code")
+      .withNoCause();
+  }
+
+  @Test
+  void parseAddressWithUnassignedZipCodeThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> UnitedStatesAddress.parse("100 Main St, Nowhere 00010"))
+      .withMessage("Address [100 Main St, Nowhere 00010] must contain a State or a ZIP code assigned to a State")
+      .withNoCause();
+  }
+
+  @Test
+  void parseAllFromIterableReportsErrorsPerRecord() {
+
+    List<ParseResult<UnitedStatesAddress>> results = UnitedStatesAddress.parseAll(Arrays.asList(
+      "100 Main St, Portland, OR 97205", "100 Main St, Portland, OR", null));
+
+    assertThat(results).extracting(ParseResult::isValid).containsExactly(true, false, false);
+    assertThat(results.get(0).getValue().map(UnitedStatesAddress::getState)).contains(State.OREGON);
+    assertThat(results.get(0).getError()).isNotPresent();
+    assertThat(results.get(1).getInput()).isEqualTo("100 Main St, Portland, OR");
+    assertThat(results.get(1).getValue()).isNotPresent();
+    assertThat(results.get(1).getError()).contains("Address [100 Main St, Portland, OR] must end with a ZIP code");
+    assertThat(results.get(2).getError()).contains("Address [null] to parse is required");
+  }
+
+  @Test
+  void parseAllFromStreamReportsErrorsPerRecord() {
+
+    List<ParseResult<UnitedStatesAddress>> results = UnitedStatesAddress.parseAll(
+      Stream.of("1 Infinite Loop, Cupertino 95014", "Infinite Loop, Cupertino, CA 95014")).toList();
+
+    assertThat(results).extracting(ParseResult::isInvalid).containsExactly(false, true);
+    assertThat(results.get(1).getError()).contains("Street [Infinite Loop] must begin with a street number");
+  }
+
+  @Test
+  void parseAllWithNullStreamThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> UnitedStatesAddress.parseAll((Stream<String>) null))
+      .withMessage("Stream of addresses to parse is required")
+      .withNoCause();
+  }
+
+  @Test
+  void tokenizeSplitsOnWhitespaceCommasAndNumberSign() {
+
+    String address = " 100 Main St #4,Portland, OR 97205";
+
+    UnitedStatesAddressParser.Tokens tokens = UnitedStatesAddressParser.Tokens.tokenize(address);
+
+    assertThat(tokens.count()).isEqualTo(8);
+    assertThat(address.substring(tokens.begin(3), tokens.end(3))).isEqualTo("#");
+    assertThat(address.substring(tokens.begin(4), tokens.end(4))).isEqualTo("4");
+    assertThat(address.substring(tokens.begin(5), tokens.end(5))).isEqualTo("Portland");
+    assertThat(tokens.isSeparated(4)).isFalse();
+    assertThat(tokens.isSeparated(5)).isTrue();
+    assertThat(tokens.isSeparated(6)).isTrue();
+    assertThat(tokens.isSeparated(7)).isFalse();
+  }
+
+  @Test
+  void tokenizeNullOrEmpty() {
+
+    assertThat(UnitedStatesAddressParser.Tokens.tokenize(null).count()).isZero();
+    assertThat(UnitedStatesAddressParser.Tokens.tokenize(" , ").count()).isZero();
+  }
+}
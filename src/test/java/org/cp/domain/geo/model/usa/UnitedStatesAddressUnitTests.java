@@ -31,6 +31,7 @@ import org.cp.domain.geo.model.Address;
 import org.cp.domain.geo.model.City;
 import org.cp.domain.geo.model.PostalCode;
 import org.cp.domain.geo.model.Street;
+import org.cp.domain.geo.model.usa.cities.PortlandOregon;
 import org.cp.elements.lang.IllegalTypeException;
 
 /**
@@ -108,6 +109,24 @@ public class UnitedStatesAddressUnitTests {
       .isEqualTo(State.WISCONSIN);
   }
 
+  @Test
+  void getCityReturnsCanonicalUnitedStatesCity() {
+
+    UnitedStatesAddress addressOne = new UnitedStatesAddress(Street.of(100, "Main").asStreet(),
+      City.of("Portland"), State.OREGON, ZIP.of("97205"));
+
+    UnitedStatesAddress addressTwo = new UnitedStatesAddress(Street.of(200, "Main").asStreet(),
+      UnitedStatesCity.newUnitedStatesCity("Portland"), State.OREGON, ZIP.of("97205"));
+
+    UnitedStatesAddress addressThree = new UnitedStatesAddress(Street.of(300, "Main").asStreet(),
+      City.of("Hillsboro"), State.OREGON, ZIP.of("97123"));
+
+    assertThat(addressOne.getCity()).isSameAs(PortlandOregon.INSTANCE);
+    assertThat(addressOne.getCity()).isSameAs(addressTwo.getCity());
+    assertThat(addressThree.getCity()).isSameAs(addressThree.getCity());
+    assertThat(addressThree.getCity()).isSameAs(UnitedStatesCity.of("Hillsboro", State.OREGON));
+  }
+
   @Test
   void getPostalCodeReturnsZip() {
 
@@ -211,4 +211,130 @@ public class ZipUnitTests {
   public void toStringWithNineDigitPostalCodeIsCorrect() {
     assertThat(ZIP.of("12345").plusFour("6789").toString()).isEqualTo("12345-6789");
   }
+
+  @Test
+  void ofDigitsReturnsSharedZip() {
+
+    ZIP zip = ZIP.ofDigits(2108);
+
+    assertThat(zip).isNotNull();
+    assertThat(zip.getCode()).isEqualTo("02108");
+    assertThat(zip.getCodeValue()).isEqualTo(2108);
+    assertThat(zip.getFourDigitExtension()).isNotPresent();
+    assertThat(zip.getNumber()).isEqualTo("02108");
+    assertThat(zip).isEqualTo(ZIP.of("02108"));
+    assertThat(ZIP.ofDigits(2108)).isSameAs(zip);
+  }
+
+  @Test
+  void plusFourOnSharedZipReturnsNewZip() {
+
+    ZIP zip = ZIP.ofDigits(12345);
+    ZIP zipPlusFour = zip.plusFour("6789");
+
+    assertThat(zipPlusFour).isNotSameAs(zip);
+    assertThat(zipPlusFour.getNumber()).isEqualTo("123456789");
+    assertThat(zip.getNumber()).isEqualTo("12345");
+    assertThat(zip.getFourDigitExtension()).isNotPresent();
+    assertThat(zip.plusFour(null)).isSameAs(zip);
+  }
+
+  @Test
+  void ofDigitsWithFourDigitExtension() {
+
+    ZIP zip = ZIP.ofDigits(97205, 12);
+
+    assertThat(zip.getCode()).isEqualTo("97205");
+    assertThat(zip.getFourDigitExtension()).contains("0012");
+    assertThat(zip.getNumber()).isEqualTo("972050012");
+    assertThat(zip).isEqualTo(ZIP.of("97205-0012"));
+  }
+
+  @Test
+  void ofDigitsWithInvalidZipCode() {
+
+    Arrays.asList(-1, 100_000).forEach(zipCode ->
+      assertThatIllegalArgumentException()
+        .isThrownBy(() -> ZIP.ofDigits(zipCode))
+        .withMessage("ZIP code [%s] must be a 5-digit number", zipCode)
+        .withNoCause());
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> ZIP.ofDigits(97205, 10_000))
+      .withMessage("ZIP code four-digit extension [10000] must be a 4-digit number")
+      .withNoCause();
+  }
+
+  @Test
+  void packedValueRoundTrips() {
+
+    Arrays.asList(ZIP.of("00501"), ZIP.of("97205"), ZIP.of("97205-0000"), ZIP.of("99950-9999")).forEach(zip -> {
+      assertThat(zip.getPackedValue()).isNotNegative();
+      assertThat(ZIP.fromPackedValue(zip.getPackedValue())).isEqualTo(zip);
+      assertThat(ZIP.fromPackedValue(zip.getPackedValue()).getNumber()).isEqualTo(zip.getNumber());
+    });
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> ZIP.fromPackedValue(-1))
+      .withMessage("Packed ZIP code value [-1] is not valid")
+      .withNoCause();
+  }
+
+  @Test
+  void packedValueOrdersLikeNumber() {
+
+    ZIP[] zips = { ZIP.of("97206"), ZIP.of("97205-0001"), ZIP.of("02108"), ZIP.of("97205"), ZIP.of("97205-0000") };
+
+    Arrays.sort(zips);
+
+    assertThat(zips).extracting(ZIP::getNumber)
+      .containsExactly("02108", "97205", "972050000", "972050001", "97206");
+
+    for (int index = 1; index < zips.length; index++) {
+      assertThat(zips[index - 1].getPackedValue()).isLessThan(zips[index].getPackedValue());
+    }
+  }
+
+  @Test
+  void equalsUsesPackedValue() {
+
+    ZIP zip = ZIP.of("12345-6789");
+
+    assertThat(zip).isEqualTo(ZIP.of("123456789"));
+    assertThat(zip).hasSameHashCodeAs(ZIP.of("123456789"));
+    assertThat(zip).isEqualTo(ZIP.of("12345").plusFour("6789 "));
+    assertThat(zip).hasSameHashCodeAs(ZIP.of("12345").plusFour("6789 "));
+    assertThat(zip).isNotEqualTo(ZIP.of("12345"));
+    assertThat(zip).isNotEqualTo(PostalCode.of("123456789"));
+  }
+
+  @Test
+  void hashCodeIsConsistentWithPostalCode() {
+
+    ZIP zip = ZIP.of("12345-6789");
+
+    PostalCode postalCode = new PostalCode("123456789") {
+
+      @Override
+      public Optional<Country> getCountry() {
+        return Optional.of(Country.UNITED_STATES_OF_AMERICA);
+      }
+    };
+
+    assertThat(zip).isEqualTo(postalCode);
+    assertThat(postalCode).isEqualTo(zip);
+    assertThat(zip).hasSameHashCodeAs(postalCode);
+  }
+
+  @Test
+  void zipWithIncompleteFourDigitExtensionIsNotPacked() {
+
+    ZIP zip = ZIP.of("12345").plusFour("12");
+
+    assertThat(zip.getNumber()).isEqualTo("1234512");
+    assertThat(zip.getPackedValue()).isEqualTo(-1);
+    assertThat(zip).isNotEqualTo(ZIP.of("12345"));
+    assertThat(zip).isEqualTo(ZIP.of("12345").plusFour("12"));
+    assertThat(zip.compareTo(ZIP.of("12345"))).isPositive();
+  }
 }
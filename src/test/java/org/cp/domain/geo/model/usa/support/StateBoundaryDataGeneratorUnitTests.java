@@ -0,0 +1,133 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.model.usa.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.domain.geo.enums.State;
+
+/**
+ * Unit Tests for {@link StateBoundaryDataGenerator}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.geo.model.usa.support.StateBoundaryDataGenerator
+ * @since 0.4.0
+ */
+class StateBoundaryDataGeneratorUnitTests {
+
+  private static final String KML = """
+    <?xml version="1.0" encoding="utf-8" ?>
+    <kml xmlns="http://www.opengis.net/kml/2.2">
+    <Document><name>cb_2023_us_state_20m</name>
+      <Placemark>
+        <name>Colorado</name>
+        <ExtendedData><SchemaData schemaUrl="#cb_2023_us_state_20m">
+          <SimpleData name="STUSPS">CO</SimpleData>
+        </SchemaData></ExtendedData>
+        <Polygon><outerBoundaryIs><LinearRing><coordinates>
+          -109.05,41.0 -105.55,41.001 -102.05,41.0 -102.05,37.0 -109.05,37.0 -109.05,41.0
+        </coordinates></LinearRing></outerBoundaryIs></Polygon>
+      </Placemark>
+      <Placemark>
+        <name>Wyoming</name>
+        <MultiGeometry><Polygon><outerBoundaryIs><LinearRing><coordinates>
+          -111.05,45.0,0 -104.05,45.0,0 -104.05,41.0,0 -111.05,41.0,0 -111.05,45.0,0
+        </coordinates></LinearRing></outerBoundaryIs></Polygon></MultiGeometry>
+      </Placemark>
+      <Placemark>
+        <name>Atlantis</name>
+        <Polygon><outerBoundaryIs><LinearRing><coordinates>
+          -30.0,30.0 -29.0,30.0 -29.0,29.0 -30.0,30.0
+        </coordinates></LinearRing></outerBoundaryIs></Polygon>
+      </Placemark>
+    </Document>
+    </kml>
+    """;
+
+  @Test
+  void generateSimplifiedStateBoundaries() throws IOException {
+
+    StringWriter out = new StringWriter();
+
+    assertThat(StateBoundaryDataGenerator.generate(new StringReader(KML), out, 0.01d)).isEqualTo(2);
+
+    assertThat(out.toString().lines().filter(line -> !line.startsWith("#")))
+      .containsExactly("CO 41.00000,-109.05000 41.00000,-102.05000 37.00000,-102.05000 37.00000,-109.05000",
+        "WY 45.00000,-111.05000 45.00000,-104.05000 41.00000,-104.05000 41.00000,-111.05000");
+
+    StateBoundaryResolver resolver = StateBoundaryResolver.load(new StringReader(out.toString()));
+
+    assertThat(resolver.getStates()).containsExactlyInAnyOrder(State.COLORADO, State.WYOMING);
+    assertThat(resolver.resolveState(39.7392d, -104.9903d)).isEqualTo(State.COLORADO);
+    assertThat(resolver.resolveState(41.14d, -104.82d)).isEqualTo(State.WYOMING);
+    assertThat(resolver.resolveState(29.9d, -29.9d)).isNull();
+  }
+
+  @Test
+  void generateWithZeroToleranceKeepsAllVertices() throws IOException {
+
+    StringWriter out = new StringWriter();
+
+    StateBoundaryDataGenerator.generate(new StringReader(KML), out, 0.0d);
+
+    assertThat(out.toString().lines().filter(line -> line.startsWith("CO")))
+      .containsExactly("CO 41.00000,-109.05000 41.00100,-105.55000 41.00000,-102.05000 37.00000,-102.05000"
+        + " 37.00000,-109.05000");
+  }
+
+  @Test
+  void simplifyDropsVerticesWithinTolerance() {
+
+    double[][] ring = { { 0.0d, 0.0d }, { 0.005d, 1.0d }, { 0.0d, 2.0d }, { 2.0d, 2.0d }, { 2.0d, 0.0d } };
+
+    assertThat(StateBoundaryDataGenerator.simplify(ring, 0.01d))
+      .isDeepEqualTo(new double[][] { { 0.0d, 0.0d }, { 0.0d, 2.0d }, { 2.0d, 2.0d }, { 2.0d, 0.0d } });
+
+    assertThat(StateBoundaryDataGenerator.simplify(ring, 0.001d)).isDeepEqualTo(ring);
+  }
+
+  @Test
+  void generateWithInvalidArgumentsThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> StateBoundaryDataGenerator.generate(new StringReader(KML), new StringWriter(), -1.0d))
+      .withMessage("Tolerance [-1.0] must not be negative")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> StateBoundaryDataGenerator.generate(new StringReader("<kml><Placemark>"),
+        new StringWriter(), 0.01d))
+      .withMessage("KML is not valid");
+
+    String kml = """
+      <kml><Placemark><name>Colorado</name><Polygon><outerBoundaryIs><LinearRing>
+      <coordinates>-109.05,41.0 -102.05 -102.05,37.0</coordinates>
+      </LinearRing></outerBoundaryIs></Polygon></Placemark></kml>
+      """;
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> StateBoundaryDataGenerator.generate(new StringReader(kml), new StringWriter(), 0.01d))
+      .withMessage("Line [2] contains invalid coordinates [-102.05]");
+  }
+}
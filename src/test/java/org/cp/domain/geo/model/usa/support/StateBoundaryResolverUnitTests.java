@@ -0,0 +1,178 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.model.usa.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.cp.domain.geo.enums.State;
+import org.cp.domain.geo.model.Coordinates;
+
+/**
+ * Unit Tests for {@link StateBoundaryResolver}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.geo.model.usa.support.StateBoundaryResolver
+ * @since 0.4.0
+ */
+public class StateBoundaryResolverUnitTests {
+
+  private static final String BOUNDARIES = """
+    # Simplified boundaries
+    CO 41.0,-109.05 41.0,-102.05 37.0,-102.05 37.0,-109.05
+    WY 45.0,-111.05 45.0,-104.05 41.0,-104.05 41.0,-111.05
+    UT 42.0,-114.05 42.0,-111.05 41.0,-111.05 41.0,-109.05 37.0,-109.05 37.0,-114.05
+
+    HI 21.75,-158.3 21.75,-157.6 21.2,-157.6 21.2,-158.3
+    HI 20.3,-156.1 20.3,-154.8 18.9,-154.8 18.9,-156.1
+    """;
+
+  private static StateBoundaryResolver newResolver() {
+    return StateBoundaryResolver.load(new StringReader(BOUNDARIES));
+  }
+
+  @Test
+  void loadBoundaries() {
+    assertThat(newResolver().getStates()).containsExactlyInAnyOrder(State.COLORADO, State.HAWAII, State.UTAH,
+      State.WYOMING);
+  }
+
+  @Test
+  void loadBoundariesFromFile(@TempDir Path directory) throws IOException {
+
+    Path path = Files.writeString(directory.resolve("state-boundaries.txt"), BOUNDARIES);
+
+    assertThat(StateBoundaryResolver.load(path).resolveState(Coordinates.at(39.7392d, -104.9903d)))
+      .isEqualTo(State.COLORADO);
+  }
+
+  @Test
+  void loadInvalidBoundariesThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> StateBoundaryResolver.load(new StringReader("CO 41.0,-109.05 41.0,-102.05")))
+      .withMessage("Line [1] must contain a state and at least 3 vertices")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> StateBoundaryResolver.load(new StringReader("\nXX 1,1 2,2 3,3")))
+      .withMessage("Line [2] contains an invalid state [XX]")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> StateBoundaryResolver.load(new StringReader("CO 1,1 2;2 3,3")))
+      .withMessage("Line [1] contains an invalid vertex [2;2]")
+      .withCauseInstanceOf(NumberFormatException.class);
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> StateBoundaryResolver.load(new StringReader("CO 1,1 2,200 3,3")))
+      .withMessage("Line [1] contains an invalid vertex [2,200]")
+      .withNoCause();
+  }
+
+  @Test
+  void resolveState() {
+
+    StateBoundaryResolver resolver = newResolver();
+
+    assertThat(resolver.resolveState(Coordinates.at(39.7392d, -104.9903d))).isEqualTo(State.COLORADO);
+    assertThat(resolver.resolveState(Coordinates.at(41.1400d, -104.8202d))).isEqualTo(State.WYOMING);
+    assertThat(resolver.resolveState(Coordinates.at(40.7608d, -111.8910d))).isEqualTo(State.UTAH);
+    assertThat(resolver.resolveState(Coordinates.at(21.3069d, -157.8583d))).isEqualTo(State.HAWAII);
+    assertThat(resolver.resolveState(Coordinates.at(19.7073d, -155.0885d))).isEqualTo(State.HAWAII);
+  }
+
+  @Test
+  void resolveStateInConcavePolygon() {
+
+    StateBoundaryResolver resolver = newResolver();
+
+    assertThat(resolver.resolveState(41.5d, -110.0d)).isEqualTo(State.WYOMING);
+    assertThat(resolver.resolveState(40.5d, -110.0d)).isEqualTo(State.UTAH);
+  }
+
+  @Test
+  void resolveStateWithHoles() {
+
+    StateBoundaryResolver resolver = StateBoundaryResolver.load(new StringReader("""
+      MD 40.0,-78.0 40.0,-76.0 38.0,-76.0 38.0,-78.0
+      MD 39.5,-77.5 39.5,-76.5 38.5,-76.5 38.5,-77.5
+      DC 39.25,-77.25 39.25,-76.75 38.75,-76.75 38.75,-77.25
+      """));
+
+    assertThat(resolver.resolveState(39.75d, -77.0d)).isEqualTo(State.MARYLAND);
+    assertThat(resolver.resolveState(39.4d, -77.0d)).isNull();
+    assertThat(resolver.resolveState(39.0d, -77.0d)).isEqualTo(State.DISTRICT_OF_COLUMBIA);
+  }
+
+  @Test
+  void resolveStateOutsideBoundariesReturnsNull() {
+
+    StateBoundaryResolver resolver = newResolver();
+
+    assertThat(resolver.resolveState(Coordinates.NULL_ISLAND)).isNull();
+    assertThat(resolver.resolveState(20.8d, -157.0d)).isNull();
+    assertThat(resolver.resolveState(43.0d, -113.0d)).isNull();
+  }
+
+  @Test
+  void resolveStateWithoutBoundariesReturnsNull() {
+    assertThat(StateBoundaryResolver.load(new StringReader("")).resolveState(39.7392d, -104.9903d)).isNull();
+  }
+
+  @Test
+  void resolveStateWithNullCoordinatesThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> newResolver().resolveState(null))
+      .withMessage("Coordinates are required")
+      .withNoCause();
+  }
+
+  @Test
+  void resolveStatesInParallel() {
+
+    StateBoundaryResolver resolver = newResolver();
+    Random random = new Random(1963L);
+    Coordinates[] coordinates = new Coordinates[10_000];
+
+    for (int index = 0; index < coordinates.length; index++) {
+      coordinates[index] = index % 100 == 0 ? null
+        : Coordinates.at(36.0d + random.nextDouble() * 10.0d, -115.0d + random.nextDouble() * 12.0d);
+    }
+
+    State[] states = resolver.resolveStates(coordinates);
+
+    assertThat(states).hasSameSizeAs(coordinates);
+
+    for (int index = 0; index < coordinates.length; index++) {
+      assertThat(states[index]).isEqualTo(coordinates[index] != null ? resolver.resolveState(coordinates[index])
+        : null);
+    }
+
+    assertThat(states).contains(State.COLORADO, State.UTAH, State.WYOMING, null);
+  }
+}
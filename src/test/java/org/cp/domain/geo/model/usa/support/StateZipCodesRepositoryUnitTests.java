@@ -19,7 +19,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.cp.elements.lang.ThrowableAssertions.assertThatUnsupportedOperationException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
@@ -154,6 +156,107 @@ public class StateZipCodesRepositoryUnitTests {
       .withNoCause();
   }
 
+  @Test
+  public void findStateByNumericZipCode() {
+
+    StateZipCodesRepository repository = StateZipCodesRepository.getInstance();
+
+    assertThat(repository.findBy(2108)).isEqualTo(State.MASSACHUSETTS);
+    assertThat(repository.findBy(6123)).isEqualTo(State.CONNECTICUT);
+    assertThat(repository.findBy(59123)).isEqualTo(State.MONTANA);
+    assertThat(repository.findBy(97205)).isEqualTo(State.OREGON);
+    assertThat(repository.findBy(99999)).isEqualTo(State.ALASKA);
+  }
+
+  @Test
+  public void findStateByInvalidNumericZipCode() {
+
+    Arrays.asList(-1, 100_000).forEach(zipCode ->
+      assertThatIllegalArgumentException()
+        .isThrownBy(() -> StateZipCodesRepository.getInstance().findBy(zipCode))
+        .withMessage("ZIP code [%s] must be a 5-digit number", zipCode)
+        .withNoCause());
+  }
+
+  @Test
+  public void findStateByUnknownNumericZipCode() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> StateZipCodesRepository.getInstance().findBy(10))
+      .withMessage("State for ZIP code [10] not found")
+      .withNoCause();
+  }
+
+  @Test
+  public void findOptionalStateByNumericZipCode() {
+
+    StateZipCodesRepository repository = StateZipCodesRepository.getInstance();
+
+    assertThat(repository.findStateBy(97205)).contains(State.OREGON);
+    assertThat(repository.findStateBy(2108)).contains(State.MASSACHUSETTS);
+    assertThat(repository.findStateBy(10)).isNotPresent();
+    assertThat(repository.findStateBy(-1)).isNotPresent();
+    assertThat(repository.findStateBy(100_000)).isNotPresent();
+  }
+
+  @Test
+  public void findStateByPostalCodeWithFewerThanThreeDigits() {
+
+    StateZipCodesRepository repository = StateZipCodesRepository.getInstance();
+
+    assertThat(repository.findBy(PostalCode.of("06"))).isEqualTo(State.CONNECTICUT);
+    assertThat(repository.findBy(PostalCode.of("97"))).isEqualTo(State.OREGON);
+  }
+
+  @Test
+  public void findAllStatesByPostalCodes() {
+
+    List<PostalCode> postalCodes = Arrays.asList(ZIP.of("97205"), PostalCode.of("00010"), null,
+      PostalCode.of("59123"), ZIP.of("02108-1234"));
+
+    assertThat(StateZipCodesRepository.getInstance().findAll(postalCodes))
+      .containsExactly(State.OREGON, null, null, State.MONTANA, State.MASSACHUSETTS);
+  }
+
+  @Test
+  public void findAllStatesByEmptyPostalCodes() {
+    assertThat(StateZipCodesRepository.getInstance().findAll(new ArrayList<>())).isEmpty();
+  }
+
+  @Test
+  public void findAllStatesByNullPostalCodes() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> StateZipCodesRepository.getInstance().findAll(null))
+      .withMessage("PostalCodes used to find States are required")
+      .withNoCause();
+  }
+
+  @Test
+  public void zipCodePrefixIndexIsConsistentWithZipCodeRegions() {
+
+    StateZipCodesRepository repository = StateZipCodesRepository.getInstance();
+
+    for (int prefix = 0; prefix < StateZipCodesRepository.ZIP_CODE_PREFIX_INDEX_SIZE; prefix++) {
+
+      PostalCode postalCode = PostalCode.of(String.format("%03d42", prefix));
+      State expectedState = repository.findByRegion(postalCode);
+
+      assertThat(repository.findAll(List.of(postalCode))).containsExactly(expectedState);
+    }
+  }
+
+  @Test
+  public void zipCodeRegionPrefixes() {
+
+    assertThat(StateZipCodesRepository.ZipCodeRegion.of("06").getPrefixStart()).isEqualTo(60);
+    assertThat(StateZipCodesRepository.ZipCodeRegion.of("06").getPrefixEnd()).isEqualTo(69);
+    assertThat(StateZipCodesRepository.ZipCodeRegion.of("35", "36").getPrefixStart()).isEqualTo(350);
+    assertThat(StateZipCodesRepository.ZipCodeRegion.of("35", "36").getPrefixEnd()).isEqualTo(369);
+    assertThat(StateZipCodesRepository.ZipCodeRegion.of("010", "027").getPrefixStart()).isEqualTo(10);
+    assertThat(StateZipCodesRepository.ZipCodeRegion.of("010", "027").getPrefixEnd()).isEqualTo(27);
+  }
+
   @Test
   public void newZipCodeRegionWithPrefix() {
 
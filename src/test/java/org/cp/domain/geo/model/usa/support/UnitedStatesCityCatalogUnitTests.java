@@ -0,0 +1,139 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.model.usa.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.cp.elements.lang.ThrowableAssertions.assertThatUnsupportedOperationException;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.domain.geo.enums.State;
+import org.cp.domain.geo.model.City;
+import org.cp.domain.geo.model.usa.UnitedStatesCity;
+import org.cp.domain.geo.model.usa.cities.PortlandMaine;
+import org.cp.domain.geo.model.usa.cities.PortlandOregon;
+import org.cp.domain.geo.model.usa.cities.WashingtonDC;
+
+/**
+ * Unit Tests for {@link UnitedStatesCityCatalog}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.geo.model.usa.support.UnitedStatesCityCatalog
+ * @since 0.4.0
+ */
+class UnitedStatesCityCatalogUnitTests {
+
+  @Test
+  void getInstanceIsSingleton() {
+    assertThat(UnitedStatesCityCatalog.getInstance()).isSameAs(UnitedStatesCityCatalog.getInstance());
+  }
+
+  @Test
+  void internReturnsSeededCity() {
+
+    UnitedStatesCityCatalog catalog = UnitedStatesCityCatalog.getInstance();
+
+    assertThat(catalog.intern("Portland", State.OREGON)).isSameAs(PortlandOregon.INSTANCE);
+    assertThat(catalog.intern("Portland", State.MAINE)).isSameAs(PortlandMaine.INSTANCE);
+    assertThat(catalog.intern(City.of("Portland"), State.OREGON)).isSameAs(PortlandOregon.INSTANCE);
+    assertThat(catalog.intern(PortlandOregon.INSTANCE, State.OREGON)).isSameAs(PortlandOregon.INSTANCE);
+    assertThat(catalog.intern(WashingtonDC.INSTANCE, WashingtonDC.INSTANCE.getState()))
+      .isSameAs(WashingtonDC.INSTANCE);
+  }
+
+  @Test
+  void internReturnsCanonicalCity() {
+
+    UnitedStatesCityCatalog catalog = UnitedStatesCityCatalog.getInstance();
+
+    UnitedStatesCity city = catalog.intern("Beaverton", State.OREGON);
+
+    assertThat(city).isInstanceOf(UnitedStatesCityCatalog.CanonicalUnitedStatesCity.class);
+    assertThat(city.getName()).isEqualTo("Beaverton");
+    assertThat(city.getState()).isEqualTo(State.OREGON);
+    assertThat(catalog.intern("Beaverton", State.OREGON)).isSameAs(city);
+    assertThat(catalog.intern(UnitedStatesCity.newUnitedStatesCity("Beaverton"), State.OREGON)).isSameAs(city);
+    assertThat(catalog.find("Beaverton", State.OREGON)).isSameAs(city);
+    assertThat(catalog.isSeeded(city)).isFalse();
+  }
+
+  @Test
+  void internWithDifferentStateReturnsDifferentCity() {
+
+    UnitedStatesCityCatalog catalog = UnitedStatesCityCatalog.getInstance();
+
+    UnitedStatesCity springfieldMissouri = catalog.intern("Springfield", State.MISSOURI);
+
+    assertThat(springfieldMissouri.getState()).isEqualTo(State.MISSOURI);
+    assertThat(catalog.intern("Springfield", State.ILLINOIS)).isNotSameAs(springfieldMissouri);
+    assertThat(catalog.intern(springfieldMissouri, State.OHIO).getState()).isEqualTo(State.OHIO);
+  }
+
+  @Test
+  void internedCityIsImmutable() {
+
+    UnitedStatesCity city = UnitedStatesCityCatalog.getInstance().intern("Gresham", State.OREGON);
+
+    assertThatUnsupportedOperationException()
+      .isThrownBy(args -> city.in(State.WASHINGTON))
+      .havingMessage("State cannot be changed")
+      .withNoCause();
+
+    assertThat(city.getState()).isEqualTo(State.OREGON);
+  }
+
+  @Test
+  void findReturnsNullWhenNotInterned() {
+
+    UnitedStatesCityCatalog catalog = UnitedStatesCityCatalog.getInstance();
+
+    assertThat(catalog.find("Nowhere", State.NEVADA)).isNull();
+    assertThat(catalog.find(null, State.NEVADA)).isNull();
+    assertThat(catalog.find("Las Vegas", null)).isNull();
+  }
+
+  @Test
+  void isSeeded() {
+
+    UnitedStatesCityCatalog catalog = UnitedStatesCityCatalog.getInstance();
+
+    assertThat(catalog.isSeeded(PortlandOregon.INSTANCE)).isTrue();
+    assertThat(catalog.isSeeded(UnitedStatesCity.newUnitedStatesCity("Portland").in(State.OREGON))).isFalse();
+    assertThat(catalog.isSeeded(null)).isFalse();
+  }
+
+  @Test
+  void internWithInvalidArguments() {
+
+    UnitedStatesCityCatalog catalog = UnitedStatesCityCatalog.getInstance();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> catalog.intern("  ", State.OREGON))
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> catalog.intern("Portland", null))
+      .withMessage("State is required")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> catalog.intern((City) null, State.OREGON))
+      .withMessage("City is required")
+      .withNoCause();
+  }
+}
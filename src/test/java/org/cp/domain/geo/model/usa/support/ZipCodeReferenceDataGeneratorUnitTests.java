@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.model.usa.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.domain.geo.enums.State;
+import org.cp.domain.geo.model.usa.support.ZipCodeReferenceRepository.ZipCodeReference;
+
+/**
+ * Unit Tests for {@link ZipCodeReferenceDataGenerator}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.geo.model.usa.support.ZipCodeReferenceDataGenerator
+ * @since 0.4.0
+ */
+class ZipCodeReferenceDataGeneratorUnitTests {
+
+  @Test
+  void generateWithoutHeader() throws IOException {
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    int count = ZipCodeReferenceDataGenerator.generate(new StringReader("97205,OR,Portland,41051,45.5,-122.6\n"), out);
+
+    assertThat(count).isEqualTo(1);
+    assertThat(out.size()).isEqualTo(ZipCodeReferenceRepository.HEADER_SIZE + ZipCodeReferenceRepository.RECORD_SIZE
+      + "Portland".length());
+  }
+
+  @Test
+  void generatePoolsCityNames() throws IOException {
+
+    String csv = """
+      97201,OR,Portland,41051,45.5,-122.6
+      97205,OR,Portland,41051,45.5,-122.6
+      04101,ME,Portland,23005,43.6,-70.2
+      """;
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    assertThat(ZipCodeReferenceDataGenerator.generate(new StringReader(csv), out)).isEqualTo(3);
+    assertThat(out.size()).isEqualTo(ZipCodeReferenceRepository.HEADER_SIZE
+      + 3 * ZipCodeReferenceRepository.RECORD_SIZE + "Portland".length());
+  }
+
+  @Test
+  void generateWithQuotedFields() throws IOException {
+
+    String csv = """
+      zip,state,city,county_fips,latitude,longitude
+      "75201","TX","Dallas, ""Big D""\",48113,32.7904,-96.8044
+      """;
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    ZipCodeReferenceDataGenerator.generate(new StringReader(csv), out);
+
+    ZipCodeReference zipCodeReference = ZipCodeReferenceRepository.from(ByteBuffer.wrap(out.toByteArray()))
+      .findBy(75201).orElseThrow();
+
+    assertThat(zipCodeReference.getState()).isEqualTo(State.TEXAS);
+    assertThat(zipCodeReference.getCityName()).isEqualTo("Dallas, \"Big D\"");
+  }
+
+  @Test
+  void generateWithDuplicateZipCode() {
+
+    String csv = """
+      97205,OR,Portland,41051,45.5,-122.6
+      97205,OR,Beaverton,41067,45.4,-122.8
+      """;
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> ZipCodeReferenceDataGenerator.generate(new StringReader(csv), new ByteArrayOutputStream()))
+      .withMessage("ZIP code [97205] is duplicated")
+      .withNoCause();
+  }
+
+  @Test
+  void generateWithInvalidState() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> ZipCodeReferenceDataGenerator.generate(
+        new StringReader("97205,XX,Portland,41051,45.5,-122.6"), new ByteArrayOutputStream()))
+      .withMessage("Line [1] is not valid: State [XX] is not valid");
+  }
+
+  @Test
+  void generateWithInvalidZipCode() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> ZipCodeReferenceDataGenerator.generate(
+        new StringReader("9720,OR,Portland,41051,45.5,-122.6"), new ByteArrayOutputStream()))
+      .withMessage("Line [1] is not valid: ZIP code [9720] must be a 5-digit number");
+  }
+
+  @Test
+  void generateWithMissingFields() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> ZipCodeReferenceDataGenerator.generate(
+        new StringReader("97205,OR,Portland"), new ByteArrayOutputStream()))
+      .withMessage("Line [1] must contain [6] fields; was [3]")
+      .withNoCause();
+  }
+}
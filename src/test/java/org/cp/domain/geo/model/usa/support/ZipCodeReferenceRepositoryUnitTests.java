@@ -0,0 +1,204 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.model.usa.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.cp.domain.geo.enums.State;
+import org.cp.domain.geo.model.Coordinates;
+import org.cp.domain.geo.model.usa.ZIP;
+import org.cp.domain.geo.model.usa.support.ZipCodeReferenceRepository.ZipCodeReference;
+
+/**
+ * Unit Tests for {@link ZipCodeReferenceRepository}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.geo.model.usa.support.ZipCodeReferenceRepository
+ * @since 0.4.0
+ */
+class ZipCodeReferenceRepositoryUnitTests {
+
+  private static final String CSV = """
+    zip,state,city,county_fips,latitude,longitude
+    97205,OR,Portland,41051,45.518868,-122.688907
+    00501,NY,Holtsville,36103,40.8154,-73.0451
+    97201,OR,Portland,41051,45.507856,-122.690794
+    99950,AK,Ketchikan,02130,55.542007,-131.432682
+    """;
+
+  static byte[] generate(String csv) throws IOException {
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    ZipCodeReferenceDataGenerator.generate(new StringReader(csv), out);
+
+    return out.toByteArray();
+  }
+
+  private ZipCodeReferenceRepository newRepository() throws IOException {
+    return ZipCodeReferenceRepository.from(ByteBuffer.wrap(generate(CSV)));
+  }
+
+  @Test
+  void getInstanceIsSingleton() {
+    assertThat(ZipCodeReferenceRepository.getInstance()).isSameAs(ZipCodeReferenceRepository.getInstance());
+  }
+
+  @Test
+  void findByZipCode() throws IOException {
+
+    ZipCodeReferenceRepository repository = newRepository();
+
+    assertThat(repository.count()).isEqualTo(4);
+
+    ZipCodeReference zipCodeReference = repository.findBy(97205).orElse(null);
+
+    assertThat(zipCodeReference).isNotNull();
+    assertThat(zipCodeReference.getZipCode()).isEqualTo(97205);
+    assertThat(zipCodeReference.getZip()).isEqualTo(ZIP.of("97205"));
+    assertThat(zipCodeReference.getState()).isEqualTo(State.OREGON);
+    assertThat(zipCodeReference.getCityName()).isEqualTo("Portland");
+    assertThat(zipCodeReference.getCity().getName()).isEqualTo("Portland");
+    assertThat(zipCodeReference.getCity().getState()).isEqualTo(State.OREGON);
+    assertThat(zipCodeReference.getCountyFips()).isEqualTo("41051");
+    assertThat(zipCodeReference.getCoordinates()).isEqualTo(Coordinates.at(45.518868d, -122.688907d));
+  }
+
+  @Test
+  void findByFirstAndLastZipCode() throws IOException {
+
+    ZipCodeReferenceRepository repository = newRepository();
+
+    assertThat(repository.findBy(501).map(ZipCodeReference::getCityName)).contains("Holtsville");
+    assertThat(repository.findBy(501).map(ZipCodeReference::getZip)).contains(ZIP.of("00501"));
+    assertThat(repository.findBy(99950).map(ZipCodeReference::getCountyFips)).contains("02130");
+  }
+
+  @Test
+  void findByMissingZipCode() throws IOException {
+
+    ZipCodeReferenceRepository repository = newRepository();
+
+    Arrays.asList(-1, 0, 500, 97202, 99999, 100000).forEach(zipCode -> {
+      assertThat(repository.contains(zipCode)).isFalse();
+      assertThat(repository.findBy(zipCode)).isNotPresent();
+      assertThat(repository.findStateBy(zipCode)).isNotPresent();
+    });
+  }
+
+  @Test
+  void findByPostalCode() throws IOException {
+
+    ZipCodeReferenceRepository repository = newRepository();
+
+    assertThat(repository.findBy(ZIP.of("97201")).map(ZipCodeReference::getZipCode)).contains(97201);
+    assertThat(repository.findBy(ZIP.of("97201-1234")).map(ZipCodeReference::getZipCode)).contains(97201);
+    assertThat(repository.findBy(ZIP.of("97202"))).isNotPresent();
+    assertThat(repository.findBy(null)).isNotPresent();
+  }
+
+  @Test
+  void findStateByZipCode() throws IOException {
+
+    ZipCodeReferenceRepository repository = newRepository();
+
+    assertThat(repository.contains(99950)).isTrue();
+    assertThat(repository.findStateBy(99950)).contains(State.ALASKA);
+    assertThat(repository.findStateBy(501)).contains(State.NEW_YORK);
+  }
+
+  @Test
+  void findAll() throws IOException {
+
+    assertThat(newRepository().findAll()).extracting(ZipCodeReference::getZipCode)
+      .containsExactly(501, 97201, 97205, 99950);
+  }
+
+  @Test
+  void findAllByState() throws IOException {
+
+    ZipCodeReferenceRepository repository = newRepository();
+
+    assertThat(repository.findAllBy(State.OREGON)).extracting(ZipCodeReference::getZipCode)
+      .containsExactly(97201, 97205);
+    assertThat(repository.findAllBy(State.TEXAS)).isEmpty();
+    assertThat(repository.findAllBy(null)).isEmpty();
+  }
+
+  @Test
+  void loadFromInputStream() throws IOException {
+
+    ZipCodeReferenceRepository repository =
+      ZipCodeReferenceRepository.load(new ByteArrayInputStream(generate(CSV)));
+
+    assertThat(repository.count()).isEqualTo(4);
+    assertThat(repository.findStateBy(97205)).contains(State.OREGON);
+  }
+
+  @Test
+  void openMemoryMappedFile(@TempDir Path directory) throws IOException {
+
+    Path dataFile = Files.write(directory.resolve(ZipCodeReferenceRepository.DATA_RESOURCE_NAME), generate(CSV));
+
+    ZipCodeReferenceRepository repository = ZipCodeReferenceRepository.open(dataFile);
+
+    assertThat(repository.count()).isEqualTo(4);
+    assertThat(repository.findBy(97201)).isEqualTo(newRepository().findBy(97201));
+  }
+
+  @Test
+  void fromInvalidByteBuffer() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> ZipCodeReferenceRepository.from(ByteBuffer.wrap(new byte[] { 1, 2, 3, 4 })))
+      .withMessage("ByteBuffer does not contain ZIP code reference data")
+      .withNoCause();
+  }
+
+  @Test
+  void fromTruncatedByteBuffer() throws IOException {
+
+    byte[] data = generate(CSV);
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> ZipCodeReferenceRepository.from(ByteBuffer.wrap(data, 0, data.length - 1)))
+      .withMessageStartingWith("ZIP code reference data is truncated")
+      .withNoCause();
+  }
+
+  @Test
+  void fromNullByteBuffer() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> ZipCodeReferenceRepository.from(null))
+      .withMessage("ByteBuffer containing the ZIP code reference data is required")
+      .withNoCause();
+  }
+}
@@ -0,0 +1,386 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.service.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.domain.geo.model.Address;
+import org.cp.domain.geo.model.Coordinates;
+import org.cp.domain.geo.model.Distance;
+import org.cp.domain.geo.model.Elevation;
+import org.cp.domain.geo.model.usa.UnitedStatesAddress;
+import org.cp.domain.geo.service.spi.GeocodingService;
+
+/**
+ * Unit Tests for {@link CachingGeocodingService}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.geo.service.provider.CachingGeocodingService
+ * @since 0.4.0
+ */
+public class CachingGeocodingServiceUnitTests {
+
+  private static final Coordinates PORTLAND = Coordinates.at(45.5152d, -122.6784d);
+  private static final Coordinates SEATTLE = Coordinates.at(47.6062d, -122.3321d);
+
+  @Test
+  void constructWithIllegalArgumentsThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new CachingGeocodingService(null))
+      .withMessage("GeocodingService to decorate is required")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new CachingGeocodingService(new CountingGeocodingService(), 0, Duration.ofMinutes(1)))
+      .withMessage("Maximum size [0] must be greater than 0")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new CachingGeocodingService(new CountingGeocodingService(), 1, Duration.ZERO))
+      .withMessage("Time-to-live [PT0S] must be positive")
+      .withNoCause();
+  }
+
+  @Test
+  void geocodeCachesByCanonicalAddressAndReturnsCopies() {
+
+    CountingGeocodingService delegate = new CountingGeocodingService();
+    CachingGeocodingService geocodingService = new CachingGeocodingService(delegate);
+
+    Coordinates coordinates = geocodingService.geocode(UnitedStatesAddress.parse("100 Main St, Portland, OR 97205"));
+
+    coordinates.at(Elevation.at(100.0d));
+
+    Coordinates cachedCoordinates =
+      geocodingService.geocode(UnitedStatesAddress.parse("100 MAIN STREET, Portland, Oregon 97205"));
+
+    assertThat(cachedCoordinates).isEqualTo(coordinates);
+    assertThat(cachedCoordinates).isNotSameAs(coordinates);
+    assertThat(cachedCoordinates.getElevation()).isNotPresent();
+    assertThat(delegate.getCallCount()).isOne();
+    assertThat(geocodingService.getHitCount()).isOne();
+    assertThat(geocodingService.getMissCount()).isOne();
+  }
+
+  @Test
+  void reverseGeocodeCachesByQuantizedCoordinatesAndReturnsCopies() {
+
+    CountingGeocodingService delegate = new CountingGeocodingService();
+    CachingGeocodingService geocodingService = new CachingGeocodingService(delegate);
+
+    Address address = geocodingService.reverseGeocode(Coordinates.at(45.515201d, -122.678401d));
+    Address cachedAddress = geocodingService.reverseGeocode(Coordinates.at(45.515204d, -122.678396d));
+
+    assertThat(cachedAddress).isEqualTo(address);
+    assertThat(cachedAddress).isNotSameAs(address);
+    assertThat(delegate.getCallCount()).isOne();
+
+    geocodingService.reverseGeocode(Coordinates.at(45.51522d, -122.6784d));
+
+    assertThat(delegate.getCallCount()).isEqualTo(2);
+  }
+
+  @Test
+  void distanceAndElevationAreCached() {
+
+    CountingGeocodingService delegate = new CountingGeocodingService();
+    CachingGeocodingService geocodingService = new CachingGeocodingService(delegate);
+
+    assertThat(geocodingService.distanceBetween(PORTLAND, SEATTLE))
+      .isSameAs(geocodingService.distanceBetween(PORTLAND, SEATTLE));
+    assertThat(geocodingService.elevationAt(PORTLAND)).isEqualTo(geocodingService.elevationAt(PORTLAND))
+      .isNotSameAs(geocodingService.elevationAt(PORTLAND));
+    assertThat(delegate.getCallCount()).isEqualTo(2);
+    assertThat(geocodingService.getSize()).isEqualTo(2);
+  }
+
+  @Test
+  void nullResultsAreCached() {
+
+    CountingGeocodingService delegate = new CountingGeocodingService() {
+
+      @Override
+      public Address reverseGeocode(Coordinates coordinates) {
+        super.reverseGeocode(coordinates);
+        return null;
+      }
+    };
+
+    CachingGeocodingService geocodingService = new CachingGeocodingService(delegate);
+
+    assertThat(geocodingService.reverseGeocode(Coordinates.NULL_ISLAND)).isNull();
+    assertThat(geocodingService.reverseGeocode(Coordinates.NULL_ISLAND)).isNull();
+    assertThat(delegate.getCallCount()).isOne();
+  }
+
+  @Test
+  void failuresAreNotCached() {
+
+    AtomicInteger attempts = new AtomicInteger();
+
+    CachingGeocodingService geocodingService = new CachingGeocodingService(new CountingGeocodingService() {
+
+      @Override
+      public Elevation elevationAt(Coordinates target) {
+
+        if (attempts.incrementAndGet() == 1) {
+          throw new IllegalStateException("TEST");
+        }
+
+        return super.elevationAt(target);
+      }
+    });
+
+    assertThatIllegalStateException()
+      .isThrownBy(() -> geocodingService.elevationAt(PORTLAND))
+      .withMessage("TEST");
+
+    assertThat(geocodingService.elevationAt(PORTLAND)).isNotNull();
+    assertThat(attempts).hasValue(2);
+  }
+
+  @Test
+  void leastRecentlyUsedEntriesAreEvicted() {
+
+    CountingGeocodingService delegate = new CountingGeocodingService();
+    CachingGeocodingService geocodingService = new CachingGeocodingService(delegate, 1, Duration.ofMinutes(1));
+
+    geocodingService.elevationAt(PORTLAND);
+    geocodingService.elevationAt(SEATTLE);
+    geocodingService.elevationAt(PORTLAND);
+
+    assertThat(delegate.getCallCount()).isEqualTo(3);
+    assertThat(geocodingService.getEvictionCount()).isEqualTo(2);
+    assertThat(geocodingService.getSize()).isOne();
+  }
+
+  @Test
+  void expiredEntriesAreEvicted() {
+
+    AtomicLong clock = new AtomicLong();
+    CountingGeocodingService delegate = new CountingGeocodingService();
+    CachingGeocodingService geocodingService =
+      new CachingGeocodingService(delegate, 16, Duration.ofNanos(100L), clock::get);
+
+    geocodingService.elevationAt(PORTLAND);
+    clock.set(99L);
+    geocodingService.elevationAt(PORTLAND);
+
+    assertThat(delegate.getCallCount()).isOne();
+
+    clock.set(100L);
+    geocodingService.elevationAt(PORTLAND);
+
+    assertThat(delegate.getCallCount()).isEqualTo(2);
+    assertThat(geocodingService.getEvictionCount()).isOne();
+  }
+
+  @Test
+  void concurrentIdenticalRequestsAreCoalesced() throws Exception {
+
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    CountingGeocodingService delegate = new CountingGeocodingService() {
+
+      @Override
+      public Coordinates geocode(Address address) {
+
+        started.countDown();
+
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException ignore) {
+          Thread.currentThread().interrupt();
+        }
+
+        return super.geocode(address);
+      }
+    };
+
+    CachingGeocodingService geocodingService = new CachingGeocodingService(delegate);
+    Address address = UnitedStatesAddress.parse("100 Main St, Portland, OR 97205");
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    try {
+      List<Future<Coordinates>> results = new ArrayList<>();
+
+      results.add(executor.submit(() -> geocodingService.geocode(address)));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+      for (int count = 0; count < 7; count++) {
+        results.add(executor.submit(() -> geocodingService.geocode(address)));
+      }
+
+      Thread.sleep(50L);
+      release.countDown();
+
+      Coordinates coordinates = results.get(0).get(5, TimeUnit.SECONDS);
+
+      for (Future<Coordinates> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(coordinates);
+      }
+
+      assertThat(delegate.getCallCount()).isOne();
+      assertThat(geocodingService.getMissCount()).isOne();
+      assertThat(geocodingService.getHitCount()).isEqualTo(7);
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void coalescedRequestsFailWhenDelegateThrowsError() throws Exception {
+
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    CountingGeocodingService delegate = new CountingGeocodingService() {
+
+      @Override
+      public Coordinates geocode(Address address) {
+
+        started.countDown();
+
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException ignore) {
+          Thread.currentThread().interrupt();
+        }
+
+        throw new AssertionError("TEST");
+      }
+    };
+
+    CachingGeocodingService geocodingService = new CachingGeocodingService(delegate);
+    Address address = UnitedStatesAddress.parse("100 Main St, Portland, OR 97205");
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try {
+      List<Future<Coordinates>> results = new ArrayList<>();
+
+      results.add(executor.submit(() -> geocodingService.geocode(address)));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+      for (int count = 0; count < 3; count++) {
+        results.add(executor.submit(() -> geocodingService.geocode(address)));
+      }
+
+      Thread.sleep(50L);
+      release.countDown();
+
+      for (Future<Coordinates> result : results) {
+        assertThatExceptionOfType(ExecutionException.class)
+          .isThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+          .withCauseInstanceOf(AssertionError.class);
+      }
+
+      assertThat(geocodingService.getSize()).isZero();
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void nullArgumentsAreNotCached() {
+
+    CountingGeocodingService delegate = new CountingGeocodingService();
+    CachingGeocodingService geocodingService = new CachingGeocodingService(delegate);
+
+    geocodingService.geocode(null);
+    geocodingService.geocode(null);
+
+    assertThat(delegate.getCallCount()).isEqualTo(2);
+    assertThat(geocodingService.getSize()).isZero();
+  }
+
+  @Test
+  void enableDecoratesLoadedGeocodingServices() {
+
+    GeocodingService.Loader loader = GeocodingService.getLoader();
+
+    try {
+      CachingGeocodingService.enable();
+
+      GeocodingService geocodingService = GeocodingService.getLoader().getServiceInstance();
+
+      assertThat(geocodingService).isInstanceOf(CachingGeocodingService.class);
+      assertThat(((CachingGeocodingService) geocodingService).getDelegate()).isInstanceOf(TestGeocodingService.class);
+      assertThat(GeocodingService.getLoader().getServiceInstance()).isSameAs(geocodingService);
+      assertThat(CachingGeocodingService.enable()).isSameAs(GeocodingService.getLoader());
+      assertThat(CachingGeocodingService.disable()).isSameAs(loader);
+    }
+    finally {
+      GeocodingService.GEOCODING_SERVICE_LOADER_REFERENCE.set(loader);
+    }
+  }
+
+  static class CountingGeocodingService implements GeocodingService {
+
+    private final AtomicInteger callCount = new AtomicInteger();
+
+    int getCallCount() {
+      return this.callCount.get();
+    }
+
+    @Override
+    public Distance distanceBetween(Coordinates origin, Coordinates destination) {
+      this.callCount.incrementAndGet();
+      return Distance.inMeters(100.0d);
+    }
+
+    @Override
+    public Elevation elevationAt(Coordinates target) {
+      this.callCount.incrementAndGet();
+      return Elevation.atSeaLevel();
+    }
+
+    @Override
+    public Coordinates geocode(Address address) {
+      this.callCount.incrementAndGet();
+      return Coordinates.at(45.5152d, -122.6784d);
+    }
+
+    @Override
+    public Address reverseGeocode(Coordinates coordinates) {
+      this.callCount.incrementAndGet();
+      return UnitedStatesAddress.parse("100 Main St, Portland, OR 97205");
+    }
+  }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.service.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.within;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.cp.domain.geo.model.Coordinates;
+import org.cp.domain.geo.model.Elevation;
+import org.cp.domain.geo.model.usa.UnitedStatesAddress;
+import org.cp.elements.enums.LengthUnit;
+
+/**
+ * Unit Tests for {@link DigitalElevationModelGeocodingService}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.geo.service.provider.DigitalElevationModelGeocodingService
+ * @since 0.4.0
+ */
+public class DigitalElevationModelGeocodingServiceUnitTests {
+
+  private static final short VOID = Short.MIN_VALUE;
+
+  private static void writeTile(Path directory, int latitude, int longitude, short... samples) throws IOException {
+
+    ByteBuffer buffer = ByteBuffer.allocate(samples.length * 2);
+
+    for (short sample : samples) {
+      buffer.putShort(sample);
+    }
+
+    Files.write(directory.resolve(DigitalElevationModelGeocodingService.toTileName(latitude, longitude)),
+      buffer.array());
+  }
+
+  private static DigitalElevationModelGeocodingService newGeocodingService(Path directory) throws IOException {
+
+    writeTile(directory, 45, -123,
+      (short) 100, (short) 200, (short) 300,
+      (short) 400, (short) 500, (short) 600,
+      (short) 700, VOID, (short) 900);
+
+    return new DigitalElevationModelGeocodingService(directory);
+  }
+
+  @Test
+  void constructWithIllegalArgumentsThrowsIllegalArgumentException(@TempDir Path directory) {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new DigitalElevationModelGeocodingService(null))
+      .withMessage("Directory containing the elevation tiles is required")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new DigitalElevationModelGeocodingService(directory, 0))
+      .withMessage("Maximum tiles [0] must be greater than 0")
+      .withNoCause();
+  }
+
+  @Test
+  void toTileNameIsCorrect() {
+
+    assertThat(DigitalElevationModelGeocodingService.toTileName(45, -123)).isEqualTo("N45W123.hgt");
+    assertThat(DigitalElevationModelGeocodingService.toTileName(-34, 18)).isEqualTo("S34E018.hgt");
+    assertThat(DigitalElevationModelGeocodingService.toTileName(0, 0)).isEqualTo("N00E000.hgt");
+  }
+
+  @Test
+  void elevationAtSamplesIsExact(@TempDir Path directory) throws IOException {
+
+    DigitalElevationModelGeocodingService geocodingService = newGeocodingService(directory);
+
+    Elevation elevation = geocodingService.elevationAt(Coordinates.at(45.5d, -123.0d));
+
+    assertThat(elevation).isNotNull();
+    assertThat(elevation.getAltitude()).isEqualTo(400.0d);
+    assertThat(elevation.getLengthUnit()).isEqualTo(LengthUnit.METER);
+    assertThat(geocodingService.elevationAt(Coordinates.at(45.5d, -122.5d)).getAltitude()).isEqualTo(500.0d);
+    assertThat(geocodingService.elevationAt(Coordinates.at(45.0d, -123.0d)).getAltitude()).isEqualTo(700.0d);
+  }
+
+  @Test
+  void elevationAtIsInterpolatedBilinearly(@TempDir Path directory) throws IOException {
+
+    DigitalElevationModelGeocodingService geocodingService = newGeocodingService(directory);
+
+    assertThat(geocodingService.elevationAt(Coordinates.at(45.75d, -122.75d)).getAltitude())
+      .isCloseTo(300.0d, within(1.0e-9d));
+    assertThat(geocodingService.elevationAt(Coordinates.at(45.875d, -122.5d)).getAltitude())
+      .isCloseTo(275.0d, within(1.0e-9d));
+  }
+
+  @Test
+  void elevationAtIgnoresVoids(@TempDir Path directory) throws IOException {
+
+    DigitalElevationModelGeocodingService geocodingService = newGeocodingService(directory);
+
+    assertThat(geocodingService.elevationAt(Coordinates.at(45.25d, -122.25d)).getAltitude())
+      .isCloseTo(2000.0d / 3.0d, within(1.0e-9d));
+    assertThat(geocodingService.elevationAt(Coordinates.at(45.0d, -122.5d))).isNull();
+  }
+
+  @Test
+  void elevationAtWithoutTileReturnsNull(@TempDir Path directory) throws IOException {
+
+    DigitalElevationModelGeocodingService geocodingService = newGeocodingService(directory);
+
+    assertThat(geocodingService.elevationAt(Coordinates.NULL_ISLAND)).isNull();
+    assertThat(geocodingService.elevationAt(Coordinates.NULL_ISLAND)).isNull();
+    assertThat(geocodingService.getTileCount()).isOne();
+  }
+
+  @Test
+  void elevationAtNullCoordinatesThrowsIllegalArgumentException(@TempDir Path directory) {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new DigitalElevationModelGeocodingService(directory).elevationAt(null))
+      .withMessage("Coordinates are required")
+      .withNoCause();
+  }
+
+  @Test
+  void elevationAtWithInvalidTileThrowsIllegalStateException(@TempDir Path directory) throws IOException {
+
+    Files.write(directory.resolve("N00E000.hgt"), new byte[5]);
+
+    assertThatIllegalStateException()
+      .isThrownBy(() -> new DigitalElevationModelGeocodingService(directory).elevationAt(Coordinates.NULL_ISLAND))
+      .withMessage("Elevation tile [%s] has an invalid length [5]", directory.resolve("N00E000.hgt"))
+      .withNoCause();
+  }
+
+  @Test
+  void elevationsAtPrimitiveArrays(@TempDir Path directory) throws IOException {
+
+    DigitalElevationModelGeocodingService geocodingService = newGeocodingService(directory);
+
+    double[] elevations = geocodingService.elevationsAt(new double[] { 45.5d, 45.75d, 0.0d, 91.0d },
+      new double[] { -123.0d, -122.75d, 0.0d, 0.0d });
+
+    assertThat(elevations).hasSize(4);
+    assertThat(elevations[0]).isEqualTo(400.0d);
+    assertThat(elevations[1]).isCloseTo(300.0d, within(1.0e-9d));
+    assertThat(elevations[2]).isNaN();
+    assertThat(elevations[3]).isNaN();
+  }
+
+  @Test
+  void elevationsAtMismatchedArraysThrowsIllegalArgumentException(@TempDir Path directory) {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new DigitalElevationModelGeocodingService(directory)
+        .elevationsAt(new double[2], new double[1]))
+      .withMessage("Latitudes [2] and longitudes [1] must have the same length")
+      .withNoCause();
+  }
+
+  @Test
+  void leastRecentlyUsedTilesAreEvicted(@TempDir Path directory) throws IOException {
+
+    writeTile(directory, 45, -123, (short) 1, (short) 1, (short) 1, (short) 1);
+    writeTile(directory, 47, -123, (short) 2, (short) 2, (short) 2, (short) 2);
+
+    DigitalElevationModelGeocodingService geocodingService = new DigitalElevationModelGeocodingService(directory, 1);
+
+    assertThat(geocodingService.elevationAt(Coordinates.at(45.5d, -122.5d)).getAltitude()).isEqualTo(1.0d);
+    assertThat(geocodingService.elevationAt(Coordinates.at(47.5d, -122.5d)).getAltitude()).isEqualTo(2.0d);
+    assertThat(geocodingService.elevationAt(Coordinates.at(45.5d, -122.5d)).getAltitude()).isEqualTo(1.0d);
+    assertThat(geocodingService.getTileCount()).isOne();
+  }
+
+  @Test
+  void geocodingIsNotSupported(@TempDir Path directory) {
+
+    DigitalElevationModelGeocodingService geocodingService = new DigitalElevationModelGeocodingService(directory);
+
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+      .isThrownBy(() -> geocodingService.geocode(UnitedStatesAddress.parse("100 Main St, Portland, OR 97205")));
+
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+      .isThrownBy(() -> geocodingService.reverseGeocode(Coordinates.NULL_ISLAND));
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.service.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.domain.geo.model.Coordinates;
+import org.cp.domain.geo.model.GeodesicDistance;
+
+/**
+ * Unit Tests for {@link GeodesicGeocodingService}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.geo.service.provider.GeodesicGeocodingService
+ * @since 0.4.0
+ */
+public class GeodesicGeocodingServiceUnitTests {
+
+  private static final Coordinates PORTLAND = Coordinates.at(45.5152d, -122.6784d);
+  private static final Coordinates SEATTLE = Coordinates.at(47.6062d, -122.3321d);
+
+  @Test
+  void constructDefaultGeodesicGeocodingService() {
+    assertThat(new GeodesicGeocodingService().getFormula()).isEqualTo(GeodesicDistance.getDefault());
+  }
+
+  @Test
+  void constructWithNullFormulaThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new GeodesicGeocodingService(null))
+      .withMessage("GeodesicDistance formula is required")
+      .withNoCause();
+  }
+
+  @Test
+  void distanceBetweenUsesFormula() {
+
+    assertThat(new GeodesicGeocodingService(GeodesicDistance.VINCENTY).distanceBetween(PORTLAND, SEATTLE))
+      .isEqualTo(PORTLAND.distanceTo(SEATTLE, GeodesicDistance.VINCENTY));
+  }
+
+  @Test
+  void geocodingOperationsAreUnsupported() {
+
+    GeodesicGeocodingService geocodingService = new GeodesicGeocodingService();
+
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+      .isThrownBy(() -> geocodingService.elevationAt(PORTLAND));
+
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+      .isThrownBy(() -> geocodingService.geocode(null))
+      .withMessage("Geocoding is not supported by [%s]", GeodesicGeocodingService.class.getName());
+
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+      .isThrownBy(() -> geocodingService.reverseGeocode(PORTLAND));
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.service.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.cp.domain.geo.model.Address;
+import org.cp.domain.geo.model.Coordinates;
+import org.cp.domain.geo.model.Distance;
+import org.cp.domain.geo.model.Elevation;
+import org.cp.domain.geo.model.usa.UnitedStatesAddress;
+import org.cp.domain.geo.model.usa.support.ZipCodeReferenceDataGenerator;
+import org.cp.domain.geo.model.usa.support.ZipCodeReferenceRepository;
+import org.cp.domain.geo.model.usa.support.ZipCodeReferenceRepository.ZipCodeReference;
+
+/**
+ * Unit Tests for {@link OfflineGeocodingService}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.geo.service.provider.OfflineGeocodingService
+ * @since 0.4.0
+ */
+public class OfflineGeocodingServiceUnitTests {
+
+  private static final String ADDRESSES = """
+    # latitude,longitude,address
+    45.5189,-122.6789,100 Main St, Portland, OR 97205
+
+    45.5100,-122.6900,200 Oak Ave, Portland, OR 97201
+    """;
+
+  private static final String ZIP_CODES = """
+    zip,state,city,county_fips,latitude,longitude
+    97205,OR,Portland,41051,45.518868,-122.688907
+    97201,OR,Portland,41051,45.507856,-122.690794
+    00501,NY,Holtsville,36103,40.8154,-73.0451
+    """;
+
+  private List<UnitedStatesAddress> addresses;
+
+  private OfflineGeocodingService geocodingService;
+
+  @BeforeEach
+  void setup() throws IOException {
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    ZipCodeReferenceDataGenerator.generate(new StringReader(ZIP_CODES), out);
+
+    this.addresses = OfflineGeocodingService.loadAddresses(new StringReader(ADDRESSES));
+    this.geocodingService = new OfflineGeocodingService(this.addresses,
+      ZipCodeReferenceRepository.from(ByteBuffer.wrap(out.toByteArray())));
+  }
+
+  @Test
+  void loadAddresses() {
+
+    assertThat(this.addresses).hasSize(2);
+    assertThat(this.addresses.get(0)).isEqualTo(UnitedStatesAddress.parse("100 Main St, Portland, OR 97205"));
+    assertThat(this.addresses.get(0).getCoordinates()).contains(Coordinates.at(45.5189d, -122.6789d));
+    assertThat(this.geocodingService.getReferenceAddressCount()).isEqualTo(2);
+  }
+
+  @Test
+  void loadAddressesFromFile(@TempDir Path directory) throws IOException {
+
+    Path dataFile = Files.writeString(directory.resolve("addresses.csv"), ADDRESSES);
+
+    assertThat(OfflineGeocodingService.loadAddresses(dataFile)).isEqualTo(this.addresses);
+  }
+
+  @Test
+  void loadInvalidAddressesThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> OfflineGeocodingService.loadAddresses(new StringReader("45.5,-122.6\n")))
+      .withMessage("Line [1] must contain latitude, longitude and address")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> OfflineGeocodingService.loadAddresses(
+        new StringReader("north,-122.6,100 Main St, Portland, OR 97205\n")))
+      .withMessage("Line [1] contains invalid coordinates")
+      .withCauseInstanceOf(NumberFormatException.class);
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> OfflineGeocodingService.loadAddresses(new StringReader("\n45.5,-122.6,nowhere\n")))
+      .withMessageStartingWith("Line [2] contains an invalid address")
+      .withNoCause();
+  }
+
+  @Test
+  void reverseGeocodeReturnsNearestAddress() {
+
+    Address address = this.geocodingService.reverseGeocode(Coordinates.at(45.5188d, -122.6788d));
+
+    assertThat(address).isEqualTo(this.addresses.get(0));
+    assertThat(address).isNotSameAs(this.addresses.get(0));
+    assertThat(address.getCoordinates()).contains(Coordinates.at(45.5189d, -122.6789d));
+  }
+
+  @Test
+  void reverseGeocodeBeyondMaximumDistanceReturnsNull() {
+
+    assertThat(this.geocodingService.getMaximumDistance()).isEqualTo(Distance.inMeters(1_000.0d));
+    assertThat(this.geocodingService.reverseGeocode(Coordinates.at(45.6d, -122.6d))).isNull();
+  }
+
+  @Test
+  void reverseGeocodeNullCoordinatesThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> this.geocodingService.reverseGeocode(null))
+      .withMessage("Coordinates to reverse geocode are required")
+      .withNoCause();
+  }
+
+  @Test
+  void geocodeMatchesStandardizedAddress() {
+
+    assertThat(this.geocodingService.geocode(UnitedStatesAddress.parse("100 Main Street, Portland, Oregon 97205")))
+      .isEqualTo(Coordinates.at(45.5189d, -122.6789d));
+  }
+
+  @Test
+  void geocodeFallsBackToZipCodeCentroid() {
+
+    assertThat(this.geocodingService.geocode(UnitedStatesAddress.parse("999 Elm St, Holtsville, NY 00501")))
+      .isEqualTo(Coordinates.at(40.8154d, -73.0451d));
+
+    assertThat(this.geocodingService.geocode(UnitedStatesAddress.parse("999 Elm St, Portland, OR 97209")))
+      .isNull();
+  }
+
+  @Test
+  void geocodeReturnsCopyOfReferenceCoordinates() {
+
+    Address address = UnitedStatesAddress.parse("100 Main Street, Portland, Oregon 97205");
+    Address zipCodeAddress = UnitedStatesAddress.parse("999 Elm St, Holtsville, NY 00501");
+
+    this.geocodingService.geocode(address).at(Elevation.at(100.0d));
+    this.geocodingService.geocode(zipCodeAddress).at(Elevation.at(100.0d));
+
+    assertThat(this.geocodingService.geocode(address).getElevation()).isNotPresent();
+    assertThat(this.geocodingService.geocode(zipCodeAddress).getElevation()).isNotPresent();
+  }
+
+  @Test
+  void findNearestZipCode() {
+
+    assertThat(this.geocodingService.findNearestZipCode(Coordinates.at(40.9d, -73.1d)))
+      .map(ZipCodeReference::getZipCode)
+      .contains(501);
+
+    assertThat(this.geocodingService.findNearestZipCode(null)).isNotPresent();
+  }
+
+  @Test
+  void elevationIsUnsupported() {
+
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+      .isThrownBy(() -> this.geocodingService.elevationAt(Coordinates.NULL_ISLAND))
+      .withMessage("Elevation is not supported by [%s]", OfflineGeocodingService.class.getName());
+  }
+}
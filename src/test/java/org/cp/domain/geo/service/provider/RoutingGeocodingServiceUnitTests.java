@@ -0,0 +1,443 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.service.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.domain.geo.model.Address;
+import org.cp.domain.geo.model.Coordinates;
+import org.cp.domain.geo.model.usa.UnitedStatesAddress;
+import org.cp.domain.geo.service.spi.GeocodingService;
+import org.cp.domain.geo.service.support.CircuitBreaker;
+
+/**
+ * Unit Tests for {@link RoutingGeocodingService}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.geo.service.provider.RoutingGeocodingService
+ * @see org.cp.domain.geo.service.provider.SimulatedGeocodingService
+ * @since 0.4.0
+ */
+public class RoutingGeocodingServiceUnitTests {
+
+  private static final UnitedStatesAddress ADDRESS = UnitedStatesAddress.parse("100 Main St, Portland, OR 97205");
+
+  @Test
+  void builderWithIllegalArgumentsThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> RoutingGeocodingService.builder(Collections.emptyList()))
+      .withMessage("At least one GeocodingService is required")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> RoutingGeocodingService.builder(Collections.singletonList(null)))
+      .withMessage("GeocodingService is required")
+      .withNoCause();
+
+    RoutingGeocodingService.Builder builder = RoutingGeocodingService.builder(List.of(new SimulatedGeocodingService()));
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> builder.withDefaultHedgeDelay(Duration.ZERO))
+      .withMessage("Hedge delay [PT0S] must be positive")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> builder.withFailureThreshold(0))
+      .withMessage("Failure threshold [0] must be greater than 0")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> builder.withOpenDuration(Duration.ofSeconds(-1)))
+      .withMessage("Open duration [PT-1S] must be positive")
+      .withNoCause();
+  }
+
+  @Test
+  void ranksFastestGeocodingServiceFirst() {
+
+    SimulatedGeocodingService slowGeocodingService =
+      new SimulatedGeocodingService().withLatency(Duration.ofSeconds(5));
+
+    SimulatedGeocodingService fastGeocodingService = new SimulatedGeocodingService();
+
+    RoutingGeocodingService geocodingService =
+      RoutingGeocodingService.builder(List.of(slowGeocodingService, fastGeocodingService))
+        .withDefaultHedgeDelay(Duration.ofMillis(50))
+        .build();
+
+    assertThat(geocodingService.getGeocodingServices()).containsExactly(slowGeocodingService, fastGeocodingService);
+    assertThat(geocodingService.geocode(ADDRESS)).isNotNull();
+
+    for (int count = 0; count < 10; count++) {
+      assertThat(geocodingService.geocode(ADDRESS)).isNotNull();
+    }
+
+    assertThat(geocodingService.getGeocodingServices()).containsExactly(fastGeocodingService, slowGeocodingService);
+    assertThat(slowGeocodingService.getCallCount()).isOne();
+    assertThat(fastGeocodingService.getCallCount()).isEqualTo(11);
+  }
+
+  @Test
+  void slowRequestIsHedged() {
+
+    SimulatedGeocodingService slowGeocodingService =
+      new SimulatedGeocodingService().withLatency(Duration.ofSeconds(5));
+
+    SimulatedGeocodingService fastGeocodingService =
+      new SimulatedGeocodingService().withLatency(Duration.ofMillis(10));
+
+    RoutingGeocodingService geocodingService =
+      RoutingGeocodingService.builder(List.of(slowGeocodingService, fastGeocodingService))
+        .withDefaultHedgeDelay(Duration.ofMillis(20))
+        .build();
+
+    long startTime = System.nanoTime();
+
+    assertThat(geocodingService.reverseGeocode(Coordinates.NULL_ISLAND)).isNotNull();
+    assertThat(Duration.ofNanos(System.nanoTime() - startTime)).isLessThan(Duration.ofSeconds(1));
+    assertThat(slowGeocodingService.getCallCount()).isOne();
+    assertThat(fastGeocodingService.getCallCount()).isOne();
+    assertThat(geocodingService.getCircuitBreaker(slowGeocodingService).getState())
+      .isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  void failedRequestFailsOver() {
+
+    SimulatedGeocodingService failingGeocodingService = new SimulatedGeocodingService().failingOn(input -> true);
+    SimulatedGeocodingService geocodingServiceStandIn = new SimulatedGeocodingService();
+
+    RoutingGeocodingService geocodingService =
+      RoutingGeocodingService.of(failingGeocodingService, geocodingServiceStandIn);
+
+    assertThat(geocodingService.elevationAt(Coordinates.NULL_ISLAND)).isNotNull();
+    assertThat(failingGeocodingService.getCallCount()).isOne();
+    assertThat(geocodingServiceStandIn.getCallCount()).isOne();
+  }
+
+  @Test
+  void failedRequestsThrowFirstFailure() {
+
+    RoutingGeocodingService geocodingService = RoutingGeocodingService.of(
+      new SimulatedGeocodingService().failingOn(input -> true),
+      new SimulatedGeocodingService().failingOn(input -> true));
+
+    assertThatIllegalStateException()
+      .isThrownBy(() -> geocodingService.geocode(ADDRESS))
+      .withMessage("Failed to geocode [%s]", ADDRESS)
+      .satisfies(cause -> assertThat(cause.getSuppressed()).hasSize(1));
+  }
+
+  @Test
+  void failingGeocodingServiceTripsCircuitBreaker() {
+
+    SimulatedGeocodingService failingGeocodingService = new SimulatedGeocodingService().failingOn(input -> true);
+
+    RoutingGeocodingService geocodingService = RoutingGeocodingService.builder(List.of(failingGeocodingService))
+      .withFailureThreshold(2)
+      .withOpenDuration(Duration.ofMinutes(1))
+      .build();
+
+    for (int count = 0; count < 2; count++) {
+      assertThatIllegalStateException()
+        .isThrownBy(() -> geocodingService.geocode(ADDRESS))
+        .withMessage("Failed to geocode [%s]", ADDRESS);
+    }
+
+    assertThat(geocodingService.getCircuitBreaker(failingGeocodingService).getState())
+      .isEqualTo(CircuitBreaker.State.OPEN);
+
+    assertThatIllegalStateException()
+      .isThrownBy(() -> geocodingService.geocode(ADDRESS))
+      .withMessage("No GeocodingService is available")
+      .withNoCause();
+
+    assertThat(failingGeocodingService.getCallCount()).isEqualTo(2);
+  }
+
+  @Test
+  void openCircuitIsSkipped() {
+
+    SimulatedGeocodingService failingGeocodingService = new SimulatedGeocodingService().failingOn(input -> true);
+    SimulatedGeocodingService geocodingServiceStandIn = new SimulatedGeocodingService();
+
+    RoutingGeocodingService geocodingService =
+      RoutingGeocodingService.builder(List.of(failingGeocodingService, geocodingServiceStandIn))
+        .withFailureThreshold(1)
+        .build();
+
+    assertThat(geocodingService.geocode(ADDRESS)).isNotNull();
+    assertThat(geocodingService.getCircuitBreaker(failingGeocodingService).getState())
+      .isEqualTo(CircuitBreaker.State.OPEN);
+
+    geocodingServiceStandIn.failingOn(input -> true);
+
+    assertThatIllegalStateException()
+      .isThrownBy(() -> geocodingService.geocode(ADDRESS))
+      .withMessage("Failed to geocode [%s]", ADDRESS)
+      .satisfies(cause -> assertThat(cause.getSuppressed()).isEmpty());
+
+    assertThat(failingGeocodingService.getCallCount()).isOne();
+    assertThat(geocodingServiceStandIn.getCallCount()).isEqualTo(2);
+  }
+
+  @Test
+  void nullAnswerFailsOver() {
+
+    SimulatedGeocodingService emptyGeocodingService = new SimulatedGeocodingService() {
+
+      @Override
+      public Coordinates geocode(Address address) {
+        super.geocode(address);
+        return null;
+      }
+    };
+
+    SimulatedGeocodingService geocodingServiceStandIn = new SimulatedGeocodingService();
+
+    RoutingGeocodingService geocodingService =
+      RoutingGeocodingService.builder(List.of(emptyGeocodingService, geocodingServiceStandIn))
+        .withFailureThreshold(1)
+        .build();
+
+    assertThat(geocodingService.geocode(ADDRESS)).isNotNull();
+    assertThat(geocodingService.geocode(ADDRESS)).isNotNull();
+    assertThat(geocodingService.getGeocodingServices()).containsExactly(geocodingServiceStandIn, emptyGeocodingService);
+    assertThat(geocodingService.getCircuitBreaker(emptyGeocodingService).getState())
+      .isEqualTo(CircuitBreaker.State.CLOSED);
+    assertThat(emptyGeocodingService.getCallCount()).isOne();
+    assertThat(geocodingServiceStandIn.getCallCount()).isEqualTo(2);
+  }
+
+  @Test
+  void nullAnswersReturnNull() {
+
+    SimulatedGeocodingService emptyGeocodingService = new SimulatedGeocodingService() {
+
+      @Override
+      public Coordinates geocode(Address address) {
+        super.geocode(address);
+        return null;
+      }
+    };
+
+    SimulatedGeocodingService failingGeocodingService = new SimulatedGeocodingService().failingOn(input -> true);
+
+    RoutingGeocodingService geocodingService =
+      RoutingGeocodingService.of(failingGeocodingService, emptyGeocodingService);
+
+    assertThat(geocodingService.geocode(ADDRESS)).isNull();
+    assertThat(failingGeocodingService.getCallCount()).isOne();
+    assertThat(emptyGeocodingService.getCallCount()).isOne();
+  }
+
+  @Test
+  void errorDuringHalfOpenTrialCallReopensCircuit() throws InterruptedException {
+
+    AtomicInteger callCount = new AtomicInteger();
+
+    SimulatedGeocodingService erroneousGeocodingService = new SimulatedGeocodingService() {
+
+      @Override
+      public Coordinates geocode(Address address) {
+        callCount.incrementAndGet();
+        throw new AssertionError("TEST");
+      }
+    };
+
+    RoutingGeocodingService geocodingService = RoutingGeocodingService.builder(List.of(erroneousGeocodingService))
+      .withFailureThreshold(1)
+      .withOpenDuration(Duration.ofMillis(50))
+      .build();
+
+    CircuitBreaker circuitBreaker = geocodingService.getCircuitBreaker(erroneousGeocodingService);
+
+    for (int count = 0; count < 3; count++) {
+
+      assertThatIllegalStateException()
+        .isThrownBy(() -> geocodingService.geocode(ADDRESS))
+        .withMessage("Failed to route request")
+        .withCauseInstanceOf(AssertionError.class);
+
+      assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+      Thread.sleep(100L);
+    }
+
+    assertThat(callCount.get()).isEqualTo(3);
+  }
+
+  @Test
+  void abandonedHalfOpenTrialCallKeepsCircuitHalfOpenUntilCallReturns() throws InterruptedException {
+
+    CountDownLatch latch = new CountDownLatch(1);
+
+    SimulatedGeocodingService blockedGeocodingService = new SimulatedGeocodingService() {
+
+      @Override
+      public Coordinates geocode(Address address) {
+
+        boolean interrupted = false;
+
+        while (latch.getCount() > 0) {
+          try {
+            latch.await();
+          }
+          catch (InterruptedException ignore) {
+            interrupted = true;
+          }
+        }
+
+        if (interrupted) {
+          Thread.currentThread().interrupt();
+        }
+
+        return super.geocode(address);
+      }
+    };
+
+    SimulatedGeocodingService testGeocodingService = new SimulatedGeocodingService();
+
+    RoutingGeocodingService geocodingService =
+      RoutingGeocodingService.builder(List.of(blockedGeocodingService, testGeocodingService))
+        .withDefaultHedgeDelay(Duration.ofMillis(20))
+        .withFailureThreshold(1)
+        .withOpenDuration(Duration.ofMillis(50))
+        .build();
+
+    CircuitBreaker circuitBreaker = geocodingService.getCircuitBreaker(blockedGeocodingService);
+
+    circuitBreaker.onFailure();
+
+    Thread.sleep(100L);
+
+    try {
+      assertThat(geocodingService.geocode(ADDRESS)).isNotNull();
+      assertThat(testGeocodingService.getCallCount()).isOne();
+      assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+      assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+    finally {
+      latch.countDown();
+    }
+
+    long timeout = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+
+    while (circuitBreaker.getState() != CircuitBreaker.State.CLOSED && System.nanoTime() < timeout) {
+      Thread.sleep(10L);
+    }
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    assertThat(blockedGeocodingService.getCallCount()).isOne();
+  }
+
+  @Test
+  void abandonedLatencyIsNotSampledForHedgeDelay() {
+
+    RoutingGeocodingService.Backend backend =
+      new RoutingGeocodingService.Backend(new SimulatedGeocodingService(), CircuitBreaker.newCircuitBreaker());
+
+    for (int count = 0; count < RoutingGeocodingService.MINIMUM_LATENCY_SAMPLES; count++) {
+      backend.recordSuccess(1_000L);
+    }
+
+    for (int count = 0; count < RoutingGeocodingService.LATENCY_SAMPLE_SIZE; count++) {
+      backend.recordLatency(10L);
+    }
+
+    assertThat(backend.getHedgeDelay(1L)).isEqualTo(1_000L);
+    assertThat(backend.getScore()).isLessThan(1_000.0d);
+  }
+
+  @Test
+  void requestsAreSentOnConfiguredExecutor() {
+
+    AtomicInteger executionCount = new AtomicInteger();
+
+    Executor executor = runnable -> {
+      executionCount.incrementAndGet();
+      new Thread(runnable).start();
+    };
+
+    SimulatedGeocodingService testGeocodingService = new SimulatedGeocodingService();
+
+    RoutingGeocodingService geocodingService = RoutingGeocodingService.builder(List.of(testGeocodingService))
+      .withExecutor(executor)
+      .build();
+
+    assertThat(geocodingService.getExecutor()).isSameAs(executor);
+    assertThat(geocodingService.geocode(ADDRESS)).isNotNull();
+    assertThat(executionCount.get()).isOne();
+    assertThat(RoutingGeocodingService.builder(List.of(testGeocodingService)).build().getExecutor())
+      .isSameAs(RoutingGeocodingService.getDefaultExecutor());
+  }
+
+  @Test
+  void rejectedRequestFailsOver() {
+
+    SimulatedGeocodingService testGeocodingService = new SimulatedGeocodingService();
+
+    RoutingGeocodingService geocodingService = RoutingGeocodingService.builder(List.of(testGeocodingService))
+      .withExecutor(runnable -> { throw new RejectedExecutionException("TEST"); })
+      .build();
+
+    assertThatExceptionOfType(RejectedExecutionException.class)
+      .isThrownBy(() -> geocodingService.geocode(ADDRESS))
+      .withMessage("TEST")
+      .withNoCause();
+
+    assertThat(testGeocodingService.getCallCount()).isZero();
+    assertThat(geocodingService.getCircuitBreaker(testGeocodingService).getState())
+      .isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  void getCircuitBreakerForUnroutedGeocodingServiceThrowsIllegalArgumentException() {
+
+    RoutingGeocodingService geocodingService = RoutingGeocodingService.of(new SimulatedGeocodingService());
+    SimulatedGeocodingService unroutedGeocodingService = new SimulatedGeocodingService();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> geocodingService.getCircuitBreaker(unroutedGeocodingService))
+      .withMessage("GeocodingService [%s] is not routed", unroutedGeocodingService)
+      .withNoCause();
+  }
+
+  @Test
+  void ofRegisteredProvidersRoutesServiceLoaderGeocodingServices() {
+
+    List<GeocodingService> geocodingServices = RoutingGeocodingService.ofRegisteredProviders().getGeocodingServices();
+
+    assertThat(geocodingServices).hasAtLeastOneElementOfType(TestGeocodingService.class);
+    assertThat(geocodingServices).hasAtLeastOneElementOfType(OfflineGeocodingService.class);
+    assertThat(geocodingServices).doesNotHaveAnyElementsOfTypes(RoutingGeocodingService.class);
+  }
+}
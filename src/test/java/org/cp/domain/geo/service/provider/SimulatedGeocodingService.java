@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.service.provider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.cp.domain.geo.enums.Country;
+import org.cp.domain.geo.model.Address;
+import org.cp.domain.geo.model.City;
+import org.cp.domain.geo.model.Coordinates;
+import org.cp.domain.geo.model.Distance;
+import org.cp.domain.geo.model.Elevation;
+import org.cp.domain.geo.model.PostalCode;
+import org.cp.domain.geo.model.Street;
+import org.cp.domain.geo.service.spi.GeocodingService;
+import org.cp.elements.lang.annotation.NotNull;
+
+/**
+ * Local stand-in {@link GeocodingService} with injectable latency and failures used to exercise
+ * batch, caching and routing {@link GeocodingService GeocodingServices} in tests.
+ * <p>
+ * Records the number of calls and the maximum number of concurrent calls.
+ *
+ * @author John Blum
+ * @see org.cp.domain.geo.service.spi.GeocodingService
+ * @since 0.4.0
+ */
+@SuppressWarnings("all")
+public class SimulatedGeocodingService implements GeocodingService {
+
+  private final AtomicInteger callCount = new AtomicInteger();
+  private final AtomicInteger concurrentCallCount = new AtomicInteger();
+  private final AtomicInteger maximumConcurrentCallCount = new AtomicInteger();
+
+  private volatile Duration latency = Duration.ZERO;
+
+  private volatile Predicate<Object> failure = input -> false;
+
+  public int getCallCount() {
+    return this.callCount.get();
+  }
+
+  public int getMaximumConcurrentCallCount() {
+    return this.maximumConcurrentCallCount.get();
+  }
+
+  public @NotNull SimulatedGeocodingService failingOn(@NotNull Predicate<Object> failure) {
+    this.failure = failure;
+    return this;
+  }
+
+  public @NotNull SimulatedGeocodingService withLatency(@NotNull Duration latency) {
+    this.latency = latency;
+    return this;
+  }
+
+  @Override
+  public Distance distanceBetween(Coordinates origin, Coordinates destination) {
+    return call(origin, it -> Distance.inMeters(100.0d));
+  }
+
+  @Override
+  public Elevation elevationAt(Coordinates target) {
+    return call(target, it -> Elevation.atSeaLevel());
+  }
+
+  @Override
+  public Coordinates geocode(Address address) {
+    return call(address, it -> Coordinates.at(45.5152d, -122.6784d));
+  }
+
+  @Override
+  public Address reverseGeocode(Coordinates coordinates) {
+    return call(coordinates, it -> Address.of(Street.of(100, "Main").asStreet(), City.of("Portland"),
+      PostalCode.of("97205"), Country.UNITED_STATES_OF_AMERICA));
+  }
+
+  private <I, O> O call(I input, Function<I, O> function) {
+
+    this.callCount.incrementAndGet();
+    this.maximumConcurrentCallCount.accumulateAndGet(this.concurrentCallCount.incrementAndGet(), Math::max);
+
+    try {
+      long latency = this.latency.toNanos();
+
+      if (latency > 0L) {
+        try {
+          TimeUnit.NANOSECONDS.sleep(latency);
+        }
+        catch (InterruptedException cause) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException("Interrupted", cause);
+        }
+      }
+
+      if (this.failure.test(input)) {
+        throw new IllegalStateException(String.format("Failed to geocode [%s]", input));
+      }
+
+      return function.apply(input);
+    }
+    finally {
+      this.concurrentCallCount.decrementAndGet();
+    }
+  }
+}
@@ -29,6 +29,7 @@ import org.cp.domain.geo.model.PostalCode;
 import org.cp.domain.geo.model.Street;
 import org.cp.domain.geo.model.usa.UnitedStatesAddress;
 import org.cp.domain.geo.service.provider.MockGeocodingService;
+import org.cp.domain.geo.service.provider.OfflineGeocodingService;
 import org.cp.domain.geo.service.provider.TestGeocodingService;
 
 /**
@@ -87,4 +88,13 @@ public class GeocodingServiceUnitTests {
     assertThat(geocodingService.geocode(mock(Address.class))).isInstanceOf(Coordinates.class);
     assertThat(geocodingService.reverseGeocode(mock(Coordinates.class))).isInstanceOf(Address.class);
   }
+
+  @Test
+  void loadOfflineGeocodingService() {
+
+    GeocodingService geocodingService = GeocodingService.getLoader().getServiceInstance("offline");
+
+    assertThat(geocodingService).isInstanceOf(OfflineGeocodingService.class);
+    assertThat(((OfflineGeocodingService) geocodingService).getReferenceAddressCount()).isZero();
+  }
 }
@@ -0,0 +1,299 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.domain.geo.model.Address;
+import org.cp.domain.geo.model.Coordinates;
+import org.cp.domain.geo.model.usa.UnitedStatesAddress;
+import org.cp.domain.geo.service.provider.SimulatedGeocodingService;
+import org.cp.domain.geo.service.support.BatchGeocoder.Result;
+
+/**
+ * Unit Tests for {@link BatchGeocoder}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.geo.service.provider.SimulatedGeocodingService
+ * @see org.cp.domain.geo.service.support.BatchGeocoder
+ * @since 0.4.0
+ */
+public class BatchGeocoderUnitTests {
+
+  private static List<Coordinates> newCoordinates(int count) {
+
+    List<Coordinates> coordinates = new ArrayList<>(count);
+
+    for (int index = 0; index < count; index++) {
+      coordinates.add(Coordinates.at(index / 10.0d, -index / 10.0d));
+    }
+
+    return coordinates;
+  }
+
+  @Test
+  void ofGeocodingServiceUsesDefaults() {
+
+    SimulatedGeocodingService geocodingService = new SimulatedGeocodingService();
+    BatchGeocoder batchGeocoder = BatchGeocoder.of(geocodingService);
+
+    assertThat(batchGeocoder.getGeocodingService()).isSameAs(geocodingService);
+    assertThat(batchGeocoder.getMaximumConcurrency()).isEqualTo(BatchGeocoder.DEFAULT_MAXIMUM_CONCURRENCY);
+    assertThat(batchGeocoder.getRateLimiter()).isNotPresent();
+    assertThat(batchGeocoder.getTimeout()).contains(BatchGeocoder.DEFAULT_TIMEOUT);
+    assertThat(batchGeocoder.getExecutor()).isNotPresent();
+    assertThat(batchGeocoder.getThreadFactory()).isSameAs(BatchGeocoder.DEFAULT_THREAD_FACTORY);
+  }
+
+  @Test
+  void builderWithIllegalArgumentsThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> BatchGeocoder.builder(null))
+      .withMessage("GeocodingService is required")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> BatchGeocoder.builder(new SimulatedGeocodingService()).withMaximumConcurrency(0))
+      .withMessage("Maximum concurrency [0] must be greater than 0")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> BatchGeocoder.builder(new SimulatedGeocodingService()).withTimeout(Duration.ZERO))
+      .withMessage("Timeout [PT0S] must be positive")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> BatchGeocoder.builder(new SimulatedGeocodingService()).withThreadFactory(null))
+      .withMessage("ThreadFactory is required")
+      .withNoCause();
+  }
+
+  @Test
+  void reverseGeocodeAllReturnsResultsInOrder() throws Exception {
+
+    List<Coordinates> coordinates = newCoordinates(500);
+
+    List<Result<Coordinates, Address>> results = BatchGeocoder.of(new SimulatedGeocodingService())
+      .reverseGeocodeAll(coordinates)
+      .get(10, TimeUnit.SECONDS);
+
+    assertThat(results).hasSize(coordinates.size());
+    assertThat(results).allMatch(Result::isSuccessful);
+    assertThat(results).extracting(Result::getInput).containsExactlyElementsOf(coordinates);
+    assertThat(results.get(0).getOutput()).isPresent();
+  }
+
+  @Test
+  void geocodeAllReportsPartialFailures() throws Exception {
+
+    Address portland = UnitedStatesAddress.parse("100 Main St, Portland, OR 97205");
+    Address seattle = UnitedStatesAddress.parse("400 Broad St, Seattle, WA 98109");
+
+    SimulatedGeocodingService geocodingService = new SimulatedGeocodingService()
+      .failingOn(seattle::equals);
+
+    List<Result<Address, Coordinates>> results = geocodingService.geocodeAll(List.of(portland, seattle, portland))
+      .get(10, TimeUnit.SECONDS);
+
+    assertThat(results).hasSize(3);
+    assertThat(results.get(0).isSuccessful()).isTrue();
+    assertThat(results.get(1).isFailure()).isTrue();
+    assertThat(results.get(1).getOutput()).isNotPresent();
+    assertThat(results.get(1).getCause()).hasValueSatisfying(cause -> assertThat(cause)
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Failed to geocode [%s]", seattle));
+    assertThat(results.get(2).isSuccessful()).isTrue();
+  }
+
+  @Test
+  void concurrencyIsLimited() throws Exception {
+
+    SimulatedGeocodingService geocodingService = new SimulatedGeocodingService()
+      .withLatency(Duration.ofMillis(5));
+
+    List<Result<Coordinates, Address>> results = BatchGeocoder.builder(geocodingService)
+      .withMaximumConcurrency(4)
+      .build()
+      .reverseGeocodeAll(newCoordinates(100))
+      .get(10, TimeUnit.SECONDS);
+
+    assertThat(results).allMatch(Result::isSuccessful);
+    assertThat(geocodingService.getCallCount()).isEqualTo(100);
+    assertThat(geocodingService.getMaximumConcurrentCallCount()).isBetween(1, 4);
+  }
+
+  @Test
+  void callsRunOnConfiguredExecutor() throws Exception {
+
+    SimulatedGeocodingService geocodingService = new SimulatedGeocodingService()
+      .withLatency(Duration.ofMillis(2));
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    try {
+      List<Result<Coordinates, Address>> results = BatchGeocoder.builder(geocodingService)
+        .withExecutor(executor)
+        .build()
+        .reverseGeocodeAll(newCoordinates(50))
+        .get(10, TimeUnit.SECONDS);
+
+      assertThat(results).hasSize(50).allMatch(Result::isSuccessful);
+      assertThat(geocodingService.getMaximumConcurrentCallCount()).isBetween(1, 2);
+      assertThat(executor.isShutdown()).isFalse();
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void threadsAreCreatedWithConfiguredThreadFactory() throws Exception {
+
+    AtomicInteger threadCount = new AtomicInteger();
+
+    List<Result<Coordinates, Address>> results = BatchGeocoder.builder(new SimulatedGeocodingService())
+      .withMaximumConcurrency(2)
+      .withThreadFactory(runnable -> {
+        threadCount.incrementAndGet();
+        return new Thread(runnable);
+      })
+      .build()
+      .reverseGeocodeAll(newCoordinates(10))
+      .get(10, TimeUnit.SECONDS);
+
+    assertThat(results).hasSize(10).allMatch(Result::isSuccessful);
+    assertThat(threadCount.get()).isBetween(3, 4);
+  }
+
+  @Test
+  void callsAreRateLimited() throws Exception {
+
+    SimulatedGeocodingService geocodingService = new SimulatedGeocodingService();
+
+    long start = System.nanoTime();
+
+    BatchGeocoder.builder(geocodingService)
+      .withRateLimiter(RateLimiter.of(100.0d))
+      .build()
+      .elevationAtAll(newCoordinates(11))
+      .get(10, TimeUnit.SECONDS);
+
+    assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+  }
+
+  @Test
+  void callsThatTimeOutFail() throws Exception {
+
+    SimulatedGeocodingService geocodingService = new SimulatedGeocodingService()
+      .withLatency(Duration.ofSeconds(5));
+
+    List<Result<Coordinates, Address>> results = BatchGeocoder.builder(geocodingService)
+      .withTimeout(Duration.ofMillis(50))
+      .build()
+      .reverseGeocodeAll(newCoordinates(2))
+      .get(5, TimeUnit.SECONDS);
+
+    assertThat(results).hasSize(2).allMatch(Result::isFailure);
+    assertThat(results.get(0).getCause()).hasValueSatisfying(cause -> assertThat(cause)
+      .isInstanceOf(TimeoutException.class)
+      .hasMessage("Call timed out after [PT0.05S]"));
+  }
+
+  @Test
+  void callsThatTimeOutHoldTheirPermitUntilTheyFinish() throws Exception {
+
+    AtomicInteger concurrentCallCount = new AtomicInteger();
+    AtomicInteger maximumConcurrentCallCount = new AtomicInteger();
+
+    SimulatedGeocodingService geocodingService = new SimulatedGeocodingService() {
+
+      @Override
+      public Address reverseGeocode(Coordinates coordinates) {
+
+        maximumConcurrentCallCount.accumulateAndGet(concurrentCallCount.incrementAndGet(), Math::max);
+
+        try {
+          long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+
+          // Ignore the interrupt when the call times out
+          for (long remaining = deadline - System.nanoTime(); remaining > 0L;
+               remaining = deadline - System.nanoTime()) {
+
+            try {
+              TimeUnit.NANOSECONDS.sleep(remaining);
+            }
+            catch (InterruptedException ignore) {
+            }
+          }
+
+          return super.reverseGeocode(coordinates);
+        }
+        finally {
+          concurrentCallCount.decrementAndGet();
+        }
+      }
+    };
+
+    ExecutorService executor = Executors.newCachedThreadPool();
+
+    try {
+      List<Result<Coordinates, Address>> results = BatchGeocoder.builder(geocodingService)
+        .withExecutor(executor)
+        .withMaximumConcurrency(1)
+        .withTimeout(Duration.ofMillis(50))
+        .build()
+        .reverseGeocodeAll(newCoordinates(3))
+        .get(5, TimeUnit.SECONDS);
+
+      assertThat(results).hasSize(3).allMatch(Result::isFailure);
+      assertThat(maximumConcurrentCallCount.get()).isOne();
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void emptyBatchCompletesWithNoResults() throws Exception {
+
+    assertThat(BatchGeocoder.of(new SimulatedGeocodingService()).geocodeAll(Collections.emptyList())
+      .get(5, TimeUnit.SECONDS)).isEmpty();
+  }
+
+  @Test
+  void nullBatchThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> BatchGeocoder.of(new SimulatedGeocodingService()).geocodeAll(null))
+      .withMessage("Collection of inputs is required")
+      .withNoCause();
+  }
+}
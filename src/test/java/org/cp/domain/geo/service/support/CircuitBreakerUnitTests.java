@@ -0,0 +1,156 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests for {@link CircuitBreaker}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.geo.service.support.CircuitBreaker
+ * @since 0.4.0
+ */
+public class CircuitBreakerUnitTests {
+
+  @Test
+  void ofIllegalArgumentsThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> CircuitBreaker.of(0, Duration.ofSeconds(1)))
+      .withMessage("Failure threshold [0] must be greater than 0")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> CircuitBreaker.of(1, Duration.ZERO))
+      .withMessage("Open duration [PT0S] must be positive")
+      .withNoCause();
+  }
+
+  @Test
+  void newCircuitBreakerIsClosed() {
+
+    CircuitBreaker circuitBreaker = CircuitBreaker.newCircuitBreaker();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    assertThat(circuitBreaker.getFailureThreshold()).isEqualTo(CircuitBreaker.DEFAULT_FAILURE_THRESHOLD);
+    assertThat(circuitBreaker.getOpenDuration()).isEqualTo(CircuitBreaker.DEFAULT_OPEN_DURATION);
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+  }
+
+  @Test
+  void opensAfterConsecutiveFailures() {
+
+    CircuitBreaker circuitBreaker = new CircuitBreaker(3, Duration.ofNanos(100L), new AtomicLong()::get);
+
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+    circuitBreaker.onSuccess();
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+    circuitBreaker.onFailure();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    assertThat(circuitBreaker.tryAcquire()).isFalse();
+  }
+
+  @Test
+  void allowsSingleTrialCallAfterOpenDuration() {
+
+    AtomicLong clock = new AtomicLong();
+    CircuitBreaker circuitBreaker = new CircuitBreaker(1, Duration.ofNanos(100L), clock::get);
+
+    circuitBreaker.onFailure();
+    clock.set(99L);
+
+    assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+    clock.set(100L);
+
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+    circuitBreaker.onSuccess();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+  }
+
+  @Test
+  void failedTrialCallReopens() {
+
+    AtomicLong clock = new AtomicLong();
+    CircuitBreaker circuitBreaker = new CircuitBreaker(5, Duration.ofNanos(100L), clock::get);
+
+    for (int count = 0; count < 5; count++) {
+      circuitBreaker.onFailure();
+    }
+
+    clock.set(100L);
+
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+    circuitBreaker.onFailure();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+    clock.set(199L);
+
+    assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+    clock.set(200L);
+
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+  }
+
+  @Test
+  void releaseAllowsAnotherTrialCall() {
+
+    AtomicLong clock = new AtomicLong();
+    CircuitBreaker circuitBreaker = new CircuitBreaker(1, Duration.ofNanos(100L), clock::get);
+
+    circuitBreaker.onFailure();
+    clock.set(100L);
+
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+    circuitBreaker.release();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+  }
+
+  @Test
+  void releaseDoesNotChangeClosedCircuit() {
+
+    CircuitBreaker circuitBreaker = CircuitBreaker.newCircuitBreaker();
+
+    circuitBreaker.release();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+}
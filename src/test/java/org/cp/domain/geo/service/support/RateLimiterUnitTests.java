@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests for {@link RateLimiter}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.geo.service.support.RateLimiter
+ * @since 0.4.0
+ */
+public class RateLimiterUnitTests {
+
+  private static final long ONE_SECOND = 1_000_000_000L;
+
+  @Test
+  void ofPermitsPerSecond() {
+
+    RateLimiter rateLimiter = RateLimiter.of(10.0d);
+
+    assertThat(rateLimiter.getPermitsPerSecond()).isEqualTo(10.0d);
+    assertThat(rateLimiter.getBurst()).isOne();
+    assertThat(rateLimiter).hasToString("RateLimiter{ permitsPerSecond = 10.0, burst = 1 }");
+  }
+
+  @Test
+  void ofIllegalArgumentsThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> RateLimiter.of(0.0d))
+      .withMessage("Permits per second [0.0] must be greater than 0")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> RateLimiter.of(1.0d, 0))
+      .withMessage("Burst [0] must be greater than 0")
+      .withNoCause();
+  }
+
+  @Test
+  void reserveAllowsBurstThenSpacesPermits() {
+
+    AtomicLong clock = new AtomicLong();
+    RateLimiter rateLimiter = new RateLimiter(1.0d, 2, clock::get);
+
+    assertThat(rateLimiter.reserve()).isZero();
+    assertThat(rateLimiter.reserve()).isZero();
+    assertThat(rateLimiter.reserve()).isEqualTo(ONE_SECOND);
+    assertThat(rateLimiter.reserve()).isEqualTo(2 * ONE_SECOND);
+
+    clock.set(10 * ONE_SECOND);
+
+    assertThat(rateLimiter.reserve()).isZero();
+    assertThat(rateLimiter.reserve()).isZero();
+    assertThat(rateLimiter.reserve()).isEqualTo(ONE_SECOND);
+  }
+
+  @Test
+  void tryAcquireRefillsOverTime() {
+
+    AtomicLong clock = new AtomicLong();
+    RateLimiter rateLimiter = new RateLimiter(2.0d, 1, clock::get);
+
+    assertThat(rateLimiter.tryAcquire()).isTrue();
+    assertThat(rateLimiter.tryAcquire()).isFalse();
+
+    clock.set(ONE_SECOND / 2 - 1);
+
+    assertThat(rateLimiter.tryAcquire()).isFalse();
+
+    clock.set(ONE_SECOND / 2);
+
+    assertThat(rateLimiter.tryAcquire()).isTrue();
+    assertThat(rateLimiter.tryAcquire()).isFalse();
+  }
+
+  @Test
+  void acquireWaitsForPermit() throws InterruptedException {
+
+    RateLimiter rateLimiter = RateLimiter.of(50.0d);
+
+    long start = System.nanoTime();
+
+    for (int count = 0; count < 6; count++) {
+      rateLimiter.acquire();
+    }
+
+    assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(5 * ONE_SECOND / 50);
+  }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2017-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.domain.geo.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.domain.geo.model.Coordinates;
+import org.cp.domain.geo.model.Distance;
+import org.cp.domain.geo.model.Locatable;
+
+/**
+ * Unit Tests for {@link SpatialIndex}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.domain.geo.support.SpatialIndex
+ * @since 0.4.0
+ */
+public class SpatialIndexUnitTests {
+
+  private static final Store PORTLAND = new Store("Portland", Coordinates.at(45.5152d, -122.6784d));
+  private static final Store SEATTLE = new Store("Seattle", Coordinates.at(47.6062d, -122.3321d));
+  private static final Store SAN_FRANCISCO = new Store("San Francisco", Coordinates.at(37.7749d, -122.4194d));
+  private static final Store DENVER = new Store("Denver", Coordinates.at(39.7392d, -104.9903d));
+  private static final Store NEW_YORK = new Store("New York", Coordinates.at(40.7128d, -74.0060d));
+  private static final Store FIJI = new Store("Suva", Coordinates.at(-18.1248d, 178.4501d));
+  private static final Store SAMOA = new Store("Apia", Coordinates.at(-13.8506d, -171.7513d));
+
+  private static final List<Store> STORES =
+    List.of(PORTLAND, SEATTLE, SAN_FRANCISCO, DENVER, NEW_YORK, FIJI, SAMOA);
+
+  private static double haversineInMeters(Coordinates origin, Coordinates destination) {
+
+    double latitudeDelta = Math.toRadians(destination.getLatitude() - origin.getLatitude());
+    double longitudeDelta = Math.toRadians(destination.getLongitude() - origin.getLongitude());
+
+    double haversine = Math.pow(Math.sin(latitudeDelta / 2.0d), 2.0d)
+      + Math.cos(Math.toRadians(origin.getLatitude())) * Math.cos(Math.toRadians(destination.getLatitude()))
+      * Math.pow(Math.sin(longitudeDelta / 2.0d), 2.0d);
+
+    return 2.0d * SpatialIndex.EARTH_MEAN_RADIUS_IN_METERS * Math.asin(Math.sqrt(haversine));
+  }
+
+  @Test
+  void indexSkipsUnlocatedElements() {
+
+    List<Store> stores = new ArrayList<>(STORES);
+
+    stores.add(new Store("Nowhere", null));
+    stores.add(null);
+
+    SpatialIndex<Store> index = SpatialIndex.of(stores);
+
+    assertThat(index.isEmpty()).isFalse();
+    assertThat(index.size()).isEqualTo(STORES.size());
+  }
+
+  @Test
+  void emptyIndex() {
+
+    SpatialIndex<Store> index = SpatialIndex.of(Collections.emptyList());
+
+    assertThat(index.isEmpty()).isTrue();
+    assertThat(index.findNearest(PORTLAND.coordinates())).isNotPresent();
+    assertThat(index.findWithin(PORTLAND.coordinates(), Distance.inMiles(100.0d))).isEmpty();
+    assertThat(index.findWithin(-90.0d, -180.0d, 90.0d, 180.0d)).isEmpty();
+  }
+
+  @Test
+  void ofNullElementsThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> SpatialIndex.of(null))
+      .withMessage("Elements to index are required")
+      .withNoCause();
+  }
+
+  @Test
+  void ofIllegalNodeSizeThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> SpatialIndex.of(STORES, 1))
+      .withMessage("Node size [1] must be greater than 1")
+      .withNoCause();
+  }
+
+  @Test
+  void findNearest() {
+
+    SpatialIndex<Store> index = SpatialIndex.of(STORES, 2);
+
+    Optional<SpatialIndex.Match<Store>> match = index.findNearest(Coordinates.at(45.0d, -122.0d));
+
+    assertThat(match.map(SpatialIndex.Match::getElement)).contains(PORTLAND);
+    assertThat(match.map(SpatialIndex.Match::getDistance).map(Distance::isInMeters)).contains(true);
+  }
+
+  @Test
+  void findNearestAcrossTheAntimeridian() {
+
+    SpatialIndex<Store> index = SpatialIndex.of(STORES, 2);
+
+    List<SpatialIndex.Match<Store>> matches = index.findNearest(Coordinates.at(-16.0d, -179.5d), 2);
+
+    assertThat(matches).extracting(SpatialIndex.Match::getElement).containsExactly(FIJI, SAMOA);
+  }
+
+  @Test
+  void findNearestKOrderedByDistance() {
+
+    SpatialIndex<Store> index = SpatialIndex.of(STORES, 2);
+
+    List<SpatialIndex.Match<Store>> matches = index.findNearest(PORTLAND.coordinates(), 3);
+
+    assertThat(matches).extracting(SpatialIndex.Match::getElement)
+      .containsExactly(PORTLAND, SEATTLE, SAN_FRANCISCO);
+
+    assertThat(matches.get(0).getDistance().getMeasurement()).isZero();
+    assertThat(matches.get(1).getDistance().getMeasurement())
+      .isCloseTo(haversineInMeters(PORTLAND.coordinates(), SEATTLE.coordinates()), within(0.001d));
+  }
+
+  @Test
+  void findNearestWithMaximumDistance() {
+
+    SpatialIndex<Store> index = SpatialIndex.of(STORES, 2);
+
+    assertThat(index.findNearest(PORTLAND.coordinates(), 5, Distance.inKilometers(300.0d)))
+      .extracting(SpatialIndex.Match::getElement)
+      .containsExactly(PORTLAND, SEATTLE);
+  }
+
+  @Test
+  void findNearestWithIllegalCountThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> SpatialIndex.of(STORES).findNearest(PORTLAND.coordinates(), 0))
+      .withMessage("Count [0] must be greater than 0")
+      .withNoCause();
+  }
+
+  @Test
+  void findNearestWithNullOriginThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> SpatialIndex.of(STORES).findNearest(null))
+      .withMessage("Origin Coordinates are required")
+      .withNoCause();
+  }
+
+  @Test
+  void findWithinRadius() {
+
+    SpatialIndex<Store> index = SpatialIndex.of(STORES, 2);
+
+    assertThat(index.findWithin(SAN_FRANCISCO.coordinates(), Distance.inMiles(1_000.0d)))
+      .extracting(SpatialIndex.Match::getElement)
+      .containsExactly(SAN_FRANCISCO, PORTLAND, SEATTLE, DENVER);
+  }
+
+  @Test
+  void findWithinBoundingBox() {
+
+    SpatialIndex<Store> index = SpatialIndex.of(STORES, 2);
+
+    assertThat(index.findWithin(Coordinates.at(35.0d, -125.0d), Coordinates.at(50.0d, -100.0d)))
+      .containsExactlyInAnyOrder(PORTLAND, SEATTLE, SAN_FRANCISCO, DENVER);
+  }
+
+  @Test
+  void findWithinBoundingBoxAcrossTheAntimeridian() {
+
+    SpatialIndex<Store> index = SpatialIndex.of(STORES, 2);
+
+    assertThat(index.findWithin(-20.0d, 170.0d, -10.0d, -170.0d)).containsExactlyInAnyOrder(FIJI, SAMOA);
+    assertThat(index.findWithin(-20.0d, -170.0d, -10.0d, 170.0d)).isEmpty();
+  }
+
+  @Test
+  void findNearestMatchesBruteForce() {
+
+    Random random = new Random(1963L);
+
+    List<Store> stores = new ArrayList<>();
+
+    for (int count = 0; count < 5_000; count++) {
+      stores.add(new Store(String.valueOf(count),
+        Coordinates.at(random.nextDouble() * 180.0d - 90.0d, random.nextDouble() * 360.0d - 180.0d)));
+    }
+
+    SpatialIndex<Store> index = SpatialIndex.of(stores);
+
+    for (int query = 0; query < 100; query++) {
+
+      Coordinates origin =
+        Coordinates.at(random.nextDouble() * 180.0d - 90.0d, random.nextDouble() * 360.0d - 180.0d);
+
+      List<Store> expected = new ArrayList<>(stores);
+
+      expected.sort(Comparator.comparingDouble(store -> haversineInMeters(origin, store.coordinates())));
+
+      List<SpatialIndex.Match<Store>> matches = index.findNearest(origin, 10);
+
+      assertThat(matches).hasSize(10);
+
+      for (int rank = 0; rank < matches.size(); rank++) {
+        assertThat(matches.get(rank).getDistance().getMeasurement())
+          .isCloseTo(haversineInMeters(origin, expected.get(rank).coordinates()), within(0.001d));
+      }
+    }
+  }
+
+  record Store(String name, Coordinates coordinates) implements Locatable<Store> {
+
+    @Override
+    public Optional<Coordinates> getCoordinates() {
+      return Optional.ofNullable(coordinates());
+    }
+  }
+}